@@ -0,0 +1,70 @@
+package org.hl7.fhir.convertors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Maps the class of a source resource or datatype to the function that converts it.
+ *
+ * This replaces the long chains of 'if (src instanceof X) return X_YY.convertX((X) src)' in the
+ * ResourceXX_YY and TypeXX_YY classes. Entries are matched in the order they are added, just
+ * like the chains were, so a subclass must be added ahead of its superclass (e.g. UnsignedIntType
+ * before IntegerType). The entry that matches each concrete class is worked out the first time
+ * that class is seen, and after that a conversion costs a single ClassValue lookup, no matter
+ * how far down the table the type is.
+ *
+ * Tables are built once in a static initializer and are safe to share between threads.
+ *
+ * @param <A> the advisor type, passed to the few entries that need it
+ * @param <S> the base type of the source
+ * @param <T> the base type of the result
+ */
+public class ConvertorDispatchTable<A, S, T> {
+
+  private final List<Class<?>> types = new ArrayList<>();
+  private final List<BiFunction<A, S, T>> convertors = new ArrayList<>();
+
+  private final BiFunction<A, S, T> unsupported = (advisor, src) -> null;
+
+  private final ClassValue<BiFunction<A, S, T>> resolved = new ClassValue<BiFunction<A, S, T>>() {
+    @Override
+    protected BiFunction<A, S, T> computeValue(Class<?> type) {
+      for (int i = 0; i < types.size(); i++) {
+        if (types.get(i).isAssignableFrom(type)) {
+          return convertors.get(i);
+        }
+      }
+      return unsupported;
+    }
+  };
+
+  public <X extends S> ConvertorDispatchTable<A, S, T> add(Class<X> type, Function<? super X, ? extends T> convertor) {
+    types.add(type);
+    convertors.add((advisor, src) -> convertor.apply(type.cast(src)));
+    return this;
+  }
+
+  public <X extends S> ConvertorDispatchTable<A, S, T> addWithAdvisor(Class<X> type, BiFunction<? super A, ? super X, ? extends T> convertor) {
+    types.add(type);
+    convertors.add((advisor, src) -> convertor.apply(advisor, type.cast(src)));
+    return this;
+  }
+
+  /**
+   * @return the convertor for instances of the given class, or null if nothing in the table handles it
+   */
+  public BiFunction<A, S, T> get(Class<?> type) {
+    BiFunction<A, S, T> convertor = resolved.get(type);
+    return convertor == unsupported ? null : convertor;
+  }
+
+  public boolean handles(Class<?> type) {
+    return get(type) != null;
+  }
+
+  public int size() {
+    return types.size();
+  }
+}
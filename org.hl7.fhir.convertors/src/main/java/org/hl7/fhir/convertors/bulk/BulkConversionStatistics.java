@@ -0,0 +1,108 @@
+package org.hl7.fhir.convertors.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counters for a run of NdJsonVersionConvertor. Lines that could not be converted are
+ * left out of the output, and recorded here along with the reason (up to a limit,
+ * after which they are only counted).
+ */
+public class BulkConversionStatistics {
+
+  public static class ConversionFailure {
+    private final int line;
+    private final String message;
+
+    public ConversionFailure(int line, String message) {
+      this.line = line;
+      this.message = message;
+    }
+
+    /**
+     * @return the line in the source (1-based)
+     */
+    public int getLine() {
+      return line;
+    }
+
+    public String getMessage() {
+      return message;
+    }
+
+    @Override
+    public String toString() {
+      return "line " + line + ": " + message;
+    }
+  }
+
+  private final int maxFailuresRecorded;
+  private int linesRead;
+  private int blankLines;
+  private int converted;
+  private int failed;
+  private long elapsedMillis;
+  private final List<ConversionFailure> failures = new ArrayList<>();
+
+  public BulkConversionStatistics(int maxFailuresRecorded) {
+    this.maxFailuresRecorded = maxFailuresRecorded;
+  }
+
+  void seeLine() {
+    linesRead++;
+  }
+
+  void seeBlankLine() {
+    blankLines++;
+  }
+
+  void seeConverted() {
+    converted++;
+  }
+
+  void seeFailure(int line, String message) {
+    failed++;
+    if (failures.size() < maxFailuresRecorded) {
+      failures.add(new ConversionFailure(line, message));
+    }
+  }
+
+  void setElapsedMillis(long elapsedMillis) {
+    this.elapsedMillis = elapsedMillis;
+  }
+
+  public int getLinesRead() {
+    return linesRead;
+  }
+
+  public int getBlankLines() {
+    return blankLines;
+  }
+
+  public int getConverted() {
+    return converted;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  public List<ConversionFailure> getFailures() {
+    return failures;
+  }
+
+  /**
+   * @return resources converted per second, over the whole run (reading and writing included)
+   */
+  public double getThroughput() {
+    return elapsedMillis == 0 ? 0 : converted * 1000.0 / elapsedMillis;
+  }
+
+  public String summary() {
+    return "Converted " + converted + " of " + (linesRead - blankLines) + " resources (" + failed + " failed) in " + elapsedMillis + "ms (" + String.format("%.0f", getThroughput()) + "/sec)";
+  }
+}
@@ -0,0 +1,19 @@
+package org.hl7.fhir.convertors.bulk;
+
+import java.io.IOException;
+
+import org.hl7.fhir.exceptions.FHIRException;
+
+/**
+ * Converts one line of an NDJSON file - a single resource in JSON format - from one
+ * version of FHIR to another, and returns the converted resource as a single line of JSON.
+ *
+ * Implementations hold their own parsers and version convertor, and are not thread safe.
+ * NdJsonVersionConvertor creates one for each worker thread, and reuses it for every line
+ * that thread converts.
+ */
+public interface IResourceLineConvertor {
+
+  String convert(String json) throws FHIRException, IOException;
+
+}
@@ -0,0 +1,204 @@
+package org.hl7.fhir.convertors.bulk;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.hl7.fhir.exceptions.FHIRException;
+
+/**
+ * Converts an NDJSON file (e.g. a file from a Bulk Data export) from one version of FHIR to
+ * another, a line at a time, without loading the whole file.
+ *
+ * Lines are read in batches and handed to a pool of worker threads. Each worker thread gets
+ * its own IResourceLineConvertor from the supplier the first time it's used, and reuses it
+ * for every line after that, so the parsers and the convertor (and its advisor) are only made
+ * once per thread. The converted batches are written on the calling thread in the order they
+ * were read, so the output lines are in the same order as the input, and only a few batches
+ * per thread are held in memory at once.
+ *
+ * Lines that can't be converted are left out of the output and counted in the statistics,
+ * unless failFast is set, in which case the conversion stops at the first failure.
+ */
+public class NdJsonVersionConvertor {
+
+  private static final int DEFAULT_BATCH_SIZE = 100;
+  private static final int BATCHES_PER_THREAD = 4;
+
+  private static class Batch {
+    private final int firstLine;
+    private final List<String> lines;
+    private final String[] output;
+    private final String[] errors;
+
+    private Batch(int firstLine, List<String> lines) {
+      this.firstLine = firstLine;
+      this.lines = lines;
+      this.output = new String[lines.size()];
+      this.errors = new String[lines.size()];
+    }
+  }
+
+  private final Supplier<IResourceLineConvertor> factory;
+  private int threads = 1;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private boolean failFast;
+  private int maxFailuresRecorded = 100;
+
+  public NdJsonVersionConvertor(Supplier<IResourceLineConvertor> factory) {
+    this.factory = factory;
+  }
+
+  public static NdJsonVersionConvertor forVersions(String sourceVersion, String targetVersion) throws FHIRException {
+    return new NdJsonVersionConvertor(ResourceLineConvertors.forVersions(sourceVersion, targetVersion));
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public NdJsonVersionConvertor setThreads(int threads) {
+    this.threads = threads;
+    return this;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public NdJsonVersionConvertor setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public boolean isFailFast() {
+    return failFast;
+  }
+
+  public NdJsonVersionConvertor setFailFast(boolean failFast) {
+    this.failFast = failFast;
+    return this;
+  }
+
+  public int getMaxFailuresRecorded() {
+    return maxFailuresRecorded;
+  }
+
+  public NdJsonVersionConvertor setMaxFailuresRecorded(int maxFailuresRecorded) {
+    this.maxFailuresRecorded = maxFailuresRecorded;
+    return this;
+  }
+
+  /**
+   * Converts all the lines in source, and writes them to target. Neither stream is closed.
+   */
+  public BulkConversionStatistics convert(InputStream source, OutputStream target) throws IOException, FHIRException {
+    BulkConversionStatistics stats = new BulkConversionStatistics(maxFailuresRecorded);
+    long start = System.currentTimeMillis();
+    BufferedReader reader = new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8));
+    Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+    if (threads <= 1) {
+      IResourceLineConvertor convertor = factory.get();
+      Batch batch;
+      while ((batch = readBatch(reader, stats)) != null) {
+        convertBatch(convertor, batch);
+        writeBatch(batch, writer, stats);
+      }
+    } else {
+      convertInParallel(reader, writer, stats);
+    }
+    writer.flush();
+    stats.setElapsedMillis(System.currentTimeMillis() - start);
+    return stats;
+  }
+
+  private void convertInParallel(BufferedReader reader, Writer writer, BulkConversionStatistics stats) throws IOException {
+    ThreadLocal<IResourceLineConvertor> convertors = ThreadLocal.withInitial(factory);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      Deque<Future<Batch>> pending = new ArrayDeque<>();
+      Batch batch;
+      while ((batch = readBatch(reader, stats)) != null) {
+        Batch b = batch;
+        pending.add(executor.submit(() -> convertBatch(convertors.get(), b)));
+        while (pending.size() >= threads * BATCHES_PER_THREAD) {
+          writeBatch(waitFor(pending.removeFirst()), writer, stats);
+        }
+      }
+      while (!pending.isEmpty()) {
+        writeBatch(waitFor(pending.removeFirst()), writer, stats);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Batch waitFor(Future<Batch> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FHIRException("Bulk conversion interrupted", e);
+    } catch (ExecutionException e) {
+      throw new FHIRException(e.getCause());
+    }
+  }
+
+  private Batch readBatch(BufferedReader reader, BulkConversionStatistics stats) throws IOException {
+    int first = stats.getLinesRead() + 1;
+    List<String> lines = new ArrayList<>(batchSize);
+    String line;
+    while (lines.size() < batchSize && (line = reader.readLine()) != null) {
+      stats.seeLine();
+      lines.add(line);
+    }
+    return lines.isEmpty() ? null : new Batch(first, lines);
+  }
+
+  private Batch convertBatch(IResourceLineConvertor convertor, Batch batch) {
+    for (int i = 0; i < batch.lines.size(); i++) {
+      String line = batch.lines.get(i);
+      if (!line.isBlank()) {
+        try {
+          batch.output[i] = convertor.convert(line);
+        } catch (Exception e) {
+          batch.errors[i] = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+        }
+      }
+    }
+    return batch;
+  }
+
+  private void writeBatch(Batch batch, Writer writer, BulkConversionStatistics stats) throws IOException {
+    for (int i = 0; i < batch.lines.size(); i++) {
+      if (batch.output[i] != null) {
+        writer.write(batch.output[i]);
+        writer.write('\n');
+        stats.seeConverted();
+      } else if (batch.errors[i] != null) {
+        stats.seeFailure(batch.firstLine + i, batch.errors[i]);
+        if (failFast) {
+          writer.flush();
+          throw new FHIRException("Unable to convert line " + (batch.firstLine + i) + ": " + batch.errors[i]);
+        }
+      } else {
+        stats.seeBlankLine();
+      }
+    }
+  }
+}
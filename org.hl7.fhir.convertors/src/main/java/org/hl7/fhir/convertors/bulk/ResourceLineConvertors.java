@@ -0,0 +1,108 @@
+package org.hl7.fhir.convertors.bulk;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_10_30;
+import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_10_40;
+import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_10_50;
+import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_30_40;
+import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_30_50;
+import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_40_50;
+import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_43_50;
+import org.hl7.fhir.convertors.conv10_30.VersionConvertor_10_30;
+import org.hl7.fhir.convertors.conv10_40.VersionConvertor_10_40;
+import org.hl7.fhir.convertors.conv10_50.VersionConvertor_10_50;
+import org.hl7.fhir.convertors.conv30_40.VersionConvertor_30_40;
+import org.hl7.fhir.convertors.conv30_50.VersionConvertor_30_50;
+import org.hl7.fhir.convertors.conv40_50.VersionConvertor_40_50;
+import org.hl7.fhir.convertors.conv43_50.VersionConvertor_43_50;
+import org.hl7.fhir.exceptions.FHIRException;
+import org.hl7.fhir.utilities.VersionUtilities;
+
+/**
+ * Factories for the IResourceLineConvertors that NdJsonVersionConvertor uses. Each call to
+ * get() on the supplier makes a new convertor, with its own parsers, advisor and
+ * VersionConvertor_XX_YY, so each worker thread gets one to reuse for all its lines.
+ */
+public class ResourceLineConvertors {
+
+  private static final String NOT_CONVERTED = "The resource could not be converted (no conversion for this resource type)";
+
+  private interface LineParser<R> {
+    R parse(String json) throws FHIRException, IOException;
+  }
+
+  private interface ResourceConvertor<S, T> {
+    T convert(S resource) throws FHIRException;
+  }
+
+  private interface LineComposer<R> {
+    String compose(R resource) throws IOException;
+  }
+
+  /**
+   * @return a supplier of convertors from sourceVersion to targetVersion (e.g. "4.0" to "5.0")
+   * @throws FHIRException if there's no direct conversion between the two versions
+   */
+  public static Supplier<IResourceLineConvertor> forVersions(String sourceVersion, String targetVersion) throws FHIRException {
+    if (VersionUtilities.isR4Ver(sourceVersion) && VersionUtilities.isR5Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.r4.model.Resource, org.hl7.fhir.r5.model.Resource>convertor(
+        new org.hl7.fhir.r4.formats.JsonParser()::parse, new VersionConvertor_40_50(new BaseAdvisor_40_50())::convertResource, new org.hl7.fhir.r5.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR5Ver(sourceVersion) && VersionUtilities.isR4Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.r5.model.Resource, org.hl7.fhir.r4.model.Resource>convertor(
+        new org.hl7.fhir.r5.formats.JsonParser()::parse, new VersionConvertor_40_50(new BaseAdvisor_40_50())::convertResource, new org.hl7.fhir.r4.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR4BVer(sourceVersion) && VersionUtilities.isR5Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.r4b.model.Resource, org.hl7.fhir.r5.model.Resource>convertor(
+        new org.hl7.fhir.r4b.formats.JsonParser()::parse, new VersionConvertor_43_50(new BaseAdvisor_43_50())::convertResource, new org.hl7.fhir.r5.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR5Ver(sourceVersion) && VersionUtilities.isR4BVer(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.r5.model.Resource, org.hl7.fhir.r4b.model.Resource>convertor(
+        new org.hl7.fhir.r5.formats.JsonParser()::parse, new VersionConvertor_43_50(new BaseAdvisor_43_50())::convertResource, new org.hl7.fhir.r4b.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR3Ver(sourceVersion) && VersionUtilities.isR5Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.dstu3.model.Resource, org.hl7.fhir.r5.model.Resource>convertor(
+        new org.hl7.fhir.dstu3.formats.JsonParser()::parse, new VersionConvertor_30_50(new BaseAdvisor_30_50())::convertResource, new org.hl7.fhir.r5.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR5Ver(sourceVersion) && VersionUtilities.isR3Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu3.model.Resource>convertor(
+        new org.hl7.fhir.r5.formats.JsonParser()::parse, new VersionConvertor_30_50(new BaseAdvisor_30_50())::convertResource, new org.hl7.fhir.dstu3.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR3Ver(sourceVersion) && VersionUtilities.isR4Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.dstu3.model.Resource, org.hl7.fhir.r4.model.Resource>convertor(
+        new org.hl7.fhir.dstu3.formats.JsonParser()::parse, new VersionConvertor_30_40(new BaseAdvisor_30_40())::convertResource, new org.hl7.fhir.r4.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR4Ver(sourceVersion) && VersionUtilities.isR3Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.r4.model.Resource, org.hl7.fhir.dstu3.model.Resource>convertor(
+        new org.hl7.fhir.r4.formats.JsonParser()::parse, new VersionConvertor_30_40(new BaseAdvisor_30_40())::convertResource, new org.hl7.fhir.dstu3.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR2Ver(sourceVersion) && VersionUtilities.isR5Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.dstu2.model.Resource, org.hl7.fhir.r5.model.Resource>convertor(
+        new org.hl7.fhir.dstu2.formats.JsonParser()::parse, new VersionConvertor_10_50(new BaseAdvisor_10_50())::convertResource, new org.hl7.fhir.r5.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR5Ver(sourceVersion) && VersionUtilities.isR2Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu2.model.Resource>convertor(
+        new org.hl7.fhir.r5.formats.JsonParser()::parse, new VersionConvertor_10_50(new BaseAdvisor_10_50())::convertResource, new org.hl7.fhir.dstu2.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR2Ver(sourceVersion) && VersionUtilities.isR4Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.dstu2.model.Resource, org.hl7.fhir.r4.model.Resource>convertor(
+        new org.hl7.fhir.dstu2.formats.JsonParser()::parse, new VersionConvertor_10_40(new BaseAdvisor_10_40())::convertResource, new org.hl7.fhir.r4.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR4Ver(sourceVersion) && VersionUtilities.isR2Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.r4.model.Resource, org.hl7.fhir.dstu2.model.Resource>convertor(
+        new org.hl7.fhir.r4.formats.JsonParser()::parse, new VersionConvertor_10_40(new BaseAdvisor_10_40())::convertResource, new org.hl7.fhir.dstu2.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR2Ver(sourceVersion) && VersionUtilities.isR3Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.dstu2.model.Resource, org.hl7.fhir.dstu3.model.Resource>convertor(
+        new org.hl7.fhir.dstu2.formats.JsonParser()::parse, new VersionConvertor_10_30(new BaseAdvisor_10_30())::convertResource, new org.hl7.fhir.dstu3.formats.JsonParser()::composeString);
+    } else if (VersionUtilities.isR3Ver(sourceVersion) && VersionUtilities.isR2Ver(targetVersion)) {
+      return () -> ResourceLineConvertors.<org.hl7.fhir.dstu3.model.Resource, org.hl7.fhir.dstu2.model.Resource>convertor(
+        new org.hl7.fhir.dstu3.formats.JsonParser()::parse, new VersionConvertor_10_30(new BaseAdvisor_10_30())::convertResource, new org.hl7.fhir.dstu2.formats.JsonParser()::composeString);
+    } else {
+      throw new FHIRException("Bulk conversion from version " + sourceVersion + " to " + targetVersion + " is not supported");
+    }
+  }
+
+  /**
+   * the parser, version convertor and composer are made by the supplier, so each convertor has its own
+   */
+  private static <S, T> IResourceLineConvertor convertor(LineParser<S> parser, ResourceConvertor<S, T> convertor, LineComposer<T> composer) {
+    return json -> {
+      T res = convertor.convert(parser.parse(json));
+      if (res == null) {
+        throw new FHIRException(NOT_CONVERTED);
+      }
+      return composer.compose(res);
+    };
+  }
+}
@@ -1,7 +1,9 @@
 package org.hl7.fhir.convertors.conv10_30.datatypes10_30;
 
 import java.util.ArrayList;
+import java.util.function.BiFunction;
 
+import org.hl7.fhir.convertors.ConvertorDispatchTable;
 import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_10_30;
 import org.hl7.fhir.convertors.conv10_30.datatypes10_30.complextypes10_30.Address10_30;
 import org.hl7.fhir.convertors.conv10_30.datatypes10_30.complextypes10_30.Age10_30;
@@ -45,6 +47,98 @@ import org.hl7.fhir.exceptions.FHIRException;
 
 public class Type10_30 {
 
+  private static final ConvertorDispatchTable<BaseAdvisor_10_30, org.hl7.fhir.dstu2.model.Type, org.hl7.fhir.dstu3.model.Type> R2_TO_R3 =
+    new ConvertorDispatchTable<BaseAdvisor_10_30, org.hl7.fhir.dstu2.model.Type, org.hl7.fhir.dstu3.model.Type>()
+      .add(org.hl7.fhir.dstu2.model.Base64BinaryType.class, Base64Binary10_30::convertBase64Binary)
+      .add(org.hl7.fhir.dstu2.model.BooleanType.class, Boolean10_30::convertBoolean)
+      .add(org.hl7.fhir.dstu2.model.CodeType.class, Code10_30::convertCode)
+      .add(org.hl7.fhir.dstu2.model.DateType.class, Date10_30::convertDate)
+      .add(org.hl7.fhir.dstu2.model.DateTimeType.class, DateTime10_30::convertDateTime)
+      .add(org.hl7.fhir.dstu2.model.DecimalType.class, Decimal10_30::convertDecimal)
+      .add(org.hl7.fhir.dstu2.model.IdType.class, Id10_30::convertId)
+      .add(org.hl7.fhir.dstu2.model.InstantType.class, Instant10_30::convertInstant)
+      .add(org.hl7.fhir.dstu2.model.PositiveIntType.class, PositiveInt10_30::convertPositiveInt)
+      .add(org.hl7.fhir.dstu2.model.UnsignedIntType.class, UnsignedInt10_30::convertUnsignedInt)
+      .add(org.hl7.fhir.dstu2.model.IntegerType.class, Integer10_30::convertInteger)
+      .add(org.hl7.fhir.dstu2.model.MarkdownType.class, MarkDown10_30::convertMarkdown)
+      .add(org.hl7.fhir.dstu2.model.OidType.class, Oid10_30::convertOid)
+      .add(org.hl7.fhir.dstu2.model.StringType.class, String10_30::convertString)
+      .add(org.hl7.fhir.dstu2.model.TimeType.class, Time10_30::convertTime)
+      .add(org.hl7.fhir.dstu2.model.UuidType.class, Uuid10_30::convertUuid)
+      .add(org.hl7.fhir.dstu2.model.UriType.class, Uri10_30::convertUri)
+      .add(org.hl7.fhir.dstu2.model.Extension.class, Extension10_30::convertExtension)
+      .add(org.hl7.fhir.dstu2.model.Narrative.class, Narrative10_30::convertNarrative)
+      .add(org.hl7.fhir.dstu2.model.Annotation.class, Annotation10_30::convertAnnotation)
+      .add(org.hl7.fhir.dstu2.model.Attachment.class, Attachment10_30::convertAttachment)
+      .add(org.hl7.fhir.dstu2.model.CodeableConcept.class, CodeableConcept10_30::convertCodeableConcept)
+      .add(org.hl7.fhir.dstu2.model.Coding.class, Coding10_30::convertCoding)
+      .add(org.hl7.fhir.dstu2.model.Identifier.class, Identifier10_30::convertIdentifier)
+      .add(org.hl7.fhir.dstu2.model.Period.class, Period10_30::convertPeriod)
+      .add(org.hl7.fhir.dstu2.model.Age.class, Age10_30::convertAge)
+      .add(org.hl7.fhir.dstu2.model.Count.class, Count10_30::convertCount)
+      .add(org.hl7.fhir.dstu2.model.Distance.class, Distance10_30::convertDistance)
+      .add(org.hl7.fhir.dstu2.model.Duration.class, Duration10_30::convertDuration)
+      .add(org.hl7.fhir.dstu2.model.Money.class, Money10_30::convertMoney)
+      .add(org.hl7.fhir.dstu2.model.SimpleQuantity.class, SimpleQuantity10_30::convertSimpleQuantity)
+      .add(org.hl7.fhir.dstu2.model.Quantity.class, Quantity10_30::convertQuantity)
+      .add(org.hl7.fhir.dstu2.model.Range.class, Range10_30::convertRange)
+      .add(org.hl7.fhir.dstu2.model.Ratio.class, Ratio10_30::convertRatio)
+      .add(org.hl7.fhir.dstu2.model.Reference.class, Reference10_30::convertReference)
+      .add(org.hl7.fhir.dstu2.model.SampledData.class, SampledData10_30::convertSampledData)
+      .add(org.hl7.fhir.dstu2.model.Signature.class, Signature10_30::convertSignature)
+      .add(org.hl7.fhir.dstu2.model.Address.class, Address10_30::convertAddress)
+      .add(org.hl7.fhir.dstu2.model.ContactPoint.class, ContactPoint10_30::convertContactPoint)
+      .add(org.hl7.fhir.dstu2.model.ElementDefinition.class, src -> ElementDefinition10_30.convertElementDefinition(src, new ArrayList<String>()))
+      .add(org.hl7.fhir.dstu2.model.HumanName.class, HumanName10_30::convertHumanName)
+      .add(org.hl7.fhir.dstu2.model.Meta.class, Meta10_30::convertMeta)
+      .add(org.hl7.fhir.dstu2.model.Timing.class, Timing10_30::convertTiming);
+
+  private static final ConvertorDispatchTable<BaseAdvisor_10_30, org.hl7.fhir.dstu3.model.Type, org.hl7.fhir.dstu2.model.Type> R3_TO_R2 =
+    new ConvertorDispatchTable<BaseAdvisor_10_30, org.hl7.fhir.dstu3.model.Type, org.hl7.fhir.dstu2.model.Type>()
+      .add(org.hl7.fhir.dstu3.model.Base64BinaryType.class, Base64Binary10_30::convertBase64Binary)
+      .add(org.hl7.fhir.dstu3.model.BooleanType.class, Boolean10_30::convertBoolean)
+      .add(org.hl7.fhir.dstu3.model.CodeType.class, Code10_30::convertCode)
+      .add(org.hl7.fhir.dstu3.model.DateType.class, Date10_30::convertDate)
+      .add(org.hl7.fhir.dstu3.model.DateTimeType.class, DateTime10_30::convertDateTime)
+      .add(org.hl7.fhir.dstu3.model.DecimalType.class, Decimal10_30::convertDecimal)
+      .add(org.hl7.fhir.dstu3.model.IdType.class, Id10_30::convertId)
+      .add(org.hl7.fhir.dstu3.model.InstantType.class, Instant10_30::convertInstant)
+      .add(org.hl7.fhir.dstu3.model.PositiveIntType.class, PositiveInt10_30::convertPositiveInt)
+      .add(org.hl7.fhir.dstu3.model.UnsignedIntType.class, UnsignedInt10_30::convertUnsignedInt)
+      .add(org.hl7.fhir.dstu3.model.IntegerType.class, Integer10_30::convertInteger)
+      .add(org.hl7.fhir.dstu3.model.MarkdownType.class, MarkDown10_30::convertMarkdown)
+      .add(org.hl7.fhir.dstu3.model.OidType.class, Oid10_30::convertOid)
+      .add(org.hl7.fhir.dstu3.model.StringType.class, String10_30::convertString)
+      .add(org.hl7.fhir.dstu3.model.TimeType.class, Time10_30::convertTime)
+      .add(org.hl7.fhir.dstu3.model.UuidType.class, Uuid10_30::convertUuid)
+      .add(org.hl7.fhir.dstu3.model.UriType.class, Uri10_30::convertUri)
+      .add(org.hl7.fhir.dstu3.model.Extension.class, Extension10_30::convertExtension)
+      .add(org.hl7.fhir.dstu3.model.Narrative.class, Narrative10_30::convertNarrative)
+      .add(org.hl7.fhir.dstu3.model.Annotation.class, Annotation10_30::convertAnnotation)
+      .add(org.hl7.fhir.dstu3.model.Attachment.class, Attachment10_30::convertAttachment)
+      .add(org.hl7.fhir.dstu3.model.CodeableConcept.class, CodeableConcept10_30::convertCodeableConcept)
+      .add(org.hl7.fhir.dstu3.model.Coding.class, Coding10_30::convertCoding)
+      .add(org.hl7.fhir.dstu3.model.Identifier.class, Identifier10_30::convertIdentifier)
+      .add(org.hl7.fhir.dstu3.model.Period.class, Period10_30::convertPeriod)
+      .add(org.hl7.fhir.dstu3.model.Age.class, Age10_30::convertAge)
+      .add(org.hl7.fhir.dstu3.model.Count.class, Count10_30::convertCount)
+      .add(org.hl7.fhir.dstu3.model.Distance.class, Distance10_30::convertDistance)
+      .add(org.hl7.fhir.dstu3.model.Duration.class, Duration10_30::convertDuration)
+      .add(org.hl7.fhir.dstu3.model.Money.class, Money10_30::convertMoney)
+      .add(org.hl7.fhir.dstu3.model.SimpleQuantity.class, SimpleQuantity10_30::convertSimpleQuantity)
+      .add(org.hl7.fhir.dstu3.model.Quantity.class, Quantity10_30::convertQuantity)
+      .add(org.hl7.fhir.dstu3.model.Range.class, Range10_30::convertRange)
+      .add(org.hl7.fhir.dstu3.model.Ratio.class, Ratio10_30::convertRatio)
+      .add(org.hl7.fhir.dstu3.model.Reference.class, Reference10_30::convertReference)
+      .add(org.hl7.fhir.dstu3.model.SampledData.class, SampledData10_30::convertSampledData)
+      .add(org.hl7.fhir.dstu3.model.Signature.class, Signature10_30::convertSignature)
+      .add(org.hl7.fhir.dstu3.model.Address.class, Address10_30::convertAddress)
+      .add(org.hl7.fhir.dstu3.model.ContactPoint.class, ContactPoint10_30::convertContactPoint)
+      .add(org.hl7.fhir.dstu3.model.ElementDefinition.class, ElementDefinition10_30::convertElementDefinition)
+      .add(org.hl7.fhir.dstu3.model.HumanName.class, HumanName10_30::convertHumanName)
+      .add(org.hl7.fhir.dstu3.model.Meta.class, Meta10_30::convertMeta)
+      .add(org.hl7.fhir.dstu3.model.Timing.class, Timing10_30::convertTiming);
+
   private final BaseAdvisor_10_30 advisor;
 
   public Type10_30(BaseAdvisor_10_30 advisor) {
@@ -53,89 +147,8 @@ public class Type10_30 {
 
   public org.hl7.fhir.dstu3.model.Type convertType(org.hl7.fhir.dstu2.model.Type src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu2.model.Base64BinaryType)
-      return Base64Binary10_30.convertBase64Binary((org.hl7.fhir.dstu2.model.Base64BinaryType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.BooleanType)
-      return Boolean10_30.convertBoolean((org.hl7.fhir.dstu2.model.BooleanType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.CodeType)
-      return Code10_30.convertCode((org.hl7.fhir.dstu2.model.CodeType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.DateType)
-      return Date10_30.convertDate((org.hl7.fhir.dstu2.model.DateType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.DateTimeType)
-      return DateTime10_30.convertDateTime((org.hl7.fhir.dstu2.model.DateTimeType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.DecimalType)
-      return Decimal10_30.convertDecimal((org.hl7.fhir.dstu2.model.DecimalType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.IdType) return Id10_30.convertId((org.hl7.fhir.dstu2.model.IdType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.InstantType)
-      return Instant10_30.convertInstant((org.hl7.fhir.dstu2.model.InstantType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.PositiveIntType)
-      return PositiveInt10_30.convertPositiveInt((org.hl7.fhir.dstu2.model.PositiveIntType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.UnsignedIntType)
-      return UnsignedInt10_30.convertUnsignedInt((org.hl7.fhir.dstu2.model.UnsignedIntType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.IntegerType)
-      return Integer10_30.convertInteger((org.hl7.fhir.dstu2.model.IntegerType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.MarkdownType)
-      return MarkDown10_30.convertMarkdown((org.hl7.fhir.dstu2.model.MarkdownType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.OidType)
-      return Oid10_30.convertOid((org.hl7.fhir.dstu2.model.OidType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.StringType)
-      return String10_30.convertString((org.hl7.fhir.dstu2.model.StringType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.TimeType)
-      return Time10_30.convertTime((org.hl7.fhir.dstu2.model.TimeType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.UuidType)
-      return Uuid10_30.convertUuid((org.hl7.fhir.dstu2.model.UuidType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.UriType)
-      return Uri10_30.convertUri((org.hl7.fhir.dstu2.model.UriType) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Extension)
-      return Extension10_30.convertExtension((org.hl7.fhir.dstu2.model.Extension) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Narrative)
-      return Narrative10_30.convertNarrative((org.hl7.fhir.dstu2.model.Narrative) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Annotation)
-      return Annotation10_30.convertAnnotation((org.hl7.fhir.dstu2.model.Annotation) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Attachment)
-      return Attachment10_30.convertAttachment((org.hl7.fhir.dstu2.model.Attachment) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.CodeableConcept)
-      return CodeableConcept10_30.convertCodeableConcept((org.hl7.fhir.dstu2.model.CodeableConcept) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Coding)
-      return Coding10_30.convertCoding((org.hl7.fhir.dstu2.model.Coding) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Identifier)
-      return Identifier10_30.convertIdentifier((org.hl7.fhir.dstu2.model.Identifier) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Period)
-      return Period10_30.convertPeriod((org.hl7.fhir.dstu2.model.Period) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Age) return Age10_30.convertAge((org.hl7.fhir.dstu2.model.Age) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Count)
-      return Count10_30.convertCount((org.hl7.fhir.dstu2.model.Count) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Distance)
-      return Distance10_30.convertDistance((org.hl7.fhir.dstu2.model.Distance) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Duration)
-      return Duration10_30.convertDuration((org.hl7.fhir.dstu2.model.Duration) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Money)
-      return Money10_30.convertMoney((org.hl7.fhir.dstu2.model.Money) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.SimpleQuantity)
-      return SimpleQuantity10_30.convertSimpleQuantity((org.hl7.fhir.dstu2.model.SimpleQuantity) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Quantity)
-      return Quantity10_30.convertQuantity((org.hl7.fhir.dstu2.model.Quantity) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Range)
-      return Range10_30.convertRange((org.hl7.fhir.dstu2.model.Range) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Ratio)
-      return Ratio10_30.convertRatio((org.hl7.fhir.dstu2.model.Ratio) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Reference)
-      return Reference10_30.convertReference((org.hl7.fhir.dstu2.model.Reference) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.SampledData)
-      return SampledData10_30.convertSampledData((org.hl7.fhir.dstu2.model.SampledData) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Signature)
-      return Signature10_30.convertSignature((org.hl7.fhir.dstu2.model.Signature) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Address)
-      return Address10_30.convertAddress((org.hl7.fhir.dstu2.model.Address) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.ContactPoint)
-      return ContactPoint10_30.convertContactPoint((org.hl7.fhir.dstu2.model.ContactPoint) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.ElementDefinition)
-      return ElementDefinition10_30.convertElementDefinition((org.hl7.fhir.dstu2.model.ElementDefinition) src, new ArrayList<String>());
-    if (src instanceof org.hl7.fhir.dstu2.model.HumanName)
-      return HumanName10_30.convertHumanName((org.hl7.fhir.dstu2.model.HumanName) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Meta) return Meta10_30.convertMeta((org.hl7.fhir.dstu2.model.Meta) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Timing)
-      return Timing10_30.convertTiming((org.hl7.fhir.dstu2.model.Timing) src);
+    BiFunction<BaseAdvisor_10_30, org.hl7.fhir.dstu2.model.Type, org.hl7.fhir.dstu3.model.Type> convertor = R2_TO_R3.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The type " + src.fhirType()+" cannot be converted from R2 to R3");
     } else {
@@ -145,89 +158,8 @@ public class Type10_30 {
 
   public org.hl7.fhir.dstu2.model.Type convertType(org.hl7.fhir.dstu3.model.Type src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu3.model.Base64BinaryType)
-      return Base64Binary10_30.convertBase64Binary((org.hl7.fhir.dstu3.model.Base64BinaryType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.BooleanType)
-      return Boolean10_30.convertBoolean((org.hl7.fhir.dstu3.model.BooleanType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CodeType)
-      return Code10_30.convertCode((org.hl7.fhir.dstu3.model.CodeType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DateType)
-      return Date10_30.convertDate((org.hl7.fhir.dstu3.model.DateType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DateTimeType)
-      return DateTime10_30.convertDateTime((org.hl7.fhir.dstu3.model.DateTimeType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DecimalType)
-      return Decimal10_30.convertDecimal((org.hl7.fhir.dstu3.model.DecimalType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.IdType) return Id10_30.convertId((org.hl7.fhir.dstu3.model.IdType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.InstantType)
-      return Instant10_30.convertInstant((org.hl7.fhir.dstu3.model.InstantType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.PositiveIntType)
-      return PositiveInt10_30.convertPositiveInt((org.hl7.fhir.dstu3.model.PositiveIntType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.UnsignedIntType)
-      return UnsignedInt10_30.convertUnsignedInt((org.hl7.fhir.dstu3.model.UnsignedIntType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.IntegerType)
-      return Integer10_30.convertInteger((org.hl7.fhir.dstu3.model.IntegerType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.MarkdownType)
-      return MarkDown10_30.convertMarkdown((org.hl7.fhir.dstu3.model.MarkdownType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.OidType)
-      return Oid10_30.convertOid((org.hl7.fhir.dstu3.model.OidType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.StringType)
-      return String10_30.convertString((org.hl7.fhir.dstu3.model.StringType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.TimeType)
-      return Time10_30.convertTime((org.hl7.fhir.dstu3.model.TimeType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.UuidType)
-      return Uuid10_30.convertUuid((org.hl7.fhir.dstu3.model.UuidType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.UriType)
-      return Uri10_30.convertUri((org.hl7.fhir.dstu3.model.UriType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Extension)
-      return Extension10_30.convertExtension((org.hl7.fhir.dstu3.model.Extension) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Narrative)
-      return Narrative10_30.convertNarrative((org.hl7.fhir.dstu3.model.Narrative) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Annotation)
-      return Annotation10_30.convertAnnotation((org.hl7.fhir.dstu3.model.Annotation) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Attachment)
-      return Attachment10_30.convertAttachment((org.hl7.fhir.dstu3.model.Attachment) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CodeableConcept)
-      return CodeableConcept10_30.convertCodeableConcept((org.hl7.fhir.dstu3.model.CodeableConcept) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Coding)
-      return Coding10_30.convertCoding((org.hl7.fhir.dstu3.model.Coding) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Identifier)
-      return Identifier10_30.convertIdentifier((org.hl7.fhir.dstu3.model.Identifier) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Period)
-      return Period10_30.convertPeriod((org.hl7.fhir.dstu3.model.Period) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Age) return Age10_30.convertAge((org.hl7.fhir.dstu3.model.Age) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Count)
-      return Count10_30.convertCount((org.hl7.fhir.dstu3.model.Count) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Distance)
-      return Distance10_30.convertDistance((org.hl7.fhir.dstu3.model.Distance) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Duration)
-      return Duration10_30.convertDuration((org.hl7.fhir.dstu3.model.Duration) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Money)
-      return Money10_30.convertMoney((org.hl7.fhir.dstu3.model.Money) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.SimpleQuantity)
-      return SimpleQuantity10_30.convertSimpleQuantity((org.hl7.fhir.dstu3.model.SimpleQuantity) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Quantity)
-      return Quantity10_30.convertQuantity((org.hl7.fhir.dstu3.model.Quantity) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Range)
-      return Range10_30.convertRange((org.hl7.fhir.dstu3.model.Range) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Ratio)
-      return Ratio10_30.convertRatio((org.hl7.fhir.dstu3.model.Ratio) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Reference)
-      return Reference10_30.convertReference((org.hl7.fhir.dstu3.model.Reference) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.SampledData)
-      return SampledData10_30.convertSampledData((org.hl7.fhir.dstu3.model.SampledData) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Signature)
-      return Signature10_30.convertSignature((org.hl7.fhir.dstu3.model.Signature) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Address)
-      return Address10_30.convertAddress((org.hl7.fhir.dstu3.model.Address) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ContactPoint)
-      return ContactPoint10_30.convertContactPoint((org.hl7.fhir.dstu3.model.ContactPoint) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ElementDefinition)
-      return ElementDefinition10_30.convertElementDefinition((org.hl7.fhir.dstu3.model.ElementDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.HumanName)
-      return HumanName10_30.convertHumanName((org.hl7.fhir.dstu3.model.HumanName) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Meta) return Meta10_30.convertMeta((org.hl7.fhir.dstu3.model.Meta) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Timing)
-      return Timing10_30.convertTiming((org.hl7.fhir.dstu3.model.Timing) src);
+    BiFunction<BaseAdvisor_10_30, org.hl7.fhir.dstu3.model.Type, org.hl7.fhir.dstu2.model.Type> convertor = R3_TO_R2.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The type " + src.fhirType()+" cannot be converted from R3 to R2");
     } else {
@@ -1,7 +1,9 @@
 package org.hl7.fhir.convertors.conv10_50.resources10_50;
 
 import java.util.Arrays;
+import java.util.function.BiFunction;
 
+import org.hl7.fhir.convertors.ConvertorDispatchTable;
 import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_10_50;
 import org.hl7.fhir.convertors.context.ConversionContext10_50;
 import org.hl7.fhir.convertors.conv10_50.datatypes10_50.Extension10_50;
@@ -12,6 +14,121 @@ import org.hl7.fhir.exceptions.FHIRException;
 
 public class Resource10_50 {
 
+  private static final ConvertorDispatchTable<BaseAdvisor_10_50, org.hl7.fhir.dstu2.model.Resource, org.hl7.fhir.r5.model.Resource> R2_TO_R5 =
+    new ConvertorDispatchTable<BaseAdvisor_10_50, org.hl7.fhir.dstu2.model.Resource, org.hl7.fhir.r5.model.Resource>()
+      .add(org.hl7.fhir.dstu2.model.Parameters.class, Parameters10_50::convertParameters)
+      .add(org.hl7.fhir.dstu2.model.Appointment.class, Appointment10_50::convertAppointment)
+      .add(org.hl7.fhir.dstu2.model.AppointmentResponse.class, AppointmentResponse10_50::convertAppointmentResponse)
+      .add(org.hl7.fhir.dstu2.model.AuditEvent.class, AuditEvent10_50::convertAuditEvent)
+      .add(org.hl7.fhir.dstu2.model.Basic.class, Basic10_50::convertBasic)
+      .add(org.hl7.fhir.dstu2.model.Binary.class, Binary10_50::convertBinary)
+      .add(org.hl7.fhir.dstu2.model.Bundle.class, Bundle10_50::convertBundle)
+      .add(org.hl7.fhir.dstu2.model.CarePlan.class, CarePlan10_50::convertCarePlan)
+      .add(org.hl7.fhir.dstu2.model.Communication.class, Communication10_50::convertCommunication)
+      .add(org.hl7.fhir.dstu2.model.CommunicationRequest.class, CommunicationRequest10_50::convertCommunicationRequest)
+      .add(org.hl7.fhir.dstu2.model.Composition.class, Composition10_50::convertComposition)
+      .add(org.hl7.fhir.dstu2.model.ConceptMap.class, ConceptMap10_50::convertConceptMap)
+      .add(org.hl7.fhir.dstu2.model.Condition.class, Condition10_50::convertCondition)
+      .add(org.hl7.fhir.dstu2.model.Conformance.class, Conformance10_50::convertConformance)
+      .add(org.hl7.fhir.dstu2.model.DataElement.class, DataElement10_50::convertDataElement)
+      .add(org.hl7.fhir.dstu2.model.DetectedIssue.class, DetectedIssue10_50::convertDetectedIssue)
+      .add(org.hl7.fhir.dstu2.model.DeviceMetric.class, DeviceMetric10_50::convertDeviceMetric)
+      .add(org.hl7.fhir.dstu2.model.DeviceUseStatement.class, DeviceUseStatement10_50::convertDeviceUseStatement)
+      .add(org.hl7.fhir.dstu2.model.DiagnosticReport.class, DiagnosticReport10_50::convertDiagnosticReport)
+      .add(org.hl7.fhir.dstu2.model.DocumentReference.class, DocumentReference10_50::convertDocumentReference)
+      .add(org.hl7.fhir.dstu2.model.Encounter.class, Encounter10_50::convertEncounter)
+      .add(org.hl7.fhir.dstu2.model.EnrollmentRequest.class, EnrollmentRequest10_50::convertEnrollmentRequest)
+      .add(org.hl7.fhir.dstu2.model.EnrollmentResponse.class, EnrollmentResponse10_50::convertEnrollmentResponse)
+      .add(org.hl7.fhir.dstu2.model.EpisodeOfCare.class, EpisodeOfCare10_50::convertEpisodeOfCare)
+      .add(org.hl7.fhir.dstu2.model.FamilyMemberHistory.class, FamilyMemberHistory10_50::convertFamilyMemberHistory)
+      .add(org.hl7.fhir.dstu2.model.Flag.class, Flag10_50::convertFlag)
+      .add(org.hl7.fhir.dstu2.model.Group.class, Group10_50::convertGroup)
+      .add(org.hl7.fhir.dstu2.model.HealthcareService.class, HealthcareService10_50::convertHealthcareService)
+      .add(org.hl7.fhir.dstu2.model.ImplementationGuide.class, ImplementationGuide10_50::convertImplementationGuide)
+      .add(org.hl7.fhir.dstu2.model.List_.class, List10_50::convertList)
+      .add(org.hl7.fhir.dstu2.model.Location.class, Location10_50::convertLocation)
+      .add(org.hl7.fhir.dstu2.model.MedicationDispense.class, MedicationDispense10_50::convertMedicationDispense)
+      .add(org.hl7.fhir.dstu2.model.MedicationStatement.class, MedicationStatement10_50::convertMedicationStatement)
+      .add(org.hl7.fhir.dstu2.model.MessageHeader.class, MessageHeader10_50::convertMessageHeader)
+      .add(org.hl7.fhir.dstu2.model.NamingSystem.class, NamingSystem10_50::convertNamingSystem)
+      .add(org.hl7.fhir.dstu2.model.Observation.class, Observation10_50::convertObservation)
+      .add(org.hl7.fhir.dstu2.model.OperationDefinition.class, OperationDefinition10_50::convertOperationDefinition)
+      .add(org.hl7.fhir.dstu2.model.OperationOutcome.class, OperationOutcome10_50::convertOperationOutcome)
+      .add(org.hl7.fhir.dstu2.model.Organization.class, Organization10_50::convertOrganization)
+      .add(org.hl7.fhir.dstu2.model.Patient.class, Patient10_50::convertPatient)
+      .add(org.hl7.fhir.dstu2.model.Person.class, Person10_50::convertPerson)
+      .add(org.hl7.fhir.dstu2.model.Practitioner.class, Practitioner10_50::convertPractitioner)
+      .add(org.hl7.fhir.dstu2.model.Provenance.class, Provenance10_50::convertProvenance)
+      .add(org.hl7.fhir.dstu2.model.Questionnaire.class, Questionnaire10_50::convertQuestionnaire)
+      .add(org.hl7.fhir.dstu2.model.QuestionnaireResponse.class, QuestionnaireResponse10_50::convertQuestionnaireResponse)
+      .add(org.hl7.fhir.dstu2.model.RiskAssessment.class, RiskAssessment10_50::convertRiskAssessment)
+      .add(org.hl7.fhir.dstu2.model.Schedule.class, Schedule10_50::convertSchedule)
+      .add(org.hl7.fhir.dstu2.model.SearchParameter.class, SearchParameter10_50::convertSearchParameter)
+      .add(org.hl7.fhir.dstu2.model.Slot.class, Slot10_50::convertSlot)
+      .add(org.hl7.fhir.dstu2.model.StructureDefinition.class, StructureDefinition10_50::convertStructureDefinition)
+      .add(org.hl7.fhir.dstu2.model.Substance.class, Substance10_50::convertSubstance)
+      .add(org.hl7.fhir.dstu2.model.SupplyDelivery.class, SupplyDelivery10_50::convertSupplyDelivery)
+      .add(org.hl7.fhir.dstu2.model.SupplyRequest.class, SupplyRequest10_50::convertSupplyRequest)
+      .add(org.hl7.fhir.dstu2.model.TestScript.class, TestScript10_50::convertTestScript)
+      .addWithAdvisor(org.hl7.fhir.dstu2.model.ValueSet.class, (advisor, src) -> ValueSet10_50.convertValueSet(src, advisor));
+
+  private static final ConvertorDispatchTable<BaseAdvisor_10_50, org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu2.model.Resource> R5_TO_R2 =
+    new ConvertorDispatchTable<BaseAdvisor_10_50, org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu2.model.Resource>()
+      .add(org.hl7.fhir.r5.model.Parameters.class, Parameters10_50::convertParameters)
+      .add(org.hl7.fhir.r5.model.Appointment.class, Appointment10_50::convertAppointment)
+      .add(org.hl7.fhir.r5.model.AppointmentResponse.class, AppointmentResponse10_50::convertAppointmentResponse)
+      .add(org.hl7.fhir.r5.model.AuditEvent.class, AuditEvent10_50::convertAuditEvent)
+      .add(org.hl7.fhir.r5.model.Basic.class, Basic10_50::convertBasic)
+      .add(org.hl7.fhir.r5.model.Binary.class, Binary10_50::convertBinary)
+      .addWithAdvisor(org.hl7.fhir.r5.model.Bundle.class, (advisor, src) -> Bundle10_50.convertBundle(src, advisor))
+      .add(org.hl7.fhir.r5.model.CarePlan.class, CarePlan10_50::convertCarePlan)
+      .add(org.hl7.fhir.r5.model.Communication.class, Communication10_50::convertCommunication)
+      .add(org.hl7.fhir.r5.model.CommunicationRequest.class, CommunicationRequest10_50::convertCommunicationRequest)
+      .add(org.hl7.fhir.r5.model.Composition.class, Composition10_50::convertComposition)
+      .add(org.hl7.fhir.r5.model.ConceptMap.class, ConceptMap10_50::convertConceptMap)
+      .add(org.hl7.fhir.r5.model.Condition.class, Condition10_50::convertCondition)
+      .add(org.hl7.fhir.r5.model.CapabilityStatement.class, Conformance10_50::convertConformance)
+      .add(org.hl7.fhir.r5.model.DetectedIssue.class, DetectedIssue10_50::convertDetectedIssue)
+      .add(org.hl7.fhir.r5.model.DeviceMetric.class, DeviceMetric10_50::convertDeviceMetric)
+      .add(org.hl7.fhir.r5.model.DeviceUsage.class, DeviceUseStatement10_50::convertDeviceUseStatement)
+      .add(org.hl7.fhir.r5.model.DiagnosticReport.class, DiagnosticReport10_50::convertDiagnosticReport)
+      .add(org.hl7.fhir.r5.model.DocumentReference.class, DocumentReference10_50::convertDocumentReference)
+      .add(org.hl7.fhir.r5.model.Encounter.class, Encounter10_50::convertEncounter)
+      .add(org.hl7.fhir.r5.model.EnrollmentRequest.class, EnrollmentRequest10_50::convertEnrollmentRequest)
+      .add(org.hl7.fhir.r5.model.EnrollmentResponse.class, EnrollmentResponse10_50::convertEnrollmentResponse)
+      .add(org.hl7.fhir.r5.model.EpisodeOfCare.class, EpisodeOfCare10_50::convertEpisodeOfCare)
+      .add(org.hl7.fhir.r5.model.FamilyMemberHistory.class, FamilyMemberHistory10_50::convertFamilyMemberHistory)
+      .add(org.hl7.fhir.r5.model.Flag.class, Flag10_50::convertFlag)
+      .add(org.hl7.fhir.r5.model.Group.class, Group10_50::convertGroup)
+      .add(org.hl7.fhir.r5.model.HealthcareService.class, HealthcareService10_50::convertHealthcareService)
+      .add(org.hl7.fhir.r5.model.ImplementationGuide.class, ImplementationGuide10_50::convertImplementationGuide)
+      .add(org.hl7.fhir.r5.model.ListResource.class, List10_50::convertList)
+      .add(org.hl7.fhir.r5.model.Location.class, Location10_50::convertLocation)
+      .add(org.hl7.fhir.r5.model.MedicationDispense.class, MedicationDispense10_50::convertMedicationDispense)
+      .add(org.hl7.fhir.r5.model.MedicationStatement.class, MedicationStatement10_50::convertMedicationStatement)
+      .add(org.hl7.fhir.r5.model.MessageHeader.class, MessageHeader10_50::convertMessageHeader)
+      .add(org.hl7.fhir.r5.model.NamingSystem.class, NamingSystem10_50::convertNamingSystem)
+      .add(org.hl7.fhir.r5.model.Observation.class, Observation10_50::convertObservation)
+      .add(org.hl7.fhir.r5.model.OperationDefinition.class, OperationDefinition10_50::convertOperationDefinition)
+      .add(org.hl7.fhir.r5.model.OperationOutcome.class, OperationOutcome10_50::convertOperationOutcome)
+      .add(org.hl7.fhir.r5.model.Organization.class, Organization10_50::convertOrganization)
+      .add(org.hl7.fhir.r5.model.Patient.class, Patient10_50::convertPatient)
+      .add(org.hl7.fhir.r5.model.Person.class, Person10_50::convertPerson)
+      .add(org.hl7.fhir.r5.model.Practitioner.class, Practitioner10_50::convertPractitioner)
+      .add(org.hl7.fhir.r5.model.Provenance.class, Provenance10_50::convertProvenance)
+      .add(org.hl7.fhir.r5.model.Questionnaire.class, Questionnaire10_50::convertQuestionnaire)
+      .add(org.hl7.fhir.r5.model.QuestionnaireResponse.class, QuestionnaireResponse10_50::convertQuestionnaireResponse)
+      .add(org.hl7.fhir.r5.model.RiskAssessment.class, RiskAssessment10_50::convertRiskAssessment)
+      .add(org.hl7.fhir.r5.model.Schedule.class, Schedule10_50::convertSchedule)
+      .add(org.hl7.fhir.r5.model.SearchParameter.class, SearchParameter10_50::convertSearchParameter)
+      .add(org.hl7.fhir.r5.model.Slot.class, Slot10_50::convertSlot)
+      .add(org.hl7.fhir.r5.model.StructureDefinition.class, StructureDefinition10_50::convertStructureDefinition)
+      .add(org.hl7.fhir.r5.model.Substance.class, Substance10_50::convertSubstance)
+      .add(org.hl7.fhir.r5.model.SupplyDelivery.class, SupplyDelivery10_50::convertSupplyDelivery)
+      .add(org.hl7.fhir.r5.model.SupplyRequest.class, SupplyRequest10_50::convertSupplyRequest)
+      .add(org.hl7.fhir.r5.model.TestScript.class, TestScript10_50::convertTestScript)
+      .addWithAdvisor(org.hl7.fhir.r5.model.ValueSet.class, (advisor, src) -> ValueSet10_50.convertValueSet(src, advisor));
+
   public final BaseAdvisor_10_50 advisor;
 
   public Resource10_50(BaseAdvisor_10_50 advisor) {
@@ -34,116 +151,8 @@ public class Resource10_50 {
 
   public org.hl7.fhir.r5.model.Resource convertResource(org.hl7.fhir.dstu2.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu2.model.Parameters)
-      return Parameters10_50.convertParameters((org.hl7.fhir.dstu2.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Appointment)
-      return Appointment10_50.convertAppointment((org.hl7.fhir.dstu2.model.Appointment) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.AppointmentResponse)
-      return AppointmentResponse10_50.convertAppointmentResponse((org.hl7.fhir.dstu2.model.AppointmentResponse) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.AuditEvent)
-      return AuditEvent10_50.convertAuditEvent((org.hl7.fhir.dstu2.model.AuditEvent) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Basic)
-      return Basic10_50.convertBasic((org.hl7.fhir.dstu2.model.Basic) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Binary)
-      return Binary10_50.convertBinary((org.hl7.fhir.dstu2.model.Binary) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Bundle)
-      return Bundle10_50.convertBundle((org.hl7.fhir.dstu2.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.CarePlan)
-      return CarePlan10_50.convertCarePlan((org.hl7.fhir.dstu2.model.CarePlan) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Communication)
-      return Communication10_50.convertCommunication((org.hl7.fhir.dstu2.model.Communication) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.CommunicationRequest)
-      return CommunicationRequest10_50.convertCommunicationRequest((org.hl7.fhir.dstu2.model.CommunicationRequest) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Composition)
-      return Composition10_50.convertComposition((org.hl7.fhir.dstu2.model.Composition) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.ConceptMap)
-      return ConceptMap10_50.convertConceptMap((org.hl7.fhir.dstu2.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Condition)
-      return Condition10_50.convertCondition((org.hl7.fhir.dstu2.model.Condition) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Conformance)
-      return Conformance10_50.convertConformance((org.hl7.fhir.dstu2.model.Conformance) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.DataElement)
-      return DataElement10_50.convertDataElement((org.hl7.fhir.dstu2.model.DataElement) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.DetectedIssue)
-      return DetectedIssue10_50.convertDetectedIssue((org.hl7.fhir.dstu2.model.DetectedIssue) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.DeviceMetric)
-      return DeviceMetric10_50.convertDeviceMetric((org.hl7.fhir.dstu2.model.DeviceMetric) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.DeviceUseStatement)
-      return DeviceUseStatement10_50.convertDeviceUseStatement((org.hl7.fhir.dstu2.model.DeviceUseStatement) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.DiagnosticReport)
-      return DiagnosticReport10_50.convertDiagnosticReport((org.hl7.fhir.dstu2.model.DiagnosticReport) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.DocumentReference)
-      return DocumentReference10_50.convertDocumentReference((org.hl7.fhir.dstu2.model.DocumentReference) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Encounter)
-      return Encounter10_50.convertEncounter((org.hl7.fhir.dstu2.model.Encounter) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.EnrollmentRequest)
-      return EnrollmentRequest10_50.convertEnrollmentRequest((org.hl7.fhir.dstu2.model.EnrollmentRequest) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.EnrollmentResponse)
-      return EnrollmentResponse10_50.convertEnrollmentResponse((org.hl7.fhir.dstu2.model.EnrollmentResponse) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.EpisodeOfCare)
-      return EpisodeOfCare10_50.convertEpisodeOfCare((org.hl7.fhir.dstu2.model.EpisodeOfCare) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.FamilyMemberHistory)
-      return FamilyMemberHistory10_50.convertFamilyMemberHistory((org.hl7.fhir.dstu2.model.FamilyMemberHistory) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Flag)
-      return Flag10_50.convertFlag((org.hl7.fhir.dstu2.model.Flag) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Group)
-      return Group10_50.convertGroup((org.hl7.fhir.dstu2.model.Group) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.HealthcareService)
-      return HealthcareService10_50.convertHealthcareService((org.hl7.fhir.dstu2.model.HealthcareService) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.ImplementationGuide)
-      return ImplementationGuide10_50.convertImplementationGuide((org.hl7.fhir.dstu2.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.List_)
-      return List10_50.convertList((org.hl7.fhir.dstu2.model.List_) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Location)
-      return Location10_50.convertLocation((org.hl7.fhir.dstu2.model.Location) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.MedicationDispense)
-      return MedicationDispense10_50.convertMedicationDispense((org.hl7.fhir.dstu2.model.MedicationDispense) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.MedicationStatement)
-      return MedicationStatement10_50.convertMedicationStatement((org.hl7.fhir.dstu2.model.MedicationStatement) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.MessageHeader)
-      return MessageHeader10_50.convertMessageHeader((org.hl7.fhir.dstu2.model.MessageHeader) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.NamingSystem)
-      return NamingSystem10_50.convertNamingSystem((org.hl7.fhir.dstu2.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Observation)
-      return Observation10_50.convertObservation((org.hl7.fhir.dstu2.model.Observation) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.OperationDefinition)
-      return OperationDefinition10_50.convertOperationDefinition((org.hl7.fhir.dstu2.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.OperationOutcome)
-      return OperationOutcome10_50.convertOperationOutcome((org.hl7.fhir.dstu2.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Organization)
-      return Organization10_50.convertOrganization((org.hl7.fhir.dstu2.model.Organization) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Patient)
-      return Patient10_50.convertPatient((org.hl7.fhir.dstu2.model.Patient) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Person)
-      return Person10_50.convertPerson((org.hl7.fhir.dstu2.model.Person) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Practitioner)
-      return Practitioner10_50.convertPractitioner((org.hl7.fhir.dstu2.model.Practitioner) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Provenance)
-      return Provenance10_50.convertProvenance((org.hl7.fhir.dstu2.model.Provenance) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Questionnaire)
-      return Questionnaire10_50.convertQuestionnaire((org.hl7.fhir.dstu2.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.QuestionnaireResponse)
-      return QuestionnaireResponse10_50.convertQuestionnaireResponse((org.hl7.fhir.dstu2.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.RiskAssessment)
-      return RiskAssessment10_50.convertRiskAssessment((org.hl7.fhir.dstu2.model.RiskAssessment) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Schedule)
-      return Schedule10_50.convertSchedule((org.hl7.fhir.dstu2.model.Schedule) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.SearchParameter)
-      return SearchParameter10_50.convertSearchParameter((org.hl7.fhir.dstu2.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Slot)
-      return Slot10_50.convertSlot((org.hl7.fhir.dstu2.model.Slot) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.StructureDefinition)
-      return StructureDefinition10_50.convertStructureDefinition((org.hl7.fhir.dstu2.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.Substance)
-      return Substance10_50.convertSubstance((org.hl7.fhir.dstu2.model.Substance) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.SupplyDelivery)
-      return SupplyDelivery10_50.convertSupplyDelivery((org.hl7.fhir.dstu2.model.SupplyDelivery) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.SupplyRequest)
-      return SupplyRequest10_50.convertSupplyRequest((org.hl7.fhir.dstu2.model.SupplyRequest) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.TestScript)
-      return TestScript10_50.convertTestScript((org.hl7.fhir.dstu2.model.TestScript) src);
-    if (src instanceof org.hl7.fhir.dstu2.model.ValueSet)
-      return ValueSet10_50.convertValueSet((org.hl7.fhir.dstu2.model.ValueSet) src, advisor);
+    BiFunction<BaseAdvisor_10_50, org.hl7.fhir.dstu2.model.Resource, org.hl7.fhir.r5.model.Resource> convertor = R2_TO_R5.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R2 to R5");
     } else {
@@ -153,112 +162,8 @@ public class Resource10_50 {
 
   public org.hl7.fhir.dstu2.model.Resource convertResource(org.hl7.fhir.r5.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.r5.model.Parameters)
-      return Parameters10_50.convertParameters((org.hl7.fhir.r5.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.r5.model.Appointment)
-      return Appointment10_50.convertAppointment((org.hl7.fhir.r5.model.Appointment) src);
-    if (src instanceof org.hl7.fhir.r5.model.AppointmentResponse)
-      return AppointmentResponse10_50.convertAppointmentResponse((org.hl7.fhir.r5.model.AppointmentResponse) src);
-    if (src instanceof org.hl7.fhir.r5.model.AuditEvent)
-      return AuditEvent10_50.convertAuditEvent((org.hl7.fhir.r5.model.AuditEvent) src);
-    if (src instanceof org.hl7.fhir.r5.model.Basic)
-      return Basic10_50.convertBasic((org.hl7.fhir.r5.model.Basic) src);
-    if (src instanceof org.hl7.fhir.r5.model.Binary)
-      return Binary10_50.convertBinary((org.hl7.fhir.r5.model.Binary) src);
-    if (src instanceof org.hl7.fhir.r5.model.Bundle)
-      return Bundle10_50.convertBundle((org.hl7.fhir.r5.model.Bundle) src, advisor);
-    if (src instanceof org.hl7.fhir.r5.model.CarePlan)
-      return CarePlan10_50.convertCarePlan((org.hl7.fhir.r5.model.CarePlan) src);
-    if (src instanceof org.hl7.fhir.r5.model.Communication)
-      return Communication10_50.convertCommunication((org.hl7.fhir.r5.model.Communication) src);
-    if (src instanceof org.hl7.fhir.r5.model.CommunicationRequest)
-      return CommunicationRequest10_50.convertCommunicationRequest((org.hl7.fhir.r5.model.CommunicationRequest) src);
-    if (src instanceof org.hl7.fhir.r5.model.Composition)
-      return Composition10_50.convertComposition((org.hl7.fhir.r5.model.Composition) src);
-    if (src instanceof org.hl7.fhir.r5.model.ConceptMap)
-      return ConceptMap10_50.convertConceptMap((org.hl7.fhir.r5.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.r5.model.Condition)
-      return Condition10_50.convertCondition((org.hl7.fhir.r5.model.Condition) src);
-    if (src instanceof org.hl7.fhir.r5.model.CapabilityStatement)
-      return Conformance10_50.convertConformance((org.hl7.fhir.r5.model.CapabilityStatement) src);
-    if (src instanceof org.hl7.fhir.r5.model.DetectedIssue)
-      return DetectedIssue10_50.convertDetectedIssue((org.hl7.fhir.r5.model.DetectedIssue) src);
-    if (src instanceof org.hl7.fhir.r5.model.DeviceMetric)
-      return DeviceMetric10_50.convertDeviceMetric((org.hl7.fhir.r5.model.DeviceMetric) src);
-    if (src instanceof org.hl7.fhir.r5.model.DeviceUsage)
-      return DeviceUseStatement10_50.convertDeviceUseStatement((org.hl7.fhir.r5.model.DeviceUsage) src);
-    if (src instanceof org.hl7.fhir.r5.model.DiagnosticReport)
-      return DiagnosticReport10_50.convertDiagnosticReport((org.hl7.fhir.r5.model.DiagnosticReport) src);
-    if (src instanceof org.hl7.fhir.r5.model.DocumentReference)
-      return DocumentReference10_50.convertDocumentReference((org.hl7.fhir.r5.model.DocumentReference) src);
-    if (src instanceof org.hl7.fhir.r5.model.Encounter)
-      return Encounter10_50.convertEncounter((org.hl7.fhir.r5.model.Encounter) src);
-    if (src instanceof org.hl7.fhir.r5.model.EnrollmentRequest)
-      return EnrollmentRequest10_50.convertEnrollmentRequest((org.hl7.fhir.r5.model.EnrollmentRequest) src);
-    if (src instanceof org.hl7.fhir.r5.model.EnrollmentResponse)
-      return EnrollmentResponse10_50.convertEnrollmentResponse((org.hl7.fhir.r5.model.EnrollmentResponse) src);
-    if (src instanceof org.hl7.fhir.r5.model.EpisodeOfCare)
-      return EpisodeOfCare10_50.convertEpisodeOfCare((org.hl7.fhir.r5.model.EpisodeOfCare) src);
-    if (src instanceof org.hl7.fhir.r5.model.FamilyMemberHistory)
-      return FamilyMemberHistory10_50.convertFamilyMemberHistory((org.hl7.fhir.r5.model.FamilyMemberHistory) src);
-    if (src instanceof org.hl7.fhir.r5.model.Flag) return Flag10_50.convertFlag((org.hl7.fhir.r5.model.Flag) src);
-    if (src instanceof org.hl7.fhir.r5.model.Group)
-      return Group10_50.convertGroup((org.hl7.fhir.r5.model.Group) src);
-    if (src instanceof org.hl7.fhir.r5.model.HealthcareService)
-      return HealthcareService10_50.convertHealthcareService((org.hl7.fhir.r5.model.HealthcareService) src);
-    if (src instanceof org.hl7.fhir.r5.model.ImplementationGuide)
-      return ImplementationGuide10_50.convertImplementationGuide((org.hl7.fhir.r5.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.r5.model.ListResource)
-      return List10_50.convertList((org.hl7.fhir.r5.model.ListResource) src);
-    if (src instanceof org.hl7.fhir.r5.model.Location)
-      return Location10_50.convertLocation((org.hl7.fhir.r5.model.Location) src);
-    if (src instanceof org.hl7.fhir.r5.model.MedicationDispense)
-      return MedicationDispense10_50.convertMedicationDispense((org.hl7.fhir.r5.model.MedicationDispense) src);
-    if (src instanceof org.hl7.fhir.r5.model.MedicationStatement)
-      return MedicationStatement10_50.convertMedicationStatement((org.hl7.fhir.r5.model.MedicationStatement) src);
-    if (src instanceof org.hl7.fhir.r5.model.MessageHeader)
-      return MessageHeader10_50.convertMessageHeader((org.hl7.fhir.r5.model.MessageHeader) src);
-    if (src instanceof org.hl7.fhir.r5.model.NamingSystem)
-      return NamingSystem10_50.convertNamingSystem((org.hl7.fhir.r5.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.r5.model.Observation)
-      return Observation10_50.convertObservation((org.hl7.fhir.r5.model.Observation) src);
-    if (src instanceof org.hl7.fhir.r5.model.OperationDefinition)
-      return OperationDefinition10_50.convertOperationDefinition((org.hl7.fhir.r5.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.OperationOutcome)
-      return OperationOutcome10_50.convertOperationOutcome((org.hl7.fhir.r5.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.r5.model.Organization)
-      return Organization10_50.convertOrganization((org.hl7.fhir.r5.model.Organization) src);
-    if (src instanceof org.hl7.fhir.r5.model.Patient)
-      return Patient10_50.convertPatient((org.hl7.fhir.r5.model.Patient) src);
-    if (src instanceof org.hl7.fhir.r5.model.Person)
-      return Person10_50.convertPerson((org.hl7.fhir.r5.model.Person) src);
-    if (src instanceof org.hl7.fhir.r5.model.Practitioner)
-      return Practitioner10_50.convertPractitioner((org.hl7.fhir.r5.model.Practitioner) src);
-    if (src instanceof org.hl7.fhir.r5.model.Provenance)
-      return Provenance10_50.convertProvenance((org.hl7.fhir.r5.model.Provenance) src);
-    if (src instanceof org.hl7.fhir.r5.model.Questionnaire)
-      return Questionnaire10_50.convertQuestionnaire((org.hl7.fhir.r5.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.r5.model.QuestionnaireResponse)
-      return QuestionnaireResponse10_50.convertQuestionnaireResponse((org.hl7.fhir.r5.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.r5.model.RiskAssessment)
-      return RiskAssessment10_50.convertRiskAssessment((org.hl7.fhir.r5.model.RiskAssessment) src);
-    if (src instanceof org.hl7.fhir.r5.model.Schedule)
-      return Schedule10_50.convertSchedule((org.hl7.fhir.r5.model.Schedule) src);
-    if (src instanceof org.hl7.fhir.r5.model.SearchParameter)
-      return SearchParameter10_50.convertSearchParameter((org.hl7.fhir.r5.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.r5.model.Slot) return Slot10_50.convertSlot((org.hl7.fhir.r5.model.Slot) src);
-    if (src instanceof org.hl7.fhir.r5.model.StructureDefinition)
-      return StructureDefinition10_50.convertStructureDefinition((org.hl7.fhir.r5.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.Substance)
-      return Substance10_50.convertSubstance((org.hl7.fhir.r5.model.Substance) src);
-    if (src instanceof org.hl7.fhir.r5.model.SupplyDelivery)
-      return SupplyDelivery10_50.convertSupplyDelivery((org.hl7.fhir.r5.model.SupplyDelivery) src);
-    if (src instanceof org.hl7.fhir.r5.model.SupplyRequest)
-      return SupplyRequest10_50.convertSupplyRequest((org.hl7.fhir.r5.model.SupplyRequest) src);
-    if (src instanceof org.hl7.fhir.r5.model.TestScript)
-      return TestScript10_50.convertTestScript((org.hl7.fhir.r5.model.TestScript) src);
-    if (src instanceof org.hl7.fhir.r5.model.ValueSet)
-      return ValueSet10_50.convertValueSet((org.hl7.fhir.r5.model.ValueSet) src, advisor);
+    BiFunction<BaseAdvisor_10_50, org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu2.model.Resource> convertor = R5_TO_R2.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R5 to R2");
     } else {
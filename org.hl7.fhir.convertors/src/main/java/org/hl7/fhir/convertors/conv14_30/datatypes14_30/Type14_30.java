@@ -1,5 +1,8 @@
 package org.hl7.fhir.convertors.conv14_30.datatypes14_30;
 
+import java.util.function.BiFunction;
+
+import org.hl7.fhir.convertors.ConvertorDispatchTable;
 import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_14_30;
 import org.hl7.fhir.convertors.conv14_30.datatypes14_30.complextypes14_30.Address14_30;
 import org.hl7.fhir.convertors.conv14_30.datatypes14_30.complextypes14_30.Age14_30;
@@ -41,6 +44,96 @@ import org.hl7.fhir.exceptions.FHIRException;
 
 public class Type14_30 {
 
+  private static final ConvertorDispatchTable<BaseAdvisor_14_30, org.hl7.fhir.dstu2016may.model.Type, org.hl7.fhir.dstu3.model.Type> R2B_TO_R3 =
+    new ConvertorDispatchTable<BaseAdvisor_14_30, org.hl7.fhir.dstu2016may.model.Type, org.hl7.fhir.dstu3.model.Type>()
+      .add(org.hl7.fhir.dstu2016may.model.Base64BinaryType.class, Base64Binary14_30::convertBase64Binary)
+      .add(org.hl7.fhir.dstu2016may.model.BooleanType.class, Boolean14_30::convertBoolean)
+      .add(org.hl7.fhir.dstu2016may.model.CodeType.class, Code14_30::convertCode)
+      .add(org.hl7.fhir.dstu2016may.model.DateType.class, Date14_30::convertDate)
+      .add(org.hl7.fhir.dstu2016may.model.DateTimeType.class, DateTime14_30::convertDateTime)
+      .add(org.hl7.fhir.dstu2016may.model.DecimalType.class, Decimal14_30::convertDecimal)
+      .add(org.hl7.fhir.dstu2016may.model.IdType.class, Id14_30::convertId)
+      .add(org.hl7.fhir.dstu2016may.model.InstantType.class, Instant14_30::convertInstant)
+      .add(org.hl7.fhir.dstu2016may.model.MarkdownType.class, MarkDown14_30::convertMarkdown)
+      .add(org.hl7.fhir.dstu2016may.model.OidType.class, Oid14_30::convertOid)
+      .add(org.hl7.fhir.dstu2016may.model.PositiveIntType.class, PositiveInt14_30::convertPositiveInt)
+      .add(org.hl7.fhir.dstu2016may.model.StringType.class, String14_30::convertString)
+      .add(org.hl7.fhir.dstu2016may.model.TimeType.class, Time14_30::convertTime)
+      .add(org.hl7.fhir.dstu2016may.model.UnsignedIntType.class, UnsignedInt14_30::convertUnsignedInt)
+      .add(org.hl7.fhir.dstu2016may.model.IntegerType.class, Integer14_30::convertInteger)
+      .add(org.hl7.fhir.dstu2016may.model.UuidType.class, Uuid14_30::convertUuid)
+      .add(org.hl7.fhir.dstu2016may.model.UriType.class, Uri14_30::convertUri)
+      .add(org.hl7.fhir.dstu2016may.model.Extension.class, Extension14_30::convertExtension)
+      .add(org.hl7.fhir.dstu2016may.model.Narrative.class, Narrative14_30::convertNarrative)
+      .add(org.hl7.fhir.dstu2016may.model.Age.class, Age14_30::convertAge)
+      .add(org.hl7.fhir.dstu2016may.model.Annotation.class, Annotation14_30::convertAnnotation)
+      .add(org.hl7.fhir.dstu2016may.model.Attachment.class, Attachment14_30::convertAttachment)
+      .add(org.hl7.fhir.dstu2016may.model.CodeableConcept.class, CodeableConcept14_30::convertCodeableConcept)
+      .add(org.hl7.fhir.dstu2016may.model.Coding.class, Code14_30::convertCoding)
+      .add(org.hl7.fhir.dstu2016may.model.Count.class, Count14_30::convertCount)
+      .add(org.hl7.fhir.dstu2016may.model.Distance.class, Distance14_30::convertDistance)
+      .add(org.hl7.fhir.dstu2016may.model.Duration.class, Duration14_30::convertDuration)
+      .add(org.hl7.fhir.dstu2016may.model.Identifier.class, Identifier14_30::convertIdentifier)
+      .add(org.hl7.fhir.dstu2016may.model.Money.class, Money14_30::convertMoney)
+      .add(org.hl7.fhir.dstu2016may.model.Period.class, Period14_30::convertPeriod)
+      .add(org.hl7.fhir.dstu2016may.model.Quantity.class, Quantity14_30::convertQuantity)
+      .add(org.hl7.fhir.dstu2016may.model.Range.class, Range14_30::convertRange)
+      .add(org.hl7.fhir.dstu2016may.model.Ratio.class, Ratio14_30::convertRatio)
+      .add(org.hl7.fhir.dstu2016may.model.Reference.class, Reference14_30::convertReference)
+      .add(org.hl7.fhir.dstu2016may.model.SampledData.class, SampledData14_30::convertSampledData)
+      .add(org.hl7.fhir.dstu2016may.model.Signature.class, Signature14_30::convertSignature)
+      .add(org.hl7.fhir.dstu2016may.model.Address.class, Address14_30::convertAddress)
+      .add(org.hl7.fhir.dstu2016may.model.ContactPoint.class, ContactPoint14_30::convertContactPoint)
+      .add(org.hl7.fhir.dstu2016may.model.ElementDefinition.class, ElementDefinition14_30::convertElementDefinition)
+      .add(org.hl7.fhir.dstu2016may.model.HumanName.class, HumanName14_30::convertHumanName)
+      .add(org.hl7.fhir.dstu2016may.model.Meta.class, Meta14_30::convertMeta)
+      .add(org.hl7.fhir.dstu2016may.model.Timing.class, Timing14_30::convertTiming);
+
+  private static final ConvertorDispatchTable<BaseAdvisor_14_30, org.hl7.fhir.dstu3.model.Type, org.hl7.fhir.dstu2016may.model.Type> R3_TO_R2B =
+    new ConvertorDispatchTable<BaseAdvisor_14_30, org.hl7.fhir.dstu3.model.Type, org.hl7.fhir.dstu2016may.model.Type>()
+      .add(org.hl7.fhir.dstu3.model.Base64BinaryType.class, Base64Binary14_30::convertBase64Binary)
+      .add(org.hl7.fhir.dstu3.model.BooleanType.class, Boolean14_30::convertBoolean)
+      .add(org.hl7.fhir.dstu3.model.CodeType.class, Code14_30::convertCode)
+      .add(org.hl7.fhir.dstu3.model.DateType.class, Date14_30::convertDate)
+      .add(org.hl7.fhir.dstu3.model.DateTimeType.class, DateTime14_30::convertDateTime)
+      .add(org.hl7.fhir.dstu3.model.DecimalType.class, Decimal14_30::convertDecimal)
+      .add(org.hl7.fhir.dstu3.model.IdType.class, Id14_30::convertId)
+      .add(org.hl7.fhir.dstu3.model.InstantType.class, Instant14_30::convertInstant)
+      .add(org.hl7.fhir.dstu3.model.MarkdownType.class, MarkDown14_30::convertMarkdown)
+      .add(org.hl7.fhir.dstu3.model.OidType.class, Oid14_30::convertOid)
+      .add(org.hl7.fhir.dstu3.model.PositiveIntType.class, PositiveInt14_30::convertPositiveInt)
+      .add(org.hl7.fhir.dstu3.model.StringType.class, String14_30::convertString)
+      .add(org.hl7.fhir.dstu3.model.TimeType.class, Time14_30::convertTime)
+      .add(org.hl7.fhir.dstu3.model.UnsignedIntType.class, UnsignedInt14_30::convertUnsignedInt)
+      .add(org.hl7.fhir.dstu3.model.IntegerType.class, Integer14_30::convertInteger)
+      .add(org.hl7.fhir.dstu3.model.UuidType.class, Uuid14_30::convertUuid)
+      .add(org.hl7.fhir.dstu3.model.UriType.class, Uri14_30::convertUri)
+      .add(org.hl7.fhir.dstu3.model.Extension.class, Extension14_30::convertExtension)
+      .add(org.hl7.fhir.dstu3.model.Narrative.class, Narrative14_30::convertNarrative)
+      .add(org.hl7.fhir.dstu3.model.Age.class, Age14_30::convertAge)
+      .add(org.hl7.fhir.dstu3.model.Annotation.class, Annotation14_30::convertAnnotation)
+      .add(org.hl7.fhir.dstu3.model.Attachment.class, Attachment14_30::convertAttachment)
+      .add(org.hl7.fhir.dstu3.model.CodeableConcept.class, CodeableConcept14_30::convertCodeableConcept)
+      .add(org.hl7.fhir.dstu3.model.Coding.class, Code14_30::convertCoding)
+      .add(org.hl7.fhir.dstu3.model.Count.class, Count14_30::convertCount)
+      .add(org.hl7.fhir.dstu3.model.Distance.class, Distance14_30::convertDistance)
+      .add(org.hl7.fhir.dstu3.model.Duration.class, Duration14_30::convertDuration)
+      .add(org.hl7.fhir.dstu3.model.Identifier.class, Identifier14_30::convertIdentifier)
+      .add(org.hl7.fhir.dstu3.model.Money.class, Money14_30::convertMoney)
+      .add(org.hl7.fhir.dstu3.model.Period.class, Period14_30::convertPeriod)
+      .add(org.hl7.fhir.dstu3.model.Quantity.class, Quantity14_30::convertQuantity)
+      .add(org.hl7.fhir.dstu3.model.Range.class, Range14_30::convertRange)
+      .add(org.hl7.fhir.dstu3.model.Ratio.class, Ratio14_30::convertRatio)
+      .add(org.hl7.fhir.dstu3.model.Reference.class, Reference14_30::convertReference)
+      .add(org.hl7.fhir.dstu3.model.SampledData.class, SampledData14_30::convertSampledData)
+      .add(org.hl7.fhir.dstu3.model.Signature.class, Signature14_30::convertSignature)
+      .add(org.hl7.fhir.dstu3.model.Address.class, Address14_30::convertAddress)
+      .add(org.hl7.fhir.dstu3.model.ContactPoint.class, ContactPoint14_30::convertContactPoint)
+      .add(org.hl7.fhir.dstu3.model.ElementDefinition.class, ElementDefinition14_30::convertElementDefinition)
+      .add(org.hl7.fhir.dstu3.model.HumanName.class, HumanName14_30::convertHumanName)
+      .add(org.hl7.fhir.dstu3.model.Meta.class, Meta14_30::convertMeta)
+      .add(org.hl7.fhir.dstu3.model.Timing.class, Timing14_30::convertTiming);
+
   private final BaseAdvisor_14_30 advisor;
 
   public Type14_30(BaseAdvisor_14_30 advisor) {
@@ -49,90 +142,8 @@ public class Type14_30 {
 
   public org.hl7.fhir.dstu3.model.Type convertType(org.hl7.fhir.dstu2016may.model.Type src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Base64BinaryType)
-      return Base64Binary14_30.convertBase64Binary((org.hl7.fhir.dstu2016may.model.Base64BinaryType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.BooleanType)
-      return Boolean14_30.convertBoolean((org.hl7.fhir.dstu2016may.model.BooleanType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeType)
-      return Code14_30.convertCode((org.hl7.fhir.dstu2016may.model.CodeType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DateType)
-      return Date14_30.convertDate((org.hl7.fhir.dstu2016may.model.DateType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DateTimeType)
-      return DateTime14_30.convertDateTime((org.hl7.fhir.dstu2016may.model.DateTimeType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DecimalType)
-      return Decimal14_30.convertDecimal((org.hl7.fhir.dstu2016may.model.DecimalType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.IdType)
-      return Id14_30.convertId((org.hl7.fhir.dstu2016may.model.IdType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.InstantType)
-      return Instant14_30.convertInstant((org.hl7.fhir.dstu2016may.model.InstantType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.MarkdownType)
-      return MarkDown14_30.convertMarkdown((org.hl7.fhir.dstu2016may.model.MarkdownType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OidType)
-      return Oid14_30.convertOid((org.hl7.fhir.dstu2016may.model.OidType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.PositiveIntType)
-      return PositiveInt14_30.convertPositiveInt((org.hl7.fhir.dstu2016may.model.PositiveIntType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StringType)
-      return String14_30.convertString((org.hl7.fhir.dstu2016may.model.StringType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.TimeType)
-      return Time14_30.convertTime((org.hl7.fhir.dstu2016may.model.TimeType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.UnsignedIntType)
-      return UnsignedInt14_30.convertUnsignedInt((org.hl7.fhir.dstu2016may.model.UnsignedIntType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.IntegerType)
-      return Integer14_30.convertInteger((org.hl7.fhir.dstu2016may.model.IntegerType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.UuidType)
-      return Uuid14_30.convertUuid((org.hl7.fhir.dstu2016may.model.UuidType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.UriType)
-      return Uri14_30.convertUri((org.hl7.fhir.dstu2016may.model.UriType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Extension)
-      return Extension14_30.convertExtension((org.hl7.fhir.dstu2016may.model.Extension) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Narrative)
-      return Narrative14_30.convertNarrative((org.hl7.fhir.dstu2016may.model.Narrative) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Age)
-      return Age14_30.convertAge((org.hl7.fhir.dstu2016may.model.Age) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Annotation)
-      return Annotation14_30.convertAnnotation((org.hl7.fhir.dstu2016may.model.Annotation) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Attachment)
-      return Attachment14_30.convertAttachment((org.hl7.fhir.dstu2016may.model.Attachment) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeableConcept)
-      return CodeableConcept14_30.convertCodeableConcept((org.hl7.fhir.dstu2016may.model.CodeableConcept) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Coding)
-      return Code14_30.convertCoding((org.hl7.fhir.dstu2016may.model.Coding) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Count)
-      return Count14_30.convertCount((org.hl7.fhir.dstu2016may.model.Count) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Distance)
-      return Distance14_30.convertDistance((org.hl7.fhir.dstu2016may.model.Distance) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Duration)
-      return Duration14_30.convertDuration((org.hl7.fhir.dstu2016may.model.Duration) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Identifier)
-      return Identifier14_30.convertIdentifier((org.hl7.fhir.dstu2016may.model.Identifier) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Money)
-      return Money14_30.convertMoney((org.hl7.fhir.dstu2016may.model.Money) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Period)
-      return Period14_30.convertPeriod((org.hl7.fhir.dstu2016may.model.Period) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Quantity)
-      return Quantity14_30.convertQuantity((org.hl7.fhir.dstu2016may.model.Quantity) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Range)
-      return Range14_30.convertRange((org.hl7.fhir.dstu2016may.model.Range) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Ratio)
-      return Ratio14_30.convertRatio((org.hl7.fhir.dstu2016may.model.Ratio) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Reference)
-      return Reference14_30.convertReference((org.hl7.fhir.dstu2016may.model.Reference) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.SampledData)
-      return SampledData14_30.convertSampledData((org.hl7.fhir.dstu2016may.model.SampledData) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Signature)
-      return Signature14_30.convertSignature((org.hl7.fhir.dstu2016may.model.Signature) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Address)
-      return Address14_30.convertAddress((org.hl7.fhir.dstu2016may.model.Address) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ContactPoint)
-      return ContactPoint14_30.convertContactPoint((org.hl7.fhir.dstu2016may.model.ContactPoint) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ElementDefinition)
-      return ElementDefinition14_30.convertElementDefinition((org.hl7.fhir.dstu2016may.model.ElementDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.HumanName)
-      return HumanName14_30.convertHumanName((org.hl7.fhir.dstu2016may.model.HumanName) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Meta)
-      return Meta14_30.convertMeta((org.hl7.fhir.dstu2016may.model.Meta) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Timing)
-      return Timing14_30.convertTiming((org.hl7.fhir.dstu2016may.model.Timing) src);
+    BiFunction<BaseAdvisor_14_30, org.hl7.fhir.dstu2016may.model.Type, org.hl7.fhir.dstu3.model.Type> convertor = R2B_TO_R3.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The type " + src.fhirType()+" cannot be converted from R2B to R3");
     } else {
@@ -142,87 +153,8 @@ public class Type14_30 {
 
   public org.hl7.fhir.dstu2016may.model.Type convertType(org.hl7.fhir.dstu3.model.Type src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu3.model.Base64BinaryType)
-      return Base64Binary14_30.convertBase64Binary((org.hl7.fhir.dstu3.model.Base64BinaryType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.BooleanType)
-      return Boolean14_30.convertBoolean((org.hl7.fhir.dstu3.model.BooleanType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CodeType)
-      return Code14_30.convertCode((org.hl7.fhir.dstu3.model.CodeType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DateType)
-      return Date14_30.convertDate((org.hl7.fhir.dstu3.model.DateType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DateTimeType)
-      return DateTime14_30.convertDateTime((org.hl7.fhir.dstu3.model.DateTimeType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DecimalType)
-      return Decimal14_30.convertDecimal((org.hl7.fhir.dstu3.model.DecimalType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.IdType) return Id14_30.convertId((org.hl7.fhir.dstu3.model.IdType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.InstantType)
-      return Instant14_30.convertInstant((org.hl7.fhir.dstu3.model.InstantType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.MarkdownType)
-      return MarkDown14_30.convertMarkdown((org.hl7.fhir.dstu3.model.MarkdownType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.OidType)
-      return Oid14_30.convertOid((org.hl7.fhir.dstu3.model.OidType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.PositiveIntType)
-      return PositiveInt14_30.convertPositiveInt((org.hl7.fhir.dstu3.model.PositiveIntType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.StringType)
-      return String14_30.convertString((org.hl7.fhir.dstu3.model.StringType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.TimeType)
-      return Time14_30.convertTime((org.hl7.fhir.dstu3.model.TimeType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.UnsignedIntType)
-      return UnsignedInt14_30.convertUnsignedInt((org.hl7.fhir.dstu3.model.UnsignedIntType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.IntegerType)
-      return Integer14_30.convertInteger((org.hl7.fhir.dstu3.model.IntegerType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.UuidType)
-      return Uuid14_30.convertUuid((org.hl7.fhir.dstu3.model.UuidType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.UriType)
-      return Uri14_30.convertUri((org.hl7.fhir.dstu3.model.UriType) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Extension)
-      return Extension14_30.convertExtension((org.hl7.fhir.dstu3.model.Extension) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Narrative)
-      return Narrative14_30.convertNarrative((org.hl7.fhir.dstu3.model.Narrative) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Age) return Age14_30.convertAge((org.hl7.fhir.dstu3.model.Age) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Annotation)
-      return Annotation14_30.convertAnnotation((org.hl7.fhir.dstu3.model.Annotation) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Attachment)
-      return Attachment14_30.convertAttachment((org.hl7.fhir.dstu3.model.Attachment) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CodeableConcept)
-      return CodeableConcept14_30.convertCodeableConcept((org.hl7.fhir.dstu3.model.CodeableConcept) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Coding)
-      return Code14_30.convertCoding((org.hl7.fhir.dstu3.model.Coding) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Count)
-      return Count14_30.convertCount((org.hl7.fhir.dstu3.model.Count) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Distance)
-      return Distance14_30.convertDistance((org.hl7.fhir.dstu3.model.Distance) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Duration)
-      return Duration14_30.convertDuration((org.hl7.fhir.dstu3.model.Duration) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Identifier)
-      return Identifier14_30.convertIdentifier((org.hl7.fhir.dstu3.model.Identifier) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Money)
-      return Money14_30.convertMoney((org.hl7.fhir.dstu3.model.Money) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Period)
-      return Period14_30.convertPeriod((org.hl7.fhir.dstu3.model.Period) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Quantity)
-      return Quantity14_30.convertQuantity((org.hl7.fhir.dstu3.model.Quantity) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Range)
-      return Range14_30.convertRange((org.hl7.fhir.dstu3.model.Range) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Ratio)
-      return Ratio14_30.convertRatio((org.hl7.fhir.dstu3.model.Ratio) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Reference)
-      return Reference14_30.convertReference((org.hl7.fhir.dstu3.model.Reference) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.SampledData)
-      return SampledData14_30.convertSampledData((org.hl7.fhir.dstu3.model.SampledData) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Signature)
-      return Signature14_30.convertSignature((org.hl7.fhir.dstu3.model.Signature) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Address)
-      return Address14_30.convertAddress((org.hl7.fhir.dstu3.model.Address) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ContactPoint)
-      return ContactPoint14_30.convertContactPoint((org.hl7.fhir.dstu3.model.ContactPoint) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ElementDefinition)
-      return ElementDefinition14_30.convertElementDefinition((org.hl7.fhir.dstu3.model.ElementDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.HumanName)
-      return HumanName14_30.convertHumanName((org.hl7.fhir.dstu3.model.HumanName) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Meta) return Meta14_30.convertMeta((org.hl7.fhir.dstu3.model.Meta) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Timing)
-      return Timing14_30.convertTiming((org.hl7.fhir.dstu3.model.Timing) src);
+    BiFunction<BaseAdvisor_14_30, org.hl7.fhir.dstu3.model.Type, org.hl7.fhir.dstu2016may.model.Type> convertor = R3_TO_R2B.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The type " + src.fhirType()+" cannot be converted from R3 to R2B");
     } else {
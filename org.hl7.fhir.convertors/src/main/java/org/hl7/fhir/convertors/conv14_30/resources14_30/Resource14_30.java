@@ -1,7 +1,9 @@
 package org.hl7.fhir.convertors.conv14_30.resources14_30;
 
 import java.util.Arrays;
+import java.util.function.BiFunction;
 
+import org.hl7.fhir.convertors.ConvertorDispatchTable;
 import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_14_30;
 import org.hl7.fhir.convertors.context.ConversionContext14_30;
 import org.hl7.fhir.convertors.conv14_30.datatypes14_30.Extension14_30;
@@ -11,6 +13,46 @@ import org.hl7.fhir.exceptions.FHIRException;
 
 public class Resource14_30 {
 
+  private static final ConvertorDispatchTable<BaseAdvisor_14_30, org.hl7.fhir.dstu2016may.model.Resource, org.hl7.fhir.dstu3.model.Resource> R2B_TO_R3 =
+    new ConvertorDispatchTable<BaseAdvisor_14_30, org.hl7.fhir.dstu2016may.model.Resource, org.hl7.fhir.dstu3.model.Resource>()
+      .add(org.hl7.fhir.dstu2016may.model.Parameters.class, Parameters14_30::convertParameters)
+      .add(org.hl7.fhir.dstu2016may.model.Bundle.class, Bundle14_30::convertBundle)
+      .add(org.hl7.fhir.dstu2016may.model.CodeSystem.class, CodeSystem14_30::convertCodeSystem)
+      .add(org.hl7.fhir.dstu2016may.model.CompartmentDefinition.class, CompartmentDefinition14_30::convertCompartmentDefinition)
+      .add(org.hl7.fhir.dstu2016may.model.ConceptMap.class, ConceptMap14_30::convertConceptMap)
+      .add(org.hl7.fhir.dstu2016may.model.Conformance.class, Conformance14_30::convertConformance)
+      .add(org.hl7.fhir.dstu2016may.model.DataElement.class, DataElement14_30::convertDataElement)
+      .add(org.hl7.fhir.dstu2016may.model.ImplementationGuide.class, ImplementationGuide14_30::convertImplementationGuide)
+      .add(org.hl7.fhir.dstu2016may.model.NamingSystem.class, NamingSystem14_30::convertNamingSystem)
+      .add(org.hl7.fhir.dstu2016may.model.OperationDefinition.class, OperationDefinition14_30::convertOperationDefinition)
+      .add(org.hl7.fhir.dstu2016may.model.OperationOutcome.class, OperationOutcome14_30::convertOperationOutcome)
+      .add(org.hl7.fhir.dstu2016may.model.Questionnaire.class, Questionnaire14_30::convertQuestionnaire)
+      .add(org.hl7.fhir.dstu2016may.model.QuestionnaireResponse.class, QuestionnaireResponse14_30::convertQuestionnaireResponse)
+      .add(org.hl7.fhir.dstu2016may.model.SearchParameter.class, SearchParameter14_30::convertSearchParameter)
+      .add(org.hl7.fhir.dstu2016may.model.StructureDefinition.class, StructureDefinition14_30::convertStructureDefinition)
+      .add(org.hl7.fhir.dstu2016may.model.TestScript.class, TestScript14_30::convertTestScript)
+      .add(org.hl7.fhir.dstu2016may.model.ValueSet.class, ValueSet14_30::convertValueSet);
+
+  private static final ConvertorDispatchTable<BaseAdvisor_14_30, org.hl7.fhir.dstu3.model.Resource, org.hl7.fhir.dstu2016may.model.Resource> R3_TO_R2B =
+    new ConvertorDispatchTable<BaseAdvisor_14_30, org.hl7.fhir.dstu3.model.Resource, org.hl7.fhir.dstu2016may.model.Resource>()
+      .add(org.hl7.fhir.dstu3.model.Parameters.class, Parameters14_30::convertParameters)
+      .add(org.hl7.fhir.dstu3.model.Bundle.class, Bundle14_30::convertBundle)
+      .add(org.hl7.fhir.dstu3.model.CodeSystem.class, CodeSystem14_30::convertCodeSystem)
+      .add(org.hl7.fhir.dstu3.model.CompartmentDefinition.class, CompartmentDefinition14_30::convertCompartmentDefinition)
+      .add(org.hl7.fhir.dstu3.model.ConceptMap.class, ConceptMap14_30::convertConceptMap)
+      .add(org.hl7.fhir.dstu3.model.CapabilityStatement.class, Conformance14_30::convertConformance)
+      .add(org.hl7.fhir.dstu3.model.DataElement.class, DataElement14_30::convertDataElement)
+      .add(org.hl7.fhir.dstu3.model.ImplementationGuide.class, ImplementationGuide14_30::convertImplementationGuide)
+      .add(org.hl7.fhir.dstu3.model.NamingSystem.class, NamingSystem14_30::convertNamingSystem)
+      .add(org.hl7.fhir.dstu3.model.OperationDefinition.class, OperationDefinition14_30::convertOperationDefinition)
+      .add(org.hl7.fhir.dstu3.model.OperationOutcome.class, OperationOutcome14_30::convertOperationOutcome)
+      .add(org.hl7.fhir.dstu3.model.Questionnaire.class, Questionnaire14_30::convertQuestionnaire)
+      .add(org.hl7.fhir.dstu3.model.QuestionnaireResponse.class, QuestionnaireResponse14_30::convertQuestionnaireResponse)
+      .add(org.hl7.fhir.dstu3.model.SearchParameter.class, SearchParameter14_30::convertSearchParameter)
+      .add(org.hl7.fhir.dstu3.model.StructureDefinition.class, StructureDefinition14_30::convertStructureDefinition)
+      .add(org.hl7.fhir.dstu3.model.TestScript.class, TestScript14_30::convertTestScript)
+      .add(org.hl7.fhir.dstu3.model.ValueSet.class, ValueSet14_30::convertValueSet);
+
   public final BaseAdvisor_14_30 advisor;
 
   public Resource14_30(BaseAdvisor_14_30 advisor) {
@@ -33,40 +75,8 @@ public class Resource14_30 {
 
   public org.hl7.fhir.dstu3.model.Resource convertResource(org.hl7.fhir.dstu2016may.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Parameters)
-      return Parameters14_30.convertParameters((org.hl7.fhir.dstu2016may.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Bundle)
-      return Bundle14_30.convertBundle((org.hl7.fhir.dstu2016may.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeSystem)
-      return CodeSystem14_30.convertCodeSystem((org.hl7.fhir.dstu2016may.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CompartmentDefinition)
-      return CompartmentDefinition14_30.convertCompartmentDefinition((org.hl7.fhir.dstu2016may.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ConceptMap)
-      return ConceptMap14_30.convertConceptMap((org.hl7.fhir.dstu2016may.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Conformance)
-      return Conformance14_30.convertConformance((org.hl7.fhir.dstu2016may.model.Conformance) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DataElement)
-      return DataElement14_30.convertDataElement((org.hl7.fhir.dstu2016may.model.DataElement) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ImplementationGuide)
-      return ImplementationGuide14_30.convertImplementationGuide((org.hl7.fhir.dstu2016may.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.NamingSystem)
-      return NamingSystem14_30.convertNamingSystem((org.hl7.fhir.dstu2016may.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OperationDefinition)
-      return OperationDefinition14_30.convertOperationDefinition((org.hl7.fhir.dstu2016may.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OperationOutcome)
-      return OperationOutcome14_30.convertOperationOutcome((org.hl7.fhir.dstu2016may.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Questionnaire)
-      return Questionnaire14_30.convertQuestionnaire((org.hl7.fhir.dstu2016may.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.QuestionnaireResponse)
-      return QuestionnaireResponse14_30.convertQuestionnaireResponse((org.hl7.fhir.dstu2016may.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.SearchParameter)
-      return SearchParameter14_30.convertSearchParameter((org.hl7.fhir.dstu2016may.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StructureDefinition)
-      return StructureDefinition14_30.convertStructureDefinition((org.hl7.fhir.dstu2016may.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.TestScript)
-      return TestScript14_30.convertTestScript((org.hl7.fhir.dstu2016may.model.TestScript) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ValueSet)
-      return ValueSet14_30.convertValueSet((org.hl7.fhir.dstu2016may.model.ValueSet) src);
+    BiFunction<BaseAdvisor_14_30, org.hl7.fhir.dstu2016may.model.Resource, org.hl7.fhir.dstu3.model.Resource> convertor = R2B_TO_R3.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R2B to R3");
     } else {
@@ -76,40 +86,8 @@ public class Resource14_30 {
 
   public org.hl7.fhir.dstu2016may.model.Resource convertResource(org.hl7.fhir.dstu3.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu3.model.Parameters)
-      return Parameters14_30.convertParameters((org.hl7.fhir.dstu3.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Bundle)
-      return Bundle14_30.convertBundle((org.hl7.fhir.dstu3.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CodeSystem)
-      return CodeSystem14_30.convertCodeSystem((org.hl7.fhir.dstu3.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CompartmentDefinition)
-      return CompartmentDefinition14_30.convertCompartmentDefinition((org.hl7.fhir.dstu3.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ConceptMap)
-      return ConceptMap14_30.convertConceptMap((org.hl7.fhir.dstu3.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CapabilityStatement)
-      return Conformance14_30.convertConformance((org.hl7.fhir.dstu3.model.CapabilityStatement) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DataElement)
-      return DataElement14_30.convertDataElement((org.hl7.fhir.dstu3.model.DataElement) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ImplementationGuide)
-      return ImplementationGuide14_30.convertImplementationGuide((org.hl7.fhir.dstu3.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.NamingSystem)
-      return NamingSystem14_30.convertNamingSystem((org.hl7.fhir.dstu3.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.OperationDefinition)
-      return OperationDefinition14_30.convertOperationDefinition((org.hl7.fhir.dstu3.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.OperationOutcome)
-      return OperationOutcome14_30.convertOperationOutcome((org.hl7.fhir.dstu3.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Questionnaire)
-      return Questionnaire14_30.convertQuestionnaire((org.hl7.fhir.dstu3.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.QuestionnaireResponse)
-      return QuestionnaireResponse14_30.convertQuestionnaireResponse((org.hl7.fhir.dstu3.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.SearchParameter)
-      return SearchParameter14_30.convertSearchParameter((org.hl7.fhir.dstu3.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.StructureDefinition)
-      return StructureDefinition14_30.convertStructureDefinition((org.hl7.fhir.dstu3.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.TestScript)
-      return TestScript14_30.convertTestScript((org.hl7.fhir.dstu3.model.TestScript) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ValueSet)
-      return ValueSet14_30.convertValueSet((org.hl7.fhir.dstu3.model.ValueSet) src);
+    BiFunction<BaseAdvisor_14_30, org.hl7.fhir.dstu3.model.Resource, org.hl7.fhir.dstu2016may.model.Resource> convertor = R3_TO_R2B.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R3 to R2B");
     } else {
@@ -1,5 +1,8 @@
 package org.hl7.fhir.convertors.conv14_40.datatypes14_40;
 
+import java.util.function.BiFunction;
+
+import org.hl7.fhir.convertors.ConvertorDispatchTable;
 import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_14_40;
 import org.hl7.fhir.convertors.conv14_40.datatypes14_40.complextypes14_40.Address14_40;
 import org.hl7.fhir.convertors.conv14_40.datatypes14_40.complextypes14_40.Age14_40;
@@ -42,6 +45,94 @@ import org.hl7.fhir.exceptions.FHIRException;
 
 public class Type14_40 {
 
+  private static final ConvertorDispatchTable<BaseAdvisor_14_40, org.hl7.fhir.dstu2016may.model.Type, org.hl7.fhir.r4.model.Type> R2B_TO_R4 =
+    new ConvertorDispatchTable<BaseAdvisor_14_40, org.hl7.fhir.dstu2016may.model.Type, org.hl7.fhir.r4.model.Type>()
+      .add(org.hl7.fhir.dstu2016may.model.Base64BinaryType.class, Base64Binary14_40::convertBase64Binary)
+      .add(org.hl7.fhir.dstu2016may.model.BooleanType.class, Boolean14_40::convertBoolean)
+      .add(org.hl7.fhir.dstu2016may.model.CodeType.class, Code14_40::convertCode)
+      .add(org.hl7.fhir.dstu2016may.model.DateType.class, Date14_40::convertDate)
+      .add(org.hl7.fhir.dstu2016may.model.DateTimeType.class, DateTime14_40::convertDateTime)
+      .add(org.hl7.fhir.dstu2016may.model.DecimalType.class, Decimal14_40::convertDecimal)
+      .add(org.hl7.fhir.dstu2016may.model.IdType.class, Id14_40::convertId)
+      .add(org.hl7.fhir.dstu2016may.model.InstantType.class, Instant14_40::convertInstant)
+      .add(org.hl7.fhir.dstu2016may.model.MarkdownType.class, MarkDown14_40::convertMarkdown)
+      .add(org.hl7.fhir.dstu2016may.model.OidType.class, Oid14_40::convertOid)
+      .add(org.hl7.fhir.dstu2016may.model.PositiveIntType.class, PositiveInt14_40::convertPositiveInt)
+      .add(org.hl7.fhir.dstu2016may.model.StringType.class, String14_40::convertString)
+      .add(org.hl7.fhir.dstu2016may.model.TimeType.class, Time14_40::convertTime)
+      .add(org.hl7.fhir.dstu2016may.model.UnsignedIntType.class, UnsignedInt14_40::convertUnsignedInt)
+      .add(org.hl7.fhir.dstu2016may.model.IntegerType.class, Integer14_40::convertInteger)
+      .add(org.hl7.fhir.dstu2016may.model.UuidType.class, Uuid14_40::convertUuid)
+      .add(org.hl7.fhir.dstu2016may.model.UriType.class, Uri14_40::convertUri)
+      .add(org.hl7.fhir.dstu2016may.model.Extension.class, Extension14_40::convertExtension)
+      .add(org.hl7.fhir.dstu2016may.model.Narrative.class, Narrative14_40::convertNarrative)
+      .add(org.hl7.fhir.dstu2016may.model.Age.class, Age14_40::convertAge)
+      .add(org.hl7.fhir.dstu2016may.model.Annotation.class, Annotation14_40::convertAnnotation)
+      .add(org.hl7.fhir.dstu2016may.model.Attachment.class, Attachment14_40::convertAttachment)
+      .add(org.hl7.fhir.dstu2016may.model.CodeableConcept.class, CodeableConcept14_40::convertCodeableConcept)
+      .add(org.hl7.fhir.dstu2016may.model.Coding.class, Coding14_40::convertCoding)
+      .add(org.hl7.fhir.dstu2016may.model.Count.class, Count14_40::convertCount)
+      .add(org.hl7.fhir.dstu2016may.model.Distance.class, Distance14_40::convertDistance)
+      .add(org.hl7.fhir.dstu2016may.model.Duration.class, Duration14_40::convertDuration)
+      .add(org.hl7.fhir.dstu2016may.model.Identifier.class, Identifier14_40::convertIdentifier)
+      .add(org.hl7.fhir.dstu2016may.model.Money.class, Money14_40::convertMoney)
+      .add(org.hl7.fhir.dstu2016may.model.Period.class, Period14_40::convertPeriod)
+      .add(org.hl7.fhir.dstu2016may.model.Quantity.class, Quantity14_40::convertQuantity)
+      .add(org.hl7.fhir.dstu2016may.model.Range.class, Range14_40::convertRange)
+      .add(org.hl7.fhir.dstu2016may.model.Ratio.class, Ratio14_40::convertRatio)
+      .add(org.hl7.fhir.dstu2016may.model.Reference.class, Reference14_40::convertReference)
+      .add(org.hl7.fhir.dstu2016may.model.SampledData.class, SampledData14_40::convertSampledData)
+      .add(org.hl7.fhir.dstu2016may.model.Signature.class, Signature14_40::convertSignature)
+      .add(org.hl7.fhir.dstu2016may.model.Address.class, Address14_40::convertAddress)
+      .add(org.hl7.fhir.dstu2016may.model.ContactPoint.class, ContactPoint14_40::convertContactPoint)
+      .add(org.hl7.fhir.dstu2016may.model.HumanName.class, HumanName14_40::convertHumanName)
+      .add(org.hl7.fhir.dstu2016may.model.Meta.class, Meta14_40::convertMeta)
+      .add(org.hl7.fhir.dstu2016may.model.Timing.class, Timing14_40::convertTiming);
+
+  private static final ConvertorDispatchTable<BaseAdvisor_14_40, org.hl7.fhir.r4.model.Type, org.hl7.fhir.dstu2016may.model.Type> R4_TO_R2B =
+    new ConvertorDispatchTable<BaseAdvisor_14_40, org.hl7.fhir.r4.model.Type, org.hl7.fhir.dstu2016may.model.Type>()
+      .add(org.hl7.fhir.r4.model.Base64BinaryType.class, Base64Binary14_40::convertBase64Binary)
+      .add(org.hl7.fhir.r4.model.BooleanType.class, Boolean14_40::convertBoolean)
+      .add(org.hl7.fhir.r4.model.CodeType.class, Code14_40::convertCode)
+      .add(org.hl7.fhir.r4.model.DateType.class, Date14_40::convertDate)
+      .add(org.hl7.fhir.r4.model.DateTimeType.class, DateTime14_40::convertDateTime)
+      .add(org.hl7.fhir.r4.model.DecimalType.class, Decimal14_40::convertDecimal)
+      .add(org.hl7.fhir.r4.model.IdType.class, Id14_40::convertId)
+      .add(org.hl7.fhir.r4.model.InstantType.class, Instant14_40::convertInstant)
+      .add(org.hl7.fhir.r4.model.MarkdownType.class, MarkDown14_40::convertMarkdown)
+      .add(org.hl7.fhir.r4.model.OidType.class, Oid14_40::convertOid)
+      .add(org.hl7.fhir.r4.model.PositiveIntType.class, PositiveInt14_40::convertPositiveInt)
+      .add(org.hl7.fhir.r4.model.StringType.class, String14_40::convertString)
+      .add(org.hl7.fhir.r4.model.TimeType.class, Time14_40::convertTime)
+      .add(org.hl7.fhir.r4.model.UnsignedIntType.class, UnsignedInt14_40::convertUnsignedInt)
+      .add(org.hl7.fhir.r4.model.IntegerType.class, Integer14_40::convertInteger)
+      .add(org.hl7.fhir.r4.model.UuidType.class, Uuid14_40::convertUuid)
+      .add(org.hl7.fhir.r4.model.UriType.class, Uri14_40::convertUri)
+      .add(org.hl7.fhir.r4.model.Extension.class, Extension14_40::convertExtension)
+      .add(org.hl7.fhir.r4.model.Narrative.class, Narrative14_40::convertNarrative)
+      .add(org.hl7.fhir.r4.model.Age.class, Age14_40::convertAge)
+      .add(org.hl7.fhir.r4.model.Annotation.class, Annotation14_40::convertAnnotation)
+      .add(org.hl7.fhir.r4.model.Attachment.class, Attachment14_40::convertAttachment)
+      .add(org.hl7.fhir.r4.model.CodeableConcept.class, CodeableConcept14_40::convertCodeableConcept)
+      .add(org.hl7.fhir.r4.model.Coding.class, Coding14_40::convertCoding)
+      .add(org.hl7.fhir.r4.model.Count.class, Count14_40::convertCount)
+      .add(org.hl7.fhir.r4.model.Distance.class, Distance14_40::convertDistance)
+      .add(org.hl7.fhir.r4.model.Duration.class, Duration14_40::convertDuration)
+      .add(org.hl7.fhir.r4.model.Identifier.class, Identifier14_40::convertIdentifier)
+      .add(org.hl7.fhir.r4.model.Money.class, Money14_40::convertMoney)
+      .add(org.hl7.fhir.r4.model.Period.class, Period14_40::convertPeriod)
+      .add(org.hl7.fhir.r4.model.Quantity.class, Quantity14_40::convertQuantity)
+      .add(org.hl7.fhir.r4.model.Range.class, Range14_40::convertRange)
+      .add(org.hl7.fhir.r4.model.Ratio.class, Ratio14_40::convertRatio)
+      .add(org.hl7.fhir.r4.model.Reference.class, Reference14_40::convertReference)
+      .add(org.hl7.fhir.r4.model.SampledData.class, SampledData14_40::convertSampledData)
+      .add(org.hl7.fhir.r4.model.Signature.class, Signature14_40::convertSignature)
+      .add(org.hl7.fhir.r4.model.Address.class, Address14_40::convertAddress)
+      .add(org.hl7.fhir.r4.model.ContactPoint.class, ContactPoint14_40::convertContactPoint)
+      .add(org.hl7.fhir.r4.model.HumanName.class, HumanName14_40::convertHumanName)
+      .add(org.hl7.fhir.r4.model.Meta.class, Meta14_40::convertMeta)
+      .add(org.hl7.fhir.r4.model.Timing.class, Timing14_40::convertTiming);
+
   private final BaseAdvisor_14_40 advisor;
 
   public Type14_40(BaseAdvisor_14_40 advisor) {
@@ -50,88 +141,8 @@ public class Type14_40 {
 
   public org.hl7.fhir.r4.model.Type convertType(org.hl7.fhir.dstu2016may.model.Type src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Base64BinaryType)
-      return Base64Binary14_40.convertBase64Binary((org.hl7.fhir.dstu2016may.model.Base64BinaryType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.BooleanType)
-      return Boolean14_40.convertBoolean((org.hl7.fhir.dstu2016may.model.BooleanType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeType)
-      return Code14_40.convertCode((org.hl7.fhir.dstu2016may.model.CodeType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DateType)
-      return Date14_40.convertDate((org.hl7.fhir.dstu2016may.model.DateType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DateTimeType)
-      return DateTime14_40.convertDateTime((org.hl7.fhir.dstu2016may.model.DateTimeType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DecimalType)
-      return Decimal14_40.convertDecimal((org.hl7.fhir.dstu2016may.model.DecimalType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.IdType)
-      return Id14_40.convertId((org.hl7.fhir.dstu2016may.model.IdType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.InstantType)
-      return Instant14_40.convertInstant((org.hl7.fhir.dstu2016may.model.InstantType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.MarkdownType)
-      return MarkDown14_40.convertMarkdown((org.hl7.fhir.dstu2016may.model.MarkdownType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OidType)
-      return Oid14_40.convertOid((org.hl7.fhir.dstu2016may.model.OidType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.PositiveIntType)
-      return PositiveInt14_40.convertPositiveInt((org.hl7.fhir.dstu2016may.model.PositiveIntType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StringType)
-      return String14_40.convertString((org.hl7.fhir.dstu2016may.model.StringType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.TimeType)
-      return Time14_40.convertTime((org.hl7.fhir.dstu2016may.model.TimeType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.UnsignedIntType)
-      return UnsignedInt14_40.convertUnsignedInt((org.hl7.fhir.dstu2016may.model.UnsignedIntType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.IntegerType)
-      return Integer14_40.convertInteger((org.hl7.fhir.dstu2016may.model.IntegerType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.UuidType)
-      return Uuid14_40.convertUuid((org.hl7.fhir.dstu2016may.model.UuidType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.UriType)
-      return Uri14_40.convertUri((org.hl7.fhir.dstu2016may.model.UriType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Extension)
-      return Extension14_40.convertExtension((org.hl7.fhir.dstu2016may.model.Extension) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Narrative)
-      return Narrative14_40.convertNarrative((org.hl7.fhir.dstu2016may.model.Narrative) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Age)
-      return Age14_40.convertAge((org.hl7.fhir.dstu2016may.model.Age) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Annotation)
-      return Annotation14_40.convertAnnotation((org.hl7.fhir.dstu2016may.model.Annotation) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Attachment)
-      return Attachment14_40.convertAttachment((org.hl7.fhir.dstu2016may.model.Attachment) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeableConcept)
-      return CodeableConcept14_40.convertCodeableConcept((org.hl7.fhir.dstu2016may.model.CodeableConcept) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Coding)
-      return Coding14_40.convertCoding((org.hl7.fhir.dstu2016may.model.Coding) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Count)
-      return Count14_40.convertCount((org.hl7.fhir.dstu2016may.model.Count) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Distance)
-      return Distance14_40.convertDistance((org.hl7.fhir.dstu2016may.model.Distance) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Duration)
-      return Duration14_40.convertDuration((org.hl7.fhir.dstu2016may.model.Duration) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Identifier)
-      return Identifier14_40.convertIdentifier((org.hl7.fhir.dstu2016may.model.Identifier) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Money)
-      return Money14_40.convertMoney((org.hl7.fhir.dstu2016may.model.Money) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Period)
-      return Period14_40.convertPeriod((org.hl7.fhir.dstu2016may.model.Period) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Quantity)
-      return Quantity14_40.convertQuantity((org.hl7.fhir.dstu2016may.model.Quantity) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Range)
-      return Range14_40.convertRange((org.hl7.fhir.dstu2016may.model.Range) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Ratio)
-      return Ratio14_40.convertRatio((org.hl7.fhir.dstu2016may.model.Ratio) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Reference)
-      return Reference14_40.convertReference((org.hl7.fhir.dstu2016may.model.Reference) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.SampledData)
-      return SampledData14_40.convertSampledData((org.hl7.fhir.dstu2016may.model.SampledData) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Signature)
-      return Signature14_40.convertSignature((org.hl7.fhir.dstu2016may.model.Signature) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Address)
-      return Address14_40.convertAddress((org.hl7.fhir.dstu2016may.model.Address) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ContactPoint)
-      return ContactPoint14_40.convertContactPoint((org.hl7.fhir.dstu2016may.model.ContactPoint) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.HumanName)
-      return HumanName14_40.convertHumanName((org.hl7.fhir.dstu2016may.model.HumanName) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Meta)
-      return Meta14_40.convertMeta((org.hl7.fhir.dstu2016may.model.Meta) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Timing)
-      return Timing14_40.convertTiming((org.hl7.fhir.dstu2016may.model.Timing) src);
+    BiFunction<BaseAdvisor_14_40, org.hl7.fhir.dstu2016may.model.Type, org.hl7.fhir.r4.model.Type> convertor = R2B_TO_R4.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The type " + src.fhirType()+" cannot be converted from R2B to R4");
     } else {
@@ -141,79 +152,8 @@ public class Type14_40 {
 
   public org.hl7.fhir.dstu2016may.model.Type convertType(org.hl7.fhir.r4.model.Type src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.r4.model.Base64BinaryType)
-      return Base64Binary14_40.convertBase64Binary((org.hl7.fhir.r4.model.Base64BinaryType) src);
-    if (src instanceof org.hl7.fhir.r4.model.BooleanType)
-      return Boolean14_40.convertBoolean((org.hl7.fhir.r4.model.BooleanType) src);
-    if (src instanceof org.hl7.fhir.r4.model.CodeType)
-      return Code14_40.convertCode((org.hl7.fhir.r4.model.CodeType) src);
-    if (src instanceof org.hl7.fhir.r4.model.DateType)
-      return Date14_40.convertDate((org.hl7.fhir.r4.model.DateType) src);
-    if (src instanceof org.hl7.fhir.r4.model.DateTimeType)
-      return DateTime14_40.convertDateTime((org.hl7.fhir.r4.model.DateTimeType) src);
-    if (src instanceof org.hl7.fhir.r4.model.DecimalType)
-      return Decimal14_40.convertDecimal((org.hl7.fhir.r4.model.DecimalType) src);
-    if (src instanceof org.hl7.fhir.r4.model.IdType) return Id14_40.convertId((org.hl7.fhir.r4.model.IdType) src);
-    if (src instanceof org.hl7.fhir.r4.model.InstantType)
-      return Instant14_40.convertInstant((org.hl7.fhir.r4.model.InstantType) src);
-    if (src instanceof org.hl7.fhir.r4.model.MarkdownType)
-      return MarkDown14_40.convertMarkdown((org.hl7.fhir.r4.model.MarkdownType) src);
-    if (src instanceof org.hl7.fhir.r4.model.OidType) return Oid14_40.convertOid((org.hl7.fhir.r4.model.OidType) src);
-    if (src instanceof org.hl7.fhir.r4.model.PositiveIntType)
-      return PositiveInt14_40.convertPositiveInt((org.hl7.fhir.r4.model.PositiveIntType) src);
-    if (src instanceof org.hl7.fhir.r4.model.StringType)
-      return String14_40.convertString((org.hl7.fhir.r4.model.StringType) src);
-    if (src instanceof org.hl7.fhir.r4.model.TimeType)
-      return Time14_40.convertTime((org.hl7.fhir.r4.model.TimeType) src);
-    if (src instanceof org.hl7.fhir.r4.model.UnsignedIntType)
-      return UnsignedInt14_40.convertUnsignedInt((org.hl7.fhir.r4.model.UnsignedIntType) src);
-    if (src instanceof org.hl7.fhir.r4.model.IntegerType)
-      return Integer14_40.convertInteger((org.hl7.fhir.r4.model.IntegerType) src);
-    if (src instanceof org.hl7.fhir.r4.model.UuidType)
-      return Uuid14_40.convertUuid((org.hl7.fhir.r4.model.UuidType) src);
-    if (src instanceof org.hl7.fhir.r4.model.UriType) return Uri14_40.convertUri((org.hl7.fhir.r4.model.UriType) src);
-    if (src instanceof org.hl7.fhir.r4.model.Extension)
-      return Extension14_40.convertExtension((org.hl7.fhir.r4.model.Extension) src);
-    if (src instanceof org.hl7.fhir.r4.model.Narrative)
-      return Narrative14_40.convertNarrative((org.hl7.fhir.r4.model.Narrative) src);
-    if (src instanceof org.hl7.fhir.r4.model.Age) return Age14_40.convertAge((org.hl7.fhir.r4.model.Age) src);
-    if (src instanceof org.hl7.fhir.r4.model.Annotation)
-      return Annotation14_40.convertAnnotation((org.hl7.fhir.r4.model.Annotation) src);
-    if (src instanceof org.hl7.fhir.r4.model.Attachment)
-      return Attachment14_40.convertAttachment((org.hl7.fhir.r4.model.Attachment) src);
-    if (src instanceof org.hl7.fhir.r4.model.CodeableConcept)
-      return CodeableConcept14_40.convertCodeableConcept((org.hl7.fhir.r4.model.CodeableConcept) src);
-    if (src instanceof org.hl7.fhir.r4.model.Coding)
-      return Coding14_40.convertCoding((org.hl7.fhir.r4.model.Coding) src);
-    if (src instanceof org.hl7.fhir.r4.model.Count) return Count14_40.convertCount((org.hl7.fhir.r4.model.Count) src);
-    if (src instanceof org.hl7.fhir.r4.model.Distance)
-      return Distance14_40.convertDistance((org.hl7.fhir.r4.model.Distance) src);
-    if (src instanceof org.hl7.fhir.r4.model.Duration)
-      return Duration14_40.convertDuration((org.hl7.fhir.r4.model.Duration) src);
-    if (src instanceof org.hl7.fhir.r4.model.Identifier)
-      return Identifier14_40.convertIdentifier((org.hl7.fhir.r4.model.Identifier) src);
-    if (src instanceof org.hl7.fhir.r4.model.Money) return Money14_40.convertMoney((org.hl7.fhir.r4.model.Money) src);
-    if (src instanceof org.hl7.fhir.r4.model.Period)
-      return Period14_40.convertPeriod((org.hl7.fhir.r4.model.Period) src);
-    if (src instanceof org.hl7.fhir.r4.model.Quantity)
-      return Quantity14_40.convertQuantity((org.hl7.fhir.r4.model.Quantity) src);
-    if (src instanceof org.hl7.fhir.r4.model.Range) return Range14_40.convertRange((org.hl7.fhir.r4.model.Range) src);
-    if (src instanceof org.hl7.fhir.r4.model.Ratio) return Ratio14_40.convertRatio((org.hl7.fhir.r4.model.Ratio) src);
-    if (src instanceof org.hl7.fhir.r4.model.Reference)
-      return Reference14_40.convertReference((org.hl7.fhir.r4.model.Reference) src);
-    if (src instanceof org.hl7.fhir.r4.model.SampledData)
-      return SampledData14_40.convertSampledData((org.hl7.fhir.r4.model.SampledData) src);
-    if (src instanceof org.hl7.fhir.r4.model.Signature)
-      return Signature14_40.convertSignature((org.hl7.fhir.r4.model.Signature) src);
-    if (src instanceof org.hl7.fhir.r4.model.Address)
-      return Address14_40.convertAddress((org.hl7.fhir.r4.model.Address) src);
-    if (src instanceof org.hl7.fhir.r4.model.ContactPoint)
-      return ContactPoint14_40.convertContactPoint((org.hl7.fhir.r4.model.ContactPoint) src);
-    if (src instanceof org.hl7.fhir.r4.model.HumanName)
-      return HumanName14_40.convertHumanName((org.hl7.fhir.r4.model.HumanName) src);
-    if (src instanceof org.hl7.fhir.r4.model.Meta) return Meta14_40.convertMeta((org.hl7.fhir.r4.model.Meta) src);
-    if (src instanceof org.hl7.fhir.r4.model.Timing)
-      return Timing14_40.convertTiming((org.hl7.fhir.r4.model.Timing) src);
+    BiFunction<BaseAdvisor_14_40, org.hl7.fhir.r4.model.Type, org.hl7.fhir.dstu2016may.model.Type> convertor = R4_TO_R2B.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The type " + src.fhirType()+" cannot be converted from R4 to R2B");
     } else {
@@ -1,7 +1,9 @@
 package org.hl7.fhir.convertors.conv14_40.resources14_40;
 
 import java.util.Arrays;
+import java.util.function.BiFunction;
 
+import org.hl7.fhir.convertors.ConvertorDispatchTable;
 import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_14_40;
 import org.hl7.fhir.convertors.context.ConversionContext14_40;
 import org.hl7.fhir.convertors.conv14_40.datatypes14_40.Extension14_40;
@@ -11,6 +13,45 @@ import org.hl7.fhir.exceptions.FHIRException;
 
 public class Resource14_40 {
 
+  private static final ConvertorDispatchTable<BaseAdvisor_14_40, org.hl7.fhir.dstu2016may.model.Resource, org.hl7.fhir.r4.model.Resource> R2B_TO_R4 =
+    new ConvertorDispatchTable<BaseAdvisor_14_40, org.hl7.fhir.dstu2016may.model.Resource, org.hl7.fhir.r4.model.Resource>()
+      .add(org.hl7.fhir.dstu2016may.model.Parameters.class, Parameters14_40::convertParameters)
+      .add(org.hl7.fhir.dstu2016may.model.Bundle.class, Bundle14_40::convertBundle)
+      .add(org.hl7.fhir.dstu2016may.model.CodeSystem.class, CodeSystem14_40::convertCodeSystem)
+      .add(org.hl7.fhir.dstu2016may.model.CompartmentDefinition.class, CompartmentDefinition14_40::convertCompartmentDefinition)
+      .add(org.hl7.fhir.dstu2016may.model.ConceptMap.class, ConceptMap14_40::convertConceptMap)
+      .add(org.hl7.fhir.dstu2016may.model.Conformance.class, Conformance14_40::convertConformance)
+      .add(org.hl7.fhir.dstu2016may.model.DataElement.class, DataElement14_40::convertDataElement)
+      .add(org.hl7.fhir.dstu2016may.model.ImplementationGuide.class, ImplementationGuide14_40::convertImplementationGuide)
+      .add(org.hl7.fhir.dstu2016may.model.NamingSystem.class, NamingSystem14_40::convertNamingSystem)
+      .add(org.hl7.fhir.dstu2016may.model.OperationDefinition.class, OperationDefinition14_40::convertOperationDefinition)
+      .add(org.hl7.fhir.dstu2016may.model.OperationOutcome.class, OperationOutcome14_40::convertOperationOutcome)
+      .add(org.hl7.fhir.dstu2016may.model.Questionnaire.class, Questionnaire14_40::convertQuestionnaire)
+      .add(org.hl7.fhir.dstu2016may.model.QuestionnaireResponse.class, QuestionnaireResponse14_40::convertQuestionnaireResponse)
+      .add(org.hl7.fhir.dstu2016may.model.SearchParameter.class, SearchParameter14_40::convertSearchParameter)
+      .add(org.hl7.fhir.dstu2016may.model.StructureDefinition.class, StructureDefinition14_40::convertStructureDefinition)
+      .add(org.hl7.fhir.dstu2016may.model.StructureMap.class, StructureMap14_40::convertStructureMap)
+      .add(org.hl7.fhir.dstu2016may.model.ValueSet.class, ValueSet14_40::convertValueSet);
+
+  private static final ConvertorDispatchTable<BaseAdvisor_14_40, org.hl7.fhir.r4.model.Resource, org.hl7.fhir.dstu2016may.model.Resource> R4_TO_R2B =
+    new ConvertorDispatchTable<BaseAdvisor_14_40, org.hl7.fhir.r4.model.Resource, org.hl7.fhir.dstu2016may.model.Resource>()
+      .add(org.hl7.fhir.r4.model.Parameters.class, Parameters14_40::convertParameters)
+      .add(org.hl7.fhir.r4.model.Bundle.class, Bundle14_40::convertBundle)
+      .add(org.hl7.fhir.r4.model.CodeSystem.class, CodeSystem14_40::convertCodeSystem)
+      .add(org.hl7.fhir.r4.model.CompartmentDefinition.class, CompartmentDefinition14_40::convertCompartmentDefinition)
+      .add(org.hl7.fhir.r4.model.ConceptMap.class, ConceptMap14_40::convertConceptMap)
+      .add(org.hl7.fhir.r4.model.CapabilityStatement.class, Conformance14_40::convertConformance)
+      .add(org.hl7.fhir.r4.model.ImplementationGuide.class, ImplementationGuide14_40::convertImplementationGuide)
+      .add(org.hl7.fhir.r4.model.NamingSystem.class, NamingSystem14_40::convertNamingSystem)
+      .add(org.hl7.fhir.r4.model.OperationDefinition.class, OperationDefinition14_40::convertOperationDefinition)
+      .add(org.hl7.fhir.r4.model.OperationOutcome.class, OperationOutcome14_40::convertOperationOutcome)
+      .add(org.hl7.fhir.r4.model.Questionnaire.class, Questionnaire14_40::convertQuestionnaire)
+      .add(org.hl7.fhir.r4.model.QuestionnaireResponse.class, QuestionnaireResponse14_40::convertQuestionnaireResponse)
+      .add(org.hl7.fhir.r4.model.SearchParameter.class, SearchParameter14_40::convertSearchParameter)
+      .add(org.hl7.fhir.r4.model.StructureDefinition.class, StructureDefinition14_40::convertStructureDefinition)
+      .add(org.hl7.fhir.r4.model.StructureMap.class, StructureMap14_40::convertStructureMap)
+      .add(org.hl7.fhir.r4.model.ValueSet.class, ValueSet14_40::convertValueSet);
+
   public final BaseAdvisor_14_40 advisor;
 
   public Resource14_40(BaseAdvisor_14_40 advisor) {
@@ -33,40 +74,8 @@ public class Resource14_40 {
 
   public org.hl7.fhir.r4.model.Resource convertResource(org.hl7.fhir.dstu2016may.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Parameters)
-      return Parameters14_40.convertParameters((org.hl7.fhir.dstu2016may.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Bundle)
-      return Bundle14_40.convertBundle((org.hl7.fhir.dstu2016may.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeSystem)
-      return CodeSystem14_40.convertCodeSystem((org.hl7.fhir.dstu2016may.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CompartmentDefinition)
-      return CompartmentDefinition14_40.convertCompartmentDefinition((org.hl7.fhir.dstu2016may.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ConceptMap)
-      return ConceptMap14_40.convertConceptMap((org.hl7.fhir.dstu2016may.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Conformance)
-      return Conformance14_40.convertConformance((org.hl7.fhir.dstu2016may.model.Conformance) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DataElement)
-      return DataElement14_40.convertDataElement((org.hl7.fhir.dstu2016may.model.DataElement) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ImplementationGuide)
-      return ImplementationGuide14_40.convertImplementationGuide((org.hl7.fhir.dstu2016may.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.NamingSystem)
-      return NamingSystem14_40.convertNamingSystem((org.hl7.fhir.dstu2016may.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OperationDefinition)
-      return OperationDefinition14_40.convertOperationDefinition((org.hl7.fhir.dstu2016may.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OperationOutcome)
-      return OperationOutcome14_40.convertOperationOutcome((org.hl7.fhir.dstu2016may.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Questionnaire)
-      return Questionnaire14_40.convertQuestionnaire((org.hl7.fhir.dstu2016may.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.QuestionnaireResponse)
-      return QuestionnaireResponse14_40.convertQuestionnaireResponse((org.hl7.fhir.dstu2016may.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.SearchParameter)
-      return SearchParameter14_40.convertSearchParameter((org.hl7.fhir.dstu2016may.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StructureDefinition)
-      return StructureDefinition14_40.convertStructureDefinition((org.hl7.fhir.dstu2016may.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StructureMap)
-      return StructureMap14_40.convertStructureMap((org.hl7.fhir.dstu2016may.model.StructureMap) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ValueSet)
-      return ValueSet14_40.convertValueSet((org.hl7.fhir.dstu2016may.model.ValueSet) src);
+    BiFunction<BaseAdvisor_14_40, org.hl7.fhir.dstu2016may.model.Resource, org.hl7.fhir.r4.model.Resource> convertor = R2B_TO_R4.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R2B to R4");
     } else {
@@ -76,38 +85,8 @@ public class Resource14_40 {
 
   public org.hl7.fhir.dstu2016may.model.Resource convertResource(org.hl7.fhir.r4.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.r4.model.Parameters)
-      return Parameters14_40.convertParameters((org.hl7.fhir.r4.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.r4.model.Bundle)
-      return Bundle14_40.convertBundle((org.hl7.fhir.r4.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.r4.model.CodeSystem)
-      return CodeSystem14_40.convertCodeSystem((org.hl7.fhir.r4.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.r4.model.CompartmentDefinition)
-      return CompartmentDefinition14_40.convertCompartmentDefinition((org.hl7.fhir.r4.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.r4.model.ConceptMap)
-      return ConceptMap14_40.convertConceptMap((org.hl7.fhir.r4.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.r4.model.CapabilityStatement)
-      return Conformance14_40.convertConformance((org.hl7.fhir.r4.model.CapabilityStatement) src);
-    if (src instanceof org.hl7.fhir.r4.model.ImplementationGuide)
-      return ImplementationGuide14_40.convertImplementationGuide((org.hl7.fhir.r4.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.r4.model.NamingSystem)
-      return NamingSystem14_40.convertNamingSystem((org.hl7.fhir.r4.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.r4.model.OperationDefinition)
-      return OperationDefinition14_40.convertOperationDefinition((org.hl7.fhir.r4.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.r4.model.OperationOutcome)
-      return OperationOutcome14_40.convertOperationOutcome((org.hl7.fhir.r4.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.r4.model.Questionnaire)
-      return Questionnaire14_40.convertQuestionnaire((org.hl7.fhir.r4.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.r4.model.QuestionnaireResponse)
-      return QuestionnaireResponse14_40.convertQuestionnaireResponse((org.hl7.fhir.r4.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.r4.model.SearchParameter)
-      return SearchParameter14_40.convertSearchParameter((org.hl7.fhir.r4.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.r4.model.StructureDefinition)
-      return StructureDefinition14_40.convertStructureDefinition((org.hl7.fhir.r4.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.r4.model.StructureMap)
-      return StructureMap14_40.convertStructureMap((org.hl7.fhir.r4.model.StructureMap) src);
-    if (src instanceof org.hl7.fhir.r4.model.ValueSet)
-      return ValueSet14_40.convertValueSet((org.hl7.fhir.r4.model.ValueSet) src);
+    BiFunction<BaseAdvisor_14_40, org.hl7.fhir.r4.model.Resource, org.hl7.fhir.dstu2016may.model.Resource> convertor = R4_TO_R2B.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R4 to R2B");
     } else {
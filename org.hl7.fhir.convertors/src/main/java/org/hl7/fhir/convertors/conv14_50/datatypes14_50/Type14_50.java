@@ -1,5 +1,8 @@
 package org.hl7.fhir.convertors.conv14_50.datatypes14_50;
 
+import java.util.function.BiFunction;
+
+import org.hl7.fhir.convertors.ConvertorDispatchTable;
 import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_14_50;
 import org.hl7.fhir.convertors.conv14_50.datatypes14_50.complextypes14_50.Address14_50;
 import org.hl7.fhir.convertors.conv14_50.datatypes14_50.complextypes14_50.Age14_50;
@@ -42,6 +45,95 @@ import org.hl7.fhir.exceptions.FHIRException;
 
 public class Type14_50 {
 
+  private static final ConvertorDispatchTable<BaseAdvisor_14_50, org.hl7.fhir.dstu2016may.model.Type, org.hl7.fhir.r5.model.DataType> R2B_TO_R5 =
+    new ConvertorDispatchTable<BaseAdvisor_14_50, org.hl7.fhir.dstu2016may.model.Type, org.hl7.fhir.r5.model.DataType>()
+      .add(org.hl7.fhir.dstu2016may.model.Base64BinaryType.class, Base64Binary14_50::convertBase64Binary)
+      .add(org.hl7.fhir.dstu2016may.model.BooleanType.class, Boolean14_50::convertBoolean)
+      .add(org.hl7.fhir.dstu2016may.model.CodeType.class, Code14_50::convertCode)
+      .add(org.hl7.fhir.dstu2016may.model.DateType.class, Date14_50::convertDate)
+      .add(org.hl7.fhir.dstu2016may.model.DateTimeType.class, DateTime14_50::convertDateTime)
+      .add(org.hl7.fhir.dstu2016may.model.DecimalType.class, Decimal14_50::convertDecimal)
+      .add(org.hl7.fhir.dstu2016may.model.IdType.class, Id14_50::convertId)
+      .add(org.hl7.fhir.dstu2016may.model.InstantType.class, Instant14_50::convertInstant)
+      .add(org.hl7.fhir.dstu2016may.model.MarkdownType.class, MarkDown14_50::convertMarkdown)
+      .add(org.hl7.fhir.dstu2016may.model.OidType.class, Oid14_50::convertOid)
+      .add(org.hl7.fhir.dstu2016may.model.PositiveIntType.class, PositiveInt14_50::convertPositiveInt)
+      .add(org.hl7.fhir.dstu2016may.model.StringType.class, String14_50::convertString)
+      .add(org.hl7.fhir.dstu2016may.model.TimeType.class, Time14_50::convertTime)
+      .add(org.hl7.fhir.dstu2016may.model.UnsignedIntType.class, UnsignedInt14_50::convertUnsignedInt)
+      .add(org.hl7.fhir.dstu2016may.model.IntegerType.class, Integer14_50::convertInteger)
+      .add(org.hl7.fhir.dstu2016may.model.UuidType.class, Uuid14_50::convertUuid)
+      .add(org.hl7.fhir.dstu2016may.model.UriType.class, Uri14_50::convertUri)
+      .add(org.hl7.fhir.dstu2016may.model.Extension.class, Extension14_50::convertExtension)
+      .add(org.hl7.fhir.dstu2016may.model.Narrative.class, Narrative14_50::convertNarrative)
+      .add(org.hl7.fhir.dstu2016may.model.Age.class, Age14_50::convertAge)
+      .add(org.hl7.fhir.dstu2016may.model.Annotation.class, Annotation14_50::convertAnnotation)
+      .add(org.hl7.fhir.dstu2016may.model.Attachment.class, Attachment14_50::convertAttachment)
+      .add(org.hl7.fhir.dstu2016may.model.CodeableConcept.class, CodeableConcept14_50::convertCodeableConcept)
+      .add(org.hl7.fhir.dstu2016may.model.Coding.class, Coding14_50::convertCoding)
+      .add(org.hl7.fhir.dstu2016may.model.Count.class, Count14_50::convertCount)
+      .add(org.hl7.fhir.dstu2016may.model.Distance.class, Distance14_50::convertDistance)
+      .add(org.hl7.fhir.dstu2016may.model.Duration.class, Duration14_50::convertDuration)
+      .add(org.hl7.fhir.dstu2016may.model.Identifier.class, Identifier14_50::convertIdentifier)
+      .add(org.hl7.fhir.dstu2016may.model.Money.class, Money14_50::convertMoney)
+      .add(org.hl7.fhir.dstu2016may.model.Period.class, Period14_50::convertPeriod)
+      .add(org.hl7.fhir.dstu2016may.model.Quantity.class, Quantity14_50::convertQuantity)
+      .add(org.hl7.fhir.dstu2016may.model.Range.class, Range14_50::convertRange)
+      .add(org.hl7.fhir.dstu2016may.model.Ratio.class, Ratio14_50::convertRatio)
+      .add(org.hl7.fhir.dstu2016may.model.Reference.class, Reference14_50::convertReference)
+      .add(org.hl7.fhir.dstu2016may.model.SampledData.class, SampledData14_50::convertSampledData)
+      .add(org.hl7.fhir.dstu2016may.model.Signature.class, Signature14_50::convertSignature)
+      .add(org.hl7.fhir.dstu2016may.model.Address.class, Address14_50::convertAddress)
+      .add(org.hl7.fhir.dstu2016may.model.ContactPoint.class, ContactPoint14_50::convertContactPoint)
+      .add(org.hl7.fhir.dstu2016may.model.HumanName.class, HumanName14_50::convertHumanName)
+      .add(org.hl7.fhir.dstu2016may.model.Meta.class, Meta14_50::convertMeta)
+      .add(org.hl7.fhir.dstu2016may.model.Timing.class, Timing14_50::convertTiming);
+
+  private static final ConvertorDispatchTable<BaseAdvisor_14_50, org.hl7.fhir.r5.model.DataType, org.hl7.fhir.dstu2016may.model.Type> R5_TO_R2B =
+    new ConvertorDispatchTable<BaseAdvisor_14_50, org.hl7.fhir.r5.model.DataType, org.hl7.fhir.dstu2016may.model.Type>()
+      .add(org.hl7.fhir.r5.model.Base64BinaryType.class, Base64Binary14_50::convertBase64Binary)
+      .add(org.hl7.fhir.r5.model.BooleanType.class, Boolean14_50::convertBoolean)
+      .add(org.hl7.fhir.r5.model.CodeType.class, Code14_50::convertCode)
+      .add(org.hl7.fhir.r5.model.DateType.class, Date14_50::convertDate)
+      .add(org.hl7.fhir.r5.model.DateTimeType.class, DateTime14_50::convertDateTime)
+      .add(org.hl7.fhir.r5.model.DecimalType.class, Decimal14_50::convertDecimal)
+      .add(org.hl7.fhir.r5.model.IdType.class, Id14_50::convertId)
+      .add(org.hl7.fhir.r5.model.InstantType.class, Instant14_50::convertInstant)
+      .add(org.hl7.fhir.r5.model.MarkdownType.class, MarkDown14_50::convertMarkdown)
+      .add(org.hl7.fhir.r5.model.OidType.class, Oid14_50::convertOid)
+      .add(org.hl7.fhir.r5.model.PositiveIntType.class, PositiveInt14_50::convertPositiveInt)
+      .add(org.hl7.fhir.r5.model.StringType.class, String14_50::convertString)
+      .add(org.hl7.fhir.r5.model.TimeType.class, Time14_50::convertTime)
+      .add(org.hl7.fhir.r5.model.UnsignedIntType.class, UnsignedInt14_50::convertUnsignedInt)
+      .add(org.hl7.fhir.r5.model.IntegerType.class, Integer14_50::convertInteger)
+      .add(org.hl7.fhir.r5.model.Integer64Type.class, Integer14_50::convertInteger64)
+      .add(org.hl7.fhir.r5.model.UuidType.class, Uuid14_50::convertUuid)
+      .add(org.hl7.fhir.r5.model.UriType.class, Uri14_50::convertUri)
+      .add(org.hl7.fhir.r5.model.Extension.class, Extension14_50::convertExtension)
+      .add(org.hl7.fhir.r5.model.Narrative.class, Narrative14_50::convertNarrative)
+      .add(org.hl7.fhir.r5.model.Age.class, Age14_50::convertAge)
+      .add(org.hl7.fhir.r5.model.Annotation.class, Annotation14_50::convertAnnotation)
+      .add(org.hl7.fhir.r5.model.Attachment.class, Attachment14_50::convertAttachment)
+      .add(org.hl7.fhir.r5.model.CodeableConcept.class, CodeableConcept14_50::convertCodeableConcept)
+      .add(org.hl7.fhir.r5.model.Coding.class, Coding14_50::convertCoding)
+      .add(org.hl7.fhir.r5.model.Count.class, Count14_50::convertCount)
+      .add(org.hl7.fhir.r5.model.Distance.class, Distance14_50::convertDistance)
+      .add(org.hl7.fhir.r5.model.Duration.class, Duration14_50::convertDuration)
+      .add(org.hl7.fhir.r5.model.Identifier.class, Identifier14_50::convertIdentifier)
+      .add(org.hl7.fhir.r5.model.Money.class, Money14_50::convertMoney)
+      .add(org.hl7.fhir.r5.model.Period.class, Period14_50::convertPeriod)
+      .add(org.hl7.fhir.r5.model.Quantity.class, Quantity14_50::convertQuantity)
+      .add(org.hl7.fhir.r5.model.Range.class, Range14_50::convertRange)
+      .add(org.hl7.fhir.r5.model.Ratio.class, Ratio14_50::convertRatio)
+      .add(org.hl7.fhir.r5.model.Reference.class, Reference14_50::convertReference)
+      .add(org.hl7.fhir.r5.model.SampledData.class, SampledData14_50::convertSampledData)
+      .add(org.hl7.fhir.r5.model.Signature.class, Signature14_50::convertSignature)
+      .add(org.hl7.fhir.r5.model.Address.class, Address14_50::convertAddress)
+      .add(org.hl7.fhir.r5.model.ContactPoint.class, ContactPoint14_50::convertContactPoint)
+      .add(org.hl7.fhir.r5.model.HumanName.class, HumanName14_50::convertHumanName)
+      .add(org.hl7.fhir.r5.model.Meta.class, Meta14_50::convertMeta)
+      .add(org.hl7.fhir.r5.model.Timing.class, Timing14_50::convertTiming);
+
   private final BaseAdvisor_14_50 advisor;
 
   public Type14_50(BaseAdvisor_14_50 advisor) {
@@ -50,88 +142,8 @@ public class Type14_50 {
 
   public org.hl7.fhir.r5.model.DataType convertType(org.hl7.fhir.dstu2016may.model.Type src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Base64BinaryType)
-      return Base64Binary14_50.convertBase64Binary((org.hl7.fhir.dstu2016may.model.Base64BinaryType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.BooleanType)
-      return Boolean14_50.convertBoolean((org.hl7.fhir.dstu2016may.model.BooleanType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeType)
-      return Code14_50.convertCode((org.hl7.fhir.dstu2016may.model.CodeType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DateType)
-      return Date14_50.convertDate((org.hl7.fhir.dstu2016may.model.DateType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DateTimeType)
-      return DateTime14_50.convertDateTime((org.hl7.fhir.dstu2016may.model.DateTimeType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DecimalType)
-      return Decimal14_50.convertDecimal((org.hl7.fhir.dstu2016may.model.DecimalType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.IdType)
-      return Id14_50.convertId((org.hl7.fhir.dstu2016may.model.IdType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.InstantType)
-      return Instant14_50.convertInstant((org.hl7.fhir.dstu2016may.model.InstantType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.MarkdownType)
-      return MarkDown14_50.convertMarkdown((org.hl7.fhir.dstu2016may.model.MarkdownType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OidType)
-      return Oid14_50.convertOid((org.hl7.fhir.dstu2016may.model.OidType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.PositiveIntType)
-      return PositiveInt14_50.convertPositiveInt((org.hl7.fhir.dstu2016may.model.PositiveIntType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StringType)
-      return String14_50.convertString((org.hl7.fhir.dstu2016may.model.StringType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.TimeType)
-      return Time14_50.convertTime((org.hl7.fhir.dstu2016may.model.TimeType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.UnsignedIntType)
-      return UnsignedInt14_50.convertUnsignedInt((org.hl7.fhir.dstu2016may.model.UnsignedIntType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.IntegerType)
-      return Integer14_50.convertInteger((org.hl7.fhir.dstu2016may.model.IntegerType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.UuidType)
-      return Uuid14_50.convertUuid((org.hl7.fhir.dstu2016may.model.UuidType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.UriType)
-      return Uri14_50.convertUri((org.hl7.fhir.dstu2016may.model.UriType) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Extension)
-      return Extension14_50.convertExtension((org.hl7.fhir.dstu2016may.model.Extension) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Narrative)
-      return Narrative14_50.convertNarrative((org.hl7.fhir.dstu2016may.model.Narrative) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Age)
-      return Age14_50.convertAge((org.hl7.fhir.dstu2016may.model.Age) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Annotation)
-      return Annotation14_50.convertAnnotation((org.hl7.fhir.dstu2016may.model.Annotation) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Attachment)
-      return Attachment14_50.convertAttachment((org.hl7.fhir.dstu2016may.model.Attachment) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeableConcept)
-      return CodeableConcept14_50.convertCodeableConcept((org.hl7.fhir.dstu2016may.model.CodeableConcept) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Coding)
-      return Coding14_50.convertCoding((org.hl7.fhir.dstu2016may.model.Coding) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Count)
-      return Count14_50.convertCount((org.hl7.fhir.dstu2016may.model.Count) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Distance)
-      return Distance14_50.convertDistance((org.hl7.fhir.dstu2016may.model.Distance) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Duration)
-      return Duration14_50.convertDuration((org.hl7.fhir.dstu2016may.model.Duration) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Identifier)
-      return Identifier14_50.convertIdentifier((org.hl7.fhir.dstu2016may.model.Identifier) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Money)
-      return Money14_50.convertMoney((org.hl7.fhir.dstu2016may.model.Money) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Period)
-      return Period14_50.convertPeriod((org.hl7.fhir.dstu2016may.model.Period) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Quantity)
-      return Quantity14_50.convertQuantity((org.hl7.fhir.dstu2016may.model.Quantity) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Range)
-      return Range14_50.convertRange((org.hl7.fhir.dstu2016may.model.Range) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Ratio)
-      return Ratio14_50.convertRatio((org.hl7.fhir.dstu2016may.model.Ratio) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Reference)
-      return Reference14_50.convertReference((org.hl7.fhir.dstu2016may.model.Reference) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.SampledData)
-      return SampledData14_50.convertSampledData((org.hl7.fhir.dstu2016may.model.SampledData) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Signature)
-      return Signature14_50.convertSignature((org.hl7.fhir.dstu2016may.model.Signature) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Address)
-      return Address14_50.convertAddress((org.hl7.fhir.dstu2016may.model.Address) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ContactPoint)
-      return ContactPoint14_50.convertContactPoint((org.hl7.fhir.dstu2016may.model.ContactPoint) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.HumanName)
-      return HumanName14_50.convertHumanName((org.hl7.fhir.dstu2016may.model.HumanName) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Meta)
-      return Meta14_50.convertMeta((org.hl7.fhir.dstu2016may.model.Meta) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Timing)
-      return Timing14_50.convertTiming((org.hl7.fhir.dstu2016may.model.Timing) src);
+    BiFunction<BaseAdvisor_14_50, org.hl7.fhir.dstu2016may.model.Type, org.hl7.fhir.r5.model.DataType> convertor = R2B_TO_R5.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The type " + src.fhirType()+" cannot be converted from R2B to R5");
     } else {
@@ -141,81 +153,8 @@ public class Type14_50 {
 
   public org.hl7.fhir.dstu2016may.model.Type convertType(org.hl7.fhir.r5.model.DataType src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.r5.model.Base64BinaryType)
-      return Base64Binary14_50.convertBase64Binary((org.hl7.fhir.r5.model.Base64BinaryType) src);
-    if (src instanceof org.hl7.fhir.r5.model.BooleanType)
-      return Boolean14_50.convertBoolean((org.hl7.fhir.r5.model.BooleanType) src);
-    if (src instanceof org.hl7.fhir.r5.model.CodeType)
-      return Code14_50.convertCode((org.hl7.fhir.r5.model.CodeType) src);
-    if (src instanceof org.hl7.fhir.r5.model.DateType)
-      return Date14_50.convertDate((org.hl7.fhir.r5.model.DateType) src);
-    if (src instanceof org.hl7.fhir.r5.model.DateTimeType)
-      return DateTime14_50.convertDateTime((org.hl7.fhir.r5.model.DateTimeType) src);
-    if (src instanceof org.hl7.fhir.r5.model.DecimalType)
-      return Decimal14_50.convertDecimal((org.hl7.fhir.r5.model.DecimalType) src);
-    if (src instanceof org.hl7.fhir.r5.model.IdType) return Id14_50.convertId((org.hl7.fhir.r5.model.IdType) src);
-    if (src instanceof org.hl7.fhir.r5.model.InstantType)
-      return Instant14_50.convertInstant((org.hl7.fhir.r5.model.InstantType) src);
-    if (src instanceof org.hl7.fhir.r5.model.MarkdownType)
-      return MarkDown14_50.convertMarkdown((org.hl7.fhir.r5.model.MarkdownType) src);
-    if (src instanceof org.hl7.fhir.r5.model.OidType) return Oid14_50.convertOid((org.hl7.fhir.r5.model.OidType) src);
-    if (src instanceof org.hl7.fhir.r5.model.PositiveIntType)
-      return PositiveInt14_50.convertPositiveInt((org.hl7.fhir.r5.model.PositiveIntType) src);
-    if (src instanceof org.hl7.fhir.r5.model.StringType)
-      return String14_50.convertString((org.hl7.fhir.r5.model.StringType) src);
-    if (src instanceof org.hl7.fhir.r5.model.TimeType)
-      return Time14_50.convertTime((org.hl7.fhir.r5.model.TimeType) src);
-    if (src instanceof org.hl7.fhir.r5.model.UnsignedIntType)
-      return UnsignedInt14_50.convertUnsignedInt((org.hl7.fhir.r5.model.UnsignedIntType) src);
-    if (src instanceof org.hl7.fhir.r5.model.IntegerType)
-      return Integer14_50.convertInteger((org.hl7.fhir.r5.model.IntegerType) src);
-    if (src instanceof org.hl7.fhir.r5.model.Integer64Type)
-      return Integer14_50.convertInteger64((org.hl7.fhir.r5.model.Integer64Type) src);
-    if (src instanceof org.hl7.fhir.r5.model.UuidType)
-      return Uuid14_50.convertUuid((org.hl7.fhir.r5.model.UuidType) src);
-    if (src instanceof org.hl7.fhir.r5.model.UriType) return Uri14_50.convertUri((org.hl7.fhir.r5.model.UriType) src);
-    if (src instanceof org.hl7.fhir.r5.model.Extension)
-      return Extension14_50.convertExtension((org.hl7.fhir.r5.model.Extension) src);
-    if (src instanceof org.hl7.fhir.r5.model.Narrative)
-      return Narrative14_50.convertNarrative((org.hl7.fhir.r5.model.Narrative) src);
-    if (src instanceof org.hl7.fhir.r5.model.Age) return Age14_50.convertAge((org.hl7.fhir.r5.model.Age) src);
-    if (src instanceof org.hl7.fhir.r5.model.Annotation)
-      return Annotation14_50.convertAnnotation((org.hl7.fhir.r5.model.Annotation) src);
-    if (src instanceof org.hl7.fhir.r5.model.Attachment)
-      return Attachment14_50.convertAttachment((org.hl7.fhir.r5.model.Attachment) src);
-    if (src instanceof org.hl7.fhir.r5.model.CodeableConcept)
-      return CodeableConcept14_50.convertCodeableConcept((org.hl7.fhir.r5.model.CodeableConcept) src);
-    if (src instanceof org.hl7.fhir.r5.model.Coding)
-      return Coding14_50.convertCoding((org.hl7.fhir.r5.model.Coding) src);
-    if (src instanceof org.hl7.fhir.r5.model.Count) return Count14_50.convertCount((org.hl7.fhir.r5.model.Count) src);
-    if (src instanceof org.hl7.fhir.r5.model.Distance)
-      return Distance14_50.convertDistance((org.hl7.fhir.r5.model.Distance) src);
-    if (src instanceof org.hl7.fhir.r5.model.Duration)
-      return Duration14_50.convertDuration((org.hl7.fhir.r5.model.Duration) src);
-    if (src instanceof org.hl7.fhir.r5.model.Identifier)
-      return Identifier14_50.convertIdentifier((org.hl7.fhir.r5.model.Identifier) src);
-    if (src instanceof org.hl7.fhir.r5.model.Money) return Money14_50.convertMoney((org.hl7.fhir.r5.model.Money) src);
-    if (src instanceof org.hl7.fhir.r5.model.Period)
-      return Period14_50.convertPeriod((org.hl7.fhir.r5.model.Period) src);
-    if (src instanceof org.hl7.fhir.r5.model.Quantity)
-      return Quantity14_50.convertQuantity((org.hl7.fhir.r5.model.Quantity) src);
-    if (src instanceof org.hl7.fhir.r5.model.Range) return Range14_50.convertRange((org.hl7.fhir.r5.model.Range) src);
-    if (src instanceof org.hl7.fhir.r5.model.Ratio) return Ratio14_50.convertRatio((org.hl7.fhir.r5.model.Ratio) src);
-    if (src instanceof org.hl7.fhir.r5.model.Reference)
-      return Reference14_50.convertReference((org.hl7.fhir.r5.model.Reference) src);
-    if (src instanceof org.hl7.fhir.r5.model.SampledData)
-      return SampledData14_50.convertSampledData((org.hl7.fhir.r5.model.SampledData) src);
-    if (src instanceof org.hl7.fhir.r5.model.Signature)
-      return Signature14_50.convertSignature((org.hl7.fhir.r5.model.Signature) src);
-    if (src instanceof org.hl7.fhir.r5.model.Address)
-      return Address14_50.convertAddress((org.hl7.fhir.r5.model.Address) src);
-    if (src instanceof org.hl7.fhir.r5.model.ContactPoint)
-      return ContactPoint14_50.convertContactPoint((org.hl7.fhir.r5.model.ContactPoint) src);
-    if (src instanceof org.hl7.fhir.r5.model.HumanName)
-      return HumanName14_50.convertHumanName((org.hl7.fhir.r5.model.HumanName) src);
-    if (src instanceof org.hl7.fhir.r5.model.Meta) return Meta14_50.convertMeta((org.hl7.fhir.r5.model.Meta) src);
-    if (src instanceof org.hl7.fhir.r5.model.Timing)
-      return Timing14_50.convertTiming((org.hl7.fhir.r5.model.Timing) src);
+    BiFunction<BaseAdvisor_14_50, org.hl7.fhir.r5.model.DataType, org.hl7.fhir.dstu2016may.model.Type> convertor = R5_TO_R2B.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The type " + src.fhirType()+" cannot be converted from R5 to R2B");
     } else {
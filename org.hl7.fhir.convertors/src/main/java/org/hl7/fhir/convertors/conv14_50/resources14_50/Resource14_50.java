@@ -1,7 +1,9 @@
 package org.hl7.fhir.convertors.conv14_50.resources14_50;
 
 import java.util.Arrays;
+import java.util.function.BiFunction;
 
+import org.hl7.fhir.convertors.ConvertorDispatchTable;
 import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_14_50;
 import org.hl7.fhir.convertors.context.ConversionContext14_50;
 import org.hl7.fhir.convertors.conv14_50.datatypes14_50.Extension14_50;
@@ -11,6 +13,45 @@ import org.hl7.fhir.exceptions.FHIRException;
 
 public class Resource14_50 {
 
+  private static final ConvertorDispatchTable<BaseAdvisor_14_50, org.hl7.fhir.dstu2016may.model.Resource, org.hl7.fhir.r5.model.Resource> R2B_TO_R5 =
+    new ConvertorDispatchTable<BaseAdvisor_14_50, org.hl7.fhir.dstu2016may.model.Resource, org.hl7.fhir.r5.model.Resource>()
+      .add(org.hl7.fhir.dstu2016may.model.Parameters.class, Parameters14_50::convertParameters)
+      .add(org.hl7.fhir.dstu2016may.model.Bundle.class, Bundle14_50::convertBundle)
+      .add(org.hl7.fhir.dstu2016may.model.CodeSystem.class, CodeSystem14_50::convertCodeSystem)
+      .add(org.hl7.fhir.dstu2016may.model.CompartmentDefinition.class, CompartmentDefinition14_50::convertCompartmentDefinition)
+      .add(org.hl7.fhir.dstu2016may.model.ConceptMap.class, ConceptMap14_50::convertConceptMap)
+      .add(org.hl7.fhir.dstu2016may.model.Conformance.class, Conformance14_50::convertConformance)
+      .add(org.hl7.fhir.dstu2016may.model.DataElement.class, DataElement14_50::convertDataElement)
+      .add(org.hl7.fhir.dstu2016may.model.ImplementationGuide.class, ImplementationGuide14_50::convertImplementationGuide)
+      .add(org.hl7.fhir.dstu2016may.model.NamingSystem.class, NamingSystem14_50::convertNamingSystem)
+      .add(org.hl7.fhir.dstu2016may.model.OperationDefinition.class, OperationDefinition14_50::convertOperationDefinition)
+      .add(org.hl7.fhir.dstu2016may.model.OperationOutcome.class, OperationOutcome14_50::convertOperationOutcome)
+      .add(org.hl7.fhir.dstu2016may.model.Questionnaire.class, Questionnaire14_50::convertQuestionnaire)
+      .add(org.hl7.fhir.dstu2016may.model.QuestionnaireResponse.class, QuestionnaireResponse14_50::convertQuestionnaireResponse)
+      .add(org.hl7.fhir.dstu2016may.model.SearchParameter.class, SearchParameter14_50::convertSearchParameter)
+      .add(org.hl7.fhir.dstu2016may.model.StructureDefinition.class, StructureDefinition14_50::convertStructureDefinition)
+      .add(org.hl7.fhir.dstu2016may.model.StructureMap.class, StructureMap14_50::convertStructureMap)
+      .add(org.hl7.fhir.dstu2016may.model.ValueSet.class, ValueSet14_50::convertValueSet);
+
+  private static final ConvertorDispatchTable<BaseAdvisor_14_50, org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu2016may.model.Resource> R5_TO_R2B =
+    new ConvertorDispatchTable<BaseAdvisor_14_50, org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu2016may.model.Resource>()
+      .add(org.hl7.fhir.r5.model.Parameters.class, Parameters14_50::convertParameters)
+      .add(org.hl7.fhir.r5.model.Bundle.class, Bundle14_50::convertBundle)
+      .add(org.hl7.fhir.r5.model.CodeSystem.class, CodeSystem14_50::convertCodeSystem)
+      .add(org.hl7.fhir.r5.model.CompartmentDefinition.class, CompartmentDefinition14_50::convertCompartmentDefinition)
+      .add(org.hl7.fhir.r5.model.ConceptMap.class, ConceptMap14_50::convertConceptMap)
+      .add(org.hl7.fhir.r5.model.CapabilityStatement.class, Conformance14_50::convertConformance)
+      .add(org.hl7.fhir.r5.model.ImplementationGuide.class, ImplementationGuide14_50::convertImplementationGuide)
+      .add(org.hl7.fhir.r5.model.NamingSystem.class, NamingSystem14_50::convertNamingSystem)
+      .add(org.hl7.fhir.r5.model.OperationDefinition.class, OperationDefinition14_50::convertOperationDefinition)
+      .add(org.hl7.fhir.r5.model.OperationOutcome.class, OperationOutcome14_50::convertOperationOutcome)
+      .add(org.hl7.fhir.r5.model.Questionnaire.class, Questionnaire14_50::convertQuestionnaire)
+      .add(org.hl7.fhir.r5.model.QuestionnaireResponse.class, QuestionnaireResponse14_50::convertQuestionnaireResponse)
+      .add(org.hl7.fhir.r5.model.SearchParameter.class, SearchParameter14_50::convertSearchParameter)
+      .add(org.hl7.fhir.r5.model.StructureDefinition.class, StructureDefinition14_50::convertStructureDefinition)
+      .add(org.hl7.fhir.r5.model.StructureMap.class, StructureMap14_50::convertStructureMap)
+      .add(org.hl7.fhir.r5.model.ValueSet.class, ValueSet14_50::convertValueSet);
+
   public final BaseAdvisor_14_50 advisor;
 
   public Resource14_50(BaseAdvisor_14_50 advisor) {
@@ -33,40 +74,8 @@ public class Resource14_50 {
 
   public org.hl7.fhir.r5.model.Resource convertResource(org.hl7.fhir.dstu2016may.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Parameters)
-      return Parameters14_50.convertParameters((org.hl7.fhir.dstu2016may.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Bundle)
-      return Bundle14_50.convertBundle((org.hl7.fhir.dstu2016may.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CodeSystem)
-      return CodeSystem14_50.convertCodeSystem((org.hl7.fhir.dstu2016may.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.CompartmentDefinition)
-      return CompartmentDefinition14_50.convertCompartmentDefinition((org.hl7.fhir.dstu2016may.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ConceptMap)
-      return ConceptMap14_50.convertConceptMap((org.hl7.fhir.dstu2016may.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Conformance)
-      return Conformance14_50.convertConformance((org.hl7.fhir.dstu2016may.model.Conformance) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.DataElement)
-      return DataElement14_50.convertDataElement((org.hl7.fhir.dstu2016may.model.DataElement) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ImplementationGuide)
-      return ImplementationGuide14_50.convertImplementationGuide((org.hl7.fhir.dstu2016may.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.NamingSystem)
-      return NamingSystem14_50.convertNamingSystem((org.hl7.fhir.dstu2016may.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OperationDefinition)
-      return OperationDefinition14_50.convertOperationDefinition((org.hl7.fhir.dstu2016may.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.OperationOutcome)
-      return OperationOutcome14_50.convertOperationOutcome((org.hl7.fhir.dstu2016may.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.Questionnaire)
-      return Questionnaire14_50.convertQuestionnaire((org.hl7.fhir.dstu2016may.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.QuestionnaireResponse)
-      return QuestionnaireResponse14_50.convertQuestionnaireResponse((org.hl7.fhir.dstu2016may.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.SearchParameter)
-      return SearchParameter14_50.convertSearchParameter((org.hl7.fhir.dstu2016may.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StructureDefinition)
-      return StructureDefinition14_50.convertStructureDefinition((org.hl7.fhir.dstu2016may.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.StructureMap)
-      return StructureMap14_50.convertStructureMap((org.hl7.fhir.dstu2016may.model.StructureMap) src);
-    if (src instanceof org.hl7.fhir.dstu2016may.model.ValueSet)
-      return ValueSet14_50.convertValueSet((org.hl7.fhir.dstu2016may.model.ValueSet) src);
+    BiFunction<BaseAdvisor_14_50, org.hl7.fhir.dstu2016may.model.Resource, org.hl7.fhir.r5.model.Resource> convertor = R2B_TO_R5.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R2B to R5");
     } else {
@@ -76,38 +85,8 @@ public class Resource14_50 {
 
   public org.hl7.fhir.dstu2016may.model.Resource convertResource(org.hl7.fhir.r5.model.Resource src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.r5.model.Parameters)
-      return Parameters14_50.convertParameters((org.hl7.fhir.r5.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.r5.model.Bundle)
-      return Bundle14_50.convertBundle((org.hl7.fhir.r5.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.r5.model.CodeSystem)
-      return CodeSystem14_50.convertCodeSystem((org.hl7.fhir.r5.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.r5.model.CompartmentDefinition)
-      return CompartmentDefinition14_50.convertCompartmentDefinition((org.hl7.fhir.r5.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.ConceptMap)
-      return ConceptMap14_50.convertConceptMap((org.hl7.fhir.r5.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.r5.model.CapabilityStatement)
-      return Conformance14_50.convertConformance((org.hl7.fhir.r5.model.CapabilityStatement) src);
-    if (src instanceof org.hl7.fhir.r5.model.ImplementationGuide)
-      return ImplementationGuide14_50.convertImplementationGuide((org.hl7.fhir.r5.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.r5.model.NamingSystem)
-      return NamingSystem14_50.convertNamingSystem((org.hl7.fhir.r5.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.r5.model.OperationDefinition)
-      return OperationDefinition14_50.convertOperationDefinition((org.hl7.fhir.r5.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.OperationOutcome)
-      return OperationOutcome14_50.convertOperationOutcome((org.hl7.fhir.r5.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.r5.model.Questionnaire)
-      return Questionnaire14_50.convertQuestionnaire((org.hl7.fhir.r5.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.r5.model.QuestionnaireResponse)
-      return QuestionnaireResponse14_50.convertQuestionnaireResponse((org.hl7.fhir.r5.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.r5.model.SearchParameter)
-      return SearchParameter14_50.convertSearchParameter((org.hl7.fhir.r5.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.r5.model.StructureDefinition)
-      return StructureDefinition14_50.convertStructureDefinition((org.hl7.fhir.r5.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.StructureMap)
-      return StructureMap14_50.convertStructureMap((org.hl7.fhir.r5.model.StructureMap) src);
-    if (src instanceof org.hl7.fhir.r5.model.ValueSet)
-      return ValueSet14_50.convertValueSet((org.hl7.fhir.r5.model.ValueSet) src);
+    BiFunction<BaseAdvisor_14_50, org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu2016may.model.Resource> convertor = R5_TO_R2B.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R5 to R2B");
     } else {
@@ -1,7 +1,9 @@
 package org.hl7.fhir.convertors.conv30_50;
 
 import java.util.Arrays;
+import java.util.function.BiFunction;
 
+import org.hl7.fhir.convertors.ConvertorDispatchTable;
 import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_30_50;
 import org.hl7.fhir.convertors.context.ConversionContext30_50;
 import org.hl7.fhir.convertors.conv30_50.datatypes30_50.Extension30_50;
@@ -96,6 +98,174 @@ import org.hl7.fhir.exceptions.FHIRException;
 
 public class Resource30_50 {
 
+  private static final ConvertorDispatchTable<BaseAdvisor_30_50, org.hl7.fhir.dstu3.model.Resource, org.hl7.fhir.r5.model.Resource> R3_TO_R5 =
+    new ConvertorDispatchTable<BaseAdvisor_30_50, org.hl7.fhir.dstu3.model.Resource, org.hl7.fhir.r5.model.Resource>()
+      .add(org.hl7.fhir.dstu3.model.Parameters.class, Parameters30_50::convertParameters)
+      .add(org.hl7.fhir.dstu3.model.ActivityDefinition.class, ActivityDefinition30_50::convertActivityDefinition)
+      .add(org.hl7.fhir.dstu3.model.AllergyIntolerance.class, AllergyIntolerance30_50::convertAllergyIntolerance)
+      .add(org.hl7.fhir.dstu3.model.Appointment.class, Appointment30_50::convertAppointment)
+      .add(org.hl7.fhir.dstu3.model.AppointmentResponse.class, AppointmentResponse30_50::convertAppointmentResponse)
+      .add(org.hl7.fhir.dstu3.model.AuditEvent.class, AuditEvent30_50::convertAuditEvent)
+      .add(org.hl7.fhir.dstu3.model.Basic.class, Resource30_50::convertBasic)
+      .add(org.hl7.fhir.dstu3.model.Binary.class, Binary30_50::convertBinary)
+      .add(org.hl7.fhir.dstu3.model.BodySite.class, BodySite30_50::convertBodySite)
+      .add(org.hl7.fhir.dstu3.model.Bundle.class, Bundle30_50::convertBundle)
+      .add(org.hl7.fhir.dstu3.model.CapabilityStatement.class, CapabilityStatement30_50::convertCapabilityStatement)
+      .add(org.hl7.fhir.dstu3.model.CarePlan.class, CarePlan30_50::convertCarePlan)
+      .add(org.hl7.fhir.dstu3.model.CareTeam.class, CareTeam30_50::convertCareTeam)
+      .add(org.hl7.fhir.dstu3.model.ClinicalImpression.class, ClinicalImpression30_50::convertClinicalImpression)
+      .add(org.hl7.fhir.dstu3.model.CodeSystem.class, CodeSystem30_50::convertCodeSystem)
+      .add(org.hl7.fhir.dstu3.model.Communication.class, Communication30_50::convertCommunication)
+      .add(org.hl7.fhir.dstu3.model.CompartmentDefinition.class, CompartmentDefinition30_50::convertCompartmentDefinition)
+      .add(org.hl7.fhir.dstu3.model.Composition.class, Composition30_50::convertComposition)
+      .add(org.hl7.fhir.dstu3.model.ConceptMap.class, ConceptMap30_50::convertConceptMap)
+      .add(org.hl7.fhir.dstu3.model.Condition.class, Condition30_50::convertCondition)
+      .add(org.hl7.fhir.dstu3.model.Consent.class, Consent30_50::convertConsent)
+      .add(org.hl7.fhir.dstu3.model.DataElement.class, DataElement30_50::convertDataElement)
+      .add(org.hl7.fhir.dstu3.model.DetectedIssue.class, DetectedIssue30_50::convertDetectedIssue)
+      .add(org.hl7.fhir.dstu3.model.DeviceUseStatement.class, DeviceUseStatement30_50::convertDeviceUseStatement)
+      .add(org.hl7.fhir.dstu3.model.DiagnosticReport.class, DiagnosticReport30_50::convertDiagnosticReport)
+      .add(org.hl7.fhir.dstu3.model.DocumentReference.class, DocumentReference30_50::convertDocumentReference)
+      .add(org.hl7.fhir.dstu3.model.Encounter.class, Encounter30_50::convertEncounter)
+      .add(org.hl7.fhir.dstu3.model.Endpoint.class, Endpoint30_50::convertEndpoint)
+      .add(org.hl7.fhir.dstu3.model.EpisodeOfCare.class, EpisodeOfCare30_50::convertEpisodeOfCare)
+      .add(org.hl7.fhir.dstu3.model.ExpansionProfile.class, ExpansionProfile30_50::convertExpansionProfile)
+      .add(org.hl7.fhir.dstu3.model.FamilyMemberHistory.class, FamilyMemberHistory30_50::convertFamilyMemberHistory)
+      .add(org.hl7.fhir.dstu3.model.Flag.class, Flag30_50::convertFlag)
+      .add(org.hl7.fhir.dstu3.model.Goal.class, Goal30_50::convertGoal)
+      .add(org.hl7.fhir.dstu3.model.GraphDefinition.class, GraphDefinition30_50::convertGraphDefinition)
+      .add(org.hl7.fhir.dstu3.model.Group.class, Group30_50::convertGroup)
+      .add(org.hl7.fhir.dstu3.model.HealthcareService.class, HealthcareService30_50::convertHealthcareService)
+      .add(org.hl7.fhir.dstu3.model.ImagingStudy.class, ImagingStudy30_50::convertImagingStudy)
+      .add(org.hl7.fhir.dstu3.model.Immunization.class, Immunization30_50::convertImmunization)
+      .add(org.hl7.fhir.dstu3.model.ImplementationGuide.class, ImplementationGuide30_50::convertImplementationGuide)
+      .add(org.hl7.fhir.dstu3.model.Library.class, Library30_50::convertLibrary)
+      .add(org.hl7.fhir.dstu3.model.Linkage.class, Linkage30_50::convertLinkage)
+      .add(org.hl7.fhir.dstu3.model.ListResource.class, List30_50::convertList)
+      .add(org.hl7.fhir.dstu3.model.Location.class, Location30_50::convertLocation)
+      .add(org.hl7.fhir.dstu3.model.Measure.class, Measure30_50::convertMeasure)
+      .add(org.hl7.fhir.dstu3.model.Media.class, Media30_50::convertMedia)
+      .add(org.hl7.fhir.dstu3.model.Medication.class, Medication30_50::convertMedication)
+      .add(org.hl7.fhir.dstu3.model.MedicationAdministration.class, MedicationAdministration30_50::convertMedicationAdministration)
+      .add(org.hl7.fhir.dstu3.model.MedicationDispense.class, MedicationDispense30_50::convertMedicationDispense)
+      .add(org.hl7.fhir.dstu3.model.MedicationRequest.class, MedicationRequest30_50::convertMedicationRequest)
+      .add(org.hl7.fhir.dstu3.model.MedicationStatement.class, MedicationStatement30_50::convertMedicationStatement)
+      .add(org.hl7.fhir.dstu3.model.MessageDefinition.class, MessageDefinition30_50::convertMessageDefinition)
+      .add(org.hl7.fhir.dstu3.model.MessageHeader.class, MessageHeader30_50::convertMessageHeader)
+      .add(org.hl7.fhir.dstu3.model.NamingSystem.class, NamingSystem30_50::convertNamingSystem)
+      .add(org.hl7.fhir.dstu3.model.Observation.class, Observation30_50::convertObservation)
+      .add(org.hl7.fhir.dstu3.model.OperationDefinition.class, OperationDefinition30_50::convertOperationDefinition)
+      .add(org.hl7.fhir.dstu3.model.OperationOutcome.class, OperationOutcome30_50::convertOperationOutcome)
+      .add(org.hl7.fhir.dstu3.model.Organization.class, Organization30_50::convertOrganization)
+      .add(org.hl7.fhir.dstu3.model.Patient.class, Patient30_50::convertPatient)
+      .add(org.hl7.fhir.dstu3.model.PaymentNotice.class, PaymentNotice30_50::convertPaymentNotice)
+      .add(org.hl7.fhir.dstu3.model.Person.class, Person30_50::convertPerson)
+      .add(org.hl7.fhir.dstu3.model.PlanDefinition.class, PlanDefinition30_50::convertPlanDefinition)
+      .add(org.hl7.fhir.dstu3.model.Practitioner.class, Practitioner30_50::convertPractitioner)
+      .add(org.hl7.fhir.dstu3.model.PractitionerRole.class, PractitionerRole30_50::convertPractitionerRole)
+      .add(org.hl7.fhir.dstu3.model.Provenance.class, Provenance30_50::convertProvenance)
+      .add(org.hl7.fhir.dstu3.model.Questionnaire.class, Questionnaire30_50::convertQuestionnaire)
+      .add(org.hl7.fhir.dstu3.model.QuestionnaireResponse.class, QuestionnaireResponse30_50::convertQuestionnaireResponse)
+      .add(org.hl7.fhir.dstu3.model.RelatedPerson.class, RelatedPerson30_50::convertRelatedPerson)
+      .add(org.hl7.fhir.dstu3.model.RiskAssessment.class, RiskAssessment30_50::convertRiskAssessment)
+      .add(org.hl7.fhir.dstu3.model.Schedule.class, Schedule30_50::convertSchedule)
+      .add(org.hl7.fhir.dstu3.model.SearchParameter.class, SearchParameter30_50::convertSearchParameter)
+      .add(org.hl7.fhir.dstu3.model.Slot.class, Slot30_50::convertSlot)
+      .add(org.hl7.fhir.dstu3.model.Specimen.class, Specimen30_50::convertSpecimen)
+      .add(org.hl7.fhir.dstu3.model.StructureDefinition.class, StructureDefinition30_50::convertStructureDefinition)
+      .add(org.hl7.fhir.dstu3.model.StructureMap.class, StructureMap30_50::convertStructureMap)
+      .add(org.hl7.fhir.dstu3.model.Substance.class, Substance30_50::convertSubstance)
+      .add(org.hl7.fhir.dstu3.model.SupplyDelivery.class, SupplyDelivery30_50::convertSupplyDelivery)
+      .add(org.hl7.fhir.dstu3.model.TestReport.class, TestReport30_50::convertTestReport)
+      .add(org.hl7.fhir.dstu3.model.TestScript.class, TestScript30_50::convertTestScript)
+      .add(org.hl7.fhir.dstu3.model.ValueSet.class, ValueSet30_50::convertValueSet);
+
+  private static final ConvertorDispatchTable<BaseAdvisor_30_50, org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu3.model.Resource> R5_TO_R3 =
+    new ConvertorDispatchTable<BaseAdvisor_30_50, org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu3.model.Resource>()
+      //      if (((org.hl7.fhir.r5.model.Parameters) src).hasParameterValue("profile-url"))
+      //        return ExpansionProfile30_50.convertExpansionProfile((org.hl7.fhir.r5.model.Parameters) src);
+      //      else
+      .add(org.hl7.fhir.r5.model.Parameters.class, Parameters30_50::convertParameters)
+      .add(org.hl7.fhir.r5.model.ActivityDefinition.class, ActivityDefinition30_50::convertActivityDefinition)
+      .add(org.hl7.fhir.r5.model.ActorDefinition.class, ActorDefinition30_50::convertActorDefinition)
+      .add(org.hl7.fhir.r5.model.AllergyIntolerance.class, AllergyIntolerance30_50::convertAllergyIntolerance)
+      .add(org.hl7.fhir.r5.model.Appointment.class, Appointment30_50::convertAppointment)
+      .add(org.hl7.fhir.r5.model.AppointmentResponse.class, AppointmentResponse30_50::convertAppointmentResponse)
+      .add(org.hl7.fhir.r5.model.AuditEvent.class, AuditEvent30_50::convertAuditEvent)
+      .add(org.hl7.fhir.r5.model.Basic.class, Basic30_50::convertBasic)
+      .add(org.hl7.fhir.r5.model.Binary.class, Binary30_50::convertBinary)
+      .add(org.hl7.fhir.r5.model.BodyStructure.class, BodySite30_50::convertBodySite)
+      .add(org.hl7.fhir.r5.model.Bundle.class, Bundle30_50::convertBundle)
+      .add(org.hl7.fhir.r5.model.CapabilityStatement.class, CapabilityStatement30_50::convertCapabilityStatement)
+      .add(org.hl7.fhir.r5.model.CarePlan.class, CarePlan30_50::convertCarePlan)
+      .add(org.hl7.fhir.r5.model.CareTeam.class, CareTeam30_50::convertCareTeam)
+      .add(org.hl7.fhir.r5.model.ClinicalImpression.class, ClinicalImpression30_50::convertClinicalImpression)
+      .add(org.hl7.fhir.r5.model.CodeSystem.class, CodeSystem30_50::convertCodeSystem)
+      .add(org.hl7.fhir.r5.model.Communication.class, Communication30_50::convertCommunication)
+      .add(org.hl7.fhir.r5.model.CompartmentDefinition.class, CompartmentDefinition30_50::convertCompartmentDefinition)
+      .add(org.hl7.fhir.r5.model.Composition.class, Composition30_50::convertComposition)
+      .add(org.hl7.fhir.r5.model.ConceptMap.class, ConceptMap30_50::convertConceptMap)
+      .add(org.hl7.fhir.r5.model.Condition.class, Condition30_50::convertCondition)
+      .add(org.hl7.fhir.r5.model.Consent.class, Consent30_50::convertConsent)
+      .add(org.hl7.fhir.r5.model.DetectedIssue.class, DetectedIssue30_50::convertDetectedIssue)
+      .add(org.hl7.fhir.r5.model.DeviceUsage.class, DeviceUseStatement30_50::convertDeviceUseStatement)
+      .add(org.hl7.fhir.r5.model.DiagnosticReport.class, DiagnosticReport30_50::convertDiagnosticReport)
+      .add(org.hl7.fhir.r5.model.DocumentReference.class, DocumentReference30_50::convertDocumentReference)
+      .add(org.hl7.fhir.r5.model.Encounter.class, Encounter30_50::convertEncounter)
+      .add(org.hl7.fhir.r5.model.Endpoint.class, Endpoint30_50::convertEndpoint)
+      .add(org.hl7.fhir.r5.model.EpisodeOfCare.class, EpisodeOfCare30_50::convertEpisodeOfCare)
+      .add(org.hl7.fhir.r5.model.FamilyMemberHistory.class, FamilyMemberHistory30_50::convertFamilyMemberHistory)
+      .add(org.hl7.fhir.r5.model.Flag.class, Flag30_50::convertFlag)
+      .add(org.hl7.fhir.r5.model.Goal.class, Goal30_50::convertGoal)
+      .add(org.hl7.fhir.r5.model.GraphDefinition.class, GraphDefinition30_50::convertGraphDefinition)
+      .add(org.hl7.fhir.r5.model.Group.class, Group30_50::convertGroup)
+      .add(org.hl7.fhir.r5.model.HealthcareService.class, HealthcareService30_50::convertHealthcareService)
+      .add(org.hl7.fhir.r5.model.ImagingStudy.class, ImagingStudy30_50::convertImagingStudy)
+      .add(org.hl7.fhir.r5.model.Immunization.class, Immunization30_50::convertImmunization)
+      .add(org.hl7.fhir.r5.model.ImplementationGuide.class, ImplementationGuide30_50::convertImplementationGuide)
+      .add(org.hl7.fhir.r5.model.Library.class, Library30_50::convertLibrary)
+      .add(org.hl7.fhir.r5.model.Linkage.class, Linkage30_50::convertLinkage)
+      .add(org.hl7.fhir.r5.model.ListResource.class, List30_50::convertList)
+      .add(org.hl7.fhir.r5.model.Location.class, Location30_50::convertLocation)
+      .add(org.hl7.fhir.r5.model.Measure.class, Measure30_50::convertMeasure)
+      .add(org.hl7.fhir.r5.model.DocumentReference.class, Media30_50::convertMedia)
+      .add(org.hl7.fhir.r5.model.Medication.class, Medication30_50::convertMedication)
+      .add(org.hl7.fhir.r5.model.MedicationAdministration.class, MedicationAdministration30_50::convertMedicationAdministration)
+      .add(org.hl7.fhir.r5.model.MedicationDispense.class, MedicationDispense30_50::convertMedicationDispense)
+      .add(org.hl7.fhir.r5.model.MedicationRequest.class, MedicationRequest30_50::convertMedicationRequest)
+      .add(org.hl7.fhir.r5.model.MedicationStatement.class, MedicationStatement30_50::convertMedicationStatement)
+      .add(org.hl7.fhir.r5.model.MessageDefinition.class, MessageDefinition30_50::convertMessageDefinition)
+      .add(org.hl7.fhir.r5.model.MessageHeader.class, MessageHeader30_50::convertMessageHeader)
+      .add(org.hl7.fhir.r5.model.NamingSystem.class, NamingSystem30_50::convertNamingSystem)
+      .add(org.hl7.fhir.r5.model.Observation.class, Observation30_50::convertObservation)
+      .add(org.hl7.fhir.r5.model.OperationDefinition.class, OperationDefinition30_50::convertOperationDefinition)
+      .add(org.hl7.fhir.r5.model.OperationOutcome.class, OperationOutcome30_50::convertOperationOutcome)
+      .add(org.hl7.fhir.r5.model.Organization.class, Organization30_50::convertOrganization)
+      .add(org.hl7.fhir.r5.model.Patient.class, Patient30_50::convertPatient)
+      .add(org.hl7.fhir.r5.model.PaymentNotice.class, PaymentNotice30_50::convertPaymentNotice)
+      .add(org.hl7.fhir.r5.model.Person.class, Person30_50::convertPerson)
+      .add(org.hl7.fhir.r5.model.PlanDefinition.class, PlanDefinition30_50::convertPlanDefinition)
+      .add(org.hl7.fhir.r5.model.Practitioner.class, Practitioner30_50::convertPractitioner)
+      .add(org.hl7.fhir.r5.model.PractitionerRole.class, PractitionerRole30_50::convertPractitionerRole)
+      .add(org.hl7.fhir.r5.model.Provenance.class, Provenance30_50::convertProvenance)
+      .add(org.hl7.fhir.r5.model.Questionnaire.class, Questionnaire30_50::convertQuestionnaire)
+      .add(org.hl7.fhir.r5.model.QuestionnaireResponse.class, QuestionnaireResponse30_50::convertQuestionnaireResponse)
+      .add(org.hl7.fhir.r5.model.RelatedPerson.class, RelatedPerson30_50::convertRelatedPerson)
+      .add(org.hl7.fhir.r5.model.Requirements.class, Requirements30_50::convertRequirements)
+      .add(org.hl7.fhir.r5.model.RiskAssessment.class, RiskAssessment30_50::convertRiskAssessment)
+      .add(org.hl7.fhir.r5.model.Schedule.class, Schedule30_50::convertSchedule)
+      .add(org.hl7.fhir.r5.model.SearchParameter.class, SearchParameter30_50::convertSearchParameter)
+      .add(org.hl7.fhir.r5.model.Slot.class, Slot30_50::convertSlot)
+      .add(org.hl7.fhir.r5.model.Specimen.class, Specimen30_50::convertSpecimen)
+      .add(org.hl7.fhir.r5.model.StructureDefinition.class, StructureDefinition30_50::convertStructureDefinition)
+      .add(org.hl7.fhir.r5.model.StructureMap.class, StructureMap30_50::convertStructureMap)
+      .add(org.hl7.fhir.r5.model.Substance.class, Substance30_50::convertSubstance)
+      .add(org.hl7.fhir.r5.model.SupplyDelivery.class, SupplyDelivery30_50::convertSupplyDelivery)
+      .add(org.hl7.fhir.r5.model.TestPlan.class, TestPlan30_50::convertTestPlan)
+      .add(org.hl7.fhir.r5.model.TestReport.class, TestReport30_50::convertTestReport)
+      .add(org.hl7.fhir.r5.model.TestScript.class, TestScript30_50::convertTestScript)
+      .add(org.hl7.fhir.r5.model.ValueSet.class, ValueSet30_50::convertValueSet);
+
   public final BaseAdvisor_30_50 advisor;
 
   public Resource30_50(BaseAdvisor_30_50 advisor) {
@@ -118,171 +288,8 @@ public class Resource30_50 {
 
   public org.hl7.fhir.r5.model.Resource convertResource(org.hl7.fhir.dstu3.model.Resource src) throws FHIRException {
     if (src == null) return null;
-    if (src instanceof org.hl7.fhir.dstu3.model.Parameters)
-      return Parameters30_50.convertParameters((org.hl7.fhir.dstu3.model.Parameters) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ActivityDefinition)
-      return ActivityDefinition30_50.convertActivityDefinition((org.hl7.fhir.dstu3.model.ActivityDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.AllergyIntolerance)
-      return AllergyIntolerance30_50.convertAllergyIntolerance((org.hl7.fhir.dstu3.model.AllergyIntolerance) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Appointment)
-      return Appointment30_50.convertAppointment((org.hl7.fhir.dstu3.model.Appointment) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.AppointmentResponse)
-      return AppointmentResponse30_50.convertAppointmentResponse((org.hl7.fhir.dstu3.model.AppointmentResponse) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.AuditEvent)
-      return AuditEvent30_50.convertAuditEvent((org.hl7.fhir.dstu3.model.AuditEvent) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Basic) {
-      org.hl7.fhir.dstu3.model.Basic basic = (Basic) src;
-      if (basic.getCode().hasCoding("http://hl7.org/fhir/fhir-types", "ActorDefinition")) {
-        return ActorDefinition30_50.convertActorDefinition((org.hl7.fhir.dstu3.model.Basic) src);
-      } else if (basic.getCode().hasCoding("http://hl7.org/fhir/fhir-types", "Requirements")) {
-        return Requirements30_50.convertRequirements((org.hl7.fhir.dstu3.model.Basic) src);
-      } else if (basic.getCode().hasCoding("http://hl7.org/fhir/fhir-types", "TestPlan")) {
-        return TestPlan30_50.convertTestPlan((org.hl7.fhir.dstu3.model.Basic) src);
-      } else {
-        return Basic30_50.convertBasic((org.hl7.fhir.dstu3.model.Basic) src);
-      }
-    }
-    if (src instanceof org.hl7.fhir.dstu3.model.Binary)
-      return Binary30_50.convertBinary((org.hl7.fhir.dstu3.model.Binary) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.BodySite)
-      return BodySite30_50.convertBodySite((org.hl7.fhir.dstu3.model.BodySite) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Bundle)
-      return Bundle30_50.convertBundle((org.hl7.fhir.dstu3.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CapabilityStatement)
-      return CapabilityStatement30_50.convertCapabilityStatement((org.hl7.fhir.dstu3.model.CapabilityStatement) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CarePlan)
-      return CarePlan30_50.convertCarePlan((org.hl7.fhir.dstu3.model.CarePlan) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CareTeam)
-      return CareTeam30_50.convertCareTeam((org.hl7.fhir.dstu3.model.CareTeam) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ClinicalImpression)
-      return ClinicalImpression30_50.convertClinicalImpression((org.hl7.fhir.dstu3.model.ClinicalImpression) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CodeSystem)
-      return CodeSystem30_50.convertCodeSystem((org.hl7.fhir.dstu3.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Communication)
-      return Communication30_50.convertCommunication((org.hl7.fhir.dstu3.model.Communication) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.CompartmentDefinition)
-      return CompartmentDefinition30_50.convertCompartmentDefinition((org.hl7.fhir.dstu3.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Composition)
-      return Composition30_50.convertComposition((org.hl7.fhir.dstu3.model.Composition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ConceptMap)
-      return ConceptMap30_50.convertConceptMap((org.hl7.fhir.dstu3.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Condition)
-      return Condition30_50.convertCondition((org.hl7.fhir.dstu3.model.Condition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Consent)
-      return Consent30_50.convertConsent((org.hl7.fhir.dstu3.model.Consent) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DataElement)
-      return DataElement30_50.convertDataElement((org.hl7.fhir.dstu3.model.DataElement) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DetectedIssue)
-      return DetectedIssue30_50.convertDetectedIssue((org.hl7.fhir.dstu3.model.DetectedIssue) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DeviceUseStatement)
-      return DeviceUseStatement30_50.convertDeviceUseStatement((org.hl7.fhir.dstu3.model.DeviceUseStatement) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DiagnosticReport)
-      return DiagnosticReport30_50.convertDiagnosticReport((org.hl7.fhir.dstu3.model.DiagnosticReport) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.DocumentReference)
-      return DocumentReference30_50.convertDocumentReference((org.hl7.fhir.dstu3.model.DocumentReference) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Encounter)
-      return Encounter30_50.convertEncounter((org.hl7.fhir.dstu3.model.Encounter) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Endpoint)
-      return Endpoint30_50.convertEndpoint((org.hl7.fhir.dstu3.model.Endpoint) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.EpisodeOfCare)
-      return EpisodeOfCare30_50.convertEpisodeOfCare((org.hl7.fhir.dstu3.model.EpisodeOfCare) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ExpansionProfile)
-      return ExpansionProfile30_50.convertExpansionProfile((org.hl7.fhir.dstu3.model.ExpansionProfile) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.FamilyMemberHistory)
-      return FamilyMemberHistory30_50.convertFamilyMemberHistory((org.hl7.fhir.dstu3.model.FamilyMemberHistory) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Flag) return Flag30_50.convertFlag((org.hl7.fhir.dstu3.model.Flag) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Goal) return Goal30_50.convertGoal((org.hl7.fhir.dstu3.model.Goal) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.GraphDefinition)
-      return GraphDefinition30_50.convertGraphDefinition((org.hl7.fhir.dstu3.model.GraphDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Group)
-      return Group30_50.convertGroup((org.hl7.fhir.dstu3.model.Group) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.HealthcareService)
-      return HealthcareService30_50.convertHealthcareService((org.hl7.fhir.dstu3.model.HealthcareService) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ImagingStudy)
-      return ImagingStudy30_50.convertImagingStudy((org.hl7.fhir.dstu3.model.ImagingStudy) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Immunization)
-      return Immunization30_50.convertImmunization((org.hl7.fhir.dstu3.model.Immunization) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ImplementationGuide)
-      return ImplementationGuide30_50.convertImplementationGuide((org.hl7.fhir.dstu3.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Library)
-      return Library30_50.convertLibrary((org.hl7.fhir.dstu3.model.Library) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Linkage)
-      return Linkage30_50.convertLinkage((org.hl7.fhir.dstu3.model.Linkage) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ListResource)
-      return List30_50.convertList((org.hl7.fhir.dstu3.model.ListResource) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Location)
-      return Location30_50.convertLocation((org.hl7.fhir.dstu3.model.Location) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Measure)
-      return Measure30_50.convertMeasure((org.hl7.fhir.dstu3.model.Measure) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Media)
-      return Media30_50.convertMedia((org.hl7.fhir.dstu3.model.Media) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Medication)
-      return Medication30_50.convertMedication((org.hl7.fhir.dstu3.model.Medication) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.MedicationAdministration)
-      return MedicationAdministration30_50.convertMedicationAdministration((org.hl7.fhir.dstu3.model.MedicationAdministration) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.MedicationDispense)
-      return MedicationDispense30_50.convertMedicationDispense((org.hl7.fhir.dstu3.model.MedicationDispense) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.MedicationRequest)
-      return MedicationRequest30_50.convertMedicationRequest((org.hl7.fhir.dstu3.model.MedicationRequest) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.MedicationStatement)
-      return MedicationStatement30_50.convertMedicationStatement((org.hl7.fhir.dstu3.model.MedicationStatement) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.MessageDefinition)
-      return MessageDefinition30_50.convertMessageDefinition((org.hl7.fhir.dstu3.model.MessageDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.MessageHeader)
-      return MessageHeader30_50.convertMessageHeader((org.hl7.fhir.dstu3.model.MessageHeader) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.NamingSystem)
-      return NamingSystem30_50.convertNamingSystem((org.hl7.fhir.dstu3.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Observation)
-      return Observation30_50.convertObservation((org.hl7.fhir.dstu3.model.Observation) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.OperationDefinition)
-      return OperationDefinition30_50.convertOperationDefinition((org.hl7.fhir.dstu3.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.OperationOutcome)
-      return OperationOutcome30_50.convertOperationOutcome((org.hl7.fhir.dstu3.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Organization)
-      return Organization30_50.convertOrganization((org.hl7.fhir.dstu3.model.Organization) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Patient)
-      return Patient30_50.convertPatient((org.hl7.fhir.dstu3.model.Patient) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.PaymentNotice)
-      return PaymentNotice30_50.convertPaymentNotice((org.hl7.fhir.dstu3.model.PaymentNotice) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Person)
-      return Person30_50.convertPerson((org.hl7.fhir.dstu3.model.Person) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.PlanDefinition)
-      return PlanDefinition30_50.convertPlanDefinition((org.hl7.fhir.dstu3.model.PlanDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Practitioner)
-      return Practitioner30_50.convertPractitioner((org.hl7.fhir.dstu3.model.Practitioner) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.PractitionerRole)
-      return PractitionerRole30_50.convertPractitionerRole((org.hl7.fhir.dstu3.model.PractitionerRole) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Provenance)
-      return Provenance30_50.convertProvenance((org.hl7.fhir.dstu3.model.Provenance) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Questionnaire)
-      return Questionnaire30_50.convertQuestionnaire((org.hl7.fhir.dstu3.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.QuestionnaireResponse)
-      return QuestionnaireResponse30_50.convertQuestionnaireResponse((org.hl7.fhir.dstu3.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.RelatedPerson)
-      return RelatedPerson30_50.convertRelatedPerson((org.hl7.fhir.dstu3.model.RelatedPerson) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.RiskAssessment)
-      return RiskAssessment30_50.convertRiskAssessment((org.hl7.fhir.dstu3.model.RiskAssessment) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Schedule)
-      return Schedule30_50.convertSchedule((org.hl7.fhir.dstu3.model.Schedule) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.SearchParameter)
-      return SearchParameter30_50.convertSearchParameter((org.hl7.fhir.dstu3.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Slot) return Slot30_50.convertSlot((org.hl7.fhir.dstu3.model.Slot) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Specimen)
-      return Specimen30_50.convertSpecimen((org.hl7.fhir.dstu3.model.Specimen) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.StructureDefinition)
-      return StructureDefinition30_50.convertStructureDefinition((org.hl7.fhir.dstu3.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.StructureMap)
-      return StructureMap30_50.convertStructureMap((org.hl7.fhir.dstu3.model.StructureMap) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.Substance)
-      return Substance30_50.convertSubstance((org.hl7.fhir.dstu3.model.Substance) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.SupplyDelivery)
-      return SupplyDelivery30_50.convertSupplyDelivery((org.hl7.fhir.dstu3.model.SupplyDelivery) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.TestReport)
-      return TestReport30_50.convertTestReport((org.hl7.fhir.dstu3.model.TestReport) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.TestScript)
-      return TestScript30_50.convertTestScript((org.hl7.fhir.dstu3.model.TestScript) src);
-    if (src instanceof org.hl7.fhir.dstu3.model.ValueSet)
-      return ValueSet30_50.convertValueSet((org.hl7.fhir.dstu3.model.ValueSet) src);
+    BiFunction<BaseAdvisor_30_50, org.hl7.fhir.dstu3.model.Resource, org.hl7.fhir.r5.model.Resource> convertor = R3_TO_R5.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R3 to R5");
     }
@@ -291,166 +298,8 @@ public class Resource30_50 {
 
   public org.hl7.fhir.dstu3.model.Resource convertResource(org.hl7.fhir.r5.model.Resource src) throws FHIRException {
     if (src == null) return null;
-    if (src instanceof org.hl7.fhir.r5.model.Parameters) {
-//      if (((org.hl7.fhir.r5.model.Parameters) src).hasParameterValue("profile-url"))
-//        return ExpansionProfile30_50.convertExpansionProfile((org.hl7.fhir.r5.model.Parameters) src);
-//      else
-        return Parameters30_50.convertParameters((org.hl7.fhir.r5.model.Parameters) src);
-    }
-    if (src instanceof org.hl7.fhir.r5.model.ActivityDefinition)
-      return ActivityDefinition30_50.convertActivityDefinition((org.hl7.fhir.r5.model.ActivityDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.ActorDefinition)
-      return ActorDefinition30_50.convertActorDefinition((org.hl7.fhir.r5.model.ActorDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.AllergyIntolerance)
-      return AllergyIntolerance30_50.convertAllergyIntolerance((org.hl7.fhir.r5.model.AllergyIntolerance) src);
-    if (src instanceof org.hl7.fhir.r5.model.Appointment)
-      return Appointment30_50.convertAppointment((org.hl7.fhir.r5.model.Appointment) src);
-    if (src instanceof org.hl7.fhir.r5.model.AppointmentResponse)
-      return AppointmentResponse30_50.convertAppointmentResponse((org.hl7.fhir.r5.model.AppointmentResponse) src);
-    if (src instanceof org.hl7.fhir.r5.model.AuditEvent)
-      return AuditEvent30_50.convertAuditEvent((org.hl7.fhir.r5.model.AuditEvent) src);
-    if (src instanceof org.hl7.fhir.r5.model.Basic)
-      return Basic30_50.convertBasic((org.hl7.fhir.r5.model.Basic) src);
-    if (src instanceof org.hl7.fhir.r5.model.Binary)
-      return Binary30_50.convertBinary((org.hl7.fhir.r5.model.Binary) src);
-    if (src instanceof org.hl7.fhir.r5.model.BodyStructure)
-      return BodySite30_50.convertBodySite((org.hl7.fhir.r5.model.BodyStructure) src);
-    if (src instanceof org.hl7.fhir.r5.model.Bundle)
-      return Bundle30_50.convertBundle((org.hl7.fhir.r5.model.Bundle) src);
-    if (src instanceof org.hl7.fhir.r5.model.CapabilityStatement)
-      return CapabilityStatement30_50.convertCapabilityStatement((org.hl7.fhir.r5.model.CapabilityStatement) src);
-    if (src instanceof org.hl7.fhir.r5.model.CarePlan)
-      return CarePlan30_50.convertCarePlan((org.hl7.fhir.r5.model.CarePlan) src);
-    if (src instanceof org.hl7.fhir.r5.model.CareTeam)
-      return CareTeam30_50.convertCareTeam((org.hl7.fhir.r5.model.CareTeam) src);
-    if (src instanceof org.hl7.fhir.r5.model.ClinicalImpression)
-      return ClinicalImpression30_50.convertClinicalImpression((org.hl7.fhir.r5.model.ClinicalImpression) src);
-    if (src instanceof org.hl7.fhir.r5.model.CodeSystem)
-      return CodeSystem30_50.convertCodeSystem((org.hl7.fhir.r5.model.CodeSystem) src);
-    if (src instanceof org.hl7.fhir.r5.model.Communication)
-      return Communication30_50.convertCommunication((org.hl7.fhir.r5.model.Communication) src);
-    if (src instanceof org.hl7.fhir.r5.model.CompartmentDefinition)
-      return CompartmentDefinition30_50.convertCompartmentDefinition((org.hl7.fhir.r5.model.CompartmentDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.Composition)
-      return Composition30_50.convertComposition((org.hl7.fhir.r5.model.Composition) src);
-    if (src instanceof org.hl7.fhir.r5.model.ConceptMap)
-      return ConceptMap30_50.convertConceptMap((org.hl7.fhir.r5.model.ConceptMap) src);
-    if (src instanceof org.hl7.fhir.r5.model.Condition)
-      return Condition30_50.convertCondition((org.hl7.fhir.r5.model.Condition) src);
-    if (src instanceof org.hl7.fhir.r5.model.Consent)
-      return Consent30_50.convertConsent((org.hl7.fhir.r5.model.Consent) src);
-    if (src instanceof org.hl7.fhir.r5.model.DetectedIssue)
-      return DetectedIssue30_50.convertDetectedIssue((org.hl7.fhir.r5.model.DetectedIssue) src);
-    if (src instanceof org.hl7.fhir.r5.model.DeviceUsage)
-      return DeviceUseStatement30_50.convertDeviceUseStatement((org.hl7.fhir.r5.model.DeviceUsage) src);
-    if (src instanceof org.hl7.fhir.r5.model.DiagnosticReport)
-      return DiagnosticReport30_50.convertDiagnosticReport((org.hl7.fhir.r5.model.DiagnosticReport) src);
-    if (src instanceof org.hl7.fhir.r5.model.DocumentReference)
-      return DocumentReference30_50.convertDocumentReference((org.hl7.fhir.r5.model.DocumentReference) src);
-    if (src instanceof org.hl7.fhir.r5.model.Encounter)
-      return Encounter30_50.convertEncounter((org.hl7.fhir.r5.model.Encounter) src);
-    if (src instanceof org.hl7.fhir.r5.model.Endpoint)
-      return Endpoint30_50.convertEndpoint((org.hl7.fhir.r5.model.Endpoint) src);
-    if (src instanceof org.hl7.fhir.r5.model.EpisodeOfCare)
-      return EpisodeOfCare30_50.convertEpisodeOfCare((org.hl7.fhir.r5.model.EpisodeOfCare) src);
-    if (src instanceof org.hl7.fhir.r5.model.FamilyMemberHistory)
-      return FamilyMemberHistory30_50.convertFamilyMemberHistory((org.hl7.fhir.r5.model.FamilyMemberHistory) src);
-    if (src instanceof org.hl7.fhir.r5.model.Flag) return Flag30_50.convertFlag((org.hl7.fhir.r5.model.Flag) src);
-    if (src instanceof org.hl7.fhir.r5.model.Goal) return Goal30_50.convertGoal((org.hl7.fhir.r5.model.Goal) src);
-    if (src instanceof org.hl7.fhir.r5.model.GraphDefinition)
-      return GraphDefinition30_50.convertGraphDefinition((org.hl7.fhir.r5.model.GraphDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.Group) return Group30_50.convertGroup((org.hl7.fhir.r5.model.Group) src);
-    if (src instanceof org.hl7.fhir.r5.model.HealthcareService)
-      return HealthcareService30_50.convertHealthcareService((org.hl7.fhir.r5.model.HealthcareService) src);
-    if (src instanceof org.hl7.fhir.r5.model.ImagingStudy)
-      return ImagingStudy30_50.convertImagingStudy((org.hl7.fhir.r5.model.ImagingStudy) src);
-    if (src instanceof org.hl7.fhir.r5.model.Immunization)
-      return Immunization30_50.convertImmunization((org.hl7.fhir.r5.model.Immunization) src);
-    if (src instanceof org.hl7.fhir.r5.model.ImplementationGuide)
-      return ImplementationGuide30_50.convertImplementationGuide((org.hl7.fhir.r5.model.ImplementationGuide) src);
-    if (src instanceof org.hl7.fhir.r5.model.Library)
-      return Library30_50.convertLibrary((org.hl7.fhir.r5.model.Library) src);
-    if (src instanceof org.hl7.fhir.r5.model.Linkage)
-      return Linkage30_50.convertLinkage((org.hl7.fhir.r5.model.Linkage) src);
-    if (src instanceof org.hl7.fhir.r5.model.ListResource)
-      return List30_50.convertList((org.hl7.fhir.r5.model.ListResource) src);
-    if (src instanceof org.hl7.fhir.r5.model.Location)
-      return Location30_50.convertLocation((org.hl7.fhir.r5.model.Location) src);
-    if (src instanceof org.hl7.fhir.r5.model.Measure)
-      return Measure30_50.convertMeasure((org.hl7.fhir.r5.model.Measure) src);
-    if (src instanceof org.hl7.fhir.r5.model.DocumentReference)
-      return Media30_50.convertMedia((org.hl7.fhir.r5.model.DocumentReference) src);
-    if (src instanceof org.hl7.fhir.r5.model.Medication)
-      return Medication30_50.convertMedication((org.hl7.fhir.r5.model.Medication) src);
-    if (src instanceof org.hl7.fhir.r5.model.MedicationAdministration)
-      return MedicationAdministration30_50.convertMedicationAdministration((org.hl7.fhir.r5.model.MedicationAdministration) src);
-    if (src instanceof org.hl7.fhir.r5.model.MedicationDispense)
-      return MedicationDispense30_50.convertMedicationDispense((org.hl7.fhir.r5.model.MedicationDispense) src);
-    if (src instanceof org.hl7.fhir.r5.model.MedicationRequest)
-      return MedicationRequest30_50.convertMedicationRequest((org.hl7.fhir.r5.model.MedicationRequest) src);
-    if (src instanceof org.hl7.fhir.r5.model.MedicationStatement)
-      return MedicationStatement30_50.convertMedicationStatement((org.hl7.fhir.r5.model.MedicationStatement) src);
-    if (src instanceof org.hl7.fhir.r5.model.MessageDefinition)
-      return MessageDefinition30_50.convertMessageDefinition((org.hl7.fhir.r5.model.MessageDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.MessageHeader)
-      return MessageHeader30_50.convertMessageHeader((org.hl7.fhir.r5.model.MessageHeader) src);
-    if (src instanceof org.hl7.fhir.r5.model.NamingSystem)
-      return NamingSystem30_50.convertNamingSystem((org.hl7.fhir.r5.model.NamingSystem) src);
-    if (src instanceof org.hl7.fhir.r5.model.Observation)
-      return Observation30_50.convertObservation((org.hl7.fhir.r5.model.Observation) src);
-    if (src instanceof org.hl7.fhir.r5.model.OperationDefinition)
-      return OperationDefinition30_50.convertOperationDefinition((org.hl7.fhir.r5.model.OperationDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.OperationOutcome)
-      return OperationOutcome30_50.convertOperationOutcome((org.hl7.fhir.r5.model.OperationOutcome) src);
-    if (src instanceof org.hl7.fhir.r5.model.Organization)
-      return Organization30_50.convertOrganization((org.hl7.fhir.r5.model.Organization) src);
-    if (src instanceof org.hl7.fhir.r5.model.Patient)
-      return Patient30_50.convertPatient((org.hl7.fhir.r5.model.Patient) src);
-    if (src instanceof org.hl7.fhir.r5.model.PaymentNotice)
-      return PaymentNotice30_50.convertPaymentNotice((org.hl7.fhir.r5.model.PaymentNotice) src);
-    if (src instanceof org.hl7.fhir.r5.model.Person)
-      return Person30_50.convertPerson((org.hl7.fhir.r5.model.Person) src);
-    if (src instanceof org.hl7.fhir.r5.model.PlanDefinition)
-      return PlanDefinition30_50.convertPlanDefinition((org.hl7.fhir.r5.model.PlanDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.Practitioner)
-      return Practitioner30_50.convertPractitioner((org.hl7.fhir.r5.model.Practitioner) src);
-    if (src instanceof org.hl7.fhir.r5.model.PractitionerRole)
-      return PractitionerRole30_50.convertPractitionerRole((org.hl7.fhir.r5.model.PractitionerRole) src);
-    if (src instanceof org.hl7.fhir.r5.model.Provenance)
-      return Provenance30_50.convertProvenance((org.hl7.fhir.r5.model.Provenance) src);
-    if (src instanceof org.hl7.fhir.r5.model.Questionnaire)
-      return Questionnaire30_50.convertQuestionnaire((org.hl7.fhir.r5.model.Questionnaire) src);
-    if (src instanceof org.hl7.fhir.r5.model.QuestionnaireResponse)
-      return QuestionnaireResponse30_50.convertQuestionnaireResponse((org.hl7.fhir.r5.model.QuestionnaireResponse) src);
-    if (src instanceof org.hl7.fhir.r5.model.RelatedPerson)
-      return RelatedPerson30_50.convertRelatedPerson((org.hl7.fhir.r5.model.RelatedPerson) src);
-    if (src instanceof org.hl7.fhir.r5.model.Requirements)
-      return Requirements30_50.convertRequirements((org.hl7.fhir.r5.model.Requirements) src);
-    if (src instanceof org.hl7.fhir.r5.model.RiskAssessment)
-      return RiskAssessment30_50.convertRiskAssessment((org.hl7.fhir.r5.model.RiskAssessment) src);
-    if (src instanceof org.hl7.fhir.r5.model.Schedule)
-      return Schedule30_50.convertSchedule((org.hl7.fhir.r5.model.Schedule) src);
-    if (src instanceof org.hl7.fhir.r5.model.SearchParameter)
-      return SearchParameter30_50.convertSearchParameter((org.hl7.fhir.r5.model.SearchParameter) src);
-    if (src instanceof org.hl7.fhir.r5.model.Slot) return Slot30_50.convertSlot((org.hl7.fhir.r5.model.Slot) src);
-    if (src instanceof org.hl7.fhir.r5.model.Specimen)
-      return Specimen30_50.convertSpecimen((org.hl7.fhir.r5.model.Specimen) src);
-    if (src instanceof org.hl7.fhir.r5.model.StructureDefinition)
-      return StructureDefinition30_50.convertStructureDefinition((org.hl7.fhir.r5.model.StructureDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.StructureMap)
-      return StructureMap30_50.convertStructureMap((org.hl7.fhir.r5.model.StructureMap) src);
-    if (src instanceof org.hl7.fhir.r5.model.Substance)
-      return Substance30_50.convertSubstance((org.hl7.fhir.r5.model.Substance) src);
-    if (src instanceof org.hl7.fhir.r5.model.SupplyDelivery)
-      return SupplyDelivery30_50.convertSupplyDelivery((org.hl7.fhir.r5.model.SupplyDelivery) src);
-    if (src instanceof org.hl7.fhir.r5.model.TestPlan)
-      return TestPlan30_50.convertTestPlan((org.hl7.fhir.r5.model.TestPlan) src);
-    if (src instanceof org.hl7.fhir.r5.model.TestReport)
-      return TestReport30_50.convertTestReport((org.hl7.fhir.r5.model.TestReport) src);
-    if (src instanceof org.hl7.fhir.r5.model.TestScript)
-      return TestScript30_50.convertTestScript((org.hl7.fhir.r5.model.TestScript) src);
-    if (src instanceof org.hl7.fhir.r5.model.ValueSet)
-      return ValueSet30_50.convertValueSet((org.hl7.fhir.r5.model.ValueSet) src);
+    BiFunction<BaseAdvisor_30_50, org.hl7.fhir.r5.model.Resource, org.hl7.fhir.dstu3.model.Resource> convertor = R5_TO_R3.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The resource " + src.fhirType()+" cannot be converted from R5 to R3");
     } else {
@@ -501,4 +350,16 @@ public class Resource30_50 {
       .map(Extension30_50::convertExtension)
       .forEach(tgt::addModifierExtension);
   }
+
+  private static org.hl7.fhir.r5.model.Resource convertBasic(org.hl7.fhir.dstu3.model.Basic basic) {
+    if (basic.getCode().hasCoding("http://hl7.org/fhir/fhir-types", "ActorDefinition")) {
+      return ActorDefinition30_50.convertActorDefinition(basic);
+    } else if (basic.getCode().hasCoding("http://hl7.org/fhir/fhir-types", "Requirements")) {
+      return Requirements30_50.convertRequirements(basic);
+    } else if (basic.getCode().hasCoding("http://hl7.org/fhir/fhir-types", "TestPlan")) {
+      return TestPlan30_50.convertTestPlan(basic);
+    } else {
+      return Basic30_50.convertBasic(basic);
+    }
+  }
 }
@@ -1,5 +1,8 @@
 package org.hl7.fhir.convertors.conv43_50.datatypes43_50;
 
+import java.util.function.BiFunction;
+
+import org.hl7.fhir.convertors.ConvertorDispatchTable;
 import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_43_50;
 import org.hl7.fhir.convertors.conv43_50.datatypes43_50.general43_50.Address43_50;
 import org.hl7.fhir.convertors.conv43_50.datatypes43_50.general43_50.Age43_50;
@@ -64,6 +67,130 @@ import org.hl7.fhir.exceptions.FHIRException;
 
 public class Type43_50 {
 
+  private static final ConvertorDispatchTable<BaseAdvisor_43_50, org.hl7.fhir.r4b.model.DataType, org.hl7.fhir.r5.model.DataType> R4B_TO_R5 =
+    new ConvertorDispatchTable<BaseAdvisor_43_50, org.hl7.fhir.r4b.model.DataType, org.hl7.fhir.r5.model.DataType>()
+      .add(org.hl7.fhir.r4b.model.Base64BinaryType.class, Base64Binary43_50::convertBase64Binary)
+      .add(org.hl7.fhir.r4b.model.BooleanType.class, Boolean43_50::convertBoolean)
+      .add(org.hl7.fhir.r4b.model.CanonicalType.class, Canonical43_50::convertCanonical)
+      .add(org.hl7.fhir.r4b.model.CodeType.class, Code43_50::convertCode)
+      .add(org.hl7.fhir.r4b.model.DateType.class, Date43_50::convertDate)
+      .add(org.hl7.fhir.r4b.model.DateTimeType.class, DateTime43_50::convertDateTime)
+      .add(org.hl7.fhir.r4b.model.DecimalType.class, Decimal43_50::convertDecimal)
+      .add(org.hl7.fhir.r4b.model.IdType.class, Id43_50::convertId)
+      .add(org.hl7.fhir.r4b.model.InstantType.class, Instant43_50::convertInstant)
+      .add(org.hl7.fhir.r4b.model.UnsignedIntType.class, UnsignedInt43_50::convertUnsignedInt)
+      .add(org.hl7.fhir.r4b.model.PositiveIntType.class, PositiveInt43_50::convertPositiveInt)
+      .add(org.hl7.fhir.r4b.model.IntegerType.class, Integer43_50::convertInteger)
+      .add(org.hl7.fhir.r4b.model.MarkdownType.class, MarkDown43_50::convertMarkdown)
+      .add(org.hl7.fhir.r4b.model.OidType.class, Oid43_50::convertOid)
+      .add(org.hl7.fhir.r4b.model.TimeType.class, Time43_50::convertTime)
+      .add(org.hl7.fhir.r4b.model.UrlType.class, Url43_50::convertUrl)
+      .add(org.hl7.fhir.r4b.model.UuidType.class, Uuid43_50::convertUuid)
+      .add(org.hl7.fhir.r4b.model.UriType.class, Uri43_50::convertUri)
+      .add(org.hl7.fhir.r4b.model.StringType.class, String43_50::convertString)
+      .add(org.hl7.fhir.r4b.model.Extension.class, Extension43_50::convertExtension)
+      .add(org.hl7.fhir.r4b.model.Narrative.class, Narrative43_50::convertNarrative)
+      .add(org.hl7.fhir.r4b.model.Address.class, Address43_50::convertAddress)
+      .add(org.hl7.fhir.r4b.model.Age.class, Age43_50::convertAge)
+      .add(org.hl7.fhir.r4b.model.Annotation.class, Annotation43_50::convertAnnotation)
+      .add(org.hl7.fhir.r4b.model.Attachment.class, Attachment43_50::convertAttachment)
+      .add(org.hl7.fhir.r4b.model.CodeableConcept.class, CodeableConcept43_50::convertCodeableConcept)
+      .add(org.hl7.fhir.r4b.model.Coding.class, Coding43_50::convertCoding)
+      .add(org.hl7.fhir.r4b.model.ContactDetail.class, ContactDetail43_50::convertContactDetail)
+      .add(org.hl7.fhir.r4b.model.ContactPoint.class, ContactPoint43_50::convertContactPoint)
+      .add(org.hl7.fhir.r4b.model.Contributor.class, Contributor43_50::convertContributor)
+      .add(org.hl7.fhir.r4b.model.Count.class, Count43_50::convertCount)
+      .add(org.hl7.fhir.r4b.model.DataRequirement.class, DataRequirement43_50::convertDataRequirement)
+      .add(org.hl7.fhir.r4b.model.Distance.class, Distance43_50::convertDistance)
+      .add(org.hl7.fhir.r4b.model.Dosage.class, Dosage43_50::convertDosage)
+      .add(org.hl7.fhir.r4b.model.Duration.class, Duration43_50::convertDuration)
+      .add(org.hl7.fhir.r4b.model.Expression.class, Expression43_50::convertExpression)
+      .add(org.hl7.fhir.r4b.model.HumanName.class, HumanName43_50::convertHumanName)
+      .add(org.hl7.fhir.r4b.model.Identifier.class, Identifier43_50::convertIdentifier)
+      .add(org.hl7.fhir.r4b.model.MarketingStatus.class, MarketingStatus43_50::convertMarketingStatus)
+      .add(org.hl7.fhir.r4b.model.Meta.class, Meta43_50::convertMeta)
+      .add(org.hl7.fhir.r4b.model.Money.class, Money43_50::convertMoney)
+      .add(org.hl7.fhir.r4b.model.ParameterDefinition.class, ParameterDefinition43_50::convertParameterDefinition)
+      .add(org.hl7.fhir.r4b.model.Period.class, Period43_50::convertPeriod)
+      .add(org.hl7.fhir.r4b.model.ProdCharacteristic.class, ProdCharacteristic43_50::convertProdCharacteristic)
+      .add(org.hl7.fhir.r4b.model.ProductShelfLife.class, ProductShelfLife43_50::convertProductShelfLife)
+      .add(org.hl7.fhir.r4b.model.MoneyQuantity.class, MoneyQuantity43_50::convertMoneyQuantity)
+      .add(org.hl7.fhir.r4b.model.SimpleQuantity.class, SimpleQuantity43_50::convertSimpleQuantity)
+      .add(org.hl7.fhir.r4b.model.Quantity.class, Quantity43_50::convertQuantity)
+      .add(org.hl7.fhir.r4b.model.Range.class, Range43_50::convertRange)
+      .add(org.hl7.fhir.r4b.model.Ratio.class, Ratio43_50::convertRatio)
+      .add(org.hl7.fhir.r4b.model.Reference.class, Reference43_50::convertReference)
+      .add(org.hl7.fhir.r4b.model.RelatedArtifact.class, RelatedArtifact43_50::convertRelatedArtifact)
+      .add(org.hl7.fhir.r4b.model.SampledData.class, SampledData43_50::convertSampledData)
+      .add(org.hl7.fhir.r4b.model.Signature.class, Signature43_50::convertSignature)
+      .add(org.hl7.fhir.r4b.model.SubstanceAmount.class, SubstanceAmount43_50::convertSubstanceAmount)
+      .add(org.hl7.fhir.r4b.model.Timing.class, Timing43_50::convertTiming)
+      .add(org.hl7.fhir.r4b.model.TriggerDefinition.class, TriggerDefinition43_50::convertTriggerDefinition)
+      .add(org.hl7.fhir.r4b.model.UsageContext.class, UsageContext43_50::convertUsageContext)
+      .add(org.hl7.fhir.r4b.model.ElementDefinition.class, ElementDefinition43_50::convertElementDefinition);
+
+  private static final ConvertorDispatchTable<BaseAdvisor_43_50, org.hl7.fhir.r5.model.DataType, org.hl7.fhir.r4b.model.DataType> R5_TO_R4B =
+    new ConvertorDispatchTable<BaseAdvisor_43_50, org.hl7.fhir.r5.model.DataType, org.hl7.fhir.r4b.model.DataType>()
+      .add(org.hl7.fhir.r5.model.Base64BinaryType.class, Base64Binary43_50::convertBase64Binary)
+      .add(org.hl7.fhir.r5.model.BooleanType.class, Boolean43_50::convertBoolean)
+      .add(org.hl7.fhir.r5.model.CanonicalType.class, Canonical43_50::convertCanonical)
+      .add(org.hl7.fhir.r5.model.CodeType.class, Code43_50::convertCode)
+      .add(org.hl7.fhir.r5.model.DateType.class, Date43_50::convertDate)
+      .add(org.hl7.fhir.r5.model.DateTimeType.class, DateTime43_50::convertDateTime)
+      .add(org.hl7.fhir.r5.model.DecimalType.class, Decimal43_50::convertDecimal)
+      .add(org.hl7.fhir.r5.model.IdType.class, Id43_50::convertId)
+      .add(org.hl7.fhir.r5.model.InstantType.class, Instant43_50::convertInstant)
+      .add(org.hl7.fhir.r5.model.MarkdownType.class, MarkDown43_50::convertMarkdown)
+      .add(org.hl7.fhir.r5.model.OidType.class, Oid43_50::convertOid)
+      .add(org.hl7.fhir.r5.model.PositiveIntType.class, PositiveInt43_50::convertPositiveInt)
+      .add(org.hl7.fhir.r5.model.StringType.class, String43_50::convertString)
+      .add(org.hl7.fhir.r5.model.TimeType.class, Time43_50::convertTime)
+      .add(org.hl7.fhir.r5.model.UnsignedIntType.class, UnsignedInt43_50::convertUnsignedInt)
+      .add(org.hl7.fhir.r5.model.IntegerType.class, Integer43_50::convertInteger)
+      .add(org.hl7.fhir.r5.model.UrlType.class, Url43_50::convertUrl)
+      .add(org.hl7.fhir.r5.model.UuidType.class, Uuid43_50::convertUuid)
+      .add(org.hl7.fhir.r5.model.UriType.class, Uri43_50::convertUri)
+      .add(org.hl7.fhir.r5.model.Extension.class, Extension43_50::convertExtension)
+      .add(org.hl7.fhir.r5.model.Narrative.class, Narrative43_50::convertNarrative)
+      .add(org.hl7.fhir.r5.model.Address.class, Address43_50::convertAddress)
+      .add(org.hl7.fhir.r5.model.Age.class, Age43_50::convertAge)
+      .add(org.hl7.fhir.r5.model.Annotation.class, Annotation43_50::convertAnnotation)
+      .add(org.hl7.fhir.r5.model.Attachment.class, Attachment43_50::convertAttachment)
+      .add(org.hl7.fhir.r5.model.CodeableConcept.class, CodeableConcept43_50::convertCodeableConcept)
+      .add(org.hl7.fhir.r5.model.Coding.class, Coding43_50::convertCoding)
+      .add(org.hl7.fhir.r5.model.ContactDetail.class, ContactDetail43_50::convertContactDetail)
+      .add(org.hl7.fhir.r5.model.ContactPoint.class, ContactPoint43_50::convertContactPoint)
+      .add(org.hl7.fhir.r5.model.Contributor.class, Contributor43_50::convertContributor)
+      .add(org.hl7.fhir.r5.model.Count.class, Count43_50::convertCount)
+      .add(org.hl7.fhir.r5.model.DataRequirement.class, DataRequirement43_50::convertDataRequirement)
+      .add(org.hl7.fhir.r5.model.Distance.class, Distance43_50::convertDistance)
+      .add(org.hl7.fhir.r5.model.Dosage.class, Dosage43_50::convertDosage)
+      .add(org.hl7.fhir.r5.model.Duration.class, Duration43_50::convertDuration)
+      .add(org.hl7.fhir.r5.model.Expression.class, Expression43_50::convertExpression)
+      .add(org.hl7.fhir.r5.model.HumanName.class, HumanName43_50::convertHumanName)
+      .add(org.hl7.fhir.r5.model.Identifier.class, Identifier43_50::convertIdentifier)
+      .add(org.hl7.fhir.r5.model.MarketingStatus.class, MarketingStatus43_50::convertMarketingStatus)
+      .add(org.hl7.fhir.r5.model.Meta.class, Meta43_50::convertMeta)
+      .add(org.hl7.fhir.r5.model.Money.class, Money43_50::convertMoney)
+      .add(org.hl7.fhir.r5.model.ParameterDefinition.class, ParameterDefinition43_50::convertParameterDefinition)
+      .add(org.hl7.fhir.r5.model.Period.class, Period43_50::convertPeriod)
+      .add(org.hl7.fhir.r5.model.ProdCharacteristic.class, ProdCharacteristic43_50::convertProdCharacteristic)
+      .add(org.hl7.fhir.r5.model.ProductShelfLife.class, ProductShelfLife43_50::convertProductShelfLife)
+      .add(org.hl7.fhir.r5.model.MoneyQuantity.class, MoneyQuantity43_50::convertMoneyQuantity)
+      .add(org.hl7.fhir.r5.model.SimpleQuantity.class, SimpleQuantity43_50::convertSimpleQuantity)
+      .add(org.hl7.fhir.r5.model.Quantity.class, Quantity43_50::convertQuantity)
+      .add(org.hl7.fhir.r5.model.Range.class, Range43_50::convertRange)
+      .add(org.hl7.fhir.r5.model.Ratio.class, Ratio43_50::convertRatio)
+      .add(org.hl7.fhir.r5.model.Reference.class, Reference43_50::convertReference)
+      .add(org.hl7.fhir.r5.model.RelatedArtifact.class, RelatedArtifact43_50::convertRelatedArtifact)
+      .add(org.hl7.fhir.r5.model.SampledData.class, SampledData43_50::convertSampledData)
+      .add(org.hl7.fhir.r5.model.Signature.class, Signature43_50::convertSignature)
+      .add(org.hl7.fhir.r5.model.SubstanceAmount.class, SubstanceAmount43_50::convertSubstanceAmount)
+      .add(org.hl7.fhir.r5.model.Timing.class, Timing43_50::convertTiming)
+      .add(org.hl7.fhir.r5.model.TriggerDefinition.class, TriggerDefinition43_50::convertTriggerDefinition)
+      .add(org.hl7.fhir.r5.model.UsageContext.class, UsageContext43_50::convertUsageContext)
+      .add(org.hl7.fhir.r5.model.ElementDefinition.class, ElementDefinition43_50::convertElementDefinition);
+
   private final BaseAdvisor_43_50 advisor;
 
   public Type43_50(BaseAdvisor_43_50 advisor) {
@@ -72,114 +199,8 @@ public class Type43_50 {
 
   public org.hl7.fhir.r5.model.DataType convertType(org.hl7.fhir.r4b.model.DataType src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.r4b.model.Base64BinaryType)
-      return Base64Binary43_50.convertBase64Binary((org.hl7.fhir.r4b.model.Base64BinaryType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.BooleanType)
-      return Boolean43_50.convertBoolean((org.hl7.fhir.r4b.model.BooleanType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.CanonicalType)
-      return Canonical43_50.convertCanonical((org.hl7.fhir.r4b.model.CanonicalType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.CodeType)
-      return Code43_50.convertCode((org.hl7.fhir.r4b.model.CodeType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.DateType)
-      return Date43_50.convertDate((org.hl7.fhir.r4b.model.DateType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.DateTimeType)
-      return DateTime43_50.convertDateTime((org.hl7.fhir.r4b.model.DateTimeType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.DecimalType)
-      return Decimal43_50.convertDecimal((org.hl7.fhir.r4b.model.DecimalType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.IdType) return Id43_50.convertId((org.hl7.fhir.r4b.model.IdType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.InstantType)
-      return Instant43_50.convertInstant((org.hl7.fhir.r4b.model.InstantType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.UnsignedIntType)
-      return UnsignedInt43_50.convertUnsignedInt((org.hl7.fhir.r4b.model.UnsignedIntType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.PositiveIntType)
-      return PositiveInt43_50.convertPositiveInt((org.hl7.fhir.r4b.model.PositiveIntType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.IntegerType)
-      return Integer43_50.convertInteger((org.hl7.fhir.r4b.model.IntegerType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.MarkdownType)
-      return MarkDown43_50.convertMarkdown((org.hl7.fhir.r4b.model.MarkdownType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.OidType) return Oid43_50.convertOid((org.hl7.fhir.r4b.model.OidType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.TimeType)
-      return Time43_50.convertTime((org.hl7.fhir.r4b.model.TimeType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.UrlType) return Url43_50.convertUrl((org.hl7.fhir.r4b.model.UrlType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.UuidType)
-      return Uuid43_50.convertUuid((org.hl7.fhir.r4b.model.UuidType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.UriType) return Uri43_50.convertUri((org.hl7.fhir.r4b.model.UriType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.StringType)
-      return String43_50.convertString((org.hl7.fhir.r4b.model.StringType) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Extension)
-      return Extension43_50.convertExtension((org.hl7.fhir.r4b.model.Extension) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Narrative)
-      return Narrative43_50.convertNarrative((org.hl7.fhir.r4b.model.Narrative) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Address)
-      return Address43_50.convertAddress((org.hl7.fhir.r4b.model.Address) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Age) return Age43_50.convertAge((org.hl7.fhir.r4b.model.Age) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Annotation)
-      return Annotation43_50.convertAnnotation((org.hl7.fhir.r4b.model.Annotation) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Attachment)
-      return Attachment43_50.convertAttachment((org.hl7.fhir.r4b.model.Attachment) src);
-    if (src instanceof org.hl7.fhir.r4b.model.CodeableConcept)
-      return CodeableConcept43_50.convertCodeableConcept((org.hl7.fhir.r4b.model.CodeableConcept) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Coding)
-      return Coding43_50.convertCoding((org.hl7.fhir.r4b.model.Coding) src);
-    if (src instanceof org.hl7.fhir.r4b.model.ContactDetail)
-      return ContactDetail43_50.convertContactDetail((org.hl7.fhir.r4b.model.ContactDetail) src);
-    if (src instanceof org.hl7.fhir.r4b.model.ContactPoint)
-      return ContactPoint43_50.convertContactPoint((org.hl7.fhir.r4b.model.ContactPoint) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Contributor)
-      return Contributor43_50.convertContributor((org.hl7.fhir.r4b.model.Contributor) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Count) return Count43_50.convertCount((org.hl7.fhir.r4b.model.Count) src);
-    if (src instanceof org.hl7.fhir.r4b.model.DataRequirement)
-      return DataRequirement43_50.convertDataRequirement((org.hl7.fhir.r4b.model.DataRequirement) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Distance)
-      return Distance43_50.convertDistance((org.hl7.fhir.r4b.model.Distance) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Dosage)
-      return Dosage43_50.convertDosage((org.hl7.fhir.r4b.model.Dosage) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Duration)
-      return Duration43_50.convertDuration((org.hl7.fhir.r4b.model.Duration) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Expression)
-      return Expression43_50.convertExpression((org.hl7.fhir.r4b.model.Expression) src);
-    if (src instanceof org.hl7.fhir.r4b.model.HumanName)
-      return HumanName43_50.convertHumanName((org.hl7.fhir.r4b.model.HumanName) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Identifier)
-      return Identifier43_50.convertIdentifier((org.hl7.fhir.r4b.model.Identifier) src);
-    if (src instanceof org.hl7.fhir.r4b.model.MarketingStatus)
-      return MarketingStatus43_50.convertMarketingStatus((org.hl7.fhir.r4b.model.MarketingStatus) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Meta) return Meta43_50.convertMeta((org.hl7.fhir.r4b.model.Meta) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Money) return Money43_50.convertMoney((org.hl7.fhir.r4b.model.Money) src);
-    if (src instanceof org.hl7.fhir.r4b.model.ParameterDefinition)
-      return ParameterDefinition43_50.convertParameterDefinition((org.hl7.fhir.r4b.model.ParameterDefinition) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Period)
-      return Period43_50.convertPeriod((org.hl7.fhir.r4b.model.Period) src);
-    if (src instanceof org.hl7.fhir.r4b.model.ProdCharacteristic)
-      return ProdCharacteristic43_50.convertProdCharacteristic((org.hl7.fhir.r4b.model.ProdCharacteristic) src);
-    if (src instanceof org.hl7.fhir.r4b.model.ProductShelfLife)
-      return ProductShelfLife43_50.convertProductShelfLife((org.hl7.fhir.r4b.model.ProductShelfLife) src);
-    if (src instanceof org.hl7.fhir.r4b.model.MoneyQuantity)
-      return MoneyQuantity43_50.convertMoneyQuantity((org.hl7.fhir.r4b.model.MoneyQuantity) src);
-    if (src instanceof org.hl7.fhir.r4b.model.SimpleQuantity)
-      return SimpleQuantity43_50.convertSimpleQuantity((org.hl7.fhir.r4b.model.SimpleQuantity) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Quantity)
-      return Quantity43_50.convertQuantity((org.hl7.fhir.r4b.model.Quantity) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Range) return Range43_50.convertRange((org.hl7.fhir.r4b.model.Range) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Ratio) return Ratio43_50.convertRatio((org.hl7.fhir.r4b.model.Ratio) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Reference)
-      return Reference43_50.convertReference((org.hl7.fhir.r4b.model.Reference) src);
-    if (src instanceof org.hl7.fhir.r4b.model.RelatedArtifact)
-      return RelatedArtifact43_50.convertRelatedArtifact((org.hl7.fhir.r4b.model.RelatedArtifact) src);
-    if (src instanceof org.hl7.fhir.r4b.model.SampledData)
-      return SampledData43_50.convertSampledData((org.hl7.fhir.r4b.model.SampledData) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Signature)
-      return Signature43_50.convertSignature((org.hl7.fhir.r4b.model.Signature) src);
-    if (src instanceof org.hl7.fhir.r4b.model.SubstanceAmount)
-      return SubstanceAmount43_50.convertSubstanceAmount((org.hl7.fhir.r4b.model.SubstanceAmount) src);
-    if (src instanceof org.hl7.fhir.r4b.model.Timing)
-      return Timing43_50.convertTiming((org.hl7.fhir.r4b.model.Timing) src);
-    if (src instanceof org.hl7.fhir.r4b.model.TriggerDefinition)
-      return TriggerDefinition43_50.convertTriggerDefinition((org.hl7.fhir.r4b.model.TriggerDefinition) src);
-    if (src instanceof org.hl7.fhir.r4b.model.UsageContext)
-      return UsageContext43_50.convertUsageContext((org.hl7.fhir.r4b.model.UsageContext) src);
-    if (src instanceof org.hl7.fhir.r4b.model.ElementDefinition)
-      return ElementDefinition43_50.convertElementDefinition((org.hl7.fhir.r4b.model.ElementDefinition) src);
+    BiFunction<BaseAdvisor_43_50, org.hl7.fhir.r4b.model.DataType, org.hl7.fhir.r5.model.DataType> convertor = R4B_TO_R5.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The type " + src.fhirType()+" cannot be converted from R4B to R5");
     } else {
@@ -189,114 +210,8 @@ public class Type43_50 {
 
   public org.hl7.fhir.r4b.model.DataType convertType(org.hl7.fhir.r5.model.DataType src) throws FHIRException {
     if (src == null || src.isEmpty()) return null;
-    if (src instanceof org.hl7.fhir.r5.model.Base64BinaryType)
-      return Base64Binary43_50.convertBase64Binary((org.hl7.fhir.r5.model.Base64BinaryType) src);
-    if (src instanceof org.hl7.fhir.r5.model.BooleanType)
-      return Boolean43_50.convertBoolean((org.hl7.fhir.r5.model.BooleanType) src);
-    if (src instanceof org.hl7.fhir.r5.model.CanonicalType)
-      return Canonical43_50.convertCanonical((org.hl7.fhir.r5.model.CanonicalType) src);
-    if (src instanceof org.hl7.fhir.r5.model.CodeType)
-      return Code43_50.convertCode((org.hl7.fhir.r5.model.CodeType) src);
-    if (src instanceof org.hl7.fhir.r5.model.DateType)
-      return Date43_50.convertDate((org.hl7.fhir.r5.model.DateType) src);
-    if (src instanceof org.hl7.fhir.r5.model.DateTimeType)
-      return DateTime43_50.convertDateTime((org.hl7.fhir.r5.model.DateTimeType) src);
-    if (src instanceof org.hl7.fhir.r5.model.DecimalType)
-      return Decimal43_50.convertDecimal((org.hl7.fhir.r5.model.DecimalType) src);
-    if (src instanceof org.hl7.fhir.r5.model.IdType) return Id43_50.convertId((org.hl7.fhir.r5.model.IdType) src);
-    if (src instanceof org.hl7.fhir.r5.model.InstantType)
-      return Instant43_50.convertInstant((org.hl7.fhir.r5.model.InstantType) src);
-    if (src instanceof org.hl7.fhir.r5.model.MarkdownType)
-      return MarkDown43_50.convertMarkdown((org.hl7.fhir.r5.model.MarkdownType) src);
-    if (src instanceof org.hl7.fhir.r5.model.OidType) return Oid43_50.convertOid((org.hl7.fhir.r5.model.OidType) src);
-    if (src instanceof org.hl7.fhir.r5.model.PositiveIntType)
-      return PositiveInt43_50.convertPositiveInt((org.hl7.fhir.r5.model.PositiveIntType) src);
-    if (src instanceof org.hl7.fhir.r5.model.StringType)
-      return String43_50.convertString((org.hl7.fhir.r5.model.StringType) src);
-    if (src instanceof org.hl7.fhir.r5.model.TimeType)
-      return Time43_50.convertTime((org.hl7.fhir.r5.model.TimeType) src);
-    if (src instanceof org.hl7.fhir.r5.model.UnsignedIntType)
-      return UnsignedInt43_50.convertUnsignedInt((org.hl7.fhir.r5.model.UnsignedIntType) src);
-    if (src instanceof org.hl7.fhir.r5.model.IntegerType)
-      return Integer43_50.convertInteger((org.hl7.fhir.r5.model.IntegerType) src);
-    if (src instanceof org.hl7.fhir.r5.model.UrlType) return Url43_50.convertUrl((org.hl7.fhir.r5.model.UrlType) src);
-    if (src instanceof org.hl7.fhir.r5.model.UuidType)
-      return Uuid43_50.convertUuid((org.hl7.fhir.r5.model.UuidType) src);
-    if (src instanceof org.hl7.fhir.r5.model.UriType) return Uri43_50.convertUri((org.hl7.fhir.r5.model.UriType) src);
-    if (src instanceof org.hl7.fhir.r5.model.Extension)
-      return Extension43_50.convertExtension((org.hl7.fhir.r5.model.Extension) src);
-    if (src instanceof org.hl7.fhir.r5.model.Narrative)
-      return Narrative43_50.convertNarrative((org.hl7.fhir.r5.model.Narrative) src);
-    if (src instanceof org.hl7.fhir.r5.model.Address)
-      return Address43_50.convertAddress((org.hl7.fhir.r5.model.Address) src);
-    if (src instanceof org.hl7.fhir.r5.model.Age) return Age43_50.convertAge((org.hl7.fhir.r5.model.Age) src);
-    if (src instanceof org.hl7.fhir.r5.model.Annotation)
-      return Annotation43_50.convertAnnotation((org.hl7.fhir.r5.model.Annotation) src);
-    if (src instanceof org.hl7.fhir.r5.model.Attachment)
-      return Attachment43_50.convertAttachment((org.hl7.fhir.r5.model.Attachment) src);
-    if (src instanceof org.hl7.fhir.r5.model.CodeableConcept)
-      return CodeableConcept43_50.convertCodeableConcept((org.hl7.fhir.r5.model.CodeableConcept) src);
-    if (src instanceof org.hl7.fhir.r5.model.Coding)
-      return Coding43_50.convertCoding((org.hl7.fhir.r5.model.Coding) src);
-    if (src instanceof org.hl7.fhir.r5.model.ContactDetail)
-      return ContactDetail43_50.convertContactDetail((org.hl7.fhir.r5.model.ContactDetail) src);
-    if (src instanceof org.hl7.fhir.r5.model.ContactPoint)
-      return ContactPoint43_50.convertContactPoint((org.hl7.fhir.r5.model.ContactPoint) src);
-    if (src instanceof org.hl7.fhir.r5.model.Contributor)
-      return Contributor43_50.convertContributor((org.hl7.fhir.r5.model.Contributor) src);
-    if (src instanceof org.hl7.fhir.r5.model.Count) return Count43_50.convertCount((org.hl7.fhir.r5.model.Count) src);
-    if (src instanceof org.hl7.fhir.r5.model.DataRequirement)
-      return DataRequirement43_50.convertDataRequirement((org.hl7.fhir.r5.model.DataRequirement) src);
-    if (src instanceof org.hl7.fhir.r5.model.Distance)
-      return Distance43_50.convertDistance((org.hl7.fhir.r5.model.Distance) src);
-    if (src instanceof org.hl7.fhir.r5.model.Dosage)
-      return Dosage43_50.convertDosage((org.hl7.fhir.r5.model.Dosage) src);
-    if (src instanceof org.hl7.fhir.r5.model.Duration)
-      return Duration43_50.convertDuration((org.hl7.fhir.r5.model.Duration) src);
-    if (src instanceof org.hl7.fhir.r5.model.Expression)
-      return Expression43_50.convertExpression((org.hl7.fhir.r5.model.Expression) src);
-    if (src instanceof org.hl7.fhir.r5.model.HumanName)
-      return HumanName43_50.convertHumanName((org.hl7.fhir.r5.model.HumanName) src);
-    if (src instanceof org.hl7.fhir.r5.model.Identifier)
-      return Identifier43_50.convertIdentifier((org.hl7.fhir.r5.model.Identifier) src);
-    if (src instanceof org.hl7.fhir.r5.model.MarketingStatus)
-      return MarketingStatus43_50.convertMarketingStatus((org.hl7.fhir.r5.model.MarketingStatus) src);
-    if (src instanceof org.hl7.fhir.r5.model.Meta) return Meta43_50.convertMeta((org.hl7.fhir.r5.model.Meta) src);
-    if (src instanceof org.hl7.fhir.r5.model.Money) return Money43_50.convertMoney((org.hl7.fhir.r5.model.Money) src);
-    if (src instanceof org.hl7.fhir.r5.model.ParameterDefinition)
-      return ParameterDefinition43_50.convertParameterDefinition((org.hl7.fhir.r5.model.ParameterDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.Period)
-      return Period43_50.convertPeriod((org.hl7.fhir.r5.model.Period) src);
-    if (src instanceof org.hl7.fhir.r5.model.ProdCharacteristic)
-      return ProdCharacteristic43_50.convertProdCharacteristic((org.hl7.fhir.r5.model.ProdCharacteristic) src);
-    if (src instanceof org.hl7.fhir.r5.model.ProductShelfLife)
-      return ProductShelfLife43_50.convertProductShelfLife((org.hl7.fhir.r5.model.ProductShelfLife) src);
-    if (src instanceof org.hl7.fhir.r5.model.MoneyQuantity)
-      return MoneyQuantity43_50.convertMoneyQuantity((org.hl7.fhir.r5.model.MoneyQuantity) src);
-    if (src instanceof org.hl7.fhir.r5.model.SimpleQuantity)
-      return SimpleQuantity43_50.convertSimpleQuantity((org.hl7.fhir.r5.model.SimpleQuantity) src);
-    if (src instanceof org.hl7.fhir.r5.model.Quantity)
-      return Quantity43_50.convertQuantity((org.hl7.fhir.r5.model.Quantity) src);
-    if (src instanceof org.hl7.fhir.r5.model.Range) return Range43_50.convertRange((org.hl7.fhir.r5.model.Range) src);
-    if (src instanceof org.hl7.fhir.r5.model.Ratio) return Ratio43_50.convertRatio((org.hl7.fhir.r5.model.Ratio) src);
-    if (src instanceof org.hl7.fhir.r5.model.Reference)
-      return Reference43_50.convertReference((org.hl7.fhir.r5.model.Reference) src);
-    if (src instanceof org.hl7.fhir.r5.model.RelatedArtifact)
-      return RelatedArtifact43_50.convertRelatedArtifact((org.hl7.fhir.r5.model.RelatedArtifact) src);
-    if (src instanceof org.hl7.fhir.r5.model.SampledData)
-      return SampledData43_50.convertSampledData((org.hl7.fhir.r5.model.SampledData) src);
-    if (src instanceof org.hl7.fhir.r5.model.Signature)
-      return Signature43_50.convertSignature((org.hl7.fhir.r5.model.Signature) src);
-    if (src instanceof org.hl7.fhir.r5.model.SubstanceAmount)
-      return SubstanceAmount43_50.convertSubstanceAmount((org.hl7.fhir.r5.model.SubstanceAmount) src);
-    if (src instanceof org.hl7.fhir.r5.model.Timing)
-      return Timing43_50.convertTiming((org.hl7.fhir.r5.model.Timing) src);
-    if (src instanceof org.hl7.fhir.r5.model.TriggerDefinition)
-      return TriggerDefinition43_50.convertTriggerDefinition((org.hl7.fhir.r5.model.TriggerDefinition) src);
-    if (src instanceof org.hl7.fhir.r5.model.UsageContext)
-      return UsageContext43_50.convertUsageContext((org.hl7.fhir.r5.model.UsageContext) src);
-    if (src instanceof org.hl7.fhir.r5.model.ElementDefinition)
-      return ElementDefinition43_50.convertElementDefinition((org.hl7.fhir.r5.model.ElementDefinition) src);
+    BiFunction<BaseAdvisor_43_50, org.hl7.fhir.r5.model.DataType, org.hl7.fhir.r4b.model.DataType> convertor = R5_TO_R4B.get(src.getClass());
+    if (convertor != null) return convertor.apply(advisor, src);
     if (advisor.failFastOnNullOrUnknownEntry()) {
       throw new FHIRException("The type " + src.fhirType()+" cannot be converted from R5 to R4B");
     } else {
@@ -64,12 +64,27 @@ public abstract class BaseLoaderR5 implements IContextResourceLoader {
   }
 
   public IContextResourceLoader getNewLoader(NpmPackage npm) throws JsonSyntaxException, IOException {
-    BaseLoaderR5 ret = loaderFactory(npm);
+    return copyConfiguration(loaderFactory(npm));
+  }
+
+  @Override
+  public IContextResourceLoader getLoaderForThread(NpmPackage npm) {
+    return copyConfiguration(newInstance());
+  }
+
+  // the types are passed to the constructor
+  private BaseLoaderR5 copyConfiguration(BaseLoaderR5 ret) {
     ret.patchUrls = patchUrls;
     ret.killPrimitives = killPrimitives;
+    ret.loadProfiles = loadProfiles;
     return ret;
   }
 
+  /**
+   * @return a new loader of the same kind as this one, with the same types, knowledge provider and version
+   */
+  protected abstract BaseLoaderR5 newInstance();
+
   protected BaseLoaderR5 loaderFactory(NpmPackage npm) throws JsonSyntaxException, IOException {
     if (VersionUtilities.isR5Plus(npm.fhirVersion())) {
       return new R5ToR5Loader(types, lkp.forNewPackage(npm));
@@ -190,6 +205,10 @@ public abstract class BaseLoaderR5 implements IContextResourceLoader {
     loadProfiles = value;
     return this;
   }
+
+  public boolean isLoadProfiles() {
+    return loadProfiles;
+  }
   
   public boolean wantLoad(NpmPackage pi, PackageResourceInformation pri) {
     if (pri.getResourceType().equals("StructureDefinition")) {
@@ -138,6 +138,11 @@ public class R2016MayToR5Loader extends BaseLoaderR5 {
     return "4.3";
   }
 
+  @Override
+  protected BaseLoaderR5 newInstance() {
+    return new R2016MayToR5Loader(types, lkp);
+  }
+
   @Override
   public ITerminologyClientFactory txFactory() {
     return new TerminologyClientFactory(versionString());
@@ -142,6 +142,11 @@ public class R2ToR5Loader extends BaseLoaderR5 implements IContextResourceLoader
     return "1.0";
   }
 
+  @Override
+  protected BaseLoaderR5 newInstance() {
+    return new R2ToR5Loader(types, lkp);
+  }
+
   @Override
   public ITerminologyClientFactory txFactory() {
     return new TerminologyClientFactory(versionString());
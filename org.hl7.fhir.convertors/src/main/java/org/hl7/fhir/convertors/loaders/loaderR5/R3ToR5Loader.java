@@ -137,6 +137,11 @@ public class R3ToR5Loader extends BaseLoaderR5 implements IContextResourceLoader
     return "3.0";
   }
 
+  @Override
+  protected BaseLoaderR5 newInstance() {
+    return new R3ToR5Loader(types, lkp);
+  }
+
   @Override
   public ITerminologyClientFactory txFactory() {
     return new TerminologyClientFactory(versionString());
@@ -146,6 +146,11 @@ public class R4BToR5Loader extends BaseLoaderR5 implements IContextResourceLoade
     return "4.3";
   }
 
+  @Override
+  protected BaseLoaderR5 newInstance() {
+    return new R4BToR5Loader(types, lkp, version);
+  }
+
 
   @Override
   public ITerminologyClientFactory txFactory() {
@@ -145,6 +145,11 @@ public class R4ToR5Loader extends BaseLoaderR5 implements IContextResourceLoader
     return "4.0";
   }
 
+  @Override
+  protected BaseLoaderR5 newInstance() {
+    return new R4ToR5Loader(types, lkp, version);
+  }
+
 
   @Override
   public ITerminologyClientFactory txFactory() {
@@ -130,6 +130,11 @@ public class R5ToR5Loader extends BaseLoaderR5 {
     return "5.0";
   }
 
+  @Override
+  protected BaseLoaderR5 newInstance() {
+    return new R5ToR5Loader(types, lkp);
+  }
+
 
   @Override
   public ITerminologyClientFactory txFactory() {
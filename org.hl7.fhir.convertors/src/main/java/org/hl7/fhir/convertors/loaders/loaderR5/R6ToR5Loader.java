@@ -123,6 +123,11 @@ public class R6ToR5Loader extends BaseLoaderR5 {
     return "5.0";
   }
 
+  @Override
+  protected BaseLoaderR5 newInstance() {
+    return new R6ToR5Loader(types, lkp);
+  }
+
   @Override
   public ITerminologyClientFactory txFactory() {
     return new TerminologyClientFactory(versionString());
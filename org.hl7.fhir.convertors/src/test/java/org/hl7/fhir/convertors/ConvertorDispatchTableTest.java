@@ -0,0 +1,53 @@
+package org.hl7.fhir.convertors;
+
+import org.hl7.fhir.convertors.factory.VersionConvertorFactory_40_50;
+import org.hl7.fhir.r4.model.Basic;
+import org.hl7.fhir.r4.model.IntegerType;
+import org.hl7.fhir.r4.model.UnsignedIntType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConvertorDispatchTableTest {
+
+  private static final ConvertorDispatchTable<Object, org.hl7.fhir.r4.model.Type, String> TABLE =
+    new ConvertorDispatchTable<Object, org.hl7.fhir.r4.model.Type, String>()
+      .add(UnsignedIntType.class, src -> "unsignedInt")
+      .add(IntegerType.class, src -> "integer")
+      .addWithAdvisor(org.hl7.fhir.r4.model.StringType.class, (advisor, src) -> advisor + ":" + src.getValue());
+
+  @Test
+  public void testFirstMatchWins() {
+    Assertions.assertEquals("unsignedInt", TABLE.get(UnsignedIntType.class).apply(null, new UnsignedIntType(1)));
+    Assertions.assertEquals("integer", TABLE.get(IntegerType.class).apply(null, new IntegerType(1)));
+    // PositiveIntType isn't in the table, but it is an IntegerType
+    Assertions.assertEquals("integer", TABLE.get(org.hl7.fhir.r4.model.PositiveIntType.class).apply(null, new org.hl7.fhir.r4.model.PositiveIntType(1)));
+  }
+
+  @Test
+  public void testAdvisorIsPassed() {
+    Assertions.assertEquals("adv:x", TABLE.get(org.hl7.fhir.r4.model.StringType.class).apply("adv", new org.hl7.fhir.r4.model.StringType("x")));
+  }
+
+  @Test
+  public void testUnhandled() {
+    Assertions.assertNull(TABLE.get(org.hl7.fhir.r4.model.BooleanType.class));
+    Assertions.assertFalse(TABLE.handles(org.hl7.fhir.r4.model.BooleanType.class));
+    Assertions.assertTrue(TABLE.handles(UnsignedIntType.class));
+    Assertions.assertEquals(3, TABLE.size());
+  }
+
+  @Test
+  public void testConvertorsKeepSubclassOrder() {
+    Assertions.assertTrue(VersionConvertorFactory_40_50.convertType(new UnsignedIntType(4)) instanceof org.hl7.fhir.r5.model.UnsignedIntType);
+    Assertions.assertTrue(VersionConvertorFactory_40_50.convertType(new org.hl7.fhir.r4.model.UuidType("urn:uuid:5b9a6b0f-6f29-4c1a-9d3b-0c8f1f2e8a11")) instanceof org.hl7.fhir.r5.model.UuidType);
+    Assertions.assertTrue(VersionConvertorFactory_40_50.convertType(new org.hl7.fhir.r4.model.Age().setValue(3)) instanceof org.hl7.fhir.r5.model.Age);
+  }
+
+  @Test
+  public void testBasicWrappedResources() {
+    Basic basic = new Basic();
+    basic.getCode().addCoding().setSystem("http://hl7.org/fhir/fhir-types").setCode("Requirements");
+    Assertions.assertTrue(VersionConvertorFactory_40_50.convertResource(basic) instanceof org.hl7.fhir.r5.model.Requirements);
+    Assertions.assertTrue(VersionConvertorFactory_40_50.convertResource(new Basic()) instanceof org.hl7.fhir.r5.model.Basic);
+  }
+}
@@ -0,0 +1,170 @@
+package org.hl7.fhir.convertors;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hl7.fhir.convertors.advisors.impl.BaseAdvisor_40_50;
+import org.hl7.fhir.convertors.conv40_50.VersionConvertor_40_50;
+import org.hl7.fhir.convertors.factory.VersionConvertorFactory_40_50;
+import org.hl7.fhir.r4.model.CodeableConcept;
+import org.hl7.fhir.r4.model.Condition;
+import org.hl7.fhir.r4.model.Encounter;
+import org.hl7.fhir.r4.model.ExplanationOfBenefit;
+import org.hl7.fhir.r4.model.HumanName;
+import org.hl7.fhir.r4.model.MedicationRequest;
+import org.hl7.fhir.r4.model.Observation;
+import org.hl7.fhir.r4.model.Patient;
+import org.hl7.fhir.r4.model.PositiveIntType;
+import org.hl7.fhir.r4.model.Procedure;
+import org.hl7.fhir.r4.model.Quantity;
+import org.hl7.fhir.r4.model.Reference;
+import org.hl7.fhir.r4.model.Resource;
+import org.hl7.fhir.r4.model.StringType;
+import org.hl7.fhir.r4.model.Type;
+import org.hl7.fhir.r4.model.UriType;
+import org.hl7.fhir.r4.model.UuidType;
+import org.hl7.fhir.r4.model.VisionPrescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures R4 to R5 conversion throughput on a mix of resources that looks like a bulk data
+ * export (mostly clinical resources, with a few from the far end of the dispatch table), and
+ * on a mix of datatypes where subclasses have to be told apart from their parents.
+ *
+ * Not a unit test - run main() from the IDE, or with the test classpath
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VersionConversionBenchmark {
+
+  private List<Resource> resources;
+  private List<Type> types;
+  private VersionConvertor_40_50 convertor;
+
+  @Setup
+  public void setup() {
+    resources = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      resources.add(patient(i));
+      resources.add(observation(i));
+      resources.add(observation(i + 1000));
+      resources.add(observation(i + 2000));
+      resources.add(encounter(i));
+      resources.add(condition(i));
+      resources.add(medicationRequest(i));
+      resources.add(procedure(i));
+    }
+    for (int i = 0; i < 5; i++) {
+      resources.add(new ExplanationOfBenefit().setPatient(new Reference("Patient/p" + i)).setId("eob" + i));
+      resources.add(new VisionPrescription().setPatient(new Reference("Patient/p" + i)).setId("vp" + i));
+    }
+    types = new ArrayList<>();
+    types.add(new StringType("a string"));
+    types.add(new UriType("http://example.org/fhir"));
+    types.add(new UuidType("urn:uuid:5b9a6b0f-6f29-4c1a-9d3b-0c8f1f2e8a11"));
+    types.add(new PositiveIntType(3));
+    types.add(new Quantity().setValue(7.2).setUnit("mmol/L").setSystem("http://unitsofmeasure.org").setCode("mmol/L"));
+    types.add(new CodeableConcept().addCoding(new org.hl7.fhir.r4.model.Coding("http://loinc.org", "15074-8", "Glucose")));
+    types.add(new HumanName().setFamily("Chalmers").addGiven("Peter"));
+    types.add(new Reference("Patient/example"));
+    convertor = new VersionConvertor_40_50(new BaseAdvisor_40_50());
+  }
+
+  private Patient patient(int i) {
+    Patient p = new Patient();
+    p.setId("p" + i);
+    p.addName().setFamily("Chalmers").addGiven("Peter").addGiven("James");
+    p.addIdentifier().setSystem("http://example.org/mrn").setValue("mrn" + i);
+    p.setBirthDate(new Date(0));
+    return p;
+  }
+
+  private Observation observation(int i) {
+    Observation o = new Observation();
+    o.setId("o" + i);
+    o.setStatus(Observation.ObservationStatus.FINAL);
+    o.getCode().addCoding().setSystem("http://loinc.org").setCode("15074-8").setDisplay("Glucose");
+    o.setSubject(new Reference("Patient/p" + i));
+    o.setValue(new Quantity().setValue(6.3).setUnit("mmol/L").setSystem("http://unitsofmeasure.org").setCode("mmol/L"));
+    return o;
+  }
+
+  private Encounter encounter(int i) {
+    Encounter e = new Encounter();
+    e.setId("e" + i);
+    e.setStatus(Encounter.EncounterStatus.FINISHED);
+    e.getClass_().setSystem("http://terminology.hl7.org/CodeSystem/v3-ActCode").setCode("AMB");
+    e.setSubject(new Reference("Patient/p" + i));
+    return e;
+  }
+
+  private Condition condition(int i) {
+    Condition c = new Condition();
+    c.setId("c" + i);
+    c.getCode().addCoding().setSystem("http://snomed.info/sct").setCode("44054006");
+    c.setSubject(new Reference("Patient/p" + i));
+    return c;
+  }
+
+  private MedicationRequest medicationRequest(int i) {
+    MedicationRequest m = new MedicationRequest();
+    m.setId("m" + i);
+    m.setStatus(MedicationRequest.MedicationRequestStatus.ACTIVE);
+    m.setIntent(MedicationRequest.MedicationRequestIntent.ORDER);
+    m.setMedication(new CodeableConcept().addCoding(new org.hl7.fhir.r4.model.Coding("http://www.nlm.nih.gov/research/umls/rxnorm", "860975", null)));
+    m.setSubject(new Reference("Patient/p" + i));
+    return m;
+  }
+
+  private Procedure procedure(int i) {
+    Procedure p = new Procedure();
+    p.setId("pr" + i);
+    p.setStatus(Procedure.ProcedureStatus.COMPLETED);
+    p.setSubject(new Reference("Patient/p" + i));
+    return p;
+  }
+
+  @Benchmark
+  public void resourcesViaFactory(Blackhole bh) {
+    for (Resource r : resources) {
+      bh.consume(VersionConvertorFactory_40_50.convertResource(r));
+    }
+  }
+
+  @Benchmark
+  public void resourcesReusedConvertor(Blackhole bh) {
+    for (Resource r : resources) {
+      bh.consume(convertor.convertResource(r));
+    }
+  }
+
+  @Benchmark
+  public void types(Blackhole bh) {
+    for (Type t : types) {
+      bh.consume(convertor.convertType(t));
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(VersionConversionBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,80 @@
+package org.hl7.fhir.convertors.bulk;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.hl7.fhir.exceptions.FHIRException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NdJsonVersionConvertorTest {
+
+  private String makeSource(int count) {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      if (i == 7) {
+        b.append("\n");
+      } else if (i == 11) {
+        b.append("{\"resourceType\" : \"Patient\", \"id\" : \n");
+      } else {
+        b.append("{\"resourceType\":\"Patient\",\"id\":\"p" + i + "\",\"gender\":\"female\"}\n");
+      }
+    }
+    return b.toString();
+  }
+
+  private String[] convert(NdJsonVersionConvertor convertor, String source, BulkConversionStatistics[] stats) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    stats[0] = convertor.convert(new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)), out);
+    return out.toString(StandardCharsets.UTF_8).split("\n");
+  }
+
+  @Test
+  public void testParallelKeepsOrder() throws IOException {
+    BulkConversionStatistics[] stats = new BulkConversionStatistics[1];
+    String[] lines = convert(NdJsonVersionConvertor.forVersions("4.0", "5.0").setThreads(4).setBatchSize(3), makeSource(50), stats);
+    Assertions.assertEquals(48, lines.length);
+    int expected = 0;
+    for (String line : lines) {
+      if (expected == 7 || expected == 11) {
+        expected++;
+      }
+      Assertions.assertTrue(line.contains("\"id\":\"p" + expected + "\""), line);
+      expected++;
+    }
+    Assertions.assertEquals(50, stats[0].getLinesRead());
+    Assertions.assertEquals(1, stats[0].getBlankLines());
+    Assertions.assertEquals(48, stats[0].getConverted());
+    Assertions.assertEquals(1, stats[0].getFailed());
+    Assertions.assertEquals(12, stats[0].getFailures().get(0).getLine());
+  }
+
+  @Test
+  public void testSequentialMatchesParallel() throws IOException {
+    BulkConversionStatistics[] stats = new BulkConversionStatistics[1];
+    String[] seq = convert(NdJsonVersionConvertor.forVersions("4.0", "5.0"), makeSource(30), stats);
+    String[] par = convert(NdJsonVersionConvertor.forVersions("4.0", "5.0").setThreads(3).setBatchSize(2), makeSource(30), stats);
+    Assertions.assertArrayEquals(seq, par);
+  }
+
+  @Test
+  public void testReverse() throws IOException {
+    BulkConversionStatistics[] stats = new BulkConversionStatistics[1];
+    String[] lines = convert(NdJsonVersionConvertor.forVersions("5.0", "4.0").setThreads(2), makeSource(5), stats);
+    Assertions.assertEquals(5, lines.length);
+    Assertions.assertEquals(0, stats[0].getFailed());
+  }
+
+  @Test
+  public void testFailFast() {
+    NdJsonVersionConvertor convertor = NdJsonVersionConvertor.forVersions("4.0", "5.0").setThreads(2).setBatchSize(4).setFailFast(true);
+    Assertions.assertThrows(FHIRException.class, () -> convert(convertor, makeSource(20), new BulkConversionStatistics[1]));
+  }
+
+  @Test
+  public void testUnsupportedVersions() {
+    Assertions.assertThrows(FHIRException.class, () -> NdJsonVersionConvertor.forVersions("1.4", "6.0"));
+  }
+}
@@ -0,0 +1,83 @@
+package org.hl7.fhir.convertors.loaders.loaderR5;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hl7.fhir.r5.context.SimpleWorkerContext;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.utilities.npm.NpmPackage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BaseLoaderR5Test {
+
+  private NpmPackage makeR4Package(Path folder) throws IOException {
+    Path pkg = Files.createDirectories(folder.resolve("package"));
+    Files.writeString(pkg.resolve("package.json"), "{\"name\" : \"test.loading.r4\", \"version\" : \"0.1.0\", \"fhirVersions\" : [\"4.0.1\"], \"dependencies\" : {\"hl7.fhir.r4.core\" : \"4.0.1\"}}");
+    for (int i = 0; i < 20; i++) {
+      Files.writeString(pkg.resolve("ValueSet-vs" + i + ".json"), "{\"resourceType\" : \"ValueSet\", \"id\" : \"vs" + i + "\", \"url\" : \"http://hl7.org/fhir/ValueSet/vs" + i + "\", \"status\" : \"active\"}");
+    }
+    return NpmPackage.fromFolder(folder.toString());
+  }
+
+  private R4ToR5Loader makeLoader() {
+    R4ToR5Loader loader = new R4ToR5Loader(SimpleWorkerContext.defaultTypesToLoad(), new NullLoaderKnowledgeProviderR5(), "4.0.1");
+    loader.setPatchUrls(true);
+    loader.setKillPrimitives(true);
+    loader.setLoadProfiles(false);
+    return loader;
+  }
+
+  @Test
+  public void testLoaderForThreadCopiesConfiguration(@TempDir Path folder) throws IOException {
+    NpmPackage npm = makeR4Package(folder);
+    R4ToR5Loader loader = makeLoader();
+
+    BaseLoaderR5 copy = (BaseLoaderR5) loader.getLoaderForThread(npm);
+    assertNotSame(loader, copy);
+    assertTrue(copy instanceof R4ToR5Loader);
+    assertTrue(copy.isPatchUrls());
+    assertTrue(copy.isKillPrimitives());
+    assertFalse(copy.isLoadProfiles());
+    assertEquals(loader.getTypes(), copy.getTypes());
+
+    BaseLoaderR5 newLoader = (BaseLoaderR5) loader.getNewLoader(npm);
+    assertTrue(newLoader.isPatchUrls());
+    assertTrue(newLoader.isKillPrimitives());
+    assertFalse(newLoader.isLoadProfiles());
+  }
+
+  @Test
+  public void testLoadFromPackageInParallel(@TempDir Path folder) throws IOException {
+    NpmPackage npm = makeR4Package(folder);
+
+    SimpleWorkerContext sequential = new SimpleWorkerContext.SimpleWorkerContextBuilder().build();
+    sequential.setAllowLazyLoading(false);
+    sequential.loadFromPackage(npm, makeLoader());
+
+    SimpleWorkerContext parallel = new SimpleWorkerContext.SimpleWorkerContextBuilder().withLoadingThreads(4).build();
+    parallel.setAllowLazyLoading(false);
+    assertEquals(20, parallel.loadFromPackage(npm, makeLoader()));
+
+    List<String> expected = new ArrayList<>();
+    for (ValueSet vs : sequential.fetchResourcesByType(ValueSet.class)) {
+      expected.add(vs.getUrl());
+    }
+    List<String> actual = new ArrayList<>();
+    for (ValueSet vs : parallel.fetchResourcesByType(ValueSet.class)) {
+      actual.add(vs.getUrl());
+    }
+    assertEquals(expected, actual);
+    // the urls were patched by the loaders the threads used
+    assertNotNull(parallel.fetchResource(ValueSet.class, "http://hl7.org/fhir/4.0/ValueSet/vs7"));
+  }
+}
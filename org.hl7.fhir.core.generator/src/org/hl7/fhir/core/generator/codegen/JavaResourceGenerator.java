@@ -222,6 +222,7 @@ public class JavaResourceGenerator extends JavaBaseGenerator {
 
 		  generateChildrenRegister(analysis, ti, "    ");
 		  generatePropertyGetterId(analysis, ti, "    ");
+		  generatePropertyVisitor(analysis, ti, "    ", superName != null && !"Base".equals(superName)); // Element and Resource have nothing to visit above them
 		  generatePropertySetterId(analysis, ti, "    ");
 		  generatePropertySetterName(analysis, ti, "    ");
 		  generatePropertyMaker(analysis, ti, "    ");
@@ -997,6 +998,48 @@ private void generatePropertyMaker(Analysis analysis, TypeInfo ti, String indent
     write(indent+"  }\r\n\r\n");  
   }
 
+  private void generatePropertyVisitor(Analysis analysis, TypeInfo ti, String indent, boolean visitSuper) throws Exception {
+    List<ElementDefinition> children = ti.getChildren();
+    if (analysis.isInterface()) {
+      return; // nothing to visit - the inherited visitChildren matches getProperty
+    }
+    write(indent+"  @Override\r\n");
+    write(indent+"  public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {\r\n");
+    write(indent+"    switch (hash) {\r\n");
+    for (ElementDefinition e : children) {
+      String tn = e.getUserString("java.type");
+      String name = e.getName().replace("[x]", "");
+      write(indent+"    case "+propId(name)+": /*"+name+"*/ "+visitChild(e, name)+" break; // "+tn+"\r\n");
+    }
+    write(indent+"    default: super.visitChildren(hash, name, visitor);\r\n");
+    write(indent+"    }\r\n\r\n");  
+    write(indent+"  }\r\n\r\n");  
+    write(indent+"  @Override\r\n");
+    write(indent+"  public void visitChildren(IChildVisitor visitor) throws FHIRException {\r\n");
+    if (visitSuper) {
+      write(indent+"    super.visitChildren(visitor);\r\n");
+    }
+    for (ElementDefinition e : children) {
+      String tn = e.getUserString("java.type");
+      String name = e.getName().replace("[x]", "");
+      if (!e.unbounded() && e.typeSummary().equals("xhtml")) {
+        // listChildren always lists the xhtml, even when there isn't any
+        write(indent+"    visitor.visit(\""+name+"\", new XhtmlType(this)); // "+tn+"\r\n");
+      } else {
+        write(indent+"    "+visitChild(e, name)+" // "+tn+"\r\n");
+      }
+    }
+    write(indent+"  }\r\n\r\n");  
+  }
+
+  private String visitChild(ElementDefinition e, String name) {
+    if (!e.unbounded() && e.typeSummary().equals("xhtml")) {
+      return "if (this."+getElementName(name, true)+" != null) visitor.visit(\""+name+"\", new XhtmlType(this));";
+    } else {
+      return "visitChild(\""+name+"\", this."+getElementName(name, true)+", visitor);";
+    }
+  }
+
   private void generatePropertyTypeGetter(Analysis analysis, TypeInfo ti, String indent) throws Exception {
     List<ElementDefinition> children = ti.getChildren();
     boolean isInterface = analysis.isInterface();
@@ -1413,6 +1456,7 @@ private void generatePropertyMaker(Analysis analysis, TypeInfo ti, String indent
 
     generateChildrenRegister(analysis, ti,"      ");
     generatePropertyGetterId(analysis, ti,"    ");
+    generatePropertyVisitor(analysis, ti,"    ", true);
     generatePropertySetterId(analysis, ti,"    ");
     generatePropertySetterName(analysis, ti,"    ");
     generatePropertyMaker(analysis, ti,"    ");
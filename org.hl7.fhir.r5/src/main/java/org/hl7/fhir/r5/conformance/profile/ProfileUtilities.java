@@ -43,6 +43,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hl7.fhir.exceptions.DefinitionException;
 import org.hl7.fhir.exceptions.FHIRException;
@@ -4583,7 +4584,7 @@ public class ProfileUtilities {
     }
   }
 
-  private Map<String, List<Property>> propertyCache = new HashMap<>();
+  private Map<String, List<Property>> propertyCache = new ConcurrentHashMap<>();
   
   public Map<String, List<Property>> getCachedPropertyList() {
     return propertyCache;
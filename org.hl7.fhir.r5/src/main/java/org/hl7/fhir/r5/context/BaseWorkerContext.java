@@ -44,11 +44,13 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
@@ -119,6 +121,7 @@ import org.hl7.fhir.r5.terminologies.CodeSystemUtilities;
 import org.hl7.fhir.r5.terminologies.expansion.ValueSetExpander;
 import org.hl7.fhir.r5.terminologies.expansion.ValueSetExpansionOutcome;
 import org.hl7.fhir.r5.terminologies.utilities.CodingValidationRequest;
+import org.hl7.fhir.r5.terminologies.utilities.PrefetchValidationRequest;
 import org.hl7.fhir.r5.terminologies.utilities.TerminologyCache;
 import org.hl7.fhir.r5.terminologies.utilities.TerminologyOperationContext;
 import org.hl7.fhir.r5.terminologies.utilities.TerminologyOperationContext.TerminologyServiceProtectionException;
@@ -138,6 +141,7 @@ import org.hl7.fhir.r5.utils.ResourceUtilities;
 import org.hl7.fhir.r5.utils.ToolingExtensions;
 import org.hl7.fhir.r5.utils.client.EFhirClientException;
 import org.hl7.fhir.r5.utils.validation.ValidationContextCarrier;
+import org.hl7.fhir.utilities.ByteProvider;
 import org.hl7.fhir.utilities.FhirPublication;
 import org.hl7.fhir.utilities.TimeTracker;
 import org.hl7.fhir.utilities.ToolingClientLogger;
@@ -165,10 +169,18 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
       this.folder = folder;
       this.pid = pid;
     }
+    String getFolder() {
+      return folder;
+    }
+    String getPid() {
+      return pid;
+    }
     
   }
 
   private static final boolean QA_CHECK_REFERENCE_SOURCE = false; // see comments below
+  private static final int PREFETCH_BATCH_SIZE = 100; // codes per $batch when prefetching validations
+  private static final int MAX_KEPT_BINARY_SIZE = 1024 * 1024; // binaries bigger than this are read again each time they're used, rather than kept in memory
 
   public static class ResourceProxy {
     private Resource resource;
@@ -234,15 +246,16 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
   }
 
   private Object lock = new Object(); // used as a lock for the data that follows
+  private volatile boolean sealed; // once sealed, lookups read published snapshots and don't take the lock
   protected String version; // although the internal resources are all R5, the version of FHIR they describe may not be 
 
   protected final TerminologyClientManager terminologyClientManager = new TerminologyClientManager(new TerminologyClientR5.TerminologyClientR5Factory(), UUID.randomUUID().toString());
   private boolean minimalMemory = false;
 
-  private Map<String, Map<String, ResourceProxy>> allResourcesById = new HashMap<String, Map<String, ResourceProxy>>();
+  private Map<String, Map<String, ResourceProxy>> allResourcesById = new ConcurrentHashMap<String, Map<String, ResourceProxy>>();
   // all maps are to the full URI
   private CanonicalResourceManager<CodeSystem> codeSystems = new CanonicalResourceManager<CodeSystem>(false, minimalMemory);
-  private final Set<String> supportedCodeSystems = new HashSet<String>();
+  private final Set<String> supportedCodeSystems = ConcurrentHashMap.newKeySet();
   private final Set<String> unsupportedCodeSystems = new HashSet<String>(); // know that the terminology server doesn't support them
   private CanonicalResourceManager<ValueSet> valueSets = new CanonicalResourceManager<ValueSet>(false, minimalMemory);
   private CanonicalResourceManager<ConceptMap> maps = new CanonicalResourceManager<ConceptMap>(false, minimalMemory);
@@ -264,7 +277,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
 
   
   private UcumService ucumService;
-  protected Map<String, byte[]> binaries = new HashMap<String, byte[]>();
+  protected Map<String, ByteProvider> binaries = new ConcurrentHashMap<String, ByteProvider>(); // content of files from packages is only read when it's asked for
   protected Map<String, Set<OIDDefinition>> oidCacheManual = new HashMap<>();
   protected List<OIDSource> oidSources = new ArrayList<>();
 
@@ -279,7 +292,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
   private int expandCodesLimit = 1000;
   protected org.hl7.fhir.r5.context.ILoggingService logger = new SystemOutLoggingService();
   protected Parameters expParameters;
-  private Map<String, PackageInformation> packages = new HashMap<>();
+  private Map<String, PackageInformation> packages = new ConcurrentHashMap<>();
 
   @Getter
   protected TerminologyCache txCache = new TerminologyCache(this, null);
@@ -373,7 +386,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
       if (r.getId() != null) {
         Map<String, ResourceProxy> map = allResourcesById.get(r.getType());
         if (map == null) {
-          map = new HashMap<String, ResourceProxy>();
+          map = new ConcurrentHashMap<String, ResourceProxy>();
           allResourcesById.put(r.getType(), map);
         }
         if ((packageInfo == null || !packageInfo.isExamplesPackage()) || !map.containsKey(r.getId())) {
@@ -459,7 +472,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
       if (r.getId() != null) {
         Map<String, ResourceProxy> map = allResourcesById.get(r.fhirType());
         if (map == null) {
-          map = new HashMap<String, ResourceProxy>();
+          map = new ConcurrentHashMap<String, ResourceProxy>();
           allResourcesById.put(r.fhirType(), map);
         }
         if ((packageInfo == null || !packageInfo.isExamplesPackage()) || !map.containsKey(r.getId())) {
@@ -698,15 +711,10 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
       String v = system.substring(system.indexOf("|")+1);
       return fetchCodeSystem(s, v);
     }
-    CodeSystem cs;
-    synchronized (lock) {
-      cs = codeSystems.get(system);
-    }
+    CodeSystem cs = getCodeSystem(system, null);
     if (cs == null && locator != null) {
       locator.findResource(this, system);
-      synchronized (lock) {
-        cs = codeSystems.get(system);
-      }
+      cs = getCodeSystem(system, null);
     }
     return cs;
   } 
@@ -720,18 +728,22 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     if (version == null) {
       return fetchCodeSystem(system);
     }
-    CodeSystem cs;
-    synchronized (lock) {
-      cs = codeSystems.get(system, version);
-    }
+    CodeSystem cs = getCodeSystem(system, version);
     if (cs == null && locator != null) {
       locator.findResource(this, system);
-      synchronized (lock) {
-        cs = codeSystems.get(system);
-      }
+      cs = getCodeSystem(system, null);
     }
     return cs;
   } 
+
+  private CodeSystem getCodeSystem(String system, String version) {
+    if (sealed) {
+      return codeSystems.get(system, version);
+    }
+    synchronized (lock) {
+      return codeSystems.get(system, version);
+    }
+  }
   
 
   public CodeSystem fetchSupplementedCodeSystem(String system, FhirPublication fhirVersion) {
@@ -1248,6 +1260,159 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     }    
   }
   
+  /**
+   * a prefetched validation that has to go to the server
+   */
+  private static class PendingServerValidation {
+    private PrefetchValidationRequest request;
+    private CacheToken cacheToken;
+    private LocalValidationState local;
+    private Parameters pIn;
+    private Set<String> systems;
+
+    private PendingServerValidation(PrefetchValidationRequest request, CacheToken cacheToken, LocalValidationState local, Parameters pIn, Set<String> systems) {
+      this.request = request;
+      this.cacheToken = cacheToken;
+      this.local = local;
+      this.pIn = pIn;
+      this.systems = systems;
+    }
+  }
+
+  @Override
+  public void prefetchValidations(List<PrefetchValidationRequest> requests) {
+    if (!cachingAllowed || txCache == null || noTerminologyServer || terminologyClientManager == null || !terminologyClientManager.hasClient()) {
+      return;
+    }
+    if (expParameters == null)
+      throw new Error(formatMessage(I18nConstants.NO_EXPANSIONPROFILE_PROVIDED));
+    // 1st pass: skip anything that is already cached, or that validateCode won't need the server for  
+    // 2nd pass: send the rest to the server in batches, and cache the answers the way validateCode does 
+    Set<String> seen = new HashSet<>();
+    Map<TerminologyClientContext, List<PendingServerValidation>> pending = new LinkedHashMap<>();
+    for (PrefetchValidationRequest request : requests) {
+      try {
+        ValidationOptions options = request.getOptions() != null ? request.getOptions() : ValidationOptions.defaults();
+        if (!options.isUseServer()) {
+          continue;
+        }
+        ValueSet vs = request.getValueSet();
+        CacheToken cacheToken = request.hasCoding() ? txCache.generateValidationToken(options, request.getCoding(), vs, expParameters) : txCache.generateValidationToken(options, request.getCodeableConcept(), vs, expParameters);
+        if (!seen.add(cacheToken.getRequest()) || txCache.hasValidation(cacheToken)) {
+          continue;
+        }
+        LocalValidationState local = new LocalValidationState();
+        Set<String> systems;
+        Parameters pIn;
+        if (request.hasCoding()) {
+          Coding code = request.getCoding();
+          if (code.hasSystem()) {
+            codeSystemsUsed.add(code.getSystem());
+          }
+          if (validateCodeLocally(options, "Coding", code, vs, new ValidationContextCarrier(), cacheToken, local) != null) {
+            continue;
+          }
+          systems = findRelevantSystems(code, vs);
+          pIn = constructParameters(options, code);
+        } else {
+          CodeableConcept code = request.getCodeableConcept();
+          for (Coding c : code.getCoding()) {
+            if (c.hasSystem()) {
+              codeSystemsUsed.add(c.getSystem());
+            }
+          }
+          if (validateCodeLocally(options, code, vs, cacheToken, local) != null) {
+            continue;
+          }
+          systems = findRelevantSystems(code, vs);
+          pIn = constructParameters(options, code);
+        }
+        TerminologyClientContext tc = terminologyClientManager.chooseServer(vs, systems, false);
+        if (tc == null) {
+          continue;
+        }
+        PendingServerValidation p = new PendingServerValidation(request, cacheToken, local, pIn, systems);
+        int cached = tc.getCached().size();
+        prepareServerValidation(tc, vs, pIn, options);
+        if (tc.getCached().size() != cached) {
+          // this request sends the server resources that the ones after it only refer to, 
+          // so it can't go in a batch, where the server might not process it first
+          finishPrefetch(p, sendServerValidation(tc, vs, pIn));
+        } else {
+          pending.computeIfAbsent(tc, k -> new ArrayList<>()).add(p);
+        }
+      } catch (Exception e) {
+        // validateCode will deal with it when it's called 
+        txLog("prefetch: unable to prepare "+describePrefetch(request)+": "+describeException(e));
+      }
+    }
+    for (TerminologyClientContext tc : pending.keySet()) {
+      List<PendingServerValidation> list = pending.get(tc);
+      for (int i = 0; i < list.size(); i += PREFETCH_BATCH_SIZE) {
+        prefetchBatch(tc, list.subList(i, Math.min(i + PREFETCH_BATCH_SIZE, list.size())));
+      }
+    }
+  }
+
+  private void prefetchBatch(TerminologyClientContext tc, List<PendingServerValidation> list) {
+    Bundle batch = new Bundle();
+    batch.setType(BundleType.BATCH);
+    Set<String> systems = new HashSet<>();
+    for (PendingServerValidation p : list) {
+      BundleEntryComponent be = batch.addEntry();
+      be.setResource(p.pIn);
+      be.getRequest().setMethod(HTTPVerb.POST);
+      if (p.request.getValueSet() != null) {
+        be.getRequest().setUrl("ValueSet/$validate-code");
+      } else {
+        be.getRequest().setUrl("CodeSystem/$validate-code");
+      }
+      systems.addAll(p.systems);
+    }
+    Bundle resp;
+    try {
+      resp = processBatch(tc, batch, systems);
+    } catch (Exception e) {
+      // validateCode will try each of them again when it's called 
+      txLog("prefetch: $batch of "+list.size()+" codes on "+tc.getAddress()+" failed: "+describeException(e));
+      return;
+    }
+    for (int i = 0; i < list.size() && i < resp.getEntry().size(); i++) {
+      BundleEntryComponent r = resp.getEntry().get(i);
+      // anything other than Parameters is an error that validateCode will report in its own way 
+      if (r.getResource() instanceof Parameters) {
+        PendingServerValidation p = list.get(i);
+        try {
+          finishPrefetch(p, processValidationResult((Parameters) r.getResource(), p.request.getValueSet() == null ? null : p.request.getValueSet().getUrl(), tc.getClient().getAddress()));
+        } catch (Exception e) {
+          // validateCode will deal with it when it's called 
+          txLog("prefetch: unable to process the result for "+describePrefetch(p.request)+": "+describeException(e));
+        }
+      }
+    }
+  }
+
+  private String describePrefetch(PrefetchValidationRequest request) {
+    String code = request.hasCoding() ? txCache.summary(request.getCoding()) : txCache.summary(request.getCodeableConcept());
+    return request.getValueSet() == null ? code : code+" for "+txCache.summary(request.getValueSet());
+  }
+
+  private String describeException(Exception e) {
+    return e.getMessage() == null ? e.getClass().getName() : e.getClass().getName()+": "+e.getMessage();
+  }
+
+  private void finishPrefetch(PendingServerValidation p, ValidationResult res) {
+    if (p.request.hasCoding()) {
+      // once validateCode has seen that a code system is unsupported, it reports that itself without asking the server,
+      // so which code hears it from the server depends on the order of the calls: leave these to validateCode
+      if (res.getErrorClass() != TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED) {
+        finishServerValidation(p.request.getCoding(), p.cacheToken, p.local, res);
+      }
+    } else {
+      txCache.cacheValidation(p.cacheToken, res, TerminologyCache.PERMANENT);
+    }
+  }
+
   private String getResponseText(Resource resource) {
     if (resource instanceof OperationOutcome) {
       return OperationOutcomeRenderer.toString((OperationOutcome) resource);
@@ -1293,12 +1458,48 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
       return res;
     }
 
-    List<OperationOutcomeIssueComponent> issues = new ArrayList<>();
-    Set<String> unknownSystems = new HashSet<>();
+    LocalValidationState local = new LocalValidationState();
+    res = validateCodeLocally(options, path, code, vs, ctxt, cacheToken, local);
+    if (res != null) {
+      return res;
+    }
+
+    Set<String> systems = findRelevantSystems(code, vs);
+    TerminologyClientContext tc = terminologyClientManager.chooseServer(vs, systems, false);
     
-    String localError = null;
-    String localWarning = null;
-    TerminologyServiceErrorClass type = TerminologyServiceErrorClass.UNKNOWN;
+    String csumm = cachingAllowed && txCache != null ? txCache.summary(code) : null;
+    if (cachingAllowed && txCache != null) {
+      txLog("$validate "+csumm+(vs == null ? "" : " for "+ txCache.summary(vs))+" on "+tc.getAddress());
+    } else {
+      txLog("$validate "+csumm+" before cache exists on "+tc.getAddress());
+    }
+    try {
+      Parameters pIn = constructParameters(options, code);
+      res = validateOnServer(tc, vs, pIn, options);
+    } catch (Exception e) {
+      res = new ValidationResult(IssueSeverity.ERROR, e.getMessage() == null ? e.getClass().getName() : e.getMessage(), null).setTxLink(txLog == null ? null : txLog.getLastId()).setErrorClass(TerminologyServiceErrorClass.SERVER_ERROR);
+    }
+    return finishServerValidation(code, cacheToken, local, res);
+  }
+
+  /**
+   * what was learnt trying to validate a code locally, that affects what is made of the server's answer
+   */
+  private static class LocalValidationState {
+    private List<OperationOutcomeIssueComponent> issues = new ArrayList<>();
+    private Set<String> unknownSystems = new HashSet<>();
+    private String localError = null;
+    private String localWarning = null;
+    private TerminologyServiceErrorClass type = TerminologyServiceErrorClass.UNKNOWN;
+  }
+
+  /**
+   * The part of validateCode that happens before going to the server
+   * 
+   * @return the result, or null if the code has to be validated on the server
+   */
+  private ValidationResult validateCodeLocally(ValidationOptions options, String path, Coding code, ValueSet vs, ValidationContextCarrier ctxt, CacheToken cacheToken, LocalValidationState local) {
+    ValidationResult res = null;
     if (options.isUseClient()) {
       // ok, first we try to validate locally
       try {
@@ -1306,7 +1507,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
         if (vsc.getOpContext() != null) {
           vsc.getOpContext().note("Validate "+code.toString()+" @ "+path+" against "+(vs == null ? "null" : vs.getVersionedUrl()));
         }
-        vsc.setUnknownSystems(unknownSystems);
+        vsc.setUnknownSystems(local.unknownSystems);
         vsc.setThrowToServer(options.isUseServer() && terminologyClientManager.hasClient());
         if (!ValueSetUtilities.isServerSide(code.getSystem())) {
           res = vsc.validateCode(path, code.copy());
@@ -1317,76 +1518,68 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
         }
       } catch (VSCheckerException e) {
         if (e.isWarning()) {
-          localWarning = e.getMessage();
+          local.localWarning = e.getMessage();
         } else {  
-          localError = e.getMessage();
+          local.localError = e.getMessage();
         }
         if (e.getIssues() != null) {
-          issues.addAll(e.getIssues());
+          local.issues.addAll(e.getIssues());
         }
-        type = e.getType();
+        local.type = e.getType();
       } catch (TerminologyServiceProtectionException e) {
         OperationOutcomeIssueComponent iss = new OperationOutcomeIssueComponent(org.hl7.fhir.r5.model.OperationOutcome.IssueSeverity.ERROR, e.getType());
         iss.getDetails().setText(e.getMessage());
-        issues.add(iss);
-        return new ValidationResult(IssueSeverity.FATAL, e.getMessage(), e.getError(), issues);
+        local.issues.add(iss);
+        return new ValidationResult(IssueSeverity.FATAL, e.getMessage(), e.getError(), local.issues);
       } catch (Exception e) {
 //        e.printStackTrace();
-        localError = e.getMessage();
+        local.localError = e.getMessage();
       }
     }
     
-    if (localError != null && !terminologyClientManager.hasClient()) {
-      if (unknownSystems.size() > 0) {
-        return new ValidationResult(IssueSeverity.ERROR, localError, TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED, issues).setUnknownSystems(unknownSystems);
+    if (local.localError != null && !terminologyClientManager.hasClient()) {
+      if (local.unknownSystems.size() > 0) {
+        return new ValidationResult(IssueSeverity.ERROR, local.localError, TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED, local.issues).setUnknownSystems(local.unknownSystems);
       } else {
-        return new ValidationResult(IssueSeverity.ERROR, localError, TerminologyServiceErrorClass.UNKNOWN, issues);
+        return new ValidationResult(IssueSeverity.ERROR, local.localError, TerminologyServiceErrorClass.UNKNOWN, local.issues);
       }
     }
-    if (localWarning != null && !terminologyClientManager.hasClient()) {
-      return new ValidationResult(IssueSeverity.WARNING,formatMessage(I18nConstants.UNABLE_TO_VALIDATE_CODE_WITHOUT_USING_SERVER, localWarning), TerminologyServiceErrorClass.BLOCKED_BY_OPTIONS, issues);       
+    if (local.localWarning != null && !terminologyClientManager.hasClient()) {
+      return new ValidationResult(IssueSeverity.WARNING,formatMessage(I18nConstants.UNABLE_TO_VALIDATE_CODE_WITHOUT_USING_SERVER, local.localWarning), TerminologyServiceErrorClass.BLOCKED_BY_OPTIONS, local.issues);       
     }
     if (!options.isUseServer()) {
-      if (localWarning != null) {
-        return new ValidationResult(IssueSeverity.WARNING,formatMessage(I18nConstants.UNABLE_TO_VALIDATE_CODE_WITHOUT_USING_SERVER, localWarning), TerminologyServiceErrorClass.BLOCKED_BY_OPTIONS, issues);       
+      if (local.localWarning != null) {
+        return new ValidationResult(IssueSeverity.WARNING,formatMessage(I18nConstants.UNABLE_TO_VALIDATE_CODE_WITHOUT_USING_SERVER, local.localWarning), TerminologyServiceErrorClass.BLOCKED_BY_OPTIONS, local.issues);       
       } else {
-        return new ValidationResult(IssueSeverity.WARNING,formatMessage(I18nConstants.UNABLE_TO_VALIDATE_CODE_WITHOUT_USING_SERVER, localError), TerminologyServiceErrorClass.BLOCKED_BY_OPTIONS, issues);
+        return new ValidationResult(IssueSeverity.WARNING,formatMessage(I18nConstants.UNABLE_TO_VALIDATE_CODE_WITHOUT_USING_SERVER, local.localError), TerminologyServiceErrorClass.BLOCKED_BY_OPTIONS, local.issues);
       }
     }
     String codeKey = getCodeKey(code);
     if (unsupportedCodeSystems.contains(codeKey)) {
-      return new ValidationResult(IssueSeverity.ERROR,formatMessage(I18nConstants.UNKNOWN_CODESYSTEM, code.getSystem()), TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED, issues);      
+      return new ValidationResult(IssueSeverity.ERROR,formatMessage(I18nConstants.UNKNOWN_CODESYSTEM, code.getSystem()), TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED, local.issues);      
     }
     
     // if that failed, we try to validate on the server
     if (noTerminologyServer) {
-      return new ValidationResult(IssueSeverity.ERROR,formatMessage(I18nConstants.ERROR_VALIDATING_CODE_RUNNING_WITHOUT_TERMINOLOGY_SERVICES, code.getCode(), code.getSystem()), TerminologyServiceErrorClass.NOSERVICE, issues);
+      return new ValidationResult(IssueSeverity.ERROR,formatMessage(I18nConstants.ERROR_VALIDATING_CODE_RUNNING_WITHOUT_TERMINOLOGY_SERVICES, code.getCode(), code.getSystem()), TerminologyServiceErrorClass.NOSERVICE, local.issues);
     }
+    return null;
+  }
 
-    Set<String> systems = findRelevantSystems(code, vs);
-    TerminologyClientContext tc = terminologyClientManager.chooseServer(vs, systems, false);
-    
-    String csumm = cachingAllowed && txCache != null ? txCache.summary(code) : null;
-    if (cachingAllowed && txCache != null) {
-      txLog("$validate "+csumm+(vs == null ? "" : " for "+ txCache.summary(vs))+" on "+tc.getAddress());
-    } else {
-      txLog("$validate "+csumm+" before cache exists on "+tc.getAddress());
-    }
-    try {
-      Parameters pIn = constructParameters(options, code);
-      res = validateOnServer(tc, vs, pIn, options);
-    } catch (Exception e) {
-      res = new ValidationResult(IssueSeverity.ERROR, e.getMessage() == null ? e.getClass().getName() : e.getMessage(), null).setTxLink(txLog == null ? null : txLog.getLastId()).setErrorClass(TerminologyServiceErrorClass.SERVER_ERROR);
-    }
-    if (!res.isOk() && res.getErrorClass() == TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED && (localError != null && !localError.equals(ValueSetValidator.NO_TRY_THE_SERVER))) {
-      res = new ValidationResult(IssueSeverity.ERROR, localError, null).setTxLink(txLog == null ? null : txLog.getLastId()).setErrorClass(type);
+  /**
+   * The part of validateCode that happens after the server has answered
+   */
+  private ValidationResult finishServerValidation(Coding code, CacheToken cacheToken, LocalValidationState local, ValidationResult res) {
+    String codeKey = getCodeKey(code);
+    if (!res.isOk() && res.getErrorClass() == TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED && (local.localError != null && !local.localError.equals(ValueSetValidator.NO_TRY_THE_SERVER))) {
+      res = new ValidationResult(IssueSeverity.ERROR, local.localError, null).setTxLink(txLog == null ? null : txLog.getLastId()).setErrorClass(local.type);
     } 
-    if (!res.isOk() && localError != null) {
-      res.setDiagnostics("Local Error: "+localError.trim()+". Server Error: "+res.getMessage());
-    } else if (!res.isOk() && res.getErrorClass() == TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED && res.getUnknownSystems() != null && res.getUnknownSystems().contains(codeKey) && localWarning != null) {
+    if (!res.isOk() && local.localError != null) {
+      res.setDiagnostics("Local Error: "+local.localError.trim()+". Server Error: "+res.getMessage());
+    } else if (!res.isOk() && res.getErrorClass() == TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED && res.getUnknownSystems() != null && res.getUnknownSystems().contains(codeKey) && local.localWarning != null) {
       // we had some problem evaluating locally, but the server doesn't know the code system, so we'll just go with the local error
-      res = new ValidationResult(IssueSeverity.WARNING, localWarning, null);
-      res.setDiagnostics("Local Warning: "+localWarning.trim()+". Server Error: "+res.getMessage());
+      res = new ValidationResult(IssueSeverity.WARNING, local.localWarning, null);
+      res.setDiagnostics("Local Warning: "+local.localWarning.trim()+". Server Error: "+res.getMessage());
       return res;
     }
     updateUnsupportedCodeSystems(res, code, codeKey);
@@ -1581,18 +1774,43 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
         codeSystemsUsed.add(c.getSystem());
       }
     }
-    Set<String> unknownSystems = new HashSet<>();
+    LocalValidationState local = new LocalValidationState();
+    res = validateCodeLocally(options, code, vs, cacheToken, local);
+    if (res != null) {
+      return res;
+    }
+    Set<String> systems = findRelevantSystems(code, vs);
+    TerminologyClientContext tc = terminologyClientManager.chooseServer(vs, systems, false);
 
-    List<OperationOutcomeIssueComponent> issues = new ArrayList<>();
-    
-    String localError = null;
-    String localWarning = null;
-    
+    txLog("$validate "+txCache.summary(code)+" for "+ txCache.summary(vs)+" on "+tc.getAddress());
+    try {
+      Parameters pIn = constructParameters(options, code);
+      res = validateOnServer(tc, vs, pIn, options);
+    } catch (Exception e) {
+      local.issues.clear();
+      OperationOutcomeIssueComponent iss = new OperationOutcomeIssueComponent(org.hl7.fhir.r5.model.OperationOutcome.IssueSeverity.ERROR, org.hl7.fhir.r5.model.OperationOutcome.IssueType.EXCEPTION);
+      iss.getDetails().setText(e.getMessage());
+      local.issues.add(iss);
+      res = new ValidationResult(IssueSeverity.ERROR, e.getMessage() == null ? e.getClass().getName() : e.getMessage(), local.issues).setTxLink(txLog == null ? null : txLog.getLastId()).setErrorClass(TerminologyServiceErrorClass.SERVER_ERROR);
+    }
+    if (cachingAllowed) {
+      txCache.cacheValidation(cacheToken, res, TerminologyCache.PERMANENT);
+    }
+    return res;
+  }
+
+  /**
+   * The part of validateCode for a CodeableConcept that happens before going to the server
+   * 
+   * @return the result, or null if the code has to be validated on the server
+   */
+  private ValidationResult validateCodeLocally(ValidationOptions options, CodeableConcept code, ValueSet vs, CacheToken cacheToken, LocalValidationState local) {
+    ValidationResult res = null;
     if (options.isUseClient()) {
       // ok, first we try to validate locally
       try {
         ValueSetValidator vsc = constructValueSetCheckerSimple(options, vs);
-        vsc.setUnknownSystems(unknownSystems);
+        vsc.setUnknownSystems(local.unknownSystems);
         vsc.setThrowToServer(options.isUseServer() && terminologyClientManager.hasClient());
         res = vsc.validateCode("CodeableConcept", code);
         if (cachingAllowed) {
@@ -1601,33 +1819,33 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
         return res;
       } catch (VSCheckerException e) {
         if (e.isWarning()) {
-          localWarning = e.getMessage();
+          local.localWarning = e.getMessage();
         } else {  
-          localError = e.getMessage();
+          local.localError = e.getMessage();
         }
         if (e.getIssues() != null) {
-          issues.addAll(e.getIssues());
+          local.issues.addAll(e.getIssues());
         }
       } catch (TerminologyServiceProtectionException e) {
         OperationOutcomeIssueComponent iss = new OperationOutcomeIssueComponent(org.hl7.fhir.r5.model.OperationOutcome.IssueSeverity.ERROR, e.getType());
         iss.getDetails().setText(e.getMessage());
-        issues.add(iss);
-        return new ValidationResult(IssueSeverity.FATAL, e.getMessage(), e.getError(), issues);
+        local.issues.add(iss);
+        return new ValidationResult(IssueSeverity.FATAL, e.getMessage(), e.getError(), local.issues);
       } catch (Exception e) {
 //        e.printStackTrace();
-        localError = e.getMessage();
+        local.localError = e.getMessage();
       }
     }
 
-    if (localError != null && !terminologyClientManager.hasClient()) {
-      if (unknownSystems.size() > 0) {
-        return new ValidationResult(IssueSeverity.ERROR, localError, TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED, issues).setUnknownSystems(unknownSystems);
+    if (local.localError != null && !terminologyClientManager.hasClient()) {
+      if (local.unknownSystems.size() > 0) {
+        return new ValidationResult(IssueSeverity.ERROR, local.localError, TerminologyServiceErrorClass.CODESYSTEM_UNSUPPORTED, local.issues).setUnknownSystems(local.unknownSystems);
       } else {
-        return new ValidationResult(IssueSeverity.ERROR, localError, TerminologyServiceErrorClass.UNKNOWN, issues);
+        return new ValidationResult(IssueSeverity.ERROR, local.localError, TerminologyServiceErrorClass.UNKNOWN, local.issues);
       }
     }
-    if (localWarning != null && !terminologyClientManager.hasClient()) {
-      return new ValidationResult(IssueSeverity.WARNING,formatMessage(I18nConstants.UNABLE_TO_VALIDATE_CODE_WITHOUT_USING_SERVER, localWarning), TerminologyServiceErrorClass.BLOCKED_BY_OPTIONS, issues);       
+    if (local.localWarning != null && !terminologyClientManager.hasClient()) {
+      return new ValidationResult(IssueSeverity.WARNING,formatMessage(I18nConstants.UNABLE_TO_VALIDATE_CODE_WITHOUT_USING_SERVER, local.localWarning), TerminologyServiceErrorClass.BLOCKED_BY_OPTIONS, local.issues);       
     }
     
     if (!options.isUseServer()) {
@@ -1638,24 +1856,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     if (noTerminologyServer) {
       return new ValidationResult(IssueSeverity.ERROR, "Error validating code: running without terminology services", TerminologyServiceErrorClass.NOSERVICE, null);
     }
-    Set<String> systems = findRelevantSystems(code, vs);
-    TerminologyClientContext tc = terminologyClientManager.chooseServer(vs, systems, false);
-
-    txLog("$validate "+txCache.summary(code)+" for "+ txCache.summary(vs)+" on "+tc.getAddress());
-    try {
-      Parameters pIn = constructParameters(options, code);
-      res = validateOnServer(tc, vs, pIn, options);
-    } catch (Exception e) {
-      issues.clear();
-      OperationOutcomeIssueComponent iss = new OperationOutcomeIssueComponent(org.hl7.fhir.r5.model.OperationOutcome.IssueSeverity.ERROR, org.hl7.fhir.r5.model.OperationOutcome.IssueType.EXCEPTION);
-      iss.getDetails().setText(e.getMessage());
-      issues.add(iss);
-      res = new ValidationResult(IssueSeverity.ERROR, e.getMessage() == null ? e.getClass().getName() : e.getMessage(), issues).setTxLink(txLog == null ? null : txLog.getLastId()).setErrorClass(TerminologyServiceErrorClass.SERVER_ERROR);
-    }
-    if (cachingAllowed) {
-      txCache.cacheValidation(cacheToken, res, TerminologyCache.PERMANENT);
-    }
-    return res;
+    return null;
   }
 
   private Set<String> findRelevantSystems(ValueSet vs) {
@@ -1726,7 +1927,11 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
   }
 
   protected ValidationResult validateOnServer(TerminologyClientContext tc, ValueSet vs, Parameters pin, ValidationOptions options) throws FHIRException {
+    prepareServerValidation(tc, vs, pin, options);
+    return sendServerValidation(tc, vs, pin);
+  }
 
+  private void prepareServerValidation(TerminologyClientContext tc, ValueSet vs, Parameters pin, ValidationOptions options) {
     if (vs != null) {
       for (ConceptSetComponent inc : vs.getCompose().getInclude()) {
         codeSystemsUsed.add(inc.getSystem());
@@ -1737,7 +1942,9 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     }
 
     addServerValidationParameters(tc, vs, pin, options);
+  }
 
+  private ValidationResult sendServerValidation(TerminologyClientContext tc, ValueSet vs, Parameters pin) throws FHIRException {
     if (txLog != null) {
       txLog.clearLastId();
     }
@@ -2133,140 +2340,147 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     if (class_ == StructureDefinition.class) {
       uri = ProfileUtilities.sdNs(uri, null);
     }
+    if (sealed) {
+      return fetchResourceWithExceptionByVersionInt(class_, uri, version, pvlist);
+    }
     synchronized (lock) {
+      return fetchResourceWithExceptionByVersionInt(class_, uri, version, pvlist);
+    }
+  }
 
-      if (version == null) {
-        if (uri.contains("|")) {
-          version = uri.substring(uri.lastIndexOf("|")+1);
-          uri = uri.substring(0, uri.lastIndexOf("|"));
-        }
-      } else {
-        assert !uri.contains("|");
+  @SuppressWarnings("unchecked")
+  private <T extends Resource> T fetchResourceWithExceptionByVersionInt(Class<T> class_, String uri, String version, List<String> pvlist) throws FHIRException {
+    if (version == null) {
+      if (uri.contains("|")) {
+        version = uri.substring(uri.lastIndexOf("|")+1);
+        uri = uri.substring(0, uri.lastIndexOf("|"));
       }
-      if (uri.contains("#")) {
-        uri = uri.substring(0, uri.indexOf("#"));
-      } 
-      if (class_ == Resource.class || class_ == null) {
-        if (structures.has(uri)) {
-          return (T) structures.get(uri, version, pvlist);
-        }        
-        if (guides.has(uri)) {
-          return (T) guides.get(uri, version, pvlist);
-        } 
-        if (capstmts.has(uri)) {
-          return (T) capstmts.get(uri, version, pvlist);
-        } 
-        if (measures.has(uri)) {
-          return (T) measures.get(uri, version, pvlist);
-        } 
-        if (libraries.has(uri)) {
-          return (T) libraries.get(uri, version, pvlist);
-        } 
-        if (valueSets.has(uri)) {
-          return (T) valueSets.get(uri, version, pvlist);
-        } 
-        if (codeSystems.has(uri)) {
-          return (T) codeSystems.get(uri, version, pvlist);
-        } 
-        if (systems.has(uri)) {
-          return (T) systems.get(uri, version, pvlist);
-        } 
-        if (operations.has(uri)) {
-          return (T) operations.get(uri, version, pvlist);
-        } 
-        if (searchParameters.has(uri)) {
-          return (T) searchParameters.get(uri, version, pvlist);
-        } 
-        if (plans.has(uri)) {
-          return (T) plans.get(uri, version, pvlist);
-        } 
-        if (maps.has(uri)) {
-          return (T) maps.get(uri, version, pvlist);
-        } 
-        if (transforms.has(uri)) {
-          return (T) transforms.get(uri, version, pvlist);
-        } 
-        if (actors.has(uri)) {
-          return (T) transforms.get(uri, version, pvlist);
-        } 
-        if (requirements.has(uri)) {
-          return (T) transforms.get(uri, version, pvlist);
-        } 
-        if (questionnaires.has(uri)) {
-          return (T) questionnaires.get(uri, version, pvlist);
-        } 
-
-        for (Map<String, ResourceProxy> rt : allResourcesById.values()) {
-          for (ResourceProxy r : rt.values()) {
-            if (uri.equals(r.getUrl())) {
-              if (version == null || version == r.getResource().getMeta().getVersionId()) {
-                return (T) r.getResource();
-              }
-            }
-          }            
-        }
-        if (uri.matches(Constants.URI_REGEX) && !uri.contains("ValueSet")) {
-          return null;
-        }
-
-        // it might be a special URL.
-//        if (Utilities.isAbsoluteUrl(uri) || uri.startsWith("ValueSet/")) {
-//          Resource res = null; // findTxValueSet(uri);
-//          if (res != null) {
-//            return (T) res;
-//          }
-//        }
-        return null;      
-      } else if (class_ == ImplementationGuide.class) {
+    } else {
+      assert !uri.contains("|");
+    }
+    if (uri.contains("#")) {
+      uri = uri.substring(0, uri.indexOf("#"));
+    } 
+    if (class_ == Resource.class || class_ == null) {
+      if (structures.has(uri)) {
+        return (T) structures.get(uri, version, pvlist);
+      }        
+      if (guides.has(uri)) {
         return (T) guides.get(uri, version, pvlist);
-      } else if (class_ == CapabilityStatement.class) {
+      } 
+      if (capstmts.has(uri)) {
         return (T) capstmts.get(uri, version, pvlist);
-      } else if (class_ == Measure.class) {
+      } 
+      if (measures.has(uri)) {
         return (T) measures.get(uri, version, pvlist);
-      } else if (class_ == Library.class) {
+      } 
+      if (libraries.has(uri)) {
         return (T) libraries.get(uri, version, pvlist);
-      } else if (class_ == StructureDefinition.class) {
-        return (T) structures.get(uri, version, pvlist);
-      } else if (class_ == StructureMap.class) {
-        return (T) transforms.get(uri, version, pvlist);
-      } else if (class_ == NamingSystem.class) {
-        return (T) systems.get(uri, version, pvlist);
-      } else if (class_ == ValueSet.class) {
+      } 
+      if (valueSets.has(uri)) {
         return (T) valueSets.get(uri, version, pvlist);
-      } else if (class_ == CodeSystem.class) {
+      } 
+      if (codeSystems.has(uri)) {
         return (T) codeSystems.get(uri, version, pvlist);
-      } else if (class_ == ConceptMap.class) {
-        return (T) maps.get(uri, version, pvlist);
-      } else if (class_ == ActorDefinition.class) {
-        return (T) actors.get(uri, version, pvlist);
-      } else if (class_ == Requirements.class) {
-        return (T) requirements.get(uri, version, pvlist);
-      } else if (class_ == PlanDefinition.class) {
+      } 
+      if (systems.has(uri)) {
+        return (T) systems.get(uri, version, pvlist);
+      } 
+      if (operations.has(uri)) {
+        return (T) operations.get(uri, version, pvlist);
+      } 
+      if (searchParameters.has(uri)) {
+        return (T) searchParameters.get(uri, version, pvlist);
+      } 
+      if (plans.has(uri)) {
         return (T) plans.get(uri, version, pvlist);
-      } else if (class_ == OperationDefinition.class) {
-        OperationDefinition od = operations.get(uri, version);
-        return (T) od;
-      } else if (class_ == Questionnaire.class) {
-        return (T) questionnaires.get(uri, version, pvlist);
-      } else if (class_ == SearchParameter.class) {
-        SearchParameter res = searchParameters.get(uri, version, pvlist);
-        return (T) res;
-      }
-      if (class_ == CodeSystem.class && codeSystems.has(uri)) { 
-        return (T) codeSystems.get(uri, version, pvlist);
-      }
-      if (class_ == ValueSet.class && valueSets.has(uri)) {
-        return (T) valueSets.get(uri, version, pvlist);
       } 
-      
-      if (class_ == Questionnaire.class) {
+      if (maps.has(uri)) {
+        return (T) maps.get(uri, version, pvlist);
+      } 
+      if (transforms.has(uri)) {
+        return (T) transforms.get(uri, version, pvlist);
+      } 
+      if (actors.has(uri)) {
+        return (T) transforms.get(uri, version, pvlist);
+      } 
+      if (requirements.has(uri)) {
+        return (T) transforms.get(uri, version, pvlist);
+      } 
+      if (questionnaires.has(uri)) {
         return (T) questionnaires.get(uri, version, pvlist);
       } 
-      if (supportedCodeSystems.contains(uri)) {
+
+      for (Map<String, ResourceProxy> rt : allResourcesById.values()) {
+        for (ResourceProxy r : rt.values()) {
+          if (uri.equals(r.getUrl())) {
+            if (version == null || version == r.getResource().getMeta().getVersionId()) {
+              return (T) r.getResource();
+            }
+          }
+        }            
+      }
+      if (uri.matches(Constants.URI_REGEX) && !uri.contains("ValueSet")) {
         return null;
-      } 
-      throw new FHIRException(formatMessage(I18nConstants.NOT_DONE_YET_CANT_FETCH_, uri));
-    }
+      }
+
+      // it might be a special URL.
+//        if (Utilities.isAbsoluteUrl(uri) || uri.startsWith("ValueSet/")) {
+//          Resource res = null; // findTxValueSet(uri);
+//          if (res != null) {
+//            return (T) res;
+//          }
+//        }
+      return null;      
+    } else if (class_ == ImplementationGuide.class) {
+      return (T) guides.get(uri, version, pvlist);
+    } else if (class_ == CapabilityStatement.class) {
+      return (T) capstmts.get(uri, version, pvlist);
+    } else if (class_ == Measure.class) {
+      return (T) measures.get(uri, version, pvlist);
+    } else if (class_ == Library.class) {
+      return (T) libraries.get(uri, version, pvlist);
+    } else if (class_ == StructureDefinition.class) {
+      return (T) structures.get(uri, version, pvlist);
+    } else if (class_ == StructureMap.class) {
+      return (T) transforms.get(uri, version, pvlist);
+    } else if (class_ == NamingSystem.class) {
+      return (T) systems.get(uri, version, pvlist);
+    } else if (class_ == ValueSet.class) {
+      return (T) valueSets.get(uri, version, pvlist);
+    } else if (class_ == CodeSystem.class) {
+      return (T) codeSystems.get(uri, version, pvlist);
+    } else if (class_ == ConceptMap.class) {
+      return (T) maps.get(uri, version, pvlist);
+    } else if (class_ == ActorDefinition.class) {
+      return (T) actors.get(uri, version, pvlist);
+    } else if (class_ == Requirements.class) {
+      return (T) requirements.get(uri, version, pvlist);
+    } else if (class_ == PlanDefinition.class) {
+      return (T) plans.get(uri, version, pvlist);
+    } else if (class_ == OperationDefinition.class) {
+      OperationDefinition od = operations.get(uri, version);
+      return (T) od;
+    } else if (class_ == Questionnaire.class) {
+      return (T) questionnaires.get(uri, version, pvlist);
+    } else if (class_ == SearchParameter.class) {
+      SearchParameter res = searchParameters.get(uri, version, pvlist);
+      return (T) res;
+    }
+    if (class_ == CodeSystem.class && codeSystems.has(uri)) { 
+      return (T) codeSystems.get(uri, version, pvlist);
+    }
+    if (class_ == ValueSet.class && valueSets.has(uri)) {
+      return (T) valueSets.get(uri, version, pvlist);
+    } 
+    
+    if (class_ == Questionnaire.class) {
+      return (T) questionnaires.get(uri, version, pvlist);
+    } 
+    if (supportedCodeSystems.contains(uri)) {
+      return null;
+    } 
+    throw new FHIRException(formatMessage(I18nConstants.NOT_DONE_YET_CANT_FETCH_, uri));
   }
 
   private void populatePVList(List<String> pvlist, PackageInformation sourcePackage) {
@@ -2294,203 +2508,216 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     }
     uri = ProfileUtilities.sdNs(uri, null);
 
+    if (sealed) {
+      return getPackageForUrlInt(uri);
+    }
+    synchronized (lock) {
+      return getPackageForUrlInt(uri);
+    }
+  }
+
+  private PackageInformation getPackageForUrlInt(String uri) {
+    String version = null;
+    if (uri.contains("|")) {
+      version = uri.substring(uri.lastIndexOf("|")+1);
+      uri = uri.substring(0, uri.lastIndexOf("|"));
+    }
+    if (uri.contains("#")) {
+      uri = uri.substring(0, uri.indexOf("#"));
+    } 
+    if (structures.has(uri)) {
+      return structures.getPackageInfo(uri, version);
+    }        
+    if (guides.has(uri)) {
+      return guides.getPackageInfo(uri, version);
+    } 
+    if (capstmts.has(uri)) {
+      return capstmts.getPackageInfo(uri, version);
+    } 
+    if (measures.has(uri)) {
+      return measures.getPackageInfo(uri, version);
+    } 
+    if (libraries.has(uri)) {
+      return libraries.getPackageInfo(uri, version);
+    } 
+    if (valueSets.has(uri)) {
+      return valueSets.getPackageInfo(uri, version);
+    } 
+    if (codeSystems.has(uri)) {
+      return codeSystems.getPackageInfo(uri, version);
+    } 
+    if (operations.has(uri)) {
+      return operations.getPackageInfo(uri, version);
+    } 
+    if (searchParameters.has(uri)) {
+      return searchParameters.getPackageInfo(uri, version);
+    } 
+    if (plans.has(uri)) {
+      return plans.getPackageInfo(uri, version);
+    } 
+    if (maps.has(uri)) {
+      return maps.getPackageInfo(uri, version);
+    } 
+    if (transforms.has(uri)) {
+      return transforms.getPackageInfo(uri, version);
+    } 
+    if (actors.has(uri)) {
+      return actors.getPackageInfo(uri, version);
+    } 
+    if (requirements.has(uri)) {
+      return requirements.getPackageInfo(uri, version);
+    } 
+    if (questionnaires.has(uri)) {
+      return questionnaires.getPackageInfo(uri, version);
+    }         
+    return null;
+  }
+  
+  @SuppressWarnings("unchecked")
+  public <T extends Resource> T fetchResourceWithExceptionByVersion(String cls, String uri, String version, CanonicalResource source) throws FHIRException {
+    if (uri == null) {
+      return null;
+    }
+   
+    if ("StructureDefinition".equals(cls)) {
+      uri = ProfileUtilities.sdNs(uri, null);
+    }
+    if (sealed) {
+      return fetchResourceWithExceptionByVersionInt(cls, uri, version);
+    }
     synchronized (lock) {
+      return fetchResourceWithExceptionByVersionInt(cls, uri, version);
+    }
+  }
 
-      String version = null;
+  @SuppressWarnings("unchecked")
+  private <T extends Resource> T fetchResourceWithExceptionByVersionInt(String cls, String uri, String version) throws FHIRException {
+    if (version == null) {
       if (uri.contains("|")) {
         version = uri.substring(uri.lastIndexOf("|")+1);
         uri = uri.substring(0, uri.lastIndexOf("|"));
       }
-      if (uri.contains("#")) {
-        uri = uri.substring(0, uri.indexOf("#"));
-      } 
+    } else {
+      boolean b = !uri.contains("|");
+      assert b;
+    }
+    if (uri.contains("#")) {
+      uri = uri.substring(0, uri.indexOf("#"));
+    } 
+    if (cls == null || "Resource".equals(cls)) {
       if (structures.has(uri)) {
-        return structures.getPackageInfo(uri, version);
-      }        
+        return (T) structures.get(uri, version);
+      } 
       if (guides.has(uri)) {
-        return guides.getPackageInfo(uri, version);
+        return (T) guides.get(uri, version);
       } 
       if (capstmts.has(uri)) {
-        return capstmts.getPackageInfo(uri, version);
+        return (T) capstmts.get(uri, version);
       } 
       if (measures.has(uri)) {
-        return measures.getPackageInfo(uri, version);
+        return (T) measures.get(uri, version);
       } 
       if (libraries.has(uri)) {
-        return libraries.getPackageInfo(uri, version);
+        return (T) libraries.get(uri, version);
       } 
       if (valueSets.has(uri)) {
-        return valueSets.getPackageInfo(uri, version);
+        return (T) valueSets.get(uri, version);
       } 
       if (codeSystems.has(uri)) {
-        return codeSystems.getPackageInfo(uri, version);
+        return (T) codeSystems.get(uri, version);
       } 
       if (operations.has(uri)) {
-        return operations.getPackageInfo(uri, version);
+        return (T) operations.get(uri, version);
       } 
       if (searchParameters.has(uri)) {
-        return searchParameters.getPackageInfo(uri, version);
+        return (T) searchParameters.get(uri, version);
       } 
       if (plans.has(uri)) {
-        return plans.getPackageInfo(uri, version);
+        return (T) plans.get(uri, version);
       } 
       if (maps.has(uri)) {
-        return maps.getPackageInfo(uri, version);
+        return (T) maps.get(uri, version);
       } 
       if (transforms.has(uri)) {
-        return transforms.getPackageInfo(uri, version);
+        return (T) transforms.get(uri, version);
       } 
       if (actors.has(uri)) {
-        return actors.getPackageInfo(uri, version);
+        return (T) actors.get(uri, version);
       } 
       if (requirements.has(uri)) {
-        return requirements.getPackageInfo(uri, version);
-      } 
-      if (questionnaires.has(uri)) {
-        return questionnaires.getPackageInfo(uri, version);
-      }         
-      return null;
-    }
-  }
-  
-  @SuppressWarnings("unchecked")
-  public <T extends Resource> T fetchResourceWithExceptionByVersion(String cls, String uri, String version, CanonicalResource source) throws FHIRException {
-    if (uri == null) {
-      return null;
-    }
-   
-    if ("StructureDefinition".equals(cls)) {
-      uri = ProfileUtilities.sdNs(uri, null);
-    }
-    synchronized (lock) {
-
-      if (version == null) {
-        if (uri.contains("|")) {
-          version = uri.substring(uri.lastIndexOf("|")+1);
-          uri = uri.substring(0, uri.lastIndexOf("|"));
-        }
-      } else {
-        boolean b = !uri.contains("|");
-        assert b;
-      }
-      if (uri.contains("#")) {
-        uri = uri.substring(0, uri.indexOf("#"));
-      } 
-      if (cls == null || "Resource".equals(cls)) {
-        if (structures.has(uri)) {
-          return (T) structures.get(uri, version);
-        } 
-        if (guides.has(uri)) {
-          return (T) guides.get(uri, version);
-        } 
-        if (capstmts.has(uri)) {
-          return (T) capstmts.get(uri, version);
-        } 
-        if (measures.has(uri)) {
-          return (T) measures.get(uri, version);
-        } 
-        if (libraries.has(uri)) {
-          return (T) libraries.get(uri, version);
-        } 
-        if (valueSets.has(uri)) {
-          return (T) valueSets.get(uri, version);
-        } 
-        if (codeSystems.has(uri)) {
-          return (T) codeSystems.get(uri, version);
-        } 
-        if (operations.has(uri)) {
-          return (T) operations.get(uri, version);
-        } 
-        if (searchParameters.has(uri)) {
-          return (T) searchParameters.get(uri, version);
-        } 
-        if (plans.has(uri)) {
-          return (T) plans.get(uri, version);
-        } 
-        if (maps.has(uri)) {
-          return (T) maps.get(uri, version);
-        } 
-        if (transforms.has(uri)) {
-          return (T) transforms.get(uri, version);
-        } 
-        if (actors.has(uri)) {
-          return (T) actors.get(uri, version);
-        } 
-        if (requirements.has(uri)) {
-          return (T) requirements.get(uri, version);
-        } 
-        if (questionnaires.has(uri)) {
-          return (T) questionnaires.get(uri, version);
-        } 
-        for (Map<String, ResourceProxy> rt : allResourcesById.values()) {
-          for (ResourceProxy r : rt.values()) {
-            if (uri.equals(r.getUrl())) {
-              return (T) r.getResource();
-            }
-          }            
-        }
-      } else if ("ImplementationGuide".equals(cls)) {
-        return (T) guides.get(uri, version);
-      } else if ("CapabilityStatement".equals(cls)) {
-        return (T) capstmts.get(uri, version);
-      } else if ("Measure".equals(cls)) {
-        return (T) measures.get(uri, version);
-      } else if ("Library".equals(cls)) {
-        return (T) libraries.get(uri, version);
-      } else if ("StructureDefinition".equals(cls)) {
-        return (T) structures.get(uri, version);
-      } else if ("StructureMap".equals(cls)) {
-        return (T) transforms.get(uri, version);
-      } else if ("Requirements".equals(cls)) {
         return (T) requirements.get(uri, version);
-      } else if ("ActorDefinition".equals(cls)) {
-        return (T) actors.get(uri, version);
-      } else if ("ValueSet".equals(cls)) {
-        return (T) valueSets.get(uri, version);
-      } else if ("CodeSystem".equals(cls)) {
-        return (T) codeSystems.get(uri, version);
-      } else if ("ConceptMap".equals(cls)) {
-        return (T) maps.get(uri, version);
-      } else if ("PlanDefinition".equals(cls)) {
-        return (T) plans.get(uri, version);
-      } else if ("OperationDefinition".equals(cls)) {
-        OperationDefinition od = operations.get(uri, version);
-        return (T) od;
-      } else if ("Questionnaire.class".equals(cls)) {
-        return (T) questionnaires.get(uri, version);
-      } else if ("SearchParameter.class".equals(cls)) {
-        SearchParameter res = searchParameters.get(uri, version);
-        return (T) res;
-      }
-      if ("CodeSystem".equals(cls) && codeSystems.has(uri)) {
-        return (T) codeSystems.get(uri, version);
       } 
-      if ("ValueSet".equals(cls) && valueSets.has(uri)) {
-        return (T) valueSets.get(uri, version);
-      } 
-      
-      if ("Questionnaire".equals(cls)) {
+      if (questionnaires.has(uri)) {
         return (T) questionnaires.get(uri, version);
       } 
-      if (cls == null) {
-        if (uri.matches(Constants.URI_REGEX) && !uri.contains("ValueSet")) {
-          return null;
-        } 
-
-        // it might be a special URL.
-        if (Utilities.isAbsoluteUrl(uri) || uri.startsWith("ValueSet/")) {
-          Resource res = null; // findTxValueSet(uri);
-          if (res != null) {
-            return (T) res;
-          } 
-        }
-        return null;      
-      }    
-      if (supportedCodeSystems.contains(uri)) {
+      for (Map<String, ResourceProxy> rt : allResourcesById.values()) {
+        for (ResourceProxy r : rt.values()) {
+          if (uri.equals(r.getUrl())) {
+            return (T) r.getResource();
+          }
+        }            
+      }
+    } else if ("ImplementationGuide".equals(cls)) {
+      return (T) guides.get(uri, version);
+    } else if ("CapabilityStatement".equals(cls)) {
+      return (T) capstmts.get(uri, version);
+    } else if ("Measure".equals(cls)) {
+      return (T) measures.get(uri, version);
+    } else if ("Library".equals(cls)) {
+      return (T) libraries.get(uri, version);
+    } else if ("StructureDefinition".equals(cls)) {
+      return (T) structures.get(uri, version);
+    } else if ("StructureMap".equals(cls)) {
+      return (T) transforms.get(uri, version);
+    } else if ("Requirements".equals(cls)) {
+      return (T) requirements.get(uri, version);
+    } else if ("ActorDefinition".equals(cls)) {
+      return (T) actors.get(uri, version);
+    } else if ("ValueSet".equals(cls)) {
+      return (T) valueSets.get(uri, version);
+    } else if ("CodeSystem".equals(cls)) {
+      return (T) codeSystems.get(uri, version);
+    } else if ("ConceptMap".equals(cls)) {
+      return (T) maps.get(uri, version);
+    } else if ("PlanDefinition".equals(cls)) {
+      return (T) plans.get(uri, version);
+    } else if ("OperationDefinition".equals(cls)) {
+      OperationDefinition od = operations.get(uri, version);
+      return (T) od;
+    } else if ("Questionnaire.class".equals(cls)) {
+      return (T) questionnaires.get(uri, version);
+    } else if ("SearchParameter.class".equals(cls)) {
+      SearchParameter res = searchParameters.get(uri, version);
+      return (T) res;
+    }
+    if ("CodeSystem".equals(cls) && codeSystems.has(uri)) {
+      return (T) codeSystems.get(uri, version);
+    } 
+    if ("ValueSet".equals(cls) && valueSets.has(uri)) {
+      return (T) valueSets.get(uri, version);
+    } 
+    
+    if ("Questionnaire".equals(cls)) {
+      return (T) questionnaires.get(uri, version);
+    } 
+    if (cls == null) {
+      if (uri.matches(Constants.URI_REGEX) && !uri.contains("ValueSet")) {
         return null;
       } 
-      throw new FHIRException(formatMessage(I18nConstants.NOT_DONE_YET_CANT_FETCH_, uri));
-    }
+
+      // it might be a special URL.
+      if (Utilities.isAbsoluteUrl(uri) || uri.startsWith("ValueSet/")) {
+        Resource res = null; // findTxValueSet(uri);
+        if (res != null) {
+          return (T) res;
+        } 
+      }
+      return null;      
+    }    
+    if (supportedCodeSystems.contains(uri)) {
+      return null;
+    } 
+    throw new FHIRException(formatMessage(I18nConstants.NOT_DONE_YET_CANT_FETCH_, uri));
   }
   
   public <T extends Resource> List<T> fetchResourcesByType(Class<T> class_, FhirPublication fhirVersion) {
@@ -2502,62 +2729,70 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
 
     List<T> res = new ArrayList<>();
 
-    synchronized (lock) {
-
-      if (class_ == Resource.class || class_ == DomainResource.class || class_ == CanonicalResource.class || class_ == null) {
-        res.addAll((List<T>) structures.getList());
-        res.addAll((List<T>) guides.getList());
-        res.addAll((List<T>) capstmts.getList());
-        res.addAll((List<T>) measures.getList());
-        res.addAll((List<T>) libraries.getList());
-        res.addAll((List<T>) valueSets.getList());
-        res.addAll((List<T>) codeSystems.getList());
-        res.addAll((List<T>) operations.getList());
-        res.addAll((List<T>) searchParameters.getList());
-        res.addAll((List<T>) plans.getList());
-        res.addAll((List<T>) maps.getList());
-        res.addAll((List<T>) transforms.getList());
-        res.addAll((List<T>) questionnaires.getList());
-        res.addAll((List<T>) systems.getList());
-        res.addAll((List<T>) actors.getList());
-        res.addAll((List<T>) requirements.getList());
-      } else if (class_ == ImplementationGuide.class) {
-        res.addAll((List<T>) guides.getList());
-      } else if (class_ == CapabilityStatement.class) {
-        res.addAll((List<T>) capstmts.getList());
-      } else if (class_ == Measure.class) {
-        res.addAll((List<T>) measures.getList());
-      } else if (class_ == Library.class) {
-        res.addAll((List<T>) libraries.getList());
-      } else if (class_ == StructureDefinition.class) {
-        res.addAll((List<T>) structures.getList());
-      } else if (class_ == StructureMap.class) {
-        res.addAll((List<T>) transforms.getList());
-      } else if (class_ == ValueSet.class) {
-        res.addAll((List<T>) valueSets.getList());
-      } else if (class_ == CodeSystem.class) {
-        res.addAll((List<T>) codeSystems.getList());
-      } else if (class_ == NamingSystem.class) {
-        res.addAll((List<T>) systems.getList());
-      } else if (class_ == ActorDefinition.class) {
-        res.addAll((List<T>) actors.getList());
-      } else if (class_ == Requirements.class) {
-        res.addAll((List<T>) requirements.getList());
-      } else if (class_ == ConceptMap.class) {
-        res.addAll((List<T>) maps.getList());
-      } else if (class_ == PlanDefinition.class) {
-        res.addAll((List<T>) plans.getList());
-      } else if (class_ == OperationDefinition.class) {
-        res.addAll((List<T>) operations.getList());
-      } else if (class_ == Questionnaire.class) {
-        res.addAll((List<T>) questionnaires.getList());
-      } else if (class_ == SearchParameter.class) {
-        res.addAll((List<T>) searchParameters.getList());
+    if (sealed) {
+      fetchResourcesByTypeInt(class_, res);
+    } else {
+      synchronized (lock) {
+        fetchResourcesByTypeInt(class_, res);
       }
     }
     return res;
   }
 
+  @SuppressWarnings("unchecked")
+  private <T extends Resource> void fetchResourcesByTypeInt(Class<T> class_, List<T> res) {
+    if (class_ == Resource.class || class_ == DomainResource.class || class_ == CanonicalResource.class || class_ == null) {
+      res.addAll((List<T>) structures.getList());
+      res.addAll((List<T>) guides.getList());
+      res.addAll((List<T>) capstmts.getList());
+      res.addAll((List<T>) measures.getList());
+      res.addAll((List<T>) libraries.getList());
+      res.addAll((List<T>) valueSets.getList());
+      res.addAll((List<T>) codeSystems.getList());
+      res.addAll((List<T>) operations.getList());
+      res.addAll((List<T>) searchParameters.getList());
+      res.addAll((List<T>) plans.getList());
+      res.addAll((List<T>) maps.getList());
+      res.addAll((List<T>) transforms.getList());
+      res.addAll((List<T>) questionnaires.getList());
+      res.addAll((List<T>) systems.getList());
+      res.addAll((List<T>) actors.getList());
+      res.addAll((List<T>) requirements.getList());
+    } else if (class_ == ImplementationGuide.class) {
+      res.addAll((List<T>) guides.getList());
+    } else if (class_ == CapabilityStatement.class) {
+      res.addAll((List<T>) capstmts.getList());
+    } else if (class_ == Measure.class) {
+      res.addAll((List<T>) measures.getList());
+    } else if (class_ == Library.class) {
+      res.addAll((List<T>) libraries.getList());
+    } else if (class_ == StructureDefinition.class) {
+      res.addAll((List<T>) structures.getList());
+    } else if (class_ == StructureMap.class) {
+      res.addAll((List<T>) transforms.getList());
+    } else if (class_ == ValueSet.class) {
+      res.addAll((List<T>) valueSets.getList());
+    } else if (class_ == CodeSystem.class) {
+      res.addAll((List<T>) codeSystems.getList());
+    } else if (class_ == NamingSystem.class) {
+      res.addAll((List<T>) systems.getList());
+    } else if (class_ == ActorDefinition.class) {
+      res.addAll((List<T>) actors.getList());
+    } else if (class_ == Requirements.class) {
+      res.addAll((List<T>) requirements.getList());
+    } else if (class_ == ConceptMap.class) {
+      res.addAll((List<T>) maps.getList());
+    } else if (class_ == PlanDefinition.class) {
+      res.addAll((List<T>) plans.getList());
+    } else if (class_ == OperationDefinition.class) {
+      res.addAll((List<T>) operations.getList());
+    } else if (class_ == Questionnaire.class) {
+      res.addAll((List<T>) questionnaires.getList());
+    } else if (class_ == SearchParameter.class) {
+      res.addAll((List<T>) searchParameters.getList());
+    }
+  }
+
   private Set<String> notCanonical = new HashSet<String>();
 
   protected IWorkerContextManager.IPackageLoadingTracker packageTracker;
@@ -2571,26 +2806,33 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
   
   @Override
   public Resource fetchResourceById(String type, String uri) {
+    if (sealed) {
+      return fetchResourceByIdInt(type, uri);
+    }
     synchronized (lock) {
-      String[] parts = uri.split("\\/");
-      if (!Utilities.noString(type) && parts.length == 1) {
-        if (allResourcesById.containsKey(type)) {
-          ResourceProxy res = allResourcesById.get(type).get(parts[0]);
-          return res == null ? null : res.getResource();
-        } else {
-          return null;
-        }
+      return fetchResourceByIdInt(type, uri);
+    }
+  }
+
+  private Resource fetchResourceByIdInt(String type, String uri) {
+    String[] parts = uri.split("\\/");
+    if (!Utilities.noString(type) && parts.length == 1) {
+      if (allResourcesById.containsKey(type)) {
+        ResourceProxy res = allResourcesById.get(type).get(parts[0]);
+        return res == null ? null : res.getResource();
+      } else {
+        return null;
       }
-      if (parts.length >= 2) {
-        if (!Utilities.noString(type)) {
-          if (!type.equals(parts[parts.length-2])) { 
-            throw new Error(formatMessage(I18nConstants.RESOURCE_TYPE_MISMATCH_FOR___, type, uri));
-          }
+    }
+    if (parts.length >= 2) {
+      if (!Utilities.noString(type)) {
+        if (!type.equals(parts[parts.length-2])) { 
+          throw new Error(formatMessage(I18nConstants.RESOURCE_TYPE_MISMATCH_FOR___, type, uri));
         }
-        return allResourcesById.get(parts[parts.length-2]).get(parts[parts.length-1]).getResource();
-      } else {
-        throw new Error(formatMessage(I18nConstants.UNABLE_TO_PROCESS_REQUEST_FOR_RESOURCE_FOR___, type, uri));
       }
+      return allResourcesById.get(parts[parts.length-2]).get(parts[parts.length-1]).getResource();
+    } else {
+      throw new Error(formatMessage(I18nConstants.UNABLE_TO_PROCESS_REQUEST_FOR_RESOURCE_FOR___, type, uri));
     }
   }
 
@@ -2710,6 +2952,10 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
       json.addProperty("statements-count", capstmts.size());
       json.addProperty("measures-count", measures.size());
       json.addProperty("libraries-count", libraries.size());
+      json.addProperty("codesystem-loads", codeSystems.getLoadCount());
+      json.addProperty("codesystem-evictions", codeSystems.getEvictionCount());
+      json.addProperty("valueset-loads", valueSets.getLoadCount());
+      json.addProperty("valueset-evictions", valueSets.getEvictionCount());
     }
   }
 
@@ -2723,7 +2969,7 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
 
       Map<String, ResourceProxy> map = allResourcesById.get(fhirType);
       if (map == null) {
-        map = new HashMap<String, ResourceProxy>();
+        map = new ConcurrentHashMap<String, ResourceProxy>();
         allResourcesById.put(fhirType, map);
       }
       if (map.containsKey(id)) {
@@ -2814,6 +3060,9 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
   }
 
   public StructureDefinition getStructure(String code) {
+    if (sealed) {
+      return structures.get(code);
+    }
     synchronized (lock) {
       return structures.get(code);
     }
@@ -2844,6 +3093,9 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
   }
 
   public SearchParameter getSearchParameter(String code) {
+    if (sealed) {
+      return searchParameters.get(code);
+    }
     synchronized (lock) {
       return searchParameters.get(code);
     }
@@ -3019,9 +3271,25 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     return binaries.containsKey(binaryKey);
   }
 
+  /**
+   * Binaries are read when they're first asked for. After that, the content of a binary up to MAX_KEPT_BINARY_SIZE
+   * is kept in memory for as long as the context is, so the file isn't read again. Bigger ones are read again each time.
+   */
   @Override
   public byte[] getBinaryForKey(String binaryKey) {
-    return binaries.get(binaryKey);
+    ByteProvider bp = binaries.get(binaryKey);
+    if (bp == null) {
+      return null;
+    }
+    try {
+      byte[] bytes = bp.getBytes();
+      if (bytes.length <= MAX_KEPT_BINARY_SIZE) {
+        binaries.replace(binaryKey, bp, ByteProvider.forBytes(bytes));
+      }
+      return bytes;
+    } catch (IOException e) {
+      throw new FHIRException("Unable to read "+binaryKey+": "+e.getMessage(), e);
+    }
   }
 
   public void finishLoading(boolean genSnapshots) {
@@ -3130,7 +3398,61 @@ public abstract class BaseWorkerContext extends I18nBase implements IWorkerConte
     this.packageTracker = packageTracker;
     return this;
   }
-  
+
+  /**
+   * Call this once the context is loaded and is about to be shared between threads (e.g. once
+   * the validator is prepared). From then on, lookups don't take the lock - they read immutable
+   * copies of the indexes that are published by the resource managers whenever the content
+   * changes. Resources can still be loaded afterwards; wrap bulk loads in startBatchLoad /
+   * finishBatchLoad so that the indexes are only published once
+   */
+  public void seal() {
+    synchronized (lock) {
+      for (CanonicalResourceManager<?> crm : getResourceManagers()) {
+        crm.seal(lock);
+      }
+      sealed = true;
+    }
+  }
+
+  public boolean isSealed() {
+    return sealed;
+  }
+
+  public void startBatchLoad() {
+    synchronized (lock) {
+      for (CanonicalResourceManager<?> crm : getResourceManagers()) {
+        crm.setDeferPublishing(true);
+      }
+    }
+  }
+
+  public void finishBatchLoad() {
+    synchronized (lock) {
+      for (CanonicalResourceManager<?> crm : getResourceManagers()) {
+        crm.setDeferPublishing(false);
+      }
+    }
+  }
+
+  /**
+   * Limit how many of the CodeSystems and ValueSets loaded from packages are kept in memory (for each
+   * type). The least recently used are unloaded, and loaded from the package again when next needed.
+   * Other types are not limited, since they get modified once loaded (e.g. snapshots)
+   *
+   * @param limit the number to keep. 0 = no limit
+   * @param softReferences whether unloaded resources are kept by soft reference until the garbage collector wants the memory
+   */
+  public void setTerminologyResourceLimit(int limit, boolean softReferences) {
+    codeSystems.setLoadedLimit(limit, softReferences);
+    valueSets.setLoadedLimit(limit, softReferences);
+  }
+
+  List<CanonicalResourceManager<?>> getResourceManagers() {
+    return List.of(codeSystems, valueSets, maps, transforms, structures, measures, libraries, guides, capstmts,
+        searchParameters, questionnaires, operations, plans, actors, requirements, systems);
+  }
+
 
   @Override
   public PEBuilder getProfiledElementBuilder(PEElementPropertiesPolicy elementProps, boolean fixedProps) {
@@ -1,6 +1,8 @@
 package org.hl7.fhir.r5.context;
 
+import java.lang.ref.SoftReference;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hl7.fhir.exceptions.FHIRException;
 import org.hl7.fhir.r5.model.CanonicalResource;
@@ -34,7 +36,8 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     private String version;
     private String supplements;
     private String derivation;
-    private CanonicalResource resource;
+    private volatile CanonicalResource resource;
+    private boolean reloadable = true; // false if the resource was provided rather than loaded
     private boolean hacked;
     private String content;
     
@@ -94,20 +97,41 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     }
 
     public CanonicalResource getResource() throws FHIRException {
-      if (resource == null) {
-        resource = loadResource();
-        if (hacked) {
-          resource.setUrl(url).setVersion(version);
-        }
-        if (resource instanceof CodeSystem) {
-          CodeSystemUtilities.crossLinkCodeSystem((CodeSystem) resource);
+      CanonicalResource res = resource;
+      if (res == null) {
+        synchronized (this) {
+          res = resource;
+          if (res == null) {
+            res = loadResource();
+            if (hacked) {
+              res.setUrl(url).setVersion(version);
+            }
+            if (res instanceof CodeSystem) {
+              CodeSystemUtilities.crossLinkCodeSystem((CodeSystem) res);
+            }
+            resource = res;
+          }
         }
       }
-      return resource;
+      return res;
     }
 
     public void setResource(CanonicalResource resource) {
       this.resource = resource;
+      this.reloadable = resource == null;
+    }
+
+    public boolean isReloadable() {
+      return reloadable;
+    }
+
+    /**
+     * forget the loaded resource, if it can be loaded again
+     */
+    public void unload() {
+      if (reloadable) {
+        resource = null;
+      }
     }
 
     public abstract CanonicalResource loadResource() throws FHIRException;
@@ -136,8 +160,9 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   }
 
   public class CachedCanonicalResource<T1 extends CanonicalResource> {
-    private T1 resource;
-    private CanonicalResourceProxy proxy;
+    private volatile T1 resource;
+    private SoftReference<T1> evicted; // when using soft references, what was evicted, in case the GC hasn't collected it yet
+    private CanonicalResourceProxy proxy; // kept once the resource is loaded, so the metadata can be read safely while another thread loads it
     private PackageInformation packageInfo;
 
     public CachedCanonicalResource(T1 resource, PackageInformation packageInfo) {
@@ -153,39 +178,60 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     }
     
     public T1 getResource() {
-      if (resource == null) {
-        @SuppressWarnings("unchecked")
-        T1 res = (T1) proxy.getResource();
-        if (res == null) {
-          throw new Error("Proxy loading a resource from "+packageInfo+" failed and returned null");
-        }
+      T1 res = resource;
+      if (res == null) {
         synchronized (this) {
-          resource = res;
+          res = resource;
+          if (res == null) {
+            res = evicted == null ? null : evicted.get();
+            evicted = null;
+            if (res == null) {
+              @SuppressWarnings("unchecked")
+              T1 loaded = (T1) proxy.getResource();
+              if (loaded == null) {
+                throw new Error("Proxy loading a resource from "+packageInfo+" failed and returned null");
+              }
+              loaded.setSourcePackage(packageInfo);
+              loadCount.incrementAndGet();
+              res = loaded;
+            } else {
+              recoveredCount.incrementAndGet();
+            }
+            resource = res;
+          }
         }
-        resource.setSourcePackage(packageInfo);
-        proxy = null;
+        if (proxy != null && loadedLimit > 0) {
+          loaded(this);
+        }
+      } else if (proxy != null && loadedLimit > 0) {
+        touched(this);
       }
-      return resource;
+      return res;
     }
     
     public PackageInformation getPackageInfo() {
       return packageInfo;
     }
     public String getUrl() {
-      return resource != null ? resource.getUrl() : proxy.getUrl();
+      T1 res = resource;
+      return res != null ? res.getUrl() : proxy.getUrl();
     }
     public String getId() {
-      return resource != null ? resource.getId() : proxy.getId();
+      T1 res = resource;
+      return res != null ? res.getId() : proxy.getId();
     }
     public String getVersion() {
-      return resource != null ? resource.getVersion() : proxy.getVersion();
+      T1 res = resource;
+      return res != null ? res.getVersion() : proxy.getVersion();
     }
     public boolean hasVersion() {
-      return resource != null ? resource.hasVersion() : proxy.getVersion() != null;
+      T1 res = resource;
+      return res != null ? res.hasVersion() : proxy.getVersion() != null;
     }
     public String getContent() {
-      if (resource != null && resource instanceof CodeSystem) {
-        CodeSystemContentMode cnt = ((CodeSystem) resource).getContent();
+      T1 res = resource;
+      if (res != null && res instanceof CodeSystem) {
+        CodeSystemContentMode cnt = ((CodeSystem) res).getContent();
         return cnt == null ? null : cnt.toCode();
       } else if (proxy != null) {
         return proxy.getContent();
@@ -196,30 +242,65 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     
     @Override
     public String toString() {
-      return resource != null ? resource.fhirType()+"/"+resource.getId()+"["+resource.getUrl()+"|"+resource.getVersion()+"]" : proxy.toString();
+      T1 res = resource;
+      return res != null ? res.fhirType()+"/"+res.getId()+"["+res.getUrl()+"|"+res.getVersion()+"]" : proxy.toString();
     }
 
     public String supplements() {
-      if (resource == null) {
+      T1 res = resource;
+      if (res == null) {
         return proxy.getSupplements(); 
       } else {
-        return resource instanceof CodeSystem ? ((CodeSystem) resource).getSupplements() : null;
+        return res instanceof CodeSystem ? ((CodeSystem) res).getSupplements() : null;
       }
     }
 
     public Object getDerivation() {
-      if (resource == null) {
+      T1 res = resource;
+      if (res == null) {
         return proxy.getDerivation(); 
       } else {
-        return resource instanceof StructureDefinition ? ((StructureDefinition) resource).getDerivationElement().primitiveValue() : null;
+        return res instanceof StructureDefinition ? ((StructureDefinition) res).getDerivationElement().primitiveValue() : null;
       }
     }
 
     public void unload() {
-      if (proxy != null) {
-        resource = null;
+      if (proxy != null && proxy.isReloadable()) {
+        synchronized (this) {
+          resource = null;
+          evicted = null;
+          proxy.unload();
+        }
       }      
     }  
+
+    private boolean evict() {
+      if (proxy == null || !proxy.isReloadable()) {
+        return false;
+      }
+      synchronized (this) {
+        T1 res = resource;
+        if (res == null) {
+          return false;
+        }
+        evicted = softReferences ? new SoftReference<>(res) : null;
+        resource = null;
+        proxy.unload();
+      }
+      return true;
+    }
+  }
+
+  /**
+   * The structures that lookups use. Normally these are the live structures, but once the manager
+   * is sealed, readers that don't hold the lock see an immutable copy that is replaced whenever 
+   * the content changes
+   */
+  private class Lookup {
+    private List<CachedCanonicalResource<T>> list;
+    private Map<String, List<CachedCanonicalResource<T>>> listForUrl;
+    private Map<String, CachedCanonicalResource<T>> map;
+    private Map<String, List<CachedCanonicalResource<T>>> supplements;
   }
 
   public class MetadataResourceVersionComparator<T1 extends CachedCanonicalResource<T>> implements Comparator<T1> {
@@ -271,6 +352,19 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   private Map<String, CachedCanonicalResource<T>> map;
   private Map<String, List<CachedCanonicalResource<T>>> supplements; // general index based on CodeSystem.supplements
   private String version; // for debugging purposes
+  private Lookup live;
+  private volatile Lookup published; // only when sealed
+  private Object lock; // the lock that writers hold, once sealed
+  private boolean deferPublishing;
+  private boolean changed;
+
+  // memory budget for resources that were loaded from proxies. 0 = no limit
+  private int loadedLimit;
+  private boolean softReferences;
+  private LinkedHashMap<CachedCanonicalResource<?>, Boolean> loaded = new LinkedHashMap<>(16, 0.75f, true); // in access order, least recently used first
+  private AtomicLong loadCount = new AtomicLong();
+  private AtomicLong recoveredCount = new AtomicLong();
+  private AtomicLong evictionCount = new AtomicLong();
   
   
   public CanonicalResourceManager(boolean enforceUniqueId, boolean minimalMemory) {
@@ -282,6 +376,171 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     listForUrl = new HashMap<>();
     map = new HashMap<>();
     supplements = new HashMap<>(); // general index based on CodeSystem.supplements
+    live = new Lookup();
+    live.list = list;
+    live.listForUrl = listForUrl;
+    live.map = map;
+    live.supplements = supplements;
+  }
+
+  /**
+   * After this is called, lookups by threads that don't hold the lock don't use the live 
+   * structures, but an immutable copy of them. Changes (which must be made holding the lock)
+   * publish a new copy
+   * 
+   * @param lock the lock that anything changing the content holds
+   */
+  public void seal(Object lock) {
+    this.lock = lock;
+    publish();
+  }
+
+  public boolean isSealed() {
+    return lock != null;
+  }
+
+  /**
+   * when loading a batch of resources into a sealed manager, don't publish a new copy for each one. 
+   * Readers see the content as it was before the batch until publishing is resumed
+   */
+  public void setDeferPublishing(boolean deferPublishing) {
+    this.deferPublishing = deferPublishing;
+    if (!deferPublishing && changed) {
+      publish();
+    }
+  }
+
+  private void changed() {
+    if (lock != null) {
+      if (deferPublishing) {
+        changed = true;
+      } else {
+        publish();
+      }
+    }
+  }
+
+  private void publish() {
+    Lookup l = new Lookup();
+    l.list = Collections.unmodifiableList(new ArrayList<>(list));
+    l.listForUrl = copyLists(listForUrl);
+    l.map = Collections.unmodifiableMap(new HashMap<>(map));
+    l.supplements = copyLists(supplements);
+    published = l;
+    changed = false;
+  }
+
+  private Map<String, List<CachedCanonicalResource<T>>> copyLists(Map<String, List<CachedCanonicalResource<T>>> src) {
+    Map<String, List<CachedCanonicalResource<T>>> res = new HashMap<>();
+    for (Map.Entry<String, List<CachedCanonicalResource<T>>> e : src.entrySet()) {
+      res.put(e.getKey(), Collections.unmodifiableList(new ArrayList<>(e.getValue())));
+    }
+    return Collections.unmodifiableMap(res);
+  }
+
+  /**
+   * Limit the number of resources loaded from proxies that are kept in memory. When the limit is
+   * exceeded, the least recently used ones are unloaded, and they are loaded again from the proxy 
+   * when next used. Resources that were provided directly (not through a proxy) are never unloaded. 
+   * 
+   * Note that an unloaded resource loses anything that was done to it after it was loaded 
+   * (e.g. generated snapshots or user data), so this is best used for resources that are 
+   * read, not modified (CodeSystems, ValueSets)
+   * 
+   * @param loadedLimit the maximum number of loaded resources to keep. 0 = no limit
+   * @param softReferences if true, unloaded resources are held by soft reference, and can be used 
+   *   again without loading them if the garbage collector hasn't reclaimed them yet
+   */
+  public void setLoadedLimit(int loadedLimit, boolean softReferences) {
+    this.loadedLimit = loadedLimit;
+    this.softReferences = softReferences;
+    if (loadedLimit <= 0) {
+      synchronized (loaded) {
+        loaded.clear();
+      }
+    } else {
+      evictIfNeeded();
+    }
+  }
+
+  public int getLoadedLimit() {
+    return loadedLimit;
+  }
+
+  /**
+   * @return the number of times a resource has been loaded from its proxy (including reloads after eviction)
+   */
+  public long getLoadCount() {
+    return loadCount.get();
+  }
+
+  /**
+   * @return the number of times a resource has been unloaded to stay within the limit
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  /**
+   * @return the number of times an evicted resource was used again without loading it (soft references only)
+   */
+  public long getRecoveredCount() {
+    return recoveredCount.get();
+  }
+
+  /**
+   * @return the number of resources loaded from proxies being tracked against the limit
+   */
+  public int getLoadedCount() {
+    synchronized (loaded) {
+      return loaded.size();
+    }
+  }
+
+  private void loaded(CachedCanonicalResource<?> cr) {
+    synchronized (loaded) {
+      loaded.put(cr, Boolean.TRUE);
+    }
+    evictIfNeeded();
+  }
+
+  private void touched(CachedCanonicalResource<?> cr) {
+    synchronized (loaded) {
+      loaded.get(cr);
+    }
+  }
+
+  private void forget(CachedCanonicalResource<?> cr) {
+    synchronized (loaded) {
+      loaded.remove(cr);
+    }
+  }
+
+  private void evictIfNeeded() {
+    List<CachedCanonicalResource<?>> victims = null;
+    synchronized (loaded) {
+      while (loadedLimit > 0 && loaded.size() > loadedLimit) {
+        Iterator<CachedCanonicalResource<?>> it = loaded.keySet().iterator();
+        CachedCanonicalResource<?> cr = it.next();
+        it.remove();
+        if (victims == null) {
+          victims = new ArrayList<>();
+        }
+        victims.add(cr);
+      }
+    }
+    if (victims != null) {
+      for (CachedCanonicalResource<?> cr : victims) {
+        if (cr.evict()) {
+          evictionCount.incrementAndGet();
+        }
+      }
+    }
+  }
+
+  private Lookup lookup() {
+    Lookup l = published;
+    return l == null || Thread.holdsLock(lock) ? live : l;
   }
 
   
@@ -300,6 +559,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     map.clear();
     list.addAll(source.list);
     map.putAll(source.map);
+    changed();
   }
   
   public void register(CanonicalResourceProxy r, PackageInformation packgeInfo) {
@@ -321,6 +581,11 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   }
 
   public void see(CachedCanonicalResource<T> cr) {
+    seeInt(cr);
+    changed();
+  }
+
+  private void seeInt(CachedCanonicalResource<T> cr) {
     // -- 1. exit conditions -----------------------------------------------------------------------------
 
     // ignore UTG NUCC erroneous code system
@@ -341,7 +606,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
 
     // -- 3. deleting existing content ---------------------------------------------------------------
     if (enforceUniqueId && map.containsKey(cr.getId())) {
-      drop(cr.getId());      
+      dropInt(cr.getId());      
     }
     
     // special case logic for UTG support prior to version 5
@@ -353,7 +618,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
         }
       }
       for (CachedCanonicalResource<T> n : toDrop) {
-        drop(n);
+        dropInt(n);
       }
     }
 //    CachedCanonicalResource<T> existing = cr.hasVersion() ? map.get(cr.getUrl()+"|"+cr.getVersion()) : map.get(cr.getUrl()+"|#0");
@@ -426,6 +691,12 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
 
 
   public void drop(CachedCanonicalResource<T> cr) {
+    dropInt(cr);
+    changed();
+  }
+
+  private void dropInt(CachedCanonicalResource<T> cr) {
+    forget(cr);
     while (map.values().remove(cr)); 
     while (listForId.values().remove(cr)); 
     while (listForUrl.values().remove(cr)); 
@@ -457,16 +728,21 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   }
   
   public void drop(String id) {
+    dropInt(id);
+    changed();
+  }
+
+  private void dropInt(String id) {
     if (enforceUniqueId) {
       CachedCanonicalResource<T> cr = map.get(id);
       if (cr != null) {
-        drop(cr);
+        dropInt(cr);
       }
     } else {
       List<CachedCanonicalResource<T>> set = listForId.get(id);
       if (set != null) { // it really should be
         for (CachedCanonicalResource<T> i : set) {
-          drop(i);
+          dropInt(i);
         }
       }
     }
@@ -506,10 +782,11 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
  
 
   public boolean has(String url) {
-    return map.containsKey(url);
+    return lookup().map.containsKey(url);
   }
 
   public boolean has(String system, String version) {
+    Map<String, CachedCanonicalResource<T>> map = lookup().map;
     if (map.containsKey(system+"|"+version))
       return true;
     String mm = VersionUtilities.getMajMin(version);
@@ -520,13 +797,15 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   }
   
   public T get(String url) {
-    return map.containsKey(url) ? map.get(url).getResource() : null;
+    CachedCanonicalResource<T> cr = lookup().map.get(url);
+    return cr != null ? cr.getResource() : null;
   }
   
   public T get(String system, String version) {
     if (version == null) {
       return get(system);
     } else {
+      Map<String, CachedCanonicalResource<T>> map = lookup().map;
       if (map.containsKey(system+"|"+version))
         return map.get(system+"|"+version).getResource();
       String mm = VersionUtilities.getMajMin(version);
@@ -539,7 +818,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   
   public List<T> getForUrl(String url) {
     List<T> res = new ArrayList<>();
-    List<CanonicalResourceManager<T>.CachedCanonicalResource<T>> list = listForUrl.get(url);
+    List<CanonicalResourceManager<T>.CachedCanonicalResource<T>> list = lookup().listForUrl.get(url);
     if (list != null) {
       for (CanonicalResourceManager<T>.CachedCanonicalResource<T> t : list) {
         res.add(t.getResource());
@@ -560,6 +839,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
    * @return
    */
   public T get(String url, List<String> pvlist) {
+    Map<String, CachedCanonicalResource<T>> map = lookup().map;
     for (String pv : pvlist) {
       if (map.containsKey(pv+":"+url)) {
         return map.get(pv+":"+url).getResource();
@@ -572,6 +852,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     if (version == null) {
       return get(system, pvlist);
     } else {
+      Map<String, CachedCanonicalResource<T>> map = lookup().map;
       for (String pv : pvlist) {
         if (map.containsKey(pv+":"+system+"|"+version))
           return map.get(pv+":"+system+"|"+version).getResource();
@@ -595,6 +876,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   
  
   public PackageInformation getPackageInfo(String system, String version) {
+    Map<String, CachedCanonicalResource<T>> map = lookup().map;
     if (version == null) {
       return map.containsKey(system) ? map.get(system).getPackageInfo() : null;
     } else {
@@ -612,19 +894,19 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   
   
   public int size() {
-    return list.size();
+    return lookup().list.size();
   }
   
 
   
   public void listAll(List<T> result) {
-    for (CachedCanonicalResource<T>  t : list) {
+    for (CachedCanonicalResource<T>  t : lookup().list) {
       result.add(t.getResource()); 
     }
   }
 
   public void listAllM(List<CanonicalResource> result) {
-    for (CachedCanonicalResource<T>  t : list) {
+    for (CachedCanonicalResource<T>  t : lookup().list) {
       result.add(t.getResource()); 
     }
   }
@@ -653,6 +935,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   public List<T> getSupplements(String url, String version, List<String> pvlist) {
     boolean possibleMatches = false;
     List<T> res = new ArrayList<>();
+    Map<String, List<CachedCanonicalResource<T>>> supplements = lookup().supplements;
     if (version != null) {
       List<CanonicalResourceManager<T>.CachedCanonicalResource<T>> list = supplements.get(url+"|"+version);
       if (list != null) {
@@ -683,16 +966,19 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   public void clear() {
     list.clear();
     map.clear();
-    
+    synchronized (loaded) {
+      loaded.clear();
+    }
+    changed();
   }
 
   public List<CachedCanonicalResource<T>> getCachedList() {
-    return list;
+    return lookup().list;
   }
 
   public List<T> getList() {
     List<T> res = new ArrayList<>();
-    for (CachedCanonicalResource<T> t : list) {
+    for (CachedCanonicalResource<T> t : lookup().list) {
       if (!res.contains(t.getResource())) {
         res.add(t.getResource());
       }
@@ -707,7 +993,7 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
   }
 
   public Set<String> keys() {
-    return map.keySet();
+    return lookup().map.keySet();
   }
 
   public boolean isEnforceUniqueId() {
@@ -719,7 +1005,9 @@ public class CanonicalResourceManager<T extends CanonicalResource> {
     for (CachedCanonicalResource<T> t : list) {
       t.unload();
     }
-   
+    synchronized (loaded) {
+      loaded.clear();
+    }
   }
 
 
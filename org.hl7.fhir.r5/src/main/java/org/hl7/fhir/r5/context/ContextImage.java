@@ -0,0 +1,441 @@
+package org.hl7.fhir.r5.context;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hl7.fhir.exceptions.FHIRException;
+import org.hl7.fhir.r5.context.BaseWorkerContext.OIDSource;
+import org.hl7.fhir.r5.context.CanonicalResourceManager.CanonicalResourceProxy;
+import org.hl7.fhir.r5.context.IWorkerContext.OIDDefinition;
+import org.hl7.fhir.r5.formats.JsonParser;
+import org.hl7.fhir.r5.model.CanonicalResource;
+import org.hl7.fhir.r5.model.CodeSystem;
+import org.hl7.fhir.r5.model.PackageInformation;
+import org.hl7.fhir.r5.model.StructureDefinition;
+import org.hl7.fhir.utilities.ByteProvider;
+import org.hl7.fhir.utilities.filesystem.ManagedFileAccess;
+import org.hl7.fhir.utilities.filesystem.ManagedFileAccess.FileAccessPolicy;
+
+/**
+ * Saves the content of a loaded SimpleWorkerContext (the canonical resources, as they are after
+ * snapshots have been generated, along with the packages, binaries and OIDs) to a single file, and
+ * loads it again into a new context, so that a tool that always loads the same packages doesn't have
+ * to read, convert and process them each time it starts.
+ *
+ * The image is memory mapped when it's loaded. Only the index is read up front - the resources are
+ * registered as proxies, and each one is parsed from the image the first time it is used.
+ *
+ * An image is saved with a key that describes what was loaded (e.g. the tool version and the list of
+ * packages), and it's only loaded if the key matches exactly. Note that only the resources kept in the
+ * canonical resource managers are saved, and the only user data kept is the web path, and the user data
+ * the context and the loaders depend on (see KEPT_USER_DATA).
+ *
+ * As well as the context, the tool can keep a list of implementation guides (as versioned canonical 
+ * references to resources in the context) and binaries of its own in the image.
+ *
+ * Images are limited to 2GB.
+ */
+public class ContextImage {
+
+  private static final byte[] MAGIC = "FHIRCTXI".getBytes(StandardCharsets.US_ASCII);
+  private static final int FORMAT_VERSION = 3;
+  // user data that is set on resources when they're loaded, and used later (e.g. old.load.mode, by getResourceNames())
+  private static final String[] KEPT_USER_DATA = { "webroot", "old.load.mode", "External.Link" };
+
+  private static class ImageResourceProxy extends CanonicalResourceProxy {
+    private final ByteBuffer image;
+    private final int offset;
+    private final int length;
+    private final String webPath;
+    private final Map<String, Object> userData;
+
+    public ImageResourceProxy(String type, String id, String url, String version, String supplements, String derivation, String content,
+        ByteBuffer image, int offset, int length, String webPath, Map<String, Object> userData) {
+      super(type, id, url, version, supplements, derivation, content);
+      setDerivation(derivation);
+      this.image = image;
+      this.offset = offset;
+      this.length = length;
+      this.webPath = webPath;
+      this.userData = userData;
+    }
+
+    @Override
+    public CanonicalResource loadResource() throws FHIRException {
+      try {
+        byte[] bytes = new byte[length];
+        ByteBuffer b = image.duplicate();
+        b.position(offset);
+        b.get(bytes);
+        CanonicalResource cr = (CanonicalResource) new JsonParser().parse(bytes);
+        if (webPath != null) {
+          cr.setWebPath(webPath);
+        }
+        for (Map.Entry<String, Object> e : userData.entrySet()) {
+          cr.setUserData(e.getKey(), e.getValue());
+        }
+        return cr;
+      } catch (Exception e) {
+        throw new FHIRException("Error loading "+getType()+"/"+getId()+" from the context image: "+e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * Save the context to the named file. All the resources are loaded in order to save them, so
+   * this should be done once the context has been prepared (e.g. snapshots generated), and
+   * nothing else is being loaded.
+   *
+   * The file is written alongside, and then moved into place, so a process that is loading the
+   * image at the same time sees either the old one or the new one (except under managed file access,
+   * which can't move files, where it's written in place)
+   */
+  public static void save(SimpleWorkerContext context, String filename, String key) throws IOException {
+    save(context, filename, key, new ArrayList<>(), new HashMap<>());
+  }
+
+  /**
+   * Save the context to the named file, along with the tool's list of implementation guides (versioned canonical 
+   * references to resources in the context) and binaries
+   */
+  public static void save(SimpleWorkerContext context, String filename, String key, List<String> guides, Map<String, ByteProvider> toolBinaries) throws IOException {
+    boolean inPlace = ManagedFileAccess.getAccessPolicy() == FileAccessPolicy.MANAGED;
+    String tempName = inPlace ? filename : filename+".tmp";
+    File temp = ManagedFileAccess.file(tempName);
+    Map<PackageInformation, Integer> packages = new IdentityHashMap<>();
+    List<PackageInformation> packageList = new ArrayList<>();
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(ManagedFileAccess.outStream(tempName)))) {
+      out.write(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+
+      // first the content, then the index that points to it
+      List<CanonicalResource> resources = new ArrayList<>();
+      List<PackageInformation> resourcePackages = new ArrayList<>();
+      List<int[]> locations = new ArrayList<>();
+      JsonParser json = new JsonParser();
+      for (CanonicalResourceManager<?> crm : context.getResourceManagers()) {
+        listResources(crm, resources, resourcePackages);
+      }
+      for (CanonicalResource cr : resources) {
+        byte[] bytes = json.composeBytes(cr);
+        locations.add(new int[] { out.size(), bytes.length });
+        out.write(bytes);
+      }
+      List<String> binaryNames = new ArrayList<>(context.getBinaryKeysAsSet());
+      List<int[]> binaryLocations = new ArrayList<>();
+      for (String name : binaryNames) {
+        byte[] bytes = context.getBinaryForKey(name);
+        binaryLocations.add(new int[] { out.size(), bytes.length });
+        out.write(bytes);
+      }
+      List<String> toolBinaryNames = new ArrayList<>(toolBinaries.keySet());
+      List<int[]> toolBinaryLocations = new ArrayList<>();
+      for (String name : toolBinaryNames) {
+        byte[] bytes = toolBinaries.get(name).getBytes();
+        toolBinaryLocations.add(new int[] { out.size(), bytes.length });
+        out.write(bytes);
+      }
+      int indexOffset = out.size();
+
+      out.writeUTF(key);
+      writeString(out, context.getVersion());
+      out.writeInt(context.getLoadedPackages().size());
+      for (String s : context.getLoadedPackages()) {
+        out.writeUTF(s);
+      }
+      for (PackageInformation pi : resourcePackages) {
+        if (pi != null && !packages.containsKey(pi)) {
+          packages.put(pi, packageList.size());
+          packageList.add(pi);
+        }
+      }
+      out.writeInt(packageList.size());
+      for (PackageInformation pi : packageList) {
+        writePackage(out, pi);
+      }
+      out.writeInt(context.oidSources.size());
+      for (OIDSource os : context.oidSources) {
+        writeString(out, os.getFolder());
+        writeString(out, os.getPid());
+      }
+      List<OIDDefinition> oids = new ArrayList<>();
+      for (Set<OIDDefinition> set : context.oidCacheManual.values()) {
+        oids.addAll(set);
+      }
+      out.writeInt(oids.size());
+      for (OIDDefinition od : oids) {
+        writeString(out, od.getType());
+        writeString(out, od.getOid());
+        writeString(out, od.getUrl());
+        writeString(out, od.getVersion());
+        writeString(out, od.getPackageSrc());
+      }
+      out.writeInt(binaryNames.size());
+      for (int i = 0; i < binaryNames.size(); i++) {
+        out.writeUTF(binaryNames.get(i));
+        out.writeInt(binaryLocations.get(i)[0]);
+        out.writeInt(binaryLocations.get(i)[1]);
+      }
+      out.writeInt(toolBinaryNames.size());
+      for (int i = 0; i < toolBinaryNames.size(); i++) {
+        out.writeUTF(toolBinaryNames.get(i));
+        out.writeInt(toolBinaryLocations.get(i)[0]);
+        out.writeInt(toolBinaryLocations.get(i)[1]);
+      }
+      out.writeInt(guides.size());
+      for (String s : guides) {
+        out.writeUTF(s);
+      }
+      out.writeInt(resources.size());
+      for (int i = 0; i < resources.size(); i++) {
+        CanonicalResource cr = resources.get(i);
+        PackageInformation pi = resourcePackages.get(i);
+        out.writeUTF(cr.fhirType());
+        writeString(out, cr.getId());
+        writeString(out, cr.getUrl());
+        writeString(out, cr.getVersion());
+        writeString(out, cr instanceof CodeSystem ? ((CodeSystem) cr).getSupplements() : null);
+        writeString(out, cr instanceof StructureDefinition ? ((StructureDefinition) cr).getDerivationElement().primitiveValue() : null);
+        writeString(out, cr instanceof CodeSystem && ((CodeSystem) cr).hasContent() ? ((CodeSystem) cr).getContent().toCode() : null);
+        out.writeInt(pi == null ? -1 : packages.get(pi));
+        writeString(out, cr.getWebPath());
+        writeUserData(out, cr);
+        out.writeInt(locations.get(i)[0]);
+        out.writeInt(locations.get(i)[1]);
+      }
+      if (out.size() == Integer.MAX_VALUE) {
+        throw new IOException("The context is too big to save as an image");
+      }
+      out.writeInt(indexOffset);
+    } catch (IOException | RuntimeException e) {
+      temp.delete();
+      throw e;
+    }
+    if (!inPlace) {
+      ManagedFileAccess.move(tempName, filename);
+    }
+  }
+
+  private static void writeUserData(DataOutputStream out, CanonicalResource cr) throws IOException {
+    List<String> names = new ArrayList<>();
+    for (String name : KEPT_USER_DATA) {
+      Object value = cr.getUserData(name);
+      if (value instanceof String || value instanceof Boolean) {
+        names.add(name);
+      } else if (value != null) {
+        throw new IOException("Unable to save the user data "+name+" on "+cr.fhirType()+"/"+cr.getId()+" in the context image: it's a "+value.getClass().getName());
+      }
+    }
+    out.writeInt(names.size());
+    for (String name : names) {
+      Object value = cr.getUserData(name);
+      out.writeUTF(name);
+      out.writeBoolean(value instanceof Boolean);
+      out.writeUTF(value.toString());
+    }
+  }
+
+  private static Map<String, Object> readUserData(DataInputStream in) throws IOException {
+    Map<String, Object> res = new HashMap<>();
+    int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      String name = in.readUTF();
+      boolean isBoolean = in.readBoolean();
+      String value = in.readUTF();
+      res.put(name, isBoolean ? (Object) Boolean.valueOf(value) : value);
+    }
+    return res;
+  }
+
+  private static <T extends CanonicalResource> void listResources(CanonicalResourceManager<T> crm, List<CanonicalResource> resources, List<PackageInformation> packages) {
+    for (CanonicalResourceManager<T>.CachedCanonicalResource<T> cr : crm.getCachedList()) {
+      resources.add(cr.getResource());
+      packages.add(cr.getPackageInfo());
+    }
+  }
+
+  /**
+   * Load the image in the named file into the context (which should be empty - e.g. just built by
+   * the SimpleWorkerContextBuilder)
+   *
+   * @return false if there's no image, or it's not one that was saved with the same key (and the context is unchanged)
+   */
+  public static boolean load(SimpleWorkerContext context, String filename, String key) throws IOException {
+    return load(context, filename, key, new ArrayList<>(), new HashMap<>());
+  }
+
+  /**
+   * Load the image in the named file into the context, and the tool's implementation guides and binaries 
+   * saved with it into guides and toolBinaries
+   *
+   * @return false if there's no image, or it's not one that was saved with the same key (and nothing is changed)
+   */
+  public static boolean load(SimpleWorkerContext context, String filename, String key, List<String> guides, Map<String, ByteProvider> toolBinaries) throws IOException {
+    File file = ManagedFileAccess.file(filename);
+    if (!file.exists()) {
+      return false;
+    }
+    MappedByteBuffer image;
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE || channel.size() < MAGIC.length + 8) {
+        return false;
+      }
+      image = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    byte[] magic = new byte[MAGIC.length];
+    ByteBuffer b = image.duplicate();
+    b.get(magic);
+    if (!Arrays.equals(magic, MAGIC) || b.getInt() != FORMAT_VERSION) {
+      return false;
+    }
+    int indexOffset = image.getInt(image.capacity() - 4);
+    byte[] index = new byte[image.capacity() - 4 - indexOffset];
+    b.position(indexOffset);
+    b.get(index);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(index));
+    if (!key.equals(in.readUTF())) {
+      return false;
+    }
+
+    String version = readString(in);
+    if (context.version == null) {
+      context.version = version;
+    }
+    int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      context.getLoadedPackages().add(in.readUTF());
+    }
+    List<PackageInformation> packages = new ArrayList<>();
+    count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      packages.add(readPackage(in));
+    }
+    count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      context.oidSources.add(context.new OIDSource(readString(in), readString(in)));
+    }
+    count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      OIDDefinition od = new OIDDefinition(readString(in), readString(in), readString(in), readString(in), readString(in));
+      context.oidCacheManual.computeIfAbsent(od.getOid(), k -> new HashSet<>()).add(od);
+    }
+    count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      String name = in.readUTF();
+      context.binaries.put(name, new ImageByteProvider(image, in.readInt(), in.readInt()));
+    }
+    count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      String name = in.readUTF();
+      toolBinaries.put(name, new ImageByteProvider(image, in.readInt(), in.readInt()));
+    }
+    count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      guides.add(in.readUTF());
+    }
+    count = in.readInt();
+    boolean allowLoadingDuplicates = context.isAllowLoadingDuplicates();
+    // the image holds whatever was loaded, duplicates included, in the order it was loaded
+    context.setAllowLoadingDuplicates(true);
+    context.startBatchLoad();
+    try {
+      for (int i = 0; i < count; i++) {
+        String type = in.readUTF();
+        String id = readString(in);
+        String url = readString(in);
+        String ver = readString(in);
+        String supplements = readString(in);
+        String derivation = readString(in);
+        String content = readString(in);
+        int pi = in.readInt();
+        String webPath = readString(in);
+        Map<String, Object> userData = readUserData(in);
+        int offset = in.readInt();
+        int length = in.readInt();
+        context.registerResourceFromPackage(new ImageResourceProxy(type, id, url, ver, supplements, derivation, content, image, offset, length, webPath, userData),
+            pi == -1 ? null : packages.get(pi));
+      }
+    } finally {
+      context.finishBatchLoad();
+      context.setAllowLoadingDuplicates(allowLoadingDuplicates);
+    }
+    return true;
+  }
+
+  private static class ImageByteProvider extends ByteProvider {
+    private final ByteBuffer image;
+    private final int offset;
+    private final int length;
+
+    private ImageByteProvider(ByteBuffer image, int offset, int length) {
+      this.image = image;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    @Override
+    public byte[] getBytes() {
+      byte[] bytes = new byte[length];
+      ByteBuffer b = image.duplicate();
+      b.position(offset);
+      b.get(bytes);
+      return bytes;
+    }
+  }
+
+  private static void writePackage(DataOutputStream out, PackageInformation pi) throws IOException {
+    writeString(out, pi.getId());
+    writeString(out, pi.getVersion());
+    writeString(out, pi.getFhirVersion());
+    out.writeLong(pi.getDate() == null ? -1 : pi.getDate().getTime());
+    writeString(out, pi.getName());
+    writeString(out, pi.getCanonical());
+    writeString(out, pi.getWeb());
+    out.writeInt(pi.getDependencies().size());
+    for (String s : pi.getDependencies()) {
+      out.writeUTF(s);
+    }
+  }
+
+  private static PackageInformation readPackage(DataInputStream in) throws IOException {
+    String id = readString(in);
+    String version = readString(in);
+    String fhirVersion = readString(in);
+    long date = in.readLong();
+    PackageInformation pi = new PackageInformation(id, version, fhirVersion, date == -1 ? null : new Date(date), readString(in), readString(in), readString(in));
+    int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      pi.getDependencies().add(in.readUTF());
+    }
+    return pi;
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    out.writeBoolean(s != null);
+    if (s != null) {
+      out.writeUTF(s);
+    }
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+}
@@ -60,6 +60,19 @@ public interface IContextResourceLoader {
    */
   IContextResourceLoader getNewLoader(NpmPackage npm) throws JsonSyntaxException, IOException;
 
+  /**
+   * called when the files of a package are loaded on more than one thread (see SimpleWorkerContext.setLoadingThreads)
+   * 
+   * each thread gets its own loader for the package, which must be configured the same as this one
+   * @param npm - the package being loaded
+   * @return
+   * @throws IOException 
+   * @throws JsonSyntaxException 
+   */
+  default IContextResourceLoader getLoaderForThread(NpmPackage npm) throws JsonSyntaxException, IOException {
+    return getNewLoader(npm);
+  }
+
   /**
    * called when processing R2 for implicit code systems in ValueSets 
    * 
@@ -73,6 +73,7 @@ import org.hl7.fhir.r5.profilemodel.PEBuilder.PEElementPropertiesPolicy;
 import org.hl7.fhir.r5.profilemodel.PEBuilder;
 import org.hl7.fhir.r5.terminologies.expansion.ValueSetExpansionOutcome;
 import org.hl7.fhir.r5.terminologies.utilities.CodingValidationRequest;
+import org.hl7.fhir.r5.terminologies.utilities.PrefetchValidationRequest;
 import org.hl7.fhir.r5.terminologies.utilities.ValidationResult;
 import org.hl7.fhir.r5.utils.validation.IResourceValidator;
 import org.hl7.fhir.r5.utils.validation.ValidationContextCarrier;
@@ -638,6 +639,16 @@ public interface IWorkerContext {
   public void validateCodeBatch(ValidationOptions options, List<? extends CodingValidationRequest> codes, ValueSet vs);
   public void validateCodeBatchByRef(ValidationOptions options, List<? extends CodingValidationRequest> codes, String vsUrl);
 
+  /**
+   * Work out the results of validateCode calls that are going to be made later, and put them in the cache, 
+   * so that the calls themselves don't have to go to the server. Anything that has to go to the server 
+   * is sent in batches. The results are exactly what validateCode would have got; anything that can't be 
+   * worked out in advance is just left for validateCode to do when it's called
+   * 
+   * @param requests
+   */
+  public void prefetchValidations(List<PrefetchValidationRequest> requests);
+
 
   // todo: figure these out
   public Map<String, NamingSystem> getNSUrlMap();
@@ -35,13 +35,19 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -96,6 +102,8 @@ import ca.uhn.fhir.parser.DataFormatException;
 
 public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerContext {
 
+  private static final int FILES_PER_LOADING_THREAD = 4;
+
   public static class PackageResourceLoader extends CanonicalResourceProxy {
 
     private final String filename;
@@ -133,6 +141,20 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     }
   }
 
+  /**
+   * a file from a package, as read and parsed by one of the loading threads, waiting to be registered
+   */
+  private static class ParsedPackageFile {
+    private final String name;
+    private Resource resource;
+    private byte[] content;
+    private Exception error;
+
+    private ParsedPackageFile(String name) {
+      this.name = name;
+    }
+  }
+
   public interface ILoadFilter {
     boolean isOkToLoad(Resource resource);
     boolean isOkToLoad(String resourceType);
@@ -152,6 +174,7 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
   private boolean canNoTS;
   private XVerExtensionManager xverManager;
   private boolean allowLazyLoading = true;
+  private int loadingThreads = 1;
 
   private SimpleWorkerContext() throws IOException, FHIRException {
     super();
@@ -183,6 +206,7 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     canNoTS = other.canNoTS;
     xverManager = other.xverManager;
     allowLazyLoading = other.allowLazyLoading;
+    loadingThreads = other.loadingThreads;
   }
 
 
@@ -216,6 +240,9 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     @With
     private final org.hl7.fhir.r5.context.ILoggingService loggingService;
 
+    @With
+    private final int loadingThreads;
+
     public SimpleWorkerContextBuilder() {
       cacheTerminologyClientErrors = false;
       alwaysUseTerminologyServer = false;
@@ -225,14 +252,18 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
       userAgent = null;
       allowLoadingDuplicates = false;
       loggingService = new SystemOutLoggingService();
+      loadingThreads = 1;
     }
 
     private SimpleWorkerContext getSimpleWorkerContextInstance() throws IOException {
+      SimpleWorkerContext context;
       if (locale != null) {
-        return new SimpleWorkerContext(locale);
+        context = new SimpleWorkerContext(locale);
       } else {
-        return new SimpleWorkerContext();
+        context = new SimpleWorkerContext();
       }
+      context.setLoadingThreads(loadingThreads);
+      return context;
     }
 
     public SimpleWorkerContext build() throws IOException {
@@ -382,19 +413,25 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
   }
   
 	public void loadFromFile(InputStream stream, String name, IContextResourceLoader loader, ILoadFilter filter) throws FHIRException {
-		Resource f;
+	  registerFromFile(parseFromFile(stream, name, loader), name, loader, filter);
+	}
+
+	private Resource parseFromFile(InputStream stream, String name, IContextResourceLoader loader) throws FHIRException {
 		try {
 		  if (loader != null)
-		    f = loader.loadBundle(stream, false);
+		    return loader.loadBundle(stream, false);
 		  else {
 		    XmlParser xml = new XmlParser();
-		    f = xml.parse(stream);
+		    return xml.parse(stream);
 		  }
     } catch (DataFormatException e1) {
       throw new org.hl7.fhir.exceptions.FHIRFormatError(formatMessage(I18nConstants.ERROR_PARSING_, name, e1.getMessage()), e1);
     } catch (Exception e1) {
 			throw new org.hl7.fhir.exceptions.FHIRFormatError(formatMessage(I18nConstants.ERROR_PARSING_, name, e1.getMessage()), e1);
 		}
+	}
+
+	private void registerFromFile(Resource f, String name, IContextResourceLoader loader, ILoadFilter filter) {
 		if (f instanceof Bundle) {
 		  Bundle bnd = (Bundle) f;
 		  for (BundleEntryComponent e : bnd.getEntry()) {
@@ -421,22 +458,29 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
 	}
 
   private void loadFromFileJson(InputStream stream, String name, IContextResourceLoader loader, ILoadFilter filter, PackageInformation pi) throws IOException, FHIRException {
-    Bundle f = null;
+    registerFromFileJson(parseFromFileJson(stream, loader), loader, filter, pi);
+  }
+
+  private Resource parseFromFileJson(InputStream stream, IContextResourceLoader loader) throws IOException, FHIRException {
     try {
       if (loader != null)
-        f = loader.loadBundle(stream, true);
+        return loader.loadBundle(stream, true);
       else {
         JsonParser json = new JsonParser();
-        Resource r = json.parse(stream);
-        if (r instanceof Bundle)
-          f = (Bundle) r;
-        else if (filter == null || filter.isOkToLoad(f)) {
-          cacheResourceFromPackage(r, pi);
-        }
+        return json.parse(stream);
       }
     } catch (FHIRFormatError e1) {
       throw new org.hl7.fhir.exceptions.FHIRFormatError(e1.getMessage(), e1);
     }
+  }
+
+  private void registerFromFileJson(Resource r, IContextResourceLoader loader, ILoadFilter filter, PackageInformation pi) throws FHIRException {
+    Bundle f = null;
+    if (r instanceof Bundle)
+      f = (Bundle) r;
+    else if (r != null && (filter == null || filter.isOkToLoad(r))) {
+      cacheResourceFromPackage(r, pi);
+    }
     if (f != null)
       for (BundleEntryComponent e : f.getEntry()) {
         if (filter == null || filter.isOkToLoad(e.getResource())) {
@@ -516,40 +560,53 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
       types = loader.getTypes();
     }
     PackageInformation pii = new PackageInformation(pi);
-    if (VersionUtilities.isR2Ver(pi.fhirVersion()) || !pi.canLazyLoad() || !allowLazyLoading) {
-      // can't lazy load R2 because of valueset/codesystem implementation
-      if (types == null || types.size() == 0) {
-        types = Utilities.strings("StructureDefinition", "ValueSet", "SearchParameter", "OperationDefinition", "Questionnaire", "ConceptMap", "StructureMap", "NamingSystem" );
-      }
-      for (String s : pi.listResources(types)) {
-        try {
-          loadDefinitionItem(s, pi.load("package", s), loader, null, pii);
-          t++;
-        } catch (Exception e) {
-          throw new FHIRException(formatMessage(I18nConstants.ERROR_READING__FROM_PACKAGE__, s, pi.name(), pi.version(), e.getMessage()), e);
-        }      
-      }
-    } else {
-      if (types == null || types.size() == 0) {
-        types = Utilities.strings("StructureDefinition", "ValueSet", "CodeSystem", "SearchParameter", "OperationDefinition", "Questionnaire", "ConceptMap", "StructureMap", "NamingSystem", "Measures" );
-      }
-      for (PackageResourceInformation pri : pi.listIndexedResources(types)) {
-        if (!pri.getFilename().contains("ig-r4") && (loader == null || loader.wantLoad(pi, pri))) {
-          try {
-            if (!pri.hasId()) {
-              loadDefinitionItem(pri.getFilename(), ManagedFileAccess.inStream(pri.getFilename()), loader, null, pii);
-            } else {
-              registerResourceFromPackage(new PackageResourceLoader(pri, loader, pii), pii);
+    startBatchLoad();
+    try {
+      if (VersionUtilities.isR2Ver(pi.fhirVersion()) || !pi.canLazyLoad() || !allowLazyLoading) {
+        // can't lazy load R2 because of valueset/codesystem implementation
+        if (types == null || types.size() == 0) {
+          types = Utilities.strings("StructureDefinition", "ValueSet", "SearchParameter", "OperationDefinition", "Questionnaire", "ConceptMap", "StructureMap", "NamingSystem" );
+        }
+        if (loadingThreads > 1) {
+          t = t + loadPackageFilesInParallel(pi, pi.listResources(types), loader, pii);
+        } else {
+          for (String s : pi.listResources(types)) {
+            try {
+              loadDefinitionItem(s, pi.load("package", s), loader, null, pii);
+              t++;
+            } catch (Exception e) {
+              throw new FHIRException(formatMessage(I18nConstants.ERROR_READING__FROM_PACKAGE__, s, pi.name(), pi.version(), e.getMessage()), e);
+            }      
+          }
+        }
+      } else {
+        if (types == null || types.size() == 0) {
+          types = Utilities.strings("StructureDefinition", "ValueSet", "CodeSystem", "SearchParameter", "OperationDefinition", "Questionnaire", "ConceptMap", "StructureMap", "NamingSystem", "Measures" );
+        }
+        for (PackageResourceInformation pri : pi.listIndexedResources(types)) {
+          if (!pri.getFilename().contains("ig-r4") && (loader == null || loader.wantLoad(pi, pri))) {
+            try {
+              if (!pri.hasId()) {
+                loadDefinitionItem(pri.getFilename(), ManagedFileAccess.inStream(pri.getFilename()), loader, null, pii);
+              } else {
+                registerResourceFromPackage(new PackageResourceLoader(pri, loader, pii), pii);
+              }
+              t++;
+            } catch (FHIRException e) {
+              throw new FHIRException(formatMessage(I18nConstants.ERROR_READING__FROM_PACKAGE__, pri.getFilename(), pi.name(), pi.version(), e.getMessage()), e);
             }
-            t++;
-          } catch (FHIRException e) {
-            throw new FHIRException(formatMessage(I18nConstants.ERROR_READING__FROM_PACKAGE__, pri.getFilename(), pi.name(), pi.version(), e.getMessage()), e);
           }
         }
       }
+    } finally {
+      finishBatchLoad();
     }
 	  for (String s : pi.list("other")) {
-	    binaries.put(s, TextFile.streamToBytes(pi.load("other", s)));
+	    // not read until it's used - see getBinaryForKey
+	    ByteProvider bp = pi.getProvider("other", s);
+	    if (bp != null) {
+	      binaries.put(s, bp);
+	    }
 	  }
 	  if (version == null) {
 	    version = pi.version();
@@ -563,6 +620,87 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
 	  return t;
 	}
 
+  /**
+   * Reads and parses the files on a pool of loadingThreads threads, and registers them on this thread, in the
+   * order they are listed, so the end result is the same as loading them one after another.
+   *
+   * The loaders keep state while converting (e.g. code systems found in R2 value sets), so each thread gets
+   * its own loader for the package (see IContextResourceLoader.getLoaderForThread). Only a few files for each
+   * thread are parsed ahead of the one being registered.
+   */
+  private int loadPackageFilesInParallel(NpmPackage pi, List<String> files, IContextResourceLoader loader, PackageInformation pii) throws FHIRException {
+    ThreadLocal<IContextResourceLoader> loaders = ThreadLocal.withInitial(() -> {
+      try {
+        return loader == null ? null : loader.getLoaderForThread(pi);
+      } catch (IOException e) {
+        throw new FHIRException(e);
+      }
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(loadingThreads);
+    int t = 0;
+    try {
+      Deque<Future<ParsedPackageFile>> pending = new ArrayDeque<>();
+      for (String s : files) {
+        pending.add(executor.submit(() -> parsePackageFile(pi, s, loaders.get())));
+        while (pending.size() >= loadingThreads * FILES_PER_LOADING_THREAD) {
+          registerPackageFile(pi, waitForPackageFile(pending.removeFirst()), loader, pii);
+          t++;
+        }
+      }
+      while (!pending.isEmpty()) {
+        registerPackageFile(pi, waitForPackageFile(pending.removeFirst()), loader, pii);
+        t++;
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return t;
+  }
+
+  private ParsedPackageFile parsePackageFile(NpmPackage pi, String name, IContextResourceLoader loader) {
+    ParsedPackageFile file = new ParsedPackageFile(name);
+    try {
+      InputStream stream = pi.load("package", name);
+      if (name.endsWith(".xml")) {
+        file.resource = parseFromFile(stream, name, loader);
+      } else if (name.endsWith(".json")) {
+        file.resource = parseFromFileJson(stream, loader);
+      } else {
+        file.content = TextFile.streamToBytes(stream);
+      }
+    } catch (Exception e) {
+      file.error = e;
+    }
+    return file;
+  }
+
+  private ParsedPackageFile waitForPackageFile(Future<ParsedPackageFile> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FHIRException("Package loading interrupted", e);
+    } catch (ExecutionException e) {
+      throw new FHIRException(e.getCause());
+    }
+  }
+
+  private void registerPackageFile(NpmPackage pi, ParsedPackageFile file, IContextResourceLoader loader, PackageInformation pii) throws FHIRException {
+    try {
+      if (file.error != null) {
+        throw file.error;
+      } else if (file.name.endsWith(".xml")) {
+        registerFromFile(file.resource, file.name, loader, null);
+      } else if (file.name.endsWith(".json")) {
+        registerFromFileJson(file.resource, loader, null, pii);
+      } else {
+        loadDefinitionItem(file.name, new ByteArrayInputStream(file.content), loader, null, pii);
+      }
+    } catch (Exception e) {
+      throw new FHIRException(formatMessage(I18nConstants.ERROR_READING__FROM_PACKAGE__, file.name, pi.name(), pi.version(), e.getMessage()), e);
+    }
+  }
+
   public void loadFromFile(String file, IContextResourceLoader loader) throws IOException, FHIRException {
     loadDefinitionItem(file, new CSFileInputStream(file), loader, null, null);
   }
@@ -583,7 +721,7 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
 
   private void readVersionInfo(InputStream stream) throws IOException, DefinitionException {
     byte[] bytes = IOUtils.toByteArray(stream);
-    binaries.put("version.info", bytes);
+    binaries.put("version.info", ByteProvider.forBytes(bytes));
 
     String[] vi = new String(bytes).split("\\r?\\n");
     for (String s : vi) {
@@ -603,7 +741,7 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
 
 	private void loadBytes(String name, InputStream stream) throws IOException {
     byte[] bytes = IOUtils.toByteArray(stream);
-	  binaries.put(name, bytes);
+	  binaries.put(name, ByteProvider.forBytes(bytes));
   }
 
 	@Override
@@ -841,6 +979,18 @@ public class SimpleWorkerContext extends BaseWorkerContext implements IWorkerCon
     this.allowLazyLoading = allowLazyLoading;
   }
 
+  public int getLoadingThreads() {
+    return loadingThreads;
+  }
+
+  /**
+   * When a package can't be lazy loaded, the files in it are read and parsed on this many threads (default 1).
+   * They are still registered one at a time, in the same order as when they're loaded on a single thread
+   */
+  public void setLoadingThreads(int loadingThreads) {
+    this.loadingThreads = loadingThreads;
+  }
+
   public String loadedPackageSummary() {
      return loadedPackages.toString();
   }
@@ -601,12 +601,11 @@ public class Element extends Base implements NamedItem {
       }
     }
 
-    for (Property p : property.getChildProperties(this.name, type)) {
-      if (p.getName().equals(name)) {
-        Element ne = new Element(name, p).setFormat(format);
-        children.add(ne);
-        return ne;
-      }
+    Property p = property.getChild(this.name, type, name);
+    if (p != null) {
+      Element ne = new Element(name, p).setFormat(format);
+      children.add(ne);
+      return ne;
     }
       
     throw new Error("Unrecognised name "+name+" on "+this.name); 
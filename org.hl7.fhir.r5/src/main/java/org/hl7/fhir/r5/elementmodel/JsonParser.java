@@ -523,7 +523,7 @@ public class JsonParser extends ParserBase {
       String type = null;
       String cond = null;
       for (StringPair sp : property.getTypeSpecifiers()) {
-        if (fpe.evaluateToBoolean(null, baseElement, baseElement, element, fpe.parse(sp.getName()))) {
+        if (fpe.evaluateToBoolean(null, baseElement, baseElement, element, fpe.parseCached(sp.getName()))) {
           type = sp.getValue();
           cond = sp.getName();
           break;
@@ -33,7 +33,9 @@ import java.io.ByteArrayInputStream;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -43,7 +45,6 @@ import org.hl7.fhir.r5.conformance.profile.ProfileUtilities;
 import org.hl7.fhir.r5.context.IWorkerContext;
 import org.hl7.fhir.r5.formats.IParser.OutputStyle;
 import org.hl7.fhir.r5.formats.JsonCreator;
-import org.hl7.fhir.utilities.TextFile;
 import org.hl7.fhir.utilities.Utilities;
 import org.hl7.fhir.utilities.i18n.I18nConstants;
 import org.hl7.fhir.utilities.validation.ValidationMessage;
@@ -61,55 +62,71 @@ public class NDJsonParser extends ParserBase {
     super(context);
   }
   
+  /**
+   * Receives the content of an ndjson source one line at a time, as it is parsed. 
+   * The parser doesn't keep the fragments it has passed on
+   */
+  public interface IValidatedFragmentHandler {
+    void handle(ValidatedFragment fragment) throws FHIRException, IOException;
+  }
+
   private ValidatedFragment processLine(int lineCount, String line) throws FHIRException, IOException {
-    List<ValidatedFragment> list = new JsonParser(context).parse(new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8)), lineCount);
+    JsonParser parser = new JsonParser(context);
+    parser.setupValidation(policy); // so that a broken line is reported, rather than ending the parse
+    List<ValidatedFragment> list = parser.parse(new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8)), lineCount);
     return list.get(0);
   }
 
   @Override
   public List<ValidatedFragment> parse(InputStream inStream) throws IOException, FHIRException {
-    String source = TextFile.streamToString(inStream);
-    int length = source.length();
-    int start = 0;
-    int cursor = start;
-    int lineCount = 0;
-
     List<ValidatedFragment> res = new ArrayList<>();
-    while (cursor < length) {
-      while (cursor < length && source.charAt(cursor) != '\n') {
-        cursor++;
-      }
-      if (cursor < length) {
-        String line = source.substring(start, cursor);
-        if (line.endsWith("\r")) {
-          line = line.substring(0, line.length()-1);
-        }
-        if (Utilities.noString(line.trim())) {
-          ValidatedFragment vf = new ValidatedFragment(ValidatedFragment.ITEM_NAME, null, null, false);
-          logError(vf.getErrors(), "2024-06-30", lineCount+1, 1, null, IssueType.INFORMATIONAL, context.formatMessage(I18nConstants.NDJSON_EMPTY_LINE_WARNING), IssueSeverity.WARNING);
-          res.add(vf);
-        } else {
-          res.add(processLine(lineCount, line));
-        }
-        start = cursor+1;
-      } else if (cursor > start) {
-        String line = source.substring(start, cursor);
-        if (line.endsWith("\r")) {
-          line = line.substring(0, line.length()-1);
-        }
-        if (Utilities.noString(line.trim())) {
-          ValidatedFragment vf = new ValidatedFragment(ValidatedFragment.ITEM_NAME, null, null, false);
-          logError(vf.getErrors(), "2024-06-30", lineCount+1, 1, null, IssueType.INFORMATIONAL, context.formatMessage(I18nConstants.NDJSON_EMPTY_LINE_WARNING), IssueSeverity.WARNING);
-          res.add(vf);
+    parse(inStream, res::add);
+    return res;
+  }
+
+  /**
+   * Parse the stream a line at a time, passing each line to the handler once it's parsed, so that
+   * sources of any size (e.g. bulk data exports) can be processed without reading them into memory
+   */
+  public void parse(InputStream inStream, IValidatedFragmentHandler handler) throws IOException, FHIRException {
+    Reader reader = new InputStreamReader(inStream, StandardCharsets.UTF_8);
+    char[] buffer = new char[8192];
+    StringBuilder b = new StringBuilder();
+    int lineCount = 0;
+    int count = reader.read(buffer);
+    // a byte order mark at the start of the stream isn't content
+    int i = count > 0 && buffer[0] == '\uFEFF' ? 1 : 0;
+    while (count != -1) {
+      for (; i < count; i++) {
+        char c = buffer[i];
+        if (c == '\n') {
+          handler.handle(processLine(lineCount, b));
+          b.setLength(0);
+          lineCount++;
         } else {
-          res.add(processLine(lineCount, line));
+          b.append(c);
         }
-        start = cursor+1;
       }
-      lineCount++;
-      cursor++;
+      count = reader.read(buffer);
+      i = 0;
+    }
+    if (b.length() > 0) {
+      handler.handle(processLine(lineCount, b));
+    }
+  }
+
+  private ValidatedFragment processLine(int lineCount, StringBuilder b) throws FHIRException, IOException {
+    String line = b.toString();
+    if (line.endsWith("\r")) {
+      line = line.substring(0, line.length()-1);
+    }
+    if (Utilities.noString(line.trim())) {
+      ValidatedFragment vf = new ValidatedFragment(ValidatedFragment.ITEM_NAME, null, null, false);
+      logError(vf.getErrors(), "2024-06-30", lineCount+1, 1, null, IssueType.INFORMATIONAL, context.formatMessage(I18nConstants.NDJSON_EMPTY_LINE_WARNING), IssueSeverity.WARNING);
+      return vf;
+    } else {
+      return processLine(lineCount, line);
     }
-    return res;
   }
   
   @Override
@@ -32,7 +32,10 @@ package org.hl7.fhir.r5.elementmodel;
 
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hl7.fhir.exceptions.DefinitionException;
 import org.hl7.fhir.exceptions.FHIRException;
@@ -57,12 +60,42 @@ import org.hl7.fhir.utilities.Utilities;
 
 public class Property {
 
+  /**
+   * The child properties for an element name, with an index by name so that looking up
+   * a child doesn't mean scanning the list. simpleNames also has the choice elements
+   * under their name without the [x] (value[x] is found as 'value')
+   */
+  private static class ChildProperties {
+    private final List<Property> list;
+    private final Map<String, Property> names = new HashMap<>();
+    private final Map<String, Property> simpleNames = new HashMap<>();
+
+    private ChildProperties(List<Property> list) {
+      this.list = list;
+      for (Property p : list) {
+        String name = p.getName();
+        names.putIfAbsent(name, p);
+        simpleNames.putIfAbsent(name, p);
+      }
+      for (Property p : list) {
+        String name = p.getName();
+        if (name.endsWith("[x]")) {
+          simpleNames.putIfAbsent(name.substring(0, name.length()-3), p);
+        }
+      }
+    }
+  }
+
+  private static final String NO_ELEMENT_NAME = "";
+
 	private IWorkerContext context;
 	private ElementDefinition definition;
 	private StructureDefinition structure;
   private ProfileUtilities profileUtilities;
   private ContextUtilities utils;
   private TypeRefComponent type;
+  // child properties by element name, for statedType == null (almost always one entry, unless this is a choice)
+  private final Map<String, ChildProperties> childProperties = new ConcurrentHashMap<>();
 
   public Property(IWorkerContext context, ElementDefinition definition, StructureDefinition structure, ProfileUtilities profileUtilities, ContextUtilities utils) {
 		this.context = context;
@@ -343,6 +376,26 @@ public class Property {
 
 
   public List<Property> getChildProperties(String elementName, String statedType) throws FHIRException {
+    return getIndexedChildProperties(elementName, statedType).list;
+  }
+
+  private ChildProperties getIndexedChildProperties(String elementName, String statedType) throws FHIRException {
+    if (statedType != null) {
+      return new ChildProperties(loadChildProperties(elementName, statedType));
+    }
+    String key = elementName == null ? NO_ELEMENT_NAME : elementName;
+    ChildProperties cp = childProperties.get(key);
+    if (cp == null) {
+      cp = new ChildProperties(loadChildProperties(elementName, null));
+      ChildProperties existing = childProperties.putIfAbsent(key, cp);
+      if (existing != null) {
+        cp = existing;
+      }
+    }
+    return cp;
+  }
+
+  private List<Property> loadChildProperties(String elementName, String statedType) throws FHIRException {
     String cacheKey = structure.getVUrl()+"#"+definition.getPath()+":"+elementName+"/"+statedType;
     List<Property> cached = profileUtilities.getCachedPropertyList().get(cacheKey);
     if (cached != null) {
@@ -500,13 +553,11 @@ public class Property {
   }
 
   public Property getChild(String elementName, String childName) throws FHIRException {
-    List<Property> children = getChildProperties(elementName, null);
-    for (Property p : children) {
-      if (p.getName().equals(childName)) {
-        return p;
-      }
-    }
-    return null;
+    return getIndexedChildProperties(elementName, null).names.get(childName);
+  }
+
+  public Property getChild(String elementName, String statedType, String childName) throws FHIRException {
+    return getIndexedChildProperties(elementName, statedType).names.get(childName);
   }
 
   public Property getChild(String name, TypeDetails type) throws DefinitionException {
@@ -520,23 +571,11 @@ public class Property {
   }
 
   public Property getChild(String name) throws FHIRException {
-    List<Property> children = getChildProperties(name, null);
-    for (Property p : children) {
-      if (p.getName().equals(name)) {
-        return p;
-      }
-    }
-    return null;
+    return getIndexedChildProperties(name, null).names.get(name);
   }
 
   public Property getChildSimpleName(String elementName, String name) throws FHIRException {
-    List<Property> children = getChildProperties(elementName, null);
-    for (Property p : children) {
-      if (p.getName().equals(name) || p.getName().equals(name+"[x]")) {
-        return p;
-      }
-    }
-    return null;
+    return getIndexedChildProperties(elementName, null).simpleNames.get(name);
   }
 
   public IWorkerContext getContext() {
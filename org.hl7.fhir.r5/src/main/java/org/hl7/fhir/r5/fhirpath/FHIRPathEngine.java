@@ -10,9 +10,11 @@ import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -167,9 +169,12 @@ public class FHIRPathEngine {
   }
 
   private enum Equality { Null, True, False }
+
+  private static final FHIRPathParseCache sharedParseCache = new FHIRPathParseCache();
   
   private IWorkerContext worker;
   private IEvaluationContext hostServices;
+  private FHIRPathParseCache parseCache = sharedParseCache;
   private StringBuilder log = new StringBuilder();
   private Set<String> primitiveTypes = new HashSet<String>();
   private Map<String, StructureDefinition> allTypes = new HashMap<String, StructureDefinition>();
@@ -344,14 +349,12 @@ public class FHIRPathEngine {
         }
       }
     }
-    Base[] list = item.listChildrenByName(name, false);
-    if (list != null) {
-      for (Base v : list) {
-        if (v != null && (tn == null || v.fhirType().equalsIgnoreCase(tn))) {
-          result.add(filterIdType(v));
-        }
+    String type = tn;
+    item.visitChildren(name.hashCode(), name, (n, v) -> {
+      if (type == null || v.fhirType().equalsIgnoreCase(type)) {
+        result.add(filterIdType(v));
       }
-    }
+    });
   }
 
   private Base filterIdType(Base v) {
@@ -407,6 +410,38 @@ public class FHIRPathEngine {
     return parse(path, null);
   }
 
+  /**
+   * Parse a path, using the parse cache (shared by all engines, unless one is set). The tree that is returned may be shared with
+   * other threads, and must not be modified. Use parse() if the tree will be modified (including 
+   * by check(), which records the types it works out on the tree)
+   * 
+   * @param path
+   * @return
+   * @throws FHIRLexerException
+   */
+  public ExpressionNode parseCached(String path) throws FHIRLexerException {
+    ExpressionNode result = parseCache.get(this, path);
+    if (result == null) {
+      result = parse(path, null);
+      parseCache.put(this, path, result);
+    }
+    return result;
+  }
+
+  /**
+   * @return the parse cache that engines share unless they are given one of their own
+   */
+  public static FHIRPathParseCache getParseCache() {
+    return sharedParseCache;
+  }
+
+  /**
+   * @param parseCache - a cache for this engine to use instead of the shared one, or null to go back to the shared one
+   */
+  public void setParseCache(FHIRPathParseCache parseCache) {
+    this.parseCache = parseCache == null ? sharedParseCache : parseCache;
+  }
+
   public ExpressionNode parse(String path, String name) throws FHIRLexerException {
     FHIRLexer lexer = new FHIRLexer(path, name, false, allowDoubleQuotes);
     if (lexer.done()) {
@@ -802,7 +837,7 @@ public class FHIRPathEngine {
    * @
    */
   public List<Base> evaluate(Base base, String path) throws FHIRException {
-    ExpressionNode exp = parse(path);
+    ExpressionNode exp = parseCached(path);
     List<Base> list = new ArrayList<Base>();
     if (base != null) {
       list.add(base);
@@ -857,7 +892,7 @@ public class FHIRPathEngine {
    * @
    */
   public List<Base> evaluate(Object appContext, Resource focusResource, Resource rootResource, Base base, String path) throws FHIRException {
-    ExpressionNode exp = parse(path);
+    ExpressionNode exp = parseCached(path);
     List<Base> list = new ArrayList<Base>();
     if (base != null) {
       list.add(base);
@@ -1597,6 +1632,471 @@ public class FHIRPathEngine {
     return work;
   }
 
+  // -- compiled expressions ---------------------------------------------------------------
+  //
+  // The interpreter above works out what to do for each node (kind, function, operations) each 
+  // time it visits it. A compiled expression does this once: each node becomes an evaluator with 
+  // the decisions already made, literal constants and expressions made only of literals are 
+  // evaluated up front, and the common functions used in invariants run their parameters as 
+  // compiled evaluators too. Everything else defers to the interpreter, so the semantics are the same.
+  // 
+  // Compiled expressions are bound to the engine that compiled them (the settings and host services
+  // are part of the semantics), and don't modify the expression they were compiled from
+
+  public class CompiledExpression {
+    private ExpressionNode source;
+    private CompiledNode root;
+
+    private CompiledExpression(ExpressionNode source, CompiledNode root) {
+      this.source = source;
+      this.root = root;
+    }
+
+    public ExpressionNode getSource() {
+      return source;
+    }
+
+    @Override
+    public String toString() {
+      return source.toString();
+    }
+  }
+
+  // the compiled expressions refer to their nodes, so this is bounded rather than weak. ExpressionNode doesn't 
+  // override equals, so this is by identity. Like the parse cache, a quarter is dropped when it's full
+  private static final int MAX_COMPILED_EXPRESSIONS = 2000;
+  private Map<ExpressionNode, CompiledExpression> compiledExpressions = new ConcurrentHashMap<>();
+
+  /**
+   * compile an expression for repeated evaluation. The compiled form is remembered, so this can be called 
+   * each time the expression is used. Configure the engine (host services, modes) before compiling expressions
+   * 
+   * @param exp - the parsed expression. This should not be modified afterwards
+   * @return
+   */
+  public CompiledExpression compile(ExpressionNode exp) {
+    CompiledExpression ce = compiledExpressions.get(exp);
+    if (ce == null) {
+      ce = new CompiledExpression(exp, compileNode(exp));
+      if (compiledExpressions.size() >= MAX_COMPILED_EXPRESSIONS) {
+        trimCompiledExpressions();
+      }
+      compiledExpressions.put(exp, ce);
+    }
+    return ce;
+  }
+
+  private void trimCompiledExpressions() {
+    int target = (MAX_COMPILED_EXPRESSIONS * 3) / 4;
+    Iterator<ExpressionNode> it = compiledExpressions.keySet().iterator();
+    while (it.hasNext() && compiledExpressions.size() > target) {
+      it.next();
+      it.remove();
+    }
+  }
+
+  public List<Base> evaluate(Object appContext, Base focusResource, Base rootResource, Base base, CompiledExpression expression) throws FHIRException {
+    List<Base> list = new ArrayList<Base>();
+    if (base != null) {
+      list.add(base);
+    }
+    log = new StringBuilder();
+    return expression.root.execute(new ExecutionContext(appContext, focusResource, rootResource, base, base), list, true);
+  }
+
+  public boolean evaluateToBoolean(Object appInfo, Base focusResource, Base rootResource, Base base, CompiledExpression expression) throws FHIRException {
+    return convertToBoolean(evaluate(appInfo, focusResource, rootResource, base, expression));
+  }
+
+  private CompiledNode compileNode(ExpressionNode exp) {
+    CompiledNode node = null;
+    if (isFoldable(exp)) {
+      node = foldConstant(exp);
+    }
+    if (node == null) {
+      switch (exp.getKind()) {
+      case Unary: 
+        node = new CompiledUnary(exp);
+        break;
+      case Name: 
+        node = new CompiledName(exp);
+        break;
+      case Function: 
+        node = compileFunction(exp);
+        break;
+      case Constant: 
+        node = new CompiledConstant(exp);
+        break;
+      case Group: 
+        node = new CompiledGroup(exp, compileNode(exp.getGroup()));
+        break;
+      }
+      if (exp.getInner() != null) {
+        node.inner = compileNode(exp.getInner());
+      }
+      if (exp.isProximal() && exp.getOperation() != null) {
+        List<CompiledOperation> ops = new ArrayList<>();
+        ExpressionNode next = exp.getOpNext();
+        ExpressionNode last = exp;
+        while (next != null) {
+          CompiledOperation op = new CompiledOperation();
+          op.holder = last;
+          op.operation = last.getOperation();
+          if (op.operation == Operation.Is || op.operation == Operation.As) {
+            op.typeName = next.getInner() != null ? next.getName()+"."+next.getInner().getName() : next.getName();
+          } else {
+            op.next = compileNode(next);
+          }
+          ops.add(op);
+          last = next;
+          next = next.getOpNext();
+        }
+        node.operations = ops.toArray(new CompiledOperation[ops.size()]);
+      }
+    }
+    return node;
+  }
+
+  private CompiledNode compileFunction(ExpressionNode exp) {
+    switch (exp.getFunction()) {
+    case Empty: 
+      return new CompiledFunction(exp) {
+        @Override
+        protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+          return funcEmpty(context, focus, exp);
+        }
+      };
+    case Not: 
+      return new CompiledFunction(exp) {
+        @Override
+        protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+          return funcNot(context, focus, exp);
+        }
+      };
+    case Count: 
+      return new CompiledFunction(exp) {
+        @Override
+        protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+          return funcCount(context, focus, exp);
+        }
+      };
+    case HasValue: 
+      return new CompiledFunction(exp) {
+        @Override
+        protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+          return funcHasValue(context, focus, exp);
+        }
+      };
+    case First: 
+      return new CompiledFunction(exp) {
+        @Override
+        protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+          return funcFirst(context, focus, exp);
+        }
+      };
+    case Exists: 
+      if (exp.getParameters().size() == 1) {
+        CompiledNode criteria = compileNode(exp.getParameters().get(0));
+        return new CompiledFunction(exp) {
+          @Override
+          protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+            List<Base> result = new ArrayList<Base>();
+            boolean empty = true;
+            List<Base> pc = new ArrayList<Base>();
+            for (Base f : focus) {
+              pc.clear();
+              pc.add(f);
+              Equality v = asBool(criteria.execute(changeThis(context, f), pc, true), exp);
+              if (v == Equality.True) {
+                empty = false;
+              }
+            }
+            result.add(new BooleanType(!empty).noExtensions());
+            return result;
+          }
+        };
+      } else {
+        return new CompiledFunction(exp) {
+          @Override
+          protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+            return funcExists(context, focus, exp);
+          }
+        };
+      }
+    case Where: {
+      CompiledNode criteria = compileNode(exp.getParameters().get(0));
+      return new CompiledFunction(exp) {
+        @Override
+        protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+          List<Base> result = new ArrayList<Base>();
+          List<Base> pc = new ArrayList<Base>();
+          for (Base item : focus) {
+            pc.clear();
+            pc.add(item);
+            Equality v = asBool(criteria.execute(changeThis(context, item), pc, true), exp);
+            if (v == Equality.True) {
+              result.add(item);
+            } 
+          }
+          return result;
+        }
+      };
+    }
+    case Select: {
+      CompiledNode projection = compileNode(exp.getParameters().get(0));
+      return new CompiledFunction(exp) {
+        @Override
+        protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+          List<Base> result = new ArrayList<Base>();
+          List<Base> pc = new ArrayList<Base>();
+          int i = 0;
+          for (Base item : focus) {
+            pc.clear();
+            pc.add(item);
+            result.addAll(projection.execute(changeThis(context, item).setIndex(i), pc, true));
+            i++;
+          }
+          return result;
+        }
+      };
+    }
+    case All: 
+      if (exp.getParameters().size() == 1) {
+        CompiledNode criteria = compileNode(exp.getParameters().get(0));
+        return new CompiledFunction(exp) {
+          @Override
+          protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+            List<Base> result = new ArrayList<Base>();
+            List<Base> pc = new ArrayList<Base>();
+            boolean all = true;
+            for (Base item : focus) {
+              pc.clear();
+              pc.add(item);
+              Equality eq = asBool(criteria.execute(changeThis(context, item), pc, true), exp);
+              if (eq != Equality.True) {
+                all = false;
+                break;
+              }
+            }
+            result.add(new BooleanType(all).noExtensions());
+            return result;
+          }
+        };
+      } 
+      // fall through - all() is handled by the interpreter
+    default:
+      return new CompiledFunction(exp) {
+        @Override
+        protected List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException {
+          return evaluateFunction(context, focus, exp);
+        }
+      };
+    }
+  }
+
+  /**
+   * an expression can be evaluated when it is compiled if it's only made of literals and operations
+   * whose outcome doesn't depend on anything but their operands
+   */
+  private boolean isFoldable(ExpressionNode exp) {
+    if (!exp.isProximal() || exp.getInner() != null) {
+      return false;
+    }
+    return isFoldableOperand(exp) && (exp.getOperation() == null || isFoldableChain(exp));
+  }
+
+  private boolean isFoldableChain(ExpressionNode exp) {
+    ExpressionNode last = exp;
+    ExpressionNode next = exp.getOpNext();
+    while (next != null) {
+      if (!Utilities.existsInList(last.getOperation().toCode(), "+", "-", "*", "/", "div", "mod", "&", "=", "!=", "~", "!~", "<", ">", "<=", ">=", "and", "or", "xor", "implies")) {
+        return false;
+      }
+      if (next.getInner() != null || !isFoldableOperand(next)) {
+        return false;
+      }
+      last = next;
+      next = next.getOpNext();
+    }
+    return true;
+  }
+
+  private boolean isFoldableOperand(ExpressionNode exp) {
+    switch (exp.getKind()) {
+    case Constant: 
+      // not %constants or @dates (which depend on the context), and quantities may need UCUM
+      return exp.getConstant() != null && !(exp.getConstant() instanceof FHIRConstant) && !(exp.getConstant() instanceof Quantity)
+          && !(exp.getConstant() instanceof BaseDateTimeType) && !(exp.getConstant() instanceof TimeType);
+    case Unary:
+      return true;
+    case Group:
+      return exp.getGroup() != null && isFoldable(exp.getGroup());
+    default:
+      return false;
+    }
+  }
+
+  private CompiledNode foldConstant(ExpressionNode exp) {
+    try {
+      List<Base> value = execute(new ExecutionContext(null, null, null, null, null), new ArrayList<Base>(), exp, true);
+      return new CompiledFolded(exp, value);
+    } catch (Exception e) {
+      // leave it to be evaluated (and fail) at run time, as it would have been
+      return null;
+    }
+  }
+
+  private class CompiledOperation {
+    private ExpressionNode holder;
+    private Operation operation;
+    private CompiledNode next;
+    private String typeName; // for is and as
+  }
+
+  private abstract class CompiledNode {
+    protected ExpressionNode exp;
+    private CompiledNode inner;
+    private CompiledOperation[] operations;
+
+    protected CompiledNode(ExpressionNode exp) {
+      this.exp = exp;
+    }
+
+    protected abstract List<Base> evaluate(ExecutionContext context, List<Base> focus, boolean atEntry) throws FHIRException;
+
+    // see execute(ExecutionContext, List<Base>, ExpressionNode, boolean), which this follows
+    public List<Base> execute(ExecutionContext inContext, List<Base> focus, boolean atEntry) throws FHIRException {
+      ExecutionContext context = contextForParameter(inContext);
+      List<Base> work = evaluate(context, focus, atEntry);
+      if (inner != null) {
+        work = inner.execute(context, work, false);
+      }
+      if (operations != null) {
+        for (CompiledOperation op : operations) {
+          context = contextForParameter(inContext);
+          List<Base> work2 = preOperate(work, op.operation, exp);
+          if (work2 != null) {
+            work = work2;
+          } else if (op.typeName != null) {
+            work2 = new ArrayList<Base>();
+            work2.add(new StringType(op.typeName));
+            work = operate(context, work, op.operation, work2, op.holder);
+          } else {
+            work2 = op.next.execute(context, focus, true);
+            work = operate(context, work, op.operation, work2, op.holder);
+          }
+        }
+      }
+      return work;
+    }
+  }
+
+  private class CompiledUnary extends CompiledNode {
+    protected CompiledUnary(ExpressionNode exp) {
+      super(exp);
+    }
+
+    @Override
+    protected List<Base> evaluate(ExecutionContext context, List<Base> focus, boolean atEntry) {
+      List<Base> work = new ArrayList<Base>();
+      work.add(new IntegerType(0));
+      return work;
+    }
+  }
+
+  private class CompiledName extends CompiledNode {
+    private boolean isThis;
+    private boolean isTotal;
+    private boolean isIndex;
+
+    protected CompiledName(ExpressionNode exp) {
+      super(exp);
+      isThis = "$this".equals(exp.getName());
+      isTotal = "$total".equals(exp.getName());
+      isIndex = "$index".equals(exp.getName());
+    }
+
+    @Override
+    protected List<Base> evaluate(ExecutionContext context, List<Base> focus, boolean atEntry) throws FHIRException {
+      List<Base> work = new ArrayList<Base>();
+      if (atEntry && isThis) {
+        work.add(context.getThisItem());
+      } else if (atEntry && isTotal) {
+        work.addAll(context.getTotal());
+      } else if (atEntry && isIndex) {
+        work.add(context.getIndex());
+      } else if (!atEntry) {
+        // the common case: just the children (the host services and type names are only checked at entry)
+        for (Base item : focus) {
+          getChildrenByName(item, exp.getName(), work);
+        }
+        work.removeIf(b -> b == null);
+      } else {
+        for (Base item : focus) {
+          List<Base> outcome = FHIRPathEngine.this.execute(context, item, exp, atEntry);
+          for (Base base : outcome) {
+            if (base != null) {
+              work.add(base);
+            }
+          }
+        }     
+      }
+      return work;
+    }
+  }
+
+  private abstract class CompiledFunction extends CompiledNode {
+    protected CompiledFunction(ExpressionNode exp) {
+      super(exp);
+    }
+
+    @Override
+    protected List<Base> evaluate(ExecutionContext context, List<Base> focus, boolean atEntry) throws FHIRException {
+      return new ArrayList<Base>(evaluate(context, focus));
+    }
+
+    protected abstract List<Base> evaluate(ExecutionContext context, List<Base> focus) throws FHIRException;
+  }
+
+  private class CompiledConstant extends CompiledNode {
+    protected CompiledConstant(ExpressionNode exp) {
+      super(exp);
+    }
+
+    @Override
+    protected List<Base> evaluate(ExecutionContext context, List<Base> focus, boolean atEntry) throws FHIRException {
+      return new ArrayList<Base>(resolveConstant(context, exp.getConstant(), false, exp));
+    }
+  }
+
+  private class CompiledFolded extends CompiledNode {
+    private List<Base> value;
+
+    protected CompiledFolded(ExpressionNode exp, List<Base> value) {
+      super(exp);
+      this.value = value;
+    }
+
+    @Override
+    protected List<Base> evaluate(ExecutionContext context, List<Base> focus, boolean atEntry) {
+      return new ArrayList<Base>(value);
+    }
+  }
+
+  private class CompiledGroup extends CompiledNode {
+    private CompiledNode group;
+
+    protected CompiledGroup(ExpressionNode exp, CompiledNode group) {
+      super(exp);
+      this.group = group;
+    }
+
+    @Override
+    protected List<Base> evaluate(ExecutionContext context, List<Base> focus, boolean atEntry) throws FHIRException {
+      return new ArrayList<Base>(group.execute(context, focus, atEntry));
+    }
+  }
+
   private List<Base> executeTypeName(ExecutionContext context, List<Base> focus, ExpressionNode next, boolean atEntry) {
     List<Base> result = new ArrayList<Base>();
     if (next.getInner() != null) {
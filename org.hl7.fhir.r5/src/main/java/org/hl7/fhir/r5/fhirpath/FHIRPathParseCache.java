@@ -0,0 +1,143 @@
+package org.hl7.fhir.r5.fhirpath;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hl7.fhir.r5.fhirpath.ExpressionNode.Function;
+import org.hl7.fhir.r5.fhirpath.FHIRPathEngine.IEvaluationContext;
+
+/**
+ * A cache of parsed FHIRPath expressions, shared by all the FHIRPathEngine instances in the JVM (unless an
+ * engine is given a cache of its own),
+ * so that commonly used expressions (e.g. ele-1, ext-1) are parsed once, not for every element
+ * they are evaluated on.
+ *
+ * Expressions are keyed by their text and the engine settings that change how they are parsed.
+ * An expression that uses custom functions is only reused by the engine with the same host
+ * services, since whether it is valid depends on them.
+ *
+ * Trees handed out by the cache are shared, and must not be modified
+ *
+ */
+public class FHIRPathParseCache {
+
+  public static final int DEFAULT_MAX_SIZE = 5000;
+
+  private static class CachedExpression {
+    private ExpressionNode node;
+    private IEvaluationContext hostServices; // only if the expression uses custom functions
+
+    private CachedExpression(ExpressionNode node, IEvaluationContext hostServices) {
+      super();
+      this.node = node;
+      this.hostServices = hostServices;
+    }
+  }
+
+  private final Map<String, CachedExpression> cache = new ConcurrentHashMap<>();
+  private volatile int maxSize = DEFAULT_MAX_SIZE;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public ExpressionNode get(FHIRPathEngine engine, String path) {
+    CachedExpression ce = cache.get(key(engine, path));
+    if (ce != null && (ce.hostServices == null || ce.hostServices == engine.getHostServices())) {
+      hits.incrementAndGet();
+      return ce.node;
+    } else {
+      misses.incrementAndGet();
+      return null;
+    }
+  }
+
+  public void put(FHIRPathEngine engine, String path, ExpressionNode node) {
+    if (maxSize <= 0) {
+      return;
+    }
+    if (cache.size() >= maxSize) {
+      trim();
+    }
+    cache.put(key(engine, path), new CachedExpression(node, usesCustomFunctions(node) ? engine.getHostServices() : null));
+  }
+
+  private String key(FHIRPathEngine engine, String path) {
+    // allowing double quotes is the only setting that changes how an expression is parsed
+    return engine.isAllowDoubleQuotes() ? "\"|"+path : "'|"+path;
+  }
+
+  /**
+   * the cache is only a performance aid, so rather than tracking use, drop a quarter of the entries when it's full
+   */
+  private void trim() {
+    int target = (maxSize * 3) / 4;
+    Iterator<String> it = cache.keySet().iterator();
+    while (it.hasNext() && cache.size() > target) {
+      it.next();
+      it.remove();
+    }
+  }
+
+  private boolean usesCustomFunctions(ExpressionNode node) {
+    if (node == null) {
+      return false;
+    }
+    if (node.getFunction() == Function.Custom) {
+      return true;
+    }
+    if (node.getParameters() != null) {
+      for (ExpressionNode p : node.getParameters()) {
+        if (usesCustomFunctions(p)) {
+          return true;
+        }
+      }
+    }
+    return usesCustomFunctions(node.getInner()) || usesCustomFunctions(node.getGroup()) || usesCustomFunctions(node.getOpNext());
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @param maxSize the number of expressions to keep. 0 turns the cache off
+   */
+  public void setMaxSize(int maxSize) {
+    this.maxSize = maxSize;
+    if (maxSize <= 0) {
+      cache.clear();
+    } else if (cache.size() > maxSize) {
+      trim();
+    }
+  }
+
+  public int size() {
+    return cache.size();
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public double getHitRate() {
+    long h = hits.get();
+    long t = h + misses.get();
+    return t == 0 ? 0 : (double) h / t;
+  }
+
+  public void clear() {
+    cache.clear();
+    hits.set(0);
+    misses.set(0);
+  }
+
+  @Override
+  public String toString() {
+    return "FHIRPath parse cache: "+cache.size()+" expressions, "+hits.get()+" hits, "+misses.get()+" misses";
+  }
+}
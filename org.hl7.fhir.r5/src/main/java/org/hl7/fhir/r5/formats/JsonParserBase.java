@@ -59,11 +59,14 @@ POSSIBILITY OF SUCH DAMAGE.
 
 */
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.hl7.fhir.exceptions.FHIRFormatError;
@@ -87,6 +90,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -129,6 +133,9 @@ public abstract class JsonParserBase extends ParserBase implements IParser {
    */
   @Override
   public Resource parse(InputStream input) throws IOException, FHIRFormatError {
+    if (streaming) {
+      return new JsonStreamParser(this).parseResource(openReader(input));
+    }
     JsonObject json = loadJson(input);
     return parseResource(json);
   }
@@ -144,12 +151,18 @@ public abstract class JsonParserBase extends ParserBase implements IParser {
 
   @Override
   public DataType parseType(InputStream input, String type) throws IOException, FHIRFormatError {
+    if (streaming) {
+      return new JsonStreamParser(this).parseType(openReader(input), type);
+    }
     JsonObject json = loadJson(input);
     return parseType(json, type);
   }
 
   @Override
   public DataType parseAnyType(InputStream input, String type) throws IOException, FHIRFormatError {
+    if (streaming) {
+      return new JsonStreamParser(this).parseType(openReader(input), type);
+    }
     JsonObject json = loadJson(input);
     return parseAnyType(json, type);
   }
@@ -238,7 +251,35 @@ public abstract class JsonParserBase extends ParserBase implements IParser {
 
   protected JsonCreator json;
   private boolean htmlPretty;
-  
+
+  /**
+   * whether to read straight from a streaming reader into the model, rather than loading
+   * the json into a Gson tree first. This means the content is only in memory once, which
+   * matters for large bundles
+   */
+  private boolean streaming;
+
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  public JsonParserBase setStreaming(boolean streaming) {
+    this.streaming = streaming;
+    return this;
+  }
+
+  private JsonReader openReader(InputStream input) throws IOException {
+    BufferedInputStream stream = new BufferedInputStream(input);
+    // skip a byte order mark, as streamToString does
+    stream.mark(3);
+    if (stream.read() != 0xEF || stream.read() != 0xBB || stream.read() != 0xBF) {
+      stream.reset();
+    }
+    JsonReader reader = new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    reader.setLenient(true); // as the Gson parser is
+    return reader;
+  }
+
   private JsonObject loadJson(InputStream input) throws JsonSyntaxException, IOException {
     // the GSON parser is the fastest, but the least robust 
     if (allowComments || allowUnknownContent) {
@@ -0,0 +1,231 @@
+package org.hl7.fhir.r5.formats;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.hl7.fhir.exceptions.FHIRException;
+import org.hl7.fhir.exceptions.FHIRFormatError;
+import org.hl7.fhir.r5.model.Base;
+import org.hl7.fhir.r5.model.DataType;
+import org.hl7.fhir.r5.model.Narrative;
+import org.hl7.fhir.r5.model.PrimitiveType;
+import org.hl7.fhir.r5.model.Property;
+import org.hl7.fhir.r5.model.Resource;
+import org.hl7.fhir.r5.model.ResourceFactory;
+import org.hl7.fhir.utilities.Utilities;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Reads json straight from a streaming reader into the model classes, rather than loading
+ * the whole document into a Gson tree first and then walking that (see JsonParserBase.setStreaming).
+ *
+ * Instead of generated code for each type, this works through the model's property
+ * interface (getNamedProperty / makeProperty / addChild / setProperty), and resource
+ * types are created through ResourceFactory.createResourceOrType, which switches on the
+ * hash of the type name. Properties that come before the resourceType in a resource
+ * are kept as json until the resource type is known, and then read.
+ *
+ * As with the generated parser, unknown properties are ignored
+ */
+class JsonStreamParser {
+
+  private JsonParserBase owner;
+
+  JsonStreamParser(JsonParserBase owner) {
+    this.owner = owner;
+  }
+
+  public Resource parseResource(JsonReader reader) throws IOException, FHIRFormatError {
+    if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+      throw new FHIRFormatError("Unable to find resource type - maybe not a FHIR resource?");
+    }
+    reader.beginObject();
+    Resource res = null;
+    JsonObject before = null;
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      if (res == null && "resourceType".equals(name)) {
+        res = makeResource(reader.peek() == JsonToken.STRING ? reader.nextString() : null);
+        if (before != null) {
+          JsonReader replay = makeReader(before.toString());
+          replay.beginObject();
+          while (replay.hasNext()) {
+            parseProperty(replay, res, replay.nextName());
+          }
+        }
+      } else if (res == null) {
+        if (before == null) {
+          before = new JsonObject();
+        }
+        before.add(name, JsonParser.parseReader(reader));
+      } else {
+        parseProperty(reader, res, name);
+      }
+    }
+    reader.endObject();
+    if (res == null) {
+      throw new FHIRFormatError("Unable to find resource type - maybe not a FHIR resource?");
+    }
+    return res;
+  }
+
+  public DataType parseType(JsonReader reader, String type) throws IOException, FHIRFormatError {
+    Base b;
+    try {
+      b = ResourceFactory.createResourceOrType(type);
+    } catch (FHIRException e) {
+      throw new FHIRFormatError(e.getMessage());
+    }
+    if (!(b instanceof DataType)) {
+      throw new FHIRFormatError("Unknown type "+type);
+    }
+    parseObject(reader, b);
+    return (DataType) b;
+  }
+
+  static JsonReader makeReader(String source) {
+    JsonReader reader = new JsonReader(new StringReader(source));
+    reader.setLenient(true);
+    return reader;
+  }
+
+  private Resource makeResource(String type) throws FHIRFormatError {
+    if (Utilities.noString(type)) {
+      throw new FHIRFormatError("Unable to find resource type - maybe not a FHIR resource?");
+    }
+    Base b;
+    try {
+      b = ResourceFactory.createResourceOrType(type);
+    } catch (FHIRException e) {
+      b = null;
+    }
+    if (!(b instanceof Resource)) {
+      throw new FHIRFormatError("Unknown.Unrecognised resource type '"+type+"' (in property 'resourceType')");
+    }
+    return (Resource) b;
+  }
+
+  private void parseObject(JsonReader reader, Base b) throws IOException, FHIRFormatError {
+    reader.beginObject();
+    while (reader.hasNext()) {
+      parseProperty(reader, b, reader.nextName());
+    }
+    reader.endObject();
+  }
+
+  private void parseProperty(JsonReader reader, Base b, String name) throws IOException, FHIRFormatError {
+    if (b instanceof Narrative && "div".equals(name)) {
+      // the only xhtml property, and not one that getNamedProperty knows about
+      ((Narrative) b).setDiv(owner.parseXhtml(reader.nextString()));
+      return;
+    }
+    boolean extras = name.startsWith("_");
+    String pn = extras ? name.substring(1) : name;
+    Property p = "resourceType".equals(pn) || "fhir_comments".equals(pn) ? null : b.getNamedProperty(pn);
+    if (p == null || (pn.equals("value") && p.getName().equals("value[x]"))) {
+      reader.skipValue(); // unknown content is ignored
+      return;
+    }
+    String type = p.getTypeCode();
+    boolean primitive = !type.isEmpty() && Character.isLowerCase(type.charAt(0)); // backbone elements have no type code
+    if (extras && !primitive) {
+      reader.skipValue();
+    } else if ("Resource".equals(type)) {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+      } else if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        while (reader.hasNext()) {
+          b.setProperty(pn, parseResource(reader));
+        }
+        reader.endArray();
+      } else {
+        b.setProperty(pn, parseResource(reader));
+      }
+    } else if (p.getName().endsWith("[x]")) {
+      // the name is the type specific one e.g. valueString
+      if (primitive) {
+        parsePrimitive(reader, choicePrimitive(b, p, pn), extras);
+      } else {
+        parseObject(reader, b.addChild(pn));
+      }
+    } else if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+      reader.beginArray();
+      if (primitive) {
+        // the values and the extras (id, extensions) are in parallel arrays, in either order
+        Base[] existing = b.getProperty(pn.hashCode(), pn, false);
+        int i = 0;
+        while (reader.hasNext()) {
+          Base e = i < existing.length ? existing[i] : makePrimitive(b, pn);
+          parsePrimitive(reader, e, extras);
+          i++;
+        }
+      } else {
+        while (reader.hasNext()) {
+          Base e = b.addChild(pn);
+          if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull(); // as the generated parser does, an empty element
+          } else {
+            parseObject(reader, e);
+          }
+        }
+      }
+      reader.endArray();
+    } else if (primitive) {
+      parsePrimitive(reader, makePrimitive(b, pn), extras);
+    } else if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+    } else {
+      parseObject(reader, b.addChild(pn));
+    }
+  }
+
+  private Base makePrimitive(Base b, String name) throws FHIRFormatError {
+    Base e = b.makeProperty(name.hashCode(), name);
+    if (!(e instanceof PrimitiveType)) {
+      throw new FHIRFormatError("Unable to create the property "+name+" on "+b.fhirType());
+    }
+    return e;
+  }
+
+  /**
+   * the value and its extras are two json properties: the second one has to find the value the first one made
+   */
+  private Base choicePrimitive(Base b, Property p, String name) throws FHIRFormatError {
+    List<Base> values = p.getValues();
+    String type = p.getTypeCode().contains("(") ? p.getTypeCode().substring(0, p.getTypeCode().indexOf("(")) : p.getTypeCode();
+    if (values.size() == 1 && values.get(0) != null && values.get(0).fhirType().equals(type)) {
+      return values.get(0);
+    }
+    Base e = b.addChild(name);
+    if (!(e instanceof PrimitiveType)) {
+      throw new FHIRFormatError("Unable to create the property "+name+" on "+b.fhirType());
+    }
+    return e;
+  }
+
+  private void parsePrimitive(JsonReader reader, Base e, boolean extras) throws IOException, FHIRFormatError {
+    JsonToken t = reader.peek();
+    if (t == JsonToken.NULL) {
+      reader.nextNull();
+    } else if (extras) {
+      if (t == JsonToken.BEGIN_OBJECT) {
+        parseObject(reader, e);
+      } else {
+        reader.skipValue();
+      }
+    } else if (t == JsonToken.BOOLEAN) {
+      ((PrimitiveType<?>) e).setValueAsString(Boolean.toString(reader.nextBoolean()));
+    } else if (t == JsonToken.STRING || t == JsonToken.NUMBER) {
+      // for a number, nextString() is the number as it was written, so decimal precision is kept
+      ((PrimitiveType<?>) e).setValueAsString(reader.nextString());
+    } else {
+      throw new FHIRFormatError("The property "+e.fhirType()+" should be a primitive value, not "+t);
+    }
+  }
+}
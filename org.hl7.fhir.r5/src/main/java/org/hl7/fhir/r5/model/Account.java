@@ -333,6 +333,23 @@ A coverage may only be responsible for specific types of charges, and the sequen
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -351767064: /*coverage*/ visitChild("coverage", this.coverage, visitor); break; // Reference
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // PositiveIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("coverage", this.coverage, visitor); // Reference
+        visitChild("priority", this.priority, visitor); // PositiveIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -607,6 +624,25 @@ A coverage may only be responsible for specific types of charges, and the sequen
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 106437350: /*party*/ visitChild("party", this.party, visitor); break; // Reference
+        case -1013289154: /*onHold*/ visitChild("onHold", this.onHold, visitor); break; // BooleanType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("party", this.party, visitor); // Reference
+        visitChild("onHold", this.onHold, visitor); // BooleanType
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1104,6 +1140,31 @@ A coverage may only be responsible for specific types of charges, and the sequen
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // CodeableReference
+        case -774562228: /*dateOfDiagnosis*/ visitChild("dateOfDiagnosis", this.dateOfDiagnosis, visitor); break; // DateTimeType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -3386134: /*onAdmission*/ visitChild("onAdmission", this.onAdmission, visitor); break; // BooleanType
+        case 908444499: /*packageCode*/ visitChild("packageCode", this.packageCode, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("condition", this.condition, visitor); // CodeableReference
+        visitChild("dateOfDiagnosis", this.dateOfDiagnosis, visitor); // DateTimeType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("onAdmission", this.onAdmission, visitor); // BooleanType
+        visitChild("packageCode", this.packageCode, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1657,6 +1718,31 @@ A coverage may only be responsible for specific types of charges, and the sequen
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableReference
+        case -328510256: /*dateOfService*/ visitChild("dateOfService", this.dateOfService, visitor); break; // DateTimeType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 908444499: /*packageCode*/ visitChild("packageCode", this.packageCode, visitor); break; // CodeableConcept
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("code", this.code, visitor); // CodeableReference
+        visitChild("dateOfService", this.dateOfService, visitor); // DateTimeType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("packageCode", this.packageCode, visitor); // CodeableConcept
+        visitChild("device", this.device, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1945,6 +2031,23 @@ A coverage may only be responsible for specific types of charges, and the sequen
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // CodeableConcept
+        case -1177318867: /*account*/ visitChild("account", this.account, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("relationship", this.relationship, visitor); // CodeableConcept
+        visitChild("account", this.account, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2257,6 +2360,27 @@ A coverage may only be responsible for specific types of charges, and the sequen
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 175177151: /*aggregate*/ visitChild("aggregate", this.aggregate, visitor); break; // CodeableConcept
+        case 3556460: /*term*/ visitChild("term", this.term, visitor); break; // CodeableConcept
+        case -1959779032: /*estimate*/ visitChild("estimate", this.estimate, visitor); break; // BooleanType
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("aggregate", this.aggregate, visitor); // CodeableConcept
+        visitChild("term", this.term, visitor); // CodeableConcept
+        visitChild("estimate", this.estimate, visitor); // BooleanType
+        visitChild("amount", this.amount, visitor); // Money
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3350,6 +3474,53 @@ The balances with a `term` that is not current are usually generated/updated by
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<AccountStatus>
+        case -1524378035: /*billingStatus*/ visitChild("billingStatus", this.billingStatus, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 2129104086: /*servicePeriod*/ visitChild("servicePeriod", this.servicePeriod, visitor); break; // Period
+        case -351767064: /*coverage*/ visitChild("coverage", this.coverage, visitor); break; // CoverageComponent
+        case 106164915: /*owner*/ visitChild("owner", this.owner, visitor); break; // Reference
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -188629045: /*guarantor*/ visitChild("guarantor", this.guarantor, visitor); break; // GuarantorComponent
+        case 1196993265: /*diagnosis*/ visitChild("diagnosis", this.diagnosis, visitor); break; // AccountDiagnosisComponent
+        case -1095204141: /*procedure*/ visitChild("procedure", this.procedure, visitor); break; // AccountProcedureComponent
+        case 962039682: /*relatedAccount*/ visitChild("relatedAccount", this.relatedAccount, visitor); break; // AccountRelatedAccountComponent
+        case 575402001: /*currency*/ visitChild("currency", this.currency, visitor); break; // CodeableConcept
+        case -339185956: /*balance*/ visitChild("balance", this.balance, visitor); break; // AccountBalanceComponent
+        case 1089469073: /*calculatedAt*/ visitChild("calculatedAt", this.calculatedAt, visitor); break; // InstantType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<AccountStatus>
+        visitChild("billingStatus", this.billingStatus, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("servicePeriod", this.servicePeriod, visitor); // Period
+        visitChild("coverage", this.coverage, visitor); // CoverageComponent
+        visitChild("owner", this.owner, visitor); // Reference
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("guarantor", this.guarantor, visitor); // GuarantorComponent
+        visitChild("diagnosis", this.diagnosis, visitor); // AccountDiagnosisComponent
+        visitChild("procedure", this.procedure, visitor); // AccountProcedureComponent
+        visitChild("relatedAccount", this.relatedAccount, visitor); // AccountRelatedAccountComponent
+        visitChild("currency", this.currency, visitor); // CodeableConcept
+        visitChild("balance", this.balance, visitor); // AccountBalanceComponent
+        visitChild("calculatedAt", this.calculatedAt, visitor); // InstantType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
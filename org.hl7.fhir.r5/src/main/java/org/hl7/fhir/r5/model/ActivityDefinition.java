@@ -645,6 +645,29 @@ public class ActivityDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ActionParticipantType>
+        case -466635046: /*typeCanonical*/ visitChild("typeCanonical", this.typeCanonical, visitor); break; // CanonicalType
+        case 2074825009: /*typeReference*/ visitChild("typeReference", this.typeReference, visitor); break; // Reference
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<ActionParticipantType>
+        visitChild("typeCanonical", this.typeCanonical, visitor); // CanonicalType
+        visitChild("typeReference", this.typeReference, visitor); // Reference
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("function", this.function, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -932,6 +955,23 @@ public class ActivityDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // Expression
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("expression", this.expression, visitor); // Expression
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4049,6 +4089,117 @@ public class ActivityDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -2060497896: /*subtitle*/ visitChild("subtitle", this.subtitle, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // DataType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 111574433: /*usage*/ visitChild("usage", this.usage, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // CodeableConcept
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // ContactDetail
+        case -1307827859: /*editor*/ visitChild("editor", this.editor, visitor); break; // ContactDetail
+        case -261190139: /*reviewer*/ visitChild("reviewer", this.reviewer, visitor); break; // ContactDetail
+        case 1740277666: /*endorser*/ visitChild("endorser", this.endorser, visitor); break; // ContactDetail
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case 166208699: /*library*/ visitChild("library", this.library, visitor); break; // CanonicalType
+        case 3292052: /*kind*/ visitChild("kind", this.kind, visitor); break; // Enumeration<RequestResourceTypes>
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1183762788: /*intent*/ visitChild("intent", this.intent, visitor); break; // Enumeration<RequestIntent>
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case -1788508167: /*doNotPerform*/ visitChild("doNotPerform", this.doNotPerform, visitor); break; // BooleanType
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // DataType
+        case -1432923513: /*asNeeded*/ visitChild("asNeeded", this.asNeeded, visitor); break; // DataType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // CodeableReference
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // ActivityDefinitionParticipantComponent
+        case -309474065: /*product*/ visitChild("product", this.product, visitor); break; // DataType
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -1326018889: /*dosage*/ visitChild("dosage", this.dosage, visitor); break; // Dosage
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableConcept
+        case 1498467355: /*specimenRequirement*/ visitChild("specimenRequirement", this.specimenRequirement, visitor); break; // CanonicalType
+        case 362354807: /*observationRequirement*/ visitChild("observationRequirement", this.observationRequirement, visitor); break; // CanonicalType
+        case 395230490: /*observationResultRequirement*/ visitChild("observationResultRequirement", this.observationResultRequirement, visitor); break; // CanonicalType
+        case 1052666732: /*transform*/ visitChild("transform", this.transform, visitor); break; // CanonicalType
+        case 572625010: /*dynamicValue*/ visitChild("dynamicValue", this.dynamicValue, visitor); break; // ActivityDefinitionDynamicValueComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("subtitle", this.subtitle, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("subject", this.subject, visitor); // DataType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("usage", this.usage, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("topic", this.topic, visitor); // CodeableConcept
+        visitChild("author", this.author, visitor); // ContactDetail
+        visitChild("editor", this.editor, visitor); // ContactDetail
+        visitChild("reviewer", this.reviewer, visitor); // ContactDetail
+        visitChild("endorser", this.endorser, visitor); // ContactDetail
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("library", this.library, visitor); // CanonicalType
+        visitChild("kind", this.kind, visitor); // Enumeration<RequestResourceTypes>
+        visitChild("profile", this.profile, visitor); // CanonicalType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("intent", this.intent, visitor); // Enumeration<RequestIntent>
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("doNotPerform", this.doNotPerform, visitor); // BooleanType
+        visitChild("timing", this.timing, visitor); // DataType
+        visitChild("asNeeded", this.asNeeded, visitor); // DataType
+        visitChild("location", this.location, visitor); // CodeableReference
+        visitChild("participant", this.participant, visitor); // ActivityDefinitionParticipantComponent
+        visitChild("product", this.product, visitor); // DataType
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("dosage", this.dosage, visitor); // Dosage
+        visitChild("bodySite", this.bodySite, visitor); // CodeableConcept
+        visitChild("specimenRequirement", this.specimenRequirement, visitor); // CanonicalType
+        visitChild("observationRequirement", this.observationRequirement, visitor); // CanonicalType
+        visitChild("observationResultRequirement", this.observationResultRequirement, visitor); // CanonicalType
+        visitChild("transform", this.transform, visitor); // CanonicalType
+        visitChild("dynamicValue", this.dynamicValue, visitor); // ActivityDefinitionDynamicValueComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
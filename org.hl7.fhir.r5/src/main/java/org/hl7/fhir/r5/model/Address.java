@@ -920,6 +920,39 @@ public class Address extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Enumeration<AddressUse>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<AddressType>
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case 3321844: /*line*/ visitChild("line", this.line, visitor); break; // StringType
+        case 3053931: /*city*/ visitChild("city", this.city, visitor); break; // StringType
+        case 288961422: /*district*/ visitChild("district", this.district, visitor); break; // StringType
+        case 109757585: /*state*/ visitChild("state", this.state, visitor); break; // StringType
+        case 2011152728: /*postalCode*/ visitChild("postalCode", this.postalCode, visitor); break; // StringType
+        case 957831062: /*country*/ visitChild("country", this.country, visitor); break; // StringType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("use", this.use, visitor); // Enumeration<AddressUse>
+        visitChild("type", this.type, visitor); // Enumeration<AddressType>
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("line", this.line, visitor); // StringType
+        visitChild("city", this.city, visitor); // StringType
+        visitChild("district", this.district, visitor); // StringType
+        visitChild("state", this.state, visitor); // StringType
+        visitChild("postalCode", this.postalCode, visitor); // StringType
+        visitChild("country", this.country, visitor); // StringType
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -306,6 +306,25 @@ public class AdministrableProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("status", this.status, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -766,6 +785,33 @@ public class AdministrableProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 132551405: /*firstDose*/ visitChild("firstDose", this.firstDose, visitor); break; // Quantity
+        case -259207927: /*maxSingleDose*/ visitChild("maxSingleDose", this.maxSingleDose, visitor); break; // Quantity
+        case -2017475520: /*maxDosePerDay*/ visitChild("maxDosePerDay", this.maxDosePerDay, visitor); break; // Quantity
+        case -608040195: /*maxDosePerTreatmentPeriod*/ visitChild("maxDosePerTreatmentPeriod", this.maxDosePerTreatmentPeriod, visitor); break; // Ratio
+        case 920698453: /*maxTreatmentPeriod*/ visitChild("maxTreatmentPeriod", this.maxTreatmentPeriod, visitor); break; // Duration
+        case 295481963: /*targetSpecies*/ visitChild("targetSpecies", this.targetSpecies, visitor); break; // AdministrableProductDefinitionRouteOfAdministrationTargetSpeciesComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("firstDose", this.firstDose, visitor); // Quantity
+        visitChild("maxSingleDose", this.maxSingleDose, visitor); // Quantity
+        visitChild("maxDosePerDay", this.maxDosePerDay, visitor); // Quantity
+        visitChild("maxDosePerTreatmentPeriod", this.maxDosePerTreatmentPeriod, visitor); // Ratio
+        visitChild("maxTreatmentPeriod", this.maxTreatmentPeriod, visitor); // Duration
+        visitChild("targetSpecies", this.targetSpecies, visitor); // AdministrableProductDefinitionRouteOfAdministrationTargetSpeciesComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1093,6 +1139,23 @@ public class AdministrableProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -98450730: /*withdrawalPeriod*/ visitChild("withdrawalPeriod", this.withdrawalPeriod, visitor); break; // AdministrableProductDefinitionRouteOfAdministrationTargetSpeciesWithdrawalPeriodComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("withdrawalPeriod", this.withdrawalPeriod, visitor); // AdministrableProductDefinitionRouteOfAdministrationTargetSpeciesWithdrawalPeriodComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1378,6 +1441,25 @@ public class AdministrableProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -873475867: /*tissue*/ visitChild("tissue", this.tissue, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // Quantity
+        case -1248768647: /*supportingInformation*/ visitChild("supportingInformation", this.supportingInformation, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("tissue", this.tissue, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // Quantity
+        visitChild("supportingInformation", this.supportingInformation, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2142,6 +2224,41 @@ public class AdministrableProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -1268779589: /*formOf*/ visitChild("formOf", this.formOf, visitor); break; // Reference
+        case 1446105202: /*administrableDoseForm*/ visitChild("administrableDoseForm", this.administrableDoseForm, visitor); break; // CodeableConcept
+        case -1427765963: /*unitOfPresentation*/ visitChild("unitOfPresentation", this.unitOfPresentation, visitor); break; // CodeableConcept
+        case 588380494: /*producedFrom*/ visitChild("producedFrom", this.producedFrom, visitor); break; // Reference
+        case -206409263: /*ingredient*/ visitChild("ingredient", this.ingredient, visitor); break; // CodeableConcept
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // Reference
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // AdministrableProductDefinitionPropertyComponent
+        case 1742084734: /*routeOfAdministration*/ visitChild("routeOfAdministration", this.routeOfAdministration, visitor); break; // AdministrableProductDefinitionRouteOfAdministrationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("formOf", this.formOf, visitor); // Reference
+        visitChild("administrableDoseForm", this.administrableDoseForm, visitor); // CodeableConcept
+        visitChild("unitOfPresentation", this.unitOfPresentation, visitor); // CodeableConcept
+        visitChild("producedFrom", this.producedFrom, visitor); // Reference
+        visitChild("ingredient", this.ingredient, visitor); // CodeableConcept
+        visitChild("device", this.device, visitor); // Reference
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("property", this.property, visitor); // AdministrableProductDefinitionPropertyComponent
+        visitChild("routeOfAdministration", this.routeOfAdministration, visitor); // AdministrableProductDefinitionRouteOfAdministrationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -389,6 +389,23 @@ public class AdverseEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -639,6 +656,23 @@ public class AdverseEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 555127957: /*instance*/ visitChild("instance", this.instance, visitor); break; // DataType
+        case -1446450521: /*causality*/ visitChild("causality", this.causality, visitor); break; // AdverseEventSuspectEntityCausalityComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("instance", this.instance, visitor); // DataType
+        visitChild("causality", this.causality, visitor); // AdverseEventSuspectEntityCausalityComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -892,6 +926,25 @@ public class AdverseEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1681283651: /*assessmentMethod*/ visitChild("assessmentMethod", this.assessmentMethod, visitor); break; // CodeableConcept
+        case 2000199967: /*entityRelatedness*/ visitChild("entityRelatedness", this.entityRelatedness, visitor); break; // CodeableConcept
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("assessmentMethod", this.assessmentMethod, visitor); // CodeableConcept
+        visitChild("entityRelatedness", this.entityRelatedness, visitor); // CodeableConcept
+        visitChild("author", this.author, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1125,6 +1178,21 @@ public class AdverseEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1333,6 +1401,21 @@ public class AdverseEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1541,6 +1624,21 @@ public class AdverseEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1749,6 +1847,21 @@ public class AdverseEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3221,6 +3334,67 @@ public class AdverseEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<AdverseEventStatus>
+        case 528866400: /*actuality*/ visitChild("actuality", this.actuality, visitor); break; // Enumeration<AdverseEventActuality>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case 1048254082: /*detected*/ visitChild("detected", this.detected, visitor); break; // DateTimeType
+        case -1952893826: /*recordedDate*/ visitChild("recordedDate", this.recordedDate, visitor); break; // DateTimeType
+        case -2113579882: /*resultingEffect*/ visitChild("resultingEffect", this.resultingEffect, visitor); break; // Reference
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -1551003909: /*seriousness*/ visitChild("seriousness", this.seriousness, visitor); break; // CodeableConcept
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // CodeableConcept
+        case -799233858: /*recorder*/ visitChild("recorder", this.recorder, visitor); break; // Reference
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // AdverseEventParticipantComponent
+        case 109776329: /*study*/ visitChild("study", this.study, visitor); break; // Reference
+        case -1071467023: /*expectedInResearchStudy*/ visitChild("expectedInResearchStudy", this.expectedInResearchStudy, visitor); break; // BooleanType
+        case -1957422662: /*suspectEntity*/ visitChild("suspectEntity", this.suspectEntity, visitor); break; // AdverseEventSuspectEntityComponent
+        case -219647527: /*contributingFactor*/ visitChild("contributingFactor", this.contributingFactor, visitor); break; // AdverseEventContributingFactorComponent
+        case 2052341334: /*preventiveAction*/ visitChild("preventiveAction", this.preventiveAction, visitor); break; // AdverseEventPreventiveActionComponent
+        case 1992862383: /*mitigatingAction*/ visitChild("mitigatingAction", this.mitigatingAction, visitor); break; // AdverseEventMitigatingActionComponent
+        case 1922406657: /*supportingInfo*/ visitChild("supportingInfo", this.supportingInfo, visitor); break; // AdverseEventSupportingInfoComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<AdverseEventStatus>
+        visitChild("actuality", this.actuality, visitor); // Enumeration<AdverseEventActuality>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("detected", this.detected, visitor); // DateTimeType
+        visitChild("recordedDate", this.recordedDate, visitor); // DateTimeType
+        visitChild("resultingEffect", this.resultingEffect, visitor); // Reference
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("seriousness", this.seriousness, visitor); // CodeableConcept
+        visitChild("outcome", this.outcome, visitor); // CodeableConcept
+        visitChild("recorder", this.recorder, visitor); // Reference
+        visitChild("participant", this.participant, visitor); // AdverseEventParticipantComponent
+        visitChild("study", this.study, visitor); // Reference
+        visitChild("expectedInResearchStudy", this.expectedInResearchStudy, visitor); // BooleanType
+        visitChild("suspectEntity", this.suspectEntity, visitor); // AdverseEventSuspectEntityComponent
+        visitChild("contributingFactor", this.contributingFactor, visitor); // AdverseEventContributingFactorComponent
+        visitChild("preventiveAction", this.preventiveAction, visitor); // AdverseEventPreventiveActionComponent
+        visitChild("mitigatingAction", this.mitigatingAction, visitor); // AdverseEventMitigatingActionComponent
+        visitChild("supportingInfo", this.supportingInfo, visitor); // AdverseEventSupportingInfoComponent
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -519,6 +519,23 @@ public class AllergyIntolerance extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1046,6 +1063,33 @@ public class AllergyIntolerance extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 530040176: /*substance*/ visitChild("substance", this.substance, visitor); break; // CodeableConcept
+        case 1115984422: /*manifestation*/ visitChild("manifestation", this.manifestation, visitor); break; // CodeableReference
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 105901603: /*onset*/ visitChild("onset", this.onset, visitor); break; // DateTimeType
+        case 1478300413: /*severity*/ visitChild("severity", this.severity, visitor); break; // Enumeration<AllergyIntoleranceSeverity>
+        case 421286274: /*exposureRoute*/ visitChild("exposureRoute", this.exposureRoute, visitor); break; // CodeableConcept
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("substance", this.substance, visitor); // CodeableConcept
+        visitChild("manifestation", this.manifestation, visitor); // CodeableReference
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("onset", this.onset, visitor); // DateTimeType
+        visitChild("severity", this.severity, visitor); // Enumeration<AllergyIntoleranceSeverity>
+        visitChild("exposureRoute", this.exposureRoute, visitor); // CodeableConcept
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2098,6 +2142,49 @@ public class AllergyIntolerance extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -462853915: /*clinicalStatus*/ visitChild("clinicalStatus", this.clinicalStatus, visitor); break; // CodeableConcept
+        case -842509843: /*verificationStatus*/ visitChild("verificationStatus", this.verificationStatus, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // Enumeration<AllergyIntoleranceCategory>
+        case -1608054609: /*criticality*/ visitChild("criticality", this.criticality, visitor); break; // Enumeration<AllergyIntoleranceCriticality>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 105901603: /*onset*/ visitChild("onset", this.onset, visitor); break; // DataType
+        case -1952893826: /*recordedDate*/ visitChild("recordedDate", this.recordedDate, visitor); break; // DateTimeType
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // AllergyIntoleranceParticipantComponent
+        case 1896977671: /*lastOccurrence*/ visitChild("lastOccurrence", this.lastOccurrence, visitor); break; // DateTimeType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -867509719: /*reaction*/ visitChild("reaction", this.reaction, visitor); break; // AllergyIntoleranceReactionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("clinicalStatus", this.clinicalStatus, visitor); // CodeableConcept
+        visitChild("verificationStatus", this.verificationStatus, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // Enumeration<AllergyIntoleranceCategory>
+        visitChild("criticality", this.criticality, visitor); // Enumeration<AllergyIntoleranceCriticality>
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("onset", this.onset, visitor); // DataType
+        visitChild("recordedDate", this.recordedDate, visitor); // DateTimeType
+        visitChild("participant", this.participant, visitor); // AllergyIntoleranceParticipantComponent
+        visitChild("lastOccurrence", this.lastOccurrence, visitor); // DateTimeType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("reaction", this.reaction, visitor); // AllergyIntoleranceReactionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -265,6 +265,25 @@ public class Annotation extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // DataType
+        case 3560141: /*time*/ visitChild("time", this.time, visitor); break; // DateTimeType
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("author", this.author, visitor); // DataType
+        visitChild("time", this.time, visitor); // DateTimeType
+        visitChild("text", this.text, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
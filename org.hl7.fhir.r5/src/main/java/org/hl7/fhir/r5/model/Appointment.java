@@ -691,6 +691,29 @@ public class Appointment extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        case -393139297: /*required*/ visitChild("required", this.required, visitor); break; // BooleanType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ParticipationStatus>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+        visitChild("actor", this.actor, visitor); // Reference
+        visitChild("required", this.required, visitor); // BooleanType
+        visitChild("status", this.status, visitor); // Enumeration<ParticipationStatus>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1390,6 +1413,39 @@ public class Appointment extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -2076227591: /*timezone*/ visitChild("timezone", this.timezone, visitor); break; // CodeableConcept
+        case -381221238: /*recurrenceType*/ visitChild("recurrenceType", this.recurrenceType, visitor); break; // CodeableConcept
+        case -1262346923: /*lastOccurrenceDate*/ visitChild("lastOccurrenceDate", this.lastOccurrenceDate, visitor); break; // DateType
+        case 1834480062: /*occurrenceCount*/ visitChild("occurrenceCount", this.occurrenceCount, visitor); break; // PositiveIntType
+        case 1721761055: /*occurrenceDate*/ visitChild("occurrenceDate", this.occurrenceDate, visitor); break; // DateType
+        case 887136283: /*weeklyTemplate*/ visitChild("weeklyTemplate", this.weeklyTemplate, visitor); break; // AppointmentRecurrenceTemplateWeeklyTemplateComponent
+        case 2142528423: /*monthlyTemplate*/ visitChild("monthlyTemplate", this.monthlyTemplate, visitor); break; // AppointmentRecurrenceTemplateMonthlyTemplateComponent
+        case -334069468: /*yearlyTemplate*/ visitChild("yearlyTemplate", this.yearlyTemplate, visitor); break; // AppointmentRecurrenceTemplateYearlyTemplateComponent
+        case 596601957: /*excludingDate*/ visitChild("excludingDate", this.excludingDate, visitor); break; // DateType
+        case -797577694: /*excludingRecurrenceId*/ visitChild("excludingRecurrenceId", this.excludingRecurrenceId, visitor); break; // PositiveIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("timezone", this.timezone, visitor); // CodeableConcept
+        visitChild("recurrenceType", this.recurrenceType, visitor); // CodeableConcept
+        visitChild("lastOccurrenceDate", this.lastOccurrenceDate, visitor); // DateType
+        visitChild("occurrenceCount", this.occurrenceCount, visitor); // PositiveIntType
+        visitChild("occurrenceDate", this.occurrenceDate, visitor); // DateType
+        visitChild("weeklyTemplate", this.weeklyTemplate, visitor); // AppointmentRecurrenceTemplateWeeklyTemplateComponent
+        visitChild("monthlyTemplate", this.monthlyTemplate, visitor); // AppointmentRecurrenceTemplateMonthlyTemplateComponent
+        visitChild("yearlyTemplate", this.yearlyTemplate, visitor); // AppointmentRecurrenceTemplateYearlyTemplateComponent
+        visitChild("excludingDate", this.excludingDate, visitor); // DateType
+        visitChild("excludingRecurrenceId", this.excludingRecurrenceId, visitor); // PositiveIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2112,6 +2168,35 @@ e.g. For recurring every second week this interval would be 2, or every third we
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1068502768: /*monday*/ visitChild("monday", this.monday, visitor); break; // BooleanType
+        case -977343923: /*tuesday*/ visitChild("tuesday", this.tuesday, visitor); break; // BooleanType
+        case 1393530710: /*wednesday*/ visitChild("wednesday", this.wednesday, visitor); break; // BooleanType
+        case 1572055514: /*thursday*/ visitChild("thursday", this.thursday, visitor); break; // BooleanType
+        case -1266285217: /*friday*/ visitChild("friday", this.friday, visitor); break; // BooleanType
+        case -2114201671: /*saturday*/ visitChild("saturday", this.saturday, visitor); break; // BooleanType
+        case -891186736: /*sunday*/ visitChild("sunday", this.sunday, visitor); break; // BooleanType
+        case -784550695: /*weekInterval*/ visitChild("weekInterval", this.weekInterval, visitor); break; // PositiveIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("monday", this.monday, visitor); // BooleanType
+        visitChild("tuesday", this.tuesday, visitor); // BooleanType
+        visitChild("wednesday", this.wednesday, visitor); // BooleanType
+        visitChild("thursday", this.thursday, visitor); // BooleanType
+        visitChild("friday", this.friday, visitor); // BooleanType
+        visitChild("saturday", this.saturday, visitor); // BooleanType
+        visitChild("sunday", this.sunday, visitor); // BooleanType
+        visitChild("weekInterval", this.weekInterval, visitor); // PositiveIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2525,6 +2610,27 @@ e.g. For recurring every second week this interval would be 2, or every third we
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1181204563: /*dayOfMonth*/ visitChild("dayOfMonth", this.dayOfMonth, visitor); break; // PositiveIntType
+        case 724728723: /*nthWeekOfMonth*/ visitChild("nthWeekOfMonth", this.nthWeekOfMonth, visitor); break; // Coding
+        case -730552025: /*dayOfWeek*/ visitChild("dayOfWeek", this.dayOfWeek, visitor); break; // Coding
+        case -251401371: /*monthInterval*/ visitChild("monthInterval", this.monthInterval, visitor); break; // PositiveIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("dayOfMonth", this.dayOfMonth, visitor); // PositiveIntType
+        visitChild("nthWeekOfMonth", this.nthWeekOfMonth, visitor); // Coding
+        visitChild("dayOfWeek", this.dayOfWeek, visitor); // Coding
+        visitChild("monthInterval", this.monthInterval, visitor); // PositiveIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2762,6 +2868,21 @@ e.g. For recurring every second week this interval would be 2, or every third we
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 492389410: /*yearInterval*/ visitChild("yearInterval", this.yearInterval, visitor); break; // PositiveIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("yearInterval", this.yearInterval, visitor); // PositiveIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4701,6 +4822,83 @@ The duration (usually in minutes) could also be provided to indicate the length
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<AppointmentStatus>
+        case 2135095591: /*cancellationReason*/ visitChild("cancellationReason", this.cancellationReason, visitor); break; // CodeableConcept
+        case 94742904: /*class*/ visitChild("class", this.class_, visitor); break; // CodeableConcept
+        case 1281188563: /*serviceCategory*/ visitChild("serviceCategory", this.serviceCategory, visitor); break; // CodeableConcept
+        case -1928370289: /*serviceType*/ visitChild("serviceType", this.serviceType, visitor); break; // CodeableReference
+        case -1694759682: /*specialty*/ visitChild("specialty", this.specialty, visitor); break; // CodeableConcept
+        case -1596426375: /*appointmentType*/ visitChild("appointmentType", this.appointmentType, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -430332865: /*replaces*/ visitChild("replaces", this.replaces, visitor); break; // Reference
+        case 1420774698: /*virtualService*/ visitChild("virtualService", this.virtualService, visitor); break; // VirtualServiceDetail
+        case -1248768647: /*supportingInformation*/ visitChild("supportingInformation", this.supportingInformation, visitor); break; // Reference
+        case -1676044248: /*previousAppointment*/ visitChild("previousAppointment", this.previousAppointment, visitor); break; // Reference
+        case 1841882230: /*originatingAppointment*/ visitChild("originatingAppointment", this.originatingAppointment, visitor); break; // Reference
+        case 109757538: /*start*/ visitChild("start", this.start, visitor); break; // InstantType
+        case 100571: /*end*/ visitChild("end", this.end, visitor); break; // InstantType
+        case -413630573: /*minutesDuration*/ visitChild("minutesDuration", this.minutesDuration, visitor); break; // PositiveIntType
+        case -897241393: /*requestedPeriod*/ visitChild("requestedPeriod", this.requestedPeriod, visitor); break; // Period
+        case 3533310: /*slot*/ visitChild("slot", this.slot, visitor); break; // Reference
+        case -1177318867: /*account*/ visitChild("account", this.account, visitor); break; // Reference
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case 806269777: /*cancellationDate*/ visitChild("cancellationDate", this.cancellationDate, visitor); break; // DateTimeType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 737543241: /*patientInstruction*/ visitChild("patientInstruction", this.patientInstruction, visitor); break; // CodeableReference
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // AppointmentParticipantComponent
+        case -362407829: /*recurrenceId*/ visitChild("recurrenceId", this.recurrenceId, visitor); break; // PositiveIntType
+        case 1779864483: /*occurrenceChanged*/ visitChild("occurrenceChanged", this.occurrenceChanged, visitor); break; // BooleanType
+        case 597629898: /*recurrenceTemplate*/ visitChild("recurrenceTemplate", this.recurrenceTemplate, visitor); break; // AppointmentRecurrenceTemplateComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<AppointmentStatus>
+        visitChild("cancellationReason", this.cancellationReason, visitor); // CodeableConcept
+        visitChild("class", this.class_, visitor); // CodeableConcept
+        visitChild("serviceCategory", this.serviceCategory, visitor); // CodeableConcept
+        visitChild("serviceType", this.serviceType, visitor); // CodeableReference
+        visitChild("specialty", this.specialty, visitor); // CodeableConcept
+        visitChild("appointmentType", this.appointmentType, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("priority", this.priority, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("replaces", this.replaces, visitor); // Reference
+        visitChild("virtualService", this.virtualService, visitor); // VirtualServiceDetail
+        visitChild("supportingInformation", this.supportingInformation, visitor); // Reference
+        visitChild("previousAppointment", this.previousAppointment, visitor); // Reference
+        visitChild("originatingAppointment", this.originatingAppointment, visitor); // Reference
+        visitChild("start", this.start, visitor); // InstantType
+        visitChild("end", this.end, visitor); // InstantType
+        visitChild("minutesDuration", this.minutesDuration, visitor); // PositiveIntType
+        visitChild("requestedPeriod", this.requestedPeriod, visitor); // Period
+        visitChild("slot", this.slot, visitor); // Reference
+        visitChild("account", this.account, visitor); // Reference
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("cancellationDate", this.cancellationDate, visitor); // DateTimeType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("patientInstruction", this.patientInstruction, visitor); // CodeableReference
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("participant", this.participant, visitor); // AppointmentParticipantComponent
+        visitChild("recurrenceId", this.recurrenceId, visitor); // PositiveIntType
+        visitChild("occurrenceChanged", this.occurrenceChanged, visitor); // BooleanType
+        visitChild("recurrenceTemplate", this.recurrenceTemplate, visitor); // AppointmentRecurrenceTemplateComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -889,6 +889,43 @@ public class AppointmentResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1474995297: /*appointment*/ visitChild("appointment", this.appointment, visitor); break; // Reference
+        case -577024441: /*proposedNewTime*/ visitChild("proposedNewTime", this.proposedNewTime, visitor); break; // BooleanType
+        case 109757538: /*start*/ visitChild("start", this.start, visitor); break; // InstantType
+        case 100571: /*end*/ visitChild("end", this.end, visitor); break; // InstantType
+        case 841294093: /*participantType*/ visitChild("participantType", this.participantType, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        case 996096261: /*participantStatus*/ visitChild("participantStatus", this.participantStatus, visitor); break; // Enumeration<AppointmentResponseStatus>
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // MarkdownType
+        case 1165749981: /*recurring*/ visitChild("recurring", this.recurring, visitor); break; // BooleanType
+        case 1721761055: /*occurrenceDate*/ visitChild("occurrenceDate", this.occurrenceDate, visitor); break; // DateType
+        case -362407829: /*recurrenceId*/ visitChild("recurrenceId", this.recurrenceId, visitor); break; // PositiveIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("appointment", this.appointment, visitor); // Reference
+        visitChild("proposedNewTime", this.proposedNewTime, visitor); // BooleanType
+        visitChild("start", this.start, visitor); // InstantType
+        visitChild("end", this.end, visitor); // InstantType
+        visitChild("participantType", this.participantType, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+        visitChild("participantStatus", this.participantStatus, visitor); // Enumeration<AppointmentResponseStatus>
+        visitChild("comment", this.comment, visitor); // MarkdownType
+        visitChild("recurring", this.recurring, visitor); // BooleanType
+        visitChild("occurrenceDate", this.occurrenceDate, visitor); // DateType
+        visitChild("recurrenceId", this.recurrenceId, visitor); // PositiveIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1156,6 +1156,39 @@ public class ArtifactAssessment extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1302856326: /*informationType*/ visitChild("informationType", this.informationType, visitor); break; // Enumeration<ArtifactAssessmentInformationType>
+        case -1857640538: /*summary*/ visitChild("summary", this.summary, visitor); break; // MarkdownType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -281470431: /*classifier*/ visitChild("classifier", this.classifier, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // UriType
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case -1268656616: /*freeToShare*/ visitChild("freeToShare", this.freeToShare, visitor); break; // BooleanType
+        case -1399907075: /*component*/ visitChild("component", this.component, visitor); break; // ArtifactAssessmentContentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("informationType", this.informationType, visitor); // Enumeration<ArtifactAssessmentInformationType>
+        visitChild("summary", this.summary, visitor); // MarkdownType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("classifier", this.classifier, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("path", this.path, visitor); // UriType
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("freeToShare", this.freeToShare, visitor); // BooleanType
+        visitChild("component", this.component, visitor); // ArtifactAssessmentContentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2121,6 +2154,41 @@ public class ArtifactAssessment extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1360156695: /*citeAs*/ visitChild("citeAs", this.citeAs, visitor); break; // DataType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -1228798510: /*artifact*/ visitChild("artifact", this.artifact, visitor); break; // DataType
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // ArtifactAssessmentContentComponent
+        case 697796753: /*workflowStatus*/ visitChild("workflowStatus", this.workflowStatus, visitor); break; // Enumeration<ArtifactAssessmentWorkflowStatus>
+        case 583380919: /*disposition*/ visitChild("disposition", this.disposition, visitor); break; // Enumeration<ArtifactAssessmentDisposition>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("citeAs", this.citeAs, visitor); // DataType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("artifact", this.artifact, visitor); // DataType
+        visitChild("content", this.content, visitor); // ArtifactAssessmentContentComponent
+        visitChild("workflowStatus", this.workflowStatus, visitor); // Enumeration<ArtifactAssessmentWorkflowStatus>
+        visitChild("disposition", this.disposition, visitor); // Enumeration<ArtifactAssessmentDisposition>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -847,6 +847,45 @@ public class Attachment extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -389131437: /*contentType*/ visitChild("contentType", this.contentType, visitor); break; // CodeType
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeType
+        case 3076010: /*data*/ visitChild("data", this.data, visitor); break; // Base64BinaryType
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UrlType
+        case 3530753: /*size*/ visitChild("size", this.size, visitor); break; // Integer64Type
+        case 3195150: /*hash*/ visitChild("hash", this.hash, visitor); break; // Base64BinaryType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 1820421855: /*creation*/ visitChild("creation", this.creation, visitor); break; // DateTimeType
+        case -1221029593: /*height*/ visitChild("height", this.height, visitor); break; // PositiveIntType
+        case 113126854: /*width*/ visitChild("width", this.width, visitor); break; // PositiveIntType
+        case -1266514778: /*frames*/ visitChild("frames", this.frames, visitor); break; // PositiveIntType
+        case -1992012396: /*duration*/ visitChild("duration", this.duration, visitor); break; // DecimalType
+        case 106426308: /*pages*/ visitChild("pages", this.pages, visitor); break; // PositiveIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("contentType", this.contentType, visitor); // CodeType
+        visitChild("language", this.language, visitor); // CodeType
+        visitChild("data", this.data, visitor); // Base64BinaryType
+        visitChild("url", this.url, visitor); // UrlType
+        visitChild("size", this.size, visitor); // Integer64Type
+        visitChild("hash", this.hash, visitor); // Base64BinaryType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("creation", this.creation, visitor); // DateTimeType
+        visitChild("height", this.height, visitor); // PositiveIntType
+        visitChild("width", this.width, visitor); // PositiveIntType
+        visitChild("frames", this.frames, visitor); // PositiveIntType
+        visitChild("duration", this.duration, visitor); // DecimalType
+        visitChild("pages", this.pages, visitor); // PositiveIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
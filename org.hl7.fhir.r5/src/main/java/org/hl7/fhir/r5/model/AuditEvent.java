@@ -531,6 +531,23 @@ public class AuditEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Coding
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // Coding
+        visitChild("detail", this.detail, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1123,6 +1140,35 @@ public class AuditEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case 117694: /*who*/ visitChild("who", this.who, visitor); break; // Reference
+        case 693934258: /*requestor*/ visitChild("requestor", this.requestor, visitor); break; // BooleanType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -982670030: /*policy*/ visitChild("policy", this.policy, visitor); break; // UriType
+        case 1843485230: /*network*/ visitChild("network", this.network, visitor); break; // DataType
+        case -1385570183: /*authorization*/ visitChild("authorization", this.authorization, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("who", this.who, visitor); // Reference
+        visitChild("requestor", this.requestor, visitor); // BooleanType
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("policy", this.policy, visitor); // UriType
+        visitChild("network", this.network, visitor); // DataType
+        visitChild("authorization", this.authorization, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1511,6 +1557,25 @@ public class AuditEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3530567: /*site*/ visitChild("site", this.site, visitor); break; // Reference
+        case 348607190: /*observer*/ visitChild("observer", this.observer, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("site", this.site, visitor); // Reference
+        visitChild("observer", this.observer, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1991,6 +2056,31 @@ public class AuditEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3648196: /*what*/ visitChild("what", this.what, visitor); break; // Reference
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case -722296940: /*securityLabel*/ visitChild("securityLabel", this.securityLabel, visitor); break; // CodeableConcept
+        case 107944136: /*query*/ visitChild("query", this.query, visitor); break; // Base64BinaryType
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // AuditEventEntityDetailComponent
+        case 92750597: /*agent*/ visitChild("agent", this.agent, visitor); break; // AuditEventAgentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("what", this.what, visitor); // Reference
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("securityLabel", this.securityLabel, visitor); // CodeableConcept
+        visitChild("query", this.query, visitor); // Base64BinaryType
+        visitChild("detail", this.detail, visitor); // AuditEventEntityDetailComponent
+        visitChild("agent", this.agent, visitor); // AuditEventAgentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2454,6 +2544,23 @@ public class AuditEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3375,6 +3482,47 @@ public class AuditEvent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // Enumeration<AuditEventAction>
+        case 1478300413: /*severity*/ visitChild("severity", this.severity, visitor); break; // Enumeration<AuditEventSeverity>
+        case 792816933: /*occurred*/ visitChild("occurred", this.occurred, visitor); break; // DataType
+        case -799233872: /*recorded*/ visitChild("recorded", this.recorded, visitor); break; // InstantType
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // AuditEventOutcomeComponent
+        case -1385570183: /*authorization*/ visitChild("authorization", this.authorization, visitor); break; // CodeableConcept
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 92750597: /*agent*/ visitChild("agent", this.agent, visitor); break; // AuditEventAgentComponent
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // AuditEventSourceComponent
+        case -1298275357: /*entity*/ visitChild("entity", this.entity, visitor); break; // AuditEventEntityComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("action", this.action, visitor); // Enumeration<AuditEventAction>
+        visitChild("severity", this.severity, visitor); // Enumeration<AuditEventSeverity>
+        visitChild("occurred", this.occurred, visitor); // DataType
+        visitChild("recorded", this.recorded, visitor); // InstantType
+        visitChild("outcome", this.outcome, visitor); // AuditEventOutcomeComponent
+        visitChild("authorization", this.authorization, visitor); // CodeableConcept
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("agent", this.agent, visitor); // AuditEventAgentComponent
+        visitChild("source", this.source, visitor); // AuditEventSourceComponent
+        visitChild("entity", this.entity, visitor); // AuditEventEntityComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
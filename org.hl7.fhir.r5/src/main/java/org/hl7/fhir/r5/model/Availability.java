@@ -327,6 +327,27 @@ public class Availability extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 68050338: /*daysOfWeek*/ visitChild("daysOfWeek", this.daysOfWeek, visitor); break; // Enumeration<DaysOfWeek>
+        case -1414913477: /*allDay*/ visitChild("allDay", this.allDay, visitor); break; // BooleanType
+        case -1039453818: /*availableStartTime*/ visitChild("availableStartTime", this.availableStartTime, visitor); break; // TimeType
+        case 101151551: /*availableEndTime*/ visitChild("availableEndTime", this.availableEndTime, visitor); break; // TimeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("daysOfWeek", this.daysOfWeek, visitor); // Enumeration<DaysOfWeek>
+        visitChild("allDay", this.allDay, visitor); // BooleanType
+        visitChild("availableStartTime", this.availableStartTime, visitor); // TimeType
+        visitChild("availableEndTime", this.availableEndTime, visitor); // TimeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -598,6 +619,23 @@ public class Availability extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1320499647: /*during*/ visitChild("during", this.during, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("during", this.during, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -865,6 +903,23 @@ public class Availability extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1873069366: /*availableTime*/ visitChild("availableTime", this.availableTime, visitor); break; // AvailabilityAvailableTimeComponent
+        case -627853021: /*notAvailableTime*/ visitChild("notAvailableTime", this.notAvailableTime, visitor); break; // AvailabilityNotAvailableTimeComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("availableTime", this.availableTime, visitor); // AvailabilityAvailableTimeComponent
+        visitChild("notAvailableTime", this.notAvailableTime, visitor); // AvailabilityNotAvailableTimeComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
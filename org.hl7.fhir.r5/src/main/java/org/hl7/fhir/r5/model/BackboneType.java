@@ -148,6 +148,21 @@ Modifier extensions SHALL NOT change the meaning of any elements on Resource or
 
   }
 
+  @Override
+  public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+    switch (hash) {
+    case -298878168: /*modifierExtension*/ visitChild("modifierExtension", this.modifierExtension, visitor); break; // Extension
+    default: super.visitChildren(hash, name, visitor);
+    }
+
+  }
+
+  @Override
+  public void visitChildren(IChildVisitor visitor) throws FHIRException {
+    super.visitChildren(visitor);
+    visitChild("modifierExtension", this.modifierExtension, visitor); // Extension
+  }
+
   @Override
   public Base setProperty(int hash, String name, Base value) throws FHIRException {
     switch (hash) {
@@ -410,6 +410,69 @@ public abstract class Base implements Serializable, IBase, IElement {
     	return getProperty(name.hashCode(), name, checkValid);
   }
 
+  /**
+   * Receives the child values passed by visitChildren
+   */
+  public interface IChildVisitor {
+    public void visit(String name, Base value) throws FHIRException;
+  }
+
+  /**
+   * Passes each value of the named child to the visitor - the same values as listChildrenByName(name, false),
+   * but without building an array (or, for *, a list of properties) to hold them. Null values are not passed.
+   *
+   * The model classes generate an override of this; other classes get the values from listChildrenByName
+   *
+   * @param hash the hashCode of the name
+   * @param name the name of the child, without [x]. * for all children
+   */
+  public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+    if (name.equals("*")) {
+      visitChildren(visitor);
+    } else {
+      Base[] values = listChildrenByName(name, false);
+      if (values != null) {
+        for (Base v : values) {
+          if (v != null) {
+            visitor.visit(name, v);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Passes the value of every child that has one to the visitor, in the same order as children(),
+   * along with the name of the child (without [x])
+   */
+  public void visitChildren(IChildVisitor visitor) throws FHIRException {
+    for (Property p : children()) {
+      String name = p.getName().endsWith("[x]") ? p.getName().substring(0, p.getName().length()-3) : p.getName();
+      for (Base v : p.getValues()) {
+        if (v != null) {
+          visitor.visit(name, v);
+        }
+      }
+    }
+  }
+
+  protected static void visitChild(String name, Base value, IChildVisitor visitor) throws FHIRException {
+    if (value != null) {
+      visitor.visit(name, value);
+    }
+  }
+
+  protected static void visitChild(String name, List<? extends Base> values, IChildVisitor visitor) throws FHIRException {
+    if (values != null) {
+      for (int i = 0; i < values.size(); i++) {
+        Base v = values.get(i);
+        if (v != null) {
+          visitor.visit(name, v);
+        }
+      }
+    }
+  }
+
 	public boolean isEmpty() {
 	  return true; // userData does not count
   }
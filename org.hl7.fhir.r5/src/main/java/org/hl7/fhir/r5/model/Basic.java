@@ -314,6 +314,29 @@ public class Basic extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("author", this.author, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
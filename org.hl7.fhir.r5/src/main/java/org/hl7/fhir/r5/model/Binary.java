@@ -240,6 +240,25 @@ public class Binary extends BaseBinary implements IBaseBinary {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -389131437: /*contentType*/ visitChild("contentType", this.contentType, visitor); break; // CodeType
+        case -1622888881: /*securityContext*/ visitChild("securityContext", this.securityContext, visitor); break; // Reference
+        case 3076010: /*data*/ visitChild("data", this.data, visitor); break; // Base64BinaryType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("contentType", this.contentType, visitor); // CodeType
+        visitChild("securityContext", this.securityContext, visitor); // Reference
+        visitChild("data", this.data, visitor); // Base64BinaryType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
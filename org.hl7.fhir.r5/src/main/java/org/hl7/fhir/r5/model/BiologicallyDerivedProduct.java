@@ -216,6 +216,25 @@ public class BiologicallyDerivedProduct extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1883491469: /*collector*/ visitChild("collector", this.collector, visitor); break; // Reference
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        case 1883491145: /*collected*/ visitChild("collected", this.collected, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("collector", this.collector, visitor); // Reference
+        visitChild("source", this.source, visitor); // Reference
+        visitChild("collected", this.collected, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -601,6 +620,23 @@ public class BiologicallyDerivedProduct extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1416,6 +1452,45 @@ public class BiologicallyDerivedProduct extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 197299981: /*productCategory*/ visitChild("productCategory", this.productCategory, visitor); break; // Coding
+        case -1492131972: /*productCode*/ visitChild("productCode", this.productCode, visitor); break; // CodeableConcept
+        case -995424086: /*parent*/ visitChild("parent", this.parent, visitor); break; // Reference
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -654468482: /*biologicalSourceEvent*/ visitChild("biologicalSourceEvent", this.biologicalSourceEvent, visitor); break; // Identifier
+        case 39337686: /*processingFacility*/ visitChild("processingFacility", this.processingFacility, visitor); break; // Reference
+        case 364720301: /*division*/ visitChild("division", this.division, visitor); break; // StringType
+        case 1042864577: /*productStatus*/ visitChild("productStatus", this.productStatus, visitor); break; // Coding
+        case -668811523: /*expirationDate*/ visitChild("expirationDate", this.expirationDate, visitor); break; // DateTimeType
+        case -1741312354: /*collection*/ visitChild("collection", this.collection, visitor); break; // BiologicallyDerivedProductCollectionComponent
+        case 1643599647: /*storageTempRequirements*/ visitChild("storageTempRequirements", this.storageTempRequirements, visitor); break; // Range
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // BiologicallyDerivedProductPropertyComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("productCategory", this.productCategory, visitor); // Coding
+        visitChild("productCode", this.productCode, visitor); // CodeableConcept
+        visitChild("parent", this.parent, visitor); // Reference
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("biologicalSourceEvent", this.biologicalSourceEvent, visitor); // Identifier
+        visitChild("processingFacility", this.processingFacility, visitor); // Reference
+        visitChild("division", this.division, visitor); // StringType
+        visitChild("productStatus", this.productStatus, visitor); // Coding
+        visitChild("expirationDate", this.expirationDate, visitor); // DateTimeType
+        visitChild("collection", this.collection, visitor); // BiologicallyDerivedProductCollectionComponent
+        visitChild("storageTempRequirements", this.storageTempRequirements, visitor); // Range
+        visitChild("property", this.property, visitor); // BiologicallyDerivedProductPropertyComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
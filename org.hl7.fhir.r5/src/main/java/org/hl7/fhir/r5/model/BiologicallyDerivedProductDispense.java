@@ -355,6 +355,23 @@ public class BiologicallyDerivedProductDispense extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1295,6 +1312,51 @@ public class BiologicallyDerivedProductDispense extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<BiologicallyDerivedProductDispenseCodes>
+        case 1746240728: /*originRelationshipType*/ visitChild("originRelationshipType", this.originRelationshipType, visitor); break; // CodeableConcept
+        case -309474065: /*product*/ visitChild("product", this.product, visitor); break; // Reference
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 1644523031: /*matchStatus*/ visitChild("matchStatus", this.matchStatus, visitor); break; // CodeableConcept
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // BiologicallyDerivedProductDispensePerformerComponent
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -2024959605: /*preparedDate*/ visitChild("preparedDate", this.preparedDate, visitor); break; // DateTimeType
+        case -940241380: /*whenHandedOver*/ visitChild("whenHandedOver", this.whenHandedOver, visitor); break; // DateTimeType
+        case -1429847026: /*destination*/ visitChild("destination", this.destination, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 2138372141: /*usageInstruction*/ visitChild("usageInstruction", this.usageInstruction, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<BiologicallyDerivedProductDispenseCodes>
+        visitChild("originRelationshipType", this.originRelationshipType, visitor); // CodeableConcept
+        visitChild("product", this.product, visitor); // Reference
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("matchStatus", this.matchStatus, visitor); // CodeableConcept
+        visitChild("performer", this.performer, visitor); // BiologicallyDerivedProductDispensePerformerComponent
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("preparedDate", this.preparedDate, visitor); // DateTimeType
+        visitChild("whenHandedOver", this.whenHandedOver, visitor); // DateTimeType
+        visitChild("destination", this.destination, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("usageInstruction", this.usageInstruction, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
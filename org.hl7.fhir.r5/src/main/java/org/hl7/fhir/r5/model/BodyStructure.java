@@ -352,6 +352,29 @@ public class BodyStructure extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 144518515: /*structure*/ visitChild("structure", this.structure, visitor); break; // CodeableConcept
+        case -170291817: /*laterality*/ visitChild("laterality", this.laterality, visitor); break; // CodeableConcept
+        case -994716042: /*bodyLandmarkOrientation*/ visitChild("bodyLandmarkOrientation", this.bodyLandmarkOrientation, visitor); break; // BodyStructureIncludedStructureBodyLandmarkOrientationComponent
+        case 784017063: /*spatialReference*/ visitChild("spatialReference", this.spatialReference, visitor); break; // Reference
+        case -1247940438: /*qualifier*/ visitChild("qualifier", this.qualifier, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("structure", this.structure, visitor); // CodeableConcept
+        visitChild("laterality", this.laterality, visitor); // CodeableConcept
+        visitChild("bodyLandmarkOrientation", this.bodyLandmarkOrientation, visitor); // BodyStructureIncludedStructureBodyLandmarkOrientationComponent
+        visitChild("spatialReference", this.spatialReference, visitor); // Reference
+        visitChild("qualifier", this.qualifier, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -805,6 +828,27 @@ public class BodyStructure extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1187892644: /*landmarkDescription*/ visitChild("landmarkDescription", this.landmarkDescription, visitor); break; // CodeableConcept
+        case 133476820: /*clockFacePosition*/ visitChild("clockFacePosition", this.clockFacePosition, visitor); break; // CodeableConcept
+        case 1350792599: /*distanceFromLandmark*/ visitChild("distanceFromLandmark", this.distanceFromLandmark, visitor); break; // BodyStructureIncludedStructureBodyLandmarkOrientationDistanceFromLandmarkComponent
+        case 1408496355: /*surfaceOrientation*/ visitChild("surfaceOrientation", this.surfaceOrientation, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("landmarkDescription", this.landmarkDescription, visitor); // CodeableConcept
+        visitChild("clockFacePosition", this.clockFacePosition, visitor); // CodeableConcept
+        visitChild("distanceFromLandmark", this.distanceFromLandmark, visitor); // BodyStructureIncludedStructureBodyLandmarkOrientationDistanceFromLandmarkComponent
+        visitChild("surfaceOrientation", this.surfaceOrientation, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1119,6 +1163,23 @@ public class BodyStructure extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // CodeableReference
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("device", this.device, visitor); // CodeableReference
+        visitChild("value", this.value, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1711,6 +1772,35 @@ public class BodyStructure extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case 1807231644: /*morphology*/ visitChild("morphology", this.morphology, visitor); break; // CodeableConcept
+        case -1174069225: /*includedStructure*/ visitChild("includedStructure", this.includedStructure, visitor); break; // BodyStructureIncludedStructureComponent
+        case 1192252105: /*excludedStructure*/ visitChild("excludedStructure", this.excludedStructure, visitor); break; // BodyStructureIncludedStructureComponent
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 100313435: /*image*/ visitChild("image", this.image, visitor); break; // Attachment
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("morphology", this.morphology, visitor); // CodeableConcept
+        visitChild("includedStructure", this.includedStructure, visitor); // BodyStructureIncludedStructureComponent
+        visitChild("excludedStructure", this.excludedStructure, visitor); // BodyStructureIncludedStructureComponent
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("image", this.image, visitor); // Attachment
+        visitChild("patient", this.patient, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2694,6 +2694,23 @@ public class Bundle extends Resource implements IBaseBundle {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -554436100: /*relation*/ visitChild("relation", this.relation, visitor); break; // Enumeration<LinkRelationTypes>
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("relation", this.relation, visitor); // Enumeration<LinkRelationTypes>
+        visitChild("url", this.url, visitor); // UriType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3107,6 +3124,31 @@ public class Bundle extends Resource implements IBaseBundle {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // BundleLinkComponent
+        case -511251360: /*fullUrl*/ visitChild("fullUrl", this.fullUrl, visitor); break; // UriType
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // Resource
+        case -906336856: /*search*/ visitChild("search", this.search, visitor); break; // BundleEntrySearchComponent
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // BundleEntryRequestComponent
+        case -340323263: /*response*/ visitChild("response", this.response, visitor); break; // BundleEntryResponseComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("link", this.link, visitor); // BundleLinkComponent
+        visitChild("fullUrl", this.fullUrl, visitor); // UriType
+        visitChild("resource", this.resource, visitor); // Resource
+        visitChild("search", this.search, visitor); // BundleEntrySearchComponent
+        visitChild("request", this.request, visitor); // BundleEntryRequestComponent
+        visitChild("response", this.response, visitor); // BundleEntryResponseComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3497,6 +3539,23 @@ public class Bundle extends Resource implements IBaseBundle {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // Enumeration<SearchEntryMode>
+        case 109264530: /*score*/ visitChild("score", this.score, visitor); break; // DecimalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("mode", this.mode, visitor); // Enumeration<SearchEntryMode>
+        visitChild("score", this.score, visitor); // DecimalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3998,6 +4057,31 @@ public class Bundle extends Resource implements IBaseBundle {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // Enumeration<HTTPVerb>
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case 171868368: /*ifNoneMatch*/ visitChild("ifNoneMatch", this.ifNoneMatch, visitor); break; // StringType
+        case -2061602860: /*ifModifiedSince*/ visitChild("ifModifiedSince", this.ifModifiedSince, visitor); break; // InstantType
+        case 1692894888: /*ifMatch*/ visitChild("ifMatch", this.ifMatch, visitor); break; // StringType
+        case 165155330: /*ifNoneExist*/ visitChild("ifNoneExist", this.ifNoneExist, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("method", this.method, visitor); // Enumeration<HTTPVerb>
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("ifNoneMatch", this.ifNoneMatch, visitor); // StringType
+        visitChild("ifModifiedSince", this.ifModifiedSince, visitor); // InstantType
+        visitChild("ifMatch", this.ifMatch, visitor); // StringType
+        visitChild("ifNoneExist", this.ifNoneExist, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4469,6 +4553,29 @@ public class Bundle extends Resource implements IBaseBundle {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // StringType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // UriType
+        case 3123477: /*etag*/ visitChild("etag", this.etag, visitor); break; // StringType
+        case 1959003007: /*lastModified*/ visitChild("lastModified", this.lastModified, visitor); break; // InstantType
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // Resource
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("status", this.status, visitor); // StringType
+        visitChild("location", this.location, visitor); // UriType
+        visitChild("etag", this.etag, visitor); // StringType
+        visitChild("lastModified", this.lastModified, visitor); // InstantType
+        visitChild("outcome", this.outcome, visitor); // Resource
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5052,6 +5159,35 @@ public class Bundle extends Resource implements IBaseBundle {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<BundleType>
+        case 55126294: /*timestamp*/ visitChild("timestamp", this.timestamp, visitor); break; // InstantType
+        case 110549828: /*total*/ visitChild("total", this.total, visitor); break; // UnsignedIntType
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // BundleLinkComponent
+        case 96667762: /*entry*/ visitChild("entry", this.entry, visitor); break; // BundleEntryComponent
+        case 1073584312: /*signature*/ visitChild("signature", this.signature, visitor); break; // Signature
+        case -1179159878: /*issues*/ visitChild("issues", this.issues, visitor); break; // Resource
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("type", this.type, visitor); // Enumeration<BundleType>
+        visitChild("timestamp", this.timestamp, visitor); // InstantType
+        visitChild("total", this.total, visitor); // UnsignedIntType
+        visitChild("link", this.link, visitor); // BundleLinkComponent
+        visitChild("entry", this.entry, visitor); // BundleEntryComponent
+        visitChild("signature", this.signature, visitor); // Signature
+        visitChild("issues", this.issues, visitor); // Resource
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1404,6 +1404,25 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 212873301: /*releaseDate*/ visitChild("releaseDate", this.releaseDate, visitor); break; // DateTimeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("releaseDate", this.releaseDate, visitor); // DateTimeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1718,6 +1737,25 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UrlType
+        case 1611297262: /*custodian*/ visitChild("custodian", this.custodian, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("url", this.url, visitor); // UrlType
+        visitChild("custodian", this.custodian, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2356,6 +2394,35 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // Enumeration<RestfulCapabilityMode>
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // MarkdownType
+        case 949122880: /*security*/ visitChild("security", this.security, visitor); break; // CapabilityStatementRestSecurityComponent
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // CapabilityStatementRestResourceComponent
+        case 1844104722: /*interaction*/ visitChild("interaction", this.interaction, visitor); break; // SystemInteractionComponent
+        case -553645115: /*searchParam*/ visitChild("searchParam", this.searchParam, visitor); break; // CapabilityStatementRestResourceSearchParamComponent
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // CapabilityStatementRestResourceOperationComponent
+        case -397756334: /*compartment*/ visitChild("compartment", this.compartment, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("mode", this.mode, visitor); // Enumeration<RestfulCapabilityMode>
+        visitChild("documentation", this.documentation, visitor); // MarkdownType
+        visitChild("security", this.security, visitor); // CapabilityStatementRestSecurityComponent
+        visitChild("resource", this.resource, visitor); // CapabilityStatementRestResourceComponent
+        visitChild("interaction", this.interaction, visitor); // SystemInteractionComponent
+        visitChild("searchParam", this.searchParam, visitor); // CapabilityStatementRestResourceSearchParamComponent
+        visitChild("operation", this.operation, visitor); // CapabilityStatementRestResourceOperationComponent
+        visitChild("compartment", this.compartment, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2782,6 +2849,25 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059629: /*cors*/ visitChild("cors", this.cors, visitor); break; // BooleanType
+        case 1984153269: /*service*/ visitChild("service", this.service, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("cors", this.cors, visitor); // BooleanType
+        visitChild("service", this.service, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4054,6 +4140,55 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeType
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+        case 1225477403: /*supportedProfile*/ visitChild("supportedProfile", this.supportedProfile, visitor); break; // CanonicalType
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // MarkdownType
+        case 1844104722: /*interaction*/ visitChild("interaction", this.interaction, visitor); break; // ResourceInteractionComponent
+        case -670487542: /*versioning*/ visitChild("versioning", this.versioning, visitor); break; // Enumeration<ResourceVersionPolicy>
+        case 187518494: /*readHistory*/ visitChild("readHistory", this.readHistory, visitor); break; // BooleanType
+        case -1400550619: /*updateCreate*/ visitChild("updateCreate", this.updateCreate, visitor); break; // BooleanType
+        case 6401826: /*conditionalCreate*/ visitChild("conditionalCreate", this.conditionalCreate, visitor); break; // BooleanType
+        case 822786364: /*conditionalRead*/ visitChild("conditionalRead", this.conditionalRead, visitor); break; // Enumeration<ConditionalReadStatus>
+        case 519849711: /*conditionalUpdate*/ visitChild("conditionalUpdate", this.conditionalUpdate, visitor); break; // BooleanType
+        case -265374366: /*conditionalPatch*/ visitChild("conditionalPatch", this.conditionalPatch, visitor); break; // BooleanType
+        case 23237585: /*conditionalDelete*/ visitChild("conditionalDelete", this.conditionalDelete, visitor); break; // Enumeration<ConditionalDeleteStatus>
+        case 796257373: /*referencePolicy*/ visitChild("referencePolicy", this.referencePolicy, visitor); break; // Enumeration<ReferenceHandlingPolicy>
+        case -1035904544: /*searchInclude*/ visitChild("searchInclude", this.searchInclude, visitor); break; // StringType
+        case -2123884979: /*searchRevInclude*/ visitChild("searchRevInclude", this.searchRevInclude, visitor); break; // StringType
+        case -553645115: /*searchParam*/ visitChild("searchParam", this.searchParam, visitor); break; // CapabilityStatementRestResourceSearchParamComponent
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // CapabilityStatementRestResourceOperationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeType
+        visitChild("profile", this.profile, visitor); // CanonicalType
+        visitChild("supportedProfile", this.supportedProfile, visitor); // CanonicalType
+        visitChild("documentation", this.documentation, visitor); // MarkdownType
+        visitChild("interaction", this.interaction, visitor); // ResourceInteractionComponent
+        visitChild("versioning", this.versioning, visitor); // Enumeration<ResourceVersionPolicy>
+        visitChild("readHistory", this.readHistory, visitor); // BooleanType
+        visitChild("updateCreate", this.updateCreate, visitor); // BooleanType
+        visitChild("conditionalCreate", this.conditionalCreate, visitor); // BooleanType
+        visitChild("conditionalRead", this.conditionalRead, visitor); // Enumeration<ConditionalReadStatus>
+        visitChild("conditionalUpdate", this.conditionalUpdate, visitor); // BooleanType
+        visitChild("conditionalPatch", this.conditionalPatch, visitor); // BooleanType
+        visitChild("conditionalDelete", this.conditionalDelete, visitor); // Enumeration<ConditionalDeleteStatus>
+        visitChild("referencePolicy", this.referencePolicy, visitor); // Enumeration<ReferenceHandlingPolicy>
+        visitChild("searchInclude", this.searchInclude, visitor); // StringType
+        visitChild("searchRevInclude", this.searchRevInclude, visitor); // StringType
+        visitChild("searchParam", this.searchParam, visitor); // CapabilityStatementRestResourceSearchParamComponent
+        visitChild("operation", this.operation, visitor); // CapabilityStatementRestResourceOperationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4585,6 +4720,23 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Enumeration<TypeRestfulInteraction>
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // Enumeration<TypeRestfulInteraction>
+        visitChild("documentation", this.documentation, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4968,6 +5120,27 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // CanonicalType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<SearchParamType>
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("definition", this.definition, visitor); // CanonicalType
+        visitChild("type", this.type, visitor); // Enumeration<SearchParamType>
+        visitChild("documentation", this.documentation, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5320,6 +5493,25 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // CanonicalType
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("definition", this.definition, visitor); // CanonicalType
+        visitChild("documentation", this.documentation, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5601,6 +5793,23 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Enumeration<SystemRestfulInteraction>
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // Enumeration<SystemRestfulInteraction>
+        visitChild("documentation", this.documentation, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5986,6 +6195,27 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // CapabilityStatementMessagingEndpointComponent
+        case 897803608: /*reliableCache*/ visitChild("reliableCache", this.reliableCache, visitor); break; // UnsignedIntType
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // MarkdownType
+        case -1805139079: /*supportedMessage*/ visitChild("supportedMessage", this.supportedMessage, visitor); break; // CapabilityStatementMessagingSupportedMessageComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("endpoint", this.endpoint, visitor); // CapabilityStatementMessagingEndpointComponent
+        visitChild("reliableCache", this.reliableCache, visitor); // UnsignedIntType
+        visitChild("documentation", this.documentation, visitor); // MarkdownType
+        visitChild("supportedMessage", this.supportedMessage, visitor); // CapabilityStatementMessagingSupportedMessageComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6265,6 +6495,23 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -989163880: /*protocol*/ visitChild("protocol", this.protocol, visitor); break; // Coding
+        case -1147692044: /*address*/ visitChild("address", this.address, visitor); break; // UrlType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("protocol", this.protocol, visitor); // Coding
+        visitChild("address", this.address, visitor); // UrlType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6528,6 +6775,23 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // Enumeration<EventCapabilityMode>
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("mode", this.mode, visitor); // Enumeration<EventCapabilityMode>
+        visitChild("definition", this.definition, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6852,6 +7116,25 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // Enumeration<DocumentMode>
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // MarkdownType
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("mode", this.mode, visitor); // Enumeration<DocumentMode>
+        visitChild("documentation", this.documentation, visitor); // MarkdownType
+        visitChild("profile", this.profile, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8836,6 +9119,79 @@ public class CapabilityStatement extends CanonicalResource implements IBaseConfo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 3292052: /*kind*/ visitChild("kind", this.kind, visitor); break; // Enumeration<CapabilityStatementKind>
+        case -246883639: /*instantiates*/ visitChild("instantiates", this.instantiates, visitor); break; // CanonicalType
+        case 1926037870: /*imports*/ visitChild("imports", this.imports, visitor); break; // CanonicalType
+        case 1319330215: /*software*/ visitChild("software", this.software, visitor); break; // CapabilityStatementSoftwareComponent
+        case 1683336114: /*implementation*/ visitChild("implementation", this.implementation, visitor); break; // CapabilityStatementImplementationComponent
+        case 461006061: /*fhirVersion*/ visitChild("fhirVersion", this.fhirVersion, visitor); break; // Enumeration<FHIRVersion>
+        case -1268779017: /*format*/ visitChild("format", this.format, visitor); break; // CodeType
+        case 172338783: /*patchFormat*/ visitChild("patchFormat", this.patchFormat, visitor); break; // CodeType
+        case 1014178944: /*acceptLanguage*/ visitChild("acceptLanguage", this.acceptLanguage, visitor); break; // CodeType
+        case 156966506: /*implementationGuide*/ visitChild("implementationGuide", this.implementationGuide, visitor); break; // CanonicalType
+        case 3496916: /*rest*/ visitChild("rest", this.rest, visitor); break; // CapabilityStatementRestComponent
+        case -1440008444: /*messaging*/ visitChild("messaging", this.messaging, visitor); break; // CapabilityStatementMessagingComponent
+        case 861720859: /*document*/ visitChild("document", this.document, visitor); break; // CapabilityStatementDocumentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("kind", this.kind, visitor); // Enumeration<CapabilityStatementKind>
+        visitChild("instantiates", this.instantiates, visitor); // CanonicalType
+        visitChild("imports", this.imports, visitor); // CanonicalType
+        visitChild("software", this.software, visitor); // CapabilityStatementSoftwareComponent
+        visitChild("implementation", this.implementation, visitor); // CapabilityStatementImplementationComponent
+        visitChild("fhirVersion", this.fhirVersion, visitor); // Enumeration<FHIRVersion>
+        visitChild("format", this.format, visitor); // CodeType
+        visitChild("patchFormat", this.patchFormat, visitor); // CodeType
+        visitChild("acceptLanguage", this.acceptLanguage, visitor); // CodeType
+        visitChild("implementationGuide", this.implementationGuide, visitor); // CanonicalType
+        visitChild("rest", this.rest, visitor); // CapabilityStatementRestComponent
+        visitChild("messaging", this.messaging, visitor); // CapabilityStatementMessagingComponent
+        visitChild("document", this.document, visitor); // CapabilityStatementDocumentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -391,6 +391,25 @@ public class CarePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1964521199: /*performedActivity*/ visitChild("performedActivity", this.performedActivity, visitor); break; // CodeableReference
+        case -1001078227: /*progress*/ visitChild("progress", this.progress, visitor); break; // Annotation
+        case -1114371176: /*plannedActivityReference*/ visitChild("plannedActivityReference", this.plannedActivityReference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("performedActivity", this.performedActivity, visitor); // CodeableReference
+        visitChild("progress", this.progress, visitor); // Annotation
+        visitChild("plannedActivityReference", this.plannedActivityReference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1890,6 +1909,65 @@ public class CarePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -430332865: /*replaces*/ visitChild("replaces", this.replaces, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<RequestStatus>
+        case -1183762788: /*intent*/ visitChild("intent", this.intent, visitor); break; // Enumeration<CarePlanIntent>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case 1611297262: /*custodian*/ visitChild("custodian", this.custodian, visitor); break; // Reference
+        case -1895276325: /*contributor*/ visitChild("contributor", this.contributor, visitor); break; // Reference
+        case -7323378: /*careTeam*/ visitChild("careTeam", this.careTeam, visitor); break; // Reference
+        case 874544034: /*addresses*/ visitChild("addresses", this.addresses, visitor); break; // CodeableReference
+        case 1922406657: /*supportingInfo*/ visitChild("supportingInfo", this.supportingInfo, visitor); break; // Reference
+        case 3178259: /*goal*/ visitChild("goal", this.goal, visitor); break; // Reference
+        case -1655966961: /*activity*/ visitChild("activity", this.activity, visitor); break; // CarePlanActivityComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("replaces", this.replaces, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<RequestStatus>
+        visitChild("intent", this.intent, visitor); // Enumeration<CarePlanIntent>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("period", this.period, visitor); // Period
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("custodian", this.custodian, visitor); // Reference
+        visitChild("contributor", this.contributor, visitor); // Reference
+        visitChild("careTeam", this.careTeam, visitor); // Reference
+        visitChild("addresses", this.addresses, visitor); // CodeableReference
+        visitChild("supportingInfo", this.supportingInfo, visitor); // Reference
+        visitChild("goal", this.goal, visitor); // Reference
+        visitChild("activity", this.activity, visitor); // CarePlanActivityComponent
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -397,6 +397,27 @@ public class CareTeam extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case -1077769574: /*member*/ visitChild("member", this.member, visitor); break; // Reference
+        case -14402964: /*onBehalfOf*/ visitChild("onBehalfOf", this.onBehalfOf, visitor); break; // Reference
+        case -351767064: /*coverage*/ visitChild("coverage", this.coverage, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("member", this.member, visitor); // Reference
+        visitChild("onBehalfOf", this.onBehalfOf, visitor); // Reference
+        visitChild("coverage", this.coverage, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1204,6 +1225,41 @@ public class CareTeam extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<CareTeamStatus>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // CareTeamParticipantComponent
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case -2058947787: /*managingOrganization*/ visitChild("managingOrganization", this.managingOrganization, visitor); break; // Reference
+        case -1429363305: /*telecom*/ visitChild("telecom", this.telecom, visitor); break; // ContactPoint
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<CareTeamStatus>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("period", this.period, visitor); // Period
+        visitChild("participant", this.participant, visitor); // CareTeamParticipantComponent
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("managingOrganization", this.managingOrganization, visitor); // Reference
+        visitChild("telecom", this.telecom, visitor); // ContactPoint
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
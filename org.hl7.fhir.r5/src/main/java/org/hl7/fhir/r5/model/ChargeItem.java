@@ -339,6 +339,23 @@ public class ChargeItem extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1836,6 +1853,71 @@ public class ChargeItem extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1139428583: /*definitionUri*/ visitChild("definitionUri", this.definitionUri, visitor); break; // UriType
+        case 933485793: /*definitionCanonical*/ visitChild("definitionCanonical", this.definitionCanonical, visitor); break; // CanonicalType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ChargeItemStatus>
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // ChargeItemPerformerComponent
+        case 1273192628: /*performingOrganization*/ visitChild("performingOrganization", this.performingOrganization, visitor); break; // Reference
+        case 1279054790: /*requestingOrganization*/ visitChild("requestingOrganization", this.requestingOrganization, visitor); break; // Reference
+        case -593192318: /*costCenter*/ visitChild("costCenter", this.costCenter, visitor); break; // Reference
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 1703573481: /*bodysite*/ visitChild("bodysite", this.bodysite, visitor); break; // CodeableConcept
+        case -925197224: /*unitPriceComponent*/ visitChild("unitPriceComponent", this.unitPriceComponent, visitor); break; // MonetaryComponent
+        case 1731497496: /*totalPriceComponent*/ visitChild("totalPriceComponent", this.totalPriceComponent, visitor); break; // MonetaryComponent
+        case -742878928: /*overrideReason*/ visitChild("overrideReason", this.overrideReason, visitor); break; // CodeableConcept
+        case -1591951995: /*enterer*/ visitChild("enterer", this.enterer, visitor); break; // Reference
+        case 555978181: /*enteredDate*/ visitChild("enteredDate", this.enteredDate, visitor); break; // DateTimeType
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        case 1984153269: /*service*/ visitChild("service", this.service, visitor); break; // CodeableReference
+        case -309474065: /*product*/ visitChild("product", this.product, visitor); break; // CodeableReference
+        case -1177318867: /*account*/ visitChild("account", this.account, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1248768647: /*supportingInformation*/ visitChild("supportingInformation", this.supportingInformation, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("definitionUri", this.definitionUri, visitor); // UriType
+        visitChild("definitionCanonical", this.definitionCanonical, visitor); // CanonicalType
+        visitChild("status", this.status, visitor); // Enumeration<ChargeItemStatus>
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("performer", this.performer, visitor); // ChargeItemPerformerComponent
+        visitChild("performingOrganization", this.performingOrganization, visitor); // Reference
+        visitChild("requestingOrganization", this.requestingOrganization, visitor); // Reference
+        visitChild("costCenter", this.costCenter, visitor); // Reference
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("bodysite", this.bodysite, visitor); // CodeableConcept
+        visitChild("unitPriceComponent", this.unitPriceComponent, visitor); // MonetaryComponent
+        visitChild("totalPriceComponent", this.totalPriceComponent, visitor); // MonetaryComponent
+        visitChild("overrideReason", this.overrideReason, visitor); // CodeableConcept
+        visitChild("enterer", this.enterer, visitor); // Reference
+        visitChild("enteredDate", this.enteredDate, visitor); // DateTimeType
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+        visitChild("service", this.service, visitor); // CodeableReference
+        visitChild("product", this.product, visitor); // CodeableReference
+        visitChild("account", this.account, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("supportingInformation", this.supportingInformation, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -186,6 +186,25 @@ public class ChargeItemDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // Expression
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("condition", this.condition, visitor); // Expression
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -472,6 +491,23 @@ public class ChargeItemDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1526770491: /*applicability*/ visitChild("applicability", this.applicability, visitor); break; // ChargeItemDefinitionApplicabilityComponent
+        case 1219095988: /*priceComponent*/ visitChild("priceComponent", this.priceComponent, visitor); break; // MonetaryComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("applicability", this.applicability, visitor); // ChargeItemDefinitionApplicabilityComponent
+        visitChild("priceComponent", this.priceComponent, visitor); // MonetaryComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2437,6 +2473,71 @@ public class ChargeItemDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1076333435: /*derivedFromUri*/ visitChild("derivedFromUri", this.derivedFromUri, visitor); break; // UriType
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // CanonicalType
+        case -430332865: /*replaces*/ visitChild("replaces", this.replaces, visitor); break; // CanonicalType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 555127957: /*instance*/ visitChild("instance", this.instance, visitor); break; // Reference
+        case -1526770491: /*applicability*/ visitChild("applicability", this.applicability, visitor); break; // ChargeItemDefinitionApplicabilityComponent
+        case -1041594966: /*propertyGroup*/ visitChild("propertyGroup", this.propertyGroup, visitor); break; // ChargeItemDefinitionPropertyGroupComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("derivedFromUri", this.derivedFromUri, visitor); // UriType
+        visitChild("partOf", this.partOf, visitor); // CanonicalType
+        visitChild("replaces", this.replaces, visitor); // CanonicalType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("instance", this.instance, visitor); // Reference
+        visitChild("applicability", this.applicability, visitor); // ChargeItemDefinitionApplicabilityComponent
+        visitChild("propertyGroup", this.propertyGroup, visitor); // ChargeItemDefinitionPropertyGroupComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
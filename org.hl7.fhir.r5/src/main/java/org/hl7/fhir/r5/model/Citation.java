@@ -856,6 +856,23 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 109780401: /*style*/ visitChild("style", this.style, visitor); break; // CodeableConcept
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("style", this.style, visitor); // CodeableConcept
+        visitChild("text", this.text, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1098,6 +1115,23 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -281470431: /*classifier*/ visitChild("classifier", this.classifier, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("classifier", this.classifier, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1378,6 +1412,25 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1655966961: /*activity*/ visitChild("activity", this.activity, visitor); break; // CodeableConcept
+        case -1422939762: /*actual*/ visitChild("actual", this.actual, visitor); break; // BooleanType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("activity", this.activity, visitor); // CodeableConcept
+        visitChild("actual", this.actual, visitor); // BooleanType
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2392,6 +2445,49 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1007604940: /*relatedIdentifier*/ visitChild("relatedIdentifier", this.relatedIdentifier, visitor); break; // Identifier
+        case 540917457: /*dateAccessed*/ visitChild("dateAccessed", this.dateAccessed, visitor); break; // DateTimeType
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // CitationCitedArtifactVersionComponent
+        case 1457822360: /*currentState*/ visitChild("currentState", this.currentState, visitor); break; // CodeableConcept
+        case 247524032: /*statusDate*/ visitChild("statusDate", this.statusDate, visitor); break; // CitationCitedArtifactStatusDateComponent
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // CitationCitedArtifactTitleComponent
+        case 1732898850: /*abstract*/ visitChild("abstract", this.abstract_, visitor); break; // CitationCitedArtifactAbstractComponent
+        case 3433459: /*part*/ visitChild("part", this.part, visitor); break; // CitationCitedArtifactPartComponent
+        case -7765931: /*relatesTo*/ visitChild("relatesTo", this.relatesTo, visitor); break; // CitationCitedArtifactRelatesToComponent
+        case 1470639376: /*publicationForm*/ visitChild("publicationForm", this.publicationForm, visitor); break; // CitationCitedArtifactPublicationFormComponent
+        case -828032215: /*webLocation*/ visitChild("webLocation", this.webLocation, visitor); break; // CitationCitedArtifactWebLocationComponent
+        case 382350310: /*classification*/ visitChild("classification", this.classification, visitor); break; // CitationCitedArtifactClassificationComponent
+        case 538727831: /*contributorship*/ visitChild("contributorship", this.contributorship, visitor); break; // CitationCitedArtifactContributorshipComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("relatedIdentifier", this.relatedIdentifier, visitor); // Identifier
+        visitChild("dateAccessed", this.dateAccessed, visitor); // DateTimeType
+        visitChild("version", this.version, visitor); // CitationCitedArtifactVersionComponent
+        visitChild("currentState", this.currentState, visitor); // CodeableConcept
+        visitChild("statusDate", this.statusDate, visitor); // CitationCitedArtifactStatusDateComponent
+        visitChild("title", this.title, visitor); // CitationCitedArtifactTitleComponent
+        visitChild("abstract", this.abstract_, visitor); // CitationCitedArtifactAbstractComponent
+        visitChild("part", this.part, visitor); // CitationCitedArtifactPartComponent
+        visitChild("relatesTo", this.relatesTo, visitor); // CitationCitedArtifactRelatesToComponent
+        visitChild("publicationForm", this.publicationForm, visitor); // CitationCitedArtifactPublicationFormComponent
+        visitChild("webLocation", this.webLocation, visitor); // CitationCitedArtifactWebLocationComponent
+        visitChild("classification", this.classification, visitor); // CitationCitedArtifactClassificationComponent
+        visitChild("contributorship", this.contributorship, visitor); // CitationCitedArtifactContributorshipComponent
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2854,6 +2950,23 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        case 1182995672: /*baseCitation*/ visitChild("baseCitation", this.baseCitation, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // StringType
+        visitChild("baseCitation", this.baseCitation, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3130,6 +3243,25 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1655966961: /*activity*/ visitChild("activity", this.activity, visitor); break; // CodeableConcept
+        case -1422939762: /*actual*/ visitChild("actual", this.actual, visitor); break; // BooleanType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("activity", this.activity, visitor); // CodeableConcept
+        visitChild("actual", this.actual, visitor); // BooleanType
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3451,6 +3583,25 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("language", this.language, visitor); // CodeableConcept
+        visitChild("text", this.text, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3804,6 +3955,27 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("language", this.language, visitor); // CodeableConcept
+        visitChild("text", this.text, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4104,6 +4276,25 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        case 1182995672: /*baseCitation*/ visitChild("baseCitation", this.baseCitation, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // StringType
+        visitChild("baseCitation", this.baseCitation, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4695,6 +4886,35 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<RelatedArtifactTypeExpanded>
+        case -281470431: /*classifier*/ visitChild("classifier", this.classifier, visitor); break; // CodeableConcept
+        case 102727412: /*label*/ visitChild("label", this.label, visitor); break; // StringType
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        case -1442706713: /*citation*/ visitChild("citation", this.citation, visitor); break; // MarkdownType
+        case 861720859: /*document*/ visitChild("document", this.document, visitor); break; // Attachment
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // CanonicalType
+        case -610120995: /*resourceReference*/ visitChild("resourceReference", this.resourceReference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<RelatedArtifactTypeExpanded>
+        visitChild("classifier", this.classifier, visitor); // CodeableConcept
+        visitChild("label", this.label, visitor); // StringType
+        visitChild("display", this.display, visitor); // StringType
+        visitChild("citation", this.citation, visitor); // MarkdownType
+        visitChild("document", this.document, visitor); // Attachment
+        visitChild("resource", this.resource, visitor); // CanonicalType
+        visitChild("resourceReference", this.resourceReference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5770,6 +5990,49 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -614144077: /*publishedIn*/ visitChild("publishedIn", this.publishedIn, visitor); break; // CitationCitedArtifactPublicationFormPublishedInComponent
+        case 612116418: /*citedMedium*/ visitChild("citedMedium", this.citedMedium, visitor); break; // CodeableConcept
+        case -810883302: /*volume*/ visitChild("volume", this.volume, visitor); break; // StringType
+        case 100509913: /*issue*/ visitChild("issue", this.issue, visitor); break; // StringType
+        case 817743300: /*articleDate*/ visitChild("articleDate", this.articleDate, visitor); break; // DateTimeType
+        case 225590343: /*publicationDateText*/ visitChild("publicationDateText", this.publicationDateText, visitor); break; // StringType
+        case 2014643069: /*publicationDateSeason*/ visitChild("publicationDateSeason", this.publicationDateSeason, visitor); break; // StringType
+        case 2129161183: /*lastRevisionDate*/ visitChild("lastRevisionDate", this.lastRevisionDate, visitor); break; // DateTimeType
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        case 1807963277: /*accessionNumber*/ visitChild("accessionNumber", this.accessionNumber, visitor); break; // StringType
+        case 1287145344: /*pageString*/ visitChild("pageString", this.pageString, visitor); break; // StringType
+        case 132895071: /*firstPage*/ visitChild("firstPage", this.firstPage, visitor); break; // StringType
+        case -1459540411: /*lastPage*/ visitChild("lastPage", this.lastPage, visitor); break; // StringType
+        case 857882560: /*pageCount*/ visitChild("pageCount", this.pageCount, visitor); break; // StringType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("publishedIn", this.publishedIn, visitor); // CitationCitedArtifactPublicationFormPublishedInComponent
+        visitChild("citedMedium", this.citedMedium, visitor); // CodeableConcept
+        visitChild("volume", this.volume, visitor); // StringType
+        visitChild("issue", this.issue, visitor); // StringType
+        visitChild("articleDate", this.articleDate, visitor); // DateTimeType
+        visitChild("publicationDateText", this.publicationDateText, visitor); // StringType
+        visitChild("publicationDateSeason", this.publicationDateSeason, visitor); // StringType
+        visitChild("lastRevisionDate", this.lastRevisionDate, visitor); // DateTimeType
+        visitChild("language", this.language, visitor); // CodeableConcept
+        visitChild("accessionNumber", this.accessionNumber, visitor); // StringType
+        visitChild("pageString", this.pageString, visitor); // StringType
+        visitChild("firstPage", this.firstPage, visitor); // StringType
+        visitChild("lastPage", this.lastPage, visitor); // StringType
+        visitChild("pageCount", this.pageCount, visitor); // StringType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6350,6 +6613,29 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // Reference
+        case -1281627695: /*publisherLocation*/ visitChild("publisherLocation", this.publisherLocation, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("publisher", this.publisher, visitor); // Reference
+        visitChild("publisherLocation", this.publisherLocation, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6664,6 +6950,23 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -281470431: /*classifier*/ visitChild("classifier", this.classifier, visitor); break; // CodeableConcept
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("classifier", this.classifier, visitor); // CodeableConcept
+        visitChild("url", this.url, visitor); // UriType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6972,6 +7275,25 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -281470431: /*classifier*/ visitChild("classifier", this.classifier, visitor); break; // CodeableConcept
+        case 1014987316: /*artifactAssessment*/ visitChild("artifactAssessment", this.artifactAssessment, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("classifier", this.classifier, visitor); // CodeableConcept
+        visitChild("artifactAssessment", this.artifactAssessment, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -7319,6 +7641,25 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -599445191: /*complete*/ visitChild("complete", this.complete, visitor); break; // BooleanType
+        case 96667762: /*entry*/ visitChild("entry", this.entry, visitor); break; // CitationCitedArtifactContributorshipEntryComponent
+        case -1857640538: /*summary*/ visitChild("summary", this.summary, visitor); break; // ContributorshipSummaryComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("complete", this.complete, visitor); // BooleanType
+        visitChild("entry", this.entry, visitor); // CitationCitedArtifactContributorshipEntryComponent
+        visitChild("summary", this.summary, visitor); // ContributorshipSummaryComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -7920,6 +8261,35 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1895276325: /*contributor*/ visitChild("contributor", this.contributor, visitor); break; // Reference
+        case -740521962: /*forenameInitials*/ visitChild("forenameInitials", this.forenameInitials, visitor); break; // StringType
+        case 2019918576: /*affiliation*/ visitChild("affiliation", this.affiliation, visitor); break; // Reference
+        case -1600446614: /*contributionType*/ visitChild("contributionType", this.contributionType, visitor); break; // CodeableConcept
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case -547910459: /*contributionInstance*/ visitChild("contributionInstance", this.contributionInstance, visitor); break; // CitationCitedArtifactContributorshipEntryContributionInstanceComponent
+        case -1816008851: /*correspondingContact*/ visitChild("correspondingContact", this.correspondingContact, visitor); break; // BooleanType
+        case -762905416: /*rankingOrder*/ visitChild("rankingOrder", this.rankingOrder, visitor); break; // PositiveIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("contributor", this.contributor, visitor); // Reference
+        visitChild("forenameInitials", this.forenameInitials, visitor); // StringType
+        visitChild("affiliation", this.affiliation, visitor); // Reference
+        visitChild("contributionType", this.contributionType, visitor); // CodeableConcept
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("contributionInstance", this.contributionInstance, visitor); // CitationCitedArtifactContributorshipEntryContributionInstanceComponent
+        visitChild("correspondingContact", this.correspondingContact, visitor); // BooleanType
+        visitChild("rankingOrder", this.rankingOrder, visitor); // PositiveIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8263,6 +8633,23 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3560141: /*time*/ visitChild("time", this.time, visitor); break; // DateTimeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("time", this.time, visitor); // DateTimeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8574,6 +8961,27 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 109780401: /*style*/ visitChild("style", this.style, visitor); break; // CodeableConcept
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("style", this.style, visitor); // CodeableConcept
+        visitChild("source", this.source, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -10624,6 +11032,81 @@ public class Citation extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // ContactDetail
+        case -1307827859: /*editor*/ visitChild("editor", this.editor, visitor); break; // ContactDetail
+        case -261190139: /*reviewer*/ visitChild("reviewer", this.reviewer, visitor); break; // ContactDetail
+        case 1740277666: /*endorser*/ visitChild("endorser", this.endorser, visitor); break; // ContactDetail
+        case -1857640538: /*summary*/ visitChild("summary", this.summary, visitor); break; // CitationSummaryComponent
+        case 382350310: /*classification*/ visitChild("classification", this.classification, visitor); break; // CitationClassificationComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 1457822360: /*currentState*/ visitChild("currentState", this.currentState, visitor); break; // CodeableConcept
+        case 247524032: /*statusDate*/ visitChild("statusDate", this.statusDate, visitor); break; // CitationStatusDateComponent
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case -495272225: /*citedArtifact*/ visitChild("citedArtifact", this.citedArtifact, visitor); break; // CitationCitedArtifactComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("author", this.author, visitor); // ContactDetail
+        visitChild("editor", this.editor, visitor); // ContactDetail
+        visitChild("reviewer", this.reviewer, visitor); // ContactDetail
+        visitChild("endorser", this.endorser, visitor); // ContactDetail
+        visitChild("summary", this.summary, visitor); // CitationSummaryComponent
+        visitChild("classification", this.classification, visitor); // CitationClassificationComponent
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("currentState", this.currentState, visitor); // CodeableConcept
+        visitChild("statusDate", this.statusDate, visitor); // CitationStatusDateComponent
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("citedArtifact", this.citedArtifact, visitor); // CitationCitedArtifactComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -188,6 +188,25 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 94742588: /*claim*/ visitChild("claim", this.claim, visitor); break; // Reference
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // CodeableConcept
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Identifier
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("claim", this.claim, visitor); // Reference
+        visitChild("relationship", this.relationship, visitor); // CodeableConcept
+        visitChild("reference", this.reference, visitor); // Identifier
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -425,6 +444,23 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 106437350: /*party*/ visitChild("party", this.party, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("party", this.party, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -677,6 +713,23 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3648314: /*when*/ visitChild("when", this.when, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("when", this.when, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1049,6 +1102,29 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case -987494927: /*provider*/ visitChild("provider", this.provider, visitor); break; // Reference
+        case 1847674614: /*responsible*/ visitChild("responsible", this.responsible, visitor); break; // BooleanType
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case -1694759682: /*specialty*/ visitChild("specialty", this.specialty, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("provider", this.provider, visitor); // Reference
+        visitChild("responsible", this.responsible, visitor); // BooleanType
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("specialty", this.specialty, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1597,6 +1673,31 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // DataType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("timing", this.timing, visitor); // DataType
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2053,6 +2154,27 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 1196993265: /*diagnosis*/ visitChild("diagnosis", this.diagnosis, visitor); break; // DataType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -3386134: /*onAdmission*/ visitChild("onAdmission", this.onAdmission, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("diagnosis", this.diagnosis, visitor); // DataType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("onAdmission", this.onAdmission, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2549,6 +2671,29 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case -1095204141: /*procedure*/ visitChild("procedure", this.procedure, visitor); break; // DataType
+        case 115642: /*udi*/ visitChild("udi", this.udi, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("procedure", this.procedure, visitor); // DataType
+        visitChild("udi", this.udi, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3098,6 +3243,33 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 97604197: /*focal*/ visitChild("focal", this.focal, visitor); break; // BooleanType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -351767064: /*coverage*/ visitChild("coverage", this.coverage, visitor); break; // Reference
+        case 259920682: /*businessArrangement*/ visitChild("businessArrangement", this.businessArrangement, visitor); break; // StringType
+        case 522246568: /*preAuthRef*/ visitChild("preAuthRef", this.preAuthRef, visitor); break; // StringType
+        case 689513629: /*claimResponse*/ visitChild("claimResponse", this.claimResponse, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("focal", this.focal, visitor); // BooleanType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("coverage", this.coverage, visitor); // Reference
+        visitChild("businessArrangement", this.businessArrangement, visitor); // StringType
+        visitChild("preAuthRef", this.preAuthRef, visitor); // StringType
+        visitChild("claimResponse", this.claimResponse, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3479,6 +3651,25 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("date", this.date, visitor); // DateType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("location", this.location, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5027,6 +5218,69 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case 1070083823: /*careTeamSequence*/ visitChild("careTeamSequence", this.careTeamSequence, visitor); break; // PositiveIntType
+        case -909769262: /*diagnosisSequence*/ visitChild("diagnosisSequence", this.diagnosisSequence, visitor); break; // PositiveIntType
+        case -808920140: /*procedureSequence*/ visitChild("procedureSequence", this.procedureSequence, visitor); break; // PositiveIntType
+        case -702585587: /*informationSequence*/ visitChild("informationSequence", this.informationSequence, visitor); break; // PositiveIntType
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 1010065041: /*programCode*/ visitChild("programCode", this.programCode, visitor); break; // CodeableConcept
+        case 1379209295: /*serviced*/ visitChild("serviced", this.serviced, visitor); break; // DataType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // DataType
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case 115642: /*udi*/ visitChild("udi", this.udi, visitor); break; // Reference
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // BodySiteComponent
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // DetailComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("careTeamSequence", this.careTeamSequence, visitor); // PositiveIntType
+        visitChild("diagnosisSequence", this.diagnosisSequence, visitor); // PositiveIntType
+        visitChild("procedureSequence", this.procedureSequence, visitor); // PositiveIntType
+        visitChild("informationSequence", this.informationSequence, visitor); // PositiveIntType
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("programCode", this.programCode, visitor); // CodeableConcept
+        visitChild("serviced", this.serviced, visitor); // DataType
+        visitChild("location", this.location, visitor); // DataType
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("udi", this.udi, visitor); // Reference
+        visitChild("bodySite", this.bodySite, visitor); // BodySiteComponent
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("detail", this.detail, visitor); // DetailComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5693,6 +5947,23 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3530567: /*site*/ visitChild("site", this.site, visitor); break; // CodeableReference
+        case -1868566105: /*subSite*/ visitChild("subSite", this.subSite, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("site", this.site, visitor); // CodeableReference
+        visitChild("subSite", this.subSite, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6610,6 +6881,51 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 1010065041: /*programCode*/ visitChild("programCode", this.programCode, visitor); break; // CodeableConcept
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case 115642: /*udi*/ visitChild("udi", this.udi, visitor); break; // Reference
+        case -828829007: /*subDetail*/ visitChild("subDetail", this.subDetail, visitor); break; // SubDetailComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("programCode", this.programCode, visitor); // CodeableConcept
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("udi", this.udi, visitor); // Reference
+        visitChild("subDetail", this.subDetail, visitor); // SubDetailComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -7675,6 +7991,49 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 1010065041: /*programCode*/ visitChild("programCode", this.programCode, visitor); break; // CodeableConcept
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case 115642: /*udi*/ visitChild("udi", this.udi, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("programCode", this.programCode, visitor); // CodeableConcept
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("udi", this.udi, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -9506,6 +9865,83 @@ public class Claim extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FinancialResourceStatusCodes>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1868521062: /*subType*/ visitChild("subType", this.subType, visitor); break; // CodeableConcept
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Enumeration<Use>
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case -332066046: /*billablePeriod*/ visitChild("billablePeriod", this.billablePeriod, visitor); break; // Period
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case -1591951995: /*enterer*/ visitChild("enterer", this.enterer, visitor); break; // Reference
+        case 1957615864: /*insurer*/ visitChild("insurer", this.insurer, visitor); break; // Reference
+        case -987494927: /*provider*/ visitChild("provider", this.provider, visitor); break; // Reference
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // CodeableConcept
+        case 1314609806: /*fundsReserve*/ visitChild("fundsReserve", this.fundsReserve, visitor); break; // CodeableConcept
+        case 1090493483: /*related*/ visitChild("related", this.related, visitor); break; // RelatedClaimComponent
+        case 460301338: /*prescription*/ visitChild("prescription", this.prescription, visitor); break; // Reference
+        case -1814015861: /*originalPrescription*/ visitChild("originalPrescription", this.originalPrescription, visitor); break; // Reference
+        case 106443592: /*payee*/ visitChild("payee", this.payee, visitor); break; // PayeeComponent
+        case -722568291: /*referral*/ visitChild("referral", this.referral, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 501116579: /*facility*/ visitChild("facility", this.facility, visitor); break; // Reference
+        case -1599182171: /*diagnosisRelatedGroup*/ visitChild("diagnosisRelatedGroup", this.diagnosisRelatedGroup, visitor); break; // CodeableConcept
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // ClaimEventComponent
+        case -7323378: /*careTeam*/ visitChild("careTeam", this.careTeam, visitor); break; // CareTeamComponent
+        case 1922406657: /*supportingInfo*/ visitChild("supportingInfo", this.supportingInfo, visitor); break; // SupportingInformationComponent
+        case 1196993265: /*diagnosis*/ visitChild("diagnosis", this.diagnosis, visitor); break; // DiagnosisComponent
+        case -1095204141: /*procedure*/ visitChild("procedure", this.procedure, visitor); break; // ProcedureComponent
+        case 73049818: /*insurance*/ visitChild("insurance", this.insurance, visitor); break; // InsuranceComponent
+        case -2143202801: /*accident*/ visitChild("accident", this.accident, visitor); break; // AccidentComponent
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // ItemComponent
+        case 110549828: /*total*/ visitChild("total", this.total, visitor); break; // Money
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<FinancialResourceStatusCodes>
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subType", this.subType, visitor); // CodeableConcept
+        visitChild("use", this.use, visitor); // Enumeration<Use>
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("billablePeriod", this.billablePeriod, visitor); // Period
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("enterer", this.enterer, visitor); // Reference
+        visitChild("insurer", this.insurer, visitor); // Reference
+        visitChild("provider", this.provider, visitor); // Reference
+        visitChild("priority", this.priority, visitor); // CodeableConcept
+        visitChild("fundsReserve", this.fundsReserve, visitor); // CodeableConcept
+        visitChild("related", this.related, visitor); // RelatedClaimComponent
+        visitChild("prescription", this.prescription, visitor); // Reference
+        visitChild("originalPrescription", this.originalPrescription, visitor); // Reference
+        visitChild("payee", this.payee, visitor); // PayeeComponent
+        visitChild("referral", this.referral, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("facility", this.facility, visitor); // Reference
+        visitChild("diagnosisRelatedGroup", this.diagnosisRelatedGroup, visitor); // CodeableConcept
+        visitChild("event", this.event, visitor); // ClaimEventComponent
+        visitChild("careTeam", this.careTeam, visitor); // CareTeamComponent
+        visitChild("supportingInfo", this.supportingInfo, visitor); // SupportingInformationComponent
+        visitChild("diagnosis", this.diagnosis, visitor); // DiagnosisComponent
+        visitChild("procedure", this.procedure, visitor); // ProcedureComponent
+        visitChild("insurance", this.insurance, visitor); // InsuranceComponent
+        visitChild("accident", this.accident, visitor); // AccidentComponent
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("item", this.item, visitor); // ItemComponent
+        visitChild("total", this.total, visitor); // Money
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
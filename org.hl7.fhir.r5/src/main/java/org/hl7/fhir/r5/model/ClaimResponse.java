@@ -193,6 +193,23 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3648314: /*when*/ visitChild("when", this.when, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("when", this.when, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -699,6 +716,31 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1977979892: /*itemSequence*/ visitChild("itemSequence", this.itemSequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // ItemDetailComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("itemSequence", this.itemSequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+        visitChild("detail", this.detail, visitor); // ItemDetailComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1106,6 +1148,27 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 565719004: /*decision*/ visitChild("decision", this.decision, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        case 522246568: /*preAuthRef*/ visitChild("preAuthRef", this.preAuthRef, visitor); break; // StringType
+        case 1819164812: /*preAuthPeriod*/ visitChild("preAuthPeriod", this.preAuthPeriod, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("decision", this.decision, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+        visitChild("preAuthRef", this.preAuthRef, visitor); // StringType
+        visitChild("preAuthPeriod", this.preAuthPeriod, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1428,6 +1491,27 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+        visitChild("amount", this.amount, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1959,6 +2043,31 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1321472818: /*detailSequence*/ visitChild("detailSequence", this.detailSequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        case -828829007: /*subDetail*/ visitChild("subDetail", this.subDetail, visitor); break; // SubDetailComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("detailSequence", this.detailSequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+        visitChild("subDetail", this.subDetail, visitor); // SubDetailComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2469,6 +2578,29 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -855462510: /*subDetailSequence*/ visitChild("subDetailSequence", this.subDetailSequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("subDetailSequence", this.subDetailSequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3954,6 +4086,65 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1977979892: /*itemSequence*/ visitChild("itemSequence", this.itemSequence, visitor); break; // PositiveIntType
+        case 1321472818: /*detailSequence*/ visitChild("detailSequence", this.detailSequence, visitor); break; // PositiveIntType
+        case 146530674: /*subdetailSequence*/ visitChild("subdetailSequence", this.subdetailSequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case -987494927: /*provider*/ visitChild("provider", this.provider, visitor); break; // Reference
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 1010065041: /*programCode*/ visitChild("programCode", this.programCode, visitor); break; // CodeableConcept
+        case 1379209295: /*serviced*/ visitChild("serviced", this.serviced, visitor); break; // DataType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // DataType
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // BodySiteComponent
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // AddedItemDetailComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("itemSequence", this.itemSequence, visitor); // PositiveIntType
+        visitChild("detailSequence", this.detailSequence, visitor); // PositiveIntType
+        visitChild("subdetailSequence", this.subdetailSequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("provider", this.provider, visitor); // Reference
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("programCode", this.programCode, visitor); // CodeableConcept
+        visitChild("serviced", this.serviced, visitor); // DataType
+        visitChild("location", this.location, visitor); // DataType
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("bodySite", this.bodySite, visitor); // BodySiteComponent
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+        visitChild("detail", this.detail, visitor); // AddedItemDetailComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4590,6 +4781,23 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3530567: /*site*/ visitChild("site", this.site, visitor); break; // CodeableReference
+        case -1868566105: /*subSite*/ visitChild("subSite", this.subSite, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("site", this.site, visitor); // CodeableReference
+        visitChild("subSite", this.subSite, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5416,6 +5624,47 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        case -828829007: /*subDetail*/ visitChild("subDetail", this.subDetail, visitor); break; // AddedItemSubDetailComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+        visitChild("subDetail", this.subDetail, visitor); // AddedItemSubDetailComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6362,6 +6611,45 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6756,6 +7044,23 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("amount", this.amount, visitor); // Money
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -7140,6 +7445,31 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1977085293: /*adjustment*/ visitChild("adjustment", this.adjustment, visitor); break; // Money
+        case -1255938543: /*adjustmentReason*/ visitChild("adjustmentReason", this.adjustmentReason, visitor); break; // CodeableConcept
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateType
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("adjustment", this.adjustment, visitor); // Money
+        visitChild("adjustmentReason", this.adjustmentReason, visitor); // CodeableConcept
+        visitChild("date", this.date, visitor); // DateType
+        visitChild("amount", this.amount, visitor); // Money
+        visitChild("identifier", this.identifier, visitor); // Identifier
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -7530,6 +7860,27 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1034364087: /*number*/ visitChild("number", this.number, visitor); break; // PositiveIntType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("number", this.number, visitor); // PositiveIntType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("language", this.language, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -7949,6 +8300,29 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 97604197: /*focal*/ visitChild("focal", this.focal, visitor); break; // BooleanType
+        case -351767064: /*coverage*/ visitChild("coverage", this.coverage, visitor); break; // Reference
+        case 259920682: /*businessArrangement*/ visitChild("businessArrangement", this.businessArrangement, visitor); break; // StringType
+        case 689513629: /*claimResponse*/ visitChild("claimResponse", this.claimResponse, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("focal", this.focal, visitor); // BooleanType
+        visitChild("coverage", this.coverage, visitor); // Reference
+        visitChild("businessArrangement", this.businessArrangement, visitor); // StringType
+        visitChild("claimResponse", this.claimResponse, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8415,6 +8789,29 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1977979892: /*itemSequence*/ visitChild("itemSequence", this.itemSequence, visitor); break; // PositiveIntType
+        case 1321472818: /*detailSequence*/ visitChild("detailSequence", this.detailSequence, visitor); break; // PositiveIntType
+        case -855462510: /*subDetailSequence*/ visitChild("subDetailSequence", this.subDetailSequence, visitor); break; // PositiveIntType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("itemSequence", this.itemSequence, visitor); // PositiveIntType
+        visitChild("detailSequence", this.detailSequence, visitor); // PositiveIntType
+        visitChild("subDetailSequence", this.subDetailSequence, visitor); // PositiveIntType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("expression", this.expression, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -10197,6 +10594,83 @@ public class ClaimResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FinancialResourceStatusCodes>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1868521062: /*subType*/ visitChild("subType", this.subType, visitor); break; // CodeableConcept
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Enumeration<Use>
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case 1957615864: /*insurer*/ visitChild("insurer", this.insurer, visitor); break; // Reference
+        case 693934258: /*requestor*/ visitChild("requestor", this.requestor, visitor); break; // Reference
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // Enumeration<ClaimProcessingCodes>
+        case 565719004: /*decision*/ visitChild("decision", this.decision, visitor); break; // CodeableConcept
+        case 583380919: /*disposition*/ visitChild("disposition", this.disposition, visitor); break; // StringType
+        case 522246568: /*preAuthRef*/ visitChild("preAuthRef", this.preAuthRef, visitor); break; // StringType
+        case 1819164812: /*preAuthPeriod*/ visitChild("preAuthPeriod", this.preAuthPeriod, visitor); break; // Period
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // ClaimResponseEventComponent
+        case -316321118: /*payeeType*/ visitChild("payeeType", this.payeeType, visitor); break; // CodeableConcept
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1599182171: /*diagnosisRelatedGroup*/ visitChild("diagnosisRelatedGroup", this.diagnosisRelatedGroup, visitor); break; // CodeableConcept
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // ItemComponent
+        case -1148899500: /*addItem*/ visitChild("addItem", this.addItem, visitor); break; // AddedItemComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        case 110549828: /*total*/ visitChild("total", this.total, visitor); break; // TotalComponent
+        case -786681338: /*payment*/ visitChild("payment", this.payment, visitor); break; // PaymentComponent
+        case 1314609806: /*fundsReserve*/ visitChild("fundsReserve", this.fundsReserve, visitor); break; // CodeableConcept
+        case 473181393: /*formCode*/ visitChild("formCode", this.formCode, visitor); break; // CodeableConcept
+        case 3148996: /*form*/ visitChild("form", this.form, visitor); break; // Attachment
+        case 202339073: /*processNote*/ visitChild("processNote", this.processNote, visitor); break; // NoteComponent
+        case -2071896615: /*communicationRequest*/ visitChild("communicationRequest", this.communicationRequest, visitor); break; // Reference
+        case 73049818: /*insurance*/ visitChild("insurance", this.insurance, visitor); break; // InsuranceComponent
+        case 96784904: /*error*/ visitChild("error", this.error, visitor); break; // ErrorComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<FinancialResourceStatusCodes>
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subType", this.subType, visitor); // CodeableConcept
+        visitChild("use", this.use, visitor); // Enumeration<Use>
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("insurer", this.insurer, visitor); // Reference
+        visitChild("requestor", this.requestor, visitor); // Reference
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("outcome", this.outcome, visitor); // Enumeration<ClaimProcessingCodes>
+        visitChild("decision", this.decision, visitor); // CodeableConcept
+        visitChild("disposition", this.disposition, visitor); // StringType
+        visitChild("preAuthRef", this.preAuthRef, visitor); // StringType
+        visitChild("preAuthPeriod", this.preAuthPeriod, visitor); // Period
+        visitChild("event", this.event, visitor); // ClaimResponseEventComponent
+        visitChild("payeeType", this.payeeType, visitor); // CodeableConcept
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("diagnosisRelatedGroup", this.diagnosisRelatedGroup, visitor); // CodeableConcept
+        visitChild("item", this.item, visitor); // ItemComponent
+        visitChild("addItem", this.addItem, visitor); // AddedItemComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+        visitChild("total", this.total, visitor); // TotalComponent
+        visitChild("payment", this.payment, visitor); // PaymentComponent
+        visitChild("fundsReserve", this.fundsReserve, visitor); // CodeableConcept
+        visitChild("formCode", this.formCode, visitor); // CodeableConcept
+        visitChild("form", this.form, visitor); // Attachment
+        visitChild("processNote", this.processNote, visitor); // NoteComponent
+        visitChild("communicationRequest", this.communicationRequest, visitor); // Reference
+        visitChild("insurance", this.insurance, visitor); // InsuranceComponent
+        visitChild("error", this.error, visitor); // ErrorComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -178,6 +178,23 @@ public class ClinicalImpression extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // CodeableReference
+        case 93508670: /*basis*/ visitChild("basis", this.basis, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // CodeableReference
+        visitChild("basis", this.basis, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1344,6 +1361,57 @@ public class ClinicalImpression extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<EventStatus>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1468651097: /*effective*/ visitChild("effective", this.effective, visitor); break; // DataType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // Reference
+        case -1273775369: /*previous*/ visitChild("previous", this.previous, visitor); break; // Reference
+        case -309542241: /*problem*/ visitChild("problem", this.problem, visitor); break; // Reference
+        case -1770133056: /*changePattern*/ visitChild("changePattern", this.changePattern, visitor); break; // CodeableConcept
+        case -989163880: /*protocol*/ visitChild("protocol", this.protocol, visitor); break; // UriType
+        case -1857640538: /*summary*/ visitChild("summary", this.summary, visitor); break; // StringType
+        case -853173367: /*finding*/ visitChild("finding", this.finding, visitor); break; // ClinicalImpressionFindingComponent
+        case -676337953: /*prognosisCodeableConcept*/ visitChild("prognosisCodeableConcept", this.prognosisCodeableConcept, visitor); break; // CodeableConcept
+        case -587137783: /*prognosisReference*/ visitChild("prognosisReference", this.prognosisReference, visitor); break; // Reference
+        case 1922406657: /*supportingInfo*/ visitChild("supportingInfo", this.supportingInfo, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<EventStatus>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("effective", this.effective, visitor); // DataType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("performer", this.performer, visitor); // Reference
+        visitChild("previous", this.previous, visitor); // Reference
+        visitChild("problem", this.problem, visitor); // Reference
+        visitChild("changePattern", this.changePattern, visitor); // CodeableConcept
+        visitChild("protocol", this.protocol, visitor); // UriType
+        visitChild("summary", this.summary, visitor); // StringType
+        visitChild("finding", this.finding, visitor); // ClinicalImpressionFindingComponent
+        visitChild("prognosisCodeableConcept", this.prognosisCodeableConcept, visitor); // CodeableConcept
+        visitChild("prognosisReference", this.prognosisReference, visitor); // Reference
+        visitChild("supportingInfo", this.supportingInfo, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -524,6 +524,31 @@ public class ClinicalUseDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1497395130: /*diseaseSymptomProcedure*/ visitChild("diseaseSymptomProcedure", this.diseaseSymptomProcedure, visitor); break; // CodeableReference
+        case -505503602: /*diseaseStatus*/ visitChild("diseaseStatus", this.diseaseStatus, visitor); break; // CodeableReference
+        case -406395211: /*comorbidity*/ visitChild("comorbidity", this.comorbidity, visitor); break; // CodeableReference
+        case -597168804: /*indication*/ visitChild("indication", this.indication, visitor); break; // Reference
+        case -1526770491: /*applicability*/ visitChild("applicability", this.applicability, visitor); break; // Expression
+        case -544509127: /*otherTherapy*/ visitChild("otherTherapy", this.otherTherapy, visitor); break; // ClinicalUseDefinitionContraindicationOtherTherapyComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("diseaseSymptomProcedure", this.diseaseSymptomProcedure, visitor); // CodeableReference
+        visitChild("diseaseStatus", this.diseaseStatus, visitor); // CodeableReference
+        visitChild("comorbidity", this.comorbidity, visitor); // CodeableReference
+        visitChild("indication", this.indication, visitor); // Reference
+        visitChild("applicability", this.applicability, visitor); // Expression
+        visitChild("otherTherapy", this.otherTherapy, visitor); // ClinicalUseDefinitionContraindicationOtherTherapyComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -816,6 +841,23 @@ public class ClinicalUseDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1602839150: /*relationshipType*/ visitChild("relationshipType", this.relationshipType, visitor); break; // CodeableConcept
+        case -63342472: /*treatment*/ visitChild("treatment", this.treatment, visitor); break; // CodeableReference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("relationshipType", this.relationshipType, visitor); // CodeableConcept
+        visitChild("treatment", this.treatment, visitor); // CodeableReference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1355,6 +1397,35 @@ public class ClinicalUseDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1497395130: /*diseaseSymptomProcedure*/ visitChild("diseaseSymptomProcedure", this.diseaseSymptomProcedure, visitor); break; // CodeableReference
+        case -505503602: /*diseaseStatus*/ visitChild("diseaseStatus", this.diseaseStatus, visitor); break; // CodeableReference
+        case -406395211: /*comorbidity*/ visitChild("comorbidity", this.comorbidity, visitor); break; // CodeableReference
+        case 1587112348: /*intendedEffect*/ visitChild("intendedEffect", this.intendedEffect, visitor); break; // CodeableReference
+        case -1992012396: /*duration*/ visitChild("duration", this.duration, visitor); break; // DataType
+        case 444367565: /*undesirableEffect*/ visitChild("undesirableEffect", this.undesirableEffect, visitor); break; // Reference
+        case -1526770491: /*applicability*/ visitChild("applicability", this.applicability, visitor); break; // Expression
+        case -544509127: /*otherTherapy*/ visitChild("otherTherapy", this.otherTherapy, visitor); break; // ClinicalUseDefinitionContraindicationOtherTherapyComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("diseaseSymptomProcedure", this.diseaseSymptomProcedure, visitor); // CodeableReference
+        visitChild("diseaseStatus", this.diseaseStatus, visitor); // CodeableReference
+        visitChild("comorbidity", this.comorbidity, visitor); // CodeableReference
+        visitChild("intendedEffect", this.intendedEffect, visitor); // CodeableReference
+        visitChild("duration", this.duration, visitor); // DataType
+        visitChild("undesirableEffect", this.undesirableEffect, visitor); // Reference
+        visitChild("applicability", this.applicability, visitor); // Expression
+        visitChild("otherTherapy", this.otherTherapy, visitor); // ClinicalUseDefinitionContraindicationOtherTherapyComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1835,6 +1906,29 @@ public class ClinicalUseDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1844097009: /*interactant*/ visitChild("interactant", this.interactant, visitor); break; // ClinicalUseDefinitionInteractionInteractantComponent
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1306084975: /*effect*/ visitChild("effect", this.effect, visitor); break; // CodeableReference
+        case -1598467132: /*incidence*/ visitChild("incidence", this.incidence, visitor); break; // CodeableConcept
+        case -1799980989: /*management*/ visitChild("management", this.management, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("interactant", this.interactant, visitor); // ClinicalUseDefinitionInteractionInteractantComponent
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("effect", this.effect, visitor); // CodeableReference
+        visitChild("incidence", this.incidence, visitor); // CodeableConcept
+        visitChild("management", this.management, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2102,6 +2196,21 @@ public class ClinicalUseDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2342,6 +2451,25 @@ public class ClinicalUseDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -650549981: /*symptomConditionEffect*/ visitChild("symptomConditionEffect", this.symptomConditionEffect, visitor); break; // CodeableReference
+        case 382350310: /*classification*/ visitChild("classification", this.classification, visitor); break; // CodeableConcept
+        case 791175812: /*frequencyOfOccurrence*/ visitChild("frequencyOfOccurrence", this.frequencyOfOccurrence, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("symptomConditionEffect", this.symptomConditionEffect, visitor); // CodeableReference
+        visitChild("classification", this.classification, visitor); // CodeableConcept
+        visitChild("frequencyOfOccurrence", this.frequencyOfOccurrence, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2596,6 +2724,23 @@ public class ClinicalUseDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("code", this.code, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3330,6 +3475,43 @@ public class ClinicalUseDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ClinicalUseDefinitionType>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case 107135229: /*contraindication*/ visitChild("contraindication", this.contraindication, visitor); break; // ClinicalUseDefinitionContraindicationComponent
+        case -597168804: /*indication*/ visitChild("indication", this.indication, visitor); break; // ClinicalUseDefinitionIndicationComponent
+        case 1844104722: /*interaction*/ visitChild("interaction", this.interaction, visitor); break; // ClinicalUseDefinitionInteractionComponent
+        case -2023558323: /*population*/ visitChild("population", this.population, visitor); break; // Reference
+        case 166208699: /*library*/ visitChild("library", this.library, visitor); break; // CanonicalType
+        case 444367565: /*undesirableEffect*/ visitChild("undesirableEffect", this.undesirableEffect, visitor); break; // ClinicalUseDefinitionUndesirableEffectComponent
+        case 1124446108: /*warning*/ visitChild("warning", this.warning, visitor); break; // ClinicalUseDefinitionWarningComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("type", this.type, visitor); // Enumeration<ClinicalUseDefinitionType>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("contraindication", this.contraindication, visitor); // ClinicalUseDefinitionContraindicationComponent
+        visitChild("indication", this.indication, visitor); // ClinicalUseDefinitionIndicationComponent
+        visitChild("interaction", this.interaction, visitor); // ClinicalUseDefinitionInteractionComponent
+        visitChild("population", this.population, visitor); // Reference
+        visitChild("library", this.library, visitor); // CanonicalType
+        visitChild("undesirableEffect", this.undesirableEffect, visitor); // ClinicalUseDefinitionUndesirableEffectComponent
+        visitChild("warning", this.warning, visitor); // ClinicalUseDefinitionWarningComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -643,6 +643,27 @@ public class CodeSystem extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -500553564: /*operator*/ visitChild("operator", this.operator, visitor); break; // Enumeration<FilterOperator>
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("operator", this.operator, visitor); // Enumeration<FilterOperator>
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1059,6 +1080,27 @@ public class CodeSystem extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 116076: /*uri*/ visitChild("uri", this.uri, visitor); break; // UriType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<PropertyType>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("uri", this.uri, visitor); // UriType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("type", this.type, visitor); // Enumeration<PropertyType>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1603,6 +1645,31 @@ public class CodeSystem extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // StringType
+        case -900931593: /*designation*/ visitChild("designation", this.designation, visitor); break; // ConceptDefinitionDesignationComponent
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // ConceptPropertyComponent
+        case 951024232: /*concept*/ visitChild("concept", this.concept, visitor); break; // ConceptDefinitionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("display", this.display, visitor); // StringType
+        visitChild("definition", this.definition, visitor); // StringType
+        visitChild("designation", this.designation, visitor); // ConceptDefinitionDesignationComponent
+        visitChild("property", this.property, visitor); // ConceptPropertyComponent
+        visitChild("concept", this.concept, visitor); // ConceptDefinitionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2041,6 +2108,27 @@ public class CodeSystem extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeType
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Coding
+        case 938414048: /*additionalUse*/ visitChild("additionalUse", this.additionalUse, visitor); break; // Coding
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("language", this.language, visitor); // CodeType
+        visitChild("use", this.use, visitor); // Coding
+        visitChild("additionalUse", this.additionalUse, visitor); // Coding
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2424,6 +2512,23 @@ public class CodeSystem extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4792,6 +4897,93 @@ public class CodeSystem extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // CodeableConcept
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // ContactDetail
+        case -1307827859: /*editor*/ visitChild("editor", this.editor, visitor); break; // ContactDetail
+        case -261190139: /*reviewer*/ visitChild("reviewer", this.reviewer, visitor); break; // ContactDetail
+        case 1740277666: /*endorser*/ visitChild("endorser", this.endorser, visitor); break; // ContactDetail
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case -35616442: /*caseSensitive*/ visitChild("caseSensitive", this.caseSensitive, visitor); break; // BooleanType
+        case -1410174671: /*valueSet*/ visitChild("valueSet", this.valueSet, visitor); break; // CanonicalType
+        case 1913078280: /*hierarchyMeaning*/ visitChild("hierarchyMeaning", this.hierarchyMeaning, visitor); break; // Enumeration<CodeSystemHierarchyMeaning>
+        case 1248023381: /*compositional*/ visitChild("compositional", this.compositional, visitor); break; // BooleanType
+        case 617270957: /*versionNeeded*/ visitChild("versionNeeded", this.versionNeeded, visitor); break; // BooleanType
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // Enumeration<CodeSystemContentMode>
+        case -596951334: /*supplements*/ visitChild("supplements", this.supplements, visitor); break; // CanonicalType
+        case 94851343: /*count*/ visitChild("count", this.count, visitor); break; // UnsignedIntType
+        case -1274492040: /*filter*/ visitChild("filter", this.filter, visitor); break; // CodeSystemFilterComponent
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // PropertyComponent
+        case 951024232: /*concept*/ visitChild("concept", this.concept, visitor); break; // ConceptDefinitionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("topic", this.topic, visitor); // CodeableConcept
+        visitChild("author", this.author, visitor); // ContactDetail
+        visitChild("editor", this.editor, visitor); // ContactDetail
+        visitChild("reviewer", this.reviewer, visitor); // ContactDetail
+        visitChild("endorser", this.endorser, visitor); // ContactDetail
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("caseSensitive", this.caseSensitive, visitor); // BooleanType
+        visitChild("valueSet", this.valueSet, visitor); // CanonicalType
+        visitChild("hierarchyMeaning", this.hierarchyMeaning, visitor); // Enumeration<CodeSystemHierarchyMeaning>
+        visitChild("compositional", this.compositional, visitor); // BooleanType
+        visitChild("versionNeeded", this.versionNeeded, visitor); // BooleanType
+        visitChild("content", this.content, visitor); // Enumeration<CodeSystemContentMode>
+        visitChild("supplements", this.supplements, visitor); // CanonicalType
+        visitChild("count", this.count, visitor); // UnsignedIntType
+        visitChild("filter", this.filter, visitor); // CodeSystemFilterComponent
+        visitChild("property", this.property, visitor); // PropertyComponent
+        visitChild("concept", this.concept, visitor); // ConceptDefinitionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -202,6 +202,23 @@ public class CodeableConcept extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1355086998: /*coding*/ visitChild("coding", this.coding, visitor); break; // Coding
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("coding", this.coding, visitor); // Coding
+        visitChild("text", this.text, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -147,6 +147,23 @@ public class CodeableReference extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 951024232: /*concept*/ visitChild("concept", this.concept, visitor); break; // CodeableConcept
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("concept", this.concept, visitor); // CodeableConcept
+        visitChild("reference", this.reference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
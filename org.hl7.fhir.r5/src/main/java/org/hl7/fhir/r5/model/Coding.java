@@ -384,6 +384,29 @@ public class Coding extends DataType implements IBaseCoding, ICompositeType, ICo
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -887328209: /*system*/ visitChild("system", this.system, visitor); break; // UriType
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        case 423643014: /*userSelected*/ visitChild("userSelected", this.userSelected, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("system", this.system, visitor); // UriType
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("display", this.display, visitor); // StringType
+        visitChild("userSelected", this.userSelected, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
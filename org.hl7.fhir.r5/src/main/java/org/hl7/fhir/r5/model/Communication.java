@@ -172,6 +172,21 @@ public class Communication extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("content", this.content, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1561,6 +1576,63 @@ public class Communication extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case 1932956065: /*inResponseTo*/ visitChild("inResponseTo", this.inResponseTo, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<EventStatus>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case -1078030475: /*medium*/ visitChild("medium", this.medium, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // CodeableConcept
+        case 92611469: /*about*/ visitChild("about", this.about, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 3526552: /*sent*/ visitChild("sent", this.sent, visitor); break; // DateTimeType
+        case -808719903: /*received*/ visitChild("received", this.received, visitor); break; // DateTimeType
+        case 820081177: /*recipient*/ visitChild("recipient", this.recipient, visitor); break; // Reference
+        case -905962955: /*sender*/ visitChild("sender", this.sender, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case -786701938: /*payload*/ visitChild("payload", this.payload, visitor); break; // CommunicationPayloadComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("inResponseTo", this.inResponseTo, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<EventStatus>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("medium", this.medium, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("topic", this.topic, visitor); // CodeableConcept
+        visitChild("about", this.about, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("sent", this.sent, visitor); // DateTimeType
+        visitChild("received", this.received, visitor); // DateTimeType
+        visitChild("recipient", this.recipient, visitor); // Reference
+        visitChild("sender", this.sender, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("payload", this.payload, visitor); // CommunicationPayloadComponent
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -172,6 +172,21 @@ public class CommunicationRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("content", this.content, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1535,6 +1550,63 @@ public class CommunicationRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -430332865: /*replaces*/ visitChild("replaces", this.replaces, visitor); break; // Reference
+        case -445338488: /*groupIdentifier*/ visitChild("groupIdentifier", this.groupIdentifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<RequestStatus>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableConcept
+        case -1183762788: /*intent*/ visitChild("intent", this.intent, visitor); break; // Enumeration<RequestIntent>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case -1788508167: /*doNotPerform*/ visitChild("doNotPerform", this.doNotPerform, visitor); break; // BooleanType
+        case -1078030475: /*medium*/ visitChild("medium", this.medium, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 92611469: /*about*/ visitChild("about", this.about, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -786701938: /*payload*/ visitChild("payload", this.payload, visitor); break; // CommunicationRequestPayloadComponent
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case -1500852503: /*authoredOn*/ visitChild("authoredOn", this.authoredOn, visitor); break; // DateTimeType
+        case 693933948: /*requester*/ visitChild("requester", this.requester, visitor); break; // Reference
+        case 820081177: /*recipient*/ visitChild("recipient", this.recipient, visitor); break; // Reference
+        case 1255338813: /*informationProvider*/ visitChild("informationProvider", this.informationProvider, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("replaces", this.replaces, visitor); // Reference
+        visitChild("groupIdentifier", this.groupIdentifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<RequestStatus>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableConcept
+        visitChild("intent", this.intent, visitor); // Enumeration<RequestIntent>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("doNotPerform", this.doNotPerform, visitor); // BooleanType
+        visitChild("medium", this.medium, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("about", this.about, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("payload", this.payload, visitor); // CommunicationRequestPayloadComponent
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("authoredOn", this.authoredOn, visitor); // DateTimeType
+        visitChild("requester", this.requester, visitor); // Reference
+        visitChild("recipient", this.recipient, visitor); // Reference
+        visitChild("informationProvider", this.informationProvider, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -396,6 +396,29 @@ public class CompartmentDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 106436749: /*param*/ visitChild("param", this.param, visitor); break; // StringType
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // StringType
+        case -1587556021: /*startParam*/ visitChild("startParam", this.startParam, visitor); break; // UriType
+        case 1711140978: /*endParam*/ visitChild("endParam", this.endParam, visitor); break; // UriType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("param", this.param, visitor); // StringType
+        visitChild("documentation", this.documentation, visitor); // StringType
+        visitChild("startParam", this.startParam, visitor); // UriType
+        visitChild("endParam", this.endParam, visitor); // UriType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1676,6 +1699,51 @@ public class CompartmentDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Enumeration<CompartmentType>
+        case -906336856: /*search*/ visitChild("search", this.search, visitor); break; // BooleanType
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // CompartmentDefinitionResourceComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("code", this.code, visitor); // Enumeration<CompartmentType>
+        visitChild("search", this.search, visitor); // BooleanType
+        visitChild("resource", this.resource, visitor); // CompartmentDefinitionResourceComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -220,6 +220,25 @@ public class Composition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // CodeableConcept
+        case 3560141: /*time*/ visitChild("time", this.time, visitor); break; // DateTimeType
+        case 106437350: /*party*/ visitChild("party", this.party, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("mode", this.mode, visitor); // CodeableConcept
+        visitChild("time", this.time, visitor); // DateTimeType
+        visitChild("party", this.party, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -476,6 +495,23 @@ public class Composition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // CodeableReference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("period", this.period, visitor); // Period
+        visitChild("detail", this.detail, visitor); // CodeableReference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1044,6 +1080,37 @@ public class Composition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // Narrative
+        case -391079516: /*orderedBy*/ visitChild("orderedBy", this.orderedBy, visitor); break; // CodeableConcept
+        case 96667762: /*entry*/ visitChild("entry", this.entry, visitor); break; // Reference
+        case 1140135409: /*emptyReason*/ visitChild("emptyReason", this.emptyReason, visitor); break; // CodeableConcept
+        case 1970241253: /*section*/ visitChild("section", this.section, visitor); break; // SectionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("text", this.text, visitor); // Narrative
+        visitChild("orderedBy", this.orderedBy, visitor); // CodeableConcept
+        visitChild("entry", this.entry, visitor); // Reference
+        visitChild("emptyReason", this.emptyReason, visitor); // CodeableConcept
+        visitChild("section", this.section, visitor); // SectionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2385,6 +2452,57 @@ public class Composition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<CompositionStatus>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 542920370: /*attester*/ visitChild("attester", this.attester, visitor); break; // CompositionAttesterComponent
+        case 1611297262: /*custodian*/ visitChild("custodian", this.custodian, visitor); break; // Reference
+        case -7765931: /*relatesTo*/ visitChild("relatesTo", this.relatesTo, visitor); break; // RelatedArtifact
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // CompositionEventComponent
+        case 1970241253: /*section*/ visitChild("section", this.section, visitor); break; // SectionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<CompositionStatus>
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("attester", this.attester, visitor); // CompositionAttesterComponent
+        visitChild("custodian", this.custodian, visitor); // Reference
+        visitChild("relatesTo", this.relatesTo, visitor); // RelatedArtifact
+        visitChild("event", this.event, visitor); // CompositionEventComponent
+        visitChild("section", this.section, visitor); // SectionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
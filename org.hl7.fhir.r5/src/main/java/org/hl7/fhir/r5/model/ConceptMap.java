@@ -819,6 +819,29 @@ public class ConceptMap extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 116076: /*uri*/ visitChild("uri", this.uri, visitor); break; // UriType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ConceptMapPropertyType>
+        case -887328209: /*system*/ visitChild("system", this.system, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("uri", this.uri, visitor); // UriType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("type", this.type, visitor); // Enumeration<ConceptMapPropertyType>
+        visitChild("system", this.system, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1244,6 +1267,27 @@ public class ConceptMap extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 116076: /*uri*/ visitChild("uri", this.uri, visitor); break; // UriType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ConceptMapAttributeType>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("uri", this.uri, visitor); // UriType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("type", this.type, visitor); // Enumeration<ConceptMapAttributeType>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1641,6 +1685,27 @@ public class ConceptMap extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // CanonicalType
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // CanonicalType
+        case -1662836996: /*element*/ visitChild("element", this.element, visitor); break; // SourceElementComponent
+        case -194857460: /*unmapped*/ visitChild("unmapped", this.unmapped, visitor); break; // ConceptMapGroupUnmappedComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("source", this.source, visitor); // CanonicalType
+        visitChild("target", this.target, visitor); // CanonicalType
+        visitChild("element", this.element, visitor); // SourceElementComponent
+        visitChild("unmapped", this.unmapped, visitor); // ConceptMapGroupUnmappedComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2125,6 +2190,29 @@ public class ConceptMap extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        case -1410174671: /*valueSet*/ visitChild("valueSet", this.valueSet, visitor); break; // CanonicalType
+        case 104971227: /*noMap*/ visitChild("noMap", this.noMap, visitor); break; // BooleanType
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // TargetElementComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("display", this.display, visitor); // StringType
+        visitChild("valueSet", this.valueSet, visitor); // CanonicalType
+        visitChild("noMap", this.noMap, visitor); // BooleanType
+        visitChild("target", this.target, visitor); // TargetElementComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2822,6 +2910,35 @@ public class ConceptMap extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        case -1410174671: /*valueSet*/ visitChild("valueSet", this.valueSet, visitor); break; // CanonicalType
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // Enumeration<ConceptMapRelationship>
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // StringType
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // MappingPropertyComponent
+        case -1109214266: /*dependsOn*/ visitChild("dependsOn", this.dependsOn, visitor); break; // OtherElementComponent
+        case -309474065: /*product*/ visitChild("product", this.product, visitor); break; // OtherElementComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("display", this.display, visitor); // StringType
+        visitChild("valueSet", this.valueSet, visitor); // CanonicalType
+        visitChild("relationship", this.relationship, visitor); // Enumeration<ConceptMapRelationship>
+        visitChild("comment", this.comment, visitor); // StringType
+        visitChild("property", this.property, visitor); // MappingPropertyComponent
+        visitChild("dependsOn", this.dependsOn, visitor); // OtherElementComponent
+        visitChild("product", this.product, visitor); // OtherElementComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3269,6 +3386,23 @@ public class ConceptMap extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3671,6 +3805,25 @@ public class ConceptMap extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 13085340: /*attribute*/ visitChild("attribute", this.attribute, visitor); break; // CodeType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case -1410174671: /*valueSet*/ visitChild("valueSet", this.valueSet, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("attribute", this.attribute, visitor); // CodeType
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("valueSet", this.valueSet, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4206,6 +4359,31 @@ public class ConceptMap extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // Enumeration<ConceptMapGroupUnmappedMode>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        case -1410174671: /*valueSet*/ visitChild("valueSet", this.valueSet, visitor); break; // CanonicalType
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // Enumeration<ConceptMapRelationship>
+        case -1171155924: /*otherMap*/ visitChild("otherMap", this.otherMap, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("mode", this.mode, visitor); // Enumeration<ConceptMapGroupUnmappedMode>
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("display", this.display, visitor); // StringType
+        visitChild("valueSet", this.valueSet, visitor); // CanonicalType
+        visitChild("relationship", this.relationship, visitor); // Enumeration<ConceptMapRelationship>
+        visitChild("otherMap", this.otherMap, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6284,6 +6462,81 @@ public class ConceptMap extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // CodeableConcept
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // ContactDetail
+        case -1307827859: /*editor*/ visitChild("editor", this.editor, visitor); break; // ContactDetail
+        case -261190139: /*reviewer*/ visitChild("reviewer", this.reviewer, visitor); break; // ContactDetail
+        case 1740277666: /*endorser*/ visitChild("endorser", this.endorser, visitor); break; // ContactDetail
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // PropertyComponent
+        case -1004532171: /*additionalAttribute*/ visitChild("additionalAttribute", this.additionalAttribute, visitor); break; // AdditionalAttributeComponent
+        case -96223495: /*sourceScope*/ visitChild("sourceScope", this.sourceScope, visitor); break; // DataType
+        case -2096156861: /*targetScope*/ visitChild("targetScope", this.targetScope, visitor); break; // DataType
+        case 98629247: /*group*/ visitChild("group", this.group, visitor); break; // ConceptMapGroupComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("topic", this.topic, visitor); // CodeableConcept
+        visitChild("author", this.author, visitor); // ContactDetail
+        visitChild("editor", this.editor, visitor); // ContactDetail
+        visitChild("reviewer", this.reviewer, visitor); // ContactDetail
+        visitChild("endorser", this.endorser, visitor); // ContactDetail
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("property", this.property, visitor); // PropertyComponent
+        visitChild("additionalAttribute", this.additionalAttribute, visitor); // AdditionalAttributeComponent
+        visitChild("sourceScope", this.sourceScope, visitor); // DataType
+        visitChild("targetScope", this.targetScope, visitor); // DataType
+        visitChild("group", this.group, visitor); // ConceptMapGroupComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -160,6 +160,23 @@ public class Condition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -437,6 +454,25 @@ public class Condition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1857640538: /*summary*/ visitChild("summary", this.summary, visitor); break; // CodeableConcept
+        case 2119382722: /*assessment*/ visitChild("assessment", this.assessment, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("summary", this.summary, visitor); // CodeableConcept
+        visitChild("assessment", this.assessment, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1542,6 +1578,51 @@ public class Condition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -462853915: /*clinicalStatus*/ visitChild("clinicalStatus", this.clinicalStatus, visitor); break; // CodeableConcept
+        case -842509843: /*verificationStatus*/ visitChild("verificationStatus", this.verificationStatus, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1478300413: /*severity*/ visitChild("severity", this.severity, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 105901603: /*onset*/ visitChild("onset", this.onset, visitor); break; // DataType
+        case -921554001: /*abatement*/ visitChild("abatement", this.abatement, visitor); break; // DataType
+        case -1952893826: /*recordedDate*/ visitChild("recordedDate", this.recordedDate, visitor); break; // DateTimeType
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // ConditionParticipantComponent
+        case 109757182: /*stage*/ visitChild("stage", this.stage, visitor); break; // ConditionStageComponent
+        case 382967383: /*evidence*/ visitChild("evidence", this.evidence, visitor); break; // CodeableReference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("clinicalStatus", this.clinicalStatus, visitor); // CodeableConcept
+        visitChild("verificationStatus", this.verificationStatus, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("severity", this.severity, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("bodySite", this.bodySite, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("onset", this.onset, visitor); // DataType
+        visitChild("abatement", this.abatement, visitor); // DataType
+        visitChild("recordedDate", this.recordedDate, visitor); // DateTimeType
+        visitChild("participant", this.participant, visitor); // ConditionParticipantComponent
+        visitChild("stage", this.stage, visitor); // ConditionStageComponent
+        visitChild("evidence", this.evidence, visitor); // CodeableReference
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
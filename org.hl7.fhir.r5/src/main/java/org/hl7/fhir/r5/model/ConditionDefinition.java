@@ -366,6 +366,23 @@ public class ConditionDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -580,6 +597,23 @@ public class ConditionDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -888,6 +922,25 @@ public class ConditionDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ConditionPreconditionType>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<ConditionPreconditionType>
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1153,6 +1206,23 @@ public class ConditionDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // Enumeration<ConditionQuestionnairePurpose>
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("purpose", this.purpose, visitor); // Enumeration<ConditionQuestionnairePurpose>
+        visitChild("reference", this.reference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1375,6 +1445,23 @@ public class ConditionDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("reference", this.reference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3594,6 +3681,77 @@ public class ConditionDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -2060497896: /*subtitle*/ visitChild("subtitle", this.subtitle, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 1478300413: /*severity*/ visitChild("severity", this.severity, visitor); break; // CodeableConcept
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableConcept
+        case 109757182: /*stage*/ visitChild("stage", this.stage, visitor); break; // CodeableConcept
+        case 57790391: /*hasSeverity*/ visitChild("hasSeverity", this.hasSeverity, visitor); break; // BooleanType
+        case 282110147: /*hasBodySite*/ visitChild("hasBodySite", this.hasBodySite, visitor); break; // BooleanType
+        case 129749124: /*hasStage*/ visitChild("hasStage", this.hasStage, visitor); break; // BooleanType
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // UriType
+        case 122345516: /*observation*/ visitChild("observation", this.observation, visitor); break; // ConditionDefinitionObservationComponent
+        case 1998965455: /*medication*/ visitChild("medication", this.medication, visitor); break; // ConditionDefinitionMedicationComponent
+        case -650968616: /*precondition*/ visitChild("precondition", this.precondition, visitor); break; // ConditionDefinitionPreconditionComponent
+        case 3555933: /*team*/ visitChild("team", this.team, visitor); break; // Reference
+        case -1017049693: /*questionnaire*/ visitChild("questionnaire", this.questionnaire, visitor); break; // ConditionDefinitionQuestionnaireComponent
+        case 3443497: /*plan*/ visitChild("plan", this.plan, visitor); break; // ConditionDefinitionPlanComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("subtitle", this.subtitle, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("severity", this.severity, visitor); // CodeableConcept
+        visitChild("bodySite", this.bodySite, visitor); // CodeableConcept
+        visitChild("stage", this.stage, visitor); // CodeableConcept
+        visitChild("hasSeverity", this.hasSeverity, visitor); // BooleanType
+        visitChild("hasBodySite", this.hasBodySite, visitor); // BooleanType
+        visitChild("hasStage", this.hasStage, visitor); // BooleanType
+        visitChild("definition", this.definition, visitor); // UriType
+        visitChild("observation", this.observation, visitor); // ConditionDefinitionObservationComponent
+        visitChild("medication", this.medication, visitor); // ConditionDefinitionMedicationComponent
+        visitChild("precondition", this.precondition, visitor); // ConditionDefinitionPreconditionComponent
+        visitChild("team", this.team, visitor); // Reference
+        visitChild("questionnaire", this.questionnaire, visitor); // ConditionDefinitionQuestionnaireComponent
+        visitChild("plan", this.plan, visitor); // ConditionDefinitionPlanComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -339,6 +339,23 @@ public class Consent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UrlType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("reference", this.reference, visitor); // Reference
+        visitChild("url", this.url, visitor); // UrlType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -719,6 +736,29 @@ public class Consent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1994383672: /*verified*/ visitChild("verified", this.verified, visitor); break; // BooleanType
+        case 642733045: /*verificationType*/ visitChild("verificationType", this.verificationType, visitor); break; // CodeableConcept
+        case -1047292609: /*verifiedBy*/ visitChild("verifiedBy", this.verifiedBy, visitor); break; // Reference
+        case -1425236050: /*verifiedWith*/ visitChild("verifiedWith", this.verifiedWith, visitor); break; // Reference
+        case 642233449: /*verificationDate*/ visitChild("verificationDate", this.verificationDate, visitor); break; // DateTimeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("verified", this.verified, visitor); // BooleanType
+        visitChild("verificationType", this.verificationType, visitor); // CodeableConcept
+        visitChild("verifiedBy", this.verifiedBy, visitor); // Reference
+        visitChild("verifiedWith", this.verifiedWith, visitor); // Reference
+        visitChild("verificationDate", this.verificationDate, visitor); // DateTimeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1586,6 +1626,43 @@ public class Consent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // ProvisionActorComponent
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // CodeableConcept
+        case -722296940: /*securityLabel*/ visitChild("securityLabel", this.securityLabel, visitor); break; // Coding
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // Coding
+        case -1473196299: /*documentType*/ visitChild("documentType", this.documentType, visitor); break; // Coding
+        case -384364440: /*resourceType*/ visitChild("resourceType", this.resourceType, visitor); break; // Coding
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 1177250315: /*dataPeriod*/ visitChild("dataPeriod", this.dataPeriod, visitor); break; // Period
+        case 3076010: /*data*/ visitChild("data", this.data, visitor); break; // ProvisionDataComponent
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // Expression
+        case -547120939: /*provision*/ visitChild("provision", this.provision, visitor); break; // ProvisionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("period", this.period, visitor); // Period
+        visitChild("actor", this.actor, visitor); // ProvisionActorComponent
+        visitChild("action", this.action, visitor); // CodeableConcept
+        visitChild("securityLabel", this.securityLabel, visitor); // Coding
+        visitChild("purpose", this.purpose, visitor); // Coding
+        visitChild("documentType", this.documentType, visitor); // Coding
+        visitChild("resourceType", this.resourceType, visitor); // Coding
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("dataPeriod", this.dataPeriod, visitor); // Period
+        visitChild("data", this.data, visitor); // ProvisionDataComponent
+        visitChild("expression", this.expression, visitor); // Expression
+        visitChild("provision", this.provision, visitor); // ProvisionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1972,6 +2049,23 @@ public class Consent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("reference", this.reference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2215,6 +2309,23 @@ public class Consent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 938160637: /*meaning*/ visitChild("meaning", this.meaning, visitor); break; // Enumeration<ConsentDataMeaning>
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("meaning", this.meaning, visitor); // Enumeration<ConsentDataMeaning>
+        visitChild("reference", this.reference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3402,6 +3513,55 @@ public class Consent extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ConsentState>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 280295423: /*grantor*/ visitChild("grantor", this.grantor, visitor); break; // Reference
+        case 280295100: /*grantee*/ visitChild("grantee", this.grantee, visitor); break; // Reference
+        case 835260333: /*manager*/ visitChild("manager", this.manager, visitor); break; // Reference
+        case 637428636: /*controller*/ visitChild("controller", this.controller, visitor); break; // Reference
+        case 1964406686: /*sourceAttachment*/ visitChild("sourceAttachment", this.sourceAttachment, visitor); break; // Attachment
+        case -244259472: /*sourceReference*/ visitChild("sourceReference", this.sourceReference, visitor); break; // Reference
+        case -1780301690: /*regulatoryBasis*/ visitChild("regulatoryBasis", this.regulatoryBasis, visitor); break; // CodeableConcept
+        case 2138287660: /*policyBasis*/ visitChild("policyBasis", this.policyBasis, visitor); break; // ConsentPolicyBasisComponent
+        case 1593537919: /*policyText*/ visitChild("policyText", this.policyText, visitor); break; // Reference
+        case -1484401125: /*verification*/ visitChild("verification", this.verification, visitor); break; // ConsentVerificationComponent
+        case 565719004: /*decision*/ visitChild("decision", this.decision, visitor); break; // Enumeration<ConsentProvisionType>
+        case -547120939: /*provision*/ visitChild("provision", this.provision, visitor); break; // ProvisionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<ConsentState>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateType
+        visitChild("period", this.period, visitor); // Period
+        visitChild("grantor", this.grantor, visitor); // Reference
+        visitChild("grantee", this.grantee, visitor); // Reference
+        visitChild("manager", this.manager, visitor); // Reference
+        visitChild("controller", this.controller, visitor); // Reference
+        visitChild("sourceAttachment", this.sourceAttachment, visitor); // Attachment
+        visitChild("sourceReference", this.sourceReference, visitor); // Reference
+        visitChild("regulatoryBasis", this.regulatoryBasis, visitor); // CodeableConcept
+        visitChild("policyBasis", this.policyBasis, visitor); // ConsentPolicyBasisComponent
+        visitChild("policyText", this.policyText, visitor); // Reference
+        visitChild("verification", this.verification, visitor); // ConsentVerificationComponent
+        visitChild("decision", this.decision, visitor); // Enumeration<ConsentProvisionType>
+        visitChild("provision", this.provision, visitor); // ProvisionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
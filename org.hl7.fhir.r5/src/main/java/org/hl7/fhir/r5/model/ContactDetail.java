@@ -203,6 +203,23 @@ public class ContactDetail extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1429363305: /*telecom*/ visitChild("telecom", this.telecom, visitor); break; // ContactPoint
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("telecom", this.telecom, visitor); // ContactPoint
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
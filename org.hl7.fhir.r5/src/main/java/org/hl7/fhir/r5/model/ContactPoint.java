@@ -672,6 +672,29 @@ public class ContactPoint extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -887328209: /*system*/ visitChild("system", this.system, visitor); break; // Enumeration<ContactPointSystem>
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Enumeration<ContactPointUse>
+        case 3492908: /*rank*/ visitChild("rank", this.rank, visitor); break; // PositiveIntType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("system", this.system, visitor); // Enumeration<ContactPointSystem>
+        visitChild("value", this.value, visitor); // StringType
+        visitChild("use", this.use, visitor); // Enumeration<ContactPointUse>
+        visitChild("rank", this.rank, visitor); // PositiveIntType
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
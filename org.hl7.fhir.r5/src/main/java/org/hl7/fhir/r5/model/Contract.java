@@ -984,6 +984,31 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1868521062: /*subType*/ visitChild("subType", this.subType, visitor); break; // CodeableConcept
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // Reference
+        case 1470566394: /*publicationDate*/ visitChild("publicationDate", this.publicationDate, visitor); break; // DateTimeType
+        case 616500542: /*publicationStatus*/ visitChild("publicationStatus", this.publicationStatus, visitor); break; // Enumeration<ContractResourcePublicationStatusCodes>
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subType", this.subType, visitor); // CodeableConcept
+        visitChild("publisher", this.publisher, visitor); // Reference
+        visitChild("publicationDate", this.publicationDate, visitor); // DateTimeType
+        visitChild("publicationStatus", this.publicationStatus, visitor); // Enumeration<ContractResourcePublicationStatusCodes>
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1802,6 +1827,43 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1179159893: /*issued*/ visitChild("issued", this.issued, visitor); break; // DateTimeType
+        case -793235316: /*applies*/ visitChild("applies", this.applies, visitor); break; // Period
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // DataType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1868521062: /*subType*/ visitChild("subType", this.subType, visitor); break; // CodeableConcept
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case -722296940: /*securityLabel*/ visitChild("securityLabel", this.securityLabel, visitor); break; // SecurityLabelComponent
+        case 105650780: /*offer*/ visitChild("offer", this.offer, visitor); break; // ContractOfferComponent
+        case 93121264: /*asset*/ visitChild("asset", this.asset, visitor); break; // ContractAssetComponent
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // ActionComponent
+        case 98629247: /*group*/ visitChild("group", this.group, visitor); break; // TermComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("issued", this.issued, visitor); // DateTimeType
+        visitChild("applies", this.applies, visitor); // Period
+        visitChild("topic", this.topic, visitor); // DataType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subType", this.subType, visitor); // CodeableConcept
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("securityLabel", this.securityLabel, visitor); // SecurityLabelComponent
+        visitChild("offer", this.offer, visitor); // ContractOfferComponent
+        visitChild("asset", this.asset, visitor); // ContractAssetComponent
+        visitChild("action", this.action, visitor); // ActionComponent
+        visitChild("group", this.group, visitor); // TermComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2348,6 +2410,27 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1034364087: /*number*/ visitChild("number", this.number, visitor); break; // UnsignedIntType
+        case 382350310: /*classification*/ visitChild("classification", this.classification, visitor); break; // Coding
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // Coding
+        case 951543133: /*control*/ visitChild("control", this.control, visitor); break; // Coding
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("number", this.number, visitor); // UnsignedIntType
+        visitChild("classification", this.classification, visitor); // Coding
+        visitChild("category", this.category, visitor); // Coding
+        visitChild("control", this.control, visitor); // Coding
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3089,6 +3172,39 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 106437350: /*party*/ visitChild("party", this.party, visitor); break; // ContractPartyComponent
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 565719004: /*decision*/ visitChild("decision", this.decision, visitor); break; // CodeableConcept
+        case 675909535: /*decisionMode*/ visitChild("decisionMode", this.decisionMode, visitor); break; // CodeableConcept
+        case -1412808770: /*answer*/ visitChild("answer", this.answer, visitor); break; // AnswerComponent
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case -149460995: /*securityLabelNumber*/ visitChild("securityLabelNumber", this.securityLabelNumber, visitor); break; // UnsignedIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("party", this.party, visitor); // ContractPartyComponent
+        visitChild("topic", this.topic, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("decision", this.decision, visitor); // CodeableConcept
+        visitChild("decisionMode", this.decisionMode, visitor); // CodeableConcept
+        visitChild("answer", this.answer, visitor); // AnswerComponent
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("securityLabelNumber", this.securityLabelNumber, visitor); // UnsignedIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3474,6 +3590,23 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("reference", this.reference, visitor); // Reference
+        visitChild("role", this.role, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3853,6 +3986,21 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4928,6 +5076,49 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 109264468: /*scope*/ visitChild("scope", this.scope, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 2074825009: /*typeReference*/ visitChild("typeReference", this.typeReference, visitor); break; // Reference
+        case -1867567750: /*subtype*/ visitChild("subtype", this.subtype, visitor); break; // CodeableConcept
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // Coding
+        case 951530927: /*context*/ visitChild("context", this.context, visitor); break; // AssetContextComponent
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // StringType
+        case 384348315: /*periodType*/ visitChild("periodType", this.periodType, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -628382168: /*usePeriod*/ visitChild("usePeriod", this.usePeriod, visitor); break; // Period
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case -1412808770: /*answer*/ visitChild("answer", this.answer, visitor); break; // AnswerComponent
+        case -149460995: /*securityLabelNumber*/ visitChild("securityLabelNumber", this.securityLabelNumber, visitor); break; // UnsignedIntType
+        case 2046675654: /*valuedItem*/ visitChild("valuedItem", this.valuedItem, visitor); break; // ValuedItemComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("scope", this.scope, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("typeReference", this.typeReference, visitor); // Reference
+        visitChild("subtype", this.subtype, visitor); // CodeableConcept
+        visitChild("relationship", this.relationship, visitor); // Coding
+        visitChild("context", this.context, visitor); // AssetContextComponent
+        visitChild("condition", this.condition, visitor); // StringType
+        visitChild("periodType", this.periodType, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+        visitChild("usePeriod", this.usePeriod, visitor); // Period
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("answer", this.answer, visitor); // AnswerComponent
+        visitChild("securityLabelNumber", this.securityLabelNumber, visitor); // UnsignedIntType
+        visitChild("valuedItem", this.valuedItem, visitor); // ValuedItemComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5450,6 +5641,25 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("reference", this.reference, visitor); // Reference
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("text", this.text, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6352,6 +6562,47 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1298275357: /*entity*/ visitChild("entity", this.entity, visitor); break; // DataType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -929905388: /*effectiveTime*/ visitChild("effectiveTime", this.effectiveTime, visitor); break; // DateTimeType
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case -982754077: /*points*/ visitChild("points", this.points, visitor); break; // DecimalType
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case -786681338: /*payment*/ visitChild("payment", this.payment, visitor); break; // StringType
+        case -1540873516: /*paymentDate*/ visitChild("paymentDate", this.paymentDate, visitor); break; // DateTimeType
+        case 1847674614: /*responsible*/ visitChild("responsible", this.responsible, visitor); break; // Reference
+        case 820081177: /*recipient*/ visitChild("recipient", this.recipient, visitor); break; // Reference
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case -149460995: /*securityLabelNumber*/ visitChild("securityLabelNumber", this.securityLabelNumber, visitor); break; // UnsignedIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("entity", this.entity, visitor); // DataType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("effectiveTime", this.effectiveTime, visitor); // DateTimeType
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("points", this.points, visitor); // DecimalType
+        visitChild("net", this.net, visitor); // Money
+        visitChild("payment", this.payment, visitor); // StringType
+        visitChild("paymentDate", this.paymentDate, visitor); // DateTimeType
+        visitChild("responsible", this.responsible, visitor); // Reference
+        visitChild("recipient", this.recipient, visitor); // Reference
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("securityLabelNumber", this.securityLabelNumber, visitor); // UnsignedIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -7776,6 +8027,57 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1788508167: /*doNotPerform*/ visitChild("doNotPerform", this.doNotPerform, visitor); break; // BooleanType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // ActionSubjectComponent
+        case -1183762788: /*intent*/ visitChild("intent", this.intent, visitor); break; // CodeableConcept
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case 951530927: /*context*/ visitChild("context", this.context, visitor); break; // Reference
+        case -288783036: /*contextLinkId*/ visitChild("contextLinkId", this.contextLinkId, visitor); break; // StringType
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case 693933948: /*requester*/ visitChild("requester", this.requester, visitor); break; // Reference
+        case -1468032687: /*requesterLinkId*/ visitChild("requesterLinkId", this.requesterLinkId, visitor); break; // StringType
+        case -901444568: /*performerType*/ visitChild("performerType", this.performerType, visitor); break; // CodeableConcept
+        case -901513884: /*performerRole*/ visitChild("performerRole", this.performerRole, visitor); break; // CodeableConcept
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // Reference
+        case 1051302947: /*performerLinkId*/ visitChild("performerLinkId", this.performerLinkId, visitor); break; // StringType
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case -1557963239: /*reasonLinkId*/ visitChild("reasonLinkId", this.reasonLinkId, visitor); break; // StringType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -149460995: /*securityLabelNumber*/ visitChild("securityLabelNumber", this.securityLabelNumber, visitor); break; // UnsignedIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("doNotPerform", this.doNotPerform, visitor); // BooleanType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // ActionSubjectComponent
+        visitChild("intent", this.intent, visitor); // CodeableConcept
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("context", this.context, visitor); // Reference
+        visitChild("contextLinkId", this.contextLinkId, visitor); // StringType
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("requester", this.requester, visitor); // Reference
+        visitChild("requesterLinkId", this.requesterLinkId, visitor); // StringType
+        visitChild("performerType", this.performerType, visitor); // CodeableConcept
+        visitChild("performerRole", this.performerRole, visitor); // CodeableConcept
+        visitChild("performer", this.performer, visitor); // Reference
+        visitChild("performerLinkId", this.performerLinkId, visitor); // StringType
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("reasonLinkId", this.reasonLinkId, visitor); // StringType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("securityLabelNumber", this.securityLabelNumber, visitor); // UnsignedIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8318,6 +8620,23 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("reference", this.reference, visitor); // Reference
+        visitChild("role", this.role, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8607,6 +8926,25 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Coding
+        case 106437350: /*party*/ visitChild("party", this.party, visitor); break; // Reference
+        case 1073584312: /*signature*/ visitChild("signature", this.signature, visitor); break; // Signature
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Coding
+        visitChild("party", this.party, visitor); // Reference
+        visitChild("signature", this.signature, visitor); // Signature
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8841,6 +9179,21 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("content", this.content, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -9048,6 +9401,21 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("content", this.content, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -9255,6 +9623,21 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("content", this.content, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -11191,6 +11574,85 @@ public class Contract extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ContractResourceStatusCodes>
+        case 568606040: /*legalState*/ visitChild("legalState", this.legalState, visitor); break; // CodeableConcept
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // Reference
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -92412192: /*contentDerivative*/ visitChild("contentDerivative", this.contentDerivative, visitor); break; // CodeableConcept
+        case -1179159893: /*issued*/ visitChild("issued", this.issued, visitor); break; // DateTimeType
+        case -793235316: /*applies*/ visitChild("applies", this.applies, visitor); break; // Period
+        case -668311927: /*expirationType*/ visitChild("expirationType", this.expirationType, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1475610435: /*authority*/ visitChild("authority", this.authority, visitor); break; // Reference
+        case -1326197564: /*domain*/ visitChild("domain", this.domain, visitor); break; // Reference
+        case 3530567: /*site*/ visitChild("site", this.site, visitor); break; // Reference
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -2060497896: /*subtitle*/ visitChild("subtitle", this.subtitle, visitor); break; // StringType
+        case 92902992: /*alias*/ visitChild("alias", this.alias, visitor); break; // StringType
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case 109264468: /*scope*/ visitChild("scope", this.scope, visitor); break; // CodeableConcept
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // DataType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1868521062: /*subType*/ visitChild("subType", this.subType, visitor); break; // CodeableConcept
+        case 247055020: /*contentDefinition*/ visitChild("contentDefinition", this.contentDefinition, visitor); break; // ContentDefinitionComponent
+        case 3556460: /*term*/ visitChild("term", this.term, visitor); break; // TermComponent
+        case 1922406657: /*supportingInfo*/ visitChild("supportingInfo", this.supportingInfo, visitor); break; // Reference
+        case 1538891575: /*relevantHistory*/ visitChild("relevantHistory", this.relevantHistory, visitor); break; // Reference
+        case -902467798: /*signer*/ visitChild("signer", this.signer, visitor); break; // SignatoryComponent
+        case -1423054677: /*friendly*/ visitChild("friendly", this.friendly, visitor); break; // FriendlyLanguageComponent
+        case 102851257: /*legal*/ visitChild("legal", this.legal, visitor); break; // LegalLanguageComponent
+        case 3512060: /*rule*/ visitChild("rule", this.rule, visitor); break; // ComputableLanguageComponent
+        case -126751329: /*legallyBinding*/ visitChild("legallyBinding", this.legallyBinding, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<ContractResourceStatusCodes>
+        visitChild("legalState", this.legalState, visitor); // CodeableConcept
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // Reference
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("contentDerivative", this.contentDerivative, visitor); // CodeableConcept
+        visitChild("issued", this.issued, visitor); // DateTimeType
+        visitChild("applies", this.applies, visitor); // Period
+        visitChild("expirationType", this.expirationType, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("authority", this.authority, visitor); // Reference
+        visitChild("domain", this.domain, visitor); // Reference
+        visitChild("site", this.site, visitor); // Reference
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("subtitle", this.subtitle, visitor); // StringType
+        visitChild("alias", this.alias, visitor); // StringType
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("scope", this.scope, visitor); // CodeableConcept
+        visitChild("topic", this.topic, visitor); // DataType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subType", this.subType, visitor); // CodeableConcept
+        visitChild("contentDefinition", this.contentDefinition, visitor); // ContentDefinitionComponent
+        visitChild("term", this.term, visitor); // TermComponent
+        visitChild("supportingInfo", this.supportingInfo, visitor); // Reference
+        visitChild("relevantHistory", this.relevantHistory, visitor); // Reference
+        visitChild("signer", this.signer, visitor); // SignatoryComponent
+        visitChild("friendly", this.friendly, visitor); // FriendlyLanguageComponent
+        visitChild("legal", this.legal, visitor); // LegalLanguageComponent
+        visitChild("rule", this.rule, visitor); // ComputableLanguageComponent
+        visitChild("legallyBinding", this.legallyBinding, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
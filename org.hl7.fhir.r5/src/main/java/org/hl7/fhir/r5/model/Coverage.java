@@ -299,6 +299,23 @@ public class Coverage extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 106437350: /*party*/ visitChild("party", this.party, visitor); break; // Reference
+        case -228897266: /*responsibility*/ visitChild("responsibility", this.responsibility, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("party", this.party, visitor); // Reference
+        visitChild("responsibility", this.responsibility, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -580,6 +597,25 @@ public class Coverage extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // Identifier
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // Identifier
+        visitChild("name", this.name, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1040,6 +1076,33 @@ public class Coverage extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1843485230: /*network*/ visitChild("network", this.network, visitor); break; // CodeableConcept
+        case 3594628: /*unit*/ visitChild("unit", this.unit, visitor); break; // CodeableConcept
+        case 3556460: /*term*/ visitChild("term", this.term, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case 1481625679: /*exception*/ visitChild("exception", this.exception, visitor); break; // ExemptionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("network", this.network, visitor); // CodeableConcept
+        visitChild("unit", this.unit, visitor); // CodeableConcept
+        visitChild("term", this.term, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("exception", this.exception, visitor); // ExemptionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1342,6 +1405,23 @@ public class Coverage extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2486,6 +2566,59 @@ public class Coverage extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FinancialResourceStatusCodes>
+        case 3292052: /*kind*/ visitChild("kind", this.kind, visitor); break; // Enumeration<Kind>
+        case -86519555: /*paymentBy*/ visitChild("paymentBy", this.paymentBy, visitor); break; // CoveragePaymentByComponent
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 2046898558: /*policyHolder*/ visitChild("policyHolder", this.policyHolder, visitor); break; // Reference
+        case -1219769240: /*subscriber*/ visitChild("subscriber", this.subscriber, visitor); break; // Reference
+        case 327834531: /*subscriberId*/ visitChild("subscriberId", this.subscriberId, visitor); break; // Identifier
+        case -565102875: /*beneficiary*/ visitChild("beneficiary", this.beneficiary, visitor); break; // Reference
+        case -1109226753: /*dependent*/ visitChild("dependent", this.dependent, visitor); break; // StringType
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 1957615864: /*insurer*/ visitChild("insurer", this.insurer, visitor); break; // Reference
+        case 94742904: /*class*/ visitChild("class", this.class_, visitor); break; // ClassComponent
+        case 106006350: /*order*/ visitChild("order", this.order, visitor); break; // PositiveIntType
+        case 1843485230: /*network*/ visitChild("network", this.network, visitor); break; // StringType
+        case -1866474851: /*costToBeneficiary*/ visitChild("costToBeneficiary", this.costToBeneficiary, visitor); break; // CostToBeneficiaryComponent
+        case 837389739: /*subrogation*/ visitChild("subrogation", this.subrogation, visitor); break; // BooleanType
+        case -566947566: /*contract*/ visitChild("contract", this.contract, visitor); break; // Reference
+        case 1992141091: /*insurancePlan*/ visitChild("insurancePlan", this.insurancePlan, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<FinancialResourceStatusCodes>
+        visitChild("kind", this.kind, visitor); // Enumeration<Kind>
+        visitChild("paymentBy", this.paymentBy, visitor); // CoveragePaymentByComponent
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("policyHolder", this.policyHolder, visitor); // Reference
+        visitChild("subscriber", this.subscriber, visitor); // Reference
+        visitChild("subscriberId", this.subscriberId, visitor); // Identifier
+        visitChild("beneficiary", this.beneficiary, visitor); // Reference
+        visitChild("dependent", this.dependent, visitor); // StringType
+        visitChild("relationship", this.relationship, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+        visitChild("insurer", this.insurer, visitor); // Reference
+        visitChild("class", this.class_, visitor); // ClassComponent
+        visitChild("order", this.order, visitor); // PositiveIntType
+        visitChild("network", this.network, visitor); // StringType
+        visitChild("costToBeneficiary", this.costToBeneficiary, visitor); // CostToBeneficiaryComponent
+        visitChild("subrogation", this.subrogation, visitor); // BooleanType
+        visitChild("contract", this.contract, visitor); // Reference
+        visitChild("insurancePlan", this.insurancePlan, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -322,6 +322,23 @@ public class CoverageEligibilityRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3648314: /*when*/ visitChild("when", this.when, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("when", this.when, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -624,6 +641,25 @@ public class CoverageEligibilityRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 1968600364: /*information*/ visitChild("information", this.information, visitor); break; // Reference
+        case -1096846342: /*appliesToAll*/ visitChild("appliesToAll", this.appliesToAll, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("information", this.information, visitor); // Reference
+        visitChild("appliesToAll", this.appliesToAll, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -939,6 +975,25 @@ public class CoverageEligibilityRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 97604197: /*focal*/ visitChild("focal", this.focal, visitor); break; // BooleanType
+        case -351767064: /*coverage*/ visitChild("coverage", this.coverage, visitor); break; // Reference
+        case 259920682: /*businessArrangement*/ visitChild("businessArrangement", this.businessArrangement, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("focal", this.focal, visitor); // BooleanType
+        visitChild("coverage", this.coverage, visitor); // Reference
+        visitChild("businessArrangement", this.businessArrangement, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1565,6 +1620,39 @@ public class CoverageEligibilityRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -595860510: /*supportingInfoSequence*/ visitChild("supportingInfoSequence", this.supportingInfoSequence, visitor); break; // PositiveIntType
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case -987494927: /*provider*/ visitChild("provider", this.provider, visitor); break; // Reference
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case 501116579: /*facility*/ visitChild("facility", this.facility, visitor); break; // Reference
+        case 1196993265: /*diagnosis*/ visitChild("diagnosis", this.diagnosis, visitor); break; // DiagnosisComponent
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("supportingInfoSequence", this.supportingInfoSequence, visitor); // PositiveIntType
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("provider", this.provider, visitor); // Reference
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("facility", this.facility, visitor); // Reference
+        visitChild("diagnosis", this.diagnosis, visitor); // DiagnosisComponent
+        visitChild("detail", this.detail, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1904,6 +1992,21 @@ public class CoverageEligibilityRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1196993265: /*diagnosis*/ visitChild("diagnosis", this.diagnosis, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("diagnosis", this.diagnosis, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2816,6 +2919,49 @@ public class CoverageEligibilityRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FinancialResourceStatusCodes>
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // Enumeration<EligibilityRequestPurpose>
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // CoverageEligibilityRequestEventComponent
+        case 1379209295: /*serviced*/ visitChild("serviced", this.serviced, visitor); break; // DataType
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case -1591951995: /*enterer*/ visitChild("enterer", this.enterer, visitor); break; // Reference
+        case -987494927: /*provider*/ visitChild("provider", this.provider, visitor); break; // Reference
+        case 1957615864: /*insurer*/ visitChild("insurer", this.insurer, visitor); break; // Reference
+        case 501116579: /*facility*/ visitChild("facility", this.facility, visitor); break; // Reference
+        case 1922406657: /*supportingInfo*/ visitChild("supportingInfo", this.supportingInfo, visitor); break; // SupportingInformationComponent
+        case 73049818: /*insurance*/ visitChild("insurance", this.insurance, visitor); break; // InsuranceComponent
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // DetailsComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<FinancialResourceStatusCodes>
+        visitChild("priority", this.priority, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // Enumeration<EligibilityRequestPurpose>
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("event", this.event, visitor); // CoverageEligibilityRequestEventComponent
+        visitChild("serviced", this.serviced, visitor); // DataType
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("enterer", this.enterer, visitor); // Reference
+        visitChild("provider", this.provider, visitor); // Reference
+        visitChild("insurer", this.insurer, visitor); // Reference
+        visitChild("facility", this.facility, visitor); // Reference
+        visitChild("supportingInfo", this.supportingInfo, visitor); // SupportingInformationComponent
+        visitChild("insurance", this.insurance, visitor); // InsuranceComponent
+        visitChild("item", this.item, visitor); // DetailsComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -452,6 +452,23 @@ public class CoverageEligibilityResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3648314: /*when*/ visitChild("when", this.when, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("when", this.when, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -795,6 +812,27 @@ public class CoverageEligibilityResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -351767064: /*coverage*/ visitChild("coverage", this.coverage, visitor); break; // Reference
+        case 1945431270: /*inforce*/ visitChild("inforce", this.inforce, visitor); break; // BooleanType
+        case -407369416: /*benefitPeriod*/ visitChild("benefitPeriod", this.benefitPeriod, visitor); break; // Period
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // ItemsComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("coverage", this.coverage, visitor); // Reference
+        visitChild("inforce", this.inforce, visitor); // BooleanType
+        visitChild("benefitPeriod", this.benefitPeriod, visitor); // Period
+        visitChild("item", this.item, visitor); // ItemsComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1658,6 +1696,47 @@ public class CoverageEligibilityResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case -987494927: /*provider*/ visitChild("provider", this.provider, visitor); break; // Reference
+        case 1994055114: /*excluded*/ visitChild("excluded", this.excluded, visitor); break; // BooleanType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 1843485230: /*network*/ visitChild("network", this.network, visitor); break; // CodeableConcept
+        case 3594628: /*unit*/ visitChild("unit", this.unit, visitor); break; // CodeableConcept
+        case 3556460: /*term*/ visitChild("term", this.term, visitor); break; // CodeableConcept
+        case -222710633: /*benefit*/ visitChild("benefit", this.benefit, visitor); break; // BenefitComponent
+        case 374204216: /*authorizationRequired*/ visitChild("authorizationRequired", this.authorizationRequired, visitor); break; // BooleanType
+        case -1931146484: /*authorizationSupporting*/ visitChild("authorizationSupporting", this.authorizationSupporting, visitor); break; // CodeableConcept
+        case 1409445430: /*authorizationUrl*/ visitChild("authorizationUrl", this.authorizationUrl, visitor); break; // UriType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("provider", this.provider, visitor); // Reference
+        visitChild("excluded", this.excluded, visitor); // BooleanType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("network", this.network, visitor); // CodeableConcept
+        visitChild("unit", this.unit, visitor); // CodeableConcept
+        visitChild("term", this.term, visitor); // CodeableConcept
+        visitChild("benefit", this.benefit, visitor); // BenefitComponent
+        visitChild("authorizationRequired", this.authorizationRequired, visitor); // BooleanType
+        visitChild("authorizationSupporting", this.authorizationSupporting, visitor); // CodeableConcept
+        visitChild("authorizationUrl", this.authorizationUrl, visitor); // UriType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2186,6 +2265,25 @@ public class CoverageEligibilityResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -911343192: /*allowed*/ visitChild("allowed", this.allowed, visitor); break; // DataType
+        case 3599293: /*used*/ visitChild("used", this.used, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("allowed", this.allowed, visitor); // DataType
+        visitChild("used", this.used, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2477,6 +2575,23 @@ public class CoverageEligibilityResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("expression", this.expression, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3480,6 +3595,51 @@ public class CoverageEligibilityResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FinancialResourceStatusCodes>
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // Enumeration<EligibilityResponsePurpose>
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // CoverageEligibilityResponseEventComponent
+        case 1379209295: /*serviced*/ visitChild("serviced", this.serviced, visitor); break; // DataType
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case 693934258: /*requestor*/ visitChild("requestor", this.requestor, visitor); break; // Reference
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // Enumeration<EligibilityOutcome>
+        case 583380919: /*disposition*/ visitChild("disposition", this.disposition, visitor); break; // StringType
+        case 1957615864: /*insurer*/ visitChild("insurer", this.insurer, visitor); break; // Reference
+        case 73049818: /*insurance*/ visitChild("insurance", this.insurance, visitor); break; // InsuranceComponent
+        case 522246568: /*preAuthRef*/ visitChild("preAuthRef", this.preAuthRef, visitor); break; // StringType
+        case 3148996: /*form*/ visitChild("form", this.form, visitor); break; // CodeableConcept
+        case 96784904: /*error*/ visitChild("error", this.error, visitor); break; // ErrorsComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<FinancialResourceStatusCodes>
+        visitChild("purpose", this.purpose, visitor); // Enumeration<EligibilityResponsePurpose>
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("event", this.event, visitor); // CoverageEligibilityResponseEventComponent
+        visitChild("serviced", this.serviced, visitor); // DataType
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("requestor", this.requestor, visitor); // Reference
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("outcome", this.outcome, visitor); // Enumeration<EligibilityOutcome>
+        visitChild("disposition", this.disposition, visitor); // StringType
+        visitChild("insurer", this.insurer, visitor); // Reference
+        visitChild("insurance", this.insurance, visitor); // InsuranceComponent
+        visitChild("preAuthRef", this.preAuthRef, visitor); // StringType
+        visitChild("form", this.form, visitor); // CodeableConcept
+        visitChild("error", this.error, visitor); // ErrorsComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
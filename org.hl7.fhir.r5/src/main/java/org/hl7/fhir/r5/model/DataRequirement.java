@@ -598,6 +598,27 @@ public class DataRequirement extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case -553645115: /*searchParam*/ visitChild("searchParam", this.searchParam, visitor); break; // StringType
+        case -1410174671: /*valueSet*/ visitChild("valueSet", this.valueSet, visitor); break; // CanonicalType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Coding
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("searchParam", this.searchParam, visitor); // StringType
+        visitChild("valueSet", this.valueSet, visitor); // CanonicalType
+        visitChild("code", this.code, visitor); // Coding
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -971,6 +992,25 @@ public class DataRequirement extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case -553645115: /*searchParam*/ visitChild("searchParam", this.searchParam, visitor); break; // StringType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("searchParam", this.searchParam, visitor); // StringType
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1396,6 +1436,27 @@ public class DataRequirement extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case -553645115: /*searchParam*/ visitChild("searchParam", this.searchParam, visitor); break; // StringType
+        case -844673834: /*comparator*/ visitChild("comparator", this.comparator, visitor); break; // Enumeration<ValueFilterComparator>
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("searchParam", this.searchParam, visitor); // StringType
+        visitChild("comparator", this.comparator, visitor); // Enumeration<ValueFilterComparator>
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1700,6 +1761,23 @@ public class DataRequirement extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case -962590849: /*direction*/ visitChild("direction", this.direction, visitor); break; // Enumeration<SortDirection>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("direction", this.direction, visitor); // Enumeration<SortDirection>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2431,6 +2509,37 @@ The value of mustSupport SHALL be a FHIRPath resolvable on the type of the DataR
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<FHIRTypes>
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // DataType
+        case -1402857082: /*mustSupport*/ visitChild("mustSupport", this.mustSupport, visitor); break; // StringType
+        case -1303674939: /*codeFilter*/ visitChild("codeFilter", this.codeFilter, visitor); break; // DataRequirementCodeFilterComponent
+        case 149531846: /*dateFilter*/ visitChild("dateFilter", this.dateFilter, visitor); break; // DataRequirementDateFilterComponent
+        case -1807110071: /*valueFilter*/ visitChild("valueFilter", this.valueFilter, visitor); break; // DataRequirementValueFilterComponent
+        case 102976443: /*limit*/ visitChild("limit", this.limit, visitor); break; // PositiveIntType
+        case 3536286: /*sort*/ visitChild("sort", this.sort, visitor); break; // DataRequirementSortComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<FHIRTypes>
+        visitChild("profile", this.profile, visitor); // CanonicalType
+        visitChild("subject", this.subject, visitor); // DataType
+        visitChild("mustSupport", this.mustSupport, visitor); // StringType
+        visitChild("codeFilter", this.codeFilter, visitor); // DataRequirementCodeFilterComponent
+        visitChild("dateFilter", this.dateFilter, visitor); // DataRequirementDateFilterComponent
+        visitChild("valueFilter", this.valueFilter, visitor); // DataRequirementValueFilterComponent
+        visitChild("limit", this.limit, visitor); // PositiveIntType
+        visitChild("sort", this.sort, visitor); // DataRequirementSortComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
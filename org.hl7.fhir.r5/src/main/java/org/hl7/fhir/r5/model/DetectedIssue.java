@@ -455,6 +455,23 @@ public class DetectedIssue extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("detail", this.detail, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -804,6 +821,27 @@ public class DetectedIssue extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // CodeableConcept
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("action", this.action, visitor); // CodeableConcept
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1737,6 +1775,47 @@ public class DetectedIssue extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<DetectedIssueStatus>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 1478300413: /*severity*/ visitChild("severity", this.severity, visitor); break; // Enumeration<DetectedIssueSeverity>
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1618432869: /*identified*/ visitChild("identified", this.identified, visitor); break; // DataType
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case -810216884: /*implicated*/ visitChild("implicated", this.implicated, visitor); break; // Reference
+        case 382967383: /*evidence*/ visitChild("evidence", this.evidence, visitor); break; // DetectedIssueEvidenceComponent
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // MarkdownType
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // UriType
+        case 1293793087: /*mitigation*/ visitChild("mitigation", this.mitigation, visitor); break; // DetectedIssueMitigationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<DetectedIssueStatus>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("severity", this.severity, visitor); // Enumeration<DetectedIssueSeverity>
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("identified", this.identified, visitor); // DataType
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("implicated", this.implicated, visitor); // Reference
+        visitChild("evidence", this.evidence, visitor); // DetectedIssueEvidenceComponent
+        visitChild("detail", this.detail, visitor); // MarkdownType
+        visitChild("reference", this.reference, visitor); // UriType
+        visitChild("mitigation", this.mitigation, visitor); // DetectedIssueMitigationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
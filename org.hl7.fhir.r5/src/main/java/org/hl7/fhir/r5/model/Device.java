@@ -752,6 +752,31 @@ public class Device extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1322005407: /*deviceIdentifier*/ visitChild("deviceIdentifier", this.deviceIdentifier, visitor); break; // StringType
+        case -1179159879: /*issuer*/ visitChild("issuer", this.issuer, visitor); break; // UriType
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // UriType
+        case -768521825: /*carrierAIDC*/ visitChild("carrierAIDC", this.carrierAIDC, visitor); break; // Base64BinaryType
+        case 806499972: /*carrierHRF*/ visitChild("carrierHRF", this.carrierHRF, visitor); break; // StringType
+        case -479362356: /*entryType*/ visitChild("entryType", this.entryType, visitor); break; // Enumeration<UDIEntryType>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("deviceIdentifier", this.deviceIdentifier, visitor); // StringType
+        visitChild("issuer", this.issuer, visitor); // UriType
+        visitChild("jurisdiction", this.jurisdiction, visitor); // UriType
+        visitChild("carrierAIDC", this.carrierAIDC, visitor); // Base64BinaryType
+        visitChild("carrierHRF", this.carrierHRF, visitor); // StringType
+        visitChild("entryType", this.entryType, visitor); // Enumeration<UDIEntryType>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1129,6 +1154,25 @@ public class Device extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<DeviceNameType>
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // StringType
+        visitChild("type", this.type, visitor); // Enumeration<DeviceNameType>
+        visitChild("display", this.display, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1480,6 +1524,27 @@ public class Device extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1399907075: /*component*/ visitChild("component", this.component, visitor); break; // Identifier
+        case 2143044585: /*installDate*/ visitChild("installDate", this.installDate, visitor); break; // DateTimeType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("component", this.component, visitor); // Identifier
+        visitChild("installDate", this.installDate, visitor); // DateTimeType
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1789,6 +1854,25 @@ public class Device extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1307197699: /*specification*/ visitChild("specification", this.specification, visitor); break; // CodeableConcept
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("specification", this.specification, visitor); // CodeableConcept
+        visitChild("version", this.version, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2136,6 +2220,23 @@ public class Device extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4024,6 +4125,83 @@ public class Device extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 1714148973: /*displayName*/ visitChild("displayName", this.displayName, visitor); break; // StringType
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // CodeableReference
+        case -1343558178: /*udiCarrier*/ visitChild("udiCarrier", this.udiCarrier, visitor); break; // DeviceUdiCarrierComponent
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FHIRDeviceStatus>
+        case 804659501: /*availabilityStatus*/ visitChild("availabilityStatus", this.availabilityStatus, visitor); break; // CodeableConcept
+        case -654468482: /*biologicalSourceEvent*/ visitChild("biologicalSourceEvent", this.biologicalSourceEvent, visitor); break; // Identifier
+        case -1969347631: /*manufacturer*/ visitChild("manufacturer", this.manufacturer, visitor); break; // StringType
+        case 416714767: /*manufactureDate*/ visitChild("manufactureDate", this.manufactureDate, visitor); break; // DateTimeType
+        case -668811523: /*expirationDate*/ visitChild("expirationDate", this.expirationDate, visitor); break; // DateTimeType
+        case 462547450: /*lotNumber*/ visitChild("lotNumber", this.lotNumber, visitor); break; // StringType
+        case 83787357: /*serialNumber*/ visitChild("serialNumber", this.serialNumber, visitor); break; // StringType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // DeviceNameComponent
+        case 346619858: /*modelNumber*/ visitChild("modelNumber", this.modelNumber, visitor); break; // StringType
+        case -731502308: /*partNumber*/ visitChild("partNumber", this.partNumber, visitor); break; // StringType
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // DeviceVersionComponent
+        case 1014198088: /*conformsTo*/ visitChild("conformsTo", this.conformsTo, visitor); break; // DeviceConformsToComponent
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // DevicePropertyComponent
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // CodeableConcept
+        case 95131878: /*cycle*/ visitChild("cycle", this.cycle, visitor); break; // Count
+        case -1992012396: /*duration*/ visitChild("duration", this.duration, visitor); break; // Duration
+        case 106164915: /*owner*/ visitChild("owner", this.owner, visitor); break; // Reference
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactPoint
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // Reference
+        case -189118908: /*gateway*/ visitChild("gateway", this.gateway, visitor); break; // CodeableReference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -909893934: /*safety*/ visitChild("safety", this.safety, visitor); break; // CodeableConcept
+        case -995424086: /*parent*/ visitChild("parent", this.parent, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("displayName", this.displayName, visitor); // StringType
+        visitChild("definition", this.definition, visitor); // CodeableReference
+        visitChild("udiCarrier", this.udiCarrier, visitor); // DeviceUdiCarrierComponent
+        visitChild("status", this.status, visitor); // Enumeration<FHIRDeviceStatus>
+        visitChild("availabilityStatus", this.availabilityStatus, visitor); // CodeableConcept
+        visitChild("biologicalSourceEvent", this.biologicalSourceEvent, visitor); // Identifier
+        visitChild("manufacturer", this.manufacturer, visitor); // StringType
+        visitChild("manufactureDate", this.manufactureDate, visitor); // DateTimeType
+        visitChild("expirationDate", this.expirationDate, visitor); // DateTimeType
+        visitChild("lotNumber", this.lotNumber, visitor); // StringType
+        visitChild("serialNumber", this.serialNumber, visitor); // StringType
+        visitChild("name", this.name, visitor); // DeviceNameComponent
+        visitChild("modelNumber", this.modelNumber, visitor); // StringType
+        visitChild("partNumber", this.partNumber, visitor); // StringType
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("version", this.version, visitor); // DeviceVersionComponent
+        visitChild("conformsTo", this.conformsTo, visitor); // DeviceConformsToComponent
+        visitChild("property", this.property, visitor); // DevicePropertyComponent
+        visitChild("mode", this.mode, visitor); // CodeableConcept
+        visitChild("cycle", this.cycle, visitor); // Count
+        visitChild("duration", this.duration, visitor); // Duration
+        visitChild("owner", this.owner, visitor); // Reference
+        visitChild("contact", this.contact, visitor); // ContactPoint
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("endpoint", this.endpoint, visitor); // Reference
+        visitChild("gateway", this.gateway, visitor); // CodeableReference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("safety", this.safety, visitor); // CodeableConcept
+        visitChild("parent", this.parent, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
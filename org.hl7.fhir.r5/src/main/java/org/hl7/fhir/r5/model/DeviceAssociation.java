@@ -223,6 +223,25 @@ public class DeviceAssociation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case -500553564: /*operator*/ visitChild("operator", this.operator, visitor); break; // Reference
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("operator", this.operator, visitor); // Reference
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -817,6 +836,37 @@ public class DeviceAssociation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // Reference
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case -1001731599: /*bodyStructure*/ visitChild("bodyStructure", this.bodyStructure, visitor); break; // Reference
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // DeviceAssociationOperationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("device", this.device, visitor); // Reference
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("statusReason", this.statusReason, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("bodyStructure", this.bodyStructure, visitor); // Reference
+        visitChild("period", this.period, visitor); // Period
+        visitChild("operation", this.operation, visitor); // DeviceAssociationOperationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -712,6 +712,27 @@ public class DeviceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1322005407: /*deviceIdentifier*/ visitChild("deviceIdentifier", this.deviceIdentifier, visitor); break; // StringType
+        case -1179159879: /*issuer*/ visitChild("issuer", this.issuer, visitor); break; // UriType
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // UriType
+        case 530037984: /*marketDistribution*/ visitChild("marketDistribution", this.marketDistribution, visitor); break; // UdiDeviceIdentifierMarketDistributionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("deviceIdentifier", this.deviceIdentifier, visitor); // StringType
+        visitChild("issuer", this.issuer, visitor); // UriType
+        visitChild("jurisdiction", this.jurisdiction, visitor); // UriType
+        visitChild("marketDistribution", this.marketDistribution, visitor); // UdiDeviceIdentifierMarketDistributionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -986,6 +1007,23 @@ public class DeviceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -183772899: /*marketPeriod*/ visitChild("marketPeriod", this.marketPeriod, visitor); break; // Period
+        case -777497119: /*subJurisdiction*/ visitChild("subJurisdiction", this.subJurisdiction, visitor); break; // UriType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("marketPeriod", this.marketPeriod, visitor); // Period
+        visitChild("subJurisdiction", this.subJurisdiction, visitor); // UriType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1363,6 +1401,27 @@ public class DeviceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<DeviceDefinitionRegulatoryIdentifierType>
+        case 1322005407: /*deviceIdentifier*/ visitChild("deviceIdentifier", this.deviceIdentifier, visitor); break; // StringType
+        case -1179159879: /*issuer*/ visitChild("issuer", this.issuer, visitor); break; // UriType
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // UriType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<DeviceDefinitionRegulatoryIdentifierType>
+        visitChild("deviceIdentifier", this.deviceIdentifier, visitor); // StringType
+        visitChild("issuer", this.issuer, visitor); // UriType
+        visitChild("jurisdiction", this.jurisdiction, visitor); // UriType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1662,6 +1721,23 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<DeviceNameType>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("type", this.type, visitor); // Enumeration<DeviceNameType>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1913,6 +1989,23 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1864993522: /*justification*/ visitChild("justification", this.justification, visitor); break; // RelatedArtifact
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("justification", this.justification, visitor); // RelatedArtifact
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2272,6 +2365,27 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1307197699: /*specification*/ visitChild("specification", this.specification, visitor); break; // CodeableConcept
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // RelatedArtifact
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("specification", this.specification, visitor); // CodeableConcept
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("source", this.source, visitor); // RelatedArtifact
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2549,6 +2663,23 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        case 94851343: /*count*/ visitChild("count", this.count, visitor); break; // IntegerType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("reference", this.reference, visitor); // Reference
+        visitChild("count", this.count, visitor); // IntegerType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3004,6 +3135,31 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 94851343: /*count*/ visitChild("count", this.count, visitor); break; // IntegerType
+        case 1334482919: /*distributor*/ visitChild("distributor", this.distributor, visitor); break; // PackagingDistributorComponent
+        case -99121287: /*udiDeviceIdentifier*/ visitChild("udiDeviceIdentifier", this.udiDeviceIdentifier, visitor); break; // DeviceDefinitionUdiDeviceIdentifierComponent
+        case 1802065795: /*packaging*/ visitChild("packaging", this.packaging, visitor); break; // DeviceDefinitionPackagingComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("count", this.count, visitor); // IntegerType
+        visitChild("distributor", this.distributor, visitor); // PackagingDistributorComponent
+        visitChild("udiDeviceIdentifier", this.udiDeviceIdentifier, visitor); // DeviceDefinitionUdiDeviceIdentifierComponent
+        visitChild("packaging", this.packaging, visitor); // DeviceDefinitionPackagingComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3337,6 +3493,23 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 1860475736: /*organizationReference*/ visitChild("organizationReference", this.organizationReference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("organizationReference", this.organizationReference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3616,6 +3789,25 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1399907075: /*component*/ visitChild("component", this.component, visitor); break; // Identifier
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("component", this.component, visitor); // Identifier
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3962,6 +4154,23 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4209,6 +4418,23 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -554436100: /*relation*/ visitChild("relation", this.relation, visitor); break; // Coding
+        case -296314271: /*relatedDevice*/ visitChild("relatedDevice", this.relatedDevice, visitor); break; // CodeableReference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("relation", this.relation, visitor); // Coding
+        visitChild("relatedDevice", this.relatedDevice, visitor); // CodeableReference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4506,6 +4732,25 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 530040176: /*substance*/ visitChild("substance", this.substance, visitor); break; // CodeableConcept
+        case -1408024454: /*alternate*/ visitChild("alternate", this.alternate, visitor); break; // BooleanType
+        case 75406931: /*allergenicIndicator*/ visitChild("allergenicIndicator", this.allergenicIndicator, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("substance", this.substance, visitor); // CodeableConcept
+        visitChild("alternate", this.alternate, visitor); // BooleanType
+        visitChild("allergenicIndicator", this.allergenicIndicator, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5098,6 +5343,33 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case 2138372141: /*usageInstruction*/ visitChild("usageInstruction", this.usageInstruction, visitor); break; // MarkdownType
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case -597168804: /*indication*/ visitChild("indication", this.indication, visitor); break; // CodeableConcept
+        case 107135229: /*contraindication*/ visitChild("contraindication", this.contraindication, visitor); break; // CodeableConcept
+        case 1124446108: /*warning*/ visitChild("warning", this.warning, visitor); break; // CodeableConcept
+        case -1618671268: /*intendedUse*/ visitChild("intendedUse", this.intendedUse, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("usageInstruction", this.usageInstruction, visitor); // MarkdownType
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("indication", this.indication, visitor); // CodeableConcept
+        visitChild("contraindication", this.contraindication, visitor); // CodeableConcept
+        visitChild("warning", this.warning, visitor); // CodeableConcept
+        visitChild("intendedUse", this.intendedUse, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5488,6 +5760,25 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -934922479: /*recall*/ visitChild("recall", this.recall, visitor); break; // BooleanType
+        case 109264468: /*scope*/ visitChild("scope", this.scope, visitor); break; // Enumeration<DeviceCorrectiveActionScope>
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("recall", this.recall, visitor); // BooleanType
+        visitChild("scope", this.scope, visitor); // Enumeration<DeviceCorrectiveActionScope>
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5822,6 +6113,27 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -2001375628: /*chargeItemCode*/ visitChild("chargeItemCode", this.chargeItemCode, visitor); break; // CodeableReference
+        case 94851343: /*count*/ visitChild("count", this.count, visitor); break; // Quantity
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("chargeItemCode", this.chargeItemCode, visitor); // CodeableReference
+        visitChild("count", this.count, visitor); // Quantity
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -7518,6 +7830,71 @@ RegisteredName | UserFriendlyName | PatientReportedName.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -99121287: /*udiDeviceIdentifier*/ visitChild("udiDeviceIdentifier", this.udiDeviceIdentifier, visitor); break; // DeviceDefinitionUdiDeviceIdentifierComponent
+        case 455683425: /*regulatoryIdentifier*/ visitChild("regulatoryIdentifier", this.regulatoryIdentifier, visitor); break; // DeviceDefinitionRegulatoryIdentifierComponent
+        case -731502308: /*partNumber*/ visitChild("partNumber", this.partNumber, visitor); break; // StringType
+        case -1969347631: /*manufacturer*/ visitChild("manufacturer", this.manufacturer, visitor); break; // Reference
+        case 780988929: /*deviceName*/ visitChild("deviceName", this.deviceName, visitor); break; // DeviceDefinitionDeviceNameComponent
+        case 346619858: /*modelNumber*/ visitChild("modelNumber", this.modelNumber, visitor); break; // StringType
+        case 382350310: /*classification*/ visitChild("classification", this.classification, visitor); break; // DeviceDefinitionClassificationComponent
+        case 1014198088: /*conformsTo*/ visitChild("conformsTo", this.conformsTo, visitor); break; // DeviceDefinitionConformsToComponent
+        case 696815021: /*hasPart*/ visitChild("hasPart", this.hasPart, visitor); break; // DeviceDefinitionHasPartComponent
+        case 1802065795: /*packaging*/ visitChild("packaging", this.packaging, visitor); break; // DeviceDefinitionPackagingComponent
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // DeviceDefinitionVersionComponent
+        case -909893934: /*safety*/ visitChild("safety", this.safety, visitor); break; // CodeableConcept
+        case 172049237: /*shelfLifeStorage*/ visitChild("shelfLifeStorage", this.shelfLifeStorage, visitor); break; // ProductShelfLife
+        case -2092349083: /*languageCode*/ visitChild("languageCode", this.languageCode, visitor); break; // CodeableConcept
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // DeviceDefinitionPropertyComponent
+        case 106164915: /*owner*/ visitChild("owner", this.owner, visitor); break; // Reference
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactPoint
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // DeviceDefinitionLinkComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 299066663: /*material*/ visitChild("material", this.material, visitor); break; // DeviceDefinitionMaterialComponent
+        case 312405811: /*productionIdentifierInUDI*/ visitChild("productionIdentifierInUDI", this.productionIdentifierInUDI, visitor); break; // Enumeration<DeviceProductionIdentifierInUDI>
+        case -2075718416: /*guideline*/ visitChild("guideline", this.guideline, visitor); break; // DeviceDefinitionGuidelineComponent
+        case 1354575876: /*correctiveAction*/ visitChild("correctiveAction", this.correctiveAction, visitor); break; // DeviceDefinitionCorrectiveActionComponent
+        case 1417779175: /*chargeItem*/ visitChild("chargeItem", this.chargeItem, visitor); break; // DeviceDefinitionChargeItemComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("udiDeviceIdentifier", this.udiDeviceIdentifier, visitor); // DeviceDefinitionUdiDeviceIdentifierComponent
+        visitChild("regulatoryIdentifier", this.regulatoryIdentifier, visitor); // DeviceDefinitionRegulatoryIdentifierComponent
+        visitChild("partNumber", this.partNumber, visitor); // StringType
+        visitChild("manufacturer", this.manufacturer, visitor); // Reference
+        visitChild("deviceName", this.deviceName, visitor); // DeviceDefinitionDeviceNameComponent
+        visitChild("modelNumber", this.modelNumber, visitor); // StringType
+        visitChild("classification", this.classification, visitor); // DeviceDefinitionClassificationComponent
+        visitChild("conformsTo", this.conformsTo, visitor); // DeviceDefinitionConformsToComponent
+        visitChild("hasPart", this.hasPart, visitor); // DeviceDefinitionHasPartComponent
+        visitChild("packaging", this.packaging, visitor); // DeviceDefinitionPackagingComponent
+        visitChild("version", this.version, visitor); // DeviceDefinitionVersionComponent
+        visitChild("safety", this.safety, visitor); // CodeableConcept
+        visitChild("shelfLifeStorage", this.shelfLifeStorage, visitor); // ProductShelfLife
+        visitChild("languageCode", this.languageCode, visitor); // CodeableConcept
+        visitChild("property", this.property, visitor); // DeviceDefinitionPropertyComponent
+        visitChild("owner", this.owner, visitor); // Reference
+        visitChild("contact", this.contact, visitor); // ContactPoint
+        visitChild("link", this.link, visitor); // DeviceDefinitionLinkComponent
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("material", this.material, visitor); // DeviceDefinitionMaterialComponent
+        visitChild("productionIdentifierInUDI", this.productionIdentifierInUDI, visitor); // Enumeration<DeviceProductionIdentifierInUDI>
+        visitChild("guideline", this.guideline, visitor); // DeviceDefinitionGuidelineComponent
+        visitChild("correctiveAction", this.correctiveAction, visitor); // DeviceDefinitionCorrectiveActionComponent
+        visitChild("chargeItem", this.chargeItem, visitor); // DeviceDefinitionChargeItemComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -370,6 +370,23 @@ public class DeviceDispense extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1566,6 +1583,61 @@ public class DeviceDispense extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<DeviceDispenseStatusCodes>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableReference
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // CodeableReference
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case -808719889: /*receiver*/ visitChild("receiver", this.receiver, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1248768647: /*supportingInformation*/ visitChild("supportingInformation", this.supportingInformation, visitor); break; // Reference
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // DeviceDispensePerformerComponent
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -2024959605: /*preparedDate*/ visitChild("preparedDate", this.preparedDate, visitor); break; // DateTimeType
+        case -940241380: /*whenHandedOver*/ visitChild("whenHandedOver", this.whenHandedOver, visitor); break; // DateTimeType
+        case -1429847026: /*destination*/ visitChild("destination", this.destination, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 2138372141: /*usageInstruction*/ visitChild("usageInstruction", this.usageInstruction, visitor); break; // MarkdownType
+        case 1835190426: /*eventHistory*/ visitChild("eventHistory", this.eventHistory, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<DeviceDispenseStatusCodes>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableReference
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("device", this.device, visitor); // CodeableReference
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("receiver", this.receiver, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("supportingInformation", this.supportingInformation, visitor); // Reference
+        visitChild("performer", this.performer, visitor); // DeviceDispensePerformerComponent
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("preparedDate", this.preparedDate, visitor); // DateTimeType
+        visitChild("whenHandedOver", this.whenHandedOver, visitor); // DateTimeType
+        visitChild("destination", this.destination, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("usageInstruction", this.usageInstruction, visitor); // MarkdownType
+        visitChild("eventHistory", this.eventHistory, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -783,6 +783,25 @@ public class DeviceMetric extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<DeviceMetricCalibrationType>
+        case 109757585: /*state*/ visitChild("state", this.state, visitor); break; // Enumeration<DeviceMetricCalibrationState>
+        case 3560141: /*time*/ visitChild("time", this.time, visitor); break; // InstantType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<DeviceMetricCalibrationType>
+        visitChild("state", this.state, visitor); // Enumeration<DeviceMetricCalibrationState>
+        visitChild("time", this.time, visitor); // InstantType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1394,6 +1413,37 @@ public class DeviceMetric extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3594628: /*unit*/ visitChild("unit", this.unit, visitor); break; // CodeableConcept
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // Reference
+        case -2103166364: /*operationalStatus*/ visitChild("operationalStatus", this.operationalStatus, visitor); break; // Enumeration<DeviceMetricOperationalStatus>
+        case 94842723: /*color*/ visitChild("color", this.color, visitor); break; // CodeType
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // Enumeration<DeviceMetricCategory>
+        case 1766341888: /*measurementFrequency*/ visitChild("measurementFrequency", this.measurementFrequency, visitor); break; // Quantity
+        case 1421318634: /*calibration*/ visitChild("calibration", this.calibration, visitor); break; // DeviceMetricCalibrationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("unit", this.unit, visitor); // CodeableConcept
+        visitChild("device", this.device, visitor); // Reference
+        visitChild("operationalStatus", this.operationalStatus, visitor); // Enumeration<DeviceMetricOperationalStatus>
+        visitChild("color", this.color, visitor); // CodeType
+        visitChild("category", this.category, visitor); // Enumeration<DeviceMetricCategory>
+        visitChild("measurementFrequency", this.measurementFrequency, visitor); // Quantity
+        visitChild("calibration", this.calibration, visitor); // DeviceMetricCalibrationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
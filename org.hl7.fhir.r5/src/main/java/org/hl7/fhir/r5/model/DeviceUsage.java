@@ -370,6 +370,23 @@ public class DeviceUsage extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1401,6 +1418,53 @@ public class DeviceUsage extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<DeviceUsageStatus>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 1077922663: /*derivedFrom*/ visitChild("derivedFrom", this.derivedFrom, visitor); break; // Reference
+        case 951530927: /*context*/ visitChild("context", this.context, visitor); break; // Reference
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // DataType
+        case -1980855245: /*dateAsserted*/ visitChild("dateAsserted", this.dateAsserted, visitor); break; // DateTimeType
+        case 907197683: /*usageStatus*/ visitChild("usageStatus", this.usageStatus, visitor); break; // CodeableConcept
+        case 864714565: /*usageReason*/ visitChild("usageReason", this.usageReason, visitor); break; // CodeableConcept
+        case -231003683: /*adherence*/ visitChild("adherence", this.adherence, visitor); break; // DeviceUsageAdherenceComponent
+        case -2123220889: /*informationSource*/ visitChild("informationSource", this.informationSource, visitor); break; // Reference
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // CodeableReference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableReference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<DeviceUsageStatus>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("derivedFrom", this.derivedFrom, visitor); // Reference
+        visitChild("context", this.context, visitor); // Reference
+        visitChild("timing", this.timing, visitor); // DataType
+        visitChild("dateAsserted", this.dateAsserted, visitor); // DateTimeType
+        visitChild("usageStatus", this.usageStatus, visitor); // CodeableConcept
+        visitChild("usageReason", this.usageReason, visitor); // CodeableConcept
+        visitChild("adherence", this.adherence, visitor); // DeviceUsageAdherenceComponent
+        visitChild("informationSource", this.informationSource, visitor); // Reference
+        visitChild("device", this.device, visitor); // CodeableReference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("bodySite", this.bodySite, visitor); // CodeableReference
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
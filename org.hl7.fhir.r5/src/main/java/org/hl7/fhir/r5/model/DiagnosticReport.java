@@ -404,6 +404,23 @@ public class DiagnosticReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("reference", this.reference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -649,6 +666,23 @@ public class DiagnosticReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // StringType
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("comment", this.comment, visitor); // StringType
+        visitChild("link", this.link, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1995,6 +2029,61 @@ public class DiagnosticReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<DiagnosticReportStatus>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1468651097: /*effective*/ visitChild("effective", this.effective, visitor); break; // DataType
+        case -1179159893: /*issued*/ visitChild("issued", this.issued, visitor); break; // InstantType
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // Reference
+        case 2134944932: /*resultsInterpreter*/ visitChild("resultsInterpreter", this.resultsInterpreter, visitor); break; // Reference
+        case -2132868344: /*specimen*/ visitChild("specimen", this.specimen, visitor); break; // Reference
+        case -934426595: /*result*/ visitChild("result", this.result, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 109776329: /*study*/ visitChild("study", this.study, visitor); break; // Reference
+        case 1922406657: /*supportingInfo*/ visitChild("supportingInfo", this.supportingInfo, visitor); break; // DiagnosticReportSupportingInfoComponent
+        case 103772132: /*media*/ visitChild("media", this.media, visitor); break; // DiagnosticReportMediaComponent
+        case -838923862: /*composition*/ visitChild("composition", this.composition, visitor); break; // Reference
+        case -1731259873: /*conclusion*/ visitChild("conclusion", this.conclusion, visitor); break; // MarkdownType
+        case -1731523412: /*conclusionCode*/ visitChild("conclusionCode", this.conclusionCode, visitor); break; // CodeableConcept
+        case 230090366: /*presentedForm*/ visitChild("presentedForm", this.presentedForm, visitor); break; // Attachment
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<DiagnosticReportStatus>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("effective", this.effective, visitor); // DataType
+        visitChild("issued", this.issued, visitor); // InstantType
+        visitChild("performer", this.performer, visitor); // Reference
+        visitChild("resultsInterpreter", this.resultsInterpreter, visitor); // Reference
+        visitChild("specimen", this.specimen, visitor); // Reference
+        visitChild("result", this.result, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("study", this.study, visitor); // Reference
+        visitChild("supportingInfo", this.supportingInfo, visitor); // DiagnosticReportSupportingInfoComponent
+        visitChild("media", this.media, visitor); // DiagnosticReportMediaComponent
+        visitChild("composition", this.composition, visitor); // Reference
+        visitChild("conclusion", this.conclusion, visitor); // MarkdownType
+        visitChild("conclusionCode", this.conclusionCode, visitor); // CodeableConcept
+        visitChild("presentedForm", this.presentedForm, visitor); // Attachment
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -334,6 +334,25 @@ public class DocumentReference extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // CodeableConcept
+        case 3560141: /*time*/ visitChild("time", this.time, visitor); break; // DateTimeType
+        case 106437350: /*party*/ visitChild("party", this.party, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("mode", this.mode, visitor); // CodeableConcept
+        visitChild("time", this.time, visitor); // DateTimeType
+        visitChild("party", this.party, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -570,6 +589,23 @@ public class DocumentReference extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("target", this.target, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -819,6 +855,23 @@ public class DocumentReference extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1963501277: /*attachment*/ visitChild("attachment", this.attachment, visitor); break; // Attachment
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // DocumentReferenceContentProfileComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("attachment", this.attachment, visitor); // Attachment
+        visitChild("profile", this.profile, visitor); // DocumentReferenceContentProfileComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1055,6 +1108,21 @@ public class DocumentReference extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2462,6 +2530,65 @@ public class DocumentReference extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<DocumentReferenceStatus>
+        case -23496886: /*docStatus*/ visitChild("docStatus", this.docStatus, visitor); break; // Enumeration<CompositionStatus>
+        case -622722335: /*modality*/ visitChild("modality", this.modality, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 951530927: /*context*/ visitChild("context", this.context, visitor); break; // Reference
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // CodeableReference
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableReference
+        case 370698365: /*facilityType*/ visitChild("facilityType", this.facilityType, visitor); break; // CodeableConcept
+        case 331373717: /*practiceSetting*/ visitChild("practiceSetting", this.practiceSetting, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // InstantType
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case 542920370: /*attester*/ visitChild("attester", this.attester, visitor); break; // DocumentReferenceAttesterComponent
+        case 1611297262: /*custodian*/ visitChild("custodian", this.custodian, visitor); break; // Reference
+        case -7765931: /*relatesTo*/ visitChild("relatesTo", this.relatesTo, visitor); break; // DocumentReferenceRelatesToComponent
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -722296940: /*securityLabel*/ visitChild("securityLabel", this.securityLabel, visitor); break; // CodeableConcept
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // DocumentReferenceContentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<DocumentReferenceStatus>
+        visitChild("docStatus", this.docStatus, visitor); // Enumeration<CompositionStatus>
+        visitChild("modality", this.modality, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("context", this.context, visitor); // Reference
+        visitChild("event", this.event, visitor); // CodeableReference
+        visitChild("bodySite", this.bodySite, visitor); // CodeableReference
+        visitChild("facilityType", this.facilityType, visitor); // CodeableConcept
+        visitChild("practiceSetting", this.practiceSetting, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+        visitChild("date", this.date, visitor); // InstantType
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("attester", this.attester, visitor); // DocumentReferenceAttesterComponent
+        visitChild("custodian", this.custodian, visitor); // Reference
+        visitChild("relatesTo", this.relatesTo, visitor); // DocumentReferenceRelatesToComponent
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("securityLabel", this.securityLabel, visitor); // CodeableConcept
+        visitChild("content", this.content, visitor); // DocumentReferenceContentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
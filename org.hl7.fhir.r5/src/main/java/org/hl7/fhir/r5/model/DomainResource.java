@@ -269,6 +269,27 @@ Modifier extensions SHALL NOT change the meaning of any elements on Resource or
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // Narrative
+        case -410956685: /*contained*/ visitChild("contained", this.contained, visitor); break; // Resource
+        case -612557761: /*extension*/ visitChild("extension", this.extension, visitor); break; // Extension
+        case -298878168: /*modifierExtension*/ visitChild("modifierExtension", this.modifierExtension, visitor); break; // Extension
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("text", this.text, visitor); // Narrative
+        visitChild("contained", this.contained, visitor); // Resource
+        visitChild("extension", this.extension, visitor); // Extension
+        visitChild("modifierExtension", this.modifierExtension, visitor); // Extension
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -261,6 +261,25 @@ public class Dosage extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3089437: /*dose*/ visitChild("dose", this.dose, visitor); break; // DataType
+        case 3493088: /*rate*/ visitChild("rate", this.rate, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("dose", this.dose, visitor); // DataType
+        visitChild("rate", this.rate, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1121,6 +1140,47 @@ public class Dosage extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // IntegerType
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case 1623641575: /*additionalInstruction*/ visitChild("additionalInstruction", this.additionalInstruction, visitor); break; // CodeableConcept
+        case 737543241: /*patientInstruction*/ visitChild("patientInstruction", this.patientInstruction, visitor); break; // StringType
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // Timing
+        case -1432923513: /*asNeeded*/ visitChild("asNeeded", this.asNeeded, visitor); break; // BooleanType
+        case -544350014: /*asNeededFor*/ visitChild("asNeededFor", this.asNeededFor, visitor); break; // CodeableConcept
+        case 3530567: /*site*/ visitChild("site", this.site, visitor); break; // CodeableConcept
+        case 108704329: /*route*/ visitChild("route", this.route, visitor); break; // CodeableConcept
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // CodeableConcept
+        case -611024774: /*doseAndRate*/ visitChild("doseAndRate", this.doseAndRate, visitor); break; // DosageDoseAndRateComponent
+        case 1506263709: /*maxDosePerPeriod*/ visitChild("maxDosePerPeriod", this.maxDosePerPeriod, visitor); break; // Ratio
+        case 2004889914: /*maxDosePerAdministration*/ visitChild("maxDosePerAdministration", this.maxDosePerAdministration, visitor); break; // Quantity
+        case 642099621: /*maxDosePerLifetime*/ visitChild("maxDosePerLifetime", this.maxDosePerLifetime, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // IntegerType
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("additionalInstruction", this.additionalInstruction, visitor); // CodeableConcept
+        visitChild("patientInstruction", this.patientInstruction, visitor); // StringType
+        visitChild("timing", this.timing, visitor); // Timing
+        visitChild("asNeeded", this.asNeeded, visitor); // BooleanType
+        visitChild("asNeededFor", this.asNeededFor, visitor); // CodeableConcept
+        visitChild("site", this.site, visitor); // CodeableConcept
+        visitChild("route", this.route, visitor); // CodeableConcept
+        visitChild("method", this.method, visitor); // CodeableConcept
+        visitChild("doseAndRate", this.doseAndRate, visitor); // DosageDoseAndRateComponent
+        visitChild("maxDosePerPeriod", this.maxDosePerPeriod, visitor); // Ratio
+        visitChild("maxDosePerAdministration", this.maxDosePerAdministration, visitor); // Quantity
+        visitChild("maxDosePerLifetime", this.maxDosePerLifetime, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
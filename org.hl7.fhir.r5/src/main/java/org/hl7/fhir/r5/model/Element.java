@@ -207,6 +207,22 @@ public abstract class Element extends Base implements IBaseHasExtensions, IBaseE
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3355: /*id*/ visitChild("id", this.id, visitor); break; // StringType
+        case -612557761: /*extension*/ visitChild("extension", this.extension, visitor); break; // Extension
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        visitChild("id", this.id, visitor); // StringType
+        visitChild("extension", this.extension, visitor); // Extension
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1303,6 +1303,27 @@ public class ElementDefinition extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1888270692: /*discriminator*/ visitChild("discriminator", this.discriminator, visitor); break; // ElementDefinitionSlicingDiscriminatorComponent
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1207109523: /*ordered*/ visitChild("ordered", this.ordered, visitor); break; // BooleanType
+        case 108873975: /*rules*/ visitChild("rules", this.rules, visitor); break; // Enumeration<SlicingRules>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("discriminator", this.discriminator, visitor); // ElementDefinitionSlicingDiscriminatorComponent
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("ordered", this.ordered, visitor); // BooleanType
+        visitChild("rules", this.rules, visitor); // Enumeration<SlicingRules>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1606,6 +1627,23 @@ public class ElementDefinition extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<DiscriminatorType>
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<DiscriminatorType>
+        visitChild("path", this.path, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1931,6 +1969,25 @@ public class ElementDefinition extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case 108114: /*min*/ visitChild("min", this.min, visitor); break; // UnsignedIntType
+        case 107876: /*max*/ visitChild("max", this.max, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("min", this.min, visitor); // UnsignedIntType
+        visitChild("max", this.max, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2426,6 +2483,29 @@ public class ElementDefinition extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // UriType
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+        case 1994521304: /*targetProfile*/ visitChild("targetProfile", this.targetProfile, visitor); break; // CanonicalType
+        case 841524962: /*aggregation*/ visitChild("aggregation", this.aggregation, visitor); break; // Enumeration<AggregationMode>
+        case -670487542: /*versioning*/ visitChild("versioning", this.versioning, visitor); break; // Enumeration<ReferenceVersionRules>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // UriType
+        visitChild("profile", this.profile, visitor); // CanonicalType
+        visitChild("targetProfile", this.targetProfile, visitor); // CanonicalType
+        visitChild("aggregation", this.aggregation, visitor); // Enumeration<AggregationMode>
+        visitChild("versioning", this.versioning, visitor); // Enumeration<ReferenceVersionRules>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3675,6 +3755,23 @@ public boolean hasTarget() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 102727412: /*label*/ visitChild("label", this.label, visitor); break; // StringType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("label", this.label, visitor); // StringType
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4439,6 +4536,33 @@ public boolean hasTarget() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 106079: /*key*/ visitChild("key", this.key, visitor); break; // IdType
+        case -1619874672: /*requirements*/ visitChild("requirements", this.requirements, visitor); break; // MarkdownType
+        case 1478300413: /*severity*/ visitChild("severity", this.severity, visitor); break; // Enumeration<ConstraintSeverity>
+        case -1663129931: /*suppress*/ visitChild("suppress", this.suppress, visitor); break; // BooleanType
+        case 99639597: /*human*/ visitChild("human", this.human, visitor); break; // StringType
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("key", this.key, visitor); // IdType
+        visitChild("requirements", this.requirements, visitor); // MarkdownType
+        visitChild("severity", this.severity, visitor); // Enumeration<ConstraintSeverity>
+        visitChild("suppress", this.suppress, visitor); // BooleanType
+        visitChild("human", this.human, visitor); // StringType
+        visitChild("expression", this.expression, visitor); // StringType
+        visitChild("source", this.source, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4904,6 +5028,27 @@ public boolean hasTarget() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1791316033: /*strength*/ visitChild("strength", this.strength, visitor); break; // Enumeration<BindingStrength>
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -1410174671: /*valueSet*/ visitChild("valueSet", this.valueSet, visitor); break; // CanonicalType
+        case -1931413465: /*additional*/ visitChild("additional", this.additional, visitor); break; // ElementDefinitionBindingAdditionalComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("strength", this.strength, visitor); // Enumeration<BindingStrength>
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("valueSet", this.valueSet, visitor); // CanonicalType
+        visitChild("additional", this.additional, visitor); // ElementDefinitionBindingAdditionalComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5449,6 +5594,31 @@ public boolean hasTarget() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // Enumeration<AdditionalBindingPurposeVS>
+        case -1410174671: /*valueSet*/ visitChild("valueSet", this.valueSet, visitor); break; // CanonicalType
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // MarkdownType
+        case -2028503853: /*shortDoco*/ visitChild("shortDoco", this.shortDoco, visitor); break; // StringType
+        case 111574433: /*usage*/ visitChild("usage", this.usage, visitor); break; // UsageContext
+        case 96748: /*any*/ visitChild("any", this.any, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("purpose", this.purpose, visitor); // Enumeration<AdditionalBindingPurposeVS>
+        visitChild("valueSet", this.valueSet, visitor); // CanonicalType
+        visitChild("documentation", this.documentation, visitor); // MarkdownType
+        visitChild("shortDoco", this.shortDoco, visitor); // StringType
+        visitChild("usage", this.usage, visitor); // UsageContext
+        visitChild("any", this.any, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5897,6 +6067,27 @@ public boolean hasTarget() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -135761730: /*identity*/ visitChild("identity", this.identity, visitor); break; // IdType
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeType
+        case 107868: /*map*/ visitChild("map", this.map, visitor); break; // StringType
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identity", this.identity, visitor); // IdType
+        visitChild("language", this.language, visitor); // CodeType
+        visitChild("map", this.map, visitor); // StringType
+        visitChild("comment", this.comment, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -11622,6 +11813,91 @@ If a pattern[x] is declared on a repeating element, the pattern applies to all r
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case -671065907: /*representation*/ visitChild("representation", this.representation, visitor); break; // Enumeration<PropertyRepresentation>
+        case -825289923: /*sliceName*/ visitChild("sliceName", this.sliceName, visitor); break; // StringType
+        case 333040519: /*sliceIsConstraining*/ visitChild("sliceIsConstraining", this.sliceIsConstraining, visitor); break; // BooleanType
+        case 102727412: /*label*/ visitChild("label", this.label, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Coding
+        case -2119287345: /*slicing*/ visitChild("slicing", this.slicing, visitor); break; // ElementDefinitionSlicingComponent
+        case 109413500: /*short*/ visitChild("short", this.short_, visitor); break; // StringType
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // MarkdownType
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // MarkdownType
+        case -1619874672: /*requirements*/ visitChild("requirements", this.requirements, visitor); break; // MarkdownType
+        case 92902992: /*alias*/ visitChild("alias", this.alias, visitor); break; // StringType
+        case 108114: /*min*/ visitChild("min", this.min, visitor); break; // UnsignedIntType
+        case 107876: /*max*/ visitChild("max", this.max, visitor); break; // StringType
+        case 3016401: /*base*/ visitChild("base", this.base, visitor); break; // ElementDefinitionBaseComponent
+        case 1193747154: /*contentReference*/ visitChild("contentReference", this.contentReference, visitor); break; // UriType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // TypeRefComponent
+        case -659125328: /*defaultValue*/ visitChild("defaultValue", this.defaultValue, visitor); break; // DataType
+        case 1857257103: /*meaningWhenMissing*/ visitChild("meaningWhenMissing", this.meaningWhenMissing, visitor); break; // MarkdownType
+        case 1828196047: /*orderMeaning*/ visitChild("orderMeaning", this.orderMeaning, visitor); break; // StringType
+        case 97445748: /*fixed*/ visitChild("fixed", this.fixed, visitor); break; // DataType
+        case -791090288: /*pattern*/ visitChild("pattern", this.pattern, visitor); break; // DataType
+        case -1322970774: /*example*/ visitChild("example", this.example, visitor); break; // ElementDefinitionExampleComponent
+        case -1376969153: /*minValue*/ visitChild("minValue", this.minValue, visitor); break; // DataType
+        case 399227501: /*maxValue*/ visitChild("maxValue", this.maxValue, visitor); break; // DataType
+        case -791400086: /*maxLength*/ visitChild("maxLength", this.maxLength, visitor); break; // IntegerType
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // IdType
+        case -190376483: /*constraint*/ visitChild("constraint", this.constraint, visitor); break; // ElementDefinitionConstraintComponent
+        case -923694880: /*mustHaveValue*/ visitChild("mustHaveValue", this.mustHaveValue, visitor); break; // BooleanType
+        case -2124672393: /*valueAlternatives*/ visitChild("valueAlternatives", this.valueAlternatives, visitor); break; // CanonicalType
+        case -1402857082: /*mustSupport*/ visitChild("mustSupport", this.mustSupport, visitor); break; // BooleanType
+        case -1408783839: /*isModifier*/ visitChild("isModifier", this.isModifier, visitor); break; // BooleanType
+        case -1854387259: /*isModifierReason*/ visitChild("isModifierReason", this.isModifierReason, visitor); break; // StringType
+        case 1857548060: /*isSummary*/ visitChild("isSummary", this.isSummary, visitor); break; // BooleanType
+        case -108220795: /*binding*/ visitChild("binding", this.binding, visitor); break; // ElementDefinitionBindingComponent
+        case 837556430: /*mapping*/ visitChild("mapping", this.mapping, visitor); break; // ElementDefinitionMappingComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("representation", this.representation, visitor); // Enumeration<PropertyRepresentation>
+        visitChild("sliceName", this.sliceName, visitor); // StringType
+        visitChild("sliceIsConstraining", this.sliceIsConstraining, visitor); // BooleanType
+        visitChild("label", this.label, visitor); // StringType
+        visitChild("code", this.code, visitor); // Coding
+        visitChild("slicing", this.slicing, visitor); // ElementDefinitionSlicingComponent
+        visitChild("short", this.short_, visitor); // StringType
+        visitChild("definition", this.definition, visitor); // MarkdownType
+        visitChild("comment", this.comment, visitor); // MarkdownType
+        visitChild("requirements", this.requirements, visitor); // MarkdownType
+        visitChild("alias", this.alias, visitor); // StringType
+        visitChild("min", this.min, visitor); // UnsignedIntType
+        visitChild("max", this.max, visitor); // StringType
+        visitChild("base", this.base, visitor); // ElementDefinitionBaseComponent
+        visitChild("contentReference", this.contentReference, visitor); // UriType
+        visitChild("type", this.type, visitor); // TypeRefComponent
+        visitChild("defaultValue", this.defaultValue, visitor); // DataType
+        visitChild("meaningWhenMissing", this.meaningWhenMissing, visitor); // MarkdownType
+        visitChild("orderMeaning", this.orderMeaning, visitor); // StringType
+        visitChild("fixed", this.fixed, visitor); // DataType
+        visitChild("pattern", this.pattern, visitor); // DataType
+        visitChild("example", this.example, visitor); // ElementDefinitionExampleComponent
+        visitChild("minValue", this.minValue, visitor); // DataType
+        visitChild("maxValue", this.maxValue, visitor); // DataType
+        visitChild("maxLength", this.maxLength, visitor); // IntegerType
+        visitChild("condition", this.condition, visitor); // IdType
+        visitChild("constraint", this.constraint, visitor); // ElementDefinitionConstraintComponent
+        visitChild("mustHaveValue", this.mustHaveValue, visitor); // BooleanType
+        visitChild("valueAlternatives", this.valueAlternatives, visitor); // CanonicalType
+        visitChild("mustSupport", this.mustSupport, visitor); // BooleanType
+        visitChild("isModifier", this.isModifier, visitor); // BooleanType
+        visitChild("isModifierReason", this.isModifierReason, visitor); // StringType
+        visitChild("isSummary", this.isSummary, visitor); // BooleanType
+        visitChild("binding", this.binding, visitor); // ElementDefinitionBindingComponent
+        visitChild("mapping", this.mapping, visitor); // ElementDefinitionMappingComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
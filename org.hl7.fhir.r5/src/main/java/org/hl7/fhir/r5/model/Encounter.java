@@ -346,6 +346,25 @@ public class Encounter extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -636,6 +655,23 @@ public class Encounter extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // CodeableReference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("use", this.use, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // CodeableReference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -914,6 +950,23 @@ public class Encounter extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // CodeableReference
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("condition", this.condition, visitor); // CodeableReference
+        visitChild("use", this.use, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1271,6 +1324,31 @@ public class Encounter extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -965394961: /*preAdmissionIdentifier*/ visitChild("preAdmissionIdentifier", this.preAdmissionIdentifier, visitor); break; // Identifier
+        case -1008619738: /*origin*/ visitChild("origin", this.origin, visitor); break; // Reference
+        case 538887120: /*admitSource*/ visitChild("admitSource", this.admitSource, visitor); break; // CodeableConcept
+        case 669348630: /*reAdmission*/ visitChild("reAdmission", this.reAdmission, visitor); break; // CodeableConcept
+        case -1429847026: /*destination*/ visitChild("destination", this.destination, visitor); break; // Reference
+        case 528065941: /*dischargeDisposition*/ visitChild("dischargeDisposition", this.dischargeDisposition, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("preAdmissionIdentifier", this.preAdmissionIdentifier, visitor); // Identifier
+        visitChild("origin", this.origin, visitor); // Reference
+        visitChild("admitSource", this.admitSource, visitor); // CodeableConcept
+        visitChild("reAdmission", this.reAdmission, visitor); // CodeableConcept
+        visitChild("destination", this.destination, visitor); // Reference
+        visitChild("dischargeDisposition", this.dischargeDisposition, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1646,6 +1724,27 @@ public class Encounter extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<EncounterLocationStatus>
+        case 3148996: /*form*/ visitChild("form", this.form, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<EncounterLocationStatus>
+        visitChild("form", this.form, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3365,6 +3464,75 @@ This does not describe the event of admitting the patient, but rather any inform
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<EncounterStatus>
+        case 94742904: /*class*/ visitChild("class", this.class_, visitor); break; // CodeableConcept
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1928370289: /*serviceType*/ visitChild("serviceType", this.serviceType, visitor); break; // CodeableReference
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 110854206: /*subjectStatus*/ visitChild("subjectStatus", this.subjectStatus, visitor); break; // CodeableConcept
+        case -1892140189: /*episodeOfCare*/ visitChild("episodeOfCare", this.episodeOfCare, visitor); break; // Reference
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -7323378: /*careTeam*/ visitChild("careTeam", this.careTeam, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case 243182534: /*serviceProvider*/ visitChild("serviceProvider", this.serviceProvider, visitor); break; // Reference
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // EncounterParticipantComponent
+        case -1474995297: /*appointment*/ visitChild("appointment", this.appointment, visitor); break; // Reference
+        case 1420774698: /*virtualService*/ visitChild("virtualService", this.virtualService, visitor); break; // VirtualServiceDetail
+        case 789194991: /*actualPeriod*/ visitChild("actualPeriod", this.actualPeriod, visitor); break; // Period
+        case 460857804: /*plannedStartDate*/ visitChild("plannedStartDate", this.plannedStartDate, visitor); break; // DateTimeType
+        case 1657534661: /*plannedEndDate*/ visitChild("plannedEndDate", this.plannedEndDate, visitor); break; // DateTimeType
+        case -1106363674: /*length*/ visitChild("length", this.length, visitor); break; // Duration
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // ReasonComponent
+        case 1196993265: /*diagnosis*/ visitChild("diagnosis", this.diagnosis, visitor); break; // DiagnosisComponent
+        case -1177318867: /*account*/ visitChild("account", this.account, visitor); break; // Reference
+        case -1360641041: /*dietPreference*/ visitChild("dietPreference", this.dietPreference, visitor); break; // CodeableConcept
+        case 47410321: /*specialArrangement*/ visitChild("specialArrangement", this.specialArrangement, visitor); break; // CodeableConcept
+        case 1583588345: /*specialCourtesy*/ visitChild("specialCourtesy", this.specialCourtesy, visitor); break; // CodeableConcept
+        case 27400201: /*admission*/ visitChild("admission", this.admission, visitor); break; // EncounterAdmissionComponent
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // EncounterLocationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<EncounterStatus>
+        visitChild("class", this.class_, visitor); // CodeableConcept
+        visitChild("priority", this.priority, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("serviceType", this.serviceType, visitor); // CodeableReference
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("subjectStatus", this.subjectStatus, visitor); // CodeableConcept
+        visitChild("episodeOfCare", this.episodeOfCare, visitor); // Reference
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("careTeam", this.careTeam, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("serviceProvider", this.serviceProvider, visitor); // Reference
+        visitChild("participant", this.participant, visitor); // EncounterParticipantComponent
+        visitChild("appointment", this.appointment, visitor); // Reference
+        visitChild("virtualService", this.virtualService, visitor); // VirtualServiceDetail
+        visitChild("actualPeriod", this.actualPeriod, visitor); // Period
+        visitChild("plannedStartDate", this.plannedStartDate, visitor); // DateTimeType
+        visitChild("plannedEndDate", this.plannedEndDate, visitor); // DateTimeType
+        visitChild("length", this.length, visitor); // Duration
+        visitChild("reason", this.reason, visitor); // ReasonComponent
+        visitChild("diagnosis", this.diagnosis, visitor); // DiagnosisComponent
+        visitChild("account", this.account, visitor); // Reference
+        visitChild("dietPreference", this.dietPreference, visitor); // CodeableConcept
+        visitChild("specialArrangement", this.specialArrangement, visitor); // CodeableConcept
+        visitChild("specialCourtesy", this.specialCourtesy, visitor); // CodeableConcept
+        visitChild("admission", this.admission, visitor); // EncounterAdmissionComponent
+        visitChild("location", this.location, visitor); // EncounterLocationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
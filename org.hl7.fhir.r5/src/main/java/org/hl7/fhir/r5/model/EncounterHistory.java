@@ -161,6 +161,23 @@ public class EncounterHistory extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case 3148996: /*form*/ visitChild("form", this.form, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("form", this.form, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -946,6 +963,45 @@ public class EncounterHistory extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<EncounterStatus>
+        case 94742904: /*class*/ visitChild("class", this.class_, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1928370289: /*serviceType*/ visitChild("serviceType", this.serviceType, visitor); break; // CodeableReference
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 110854206: /*subjectStatus*/ visitChild("subjectStatus", this.subjectStatus, visitor); break; // CodeableConcept
+        case 789194991: /*actualPeriod*/ visitChild("actualPeriod", this.actualPeriod, visitor); break; // Period
+        case 460857804: /*plannedStartDate*/ visitChild("plannedStartDate", this.plannedStartDate, visitor); break; // DateTimeType
+        case 1657534661: /*plannedEndDate*/ visitChild("plannedEndDate", this.plannedEndDate, visitor); break; // DateTimeType
+        case -1106363674: /*length*/ visitChild("length", this.length, visitor); break; // Duration
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // EncounterHistoryLocationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<EncounterStatus>
+        visitChild("class", this.class_, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("serviceType", this.serviceType, visitor); // CodeableReference
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("subjectStatus", this.subjectStatus, visitor); // CodeableConcept
+        visitChild("actualPeriod", this.actualPeriod, visitor); // Period
+        visitChild("plannedStartDate", this.plannedStartDate, visitor); // DateTimeType
+        visitChild("plannedEndDate", this.plannedEndDate, visitor); // DateTimeType
+        visitChild("length", this.length, visitor); // Duration
+        visitChild("location", this.location, visitor); // EncounterHistoryLocationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
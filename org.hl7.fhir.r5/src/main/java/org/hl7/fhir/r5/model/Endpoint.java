@@ -366,6 +366,23 @@ public class Endpoint extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1392120434: /*mimeType*/ visitChild("mimeType", this.mimeType, visitor); break; // CodeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("mimeType", this.mimeType, visitor); // CodeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1209,6 +1226,43 @@ public class Endpoint extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<EndpointStatus>
+        case 1270211384: /*connectionType*/ visitChild("connectionType", this.connectionType, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 1680602093: /*environmentType*/ visitChild("environmentType", this.environmentType, visitor); break; // CodeableConcept
+        case -2058947787: /*managingOrganization*/ visitChild("managingOrganization", this.managingOrganization, visitor); break; // Reference
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactPoint
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -786701938: /*payload*/ visitChild("payload", this.payload, visitor); break; // EndpointPayloadComponent
+        case -1147692044: /*address*/ visitChild("address", this.address, visitor); break; // UrlType
+        case -1221270899: /*header*/ visitChild("header", this.header, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<EndpointStatus>
+        visitChild("connectionType", this.connectionType, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("environmentType", this.environmentType, visitor); // CodeableConcept
+        visitChild("managingOrganization", this.managingOrganization, visitor); // Reference
+        visitChild("contact", this.contact, visitor); // ContactPoint
+        visitChild("period", this.period, visitor); // Period
+        visitChild("payload", this.payload, visitor); // EndpointPayloadComponent
+        visitChild("address", this.address, visitor); // UrlType
+        visitChild("header", this.header, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
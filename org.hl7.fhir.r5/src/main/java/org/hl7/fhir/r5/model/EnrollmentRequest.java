@@ -400,6 +400,33 @@ public class EnrollmentRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FinancialResourceStatusCodes>
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case 1957615864: /*insurer*/ visitChild("insurer", this.insurer, visitor); break; // Reference
+        case -987494927: /*provider*/ visitChild("provider", this.provider, visitor); break; // Reference
+        case 508663171: /*candidate*/ visitChild("candidate", this.candidate, visitor); break; // Reference
+        case -351767064: /*coverage*/ visitChild("coverage", this.coverage, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<FinancialResourceStatusCodes>
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("insurer", this.insurer, visitor); // Reference
+        visitChild("provider", this.provider, visitor); // Reference
+        visitChild("candidate", this.candidate, visitor); // Reference
+        visitChild("coverage", this.coverage, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
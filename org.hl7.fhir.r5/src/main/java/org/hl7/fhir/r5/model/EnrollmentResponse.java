@@ -615,6 +615,35 @@ public class EnrollmentResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FinancialResourceStatusCodes>
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // Enumeration<EnrollmentOutcome>
+        case 583380919: /*disposition*/ visitChild("disposition", this.disposition, visitor); break; // StringType
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case 1178922291: /*organization*/ visitChild("organization", this.organization, visitor); break; // Reference
+        case 1601527200: /*requestProvider*/ visitChild("requestProvider", this.requestProvider, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<FinancialResourceStatusCodes>
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("outcome", this.outcome, visitor); // Enumeration<EnrollmentOutcome>
+        visitChild("disposition", this.disposition, visitor); // StringType
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("organization", this.organization, visitor); // Reference
+        visitChild("requestProvider", this.requestProvider, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -361,6 +361,23 @@ public class EpisodeOfCare extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<EpisodeOfCareStatus>
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("status", this.status, visitor); // Enumeration<EpisodeOfCareStatus>
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -606,6 +623,23 @@ public class EpisodeOfCare extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // CodeableReference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("use", this.use, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // CodeableReference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -852,6 +886,23 @@ public class EpisodeOfCare extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // CodeableReference
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("condition", this.condition, visitor); // CodeableReference
+        visitChild("use", this.use, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1703,6 +1754,45 @@ public class EpisodeOfCare extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<EpisodeOfCareStatus>
+        case -986695614: /*statusHistory*/ visitChild("statusHistory", this.statusHistory, visitor); break; // EpisodeOfCareStatusHistoryComponent
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // ReasonComponent
+        case 1196993265: /*diagnosis*/ visitChild("diagnosis", this.diagnosis, visitor); break; // DiagnosisComponent
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case -2058947787: /*managingOrganization*/ visitChild("managingOrganization", this.managingOrganization, visitor); break; // Reference
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -310299598: /*referralRequest*/ visitChild("referralRequest", this.referralRequest, visitor); break; // Reference
+        case -1147746468: /*careManager*/ visitChild("careManager", this.careManager, visitor); break; // Reference
+        case -7323378: /*careTeam*/ visitChild("careTeam", this.careTeam, visitor); break; // Reference
+        case -1177318867: /*account*/ visitChild("account", this.account, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<EpisodeOfCareStatus>
+        visitChild("statusHistory", this.statusHistory, visitor); // EpisodeOfCareStatusHistoryComponent
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // ReasonComponent
+        visitChild("diagnosis", this.diagnosis, visitor); // DiagnosisComponent
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("managingOrganization", this.managingOrganization, visitor); // Reference
+        visitChild("period", this.period, visitor); // Period
+        visitChild("referralRequest", this.referralRequest, visitor); // Reference
+        visitChild("careManager", this.careManager, visitor); // Reference
+        visitChild("careTeam", this.careTeam, visitor); // Reference
+        visitChild("account", this.account, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
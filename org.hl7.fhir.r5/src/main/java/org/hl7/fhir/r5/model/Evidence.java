@@ -353,6 +353,31 @@ public class Evidence extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -372889326: /*variableRole*/ visitChild("variableRole", this.variableRole, visitor); break; // CodeableConcept
+        case 348607176: /*observed*/ visitChild("observed", this.observed, visitor); break; // Reference
+        case 570282027: /*intended*/ visitChild("intended", this.intended, visitor); break; // Reference
+        case -2144864283: /*directnessMatch*/ visitChild("directnessMatch", this.directnessMatch, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("variableRole", this.variableRole, visitor); // CodeableConcept
+        visitChild("observed", this.observed, visitor); // Reference
+        visitChild("intended", this.intended, visitor); // Reference
+        visitChild("directnessMatch", this.directnessMatch, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1053,6 +1078,39 @@ public class Evidence extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -392342358: /*statisticType*/ visitChild("statisticType", this.statisticType, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 1534510137: /*numberOfEvents*/ visitChild("numberOfEvents", this.numberOfEvents, visitor); break; // UnsignedIntType
+        case -460990243: /*numberAffected*/ visitChild("numberAffected", this.numberAffected, visitor); break; // UnsignedIntType
+        case 143123659: /*sampleSize*/ visitChild("sampleSize", this.sampleSize, visitor); break; // EvidenceStatisticSampleSizeComponent
+        case -1539581980: /*attributeEstimate*/ visitChild("attributeEstimate", this.attributeEstimate, visitor); break; // EvidenceStatisticAttributeEstimateComponent
+        case 274795812: /*modelCharacteristic*/ visitChild("modelCharacteristic", this.modelCharacteristic, visitor); break; // EvidenceStatisticModelCharacteristicComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("statisticType", this.statisticType, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("numberOfEvents", this.numberOfEvents, visitor); // UnsignedIntType
+        visitChild("numberAffected", this.numberAffected, visitor); // UnsignedIntType
+        visitChild("sampleSize", this.sampleSize, visitor); // EvidenceStatisticSampleSizeComponent
+        visitChild("attributeEstimate", this.attributeEstimate, visitor); // EvidenceStatisticAttributeEstimateComponent
+        visitChild("modelCharacteristic", this.modelCharacteristic, visitor); // EvidenceStatisticModelCharacteristicComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1609,6 +1667,29 @@ public class Evidence extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -177467129: /*numberOfStudies*/ visitChild("numberOfStudies", this.numberOfStudies, visitor); break; // UnsignedIntType
+        case 1799357120: /*numberOfParticipants*/ visitChild("numberOfParticipants", this.numberOfParticipants, visitor); break; // UnsignedIntType
+        case -937344126: /*knownDataCount*/ visitChild("knownDataCount", this.knownDataCount, visitor); break; // UnsignedIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("numberOfStudies", this.numberOfStudies, visitor); // UnsignedIntType
+        visitChild("numberOfParticipants", this.numberOfParticipants, visitor); // UnsignedIntType
+        visitChild("knownDataCount", this.knownDataCount, visitor); // UnsignedIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2164,6 +2245,33 @@ public class Evidence extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 102865796: /*level*/ visitChild("level", this.level, visitor); break; // DecimalType
+        case 108280125: /*range*/ visitChild("range", this.range, visitor); break; // Range
+        case -1539581980: /*attributeEstimate*/ visitChild("attributeEstimate", this.attributeEstimate, visitor); break; // EvidenceStatisticAttributeEstimateComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("level", this.level, visitor); // DecimalType
+        visitChild("range", this.range, visitor); // Range
+        visitChild("attributeEstimate", this.attributeEstimate, visitor); // EvidenceStatisticAttributeEstimateComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2588,6 +2696,27 @@ public class Evidence extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // Quantity
+        case -1249586564: /*variable*/ visitChild("variable", this.variable, visitor); break; // EvidenceStatisticModelCharacteristicVariableComponent
+        case -1539581980: /*attributeEstimate*/ visitChild("attributeEstimate", this.attributeEstimate, visitor); break; // EvidenceStatisticAttributeEstimateComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // Quantity
+        visitChild("variable", this.variable, visitor); // EvidenceStatisticModelCharacteristicVariableComponent
+        visitChild("attributeEstimate", this.attributeEstimate, visitor); // EvidenceStatisticAttributeEstimateComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3059,6 +3188,29 @@ public class Evidence extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1807222545: /*variableDefinition*/ visitChild("variableDefinition", this.variableDefinition, visitor); break; // Reference
+        case 2072805: /*handling*/ visitChild("handling", this.handling, visitor); break; // Enumeration<EvidenceVariableHandling>
+        case -694308465: /*valueCategory*/ visitChild("valueCategory", this.valueCategory, visitor); break; // CodeableConcept
+        case -2029823716: /*valueQuantity*/ visitChild("valueQuantity", this.valueQuantity, visitor); break; // Quantity
+        case 2030761548: /*valueRange*/ visitChild("valueRange", this.valueRange, visitor); break; // Range
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("variableDefinition", this.variableDefinition, visitor); // Reference
+        visitChild("handling", this.handling, visitor); // Enumeration<EvidenceVariableHandling>
+        visitChild("valueCategory", this.valueCategory, visitor); // CodeableConcept
+        visitChild("valueQuantity", this.valueQuantity, visitor); // Quantity
+        visitChild("valueRange", this.valueRange, visitor); // Range
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3573,6 +3725,31 @@ public class Evidence extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -938102371: /*rating*/ visitChild("rating", this.rating, visitor); break; // CodeableConcept
+        case 108285842: /*rater*/ visitChild("rater", this.rater, visitor); break; // StringType
+        case -1308662083: /*subcomponent*/ visitChild("subcomponent", this.subcomponent, visitor); break; // EvidenceCertaintyComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("rating", this.rating, visitor); // CodeableConcept
+        visitChild("rater", this.rater, visitor); // StringType
+        visitChild("subcomponent", this.subcomponent, visitor); // EvidenceCertaintyComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5742,6 +5919,81 @@ public class Evidence extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1360156695: /*citeAs*/ visitChild("citeAs", this.citeAs, visitor); break; // DataType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // ContactDetail
+        case -1307827859: /*editor*/ visitChild("editor", this.editor, visitor); break; // ContactDetail
+        case -261190139: /*reviewer*/ visitChild("reviewer", this.reviewer, visitor); break; // ContactDetail
+        case 1740277666: /*endorser*/ visitChild("endorser", this.endorser, visitor); break; // ContactDetail
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 1314395906: /*assertion*/ visitChild("assertion", this.assertion, visitor); break; // MarkdownType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1807222545: /*variableDefinition*/ visitChild("variableDefinition", this.variableDefinition, visitor); break; // EvidenceVariableDefinitionComponent
+        case 672726254: /*synthesisType*/ visitChild("synthesisType", this.synthesisType, visitor); break; // CodeableConcept
+        case 1709211879: /*studyDesign*/ visitChild("studyDesign", this.studyDesign, visitor); break; // CodeableConcept
+        case -2081261232: /*statistic*/ visitChild("statistic", this.statistic, visitor); break; // EvidenceStatisticComponent
+        case -1404142937: /*certainty*/ visitChild("certainty", this.certainty, visitor); break; // EvidenceCertaintyComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("citeAs", this.citeAs, visitor); // DataType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("author", this.author, visitor); // ContactDetail
+        visitChild("editor", this.editor, visitor); // ContactDetail
+        visitChild("reviewer", this.reviewer, visitor); // ContactDetail
+        visitChild("endorser", this.endorser, visitor); // ContactDetail
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("assertion", this.assertion, visitor); // MarkdownType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("variableDefinition", this.variableDefinition, visitor); // EvidenceVariableDefinitionComponent
+        visitChild("synthesisType", this.synthesisType, visitor); // CodeableConcept
+        visitChild("studyDesign", this.studyDesign, visitor); // CodeableConcept
+        visitChild("statistic", this.statistic, visitor); // EvidenceStatisticComponent
+        visitChild("certainty", this.certainty, visitor); // EvidenceCertaintyComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
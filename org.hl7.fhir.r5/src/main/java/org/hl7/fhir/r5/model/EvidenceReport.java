@@ -404,6 +404,23 @@ public class EvidenceReport extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 366313883: /*characteristic*/ visitChild("characteristic", this.characteristic, visitor); break; // EvidenceReportSubjectCharacteristicComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("characteristic", this.characteristic, visitor); // EvidenceReportSubjectCharacteristicComponent
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -799,6 +816,27 @@ public class EvidenceReport extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case -1321148966: /*exclude*/ visitChild("exclude", this.exclude, visitor); break; // BooleanType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("exclude", this.exclude, visitor); // BooleanType
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1088,6 +1126,23 @@ public class EvidenceReport extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Enumeration<ReportRelationshipType>
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // EvidenceReportRelatesToTargetComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // Enumeration<ReportRelationshipType>
+        visitChild("target", this.target, visitor); // EvidenceReportRelatesToTargetComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1420,6 +1475,27 @@ public class EvidenceReport extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // MarkdownType
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("display", this.display, visitor); // MarkdownType
+        visitChild("resource", this.resource, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2200,6 +2276,43 @@ public class EvidenceReport extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // CodeableConcept
+        case 1823604051: /*focusReference*/ visitChild("focusReference", this.focusReference, visitor); break; // Reference
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // Narrative
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // Enumeration<ListMode>
+        case -391079516: /*orderedBy*/ visitChild("orderedBy", this.orderedBy, visitor); break; // CodeableConcept
+        case -948201421: /*entryClassifier*/ visitChild("entryClassifier", this.entryClassifier, visitor); break; // CodeableConcept
+        case 438810361: /*entryReference*/ visitChild("entryReference", this.entryReference, visitor); break; // Reference
+        case 1945583389: /*entryQuantity*/ visitChild("entryQuantity", this.entryQuantity, visitor); break; // Quantity
+        case 1140135409: /*emptyReason*/ visitChild("emptyReason", this.emptyReason, visitor); break; // CodeableConcept
+        case 1970241253: /*section*/ visitChild("section", this.section, visitor); break; // SectionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("focus", this.focus, visitor); // CodeableConcept
+        visitChild("focusReference", this.focusReference, visitor); // Reference
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("text", this.text, visitor); // Narrative
+        visitChild("mode", this.mode, visitor); // Enumeration<ListMode>
+        visitChild("orderedBy", this.orderedBy, visitor); // CodeableConcept
+        visitChild("entryClassifier", this.entryClassifier, visitor); // CodeableConcept
+        visitChild("entryReference", this.entryReference, visitor); // Reference
+        visitChild("entryQuantity", this.entryQuantity, visitor); // Quantity
+        visitChild("emptyReason", this.emptyReason, visitor); // CodeableConcept
+        visitChild("section", this.section, visitor); // SectionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4106,6 +4219,55 @@ public class EvidenceReport extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1007604940: /*relatedIdentifier*/ visitChild("relatedIdentifier", this.relatedIdentifier, visitor); break; // Identifier
+        case -1360156695: /*citeAs*/ visitChild("citeAs", this.citeAs, visitor); break; // DataType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // EvidenceReportSubjectComponent
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // ContactDetail
+        case -1307827859: /*editor*/ visitChild("editor", this.editor, visitor); break; // ContactDetail
+        case -261190139: /*reviewer*/ visitChild("reviewer", this.reviewer, visitor); break; // ContactDetail
+        case 1740277666: /*endorser*/ visitChild("endorser", this.endorser, visitor); break; // ContactDetail
+        case -7765931: /*relatesTo*/ visitChild("relatesTo", this.relatesTo, visitor); break; // EvidenceReportRelatesToComponent
+        case 1970241253: /*section*/ visitChild("section", this.section, visitor); break; // SectionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("relatedIdentifier", this.relatedIdentifier, visitor); // Identifier
+        visitChild("citeAs", this.citeAs, visitor); // DataType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("subject", this.subject, visitor); // EvidenceReportSubjectComponent
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("author", this.author, visitor); // ContactDetail
+        visitChild("editor", this.editor, visitor); // ContactDetail
+        visitChild("reviewer", this.reviewer, visitor); // ContactDetail
+        visitChild("endorser", this.endorser, visitor); // ContactDetail
+        visitChild("relatesTo", this.relatesTo, visitor); // EvidenceReportRelatesToComponent
+        visitChild("section", this.section, visitor); // SectionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -977,6 +977,47 @@ public class EvidenceVariable extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // IdType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1321148966: /*exclude*/ visitChild("exclude", this.exclude, visitor); break; // BooleanType
+        case -820021448: /*definitionReference*/ visitChild("definitionReference", this.definitionReference, visitor); break; // Reference
+        case 933485793: /*definitionCanonical*/ visitChild("definitionCanonical", this.definitionCanonical, visitor); break; // CanonicalType
+        case -1446002226: /*definitionCodeableConcept*/ visitChild("definitionCodeableConcept", this.definitionCodeableConcept, visitor); break; // CodeableConcept
+        case 1463703627: /*definitionExpression*/ visitChild("definitionExpression", this.definitionExpression, visitor); break; // Expression
+        case 101791182: /*definitionId*/ visitChild("definitionId", this.definitionId, visitor); break; // IdType
+        case -164357794: /*definitionByTypeAndValue*/ visitChild("definitionByTypeAndValue", this.definitionByTypeAndValue, visitor); break; // EvidenceVariableCharacteristicDefinitionByTypeAndValueComponent
+        case -2043280539: /*definitionByCombination*/ visitChild("definitionByCombination", this.definitionByCombination, visitor); break; // EvidenceVariableCharacteristicDefinitionByCombinationComponent
+        case 29097598: /*instances*/ visitChild("instances", this.instances, visitor); break; // DataType
+        case -1992012396: /*duration*/ visitChild("duration", this.duration, visitor); break; // DataType
+        case 2087274691: /*timeFromEvent*/ visitChild("timeFromEvent", this.timeFromEvent, visitor); break; // EvidenceVariableCharacteristicTimeFromEventComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // IdType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("exclude", this.exclude, visitor); // BooleanType
+        visitChild("definitionReference", this.definitionReference, visitor); // Reference
+        visitChild("definitionCanonical", this.definitionCanonical, visitor); // CanonicalType
+        visitChild("definitionCodeableConcept", this.definitionCodeableConcept, visitor); // CodeableConcept
+        visitChild("definitionExpression", this.definitionExpression, visitor); // Expression
+        visitChild("definitionId", this.definitionId, visitor); // IdType
+        visitChild("definitionByTypeAndValue", this.definitionByTypeAndValue, visitor); // EvidenceVariableCharacteristicDefinitionByTypeAndValueComponent
+        visitChild("definitionByCombination", this.definitionByCombination, visitor); // EvidenceVariableCharacteristicDefinitionByCombinationComponent
+        visitChild("instances", this.instances, visitor); // DataType
+        visitChild("duration", this.duration, visitor); // DataType
+        visitChild("timeFromEvent", this.timeFromEvent, visitor); // EvidenceVariableCharacteristicTimeFromEventComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1616,6 +1657,29 @@ public class EvidenceVariable extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // CodeableConcept
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // Reference
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case -1019779949: /*offset*/ visitChild("offset", this.offset, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("method", this.method, visitor); // CodeableConcept
+        visitChild("device", this.device, visitor); // Reference
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("offset", this.offset, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2011,6 +2075,25 @@ public class EvidenceVariable extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Enumeration<CharacteristicCombination>
+        case -1545477013: /*threshold*/ visitChild("threshold", this.threshold, visitor); break; // PositiveIntType
+        case 366313883: /*characteristic*/ visitChild("characteristic", this.characteristic, visitor); break; // EvidenceVariableCharacteristicComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // Enumeration<CharacteristicCombination>
+        visitChild("threshold", this.threshold, visitor); // PositiveIntType
+        visitChild("characteristic", this.characteristic, visitor); // EvidenceVariableCharacteristicComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2462,6 +2545,29 @@ public class EvidenceVariable extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // DataType
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 108280125: /*range*/ visitChild("range", this.range, visitor); break; // Range
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("event", this.event, visitor); // DataType
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("range", this.range, visitor); // Range
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2804,6 +2910,23 @@ public class EvidenceVariable extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4827,6 +4950,79 @@ See guidance around (not) making local changes to elements [here](canonicalresou
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 1555503932: /*shortTitle*/ visitChild("shortTitle", this.shortTitle, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // ContactDetail
+        case -1307827859: /*editor*/ visitChild("editor", this.editor, visitor); break; // ContactDetail
+        case -261190139: /*reviewer*/ visitChild("reviewer", this.reviewer, visitor); break; // ContactDetail
+        case 1740277666: /*endorser*/ visitChild("endorser", this.endorser, visitor); break; // ContactDetail
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case -1422939762: /*actual*/ visitChild("actual", this.actual, visitor); break; // BooleanType
+        case 366313883: /*characteristic*/ visitChild("characteristic", this.characteristic, visitor); break; // EvidenceVariableCharacteristicComponent
+        case 2072805: /*handling*/ visitChild("handling", this.handling, visitor); break; // Enumeration<EvidenceVariableHandling>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // EvidenceVariableCategoryComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("shortTitle", this.shortTitle, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("author", this.author, visitor); // ContactDetail
+        visitChild("editor", this.editor, visitor); // ContactDetail
+        visitChild("reviewer", this.reviewer, visitor); // ContactDetail
+        visitChild("endorser", this.endorser, visitor); // ContactDetail
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("actual", this.actual, visitor); // BooleanType
+        visitChild("characteristic", this.characteristic, visitor); // EvidenceVariableCharacteristicComponent
+        visitChild("handling", this.handling, visitor); // Enumeration<EvidenceVariableHandling>
+        visitChild("category", this.category, visitor); // EvidenceVariableCategoryComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -319,6 +319,27 @@ public class ExampleScenario extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 106079: /*key*/ visitChild("key", this.key, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ExampleScenarioActorType>
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("key", this.key, visitor); // StringType
+        visitChild("type", this.type, visitor); // Enumeration<ExampleScenarioActorType>
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -990,6 +1011,37 @@ public class ExampleScenario extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 106079: /*key*/ visitChild("key", this.key, visitor); break; // StringType
+        case -222609587: /*structureType*/ visitChild("structureType", this.structureType, visitor); break; // Coding
+        case 872091621: /*structureVersion*/ visitChild("structureVersion", this.structureVersion, visitor); break; // StringType
+        case 211057846: /*structureProfile*/ visitChild("structureProfile", this.structureProfile, visitor); break; // DataType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // Reference
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // ExampleScenarioInstanceVersionComponent
+        case -417062360: /*containedInstance*/ visitChild("containedInstance", this.containedInstance, visitor); break; // ExampleScenarioInstanceContainedInstanceComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("key", this.key, visitor); // StringType
+        visitChild("structureType", this.structureType, visitor); // Coding
+        visitChild("structureVersion", this.structureVersion, visitor); // StringType
+        visitChild("structureProfile", this.structureProfile, visitor); // DataType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("content", this.content, visitor); // Reference
+        visitChild("version", this.version, visitor); // ExampleScenarioInstanceVersionComponent
+        visitChild("containedInstance", this.containedInstance, visitor); // ExampleScenarioInstanceContainedInstanceComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1456,6 +1508,27 @@ public class ExampleScenario extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 106079: /*key*/ visitChild("key", this.key, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("key", this.key, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("content", this.content, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1750,6 +1823,23 @@ public class ExampleScenario extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1675877834: /*instanceReference*/ visitChild("instanceReference", this.instanceReference, visitor); break; // StringType
+        case 357512531: /*versionReference*/ visitChild("versionReference", this.versionReference, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("instanceReference", this.instanceReference, visitor); // StringType
+        visitChild("versionReference", this.versionReference, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2198,6 +2288,29 @@ public class ExampleScenario extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -1006692933: /*preConditions*/ visitChild("preConditions", this.preConditions, visitor); break; // MarkdownType
+        case 1738302328: /*postConditions*/ visitChild("postConditions", this.postConditions, visitor); break; // MarkdownType
+        case 3540684: /*step*/ visitChild("step", this.step, visitor); break; // ExampleScenarioProcessStepComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("preConditions", this.preConditions, visitor); // MarkdownType
+        visitChild("postConditions", this.postConditions, visitor); // MarkdownType
+        visitChild("step", this.step, visitor); // ExampleScenarioProcessStepComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2690,6 +2803,31 @@ public class ExampleScenario extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1034364087: /*number*/ visitChild("number", this.number, visitor); break; // StringType
+        case -309518737: /*process*/ visitChild("process", this.process, visitor); break; // ExampleScenarioProcessComponent
+        case 35379135: /*workflow*/ visitChild("workflow", this.workflow, visitor); break; // CanonicalType
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // ExampleScenarioProcessStepOperationComponent
+        case -196794451: /*alternative*/ visitChild("alternative", this.alternative, visitor); break; // ExampleScenarioProcessStepAlternativeComponent
+        case 106440182: /*pause*/ visitChild("pause", this.pause, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("number", this.number, visitor); // StringType
+        visitChild("process", this.process, visitor); // ExampleScenarioProcessComponent
+        visitChild("workflow", this.workflow, visitor); // CanonicalType
+        visitChild("operation", this.operation, visitor); // ExampleScenarioProcessStepOperationComponent
+        visitChild("alternative", this.alternative, visitor); // ExampleScenarioProcessStepAlternativeComponent
+        visitChild("pause", this.pause, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3347,6 +3485,37 @@ public class ExampleScenario extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Coding
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -248987089: /*initiator*/ visitChild("initiator", this.initiator, visitor); break; // StringType
+        case -808719889: /*receiver*/ visitChild("receiver", this.receiver, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 384339477: /*initiatorActive*/ visitChild("initiatorActive", this.initiatorActive, visitor); break; // BooleanType
+        case -285284907: /*receiverActive*/ visitChild("receiverActive", this.receiverActive, visitor); break; // BooleanType
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // ExampleScenarioInstanceContainedInstanceComponent
+        case -340323263: /*response*/ visitChild("response", this.response, visitor); break; // ExampleScenarioInstanceContainedInstanceComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Coding
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("initiator", this.initiator, visitor); // StringType
+        visitChild("receiver", this.receiver, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("initiatorActive", this.initiatorActive, visitor); // BooleanType
+        visitChild("receiverActive", this.receiverActive, visitor); // BooleanType
+        visitChild("request", this.request, visitor); // ExampleScenarioInstanceContainedInstanceComponent
+        visitChild("response", this.response, visitor); // ExampleScenarioInstanceContainedInstanceComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3774,6 +3943,25 @@ public class ExampleScenario extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3540684: /*step*/ visitChild("step", this.step, visitor); break; // ExampleScenarioProcessStepComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("step", this.step, visitor); // ExampleScenarioProcessStepComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5149,6 +5337,59 @@ public class ExampleScenario extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // ExampleScenarioActorComponent
+        case 555127957: /*instance*/ visitChild("instance", this.instance, visitor); break; // ExampleScenarioInstanceComponent
+        case -309518737: /*process*/ visitChild("process", this.process, visitor); break; // ExampleScenarioProcessComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("actor", this.actor, visitor); // ExampleScenarioActorComponent
+        visitChild("instance", this.instance, visitor); // ExampleScenarioInstanceComponent
+        visitChild("process", this.process, visitor); // ExampleScenarioProcessComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
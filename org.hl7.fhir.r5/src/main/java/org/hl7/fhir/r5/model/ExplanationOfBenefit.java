@@ -318,6 +318,25 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 94742588: /*claim*/ visitChild("claim", this.claim, visitor); break; // Reference
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // CodeableConcept
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Identifier
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("claim", this.claim, visitor); // Reference
+        visitChild("relationship", this.relationship, visitor); // CodeableConcept
+        visitChild("reference", this.reference, visitor); // Identifier
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -586,6 +605,23 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3648314: /*when*/ visitChild("when", this.when, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("when", this.when, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -804,6 +840,23 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 106437350: /*party*/ visitChild("party", this.party, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("party", this.party, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1171,6 +1224,29 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case -987494927: /*provider*/ visitChild("provider", this.provider, visitor); break; // Reference
+        case 1847674614: /*responsible*/ visitChild("responsible", this.responsible, visitor); break; // BooleanType
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case -1694759682: /*specialty*/ visitChild("specialty", this.specialty, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("provider", this.provider, visitor); // Reference
+        visitChild("responsible", this.responsible, visitor); // BooleanType
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("specialty", this.specialty, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1719,6 +1795,31 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // DataType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // Coding
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("timing", this.timing, visitor); // DataType
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("reason", this.reason, visitor); // Coding
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2175,6 +2276,27 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 1196993265: /*diagnosis*/ visitChild("diagnosis", this.diagnosis, visitor); break; // DataType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -3386134: /*onAdmission*/ visitChild("onAdmission", this.onAdmission, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("diagnosis", this.diagnosis, visitor); // DataType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("onAdmission", this.onAdmission, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2671,6 +2793,29 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case -1095204141: /*procedure*/ visitChild("procedure", this.procedure, visitor); break; // DataType
+        case 115642: /*udi*/ visitChild("udi", this.udi, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("procedure", this.procedure, visitor); // DataType
+        visitChild("udi", this.udi, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3037,6 +3182,25 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 97604197: /*focal*/ visitChild("focal", this.focal, visitor); break; // BooleanType
+        case -351767064: /*coverage*/ visitChild("coverage", this.coverage, visitor); break; // Reference
+        case 522246568: /*preAuthRef*/ visitChild("preAuthRef", this.preAuthRef, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("focal", this.focal, visitor); // BooleanType
+        visitChild("coverage", this.coverage, visitor); // Reference
+        visitChild("preAuthRef", this.preAuthRef, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3357,6 +3521,25 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("date", this.date, visitor); // DateType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("location", this.location, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5073,6 +5256,75 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 1070083823: /*careTeamSequence*/ visitChild("careTeamSequence", this.careTeamSequence, visitor); break; // PositiveIntType
+        case -909769262: /*diagnosisSequence*/ visitChild("diagnosisSequence", this.diagnosisSequence, visitor); break; // PositiveIntType
+        case -808920140: /*procedureSequence*/ visitChild("procedureSequence", this.procedureSequence, visitor); break; // PositiveIntType
+        case -702585587: /*informationSequence*/ visitChild("informationSequence", this.informationSequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 1010065041: /*programCode*/ visitChild("programCode", this.programCode, visitor); break; // CodeableConcept
+        case 1379209295: /*serviced*/ visitChild("serviced", this.serviced, visitor); break; // DataType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // DataType
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case 115642: /*udi*/ visitChild("udi", this.udi, visitor); break; // Reference
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // ItemBodySiteComponent
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ItemReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // DetailComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("careTeamSequence", this.careTeamSequence, visitor); // PositiveIntType
+        visitChild("diagnosisSequence", this.diagnosisSequence, visitor); // PositiveIntType
+        visitChild("procedureSequence", this.procedureSequence, visitor); // PositiveIntType
+        visitChild("informationSequence", this.informationSequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("programCode", this.programCode, visitor); // CodeableConcept
+        visitChild("serviced", this.serviced, visitor); // DataType
+        visitChild("location", this.location, visitor); // DataType
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("udi", this.udi, visitor); // Reference
+        visitChild("bodySite", this.bodySite, visitor); // ItemBodySiteComponent
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ItemReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+        visitChild("detail", this.detail, visitor); // DetailComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5788,6 +6040,23 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3530567: /*site*/ visitChild("site", this.site, visitor); break; // CodeableReference
+        case -1868566105: /*subSite*/ visitChild("subSite", this.subSite, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("site", this.site, visitor); // CodeableReference
+        visitChild("subSite", this.subSite, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6130,6 +6399,27 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 565719004: /*decision*/ visitChild("decision", this.decision, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        case 522246568: /*preAuthRef*/ visitChild("preAuthRef", this.preAuthRef, visitor); break; // StringType
+        case 1819164812: /*preAuthPeriod*/ visitChild("preAuthPeriod", this.preAuthPeriod, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("decision", this.decision, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+        visitChild("preAuthRef", this.preAuthRef, visitor); // StringType
+        visitChild("preAuthPeriod", this.preAuthPeriod, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6452,6 +6742,27 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+        visitChild("amount", this.amount, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -7561,6 +7872,57 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 1010065041: /*programCode*/ visitChild("programCode", this.programCode, visitor); break; // CodeableConcept
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case 115642: /*udi*/ visitChild("udi", this.udi, visitor); break; // Reference
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ItemReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        case -828829007: /*subDetail*/ visitChild("subDetail", this.subDetail, visitor); break; // SubDetailComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("programCode", this.programCode, visitor); // CodeableConcept
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("udi", this.udi, visitor); // Reference
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ItemReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+        visitChild("subDetail", this.subDetail, visitor); // SubDetailComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8846,6 +9208,55 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 1010065041: /*programCode*/ visitChild("programCode", this.programCode, visitor); break; // CodeableConcept
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case 115642: /*udi*/ visitChild("udi", this.udi, visitor); break; // Reference
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ItemReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("programCode", this.programCode, visitor); // CodeableConcept
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("udi", this.udi, visitor); // Reference
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ItemReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -10562,6 +10973,67 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1977979892: /*itemSequence*/ visitChild("itemSequence", this.itemSequence, visitor); break; // PositiveIntType
+        case 1321472818: /*detailSequence*/ visitChild("detailSequence", this.detailSequence, visitor); break; // PositiveIntType
+        case -855462510: /*subDetailSequence*/ visitChild("subDetailSequence", this.subDetailSequence, visitor); break; // PositiveIntType
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case -987494927: /*provider*/ visitChild("provider", this.provider, visitor); break; // Reference
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 1010065041: /*programCode*/ visitChild("programCode", this.programCode, visitor); break; // CodeableConcept
+        case 1379209295: /*serviced*/ visitChild("serviced", this.serviced, visitor); break; // DataType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // DataType
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // AddedItemBodySiteComponent
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ItemReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // AddedItemDetailComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("itemSequence", this.itemSequence, visitor); // PositiveIntType
+        visitChild("detailSequence", this.detailSequence, visitor); // PositiveIntType
+        visitChild("subDetailSequence", this.subDetailSequence, visitor); // PositiveIntType
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("provider", this.provider, visitor); // Reference
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("programCode", this.programCode, visitor); // CodeableConcept
+        visitChild("serviced", this.serviced, visitor); // DataType
+        visitChild("location", this.location, visitor); // DataType
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("bodySite", this.bodySite, visitor); // AddedItemBodySiteComponent
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ItemReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+        visitChild("detail", this.detail, visitor); // AddedItemDetailComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -11214,6 +11686,23 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3530567: /*site*/ visitChild("site", this.site, visitor); break; // CodeableReference
+        case -1868566105: /*subSite*/ visitChild("subSite", this.subSite, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("site", this.site, visitor); // CodeableReference
+        visitChild("subSite", this.subSite, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -12074,6 +12563,49 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ItemReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        case -828829007: /*subDetail*/ visitChild("subDetail", this.subDetail, visitor); break; // AddedItemDetailSubDetailComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ItemReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+        visitChild("subDetail", this.subDetail, visitor); // AddedItemDetailSubDetailComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -13069,6 +13601,47 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case 1099842588: /*revenue*/ visitChild("revenue", this.revenue, visitor); break; // CodeableConcept
+        case 1957227299: /*productOrService*/ visitChild("productOrService", this.productOrService, visitor); break; // CodeableConcept
+        case -717476168: /*productOrServiceEnd*/ visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); break; // CodeableConcept
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -486196699: /*unitPrice*/ visitChild("unitPrice", this.unitPrice, visitor); break; // Money
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 114603: /*tax*/ visitChild("tax", this.tax, visitor); break; // Money
+        case 108957: /*net*/ visitChild("net", this.net, visitor); break; // Money
+        case -1110033957: /*noteNumber*/ visitChild("noteNumber", this.noteNumber, visitor); break; // PositiveIntType
+        case -51825446: /*reviewOutcome*/ visitChild("reviewOutcome", this.reviewOutcome, visitor); break; // ItemReviewOutcomeComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("revenue", this.revenue, visitor); // CodeableConcept
+        visitChild("productOrService", this.productOrService, visitor); // CodeableConcept
+        visitChild("productOrServiceEnd", this.productOrServiceEnd, visitor); // CodeableConcept
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("unitPrice", this.unitPrice, visitor); // Money
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("tax", this.tax, visitor); // Money
+        visitChild("net", this.net, visitor); // Money
+        visitChild("noteNumber", this.noteNumber, visitor); // PositiveIntType
+        visitChild("reviewOutcome", this.reviewOutcome, visitor); // ItemReviewOutcomeComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -13477,6 +14050,23 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("amount", this.amount, visitor); // Money
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -13852,6 +14442,31 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1977085293: /*adjustment*/ visitChild("adjustment", this.adjustment, visitor); break; // Money
+        case -1255938543: /*adjustmentReason*/ visitChild("adjustmentReason", this.adjustmentReason, visitor); break; // CodeableConcept
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateType
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("adjustment", this.adjustment, visitor); // Money
+        visitChild("adjustmentReason", this.adjustmentReason, visitor); // CodeableConcept
+        visitChild("date", this.date, visitor); // DateType
+        visitChild("amount", this.amount, visitor); // Money
+        visitChild("identifier", this.identifier, visitor); // Identifier
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -14238,6 +14853,27 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1034364087: /*number*/ visitChild("number", this.number, visitor); break; // PositiveIntType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("number", this.number, visitor); // PositiveIntType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("language", this.language, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -14794,6 +15430,35 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1994055114: /*excluded*/ visitChild("excluded", this.excluded, visitor); break; // BooleanType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 1843485230: /*network*/ visitChild("network", this.network, visitor); break; // CodeableConcept
+        case 3594628: /*unit*/ visitChild("unit", this.unit, visitor); break; // CodeableConcept
+        case 3556460: /*term*/ visitChild("term", this.term, visitor); break; // CodeableConcept
+        case 357555337: /*financial*/ visitChild("financial", this.financial, visitor); break; // BenefitComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("excluded", this.excluded, visitor); // BooleanType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("network", this.network, visitor); // CodeableConcept
+        visitChild("unit", this.unit, visitor); // CodeableConcept
+        visitChild("term", this.term, visitor); // CodeableConcept
+        visitChild("financial", this.financial, visitor); // BenefitComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -15213,6 +15878,25 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -911343192: /*allowed*/ visitChild("allowed", this.allowed, visitor); break; // DataType
+        case 3599293: /*used*/ visitChild("used", this.used, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("allowed", this.allowed, visitor); // DataType
+        visitChild("used", this.used, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -17734,6 +18418,117 @@ public class ExplanationOfBenefit extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 82505966: /*traceNumber*/ visitChild("traceNumber", this.traceNumber, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ExplanationOfBenefitStatus>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1868521062: /*subType*/ visitChild("subType", this.subType, visitor); break; // CodeableConcept
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Enumeration<Use>
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case -332066046: /*billablePeriod*/ visitChild("billablePeriod", this.billablePeriod, visitor); break; // Period
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case -1591951995: /*enterer*/ visitChild("enterer", this.enterer, visitor); break; // Reference
+        case 1957615864: /*insurer*/ visitChild("insurer", this.insurer, visitor); break; // Reference
+        case -987494927: /*provider*/ visitChild("provider", this.provider, visitor); break; // Reference
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // CodeableConcept
+        case -1688904576: /*fundsReserveRequested*/ visitChild("fundsReserveRequested", this.fundsReserveRequested, visitor); break; // CodeableConcept
+        case 1314609806: /*fundsReserve*/ visitChild("fundsReserve", this.fundsReserve, visitor); break; // CodeableConcept
+        case 1090493483: /*related*/ visitChild("related", this.related, visitor); break; // RelatedClaimComponent
+        case 460301338: /*prescription*/ visitChild("prescription", this.prescription, visitor); break; // Reference
+        case -1814015861: /*originalPrescription*/ visitChild("originalPrescription", this.originalPrescription, visitor); break; // Reference
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // ExplanationOfBenefitEventComponent
+        case 106443592: /*payee*/ visitChild("payee", this.payee, visitor); break; // PayeeComponent
+        case -722568291: /*referral*/ visitChild("referral", this.referral, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 501116579: /*facility*/ visitChild("facility", this.facility, visitor); break; // Reference
+        case 94742588: /*claim*/ visitChild("claim", this.claim, visitor); break; // Reference
+        case 689513629: /*claimResponse*/ visitChild("claimResponse", this.claimResponse, visitor); break; // Reference
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // Enumeration<ClaimProcessingCodes>
+        case 565719004: /*decision*/ visitChild("decision", this.decision, visitor); break; // CodeableConcept
+        case 583380919: /*disposition*/ visitChild("disposition", this.disposition, visitor); break; // StringType
+        case 522246568: /*preAuthRef*/ visitChild("preAuthRef", this.preAuthRef, visitor); break; // StringType
+        case -1262920311: /*preAuthRefPeriod*/ visitChild("preAuthRefPeriod", this.preAuthRefPeriod, visitor); break; // Period
+        case -1599182171: /*diagnosisRelatedGroup*/ visitChild("diagnosisRelatedGroup", this.diagnosisRelatedGroup, visitor); break; // CodeableConcept
+        case -7323378: /*careTeam*/ visitChild("careTeam", this.careTeam, visitor); break; // CareTeamComponent
+        case 1922406657: /*supportingInfo*/ visitChild("supportingInfo", this.supportingInfo, visitor); break; // SupportingInformationComponent
+        case 1196993265: /*diagnosis*/ visitChild("diagnosis", this.diagnosis, visitor); break; // DiagnosisComponent
+        case -1095204141: /*procedure*/ visitChild("procedure", this.procedure, visitor); break; // ProcedureComponent
+        case 159695370: /*precedence*/ visitChild("precedence", this.precedence, visitor); break; // PositiveIntType
+        case 73049818: /*insurance*/ visitChild("insurance", this.insurance, visitor); break; // InsuranceComponent
+        case -2143202801: /*accident*/ visitChild("accident", this.accident, visitor); break; // AccidentComponent
+        case 525514609: /*patientPaid*/ visitChild("patientPaid", this.patientPaid, visitor); break; // Money
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // ItemComponent
+        case -1148899500: /*addItem*/ visitChild("addItem", this.addItem, visitor); break; // AddedItemComponent
+        case -231349275: /*adjudication*/ visitChild("adjudication", this.adjudication, visitor); break; // AdjudicationComponent
+        case 110549828: /*total*/ visitChild("total", this.total, visitor); break; // TotalComponent
+        case -786681338: /*payment*/ visitChild("payment", this.payment, visitor); break; // PaymentComponent
+        case 473181393: /*formCode*/ visitChild("formCode", this.formCode, visitor); break; // CodeableConcept
+        case 3148996: /*form*/ visitChild("form", this.form, visitor); break; // Attachment
+        case 202339073: /*processNote*/ visitChild("processNote", this.processNote, visitor); break; // NoteComponent
+        case -407369416: /*benefitPeriod*/ visitChild("benefitPeriod", this.benefitPeriod, visitor); break; // Period
+        case 596003397: /*benefitBalance*/ visitChild("benefitBalance", this.benefitBalance, visitor); break; // BenefitBalanceComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("traceNumber", this.traceNumber, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<ExplanationOfBenefitStatus>
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subType", this.subType, visitor); // CodeableConcept
+        visitChild("use", this.use, visitor); // Enumeration<Use>
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("billablePeriod", this.billablePeriod, visitor); // Period
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("enterer", this.enterer, visitor); // Reference
+        visitChild("insurer", this.insurer, visitor); // Reference
+        visitChild("provider", this.provider, visitor); // Reference
+        visitChild("priority", this.priority, visitor); // CodeableConcept
+        visitChild("fundsReserveRequested", this.fundsReserveRequested, visitor); // CodeableConcept
+        visitChild("fundsReserve", this.fundsReserve, visitor); // CodeableConcept
+        visitChild("related", this.related, visitor); // RelatedClaimComponent
+        visitChild("prescription", this.prescription, visitor); // Reference
+        visitChild("originalPrescription", this.originalPrescription, visitor); // Reference
+        visitChild("event", this.event, visitor); // ExplanationOfBenefitEventComponent
+        visitChild("payee", this.payee, visitor); // PayeeComponent
+        visitChild("referral", this.referral, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("facility", this.facility, visitor); // Reference
+        visitChild("claim", this.claim, visitor); // Reference
+        visitChild("claimResponse", this.claimResponse, visitor); // Reference
+        visitChild("outcome", this.outcome, visitor); // Enumeration<ClaimProcessingCodes>
+        visitChild("decision", this.decision, visitor); // CodeableConcept
+        visitChild("disposition", this.disposition, visitor); // StringType
+        visitChild("preAuthRef", this.preAuthRef, visitor); // StringType
+        visitChild("preAuthRefPeriod", this.preAuthRefPeriod, visitor); // Period
+        visitChild("diagnosisRelatedGroup", this.diagnosisRelatedGroup, visitor); // CodeableConcept
+        visitChild("careTeam", this.careTeam, visitor); // CareTeamComponent
+        visitChild("supportingInfo", this.supportingInfo, visitor); // SupportingInformationComponent
+        visitChild("diagnosis", this.diagnosis, visitor); // DiagnosisComponent
+        visitChild("procedure", this.procedure, visitor); // ProcedureComponent
+        visitChild("precedence", this.precedence, visitor); // PositiveIntType
+        visitChild("insurance", this.insurance, visitor); // InsuranceComponent
+        visitChild("accident", this.accident, visitor); // AccidentComponent
+        visitChild("patientPaid", this.patientPaid, visitor); // Money
+        visitChild("item", this.item, visitor); // ItemComponent
+        visitChild("addItem", this.addItem, visitor); // AddedItemComponent
+        visitChild("adjudication", this.adjudication, visitor); // AdjudicationComponent
+        visitChild("total", this.total, visitor); // TotalComponent
+        visitChild("payment", this.payment, visitor); // PaymentComponent
+        visitChild("formCode", this.formCode, visitor); // CodeableConcept
+        visitChild("form", this.form, visitor); // Attachment
+        visitChild("processNote", this.processNote, visitor); // NoteComponent
+        visitChild("benefitPeriod", this.benefitPeriod, visitor); // Period
+        visitChild("benefitBalance", this.benefitBalance, visitor); // BenefitBalanceComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
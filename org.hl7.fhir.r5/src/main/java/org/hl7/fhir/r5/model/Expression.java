@@ -376,6 +376,29 @@ public class Expression extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // CodeType
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeType
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // UriType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("name", this.name, visitor); // CodeType
+        visitChild("language", this.language, visitor); // CodeType
+        visitChild("expression", this.expression, visitor); // StringType
+        visitChild("reference", this.reference, visitor); // UriType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -342,6 +342,31 @@ public class ExtendedContactDetail extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // HumanName
+        case -1429363305: /*telecom*/ visitChild("telecom", this.telecom, visitor); break; // ContactPoint
+        case -1147692044: /*address*/ visitChild("address", this.address, visitor); break; // Address
+        case 1178922291: /*organization*/ visitChild("organization", this.organization, visitor); break; // Reference
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("purpose", this.purpose, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // HumanName
+        visitChild("telecom", this.telecom, visitor); // ContactPoint
+        visitChild("address", this.address, visitor); // Address
+        visitChild("organization", this.organization, visitor); // Reference
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -291,6 +291,23 @@ public class FamilyMemberHistory extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -727,6 +744,29 @@ public class FamilyMemberHistory extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // CodeableConcept
+        case -363644638: /*contributedToDeath*/ visitChild("contributedToDeath", this.contributedToDeath, visitor); break; // BooleanType
+        case 105901603: /*onset*/ visitChild("onset", this.onset, visitor); break; // DataType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("outcome", this.outcome, visitor); // CodeableConcept
+        visitChild("contributedToDeath", this.contributedToDeath, visitor); // BooleanType
+        visitChild("onset", this.onset, visitor); // DataType
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1238,6 +1278,29 @@ public class FamilyMemberHistory extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // CodeableConcept
+        case -363644638: /*contributedToDeath*/ visitChild("contributedToDeath", this.contributedToDeath, visitor); break; // BooleanType
+        case 481140672: /*performed*/ visitChild("performed", this.performed, visitor); break; // DataType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("outcome", this.outcome, visitor); // CodeableConcept
+        visitChild("contributedToDeath", this.contributedToDeath, visitor); // BooleanType
+        visitChild("performed", this.performed, visitor); // DataType
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2614,6 +2677,57 @@ public class FamilyMemberHistory extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FamilyHistoryStatus>
+        case 1034315687: /*dataAbsentReason*/ visitChild("dataAbsentReason", this.dataAbsentReason, visitor); break; // CodeableConcept
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // FamilyMemberHistoryParticipantComponent
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // CodeableConcept
+        case 113766: /*sex*/ visitChild("sex", this.sex, visitor); break; // CodeableConcept
+        case 3029833: /*born*/ visitChild("born", this.born, visitor); break; // DataType
+        case 96511: /*age*/ visitChild("age", this.age, visitor); break; // DataType
+        case 2130167587: /*estimatedAge*/ visitChild("estimatedAge", this.estimatedAge, visitor); break; // BooleanType
+        case 561497972: /*deceased*/ visitChild("deceased", this.deceased, visitor); break; // DataType
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // FamilyMemberHistoryConditionComponent
+        case -1095204141: /*procedure*/ visitChild("procedure", this.procedure, visitor); break; // FamilyMemberHistoryProcedureComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("status", this.status, visitor); // Enumeration<FamilyHistoryStatus>
+        visitChild("dataAbsentReason", this.dataAbsentReason, visitor); // CodeableConcept
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("participant", this.participant, visitor); // FamilyMemberHistoryParticipantComponent
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("relationship", this.relationship, visitor); // CodeableConcept
+        visitChild("sex", this.sex, visitor); // CodeableConcept
+        visitChild("born", this.born, visitor); // DataType
+        visitChild("age", this.age, visitor); // DataType
+        visitChild("estimatedAge", this.estimatedAge, visitor); // BooleanType
+        visitChild("deceased", this.deceased, visitor); // DataType
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("condition", this.condition, visitor); // FamilyMemberHistoryConditionComponent
+        visitChild("procedure", this.procedure, visitor); // FamilyMemberHistoryProcedureComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1293,6 +1293,55 @@ public class GenomicStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -722961477: /*methodType*/ visitChild("methodType", this.methodType, visitor); break; // CodeableConcept
+        case -2131902710: /*changeType*/ visitChild("changeType", this.changeType, visitor); break; // CodeableConcept
+        case 1061239735: /*genomeBuild*/ visitChild("genomeBuild", this.genomeBuild, visitor); break; // CodeableConcept
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case -2132868344: /*specimen*/ visitChild("specimen", this.specimen, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1565516792: /*protocolPerformed*/ visitChild("protocolPerformed", this.protocolPerformed, visitor); break; // Reference
+        case 391791385: /*regionsStudied*/ visitChild("regionsStudied", this.regionsStudied, visitor); break; // Reference
+        case -2125803428: /*regionsCalled*/ visitChild("regionsCalled", this.regionsCalled, visitor); break; // Reference
+        case 100358090: /*input*/ visitChild("input", this.input, visitor); break; // GenomicStudyAnalysisInputComponent
+        case -1005512447: /*output*/ visitChild("output", this.output, visitor); break; // GenomicStudyAnalysisOutputComponent
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // GenomicStudyAnalysisPerformerComponent
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // GenomicStudyAnalysisDeviceComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("methodType", this.methodType, visitor); // CodeableConcept
+        visitChild("changeType", this.changeType, visitor); // CodeableConcept
+        visitChild("genomeBuild", this.genomeBuild, visitor); // CodeableConcept
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("specimen", this.specimen, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("protocolPerformed", this.protocolPerformed, visitor); // Reference
+        visitChild("regionsStudied", this.regionsStudied, visitor); // Reference
+        visitChild("regionsCalled", this.regionsCalled, visitor); // Reference
+        visitChild("input", this.input, visitor); // GenomicStudyAnalysisInputComponent
+        visitChild("output", this.output, visitor); // GenomicStudyAnalysisOutputComponent
+        visitChild("performer", this.performer, visitor); // GenomicStudyAnalysisPerformerComponent
+        visitChild("device", this.device, visitor); // GenomicStudyAnalysisDeviceComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1837,6 +1886,25 @@ public class GenomicStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3143036: /*file*/ visitChild("file", this.file, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 886733382: /*generatedBy*/ visitChild("generatedBy", this.generatedBy, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("file", this.file, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("generatedBy", this.generatedBy, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2071,6 +2139,23 @@ public class GenomicStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3143036: /*file*/ visitChild("file", this.file, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("file", this.file, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2283,6 +2368,23 @@ public class GenomicStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("actor", this.actor, visitor); // Reference
+        visitChild("role", this.role, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2495,6 +2597,23 @@ public class GenomicStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // Reference
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("device", this.device, visitor); // Reference
+        visitChild("function", this.function, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3482,6 +3601,49 @@ public class GenomicStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<GenomicStudyStatus>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -2129778896: /*startDate*/ visitChild("startDate", this.startDate, visitor); break; // DateTimeType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -722568161: /*referrer*/ visitChild("referrer", this.referrer, visitor); break; // Reference
+        case -2008009094: /*interpreter*/ visitChild("interpreter", this.interpreter, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -1024445732: /*analysis*/ visitChild("analysis", this.analysis, visitor); break; // GenomicStudyAnalysisComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<GenomicStudyStatus>
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("startDate", this.startDate, visitor); // DateTimeType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("referrer", this.referrer, visitor); // Reference
+        visitChild("interpreter", this.interpreter, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("analysis", this.analysis, visitor); // GenomicStudyAnalysisComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -537,6 +537,25 @@ public class Goal extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 938321246: /*measure*/ visitChild("measure", this.measure, visitor); break; // CodeableConcept
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // DataType
+        case 99828: /*due*/ visitChild("due", this.due, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("measure", this.measure, visitor); // CodeableConcept
+        visitChild("detail", this.detail, visitor); // DataType
+        visitChild("due", this.due, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1581,6 +1600,51 @@ public class Goal extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 1165552636: /*lifecycleStatus*/ visitChild("lifecycleStatus", this.lifecycleStatus, visitor); break; // Enumeration<GoalLifecycleStatus>
+        case 104524801: /*achievementStatus*/ visitChild("achievementStatus", this.achievementStatus, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 379114255: /*continuous*/ visitChild("continuous", this.continuous, visitor); break; // BooleanType
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 109757538: /*start*/ visitChild("start", this.start, visitor); break; // DataType
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // GoalTargetComponent
+        case 247524032: /*statusDate*/ visitChild("statusDate", this.statusDate, visitor); break; // DateType
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // StringType
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        case 874544034: /*addresses*/ visitChild("addresses", this.addresses, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // CodeableReference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("lifecycleStatus", this.lifecycleStatus, visitor); // Enumeration<GoalLifecycleStatus>
+        visitChild("achievementStatus", this.achievementStatus, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("continuous", this.continuous, visitor); // BooleanType
+        visitChild("priority", this.priority, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("start", this.start, visitor); // DataType
+        visitChild("target", this.target, visitor); // GoalTargetComponent
+        visitChild("statusDate", this.statusDate, visitor); // DateType
+        visitChild("statusReason", this.statusReason, visitor); // StringType
+        visitChild("source", this.source, visitor); // Reference
+        visitChild("addresses", this.addresses, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("outcome", this.outcome, visitor); // CodeableReference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
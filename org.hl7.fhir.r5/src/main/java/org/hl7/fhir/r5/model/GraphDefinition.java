@@ -550,6 +550,27 @@ public class GraphDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1040171331: /*nodeId*/ visitChild("nodeId", this.nodeId, visitor); break; // IdType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<VersionIndependentResourceTypesAll>
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("nodeId", this.nodeId, visitor); // IdType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("type", this.type, visitor); // Enumeration<VersionIndependentResourceTypesAll>
+        visitChild("profile", this.profile, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1256,6 +1277,37 @@ public class GraphDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 108114: /*min*/ visitChild("min", this.min, visitor); break; // IntegerType
+        case 107876: /*max*/ visitChild("max", this.max, visitor); break; // StringType
+        case 1746327190: /*sourceId*/ visitChild("sourceId", this.sourceId, visitor); break; // IdType
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case -825289923: /*sliceName*/ visitChild("sliceName", this.sliceName, visitor); break; // StringType
+        case -441951604: /*targetId*/ visitChild("targetId", this.targetId, visitor); break; // IdType
+        case -995427962: /*params*/ visitChild("params", this.params, visitor); break; // StringType
+        case -397756334: /*compartment*/ visitChild("compartment", this.compartment, visitor); break; // GraphDefinitionLinkCompartmentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("min", this.min, visitor); // IntegerType
+        visitChild("max", this.max, visitor); // StringType
+        visitChild("sourceId", this.sourceId, visitor); // IdType
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("sliceName", this.sliceName, visitor); // StringType
+        visitChild("targetId", this.targetId, visitor); // IdType
+        visitChild("params", this.params, visitor); // StringType
+        visitChild("compartment", this.compartment, visitor); // GraphDefinitionLinkCompartmentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1795,6 +1847,29 @@ public class GraphDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Enumeration<GraphCompartmentUse>
+        case 3512060: /*rule*/ visitChild("rule", this.rule, visitor); break; // Enumeration<GraphCompartmentRule>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Enumeration<CompartmentType>
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("use", this.use, visitor); // Enumeration<GraphCompartmentUse>
+        visitChild("rule", this.rule, visitor); // Enumeration<GraphCompartmentRule>
+        visitChild("code", this.code, visitor); // Enumeration<CompartmentType>
+        visitChild("expression", this.expression, visitor); // StringType
+        visitChild("description", this.description, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3197,6 +3272,59 @@ public class GraphDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 109757538: /*start*/ visitChild("start", this.start, visitor); break; // IdType
+        case 3386882: /*node*/ visitChild("node", this.node, visitor); break; // GraphDefinitionNodeComponent
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // GraphDefinitionLinkComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("start", this.start, visitor); // IdType
+        visitChild("node", this.node, visitor); // GraphDefinitionNodeComponent
+        visitChild("link", this.link, visitor); // GraphDefinitionLinkComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -653,6 +653,27 @@ public class Group extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case -1321148966: /*exclude*/ visitChild("exclude", this.exclude, visitor); break; // BooleanType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("exclude", this.exclude, visitor); // BooleanType
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -974,6 +995,25 @@ public class Group extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1298275357: /*entity*/ visitChild("entity", this.entity, visitor); break; // Reference
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 24665195: /*inactive*/ visitChild("inactive", this.inactive, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("entity", this.entity, visitor); // Reference
+        visitChild("period", this.period, visitor); // Period
+        visitChild("inactive", this.inactive, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1752,6 +1792,41 @@ public class Group extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<GroupType>
+        case -1340241962: /*membership*/ visitChild("membership", this.membership, visitor); break; // Enumeration<GroupMembershipBasis>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // UnsignedIntType
+        case -988474523: /*managingEntity*/ visitChild("managingEntity", this.managingEntity, visitor); break; // Reference
+        case 366313883: /*characteristic*/ visitChild("characteristic", this.characteristic, visitor); break; // GroupCharacteristicComponent
+        case -1077769574: /*member*/ visitChild("member", this.member, visitor); break; // GroupMemberComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("type", this.type, visitor); // Enumeration<GroupType>
+        visitChild("membership", this.membership, visitor); // Enumeration<GroupMembershipBasis>
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("quantity", this.quantity, visitor); // UnsignedIntType
+        visitChild("managingEntity", this.managingEntity, visitor); // Reference
+        visitChild("characteristic", this.characteristic, visitor); // GroupCharacteristicComponent
+        visitChild("member", this.member, visitor); // GroupMemberComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -968,6 +968,47 @@ public class GuidanceResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -354233192: /*requestIdentifier*/ visitChild("requestIdentifier", this.requestIdentifier, visitor); break; // Identifier
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1068784020: /*module*/ visitChild("module", this.module, visitor); break; // DataType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<GuidanceResponseStatus>
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -298443636: /*occurrenceDateTime*/ visitChild("occurrenceDateTime", this.occurrenceDateTime, visitor); break; // DateTimeType
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 1081619755: /*evaluationMessage*/ visitChild("evaluationMessage", this.evaluationMessage, visitor); break; // Reference
+        case 525609419: /*outputParameters*/ visitChild("outputParameters", this.outputParameters, visitor); break; // Reference
+        case -934426595: /*result*/ visitChild("result", this.result, visitor); break; // Reference
+        case 629147193: /*dataRequirement*/ visitChild("dataRequirement", this.dataRequirement, visitor); break; // DataRequirement
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("requestIdentifier", this.requestIdentifier, visitor); // Identifier
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("module", this.module, visitor); // DataType
+        visitChild("status", this.status, visitor); // Enumeration<GuidanceResponseStatus>
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("occurrenceDateTime", this.occurrenceDateTime, visitor); // DateTimeType
+        visitChild("performer", this.performer, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("evaluationMessage", this.evaluationMessage, visitor); // Reference
+        visitChild("outputParameters", this.outputParameters, visitor); // Reference
+        visitChild("result", this.result, visitor); // Reference
+        visitChild("dataRequirement", this.dataRequirement, visitor); // DataRequirement
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
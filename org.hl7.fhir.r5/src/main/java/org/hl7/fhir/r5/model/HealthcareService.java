@@ -177,6 +177,23 @@ public class HealthcareService extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("comment", this.comment, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1689,6 +1706,65 @@ public class HealthcareService extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case 205136282: /*providedBy*/ visitChild("providedBy", this.providedBy, visitor); break; // Reference
+        case 1945040512: /*offeredIn*/ visitChild("offeredIn", this.offeredIn, visitor); break; // Reference
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1694759682: /*specialty*/ visitChild("specialty", this.specialty, visitor); break; // CodeableConcept
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // MarkdownType
+        case -1469168622: /*extraDetails*/ visitChild("extraDetails", this.extraDetails, visitor); break; // MarkdownType
+        case 106642994: /*photo*/ visitChild("photo", this.photo, visitor); break; // Attachment
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ExtendedContactDetail
+        case -1532328299: /*coverageArea*/ visitChild("coverageArea", this.coverageArea, visitor); break; // Reference
+        case 1504575405: /*serviceProvisionCode*/ visitChild("serviceProvisionCode", this.serviceProvisionCode, visitor); break; // CodeableConcept
+        case -930847859: /*eligibility*/ visitChild("eligibility", this.eligibility, visitor); break; // HealthcareServiceEligibilityComponent
+        case -309387644: /*program*/ visitChild("program", this.program, visitor); break; // CodeableConcept
+        case 366313883: /*characteristic*/ visitChild("characteristic", this.characteristic, visitor); break; // CodeableConcept
+        case -1035284522: /*communication*/ visitChild("communication", this.communication, visitor); break; // CodeableConcept
+        case -2092740898: /*referralMethod*/ visitChild("referralMethod", this.referralMethod, visitor); break; // CodeableConcept
+        case 427220062: /*appointmentRequired*/ visitChild("appointmentRequired", this.appointmentRequired, visitor); break; // BooleanType
+        case 1997542747: /*availability*/ visitChild("availability", this.availability, visitor); break; // Availability
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("providedBy", this.providedBy, visitor); // Reference
+        visitChild("offeredIn", this.offeredIn, visitor); // Reference
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("specialty", this.specialty, visitor); // CodeableConcept
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("comment", this.comment, visitor); // MarkdownType
+        visitChild("extraDetails", this.extraDetails, visitor); // MarkdownType
+        visitChild("photo", this.photo, visitor); // Attachment
+        visitChild("contact", this.contact, visitor); // ExtendedContactDetail
+        visitChild("coverageArea", this.coverageArea, visitor); // Reference
+        visitChild("serviceProvisionCode", this.serviceProvisionCode, visitor); // CodeableConcept
+        visitChild("eligibility", this.eligibility, visitor); // HealthcareServiceEligibilityComponent
+        visitChild("program", this.program, visitor); // CodeableConcept
+        visitChild("characteristic", this.characteristic, visitor); // CodeableConcept
+        visitChild("communication", this.communication, visitor); // CodeableConcept
+        visitChild("referralMethod", this.referralMethod, visitor); // CodeableConcept
+        visitChild("appointmentRequired", this.appointmentRequired, visitor); // BooleanType
+        visitChild("availability", this.availability, visitor); // Availability
+        visitChild("endpoint", this.endpoint, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
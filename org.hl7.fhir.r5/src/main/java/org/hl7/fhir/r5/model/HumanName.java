@@ -685,6 +685,33 @@ public class HumanName extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Enumeration<NameUse>
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case -1281860764: /*family*/ visitChild("family", this.family, visitor); break; // StringType
+        case 98367357: /*given*/ visitChild("given", this.given, visitor); break; // StringType
+        case -980110702: /*prefix*/ visitChild("prefix", this.prefix, visitor); break; // StringType
+        case -891422895: /*suffix*/ visitChild("suffix", this.suffix, visitor); break; // StringType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("use", this.use, visitor); // Enumeration<NameUse>
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("family", this.family, visitor); // StringType
+        visitChild("given", this.given, visitor); // StringType
+        visitChild("prefix", this.prefix, visitor); // StringType
+        visitChild("suffix", this.suffix, visitor); // StringType
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
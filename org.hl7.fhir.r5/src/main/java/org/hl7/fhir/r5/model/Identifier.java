@@ -507,6 +507,31 @@ public class Identifier extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Enumeration<IdentifierUse>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -887328209: /*system*/ visitChild("system", this.system, visitor); break; // UriType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -369881636: /*assigner*/ visitChild("assigner", this.assigner, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("use", this.use, visitor); // Enumeration<IdentifierUse>
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("system", this.system, visitor); // UriType
+        visitChild("value", this.value, visitor); // StringType
+        visitChild("period", this.period, visitor); // Period
+        visitChild("assigner", this.assigner, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -576,6 +576,23 @@ public class ImagingSelection extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1097,6 +1114,31 @@ public class ImagingSelection extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 115792: /*uid*/ visitChild("uid", this.uid, visitor); break; // IdType
+        case -1034364087: /*number*/ visitChild("number", this.number, visitor); break; // UnsignedIntType
+        case 1560041540: /*sopClass*/ visitChild("sopClass", this.sopClass, visitor); break; // Coding
+        case -891529694: /*subset*/ visitChild("subset", this.subset, visitor); break; // StringType
+        case 675922625: /*imageRegion2D*/ visitChild("imageRegion2D", this.imageRegion2D, visitor); break; // ImageRegion2DComponent
+        case 675922656: /*imageRegion3D*/ visitChild("imageRegion3D", this.imageRegion3D, visitor); break; // ImageRegion3DComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("uid", this.uid, visitor); // IdType
+        visitChild("number", this.number, visitor); // UnsignedIntType
+        visitChild("sopClass", this.sopClass, visitor); // Coding
+        visitChild("subset", this.subset, visitor); // StringType
+        visitChild("imageRegion2D", this.imageRegion2D, visitor); // ImageRegion2DComponent
+        visitChild("imageRegion3D", this.imageRegion3D, visitor); // ImageRegion3DComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1449,6 +1491,23 @@ public class ImagingSelection extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1990487986: /*regionType*/ visitChild("regionType", this.regionType, visitor); break; // Enumeration<ImagingSelection2DGraphicType>
+        case 198931832: /*coordinate*/ visitChild("coordinate", this.coordinate, visitor); break; // DecimalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("regionType", this.regionType, visitor); // Enumeration<ImagingSelection2DGraphicType>
+        visitChild("coordinate", this.coordinate, visitor); // DecimalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1736,6 +1795,23 @@ public class ImagingSelection extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1990487986: /*regionType*/ visitChild("regionType", this.regionType, visitor); break; // Enumeration<ImagingSelection3DGraphicType>
+        case 198931832: /*coordinate*/ visitChild("coordinate", this.coordinate, visitor); break; // DecimalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("regionType", this.regionType, visitor); // Enumeration<ImagingSelection3DGraphicType>
+        visitChild("coordinate", this.coordinate, visitor); // DecimalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2850,6 +2926,53 @@ public class ImagingSelection extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ImagingSelectionStatus>
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case -1179159893: /*issued*/ visitChild("issued", this.issued, visitor); break; // InstantType
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // ImagingSelectionPerformerComponent
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 1876590023: /*studyUid*/ visitChild("studyUid", this.studyUid, visitor); break; // IdType
+        case 1077922663: /*derivedFrom*/ visitChild("derivedFrom", this.derivedFrom, visitor); break; // Reference
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // Reference
+        case -569596327: /*seriesUid*/ visitChild("seriesUid", this.seriesUid, visitor); break; // IdType
+        case 382652576: /*seriesNumber*/ visitChild("seriesNumber", this.seriesNumber, visitor); break; // UnsignedIntType
+        case 828378953: /*frameOfReferenceUid*/ visitChild("frameOfReferenceUid", this.frameOfReferenceUid, visitor); break; // IdType
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableReference
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case 555127957: /*instance*/ visitChild("instance", this.instance, visitor); break; // ImagingSelectionInstanceComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<ImagingSelectionStatus>
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("issued", this.issued, visitor); // InstantType
+        visitChild("performer", this.performer, visitor); // ImagingSelectionPerformerComponent
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("studyUid", this.studyUid, visitor); // IdType
+        visitChild("derivedFrom", this.derivedFrom, visitor); // Reference
+        visitChild("endpoint", this.endpoint, visitor); // Reference
+        visitChild("seriesUid", this.seriesUid, visitor); // IdType
+        visitChild("seriesNumber", this.seriesNumber, visitor); // UnsignedIntType
+        visitChild("frameOfReferenceUid", this.frameOfReferenceUid, visitor); // IdType
+        visitChild("bodySite", this.bodySite, visitor); // CodeableReference
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("instance", this.instance, visitor); // ImagingSelectionInstanceComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
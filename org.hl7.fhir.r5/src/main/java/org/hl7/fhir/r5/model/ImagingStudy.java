@@ -879,6 +879,43 @@ public class ImagingStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 115792: /*uid*/ visitChild("uid", this.uid, visitor); break; // IdType
+        case -1034364087: /*number*/ visitChild("number", this.number, visitor); break; // UnsignedIntType
+        case -622722335: /*modality*/ visitChild("modality", this.modality, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1043544226: /*numberOfInstances*/ visitChild("numberOfInstances", this.numberOfInstances, visitor); break; // UnsignedIntType
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // Reference
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableReference
+        case -170291817: /*laterality*/ visitChild("laterality", this.laterality, visitor); break; // CodeableConcept
+        case -2132868344: /*specimen*/ visitChild("specimen", this.specimen, visitor); break; // Reference
+        case -1897185151: /*started*/ visitChild("started", this.started, visitor); break; // DateTimeType
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // ImagingStudySeriesPerformerComponent
+        case 555127957: /*instance*/ visitChild("instance", this.instance, visitor); break; // ImagingStudySeriesInstanceComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("uid", this.uid, visitor); // IdType
+        visitChild("number", this.number, visitor); // UnsignedIntType
+        visitChild("modality", this.modality, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("numberOfInstances", this.numberOfInstances, visitor); // UnsignedIntType
+        visitChild("endpoint", this.endpoint, visitor); // Reference
+        visitChild("bodySite", this.bodySite, visitor); // CodeableReference
+        visitChild("laterality", this.laterality, visitor); // CodeableConcept
+        visitChild("specimen", this.specimen, visitor); // Reference
+        visitChild("started", this.started, visitor); // DateTimeType
+        visitChild("performer", this.performer, visitor); // ImagingStudySeriesPerformerComponent
+        visitChild("instance", this.instance, visitor); // ImagingStudySeriesInstanceComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1255,6 +1292,23 @@ public class ImagingStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1612,6 +1666,27 @@ public class ImagingStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 115792: /*uid*/ visitChild("uid", this.uid, visitor); break; // IdType
+        case 1560041540: /*sopClass*/ visitChild("sopClass", this.sopClass, visitor); break; // Coding
+        case -1034364087: /*number*/ visitChild("number", this.number, visitor); break; // UnsignedIntType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("uid", this.uid, visitor); // IdType
+        visitChild("sopClass", this.sopClass, visitor); // Coding
+        visitChild("number", this.number, visitor); // UnsignedIntType
+        visitChild("title", this.title, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2781,6 +2856,55 @@ public class ImagingStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ImagingStudyStatus>
+        case -622722335: /*modality*/ visitChild("modality", this.modality, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1897185151: /*started*/ visitChild("started", this.started, visitor); break; // DateTimeType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -722568161: /*referrer*/ visitChild("referrer", this.referrer, visitor); break; // Reference
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // Reference
+        case 1920000407: /*numberOfSeries*/ visitChild("numberOfSeries", this.numberOfSeries, visitor); break; // UnsignedIntType
+        case -1043544226: /*numberOfInstances*/ visitChild("numberOfInstances", this.numberOfInstances, visitor); break; // UnsignedIntType
+        case -1095204141: /*procedure*/ visitChild("procedure", this.procedure, visitor); break; // CodeableReference
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -905838985: /*series*/ visitChild("series", this.series, visitor); break; // ImagingStudySeriesComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<ImagingStudyStatus>
+        visitChild("modality", this.modality, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("started", this.started, visitor); // DateTimeType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("referrer", this.referrer, visitor); // Reference
+        visitChild("endpoint", this.endpoint, visitor); // Reference
+        visitChild("numberOfSeries", this.numberOfSeries, visitor); // UnsignedIntType
+        visitChild("numberOfInstances", this.numberOfInstances, visitor); // UnsignedIntType
+        visitChild("procedure", this.procedure, visitor); // CodeableReference
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("series", this.series, visitor); // ImagingStudySeriesComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -275,6 +275,23 @@ public class Immunization extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -498,6 +515,23 @@ public class Immunization extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -309387644: /*program*/ visitChild("program", this.program, visitor); break; // CodeableConcept
+        case 472508310: /*programStatus*/ visitChild("programStatus", this.programStatus, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("program", this.program, visitor); // CodeableConcept
+        visitChild("programStatus", this.programStatus, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -791,6 +825,25 @@ public class Immunization extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1115984422: /*manifestation*/ visitChild("manifestation", this.manifestation, visitor); break; // CodeableReference
+        case -427039533: /*reported*/ visitChild("reported", this.reported, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("manifestation", this.manifestation, visitor); // CodeableReference
+        visitChild("reported", this.reported, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1228,6 +1281,29 @@ public class Immunization extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -905838985: /*series*/ visitChild("series", this.series, visitor); break; // StringType
+        case 1475610435: /*authority*/ visitChild("authority", this.authority, visitor); break; // Reference
+        case -319593813: /*targetDisease*/ visitChild("targetDisease", this.targetDisease, visitor); break; // CodeableConcept
+        case -887709242: /*doseNumber*/ visitChild("doseNumber", this.doseNumber, visitor); break; // StringType
+        case -1936727105: /*seriesDoses*/ visitChild("seriesDoses", this.seriesDoses, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("series", this.series, visitor); // StringType
+        visitChild("authority", this.authority, visitor); // Reference
+        visitChild("targetDisease", this.targetDisease, visitor); // CodeableConcept
+        visitChild("doseNumber", this.doseNumber, visitor); // StringType
+        visitChild("seriesDoses", this.seriesDoses, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2821,6 +2897,75 @@ public class Immunization extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ImmunizationStatusCodes>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableConcept
+        case 664556354: /*vaccineCode*/ visitChild("vaccineCode", this.vaccineCode, visitor); break; // CodeableConcept
+        case 1610069896: /*administeredProduct*/ visitChild("administeredProduct", this.administeredProduct, visitor); break; // CodeableReference
+        case -1969347631: /*manufacturer*/ visitChild("manufacturer", this.manufacturer, visitor); break; // CodeableReference
+        case 462547450: /*lotNumber*/ visitChild("lotNumber", this.lotNumber, visitor); break; // StringType
+        case -668811523: /*expirationDate*/ visitChild("expirationDate", this.expirationDate, visitor); break; // DateType
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1248768647: /*supportingInformation*/ visitChild("supportingInformation", this.supportingInformation, visitor); break; // Reference
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case -528721731: /*primarySource*/ visitChild("primarySource", this.primarySource, visitor); break; // BooleanType
+        case -2123220889: /*informationSource*/ visitChild("informationSource", this.informationSource, visitor); break; // CodeableReference
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case 3530567: /*site*/ visitChild("site", this.site, visitor); break; // CodeableConcept
+        case 108704329: /*route*/ visitChild("route", this.route, visitor); break; // CodeableConcept
+        case -2083618872: /*doseQuantity*/ visitChild("doseQuantity", this.doseQuantity, visitor); break; // Quantity
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // ImmunizationPerformerComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 1618512556: /*isSubpotent*/ visitChild("isSubpotent", this.isSubpotent, visitor); break; // BooleanType
+        case 805168794: /*subpotentReason*/ visitChild("subpotentReason", this.subpotentReason, visitor); break; // CodeableConcept
+        case 1207530089: /*programEligibility*/ visitChild("programEligibility", this.programEligibility, visitor); break; // ImmunizationProgramEligibilityComponent
+        case 1120150904: /*fundingSource*/ visitChild("fundingSource", this.fundingSource, visitor); break; // CodeableConcept
+        case -867509719: /*reaction*/ visitChild("reaction", this.reaction, visitor); break; // ImmunizationReactionComponent
+        case 607985349: /*protocolApplied*/ visitChild("protocolApplied", this.protocolApplied, visitor); break; // ImmunizationProtocolAppliedComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<ImmunizationStatusCodes>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableConcept
+        visitChild("vaccineCode", this.vaccineCode, visitor); // CodeableConcept
+        visitChild("administeredProduct", this.administeredProduct, visitor); // CodeableReference
+        visitChild("manufacturer", this.manufacturer, visitor); // CodeableReference
+        visitChild("lotNumber", this.lotNumber, visitor); // StringType
+        visitChild("expirationDate", this.expirationDate, visitor); // DateType
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("supportingInformation", this.supportingInformation, visitor); // Reference
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("primarySource", this.primarySource, visitor); // BooleanType
+        visitChild("informationSource", this.informationSource, visitor); // CodeableReference
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("site", this.site, visitor); // CodeableConcept
+        visitChild("route", this.route, visitor); // CodeableConcept
+        visitChild("doseQuantity", this.doseQuantity, visitor); // Quantity
+        visitChild("performer", this.performer, visitor); // ImmunizationPerformerComponent
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("isSubpotent", this.isSubpotent, visitor); // BooleanType
+        visitChild("subpotentReason", this.subpotentReason, visitor); // CodeableConcept
+        visitChild("programEligibility", this.programEligibility, visitor); // ImmunizationProgramEligibilityComponent
+        visitChild("fundingSource", this.fundingSource, visitor); // CodeableConcept
+        visitChild("reaction", this.reaction, visitor); // ImmunizationReactionComponent
+        visitChild("protocolApplied", this.protocolApplied, visitor); // ImmunizationProtocolAppliedComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -842,6 +842,45 @@ public class ImmunizationEvaluation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ImmunizationEvaluationStatusCodes>
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1475610435: /*authority*/ visitChild("authority", this.authority, visitor); break; // Reference
+        case -319593813: /*targetDisease*/ visitChild("targetDisease", this.targetDisease, visitor); break; // CodeableConcept
+        case 1081446840: /*immunizationEvent*/ visitChild("immunizationEvent", this.immunizationEvent, visitor); break; // Reference
+        case -745826705: /*doseStatus*/ visitChild("doseStatus", this.doseStatus, visitor); break; // CodeableConcept
+        case 662783379: /*doseStatusReason*/ visitChild("doseStatusReason", this.doseStatusReason, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -905838985: /*series*/ visitChild("series", this.series, visitor); break; // StringType
+        case -887709242: /*doseNumber*/ visitChild("doseNumber", this.doseNumber, visitor); break; // StringType
+        case -1936727105: /*seriesDoses*/ visitChild("seriesDoses", this.seriesDoses, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<ImmunizationEvaluationStatusCodes>
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("authority", this.authority, visitor); // Reference
+        visitChild("targetDisease", this.targetDisease, visitor); // CodeableConcept
+        visitChild("immunizationEvent", this.immunizationEvent, visitor); // Reference
+        visitChild("doseStatus", this.doseStatus, visitor); // CodeableConcept
+        visitChild("doseStatusReason", this.doseStatusReason, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("series", this.series, visitor); // StringType
+        visitChild("doseNumber", this.doseNumber, visitor); // StringType
+        visitChild("seriesDoses", this.seriesDoses, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
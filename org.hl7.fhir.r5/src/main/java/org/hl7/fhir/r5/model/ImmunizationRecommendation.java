@@ -808,6 +808,43 @@ public class ImmunizationRecommendation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 664556354: /*vaccineCode*/ visitChild("vaccineCode", this.vaccineCode, visitor); break; // CodeableConcept
+        case -319593813: /*targetDisease*/ visitChild("targetDisease", this.targetDisease, visitor); break; // CodeableConcept
+        case 571105240: /*contraindicatedVaccineCode*/ visitChild("contraindicatedVaccineCode", this.contraindicatedVaccineCode, visitor); break; // CodeableConcept
+        case 1904598477: /*forecastStatus*/ visitChild("forecastStatus", this.forecastStatus, visitor); break; // CodeableConcept
+        case 1862115359: /*forecastReason*/ visitChild("forecastReason", this.forecastReason, visitor); break; // CodeableConcept
+        case 2087518867: /*dateCriterion*/ visitChild("dateCriterion", this.dateCriterion, visitor); break; // ImmunizationRecommendationRecommendationDateCriterionComponent
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -905838985: /*series*/ visitChild("series", this.series, visitor); break; // StringType
+        case -887709242: /*doseNumber*/ visitChild("doseNumber", this.doseNumber, visitor); break; // StringType
+        case -1936727105: /*seriesDoses*/ visitChild("seriesDoses", this.seriesDoses, visitor); break; // StringType
+        case 1171592021: /*supportingImmunization*/ visitChild("supportingImmunization", this.supportingImmunization, visitor); break; // Reference
+        case -1234160646: /*supportingPatientInformation*/ visitChild("supportingPatientInformation", this.supportingPatientInformation, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("vaccineCode", this.vaccineCode, visitor); // CodeableConcept
+        visitChild("targetDisease", this.targetDisease, visitor); // CodeableConcept
+        visitChild("contraindicatedVaccineCode", this.contraindicatedVaccineCode, visitor); // CodeableConcept
+        visitChild("forecastStatus", this.forecastStatus, visitor); // CodeableConcept
+        visitChild("forecastReason", this.forecastReason, visitor); // CodeableConcept
+        visitChild("dateCriterion", this.dateCriterion, visitor); // ImmunizationRecommendationRecommendationDateCriterionComponent
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("series", this.series, visitor); // StringType
+        visitChild("doseNumber", this.doseNumber, visitor); // StringType
+        visitChild("seriesDoses", this.seriesDoses, visitor); // StringType
+        visitChild("supportingImmunization", this.supportingImmunization, visitor); // Reference
+        visitChild("supportingPatientInformation", this.supportingPatientInformation, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1217,6 +1254,23 @@ public class ImmunizationRecommendation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DateTimeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DateTimeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1617,6 +1671,29 @@ public class ImmunizationRecommendation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1475610435: /*authority*/ visitChild("authority", this.authority, visitor); break; // Reference
+        case -1028636743: /*recommendation*/ visitChild("recommendation", this.recommendation, visitor); break; // ImmunizationRecommendationRecommendationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("authority", this.authority, visitor); // Reference
+        visitChild("recommendation", this.recommendation, visitor); // ImmunizationRecommendationRecommendationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
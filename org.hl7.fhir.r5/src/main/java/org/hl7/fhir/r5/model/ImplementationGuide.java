@@ -9453,6 +9453,27 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case 116076: /*uri*/ visitChild("uri", this.uri, visitor); break; // CanonicalType
+      case 1802060801: /*packageId*/ visitChild("packageId", this.packageId, visitor); break; // IdType
+      case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+      case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // MarkdownType
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("uri", this.uri, visitor); // CanonicalType
+      visitChild("packageId", this.packageId, visitor); // IdType
+      visitChild("version", this.version, visitor); // StringType
+      visitChild("reason", this.reason, visitor); // MarkdownType
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -9744,6 +9765,23 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeType
+      case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("type", this.type, visitor); // CodeType
+      visitChild("profile", this.profile, visitor); // CanonicalType
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -10172,6 +10210,29 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case 506371331: /*grouping*/ visitChild("grouping", this.grouping, visitor); break; // ImplementationGuideDefinitionGroupingComponent
+      case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // ImplementationGuideDefinitionResourceComponent
+      case 3433103: /*page*/ visitChild("page", this.page, visitor); break; // ImplementationGuideDefinitionPageComponent
+      case 1954460585: /*parameter*/ visitChild("parameter", this.parameter, visitor); break; // ImplementationGuideDefinitionParameterComponent
+      case -1321546630: /*template*/ visitChild("template", this.template, visitor); break; // ImplementationGuideDefinitionTemplateComponent
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("grouping", this.grouping, visitor); // ImplementationGuideDefinitionGroupingComponent
+      visitChild("resource", this.resource, visitor); // ImplementationGuideDefinitionResourceComponent
+      visitChild("page", this.page, visitor); // ImplementationGuideDefinitionPageComponent
+      visitChild("parameter", this.parameter, visitor); // ImplementationGuideDefinitionParameterComponent
+      visitChild("template", this.template, visitor); // ImplementationGuideDefinitionTemplateComponent
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -10494,6 +10555,23 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+      case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("name", this.name, visitor); // StringType
+      visitChild("description", this.description, visitor); // MarkdownType
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -11059,6 +11137,33 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+      case 461006061: /*fhirVersion*/ visitChild("fhirVersion", this.fhirVersion, visitor); break; // Enumeration<FHIRVersion>
+      case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+      case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+      case -1902749472: /*isExample*/ visitChild("isExample", this.isExample, visitor); break; // BooleanType
+      case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+      case 1291547006: /*groupingId*/ visitChild("groupingId", this.groupingId, visitor); break; // IdType
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("reference", this.reference, visitor); // Reference
+      visitChild("fhirVersion", this.fhirVersion, visitor); // Enumeration<FHIRVersion>
+      visitChild("name", this.name, visitor); // StringType
+      visitChild("description", this.description, visitor); // MarkdownType
+      visitChild("isExample", this.isExample, visitor); // BooleanType
+      visitChild("profile", this.profile, visitor); // CanonicalType
+      visitChild("groupingId", this.groupingId, visitor); // IdType
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -11605,6 +11710,29 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // DataType
+      case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // UrlType
+      case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+      case 305703192: /*generation*/ visitChild("generation", this.generation, visitor); break; // Enumeration<GuidePageGeneration>
+      case 3433103: /*page*/ visitChild("page", this.page, visitor); break; // ImplementationGuideDefinitionPageComponent
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("source", this.source, visitor); // DataType
+      visitChild("name", this.name, visitor); // UrlType
+      visitChild("title", this.title, visitor); // StringType
+      visitChild("generation", this.generation, visitor); // Enumeration<GuidePageGeneration>
+      visitChild("page", this.page, visitor); // ImplementationGuideDefinitionPageComponent
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -11905,6 +12033,23 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Coding
+      case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("code", this.code, visitor); // Coding
+      visitChild("value", this.value, visitor); // StringType
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -12226,6 +12371,25 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+      case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // StringType
+      case 109264468: /*scope*/ visitChild("scope", this.scope, visitor); break; // StringType
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("code", this.code, visitor); // CodeType
+      visitChild("source", this.source, visitor); // StringType
+      visitChild("scope", this.scope, visitor); // StringType
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -12718,6 +12882,29 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case 1839654540: /*rendering*/ visitChild("rendering", this.rendering, visitor); break; // UrlType
+      case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // ManifestResourceComponent
+      case 3433103: /*page*/ visitChild("page", this.page, visitor); break; // ManifestPageComponent
+      case 100313435: /*image*/ visitChild("image", this.image, visitor); break; // StringType
+      case 106069776: /*other*/ visitChild("other", this.other, visitor); break; // StringType
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("rendering", this.rendering, visitor); // UrlType
+      visitChild("resource", this.resource, visitor); // ManifestResourceComponent
+      visitChild("page", this.page, visitor); // ManifestPageComponent
+      visitChild("image", this.image, visitor); // StringType
+      visitChild("other", this.other, visitor); // StringType
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -13145,6 +13332,27 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+      case -1902749472: /*isExample*/ visitChild("isExample", this.isExample, visitor); break; // BooleanType
+      case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+      case -70808303: /*relativePath*/ visitChild("relativePath", this.relativePath, visitor); break; // UrlType
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("reference", this.reference, visitor); // Reference
+      visitChild("isExample", this.isExample, visitor); // BooleanType
+      visitChild("profile", this.profile, visitor); // CanonicalType
+      visitChild("relativePath", this.relativePath, visitor); // UrlType
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -13517,6 +13725,25 @@ public class ImplementationGuide extends CanonicalResource {
 
     }
 
+    @Override
+    public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+      switch (hash) {
+      case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+      case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+      case -1413299531: /*anchor*/ visitChild("anchor", this.anchor, visitor); break; // StringType
+      default: super.visitChildren(hash, name, visitor);
+      }
+
+    }
+
+    @Override
+    public void visitChildren(IChildVisitor visitor) throws FHIRException {
+      super.visitChildren(visitor);
+      visitChild("name", this.name, visitor); // StringType
+      visitChild("title", this.title, visitor); // StringType
+      visitChild("anchor", this.anchor, visitor); // StringType
+    }
+
     @Override
     public Base setProperty(int hash, String name, Base value) throws FHIRException {
       switch (hash) {
@@ -15080,6 +15307,67 @@ public class ImplementationGuide extends CanonicalResource {
 
   }
 
+  @Override
+  public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+    switch (hash) {
+    case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+    case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+    case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+    case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+    case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+    case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+    case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+    case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+    case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+    case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+    case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+    case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+    case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+    case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+    case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+    case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+    case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+    case 1802060801: /*packageId*/ visitChild("packageId", this.packageId, visitor); break; // IdType
+    case 166757441: /*license*/ visitChild("license", this.license, visitor); break; // Enumeration<SPDXLicense>
+    case 461006061: /*fhirVersion*/ visitChild("fhirVersion", this.fhirVersion, visitor); break; // Enumeration<FHIRVersion>
+    case -1109214266: /*dependsOn*/ visitChild("dependsOn", this.dependsOn, visitor); break; // ImplementationGuideDependsOnComponent
+    case -1243020381: /*global*/ visitChild("global", this.global, visitor); break; // ImplementationGuideGlobalComponent
+    case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // ImplementationGuideDefinitionComponent
+    case 130625071: /*manifest*/ visitChild("manifest", this.manifest, visitor); break; // ImplementationGuideManifestComponent
+    default: super.visitChildren(hash, name, visitor);
+    }
+
+  }
+
+  @Override
+  public void visitChildren(IChildVisitor visitor) throws FHIRException {
+    super.visitChildren(visitor);
+    visitChild("url", this.url, visitor); // UriType
+    visitChild("identifier", this.identifier, visitor); // Identifier
+    visitChild("version", this.version, visitor); // StringType
+    visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+    visitChild("name", this.name, visitor); // StringType
+    visitChild("title", this.title, visitor); // StringType
+    visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+    visitChild("experimental", this.experimental, visitor); // BooleanType
+    visitChild("date", this.date, visitor); // DateTimeType
+    visitChild("publisher", this.publisher, visitor); // StringType
+    visitChild("contact", this.contact, visitor); // ContactDetail
+    visitChild("description", this.description, visitor); // MarkdownType
+    visitChild("useContext", this.useContext, visitor); // UsageContext
+    visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+    visitChild("purpose", this.purpose, visitor); // MarkdownType
+    visitChild("copyright", this.copyright, visitor); // MarkdownType
+    visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+    visitChild("packageId", this.packageId, visitor); // IdType
+    visitChild("license", this.license, visitor); // Enumeration<SPDXLicense>
+    visitChild("fhirVersion", this.fhirVersion, visitor); // Enumeration<FHIRVersion>
+    visitChild("dependsOn", this.dependsOn, visitor); // ImplementationGuideDependsOnComponent
+    visitChild("global", this.global, visitor); // ImplementationGuideGlobalComponent
+    visitChild("definition", this.definition, visitor); // ImplementationGuideDefinitionComponent
+    visitChild("manifest", this.manifest, visitor); // ImplementationGuideManifestComponent
+  }
+
   @Override
   public Base setProperty(int hash, String name, Base value) throws FHIRException {
     switch (hash) {
@@ -300,6 +300,23 @@ public class Ingredient extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // Enumeration<IngredientManufacturerRole>
+        case -1969347631: /*manufacturer*/ visitChild("manufacturer", this.manufacturer, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("role", this.role, visitor); // Enumeration<IngredientManufacturerRole>
+        visitChild("manufacturer", this.manufacturer, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -552,6 +569,23 @@ public class Ingredient extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableReference
+        case 1791316033: /*strength*/ visitChild("strength", this.strength, visitor); break; // IngredientSubstanceStrengthComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableReference
+        visitChild("strength", this.strength, visitor); // IngredientSubstanceStrengthComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1229,6 +1263,35 @@ public class Ingredient extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 696975130: /*presentation*/ visitChild("presentation", this.presentation, visitor); break; // DataType
+        case -799720217: /*textPresentation*/ visitChild("textPresentation", this.textPresentation, visitor); break; // StringType
+        case -410557331: /*concentration*/ visitChild("concentration", this.concentration, visitor); break; // DataType
+        case 436527168: /*textConcentration*/ visitChild("textConcentration", this.textConcentration, visitor); break; // StringType
+        case 93508670: /*basis*/ visitChild("basis", this.basis, visitor); break; // CodeableConcept
+        case 235437876: /*measurementPoint*/ visitChild("measurementPoint", this.measurementPoint, visitor); break; // StringType
+        case 957831062: /*country*/ visitChild("country", this.country, visitor); break; // CodeableConcept
+        case 1943566508: /*referenceStrength*/ visitChild("referenceStrength", this.referenceStrength, visitor); break; // IngredientSubstanceStrengthReferenceStrengthComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("presentation", this.presentation, visitor); // DataType
+        visitChild("textPresentation", this.textPresentation, visitor); // StringType
+        visitChild("concentration", this.concentration, visitor); // DataType
+        visitChild("textConcentration", this.textConcentration, visitor); // StringType
+        visitChild("basis", this.basis, visitor); // CodeableConcept
+        visitChild("measurementPoint", this.measurementPoint, visitor); // StringType
+        visitChild("country", this.country, visitor); // CodeableConcept
+        visitChild("referenceStrength", this.referenceStrength, visitor); // IngredientSubstanceStrengthReferenceStrengthComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1740,6 +1803,27 @@ public class Ingredient extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 530040176: /*substance*/ visitChild("substance", this.substance, visitor); break; // CodeableReference
+        case 1791316033: /*strength*/ visitChild("strength", this.strength, visitor); break; // DataType
+        case 235437876: /*measurementPoint*/ visitChild("measurementPoint", this.measurementPoint, visitor); break; // StringType
+        case 957831062: /*country*/ visitChild("country", this.country, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("substance", this.substance, visitor); // CodeableReference
+        visitChild("strength", this.strength, visitor); // DataType
+        visitChild("measurementPoint", this.measurementPoint, visitor); // StringType
+        visitChild("country", this.country, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2430,6 +2514,39 @@ public class Ingredient extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case 101577: /*for*/ visitChild("for", this.for_, visitor); break; // Reference
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 98629247: /*group*/ visitChild("group", this.group, visitor); break; // CodeableConcept
+        case 75406931: /*allergenicIndicator*/ visitChild("allergenicIndicator", this.allergenicIndicator, visitor); break; // BooleanType
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // MarkdownType
+        case -1969347631: /*manufacturer*/ visitChild("manufacturer", this.manufacturer, visitor); break; // IngredientManufacturerComponent
+        case 530040176: /*substance*/ visitChild("substance", this.substance, visitor); break; // IngredientSubstanceComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("for", this.for_, visitor); // Reference
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("group", this.group, visitor); // CodeableConcept
+        visitChild("allergenicIndicator", this.allergenicIndicator, visitor); // BooleanType
+        visitChild("comment", this.comment, visitor); // MarkdownType
+        visitChild("manufacturer", this.manufacturer, visitor); // IngredientManufacturerComponent
+        visitChild("substance", this.substance, visitor); // IngredientSubstanceComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
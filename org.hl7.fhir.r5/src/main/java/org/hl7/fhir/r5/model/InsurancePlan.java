@@ -253,6 +253,25 @@ public class InsurancePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1843485230: /*network*/ visitChild("network", this.network, visitor); break; // Reference
+        case -222710633: /*benefit*/ visitChild("benefit", this.benefit, visitor); break; // CoverageBenefitComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("network", this.network, visitor); // Reference
+        visitChild("benefit", this.benefit, visitor); // CoverageBenefitComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -582,6 +601,25 @@ public class InsurancePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 363387971: /*requirement*/ visitChild("requirement", this.requirement, visitor); break; // StringType
+        case 102976443: /*limit*/ visitChild("limit", this.limit, visitor); break; // CoverageBenefitLimitComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("requirement", this.requirement, visitor); // StringType
+        visitChild("limit", this.limit, visitor); // CoverageBenefitLimitComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -812,6 +850,23 @@ public class InsurancePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // Quantity
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // Quantity
+        visitChild("code", this.code, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1305,6 +1360,31 @@ public class InsurancePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1532328299: /*coverageArea*/ visitChild("coverageArea", this.coverageArea, visitor); break; // Reference
+        case 1843485230: /*network*/ visitChild("network", this.network, visitor); break; // Reference
+        case 878344405: /*generalCost*/ visitChild("generalCost", this.generalCost, visitor); break; // InsurancePlanPlanGeneralCostComponent
+        case -1205656545: /*specificCost*/ visitChild("specificCost", this.specificCost, visitor); break; // InsurancePlanPlanSpecificCostComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("coverageArea", this.coverageArea, visitor); // Reference
+        visitChild("network", this.network, visitor); // Reference
+        visitChild("generalCost", this.generalCost, visitor); // InsurancePlanPlanGeneralCostComponent
+        visitChild("specificCost", this.specificCost, visitor); // InsurancePlanPlanSpecificCostComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1705,6 +1785,27 @@ public class InsurancePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1483017440: /*groupSize*/ visitChild("groupSize", this.groupSize, visitor); break; // PositiveIntType
+        case 3059661: /*cost*/ visitChild("cost", this.cost, visitor); break; // Money
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("groupSize", this.groupSize, visitor); // PositiveIntType
+        visitChild("cost", this.cost, visitor); // Money
+        visitChild("comment", this.comment, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1982,6 +2083,23 @@ public class InsurancePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -222710633: /*benefit*/ visitChild("benefit", this.benefit, visitor); break; // PlanBenefitComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("benefit", this.benefit, visitor); // PlanBenefitComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2234,6 +2352,23 @@ public class InsurancePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3059661: /*cost*/ visitChild("cost", this.cost, visitor); break; // PlanBenefitCostComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("cost", this.cost, visitor); // PlanBenefitCostComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2555,6 +2690,27 @@ public class InsurancePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1526770491: /*applicability*/ visitChild("applicability", this.applicability, visitor); break; // CodeableConcept
+        case -31447799: /*qualifiers*/ visitChild("qualifiers", this.qualifiers, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("applicability", this.applicability, visitor); // CodeableConcept
+        visitChild("qualifiers", this.qualifiers, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3527,6 +3683,47 @@ public class InsurancePlan extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 92902992: /*alias*/ visitChild("alias", this.alias, visitor); break; // StringType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -1054743076: /*ownedBy*/ visitChild("ownedBy", this.ownedBy, visitor); break; // Reference
+        case 898770462: /*administeredBy*/ visitChild("administeredBy", this.administeredBy, visitor); break; // Reference
+        case -1532328299: /*coverageArea*/ visitChild("coverageArea", this.coverageArea, visitor); break; // Reference
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ExtendedContactDetail
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // Reference
+        case 1843485230: /*network*/ visitChild("network", this.network, visitor); break; // Reference
+        case -351767064: /*coverage*/ visitChild("coverage", this.coverage, visitor); break; // InsurancePlanCoverageComponent
+        case 3443497: /*plan*/ visitChild("plan", this.plan, visitor); break; // InsurancePlanPlanComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("alias", this.alias, visitor); // StringType
+        visitChild("period", this.period, visitor); // Period
+        visitChild("ownedBy", this.ownedBy, visitor); // Reference
+        visitChild("administeredBy", this.administeredBy, visitor); // Reference
+        visitChild("coverageArea", this.coverageArea, visitor); // Reference
+        visitChild("contact", this.contact, visitor); // ExtendedContactDetail
+        visitChild("endpoint", this.endpoint, visitor); // Reference
+        visitChild("network", this.network, visitor); // Reference
+        visitChild("coverage", this.coverage, visitor); // InsurancePlanCoverageComponent
+        visitChild("plan", this.plan, visitor); // InsurancePlanPlanComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
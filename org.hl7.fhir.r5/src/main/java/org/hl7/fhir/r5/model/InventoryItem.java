@@ -370,6 +370,25 @@ public class InventoryItem extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1840595045: /*nameType*/ visitChild("nameType", this.nameType, visitor); break; // Coding
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // Enumeration<CommonLanguages>
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("nameType", this.nameType, visitor); // Coding
+        visitChild("language", this.language, visitor); // Enumeration<CommonLanguages>
+        visitChild("name", this.name, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -608,6 +627,23 @@ public class InventoryItem extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case 1178922291: /*organization*/ visitChild("organization", this.organization, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("organization", this.organization, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -871,6 +907,23 @@ public class InventoryItem extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // Enumeration<CommonLanguages>
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("language", this.language, visitor); // Enumeration<CommonLanguages>
+        visitChild("description", this.description, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1130,6 +1183,25 @@ public class InventoryItem extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 2050799451: /*associationType*/ visitChild("associationType", this.associationType, visitor); break; // CodeableConcept
+        case 1112702430: /*relatedItem*/ visitChild("relatedItem", this.relatedItem, visitor); break; // Reference
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Ratio
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("associationType", this.associationType, visitor); // CodeableConcept
+        visitChild("relatedItem", this.relatedItem, visitor); // Reference
+        visitChild("quantity", this.quantity, visitor); // Ratio
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1573,6 +1645,23 @@ public class InventoryItem extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1172127605: /*characteristicType*/ visitChild("characteristicType", this.characteristicType, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("characteristicType", this.characteristicType, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2017,6 +2106,29 @@ public class InventoryItem extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 462547450: /*lotNumber*/ visitChild("lotNumber", this.lotNumber, visitor); break; // StringType
+        case -1289159373: /*expiry*/ visitChild("expiry", this.expiry, visitor); break; // DateTimeType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("lotNumber", this.lotNumber, visitor); // StringType
+        visitChild("expiry", this.expiry, visitor); // DateTimeType
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("location", this.location, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2943,6 +3055,47 @@ public class InventoryItem extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<InventoryItemStatusCodes>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // InventoryItemNameComponent
+        case -1704933559: /*responsibleOrganization*/ visitChild("responsibleOrganization", this.responsibleOrganization, visitor); break; // InventoryItemResponsibleOrganizationComponent
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // InventoryItemDescriptionComponent
+        case -1370922898: /*inventoryStatus*/ visitChild("inventoryStatus", this.inventoryStatus, visitor); break; // CodeableConcept
+        case -1721465867: /*baseUnit*/ visitChild("baseUnit", this.baseUnit, visitor); break; // CodeableConcept
+        case 612796444: /*netContent*/ visitChild("netContent", this.netContent, visitor); break; // Quantity
+        case -87499647: /*association*/ visitChild("association", this.association, visitor); break; // InventoryItemAssociationComponent
+        case 366313883: /*characteristic*/ visitChild("characteristic", this.characteristic, visitor); break; // InventoryItemCharacteristicComponent
+        case 555127957: /*instance*/ visitChild("instance", this.instance, visitor); break; // InventoryItemInstanceComponent
+        case -669667556: /*productReference*/ visitChild("productReference", this.productReference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<InventoryItemStatusCodes>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // InventoryItemNameComponent
+        visitChild("responsibleOrganization", this.responsibleOrganization, visitor); // InventoryItemResponsibleOrganizationComponent
+        visitChild("description", this.description, visitor); // InventoryItemDescriptionComponent
+        visitChild("inventoryStatus", this.inventoryStatus, visitor); // CodeableConcept
+        visitChild("baseUnit", this.baseUnit, visitor); // CodeableConcept
+        visitChild("netContent", this.netContent, visitor); // Quantity
+        visitChild("association", this.association, visitor); // InventoryItemAssociationComponent
+        visitChild("characteristic", this.characteristic, visitor); // InventoryItemCharacteristicComponent
+        visitChild("instance", this.instance, visitor); // InventoryItemInstanceComponent
+        visitChild("productReference", this.productReference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
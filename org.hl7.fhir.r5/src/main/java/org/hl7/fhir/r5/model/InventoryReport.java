@@ -502,6 +502,27 @@ public class InventoryReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case 1999789285: /*itemStatus*/ visitChild("itemStatus", this.itemStatus, visitor); break; // CodeableConcept
+        case -2075203282: /*countingDateTime*/ visitChild("countingDateTime", this.countingDateTime, visitor); break; // DateTimeType
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // InventoryReportInventoryListingItemComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("itemStatus", this.itemStatus, visitor); // CodeableConcept
+        visitChild("countingDateTime", this.countingDateTime, visitor); // DateTimeType
+        visitChild("item", this.item, visitor); // InventoryReportInventoryListingItemComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -789,6 +810,25 @@ public class InventoryReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // CodeableReference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("item", this.item, visitor); // CodeableReference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1449,6 +1489,39 @@ public class InventoryReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<InventoryReportStatus>
+        case 1351759081: /*countType*/ visitChild("countType", this.countType, visitor); break; // Enumeration<InventoryCountType>
+        case 91999553: /*operationType*/ visitChild("operationType", this.operationType, visitor); break; // CodeableConcept
+        case 449681125: /*operationTypeReason*/ visitChild("operationTypeReason", this.operationTypeReason, visitor); break; // CodeableConcept
+        case -1048250994: /*reportedDateTime*/ visitChild("reportedDateTime", this.reportedDateTime, visitor); break; // DateTimeType
+        case -427039519: /*reporter*/ visitChild("reporter", this.reporter, visitor); break; // Reference
+        case 409685391: /*reportingPeriod*/ visitChild("reportingPeriod", this.reportingPeriod, visitor); break; // Period
+        case -1764804216: /*inventoryListing*/ visitChild("inventoryListing", this.inventoryListing, visitor); break; // InventoryReportInventoryListingComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<InventoryReportStatus>
+        visitChild("countType", this.countType, visitor); // Enumeration<InventoryCountType>
+        visitChild("operationType", this.operationType, visitor); // CodeableConcept
+        visitChild("operationTypeReason", this.operationTypeReason, visitor); // CodeableConcept
+        visitChild("reportedDateTime", this.reportedDateTime, visitor); // DateTimeType
+        visitChild("reporter", this.reporter, visitor); // Reference
+        visitChild("reportingPeriod", this.reportingPeriod, visitor); // Period
+        visitChild("inventoryListing", this.inventoryListing, visitor); // InventoryReportInventoryListingComponent
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
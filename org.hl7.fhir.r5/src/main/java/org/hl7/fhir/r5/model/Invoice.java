@@ -306,6 +306,23 @@ public class Invoice extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -704,6 +721,27 @@ public class Invoice extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // PositiveIntType
+        case 1379209295: /*serviced*/ visitChild("serviced", this.serviced, visitor); break; // DataType
+        case 1417779175: /*chargeItem*/ visitChild("chargeItem", this.chargeItem, visitor); break; // DataType
+        case 1219095988: /*priceComponent*/ visitChild("priceComponent", this.priceComponent, visitor); break; // MonetaryComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequence", this.sequence, visitor); // PositiveIntType
+        visitChild("serviced", this.serviced, visitor); // DataType
+        visitChild("chargeItem", this.chargeItem, visitor); // DataType
+        visitChild("priceComponent", this.priceComponent, visitor); // MonetaryComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1805,6 +1843,55 @@ public class Invoice extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<InvoiceStatus>
+        case 1550362357: /*cancelledReason*/ visitChild("cancelledReason", this.cancelledReason, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 820081177: /*recipient*/ visitChild("recipient", this.recipient, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1820421855: /*creation*/ visitChild("creation", this.creation, visitor); break; // DateTimeType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // DataType
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // InvoiceParticipantComponent
+        case -1179159879: /*issuer*/ visitChild("issuer", this.issuer, visitor); break; // Reference
+        case -1177318867: /*account*/ visitChild("account", this.account, visitor); break; // Reference
+        case 1188332839: /*lineItem*/ visitChild("lineItem", this.lineItem, visitor); break; // InvoiceLineItemComponent
+        case 1731497496: /*totalPriceComponent*/ visitChild("totalPriceComponent", this.totalPriceComponent, visitor); break; // MonetaryComponent
+        case -849911879: /*totalNet*/ visitChild("totalNet", this.totalNet, visitor); break; // Money
+        case -727607968: /*totalGross*/ visitChild("totalGross", this.totalGross, visitor); break; // Money
+        case -507544799: /*paymentTerms*/ visitChild("paymentTerms", this.paymentTerms, visitor); break; // MarkdownType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<InvoiceStatus>
+        visitChild("cancelledReason", this.cancelledReason, visitor); // StringType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("recipient", this.recipient, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("creation", this.creation, visitor); // DateTimeType
+        visitChild("period", this.period, visitor); // DataType
+        visitChild("participant", this.participant, visitor); // InvoiceParticipantComponent
+        visitChild("issuer", this.issuer, visitor); // Reference
+        visitChild("account", this.account, visitor); // Reference
+        visitChild("lineItem", this.lineItem, visitor); // InvoiceLineItemComponent
+        visitChild("totalPriceComponent", this.totalPriceComponent, visitor); // MonetaryComponent
+        visitChild("totalNet", this.totalNet, visitor); // Money
+        visitChild("totalGross", this.totalGross, visitor); // Money
+        visitChild("paymentTerms", this.paymentTerms, visitor); // MarkdownType
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
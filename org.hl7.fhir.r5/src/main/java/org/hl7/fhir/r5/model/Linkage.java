@@ -297,6 +297,23 @@ public class Linkage extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<LinkageType>
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<LinkageType>
+        visitChild("resource", this.resource, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -601,6 +618,25 @@ public class Linkage extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // LinkageItemComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("item", this.item, visitor); // LinkageItemComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -389,6 +389,27 @@ public class ListResource extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3145580: /*flag*/ visitChild("flag", this.flag, visitor); break; // CodeableConcept
+        case 1550463001: /*deleted*/ visitChild("deleted", this.deleted, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("flag", this.flag, visitor); // CodeableConcept
+        visitChild("deleted", this.deleted, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("item", this.item, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1223,6 +1244,45 @@ public class ListResource extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ListStatus>
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // Enumeration<ListMode>
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        case -391079516: /*orderedBy*/ visitChild("orderedBy", this.orderedBy, visitor); break; // CodeableConcept
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 96667762: /*entry*/ visitChild("entry", this.entry, visitor); break; // ListResourceEntryComponent
+        case 1140135409: /*emptyReason*/ visitChild("emptyReason", this.emptyReason, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<ListStatus>
+        visitChild("mode", this.mode, visitor); // Enumeration<ListMode>
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("source", this.source, visitor); // Reference
+        visitChild("orderedBy", this.orderedBy, visitor); // CodeableConcept
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("entry", this.entry, visitor); // ListResourceEntryComponent
+        visitChild("emptyReason", this.emptyReason, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
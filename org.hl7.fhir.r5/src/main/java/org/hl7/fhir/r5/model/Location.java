@@ -529,6 +529,25 @@ public class Location extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 137365935: /*longitude*/ visitChild("longitude", this.longitude, visitor); break; // DecimalType
+        case -1439978388: /*latitude*/ visitChild("latitude", this.latitude, visitor); break; // DecimalType
+        case 2036550306: /*altitude*/ visitChild("altitude", this.altitude, visitor); break; // DecimalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("longitude", this.longitude, visitor); // DecimalType
+        visitChild("latitude", this.latitude, visitor); // DecimalType
+        visitChild("altitude", this.altitude, visitor); // DecimalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1643,6 +1662,55 @@ public class Location extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<LocationStatus>
+        case -2103166364: /*operationalStatus*/ visitChild("operationalStatus", this.operationalStatus, visitor); break; // Coding
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 92902992: /*alias*/ visitChild("alias", this.alias, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // Enumeration<LocationMode>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ExtendedContactDetail
+        case -1147692044: /*address*/ visitChild("address", this.address, visitor); break; // Address
+        case 3148996: /*form*/ visitChild("form", this.form, visitor); break; // CodeableConcept
+        case 747804969: /*position*/ visitChild("position", this.position, visitor); break; // LocationPositionComponent
+        case -2058947787: /*managingOrganization*/ visitChild("managingOrganization", this.managingOrganization, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case 366313883: /*characteristic*/ visitChild("characteristic", this.characteristic, visitor); break; // CodeableConcept
+        case -1588872511: /*hoursOfOperation*/ visitChild("hoursOfOperation", this.hoursOfOperation, visitor); break; // Availability
+        case 1420774698: /*virtualService*/ visitChild("virtualService", this.virtualService, visitor); break; // VirtualServiceDetail
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<LocationStatus>
+        visitChild("operationalStatus", this.operationalStatus, visitor); // Coding
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("alias", this.alias, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("mode", this.mode, visitor); // Enumeration<LocationMode>
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("contact", this.contact, visitor); // ExtendedContactDetail
+        visitChild("address", this.address, visitor); // Address
+        visitChild("form", this.form, visitor); // CodeableConcept
+        visitChild("position", this.position, visitor); // LocationPositionComponent
+        visitChild("managingOrganization", this.managingOrganization, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("characteristic", this.characteristic, visitor); // CodeableConcept
+        visitChild("hoursOfOperation", this.hoursOfOperation, visitor); // Availability
+        visitChild("virtualService", this.virtualService, visitor); // VirtualServiceDetail
+        visitChild("endpoint", this.endpoint, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -271,6 +271,23 @@ public class ManufacturedItemDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -797,6 +814,31 @@ public class ManufacturedItemDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Quantity
+        case -1846470364: /*constituent*/ visitChild("constituent", this.constituent, visitor); break; // ManufacturedItemDefinitionComponentConstituentComponent
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // ManufacturedItemDefinitionPropertyComponent
+        case -1399907075: /*component*/ visitChild("component", this.component, visitor); break; // ManufacturedItemDefinitionComponentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("amount", this.amount, visitor); // Quantity
+        visitChild("constituent", this.constituent, visitor); // ManufacturedItemDefinitionComponentConstituentComponent
+        visitChild("property", this.property, visitor); // ManufacturedItemDefinitionPropertyComponent
+        visitChild("component", this.component, visitor); // ManufacturedItemDefinitionComponentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1267,6 +1309,27 @@ public class ManufacturedItemDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Quantity
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // CodeableConcept
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 483059723: /*hasIngredient*/ visitChild("hasIngredient", this.hasIngredient, visitor); break; // CodeableReference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("amount", this.amount, visitor); // Quantity
+        visitChild("location", this.location, visitor); // CodeableConcept
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("hasIngredient", this.hasIngredient, visitor); // CodeableReference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2024,6 +2087,39 @@ public class ManufacturedItemDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1451400348: /*manufacturedDoseForm*/ visitChild("manufacturedDoseForm", this.manufacturedDoseForm, visitor); break; // CodeableConcept
+        case -1427765963: /*unitOfPresentation*/ visitChild("unitOfPresentation", this.unitOfPresentation, visitor); break; // CodeableConcept
+        case -1969347631: /*manufacturer*/ visitChild("manufacturer", this.manufacturer, visitor); break; // Reference
+        case 70767032: /*marketingStatus*/ visitChild("marketingStatus", this.marketingStatus, visitor); break; // MarketingStatus
+        case -206409263: /*ingredient*/ visitChild("ingredient", this.ingredient, visitor); break; // CodeableConcept
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // ManufacturedItemDefinitionPropertyComponent
+        case -1399907075: /*component*/ visitChild("component", this.component, visitor); break; // ManufacturedItemDefinitionComponentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("manufacturedDoseForm", this.manufacturedDoseForm, visitor); // CodeableConcept
+        visitChild("unitOfPresentation", this.unitOfPresentation, visitor); // CodeableConcept
+        visitChild("manufacturer", this.manufacturer, visitor); // Reference
+        visitChild("marketingStatus", this.marketingStatus, visitor); // MarketingStatus
+        visitChild("ingredient", this.ingredient, visitor); // CodeableConcept
+        visitChild("property", this.property, visitor); // ManufacturedItemDefinitionPropertyComponent
+        visitChild("component", this.component, visitor); // ManufacturedItemDefinitionComponentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
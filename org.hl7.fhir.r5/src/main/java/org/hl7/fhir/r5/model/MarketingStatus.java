@@ -282,6 +282,29 @@ public class MarketingStatus extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 957831062: /*country*/ visitChild("country", this.country, visitor); break; // CodeableConcept
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case -261425617: /*dateRange*/ visitChild("dateRange", this.dateRange, visitor); break; // Period
+        case 329465692: /*restoreDate*/ visitChild("restoreDate", this.restoreDate, visitor); break; // DateTimeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("country", this.country, visitor); // CodeableConcept
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("dateRange", this.dateRange, visitor); // Period
+        visitChild("restoreDate", this.restoreDate, visitor); // DateTimeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
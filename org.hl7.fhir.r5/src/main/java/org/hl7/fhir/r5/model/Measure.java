@@ -178,6 +178,23 @@ public class Measure extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("definition", this.definition, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1024,6 +1041,45 @@ public class Measure extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // DataType
+        case 93508670: /*basis*/ visitChild("basis", this.basis, visitor); break; // Enumeration<FHIRTypes>
+        case 1924005583: /*scoring*/ visitChild("scoring", this.scoring, visitor); break; // CodeableConcept
+        case 1527532787: /*scoringUnit*/ visitChild("scoringUnit", this.scoringUnit, visitor); break; // CodeableConcept
+        case 1254503906: /*rateAggregation*/ visitChild("rateAggregation", this.rateAggregation, visitor); break; // MarkdownType
+        case -2085456136: /*improvementNotation*/ visitChild("improvementNotation", this.improvementNotation, visitor); break; // CodeableConcept
+        case 166208699: /*library*/ visitChild("library", this.library, visitor); break; // CanonicalType
+        case -2023558323: /*population*/ visitChild("population", this.population, visitor); break; // MeasureGroupPopulationComponent
+        case 90983669: /*stratifier*/ visitChild("stratifier", this.stratifier, visitor); break; // MeasureGroupStratifierComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // DataType
+        visitChild("basis", this.basis, visitor); // Enumeration<FHIRTypes>
+        visitChild("scoring", this.scoring, visitor); // CodeableConcept
+        visitChild("scoringUnit", this.scoringUnit, visitor); // CodeableConcept
+        visitChild("rateAggregation", this.rateAggregation, visitor); // MarkdownType
+        visitChild("improvementNotation", this.improvementNotation, visitor); // CodeableConcept
+        visitChild("library", this.library, visitor); // CanonicalType
+        visitChild("population", this.population, visitor); // MeasureGroupPopulationComponent
+        visitChild("stratifier", this.stratifier, visitor); // MeasureGroupStratifierComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1661,6 +1717,33 @@ public class Measure extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 1952046943: /*criteria*/ visitChild("criteria", this.criteria, visitor); break; // Expression
+        case 158676274: /*groupDefinition*/ visitChild("groupDefinition", this.groupDefinition, visitor); break; // Reference
+        case -464344526: /*inputPopulationId*/ visitChild("inputPopulationId", this.inputPopulationId, visitor); break; // StringType
+        case -1036416: /*aggregateMethod*/ visitChild("aggregateMethod", this.aggregateMethod, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("criteria", this.criteria, visitor); // Expression
+        visitChild("groupDefinition", this.groupDefinition, visitor); // Reference
+        visitChild("inputPopulationId", this.inputPopulationId, visitor); // StringType
+        visitChild("aggregateMethod", this.aggregateMethod, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2161,6 +2244,31 @@ public class Measure extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 1952046943: /*criteria*/ visitChild("criteria", this.criteria, visitor); break; // Expression
+        case 158676274: /*groupDefinition*/ visitChild("groupDefinition", this.groupDefinition, visitor); break; // Reference
+        case -1399907075: /*component*/ visitChild("component", this.component, visitor); break; // MeasureGroupStratifierComponentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("criteria", this.criteria, visitor); // Expression
+        visitChild("groupDefinition", this.groupDefinition, visitor); // Reference
+        visitChild("component", this.component, visitor); // MeasureGroupStratifierComponentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2586,6 +2694,29 @@ public class Measure extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 1952046943: /*criteria*/ visitChild("criteria", this.criteria, visitor); break; // Expression
+        case 158676274: /*groupDefinition*/ visitChild("groupDefinition", this.groupDefinition, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("criteria", this.criteria, visitor); // Expression
+        visitChild("groupDefinition", this.groupDefinition, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3032,6 +3163,29 @@ public class Measure extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111574433: /*usage*/ visitChild("usage", this.usage, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 1952046943: /*criteria*/ visitChild("criteria", this.criteria, visitor); break; // Expression
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("usage", this.usage, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("criteria", this.criteria, visitor); // Expression
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5838,6 +5992,109 @@ public class Measure extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -2060497896: /*subtitle*/ visitChild("subtitle", this.subtitle, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // DataType
+        case 93508670: /*basis*/ visitChild("basis", this.basis, visitor); break; // Enumeration<FHIRTypes>
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 111574433: /*usage*/ visitChild("usage", this.usage, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // CodeableConcept
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // ContactDetail
+        case -1307827859: /*editor*/ visitChild("editor", this.editor, visitor); break; // ContactDetail
+        case -261190139: /*reviewer*/ visitChild("reviewer", this.reviewer, visitor); break; // ContactDetail
+        case 1740277666: /*endorser*/ visitChild("endorser", this.endorser, visitor); break; // ContactDetail
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case 166208699: /*library*/ visitChild("library", this.library, visitor); break; // CanonicalType
+        case 432371099: /*disclaimer*/ visitChild("disclaimer", this.disclaimer, visitor); break; // MarkdownType
+        case 1924005583: /*scoring*/ visitChild("scoring", this.scoring, visitor); break; // CodeableConcept
+        case 1527532787: /*scoringUnit*/ visitChild("scoringUnit", this.scoringUnit, visitor); break; // CodeableConcept
+        case 569347656: /*compositeScoring*/ visitChild("compositeScoring", this.compositeScoring, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 93273500: /*riskAdjustment*/ visitChild("riskAdjustment", this.riskAdjustment, visitor); break; // MarkdownType
+        case 1254503906: /*rateAggregation*/ visitChild("rateAggregation", this.rateAggregation, visitor); break; // MarkdownType
+        case 345689335: /*rationale*/ visitChild("rationale", this.rationale, visitor); break; // MarkdownType
+        case -18631389: /*clinicalRecommendationStatement*/ visitChild("clinicalRecommendationStatement", this.clinicalRecommendationStatement, visitor); break; // MarkdownType
+        case -2085456136: /*improvementNotation*/ visitChild("improvementNotation", this.improvementNotation, visitor); break; // CodeableConcept
+        case 3556460: /*term*/ visitChild("term", this.term, visitor); break; // MeasureTermComponent
+        case -1314002088: /*guidance*/ visitChild("guidance", this.guidance, visitor); break; // MarkdownType
+        case 98629247: /*group*/ visitChild("group", this.group, visitor); break; // MeasureGroupComponent
+        case 1447496814: /*supplementalData*/ visitChild("supplementalData", this.supplementalData, visitor); break; // MeasureSupplementalDataComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("subtitle", this.subtitle, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("subject", this.subject, visitor); // DataType
+        visitChild("basis", this.basis, visitor); // Enumeration<FHIRTypes>
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("usage", this.usage, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("topic", this.topic, visitor); // CodeableConcept
+        visitChild("author", this.author, visitor); // ContactDetail
+        visitChild("editor", this.editor, visitor); // ContactDetail
+        visitChild("reviewer", this.reviewer, visitor); // ContactDetail
+        visitChild("endorser", this.endorser, visitor); // ContactDetail
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("library", this.library, visitor); // CanonicalType
+        visitChild("disclaimer", this.disclaimer, visitor); // MarkdownType
+        visitChild("scoring", this.scoring, visitor); // CodeableConcept
+        visitChild("scoringUnit", this.scoringUnit, visitor); // CodeableConcept
+        visitChild("compositeScoring", this.compositeScoring, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("riskAdjustment", this.riskAdjustment, visitor); // MarkdownType
+        visitChild("rateAggregation", this.rateAggregation, visitor); // MarkdownType
+        visitChild("rationale", this.rationale, visitor); // MarkdownType
+        visitChild("clinicalRecommendationStatement", this.clinicalRecommendationStatement, visitor); // MarkdownType
+        visitChild("improvementNotation", this.improvementNotation, visitor); // CodeableConcept
+        visitChild("term", this.term, visitor); // MeasureTermComponent
+        visitChild("guidance", this.guidance, visitor); // MarkdownType
+        visitChild("group", this.group, visitor); // MeasureGroupComponent
+        visitChild("supplementalData", this.supplementalData, visitor); // MeasureSupplementalDataComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
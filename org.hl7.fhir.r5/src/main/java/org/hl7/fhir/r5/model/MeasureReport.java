@@ -808,6 +808,31 @@ public class MeasureReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case -2023558323: /*population*/ visitChild("population", this.population, visitor); break; // MeasureReportGroupPopulationComponent
+        case -386313260: /*measureScore*/ visitChild("measureScore", this.measureScore, visitor); break; // DataType
+        case 90983669: /*stratifier*/ visitChild("stratifier", this.stratifier, visitor); break; // MeasureReportGroupStratifierComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("population", this.population, visitor); // MeasureReportGroupPopulationComponent
+        visitChild("measureScore", this.measureScore, visitor); // DataType
+        visitChild("stratifier", this.stratifier, visitor); // MeasureReportGroupStratifierComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1317,6 +1342,31 @@ public class MeasureReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 94851343: /*count*/ visitChild("count", this.count, visitor); break; // IntegerType
+        case 2136184106: /*subjectResults*/ visitChild("subjectResults", this.subjectResults, visitor); break; // Reference
+        case 68814208: /*subjectReport*/ visitChild("subjectReport", this.subjectReport, visitor); break; // Reference
+        case -2069868345: /*subjects*/ visitChild("subjects", this.subjects, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("count", this.count, visitor); // IntegerType
+        visitChild("subjectResults", this.subjectResults, visitor); // Reference
+        visitChild("subjectReport", this.subjectReport, visitor); // Reference
+        visitChild("subjects", this.subjects, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1678,6 +1728,25 @@ public class MeasureReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1881991236: /*stratum*/ visitChild("stratum", this.stratum, visitor); break; // StratifierGroupComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("stratum", this.stratum, visitor); // StratifierGroupComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2206,6 +2275,27 @@ public class MeasureReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case -1399907075: /*component*/ visitChild("component", this.component, visitor); break; // StratifierGroupComponentComponent
+        case -2023558323: /*population*/ visitChild("population", this.population, visitor); break; // StratifierGroupPopulationComponent
+        case -386313260: /*measureScore*/ visitChild("measureScore", this.measureScore, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("component", this.component, visitor); // StratifierGroupComponentComponent
+        visitChild("population", this.population, visitor); // StratifierGroupPopulationComponent
+        visitChild("measureScore", this.measureScore, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2640,6 +2730,25 @@ public class MeasureReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3095,6 +3204,31 @@ public class MeasureReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 94851343: /*count*/ visitChild("count", this.count, visitor); break; // IntegerType
+        case 2136184106: /*subjectResults*/ visitChild("subjectResults", this.subjectResults, visitor); break; // Reference
+        case 68814208: /*subjectReport*/ visitChild("subjectReport", this.subjectReport, visitor); break; // Reference
+        case -2069868345: /*subjects*/ visitChild("subjects", this.subjects, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("count", this.count, visitor); // IntegerType
+        visitChild("subjectResults", this.subjectResults, visitor); // Reference
+        visitChild("subjectReport", this.subjectReport, visitor); // Reference
+        visitChild("subjects", this.subjects, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4123,6 +4257,53 @@ public class MeasureReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<MeasureReportStatus>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<MeasureReportType>
+        case -425890067: /*dataUpdateType*/ visitChild("dataUpdateType", this.dataUpdateType, visitor); break; // Enumeration<SubmitDataUpdateType>
+        case 938321246: /*measure*/ visitChild("measure", this.measure, visitor); break; // CanonicalType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case -427039519: /*reporter*/ visitChild("reporter", this.reporter, visitor); break; // Reference
+        case 581336342: /*reportingVendor*/ visitChild("reportingVendor", this.reportingVendor, visitor); break; // Reference
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -812039852: /*inputParameters*/ visitChild("inputParameters", this.inputParameters, visitor); break; // Reference
+        case 1924005583: /*scoring*/ visitChild("scoring", this.scoring, visitor); break; // CodeableConcept
+        case -2085456136: /*improvementNotation*/ visitChild("improvementNotation", this.improvementNotation, visitor); break; // CodeableConcept
+        case 98629247: /*group*/ visitChild("group", this.group, visitor); break; // MeasureReportGroupComponent
+        case 1447496814: /*supplementalData*/ visitChild("supplementalData", this.supplementalData, visitor); break; // Reference
+        case -1056771047: /*evaluatedResource*/ visitChild("evaluatedResource", this.evaluatedResource, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<MeasureReportStatus>
+        visitChild("type", this.type, visitor); // Enumeration<MeasureReportType>
+        visitChild("dataUpdateType", this.dataUpdateType, visitor); // Enumeration<SubmitDataUpdateType>
+        visitChild("measure", this.measure, visitor); // CanonicalType
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("reporter", this.reporter, visitor); // Reference
+        visitChild("reportingVendor", this.reportingVendor, visitor); // Reference
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("period", this.period, visitor); // Period
+        visitChild("inputParameters", this.inputParameters, visitor); // Reference
+        visitChild("scoring", this.scoring, visitor); // CodeableConcept
+        visitChild("improvementNotation", this.improvementNotation, visitor); // CodeableConcept
+        visitChild("group", this.group, visitor); // MeasureReportGroupComponent
+        visitChild("supplementalData", this.supplementalData, visitor); // Reference
+        visitChild("evaluatedResource", this.evaluatedResource, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -377,6 +377,25 @@ public class Medication extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // CodeableReference
+        case -748916528: /*isActive*/ visitChild("isActive", this.isActive, visitor); break; // BooleanType
+        case 1791316033: /*strength*/ visitChild("strength", this.strength, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // CodeableReference
+        visitChild("isActive", this.isActive, visitor); // BooleanType
+        visitChild("strength", this.strength, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -663,6 +682,23 @@ public class Medication extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 462547450: /*lotNumber*/ visitChild("lotNumber", this.lotNumber, visitor); break; // StringType
+        case -668811523: /*expirationDate*/ visitChild("expirationDate", this.expirationDate, visitor); break; // DateTimeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("lotNumber", this.lotNumber, visitor); // StringType
+        visitChild("expirationDate", this.expirationDate, visitor); // DateTimeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1198,6 +1234,37 @@ public class Medication extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<MedicationStatusCodes>
+        case -1565971585: /*marketingAuthorizationHolder*/ visitChild("marketingAuthorizationHolder", this.marketingAuthorizationHolder, visitor); break; // Reference
+        case 1303858817: /*doseForm*/ visitChild("doseForm", this.doseForm, visitor); break; // CodeableConcept
+        case -654431362: /*totalVolume*/ visitChild("totalVolume", this.totalVolume, visitor); break; // Quantity
+        case -206409263: /*ingredient*/ visitChild("ingredient", this.ingredient, visitor); break; // MedicationIngredientComponent
+        case 93509434: /*batch*/ visitChild("batch", this.batch, visitor); break; // MedicationBatchComponent
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // Enumeration<MedicationStatusCodes>
+        visitChild("marketingAuthorizationHolder", this.marketingAuthorizationHolder, visitor); // Reference
+        visitChild("doseForm", this.doseForm, visitor); // CodeableConcept
+        visitChild("totalVolume", this.totalVolume, visitor); // Quantity
+        visitChild("ingredient", this.ingredient, visitor); // MedicationIngredientComponent
+        visitChild("batch", this.batch, visitor); // MedicationBatchComponent
+        visitChild("definition", this.definition, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
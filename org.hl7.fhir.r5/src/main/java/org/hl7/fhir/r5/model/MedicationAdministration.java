@@ -339,6 +339,23 @@ public class MedicationAdministration extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // CodeableReference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // CodeableReference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -755,6 +772,31 @@ The dosage instructions should reflect the dosage of the medication that was adm
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case 3530567: /*site*/ visitChild("site", this.site, visitor); break; // CodeableConcept
+        case 108704329: /*route*/ visitChild("route", this.route, visitor); break; // CodeableConcept
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // CodeableConcept
+        case 3089437: /*dose*/ visitChild("dose", this.dose, visitor); break; // Quantity
+        case 3493088: /*rate*/ visitChild("rate", this.rate, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("site", this.site, visitor); // CodeableConcept
+        visitChild("route", this.route, visitor); // CodeableConcept
+        visitChild("method", this.method, visitor); // CodeableConcept
+        visitChild("dose", this.dose, visitor); // Quantity
+        visitChild("rate", this.rate, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2152,6 +2194,61 @@ The dosage instructions should reflect the dosage of the medication that was adm
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<MedicationAdministrationStatusCodes>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1998965455: /*medication*/ visitChild("medication", this.medication, visitor); break; // CodeableReference
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1248768647: /*supportingInformation*/ visitChild("supportingInformation", this.supportingInformation, visitor); break; // Reference
+        case -1192857417: /*occurence*/ visitChild("occurence", this.occurence, visitor); break; // DataType
+        case -799233872: /*recorded*/ visitChild("recorded", this.recorded, visitor); break; // DateTimeType
+        case 702379724: /*isSubPotent*/ visitChild("isSubPotent", this.isSubPotent, visitor); break; // BooleanType
+        case 969489082: /*subPotentReason*/ visitChild("subPotentReason", this.subPotentReason, visitor); break; // CodeableConcept
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // MedicationAdministrationPerformerComponent
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // CodeableReference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1326018889: /*dosage*/ visitChild("dosage", this.dosage, visitor); break; // MedicationAdministrationDosageComponent
+        case 1835190426: /*eventHistory*/ visitChild("eventHistory", this.eventHistory, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<MedicationAdministrationStatusCodes>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("medication", this.medication, visitor); // CodeableReference
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("supportingInformation", this.supportingInformation, visitor); // Reference
+        visitChild("occurence", this.occurence, visitor); // DataType
+        visitChild("recorded", this.recorded, visitor); // DateTimeType
+        visitChild("isSubPotent", this.isSubPotent, visitor); // BooleanType
+        visitChild("subPotentReason", this.subPotentReason, visitor); // CodeableConcept
+        visitChild("performer", this.performer, visitor); // MedicationAdministrationPerformerComponent
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("device", this.device, visitor); // CodeableReference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("dosage", this.dosage, visitor); // MedicationAdministrationDosageComponent
+        visitChild("eventHistory", this.eventHistory, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -371,6 +371,23 @@ public class MedicationDispense extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -711,6 +728,27 @@ public class MedicationDispense extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -592113567: /*wasSubstituted*/ visitChild("wasSubstituted", this.wasSubstituted, visitor); break; // BooleanType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        case 1511509392: /*responsibleParty*/ visitChild("responsibleParty", this.responsibleParty, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("wasSubstituted", this.wasSubstituted, visitor); // BooleanType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+        visitChild("responsibleParty", this.responsibleParty, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2283,6 +2321,73 @@ public class MedicationDispense extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<MedicationDispenseStatusCodes>
+        case -820839727: /*notPerformedReason*/ visitChild("notPerformedReason", this.notPerformedReason, visitor); break; // CodeableReference
+        case -1174686110: /*statusChanged*/ visitChild("statusChanged", this.statusChanged, visitor); break; // DateTimeType
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1998965455: /*medication*/ visitChild("medication", this.medication, visitor); break; // CodeableReference
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1248768647: /*supportingInformation*/ visitChild("supportingInformation", this.supportingInformation, visitor); break; // Reference
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // MedicationDispensePerformerComponent
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -1237557856: /*authorizingPrescription*/ visitChild("authorizingPrescription", this.authorizingPrescription, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 197175334: /*daysSupply*/ visitChild("daysSupply", this.daysSupply, visitor); break; // Quantity
+        case -799233872: /*recorded*/ visitChild("recorded", this.recorded, visitor); break; // DateTimeType
+        case -562837097: /*whenPrepared*/ visitChild("whenPrepared", this.whenPrepared, visitor); break; // DateTimeType
+        case -940241380: /*whenHandedOver*/ visitChild("whenHandedOver", this.whenHandedOver, visitor); break; // DateTimeType
+        case -1429847026: /*destination*/ visitChild("destination", this.destination, visitor); break; // Reference
+        case -808719889: /*receiver*/ visitChild("receiver", this.receiver, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 1718902050: /*renderedDosageInstruction*/ visitChild("renderedDosageInstruction", this.renderedDosageInstruction, visitor); break; // MarkdownType
+        case -1201373865: /*dosageInstruction*/ visitChild("dosageInstruction", this.dosageInstruction, visitor); break; // Dosage
+        case 826147581: /*substitution*/ visitChild("substitution", this.substitution, visitor); break; // MedicationDispenseSubstitutionComponent
+        case 1835190426: /*eventHistory*/ visitChild("eventHistory", this.eventHistory, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<MedicationDispenseStatusCodes>
+        visitChild("notPerformedReason", this.notPerformedReason, visitor); // CodeableReference
+        visitChild("statusChanged", this.statusChanged, visitor); // DateTimeType
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("medication", this.medication, visitor); // CodeableReference
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("supportingInformation", this.supportingInformation, visitor); // Reference
+        visitChild("performer", this.performer, visitor); // MedicationDispensePerformerComponent
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("authorizingPrescription", this.authorizingPrescription, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("daysSupply", this.daysSupply, visitor); // Quantity
+        visitChild("recorded", this.recorded, visitor); // DateTimeType
+        visitChild("whenPrepared", this.whenPrepared, visitor); // DateTimeType
+        visitChild("whenHandedOver", this.whenHandedOver, visitor); // DateTimeType
+        visitChild("destination", this.destination, visitor); // Reference
+        visitChild("receiver", this.receiver, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("renderedDosageInstruction", this.renderedDosageInstruction, visitor); // MarkdownType
+        visitChild("dosageInstruction", this.dosageInstruction, visitor); // Dosage
+        visitChild("substitution", this.substitution, visitor); // MedicationDispenseSubstitutionComponent
+        visitChild("eventHistory", this.eventHistory, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -304,6 +304,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("reference", this.reference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -519,6 +536,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("source", this.source, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -893,6 +927,27 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -930389515: /*effectiveDate*/ visitChild("effectiveDate", this.effectiveDate, visitor); break; // Period
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // StringType
+        case 3059661: /*cost*/ visitChild("cost", this.cost, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("effectiveDate", this.effectiveDate, visitor); // Period
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("source", this.source, visitor); // StringType
+        visitChild("cost", this.cost, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1167,6 +1222,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1436,6 +1508,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -597168804: /*indication*/ visitChild("indication", this.indication, visitor); break; // CodeableReference
+        case -1792856970: /*dosingGuideline*/ visitChild("dosingGuideline", this.dosingGuideline, visitor); break; // MedicationKnowledgeIndicationGuidelineDosingGuidelineComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("indication", this.indication, visitor); // CodeableReference
+        visitChild("dosingGuideline", this.dosingGuideline, visitor); // MedicationKnowledgeIndicationGuidelineDosingGuidelineComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1782,6 +1871,27 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1744920884: /*treatmentIntent*/ visitChild("treatmentIntent", this.treatmentIntent, visitor); break; // CodeableConcept
+        case -1326018889: /*dosage*/ visitChild("dosage", this.dosage, visitor); break; // MedicationKnowledgeIndicationGuidelineDosingGuidelineDosageComponent
+        case 1197121978: /*administrationTreatment*/ visitChild("administrationTreatment", this.administrationTreatment, visitor); break; // CodeableConcept
+        case 1770130432: /*patientCharacteristic*/ visitChild("patientCharacteristic", this.patientCharacteristic, visitor); break; // MedicationKnowledgeIndicationGuidelineDosingGuidelinePatientCharacteristicComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("treatmentIntent", this.treatmentIntent, visitor); // CodeableConcept
+        visitChild("dosage", this.dosage, visitor); // MedicationKnowledgeIndicationGuidelineDosingGuidelineDosageComponent
+        visitChild("administrationTreatment", this.administrationTreatment, visitor); // CodeableConcept
+        visitChild("patientCharacteristic", this.patientCharacteristic, visitor); // MedicationKnowledgeIndicationGuidelineDosingGuidelinePatientCharacteristicComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2069,6 +2179,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1326018889: /*dosage*/ visitChild("dosage", this.dosage, visitor); break; // Dosage
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("dosage", this.dosage, visitor); // Dosage
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2338,6 +2465,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2660,6 +2804,25 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // DataType
+        case 382350310: /*classification*/ visitChild("classification", this.classification, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("source", this.source, visitor); // DataType
+        visitChild("classification", this.classification, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2925,6 +3088,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059661: /*cost*/ visitChild("cost", this.cost, visitor); break; // MedicationKnowledgeCostComponent
+        case 1893956145: /*packagedProduct*/ visitChild("packagedProduct", this.packagedProduct, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("cost", this.cost, visitor); // MedicationKnowledgeCostComponent
+        visitChild("packagedProduct", this.packagedProduct, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3292,6 +3472,27 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // UriType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 1823268957: /*stabilityDuration*/ visitChild("stabilityDuration", this.stabilityDuration, visitor); break; // Duration
+        case 105846514: /*environmentalSetting*/ visitChild("environmentalSetting", this.environmentalSetting, visitor); break; // MedicationKnowledgeStorageGuidelineEnvironmentalSettingComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("reference", this.reference, visitor); // UriType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("stabilityDuration", this.stabilityDuration, visitor); // Duration
+        visitChild("environmentalSetting", this.environmentalSetting, visitor); // MedicationKnowledgeStorageGuidelineEnvironmentalSettingComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3594,6 +3795,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3949,6 +4167,27 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 711233419: /*regulatoryAuthority*/ visitChild("regulatoryAuthority", this.regulatoryAuthority, visitor); break; // Reference
+        case 826147581: /*substitution*/ visitChild("substitution", this.substitution, visitor); break; // MedicationKnowledgeRegulatorySubstitutionComponent
+        case -697920873: /*schedule*/ visitChild("schedule", this.schedule, visitor); break; // CodeableConcept
+        case -1977784607: /*maxDispense*/ visitChild("maxDispense", this.maxDispense, visitor); break; // MedicationKnowledgeRegulatoryMaxDispenseComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("regulatoryAuthority", this.regulatoryAuthority, visitor); // Reference
+        visitChild("substitution", this.substitution, visitor); // MedicationKnowledgeRegulatorySubstitutionComponent
+        visitChild("schedule", this.schedule, visitor); // CodeableConcept
+        visitChild("maxDispense", this.maxDispense, visitor); // MedicationKnowledgeRegulatoryMaxDispenseComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4227,6 +4466,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -911343192: /*allowed*/ visitChild("allowed", this.allowed, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("allowed", this.allowed, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4446,6 +4702,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Duration
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("period", this.period, visitor); // Duration
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4878,6 +5151,29 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // Reference
+        case 1303858817: /*doseForm*/ visitChild("doseForm", this.doseForm, visitor); break; // CodeableConcept
+        case -767798050: /*intendedRoute*/ visitChild("intendedRoute", this.intendedRoute, visitor); break; // CodeableConcept
+        case -206409263: /*ingredient*/ visitChild("ingredient", this.ingredient, visitor); break; // MedicationKnowledgeDefinitionalIngredientComponent
+        case -844126885: /*drugCharacteristic*/ visitChild("drugCharacteristic", this.drugCharacteristic, visitor); break; // MedicationKnowledgeDefinitionalDrugCharacteristicComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("definition", this.definition, visitor); // Reference
+        visitChild("doseForm", this.doseForm, visitor); // CodeableConcept
+        visitChild("intendedRoute", this.intendedRoute, visitor); // CodeableConcept
+        visitChild("ingredient", this.ingredient, visitor); // MedicationKnowledgeDefinitionalIngredientComponent
+        visitChild("drugCharacteristic", this.drugCharacteristic, visitor); // MedicationKnowledgeDefinitionalDrugCharacteristicComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5237,6 +5533,25 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // CodeableReference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1791316033: /*strength*/ visitChild("strength", this.strength, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // CodeableReference
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("strength", this.strength, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5552,6 +5867,23 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6886,6 +7218,59 @@ public class MedicationKnowledge extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<MedicationKnowledgeStatusCodes>
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case 2136596300: /*intendedJurisdiction*/ visitChild("intendedJurisdiction", this.intendedJurisdiction, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 723067972: /*relatedMedicationKnowledge*/ visitChild("relatedMedicationKnowledge", this.relatedMedicationKnowledge, visitor); break; // MedicationKnowledgeRelatedMedicationKnowledgeComponent
+        case 1312779381: /*associatedMedication*/ visitChild("associatedMedication", this.associatedMedication, visitor); break; // Reference
+        case -1491615543: /*productType*/ visitChild("productType", this.productType, visitor); break; // CodeableConcept
+        case -1442980789: /*monograph*/ visitChild("monograph", this.monograph, visitor); break; // MedicationKnowledgeMonographComponent
+        case 1025456503: /*preparationInstruction*/ visitChild("preparationInstruction", this.preparationInstruction, visitor); break; // MarkdownType
+        case 3059661: /*cost*/ visitChild("cost", this.cost, visitor); break; // MedicationKnowledgeCostComponent
+        case 569848092: /*monitoringProgram*/ visitChild("monitoringProgram", this.monitoringProgram, visitor); break; // MedicationKnowledgeMonitoringProgramComponent
+        case -347044108: /*indicationGuideline*/ visitChild("indicationGuideline", this.indicationGuideline, visitor); break; // MedicationKnowledgeIndicationGuidelineComponent
+        case 1791551680: /*medicineClassification*/ visitChild("medicineClassification", this.medicineClassification, visitor); break; // MedicationKnowledgeMedicineClassificationComponent
+        case 1802065795: /*packaging*/ visitChild("packaging", this.packaging, visitor); break; // MedicationKnowledgePackagingComponent
+        case 251885509: /*clinicalUseIssue*/ visitChild("clinicalUseIssue", this.clinicalUseIssue, visitor); break; // Reference
+        case 1618773173: /*storageGuideline*/ visitChild("storageGuideline", this.storageGuideline, visitor); break; // MedicationKnowledgeStorageGuidelineComponent
+        case -27327848: /*regulatory*/ visitChild("regulatory", this.regulatory, visitor); break; // MedicationKnowledgeRegulatoryComponent
+        case 101791934: /*definitional*/ visitChild("definitional", this.definitional, visitor); break; // MedicationKnowledgeDefinitionalComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // Enumeration<MedicationKnowledgeStatusCodes>
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("intendedJurisdiction", this.intendedJurisdiction, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("relatedMedicationKnowledge", this.relatedMedicationKnowledge, visitor); // MedicationKnowledgeRelatedMedicationKnowledgeComponent
+        visitChild("associatedMedication", this.associatedMedication, visitor); // Reference
+        visitChild("productType", this.productType, visitor); // CodeableConcept
+        visitChild("monograph", this.monograph, visitor); // MedicationKnowledgeMonographComponent
+        visitChild("preparationInstruction", this.preparationInstruction, visitor); // MarkdownType
+        visitChild("cost", this.cost, visitor); // MedicationKnowledgeCostComponent
+        visitChild("monitoringProgram", this.monitoringProgram, visitor); // MedicationKnowledgeMonitoringProgramComponent
+        visitChild("indicationGuideline", this.indicationGuideline, visitor); // MedicationKnowledgeIndicationGuidelineComponent
+        visitChild("medicineClassification", this.medicineClassification, visitor); // MedicationKnowledgeMedicineClassificationComponent
+        visitChild("packaging", this.packaging, visitor); // MedicationKnowledgePackagingComponent
+        visitChild("clinicalUseIssue", this.clinicalUseIssue, visitor); // Reference
+        visitChild("storageGuideline", this.storageGuideline, visitor); // MedicationKnowledgeStorageGuidelineComponent
+        visitChild("regulatory", this.regulatory, visitor); // MedicationKnowledgeRegulatoryComponent
+        visitChild("definitional", this.definitional, visitor); // MedicationKnowledgeDefinitionalComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
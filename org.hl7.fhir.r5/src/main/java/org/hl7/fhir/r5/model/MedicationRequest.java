@@ -845,6 +845,37 @@ public class MedicationRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1232961255: /*initialFill*/ visitChild("initialFill", this.initialFill, visitor); break; // MedicationRequestDispenseRequestInitialFillComponent
+        case 757112130: /*dispenseInterval*/ visitChild("dispenseInterval", this.dispenseInterval, visitor); break; // Duration
+        case -1434195053: /*validityPeriod*/ visitChild("validityPeriod", this.validityPeriod, visitor); break; // Period
+        case -239736976: /*numberOfRepeatsAllowed*/ visitChild("numberOfRepeatsAllowed", this.numberOfRepeatsAllowed, visitor); break; // UnsignedIntType
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -1910182789: /*expectedSupplyDuration*/ visitChild("expectedSupplyDuration", this.expectedSupplyDuration, visitor); break; // Duration
+        case 241511093: /*dispenser*/ visitChild("dispenser", this.dispenser, visitor); break; // Reference
+        case 2073630361: /*dispenserInstruction*/ visitChild("dispenserInstruction", this.dispenserInstruction, visitor); break; // Annotation
+        case 390821217: /*doseAdministrationAid*/ visitChild("doseAdministrationAid", this.doseAdministrationAid, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("initialFill", this.initialFill, visitor); // MedicationRequestDispenseRequestInitialFillComponent
+        visitChild("dispenseInterval", this.dispenseInterval, visitor); // Duration
+        visitChild("validityPeriod", this.validityPeriod, visitor); // Period
+        visitChild("numberOfRepeatsAllowed", this.numberOfRepeatsAllowed, visitor); // UnsignedIntType
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("expectedSupplyDuration", this.expectedSupplyDuration, visitor); // Duration
+        visitChild("dispenser", this.dispenser, visitor); // Reference
+        visitChild("dispenserInstruction", this.dispenserInstruction, visitor); // Annotation
+        visitChild("doseAdministrationAid", this.doseAdministrationAid, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1163,6 +1194,23 @@ public class MedicationRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -1992012396: /*duration*/ visitChild("duration", this.duration, visitor); break; // Duration
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("duration", this.duration, visitor); // Duration
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1415,6 +1463,23 @@ public class MedicationRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -911343192: /*allowed*/ visitChild("allowed", this.allowed, visitor); break; // DataType
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("allowed", this.allowed, visitor); // DataType
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3236,6 +3301,85 @@ public class MedicationRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -486355964: /*priorPrescription*/ visitChild("priorPrescription", this.priorPrescription, visitor); break; // Reference
+        case -445338488: /*groupIdentifier*/ visitChild("groupIdentifier", this.groupIdentifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<MedicationrequestStatus>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableConcept
+        case -1174686110: /*statusChanged*/ visitChild("statusChanged", this.statusChanged, visitor); break; // DateTimeType
+        case -1183762788: /*intent*/ visitChild("intent", this.intent, visitor); break; // Enumeration<MedicationRequestIntent>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case -1788508167: /*doNotPerform*/ visitChild("doNotPerform", this.doNotPerform, visitor); break; // BooleanType
+        case 1998965455: /*medication*/ visitChild("medication", this.medication, visitor); break; // CodeableReference
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case -2123220889: /*informationSource*/ visitChild("informationSource", this.informationSource, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1248768647: /*supportingInformation*/ visitChild("supportingInformation", this.supportingInformation, visitor); break; // Reference
+        case -1500852503: /*authoredOn*/ visitChild("authoredOn", this.authoredOn, visitor); break; // DateTimeType
+        case 693933948: /*requester*/ visitChild("requester", this.requester, visitor); break; // Reference
+        case -427039533: /*reported*/ visitChild("reported", this.reported, visitor); break; // BooleanType
+        case -901444568: /*performerType*/ visitChild("performerType", this.performerType, visitor); break; // CodeableConcept
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // Reference
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // CodeableReference
+        case -799233858: /*recorder*/ visitChild("recorder", this.recorder, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case -447282031: /*courseOfTherapyType*/ visitChild("courseOfTherapyType", this.courseOfTherapyType, visitor); break; // CodeableConcept
+        case 73049818: /*insurance*/ visitChild("insurance", this.insurance, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 1718902050: /*renderedDosageInstruction*/ visitChild("renderedDosageInstruction", this.renderedDosageInstruction, visitor); break; // MarkdownType
+        case 322608453: /*effectiveDosePeriod*/ visitChild("effectiveDosePeriod", this.effectiveDosePeriod, visitor); break; // Period
+        case -1201373865: /*dosageInstruction*/ visitChild("dosageInstruction", this.dosageInstruction, visitor); break; // Dosage
+        case 824620658: /*dispenseRequest*/ visitChild("dispenseRequest", this.dispenseRequest, visitor); break; // MedicationRequestDispenseRequestComponent
+        case 826147581: /*substitution*/ visitChild("substitution", this.substitution, visitor); break; // MedicationRequestSubstitutionComponent
+        case 1835190426: /*eventHistory*/ visitChild("eventHistory", this.eventHistory, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("priorPrescription", this.priorPrescription, visitor); // Reference
+        visitChild("groupIdentifier", this.groupIdentifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<MedicationrequestStatus>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableConcept
+        visitChild("statusChanged", this.statusChanged, visitor); // DateTimeType
+        visitChild("intent", this.intent, visitor); // Enumeration<MedicationRequestIntent>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("doNotPerform", this.doNotPerform, visitor); // BooleanType
+        visitChild("medication", this.medication, visitor); // CodeableReference
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("informationSource", this.informationSource, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("supportingInformation", this.supportingInformation, visitor); // Reference
+        visitChild("authoredOn", this.authoredOn, visitor); // DateTimeType
+        visitChild("requester", this.requester, visitor); // Reference
+        visitChild("reported", this.reported, visitor); // BooleanType
+        visitChild("performerType", this.performerType, visitor); // CodeableConcept
+        visitChild("performer", this.performer, visitor); // Reference
+        visitChild("device", this.device, visitor); // CodeableReference
+        visitChild("recorder", this.recorder, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("courseOfTherapyType", this.courseOfTherapyType, visitor); // CodeableConcept
+        visitChild("insurance", this.insurance, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("renderedDosageInstruction", this.renderedDosageInstruction, visitor); // MarkdownType
+        visitChild("effectiveDosePeriod", this.effectiveDosePeriod, visitor); // Period
+        visitChild("dosageInstruction", this.dosageInstruction, visitor); // Dosage
+        visitChild("dispenseRequest", this.dispenseRequest, visitor); // MedicationRequestDispenseRequestComponent
+        visitChild("substitution", this.substitution, visitor); // MedicationRequestSubstitutionComponent
+        visitChild("eventHistory", this.eventHistory, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
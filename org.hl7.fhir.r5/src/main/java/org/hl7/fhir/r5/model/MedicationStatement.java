@@ -278,6 +278,23 @@ public class MedicationStatement extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1390,6 +1407,53 @@ public class MedicationStatement extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<MedicationStatementStatusCodes>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 1998965455: /*medication*/ visitChild("medication", this.medication, visitor); break; // CodeableReference
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1468651097: /*effective*/ visitChild("effective", this.effective, visitor); break; // DataType
+        case -1980855245: /*dateAsserted*/ visitChild("dateAsserted", this.dateAsserted, visitor); break; // DateTimeType
+        case -2123220889: /*informationSource*/ visitChild("informationSource", this.informationSource, visitor); break; // Reference
+        case 1077922663: /*derivedFrom*/ visitChild("derivedFrom", this.derivedFrom, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 1040787950: /*relatedClinicalInformation*/ visitChild("relatedClinicalInformation", this.relatedClinicalInformation, visitor); break; // Reference
+        case 1718902050: /*renderedDosageInstruction*/ visitChild("renderedDosageInstruction", this.renderedDosageInstruction, visitor); break; // MarkdownType
+        case -1326018889: /*dosage*/ visitChild("dosage", this.dosage, visitor); break; // Dosage
+        case -231003683: /*adherence*/ visitChild("adherence", this.adherence, visitor); break; // MedicationStatementAdherenceComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<MedicationStatementStatusCodes>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("medication", this.medication, visitor); // CodeableReference
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("effective", this.effective, visitor); // DataType
+        visitChild("dateAsserted", this.dateAsserted, visitor); // DateTimeType
+        visitChild("informationSource", this.informationSource, visitor); // Reference
+        visitChild("derivedFrom", this.derivedFrom, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("relatedClinicalInformation", this.relatedClinicalInformation, visitor); // Reference
+        visitChild("renderedDosageInstruction", this.renderedDosageInstruction, visitor); // MarkdownType
+        visitChild("dosage", this.dosage, visitor); // Dosage
+        visitChild("adherence", this.adherence, visitor); // MedicationStatementAdherenceComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
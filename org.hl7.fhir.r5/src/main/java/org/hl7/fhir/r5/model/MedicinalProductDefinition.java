@@ -161,6 +161,23 @@ public class MedicinalProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("contact", this.contact, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -529,6 +546,27 @@ public class MedicinalProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1491817446: /*productName*/ visitChild("productName", this.productName, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3433459: /*part*/ visitChild("part", this.part, visitor); break; // MedicinalProductDefinitionNamePartComponent
+        case 111574433: /*usage*/ visitChild("usage", this.usage, visitor); break; // MedicinalProductDefinitionNameUsageComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("productName", this.productName, visitor); // StringType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("part", this.part, visitor); // MedicinalProductDefinitionNamePartComponent
+        visitChild("usage", this.usage, visitor); // MedicinalProductDefinitionNameUsageComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -807,6 +845,23 @@ public class MedicinalProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433459: /*part*/ visitChild("part", this.part, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("part", this.part, visitor); // StringType
+        visitChild("type", this.type, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1064,6 +1119,25 @@ public class MedicinalProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 957831062: /*country*/ visitChild("country", this.country, visitor); break; // CodeableConcept
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("country", this.country, visitor); // CodeableConcept
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("language", this.language, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1301,6 +1375,23 @@ public class MedicinalProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -309474065: /*product*/ visitChild("product", this.product, visitor); break; // CodeableReference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("product", this.product, visitor); // CodeableReference
+        visitChild("type", this.type, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1611,6 +1702,27 @@ public class MedicinalProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableReference
+        case -930389515: /*effectiveDate*/ visitChild("effectiveDate", this.effectiveDate, visitor); break; // Period
+        case 1178922291: /*organization*/ visitChild("organization", this.organization, visitor); break; // Reference
+        case -1449404791: /*confidentialityIndicator*/ visitChild("confidentialityIndicator", this.confidentialityIndicator, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableReference
+        visitChild("effectiveDate", this.effectiveDate, visitor); // Period
+        visitChild("organization", this.organization, visitor); // Reference
+        visitChild("confidentialityIndicator", this.confidentialityIndicator, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1975,6 +2087,23 @@ public class MedicinalProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3772,6 +3901,77 @@ public class MedicinalProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1326197564: /*domain*/ visitChild("domain", this.domain, visitor); break; // CodeableConcept
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case 247524032: /*statusDate*/ visitChild("statusDate", this.statusDate, visitor); break; // DateTimeType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -1992898487: /*combinedPharmaceuticalDoseForm*/ visitChild("combinedPharmaceuticalDoseForm", this.combinedPharmaceuticalDoseForm, visitor); break; // CodeableConcept
+        case 108704329: /*route*/ visitChild("route", this.route, visitor); break; // CodeableConcept
+        case -597168804: /*indication*/ visitChild("indication", this.indication, visitor); break; // MarkdownType
+        case -844874031: /*legalStatusOfSupply*/ visitChild("legalStatusOfSupply", this.legalStatusOfSupply, visitor); break; // CodeableConcept
+        case 1935999744: /*additionalMonitoringIndicator*/ visitChild("additionalMonitoringIndicator", this.additionalMonitoringIndicator, visitor); break; // CodeableConcept
+        case 975102638: /*specialMeasures*/ visitChild("specialMeasures", this.specialMeasures, visitor); break; // CodeableConcept
+        case -1515533081: /*pediatricUseIndicator*/ visitChild("pediatricUseIndicator", this.pediatricUseIndicator, visitor); break; // CodeableConcept
+        case 382350310: /*classification*/ visitChild("classification", this.classification, visitor); break; // CodeableConcept
+        case 70767032: /*marketingStatus*/ visitChild("marketingStatus", this.marketingStatus, visitor); break; // MarketingStatus
+        case -361025513: /*packagedMedicinalProduct*/ visitChild("packagedMedicinalProduct", this.packagedMedicinalProduct, visitor); break; // CodeableConcept
+        case 1546078211: /*comprisedOf*/ visitChild("comprisedOf", this.comprisedOf, visitor); break; // Reference
+        case -206409263: /*ingredient*/ visitChild("ingredient", this.ingredient, visitor); break; // CodeableConcept
+        case -416837467: /*impurity*/ visitChild("impurity", this.impurity, visitor); break; // CodeableReference
+        case -513945889: /*attachedDocument*/ visitChild("attachedDocument", this.attachedDocument, visitor); break; // Reference
+        case -2039573762: /*masterFile*/ visitChild("masterFile", this.masterFile, visitor); break; // Reference
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // MedicinalProductDefinitionContactComponent
+        case 1232866243: /*clinicalTrial*/ visitChild("clinicalTrial", this.clinicalTrial, visitor); break; // Reference
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Coding
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // MedicinalProductDefinitionNameComponent
+        case -986968341: /*crossReference*/ visitChild("crossReference", this.crossReference, visitor); break; // MedicinalProductDefinitionCrossReferenceComponent
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // MedicinalProductDefinitionOperationComponent
+        case 366313883: /*characteristic*/ visitChild("characteristic", this.characteristic, visitor); break; // MedicinalProductDefinitionCharacteristicComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("domain", this.domain, visitor); // CodeableConcept
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("statusDate", this.statusDate, visitor); // DateTimeType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("combinedPharmaceuticalDoseForm", this.combinedPharmaceuticalDoseForm, visitor); // CodeableConcept
+        visitChild("route", this.route, visitor); // CodeableConcept
+        visitChild("indication", this.indication, visitor); // MarkdownType
+        visitChild("legalStatusOfSupply", this.legalStatusOfSupply, visitor); // CodeableConcept
+        visitChild("additionalMonitoringIndicator", this.additionalMonitoringIndicator, visitor); // CodeableConcept
+        visitChild("specialMeasures", this.specialMeasures, visitor); // CodeableConcept
+        visitChild("pediatricUseIndicator", this.pediatricUseIndicator, visitor); // CodeableConcept
+        visitChild("classification", this.classification, visitor); // CodeableConcept
+        visitChild("marketingStatus", this.marketingStatus, visitor); // MarketingStatus
+        visitChild("packagedMedicinalProduct", this.packagedMedicinalProduct, visitor); // CodeableConcept
+        visitChild("comprisedOf", this.comprisedOf, visitor); // Reference
+        visitChild("ingredient", this.ingredient, visitor); // CodeableConcept
+        visitChild("impurity", this.impurity, visitor); // CodeableReference
+        visitChild("attachedDocument", this.attachedDocument, visitor); // Reference
+        visitChild("masterFile", this.masterFile, visitor); // Reference
+        visitChild("contact", this.contact, visitor); // MedicinalProductDefinitionContactComponent
+        visitChild("clinicalTrial", this.clinicalTrial, visitor); // Reference
+        visitChild("code", this.code, visitor); // Coding
+        visitChild("name", this.name, visitor); // MedicinalProductDefinitionNameComponent
+        visitChild("crossReference", this.crossReference, visitor); // MedicinalProductDefinitionCrossReferenceComponent
+        visitChild("operation", this.operation, visitor); // MedicinalProductDefinitionOperationComponent
+        visitChild("characteristic", this.characteristic, visitor); // MedicinalProductDefinitionCharacteristicComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -566,6 +566,27 @@ public class MessageDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+        case 108114: /*min*/ visitChild("min", this.min, visitor); break; // UnsignedIntType
+        case 107876: /*max*/ visitChild("max", this.max, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("profile", this.profile, visitor); // CanonicalType
+        visitChild("min", this.min, visitor); // UnsignedIntType
+        visitChild("max", this.max, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -859,6 +880,23 @@ public class MessageDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 954925063: /*message*/ visitChild("message", this.message, visitor); break; // CanonicalType
+        case -73377282: /*situation*/ visitChild("situation", this.situation, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("message", this.message, visitor); // CanonicalType
+        visitChild("situation", this.situation, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2595,6 +2633,71 @@ public class MessageDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -430332865: /*replaces*/ visitChild("replaces", this.replaces, visitor); break; // CanonicalType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 3016401: /*base*/ visitChild("base", this.base, visitor); break; // CanonicalType
+        case -995424086: /*parent*/ visitChild("parent", this.parent, visitor); break; // CanonicalType
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // DataType
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // Enumeration<MessageSignificanceCategory>
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // MessageDefinitionFocusComponent
+        case 791597824: /*responseRequired*/ visitChild("responseRequired", this.responseRequired, visitor); break; // Enumeration<MessageheaderResponseRequest>
+        case -1130933751: /*allowedResponse*/ visitChild("allowedResponse", this.allowedResponse, visitor); break; // MessageDefinitionAllowedResponseComponent
+        case 98615630: /*graph*/ visitChild("graph", this.graph, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("replaces", this.replaces, visitor); // CanonicalType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("base", this.base, visitor); // CanonicalType
+        visitChild("parent", this.parent, visitor); // CanonicalType
+        visitChild("event", this.event, visitor); // DataType
+        visitChild("category", this.category, visitor); // Enumeration<MessageSignificanceCategory>
+        visitChild("focus", this.focus, visitor); // MessageDefinitionFocusComponent
+        visitChild("responseRequired", this.responseRequired, visitor); // Enumeration<MessageheaderResponseRequest>
+        visitChild("allowedResponse", this.allowedResponse, visitor); // MessageDefinitionAllowedResponseComponent
+        visitChild("graph", this.graph, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -389,6 +389,27 @@ public class MessageHeader extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // Reference
+        case -808719889: /*receiver*/ visitChild("receiver", this.receiver, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("endpoint", this.endpoint, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("target", this.target, visitor); // Reference
+        visitChild("receiver", this.receiver, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -842,6 +863,29 @@ public class MessageHeader extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 1319330215: /*software*/ visitChild("software", this.software, visitor); break; // StringType
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactPoint
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("endpoint", this.endpoint, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("software", this.software, visitor); // StringType
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactPoint
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1166,6 +1210,25 @@ public class MessageHeader extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Enumeration<ResponseType>
+        case 1557721666: /*details*/ visitChild("details", this.details, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("code", this.code, visitor); // Enumeration<ResponseType>
+        visitChild("details", this.details, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1789,6 +1852,39 @@ public class MessageHeader extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // DataType
+        case -1429847026: /*destination*/ visitChild("destination", this.destination, visitor); break; // MessageDestinationComponent
+        case -905962955: /*sender*/ visitChild("sender", this.sender, visitor); break; // Reference
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // MessageSourceComponent
+        case 1847674614: /*responsible*/ visitChild("responsible", this.responsible, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        case -340323263: /*response*/ visitChild("response", this.response, visitor); break; // MessageHeaderResponseComponent
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("event", this.event, visitor); // DataType
+        visitChild("destination", this.destination, visitor); // MessageDestinationComponent
+        visitChild("sender", this.sender, visitor); // Reference
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("source", this.source, visitor); // MessageSourceComponent
+        visitChild("responsible", this.responsible, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+        visitChild("response", this.response, visitor); // MessageHeaderResponseComponent
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("definition", this.definition, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -457,6 +457,31 @@ public class Meta extends DataType implements IBaseMetaType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1407102957: /*versionId*/ visitChild("versionId", this.versionId, visitor); break; // IdType
+        case 1649733957: /*lastUpdated*/ visitChild("lastUpdated", this.lastUpdated, visitor); break; // InstantType
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // UriType
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+        case 949122880: /*security*/ visitChild("security", this.security, visitor); break; // Coding
+        case 114586: /*tag*/ visitChild("tag", this.tag, visitor); break; // Coding
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("versionId", this.versionId, visitor); // IdType
+        visitChild("lastUpdated", this.lastUpdated, visitor); // InstantType
+        visitChild("source", this.source, visitor); // UriType
+        visitChild("profile", this.profile, visitor); // CanonicalType
+        visitChild("security", this.security, visitor); // Coding
+        visitChild("tag", this.tag, visitor); // Coding
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -623,6 +623,29 @@ public class MolecularSequence extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 354212295: /*coordinateSystem*/ visitChild("coordinateSystem", this.coordinateSystem, visitor); break; // CodeableConcept
+        case 626439866: /*ordinalPosition*/ visitChild("ordinalPosition", this.ordinalPosition, visitor); break; // IntegerType
+        case -733314564: /*sequenceRange*/ visitChild("sequenceRange", this.sequenceRange, visitor); break; // Range
+        case 1493400609: /*startingSequence*/ visitChild("startingSequence", this.startingSequence, visitor); break; // MolecularSequenceRelativeStartingSequenceComponent
+        case 3108362: /*edit*/ visitChild("edit", this.edit, visitor); break; // MolecularSequenceRelativeEditComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("coordinateSystem", this.coordinateSystem, visitor); // CodeableConcept
+        visitChild("ordinalPosition", this.ordinalPosition, visitor); // IntegerType
+        visitChild("sequenceRange", this.sequenceRange, visitor); // Range
+        visitChild("startingSequence", this.startingSequence, visitor); // MolecularSequenceRelativeStartingSequenceComponent
+        visitChild("edit", this.edit, visitor); // MolecularSequenceRelativeEditComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1194,6 +1217,33 @@ public class MolecularSequence extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1196021757: /*genomeAssembly*/ visitChild("genomeAssembly", this.genomeAssembly, visitor); break; // CodeableConcept
+        case -1499470472: /*chromosome*/ visitChild("chromosome", this.chromosome, visitor); break; // CodeableConcept
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // DataType
+        case 1903685202: /*windowStart*/ visitChild("windowStart", this.windowStart, visitor); break; // IntegerType
+        case -217026869: /*windowEnd*/ visitChild("windowEnd", this.windowEnd, visitor); break; // IntegerType
+        case -1439500848: /*orientation*/ visitChild("orientation", this.orientation, visitor); break; // Enumeration<OrientationType>
+        case -891993594: /*strand*/ visitChild("strand", this.strand, visitor); break; // Enumeration<StrandType>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("genomeAssembly", this.genomeAssembly, visitor); // CodeableConcept
+        visitChild("chromosome", this.chromosome, visitor); // CodeableConcept
+        visitChild("sequence", this.sequence, visitor); // DataType
+        visitChild("windowStart", this.windowStart, visitor); // IntegerType
+        visitChild("windowEnd", this.windowEnd, visitor); // IntegerType
+        visitChild("orientation", this.orientation, visitor); // Enumeration<OrientationType>
+        visitChild("strand", this.strand, visitor); // Enumeration<StrandType>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1651,6 +1701,27 @@ public class MolecularSequence extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 109757538: /*start*/ visitChild("start", this.start, visitor); break; // IntegerType
+        case 100571: /*end*/ visitChild("end", this.end, visitor); break; // IntegerType
+        case -1784940557: /*replacementSequence*/ visitChild("replacementSequence", this.replacementSequence, visitor); break; // StringType
+        case 1972719633: /*replacedSequence*/ visitChild("replacedSequence", this.replacedSequence, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("start", this.start, visitor); // IntegerType
+        visitChild("end", this.end, visitor); // IntegerType
+        visitChild("replacementSequence", this.replacementSequence, visitor); // StringType
+        visitChild("replacedSequence", this.replacedSequence, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2327,6 +2398,39 @@ public class MolecularSequence extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<SequenceType>
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case -2132868344: /*specimen*/ visitChild("specimen", this.specimen, visitor); break; // Reference
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // Reference
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // Reference
+        case 182460591: /*literal*/ visitChild("literal", this.literal, visitor); break; // StringType
+        case 1811591356: /*formatted*/ visitChild("formatted", this.formatted, visitor); break; // Attachment
+        case -554435892: /*relative*/ visitChild("relative", this.relative, visitor); break; // MolecularSequenceRelativeComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("type", this.type, visitor); // Enumeration<SequenceType>
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("specimen", this.specimen, visitor); // Reference
+        visitChild("device", this.device, visitor); // Reference
+        visitChild("performer", this.performer, visitor); // Reference
+        visitChild("literal", this.literal, visitor); // StringType
+        visitChild("formatted", this.formatted, visitor); // Attachment
+        visitChild("relative", this.relative, visitor); // MolecularSequenceRelativeComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
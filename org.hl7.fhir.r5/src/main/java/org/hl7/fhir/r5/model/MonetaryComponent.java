@@ -452,6 +452,27 @@ public class MonetaryComponent extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<PriceComponentType>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<PriceComponentType>
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("amount", this.amount, visitor); // Money
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
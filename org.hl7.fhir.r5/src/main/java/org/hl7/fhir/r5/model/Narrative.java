@@ -311,6 +311,23 @@ public class Narrative extends BaseNarrative implements INarrative {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<NarrativeStatus>
+        case 99473: /*div*/ if (this.div != null) visitor.visit("div", new XhtmlType(this)); break; // XhtmlNode
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("status", this.status, visitor); // Enumeration<NarrativeStatus>
+        visitor.visit("div", new XhtmlType(this)); // XhtmlNode
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
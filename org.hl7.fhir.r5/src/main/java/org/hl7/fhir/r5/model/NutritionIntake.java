@@ -355,6 +355,33 @@ public class NutritionIntake extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1684132297: /*nutritionProduct*/ visitChild("nutritionProduct", this.nutritionProduct, visitor); break; // CodeableReference
+        case -697920873: /*schedule*/ visitChild("schedule", this.schedule, visitor); break; // Timing
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Quantity
+        case 3493088: /*rate*/ visitChild("rate", this.rate, visitor); break; // Quantity
+        case -148762661: /*notConsumed*/ visitChild("notConsumed", this.notConsumed, visitor); break; // BooleanType
+        case -440795649: /*notConsumedReason*/ visitChild("notConsumedReason", this.notConsumedReason, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("nutritionProduct", this.nutritionProduct, visitor); // CodeableReference
+        visitChild("schedule", this.schedule, visitor); // Timing
+        visitChild("amount", this.amount, visitor); // Quantity
+        visitChild("rate", this.rate, visitor); // Quantity
+        visitChild("notConsumed", this.notConsumed, visitor); // BooleanType
+        visitChild("notConsumedReason", this.notConsumedReason, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -650,6 +677,23 @@ public class NutritionIntake extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1671151641: /*nutrient*/ visitChild("nutrient", this.nutrient, visitor); break; // CodeableReference
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("nutrient", this.nutrient, visitor); // CodeableReference
+        visitChild("amount", this.amount, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -871,6 +915,23 @@ public class NutritionIntake extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2177,6 +2238,59 @@ public class NutritionIntake extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<EventStatus>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case -799233872: /*recorded*/ visitChild("recorded", this.recorded, visitor); break; // DateTimeType
+        case -427039533: /*reported*/ visitChild("reported", this.reported, visitor); break; // DataType
+        case -854114533: /*consumedItem*/ visitChild("consumedItem", this.consumedItem, visitor); break; // NutritionIntakeConsumedItemComponent
+        case -936536157: /*ingredientLabel*/ visitChild("ingredientLabel", this.ingredientLabel, visitor); break; // NutritionIntakeIngredientLabelComponent
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // NutritionIntakePerformerComponent
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case 1077922663: /*derivedFrom*/ visitChild("derivedFrom", this.derivedFrom, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<EventStatus>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("recorded", this.recorded, visitor); // DateTimeType
+        visitChild("reported", this.reported, visitor); // DataType
+        visitChild("consumedItem", this.consumedItem, visitor); // NutritionIntakeConsumedItemComponent
+        visitChild("ingredientLabel", this.ingredientLabel, visitor); // NutritionIntakeIngredientLabelComponent
+        visitChild("performer", this.performer, visitor); // NutritionIntakePerformerComponent
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("derivedFrom", this.derivedFrom, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
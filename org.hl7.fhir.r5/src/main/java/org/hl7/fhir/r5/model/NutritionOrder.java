@@ -431,6 +431,31 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -697920873: /*schedule*/ visitChild("schedule", this.schedule, visitor); break; // OralDietScheduleComponent
+        case -1671151641: /*nutrient*/ visitChild("nutrient", this.nutrient, visitor); break; // NutritionOrderOralDietNutrientComponent
+        case -1417816805: /*texture*/ visitChild("texture", this.texture, visitor); break; // NutritionOrderOralDietTextureComponent
+        case -525105592: /*fluidConsistencyType*/ visitChild("fluidConsistencyType", this.fluidConsistencyType, visitor); break; // CodeableConcept
+        case 301526158: /*instruction*/ visitChild("instruction", this.instruction, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("schedule", this.schedule, visitor); // OralDietScheduleComponent
+        visitChild("nutrient", this.nutrient, visitor); // NutritionOrderOralDietNutrientComponent
+        visitChild("texture", this.texture, visitor); // NutritionOrderOralDietTextureComponent
+        visitChild("fluidConsistencyType", this.fluidConsistencyType, visitor); // CodeableConcept
+        visitChild("instruction", this.instruction, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -798,6 +823,25 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // Timing
+        case -1432923513: /*asNeeded*/ visitChild("asNeeded", this.asNeeded, visitor); break; // BooleanType
+        case -544350014: /*asNeededFor*/ visitChild("asNeededFor", this.asNeededFor, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("timing", this.timing, visitor); // Timing
+        visitChild("asNeeded", this.asNeeded, visitor); // BooleanType
+        visitChild("asNeededFor", this.asNeededFor, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1029,6 +1073,23 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("amount", this.amount, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1243,6 +1304,23 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // CodeableConcept
+        case 379498680: /*foodType*/ visitChild("foodType", this.foodType, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("modifier", this.modifier, visitor); // CodeableConcept
+        visitChild("foodType", this.foodType, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1608,6 +1686,29 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableReference
+        case -1491817446: /*productName*/ visitChild("productName", this.productName, visitor); break; // StringType
+        case -697920873: /*schedule*/ visitChild("schedule", this.schedule, visitor); break; // SupplementScheduleComponent
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 301526158: /*instruction*/ visitChild("instruction", this.instruction, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableReference
+        visitChild("productName", this.productName, visitor); // StringType
+        visitChild("schedule", this.schedule, visitor); // SupplementScheduleComponent
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("instruction", this.instruction, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1948,6 +2049,25 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // Timing
+        case -1432923513: /*asNeeded*/ visitChild("asNeeded", this.asNeeded, visitor); break; // BooleanType
+        case -544350014: /*asNeededFor*/ visitChild("asNeededFor", this.asNeededFor, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("timing", this.timing, visitor); // Timing
+        visitChild("asNeeded", this.asNeeded, visitor); // BooleanType
+        visitChild("asNeededFor", this.asNeededFor, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2555,6 +2675,37 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -138930641: /*baseFormulaType*/ visitChild("baseFormulaType", this.baseFormulaType, visitor); break; // CodeableReference
+        case -1267705979: /*baseFormulaProductName*/ visitChild("baseFormulaProductName", this.baseFormulaProductName, visitor); break; // StringType
+        case 2060803946: /*deliveryDevice*/ visitChild("deliveryDevice", this.deliveryDevice, visitor); break; // CodeableReference
+        case -1226589236: /*additive*/ visitChild("additive", this.additive, visitor); break; // NutritionOrderEnteralFormulaAdditiveComponent
+        case 186983261: /*caloricDensity*/ visitChild("caloricDensity", this.caloricDensity, visitor); break; // Quantity
+        case 1742084734: /*routeOfAdministration*/ visitChild("routeOfAdministration", this.routeOfAdministration, visitor); break; // CodeableConcept
+        case 1255702622: /*administration*/ visitChild("administration", this.administration, visitor); break; // NutritionOrderEnteralFormulaAdministrationComponent
+        case 2017924652: /*maxVolumeToDeliver*/ visitChild("maxVolumeToDeliver", this.maxVolumeToDeliver, visitor); break; // Quantity
+        case 427085136: /*administrationInstruction*/ visitChild("administrationInstruction", this.administrationInstruction, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("baseFormulaType", this.baseFormulaType, visitor); // CodeableReference
+        visitChild("baseFormulaProductName", this.baseFormulaProductName, visitor); // StringType
+        visitChild("deliveryDevice", this.deliveryDevice, visitor); // CodeableReference
+        visitChild("additive", this.additive, visitor); // NutritionOrderEnteralFormulaAdditiveComponent
+        visitChild("caloricDensity", this.caloricDensity, visitor); // Quantity
+        visitChild("routeOfAdministration", this.routeOfAdministration, visitor); // CodeableConcept
+        visitChild("administration", this.administration, visitor); // NutritionOrderEnteralFormulaAdministrationComponent
+        visitChild("maxVolumeToDeliver", this.maxVolumeToDeliver, visitor); // Quantity
+        visitChild("administrationInstruction", this.administrationInstruction, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2939,6 +3090,25 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableReference
+        case -1491817446: /*productName*/ visitChild("productName", this.productName, visitor); break; // StringType
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableReference
+        visitChild("productName", this.productName, visitor); // StringType
+        visitChild("quantity", this.quantity, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3230,6 +3400,25 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -697920873: /*schedule*/ visitChild("schedule", this.schedule, visitor); break; // EnteralFormulaScheduleComponent
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 3493088: /*rate*/ visitChild("rate", this.rate, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("schedule", this.schedule, visitor); // EnteralFormulaScheduleComponent
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("rate", this.rate, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3548,6 +3737,25 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // Timing
+        case -1432923513: /*asNeeded*/ visitChild("asNeeded", this.asNeeded, visitor); break; // BooleanType
+        case -544350014: /*asNeededFor*/ visitChild("asNeededFor", this.asNeededFor, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("timing", this.timing, visitor); // Timing
+        visitChild("asNeeded", this.asNeeded, visitor); // BooleanType
+        visitChild("asNeededFor", this.asNeededFor, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4987,6 +5195,65 @@ public class NutritionOrder extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -246883639: /*instantiates*/ visitChild("instantiates", this.instantiates, visitor); break; // UriType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -445338488: /*groupIdentifier*/ visitChild("groupIdentifier", this.groupIdentifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<RequestStatus>
+        case -1183762788: /*intent*/ visitChild("intent", this.intent, visitor); break; // Enumeration<RequestIntent>
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1248768647: /*supportingInformation*/ visitChild("supportingInformation", this.supportingInformation, visitor); break; // Reference
+        case 1792749467: /*dateTime*/ visitChild("dateTime", this.dateTime, visitor); break; // DateTimeType
+        case -1207109509: /*orderer*/ visitChild("orderer", this.orderer, visitor); break; // Reference
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // CodeableReference
+        case -120164120: /*allergyIntolerance*/ visitChild("allergyIntolerance", this.allergyIntolerance, visitor); break; // Reference
+        case 659473872: /*foodPreferenceModifier*/ visitChild("foodPreferenceModifier", this.foodPreferenceModifier, visitor); break; // CodeableConcept
+        case 1760260175: /*excludeFoodModifier*/ visitChild("excludeFoodModifier", this.excludeFoodModifier, visitor); break; // CodeableConcept
+        case 833777797: /*outsideFoodAllowed*/ visitChild("outsideFoodAllowed", this.outsideFoodAllowed, visitor); break; // BooleanType
+        case 1153521250: /*oralDiet*/ visitChild("oralDiet", this.oralDiet, visitor); break; // NutritionOrderOralDietComponent
+        case -711993159: /*supplement*/ visitChild("supplement", this.supplement, visitor); break; // NutritionOrderSupplementComponent
+        case -671083805: /*enteralFormula*/ visitChild("enteralFormula", this.enteralFormula, visitor); break; // NutritionOrderEnteralFormulaComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("instantiates", this.instantiates, visitor); // UriType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("groupIdentifier", this.groupIdentifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<RequestStatus>
+        visitChild("intent", this.intent, visitor); // Enumeration<RequestIntent>
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("supportingInformation", this.supportingInformation, visitor); // Reference
+        visitChild("dateTime", this.dateTime, visitor); // DateTimeType
+        visitChild("orderer", this.orderer, visitor); // Reference
+        visitChild("performer", this.performer, visitor); // CodeableReference
+        visitChild("allergyIntolerance", this.allergyIntolerance, visitor); // Reference
+        visitChild("foodPreferenceModifier", this.foodPreferenceModifier, visitor); // CodeableConcept
+        visitChild("excludeFoodModifier", this.excludeFoodModifier, visitor); // CodeableConcept
+        visitChild("outsideFoodAllowed", this.outsideFoodAllowed, visitor); // BooleanType
+        visitChild("oralDiet", this.oralDiet, visitor); // NutritionOrderOralDietComponent
+        visitChild("supplement", this.supplement, visitor); // NutritionOrderSupplementComponent
+        visitChild("enteralFormula", this.enteralFormula, visitor); // NutritionOrderEnteralFormulaComponent
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -296,6 +296,23 @@ public class NutritionProduct extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // CodeableReference
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Ratio
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // CodeableReference
+        visitChild("amount", this.amount, visitor); // Ratio
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -548,6 +565,23 @@ public class NutritionProduct extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // CodeableReference
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Ratio
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // CodeableReference
+        visitChild("amount", this.amount, visitor); // Ratio
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -867,6 +901,23 @@ public class NutritionProduct extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1399,6 +1450,33 @@ public class NutritionProduct extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 462547450: /*lotNumber*/ visitChild("lotNumber", this.lotNumber, visitor); break; // StringType
+        case -1289159373: /*expiry*/ visitChild("expiry", this.expiry, visitor); break; // DateTimeType
+        case 111577150: /*useBy*/ visitChild("useBy", this.useBy, visitor); break; // DateTimeType
+        case -654468482: /*biologicalSourceEvent*/ visitChild("biologicalSourceEvent", this.biologicalSourceEvent, visitor); break; // Identifier
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("lotNumber", this.lotNumber, visitor); // StringType
+        visitChild("expiry", this.expiry, visitor); // DateTimeType
+        visitChild("useBy", this.useBy, visitor); // DateTimeType
+        visitChild("biologicalSourceEvent", this.biologicalSourceEvent, visitor); // Identifier
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2219,6 +2297,39 @@ public class NutritionProduct extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<NutritionProductStatus>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1969347631: /*manufacturer*/ visitChild("manufacturer", this.manufacturer, visitor); break; // Reference
+        case -1671151641: /*nutrient*/ visitChild("nutrient", this.nutrient, visitor); break; // NutritionProductNutrientComponent
+        case -206409263: /*ingredient*/ visitChild("ingredient", this.ingredient, visitor); break; // NutritionProductIngredientComponent
+        case 1093336805: /*knownAllergen*/ visitChild("knownAllergen", this.knownAllergen, visitor); break; // CodeableReference
+        case 366313883: /*characteristic*/ visitChild("characteristic", this.characteristic, visitor); break; // NutritionProductCharacteristicComponent
+        case 555127957: /*instance*/ visitChild("instance", this.instance, visitor); break; // NutritionProductInstanceComponent
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // Enumeration<NutritionProductStatus>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("manufacturer", this.manufacturer, visitor); // Reference
+        visitChild("nutrient", this.nutrient, visitor); // NutritionProductNutrientComponent
+        visitChild("ingredient", this.ingredient, visitor); // NutritionProductIngredientComponent
+        visitChild("knownAllergen", this.knownAllergen, visitor); // CodeableReference
+        visitChild("characteristic", this.characteristic, visitor); // NutritionProductCharacteristicComponent
+        visitChild("instance", this.instance, visitor); // NutritionProductInstanceComponent
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
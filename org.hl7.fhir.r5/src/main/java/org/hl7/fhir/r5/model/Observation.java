@@ -361,6 +361,25 @@ Reflex | Repeat | Re-run.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 122345516: /*observation*/ visitChild("observation", this.observation, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<TriggeredBytype>
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("observation", this.observation, visitor); // Reference
+        visitChild("type", this.type, visitor); // Enumeration<TriggeredBytype>
+        visitChild("reason", this.reason, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -817,6 +836,33 @@ Reflex | Repeat | Re-run.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 107348: /*low*/ visitChild("low", this.low, visitor); break; // Quantity
+        case 3202466: /*high*/ visitChild("high", this.high, visitor); break; // Quantity
+        case -270017334: /*normalValue*/ visitChild("normalValue", this.normalValue, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -2089924569: /*appliesTo*/ visitChild("appliesTo", this.appliesTo, visitor); break; // CodeableConcept
+        case 96511: /*age*/ visitChild("age", this.age, visitor); break; // Range
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("low", this.low, visitor); // Quantity
+        visitChild("high", this.high, visitor); // Quantity
+        visitChild("normalValue", this.normalValue, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("appliesTo", this.appliesTo, visitor); // CodeableConcept
+        visitChild("age", this.age, visitor); // Range
+        visitChild("text", this.text, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1481,6 +1527,29 @@ Reflex | Repeat | Re-run.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case 1034315687: /*dataAbsentReason*/ visitChild("dataAbsentReason", this.dataAbsentReason, visitor); break; // CodeableConcept
+        case -297950712: /*interpretation*/ visitChild("interpretation", this.interpretation, visitor); break; // CodeableConcept
+        case -1912545102: /*referenceRange*/ visitChild("referenceRange", this.referenceRange, visitor); break; // ObservationReferenceRangeComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("dataAbsentReason", this.dataAbsentReason, visitor); // CodeableConcept
+        visitChild("interpretation", this.interpretation, visitor); // CodeableConcept
+        visitChild("referenceRange", this.referenceRange, visitor); // ObservationReferenceRangeComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3378,6 +3447,73 @@ Reflex | Repeat | Re-run.
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -246883639: /*instantiates*/ visitChild("instantiates", this.instantiates, visitor); break; // DataType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -680451314: /*triggeredBy*/ visitChild("triggeredBy", this.triggeredBy, visitor); break; // ObservationTriggeredByComponent
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ObservationStatus>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1468651097: /*effective*/ visitChild("effective", this.effective, visitor); break; // DataType
+        case -1179159893: /*issued*/ visitChild("issued", this.issued, visitor); break; // InstantType
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // Reference
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case 1034315687: /*dataAbsentReason*/ visitChild("dataAbsentReason", this.dataAbsentReason, visitor); break; // CodeableConcept
+        case -297950712: /*interpretation*/ visitChild("interpretation", this.interpretation, visitor); break; // CodeableConcept
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableConcept
+        case -1001731599: /*bodyStructure*/ visitChild("bodyStructure", this.bodyStructure, visitor); break; // Reference
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // CodeableConcept
+        case -2132868344: /*specimen*/ visitChild("specimen", this.specimen, visitor); break; // Reference
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // Reference
+        case -1912545102: /*referenceRange*/ visitChild("referenceRange", this.referenceRange, visitor); break; // ObservationReferenceRangeComponent
+        case -458019372: /*hasMember*/ visitChild("hasMember", this.hasMember, visitor); break; // Reference
+        case 1077922663: /*derivedFrom*/ visitChild("derivedFrom", this.derivedFrom, visitor); break; // Reference
+        case -1399907075: /*component*/ visitChild("component", this.component, visitor); break; // ObservationComponentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiates", this.instantiates, visitor); // DataType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("triggeredBy", this.triggeredBy, visitor); // ObservationTriggeredByComponent
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<ObservationStatus>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("effective", this.effective, visitor); // DataType
+        visitChild("issued", this.issued, visitor); // InstantType
+        visitChild("performer", this.performer, visitor); // Reference
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("dataAbsentReason", this.dataAbsentReason, visitor); // CodeableConcept
+        visitChild("interpretation", this.interpretation, visitor); // CodeableConcept
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("bodySite", this.bodySite, visitor); // CodeableConcept
+        visitChild("bodyStructure", this.bodyStructure, visitor); // Reference
+        visitChild("method", this.method, visitor); // CodeableConcept
+        visitChild("specimen", this.specimen, visitor); // Reference
+        visitChild("device", this.device, visitor); // Reference
+        visitChild("referenceRange", this.referenceRange, visitor); // ObservationReferenceRangeComponent
+        visitChild("hasMember", this.hasMember, visitor); // Reference
+        visitChild("derivedFrom", this.derivedFrom, visitor); // Reference
+        visitChild("component", this.component, visitor); // ObservationComponentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1056,6 +1056,43 @@ public class ObservationDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 951530927: /*context*/ visitChild("context", this.context, visitor); break; // CodeableConcept
+        case -2089924569: /*appliesTo*/ visitChild("appliesTo", this.appliesTo, visitor); break; // CodeableConcept
+        case -1249512767: /*gender*/ visitChild("gender", this.gender, visitor); break; // Enumeration<AdministrativeGender>
+        case 96511: /*age*/ visitChild("age", this.age, visitor); break; // Range
+        case -241217538: /*gestationalAge*/ visitChild("gestationalAge", this.gestationalAge, visitor); break; // Range
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // StringType
+        case -363410085: /*rangeCategory*/ visitChild("rangeCategory", this.rangeCategory, visitor); break; // Enumeration<ObservationRangeCategory>
+        case 108280125: /*range*/ visitChild("range", this.range, visitor); break; // Range
+        case 1374640076: /*validCodedValueSet*/ visitChild("validCodedValueSet", this.validCodedValueSet, visitor); break; // CanonicalType
+        case -837500735: /*normalCodedValueSet*/ visitChild("normalCodedValueSet", this.normalCodedValueSet, visitor); break; // CanonicalType
+        case 1073600256: /*abnormalCodedValueSet*/ visitChild("abnormalCodedValueSet", this.abnormalCodedValueSet, visitor); break; // CanonicalType
+        case 2568457: /*criticalCodedValueSet*/ visitChild("criticalCodedValueSet", this.criticalCodedValueSet, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("context", this.context, visitor); // CodeableConcept
+        visitChild("appliesTo", this.appliesTo, visitor); // CodeableConcept
+        visitChild("gender", this.gender, visitor); // Enumeration<AdministrativeGender>
+        visitChild("age", this.age, visitor); // Range
+        visitChild("gestationalAge", this.gestationalAge, visitor); // Range
+        visitChild("condition", this.condition, visitor); // StringType
+        visitChild("rangeCategory", this.rangeCategory, visitor); // Enumeration<ObservationRangeCategory>
+        visitChild("range", this.range, visitor); // Range
+        visitChild("validCodedValueSet", this.validCodedValueSet, visitor); // CanonicalType
+        visitChild("normalCodedValueSet", this.normalCodedValueSet, visitor); // CanonicalType
+        visitChild("abnormalCodedValueSet", this.abnormalCodedValueSet, visitor); // CanonicalType
+        visitChild("criticalCodedValueSet", this.criticalCodedValueSet, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1593,6 +1630,27 @@ public class ObservationDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -99492804: /*permittedDataType*/ visitChild("permittedDataType", this.permittedDataType, visitor); break; // Enumeration<ObservationDataType>
+        case 1073054652: /*permittedUnit*/ visitChild("permittedUnit", this.permittedUnit, visitor); break; // Coding
+        case -558517707: /*qualifiedValue*/ visitChild("qualifiedValue", this.qualifiedValue, visitor); break; // ObservationDefinitionQualifiedValueComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("permittedDataType", this.permittedDataType, visitor); // Enumeration<ObservationDataType>
+        visitChild("permittedUnit", this.permittedUnit, visitor); // Coding
+        visitChild("qualifiedValue", this.qualifiedValue, visitor); // ObservationDefinitionQualifiedValueComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3902,6 +3960,93 @@ public class ObservationDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case -978133683: /*derivedFromCanonical*/ visitChild("derivedFromCanonical", this.derivedFromCanonical, visitor); break; // CanonicalType
+        case -1076333435: /*derivedFromUri*/ visitChild("derivedFromUri", this.derivedFromUri, visitor); break; // UriType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // CodeableConcept
+        case -901444568: /*performerType*/ visitChild("performerType", this.performerType, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -99492804: /*permittedDataType*/ visitChild("permittedDataType", this.permittedDataType, visitor); break; // Enumeration<ObservationDataType>
+        case -2102414590: /*multipleResultsAllowed*/ visitChild("multipleResultsAllowed", this.multipleResultsAllowed, visitor); break; // BooleanType
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableConcept
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // CodeableConcept
+        case -2132868344: /*specimen*/ visitChild("specimen", this.specimen, visitor); break; // Reference
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // Reference
+        case -1851030208: /*preferredReportName*/ visitChild("preferredReportName", this.preferredReportName, visitor); break; // StringType
+        case 1073054652: /*permittedUnit*/ visitChild("permittedUnit", this.permittedUnit, visitor); break; // Coding
+        case -558517707: /*qualifiedValue*/ visitChild("qualifiedValue", this.qualifiedValue, visitor); break; // ObservationDefinitionQualifiedValueComponent
+        case -458019372: /*hasMember*/ visitChild("hasMember", this.hasMember, visitor); break; // Reference
+        case -1399907075: /*component*/ visitChild("component", this.component, visitor); break; // ObservationDefinitionComponentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("derivedFromCanonical", this.derivedFromCanonical, visitor); // CanonicalType
+        visitChild("derivedFromUri", this.derivedFromUri, visitor); // UriType
+        visitChild("subject", this.subject, visitor); // CodeableConcept
+        visitChild("performerType", this.performerType, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("permittedDataType", this.permittedDataType, visitor); // Enumeration<ObservationDataType>
+        visitChild("multipleResultsAllowed", this.multipleResultsAllowed, visitor); // BooleanType
+        visitChild("bodySite", this.bodySite, visitor); // CodeableConcept
+        visitChild("method", this.method, visitor); // CodeableConcept
+        visitChild("specimen", this.specimen, visitor); // Reference
+        visitChild("device", this.device, visitor); // Reference
+        visitChild("preferredReportName", this.preferredReportName, visitor); // StringType
+        visitChild("permittedUnit", this.permittedUnit, visitor); // Coding
+        visitChild("qualifiedValue", this.qualifiedValue, visitor); // ObservationDefinitionQualifiedValueComponent
+        visitChild("hasMember", this.hasMember, visitor); // Reference
+        visitChild("component", this.component, visitor); // ObservationDefinitionComponentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
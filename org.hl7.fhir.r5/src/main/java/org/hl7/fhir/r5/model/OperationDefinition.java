@@ -1082,6 +1082,45 @@ public class OperationDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // CodeType
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Enumeration<OperationParameterUse>
+        case 109264468: /*scope*/ visitChild("scope", this.scope, visitor); break; // Enumeration<OperationParameterScope>
+        case 108114: /*min*/ visitChild("min", this.min, visitor); break; // IntegerType
+        case 107876: /*max*/ visitChild("max", this.max, visitor); break; // StringType
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // MarkdownType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<FHIRTypes>
+        case 1512894722: /*allowedType*/ visitChild("allowedType", this.allowedType, visitor); break; // Enumeration<FHIRTypes>
+        case 1994521304: /*targetProfile*/ visitChild("targetProfile", this.targetProfile, visitor); break; // CanonicalType
+        case -710454014: /*searchType*/ visitChild("searchType", this.searchType, visitor); break; // Enumeration<SearchParamType>
+        case -108220795: /*binding*/ visitChild("binding", this.binding, visitor); break; // OperationDefinitionParameterBindingComponent
+        case -1896721981: /*referencedFrom*/ visitChild("referencedFrom", this.referencedFrom, visitor); break; // OperationDefinitionParameterReferencedFromComponent
+        case 3433459: /*part*/ visitChild("part", this.part, visitor); break; // OperationDefinitionParameterComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // CodeType
+        visitChild("use", this.use, visitor); // Enumeration<OperationParameterUse>
+        visitChild("scope", this.scope, visitor); // Enumeration<OperationParameterScope>
+        visitChild("min", this.min, visitor); // IntegerType
+        visitChild("max", this.max, visitor); // StringType
+        visitChild("documentation", this.documentation, visitor); // MarkdownType
+        visitChild("type", this.type, visitor); // Enumeration<FHIRTypes>
+        visitChild("allowedType", this.allowedType, visitor); // Enumeration<FHIRTypes>
+        visitChild("targetProfile", this.targetProfile, visitor); // CanonicalType
+        visitChild("searchType", this.searchType, visitor); // Enumeration<SearchParamType>
+        visitChild("binding", this.binding, visitor); // OperationDefinitionParameterBindingComponent
+        visitChild("referencedFrom", this.referencedFrom, visitor); // OperationDefinitionParameterReferencedFromComponent
+        visitChild("part", this.part, visitor); // OperationDefinitionParameterComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1532,6 +1571,23 @@ public class OperationDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1791316033: /*strength*/ visitChild("strength", this.strength, visitor); break; // Enumeration<BindingStrength>
+        case -1410174671: /*valueSet*/ visitChild("valueSet", this.valueSet, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("strength", this.strength, visitor); // Enumeration<BindingStrength>
+        visitChild("valueSet", this.valueSet, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1799,6 +1855,23 @@ public class OperationDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // StringType
+        case 1746327190: /*sourceId*/ visitChild("sourceId", this.sourceId, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("source", this.source, visitor); // StringType
+        visitChild("sourceId", this.sourceId, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2071,6 +2144,23 @@ public class OperationDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -379607596: /*parameterName*/ visitChild("parameterName", this.parameterName, visitor); break; // StringType
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("parameterName", this.parameterName, visitor); // StringType
+        visitChild("comment", this.comment, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4011,6 +4101,79 @@ public class OperationDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case 3292052: /*kind*/ visitChild("kind", this.kind, visitor); break; // Enumeration<OperationKind>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case -14805197: /*affectsState*/ visitChild("affectsState", this.affectsState, visitor); break; // BooleanType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // MarkdownType
+        case 3016401: /*base*/ visitChild("base", this.base, visitor); break; // CanonicalType
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // Enumeration<VersionIndependentResourceTypesAll>
+        case -887328209: /*system*/ visitChild("system", this.system, visitor); break; // BooleanType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // BooleanType
+        case 555127957: /*instance*/ visitChild("instance", this.instance, visitor); break; // BooleanType
+        case 676942463: /*inputProfile*/ visitChild("inputProfile", this.inputProfile, visitor); break; // CanonicalType
+        case 1826166120: /*outputProfile*/ visitChild("outputProfile", this.outputProfile, visitor); break; // CanonicalType
+        case 1954460585: /*parameter*/ visitChild("parameter", this.parameter, visitor); break; // OperationDefinitionParameterComponent
+        case 529823674: /*overload*/ visitChild("overload", this.overload, visitor); break; // OperationDefinitionOverloadComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("kind", this.kind, visitor); // Enumeration<OperationKind>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("affectsState", this.affectsState, visitor); // BooleanType
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("comment", this.comment, visitor); // MarkdownType
+        visitChild("base", this.base, visitor); // CanonicalType
+        visitChild("resource", this.resource, visitor); // Enumeration<VersionIndependentResourceTypesAll>
+        visitChild("system", this.system, visitor); // BooleanType
+        visitChild("type", this.type, visitor); // BooleanType
+        visitChild("instance", this.instance, visitor); // BooleanType
+        visitChild("inputProfile", this.inputProfile, visitor); // CanonicalType
+        visitChild("outputProfile", this.outputProfile, visitor); // CanonicalType
+        visitChild("parameter", this.parameter, visitor); // OperationDefinitionParameterComponent
+        visitChild("overload", this.overload, visitor); // OperationDefinitionOverloadComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1196,6 +1196,31 @@ For resource issues, this will be a simple XPath limited to element names, repet
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1478300413: /*severity*/ visitChild("severity", this.severity, visitor); break; // Enumeration<IssueSeverity>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Enumeration<IssueType>
+        case 1557721666: /*details*/ visitChild("details", this.details, visitor); break; // CodeableConcept
+        case -740386388: /*diagnostics*/ visitChild("diagnostics", this.diagnostics, visitor); break; // StringType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // StringType
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("severity", this.severity, visitor); // Enumeration<IssueSeverity>
+        visitChild("code", this.code, visitor); // Enumeration<IssueType>
+        visitChild("details", this.details, visitor); // CodeableConcept
+        visitChild("diagnostics", this.diagnostics, visitor); // StringType
+        visitChild("location", this.location, visitor); // StringType
+        visitChild("expression", this.expression, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1534,6 +1559,21 @@ For resource issues, this will be a simple XPath limited to element names, repet
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 100509913: /*issue*/ visitChild("issue", this.issue, visitor); break; // OperationOutcomeIssueComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("issue", this.issue, visitor); // OperationOutcomeIssueComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
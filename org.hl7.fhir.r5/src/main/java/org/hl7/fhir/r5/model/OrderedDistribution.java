@@ -208,6 +208,23 @@ public class OrderedDistribution extends BackboneType implements ICompositeType
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -656537982: /*rankOrder*/ visitChild("rankOrder", this.rankOrder, visitor); break; // IntegerType
+        case 227099147: /*intervalStatistic*/ visitChild("intervalStatistic", this.intervalStatistic, visitor); break; // Statistic
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("rankOrder", this.rankOrder, visitor); // IntegerType
+        visitChild("intervalStatistic", this.intervalStatistic, visitor); // Statistic
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -671,6 +688,31 @@ public class OrderedDistribution extends BackboneType implements ICompositeType
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -569541330: /*numberOfIntervals*/ visitChild("numberOfIntervals", this.numberOfIntervals, visitor); break; // IntegerType
+        case 37889363: /*bottomOfFirstInterval*/ visitChild("bottomOfFirstInterval", this.bottomOfFirstInterval, visitor); break; // Quantity
+        case 570418373: /*interval*/ visitChild("interval", this.interval, visitor); break; // OrderedDistributionIntervalComponent
+        case 691816177: /*topOfInterval*/ visitChild("topOfInterval", this.topOfInterval, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("numberOfIntervals", this.numberOfIntervals, visitor); // IntegerType
+        visitChild("bottomOfFirstInterval", this.bottomOfFirstInterval, visitor); // Quantity
+        visitChild("interval", this.interval, visitor); // OrderedDistributionIntervalComponent
+        visitChild("topOfInterval", this.topOfInterval, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -257,6 +257,27 @@ public class Organization extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -1179159879: /*issuer*/ visitChild("issuer", this.issuer, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+        visitChild("issuer", this.issuer, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1026,6 +1047,39 @@ public class Organization extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 92902992: /*alias*/ visitChild("alias", this.alias, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ExtendedContactDetail
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // Reference
+        case -631333393: /*qualification*/ visitChild("qualification", this.qualification, visitor); break; // OrganizationQualificationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("alias", this.alias, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("contact", this.contact, visitor); // ExtendedContactDetail
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("endpoint", this.endpoint, visitor); // Reference
+        visitChild("qualification", this.qualification, visitor); // OrganizationQualificationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -744,6 +744,43 @@ public class OrganizationAffiliation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 1178922291: /*organization*/ visitChild("organization", this.organization, visitor); break; // Reference
+        case 1593310702: /*participatingOrganization*/ visitChild("participatingOrganization", this.participatingOrganization, visitor); break; // Reference
+        case 1843485230: /*network*/ visitChild("network", this.network, visitor); break; // Reference
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1694759682: /*specialty*/ visitChild("specialty", this.specialty, visitor); break; // CodeableConcept
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case 1289661064: /*healthcareService*/ visitChild("healthcareService", this.healthcareService, visitor); break; // Reference
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ExtendedContactDetail
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("period", this.period, visitor); // Period
+        visitChild("organization", this.organization, visitor); // Reference
+        visitChild("participatingOrganization", this.participatingOrganization, visitor); // Reference
+        visitChild("network", this.network, visitor); // Reference
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("specialty", this.specialty, visitor); // CodeableConcept
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("healthcareService", this.healthcareService, visitor); // Reference
+        visitChild("contact", this.contact, visitor); // ExtendedContactDetail
+        visitChild("endpoint", this.endpoint, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -154,6 +154,23 @@ public class PackagedProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -949,6 +966,41 @@ public class PackagedProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1706307216: /*componentPart*/ visitChild("componentPart", this.componentPart, visitor); break; // BooleanType
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // IntegerType
+        case 299066663: /*material*/ visitChild("material", this.material, visitor); break; // CodeableConcept
+        case -1021448255: /*alternateMaterial*/ visitChild("alternateMaterial", this.alternateMaterial, visitor); break; // CodeableConcept
+        case 172049237: /*shelfLifeStorage*/ visitChild("shelfLifeStorage", this.shelfLifeStorage, visitor); break; // ProductShelfLife
+        case -1969347631: /*manufacturer*/ visitChild("manufacturer", this.manufacturer, visitor); break; // Reference
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // PackagedProductDefinitionPackagingPropertyComponent
+        case 1953679910: /*containedItem*/ visitChild("containedItem", this.containedItem, visitor); break; // PackagedProductDefinitionPackagingContainedItemComponent
+        case 1802065795: /*packaging*/ visitChild("packaging", this.packaging, visitor); break; // PackagedProductDefinitionPackagingComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("componentPart", this.componentPart, visitor); // BooleanType
+        visitChild("quantity", this.quantity, visitor); // IntegerType
+        visitChild("material", this.material, visitor); // CodeableConcept
+        visitChild("alternateMaterial", this.alternateMaterial, visitor); // CodeableConcept
+        visitChild("shelfLifeStorage", this.shelfLifeStorage, visitor); // ProductShelfLife
+        visitChild("manufacturer", this.manufacturer, visitor); // Reference
+        visitChild("property", this.property, visitor); // PackagedProductDefinitionPackagingPropertyComponent
+        visitChild("containedItem", this.containedItem, visitor); // PackagedProductDefinitionPackagingContainedItemComponent
+        visitChild("packaging", this.packaging, visitor); // PackagedProductDefinitionPackagingComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1403,6 +1455,23 @@ public class PackagedProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1640,6 +1709,23 @@ public class PackagedProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // CodeableReference
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("item", this.item, visitor); // CodeableReference
+        visitChild("amount", this.amount, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2622,6 +2708,49 @@ public class PackagedProductDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 29307555: /*packageFor*/ visitChild("packageFor", this.packageFor, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case 247524032: /*statusDate*/ visitChild("statusDate", this.statusDate, visitor); break; // DateTimeType
+        case -1686893359: /*containedItemQuantity*/ visitChild("containedItemQuantity", this.containedItemQuantity, visitor); break; // Quantity
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -844874031: /*legalStatusOfSupply*/ visitChild("legalStatusOfSupply", this.legalStatusOfSupply, visitor); break; // PackagedProductDefinitionLegalStatusOfSupplyComponent
+        case 70767032: /*marketingStatus*/ visitChild("marketingStatus", this.marketingStatus, visitor); break; // MarketingStatus
+        case -1638663195: /*copackagedIndicator*/ visitChild("copackagedIndicator", this.copackagedIndicator, visitor); break; // BooleanType
+        case -1969347631: /*manufacturer*/ visitChild("manufacturer", this.manufacturer, visitor); break; // Reference
+        case -513945889: /*attachedDocument*/ visitChild("attachedDocument", this.attachedDocument, visitor); break; // Reference
+        case 1802065795: /*packaging*/ visitChild("packaging", this.packaging, visitor); break; // PackagedProductDefinitionPackagingComponent
+        case 366313883: /*characteristic*/ visitChild("characteristic", this.characteristic, visitor); break; // PackagedProductDefinitionPackagingPropertyComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("packageFor", this.packageFor, visitor); // Reference
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("statusDate", this.statusDate, visitor); // DateTimeType
+        visitChild("containedItemQuantity", this.containedItemQuantity, visitor); // Quantity
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("legalStatusOfSupply", this.legalStatusOfSupply, visitor); // PackagedProductDefinitionLegalStatusOfSupplyComponent
+        visitChild("marketingStatus", this.marketingStatus, visitor); // MarketingStatus
+        visitChild("copackagedIndicator", this.copackagedIndicator, visitor); // BooleanType
+        visitChild("manufacturer", this.manufacturer, visitor); // Reference
+        visitChild("attachedDocument", this.attachedDocument, visitor); // Reference
+        visitChild("packaging", this.packaging, visitor); // PackagedProductDefinitionPackagingComponent
+        visitChild("characteristic", this.characteristic, visitor); // PackagedProductDefinitionPackagingPropertyComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
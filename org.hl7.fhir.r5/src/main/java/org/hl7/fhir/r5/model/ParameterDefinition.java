@@ -492,6 +492,33 @@ public class ParameterDefinition extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // CodeType
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Enumeration<OperationParameterUse>
+        case 108114: /*min*/ visitChild("min", this.min, visitor); break; // IntegerType
+        case 107876: /*max*/ visitChild("max", this.max, visitor); break; // StringType
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<FHIRTypes>
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // CodeType
+        visitChild("use", this.use, visitor); // Enumeration<OperationParameterUse>
+        visitChild("min", this.min, visitor); // IntegerType
+        visitChild("max", this.max, visitor); // StringType
+        visitChild("documentation", this.documentation, visitor); // StringType
+        visitChild("type", this.type, visitor); // Enumeration<FHIRTypes>
+        visitChild("profile", this.profile, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1137,6 +1137,27 @@ public class Parameters extends Resource implements IBaseParameters {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // Resource
+        case 3433459: /*part*/ visitChild("part", this.part, visitor); break; // ParametersParameterComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("resource", this.resource, visitor); // Resource
+        visitChild("part", this.part, visitor); // ParametersParameterComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1633,6 +1654,21 @@ public String toString() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1954460585: /*parameter*/ visitChild("parameter", this.parameter, visitor); break; // ParametersParameterComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("parameter", this.parameter, visitor); // ParametersParameterComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -537,6 +537,33 @@ public class Patient extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // HumanName
+        case -1429363305: /*telecom*/ visitChild("telecom", this.telecom, visitor); break; // ContactPoint
+        case -1147692044: /*address*/ visitChild("address", this.address, visitor); break; // Address
+        case -1249512767: /*gender*/ visitChild("gender", this.gender, visitor); break; // Enumeration<AdministrativeGender>
+        case 1178922291: /*organization*/ visitChild("organization", this.organization, visitor); break; // Reference
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("relationship", this.relationship, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // HumanName
+        visitChild("telecom", this.telecom, visitor); // ContactPoint
+        visitChild("address", this.address, visitor); // Address
+        visitChild("gender", this.gender, visitor); // Enumeration<AdministrativeGender>
+        visitChild("organization", this.organization, visitor); // Reference
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -860,6 +887,23 @@ public class Patient extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        case -1294005119: /*preferred*/ visitChild("preferred", this.preferred, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("language", this.language, visitor); // CodeableConcept
+        visitChild("preferred", this.preferred, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1102,6 +1146,23 @@ public class Patient extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 106069776: /*other*/ visitChild("other", this.other, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<LinkType>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("other", this.other, visitor); // Reference
+        visitChild("type", this.type, visitor); // Enumeration<LinkType>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2209,6 +2270,51 @@ Deceased patients may also be marked as inactive for the same reasons, but may b
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // HumanName
+        case -1429363305: /*telecom*/ visitChild("telecom", this.telecom, visitor); break; // ContactPoint
+        case -1249512767: /*gender*/ visitChild("gender", this.gender, visitor); break; // Enumeration<AdministrativeGender>
+        case -1210031859: /*birthDate*/ visitChild("birthDate", this.birthDate, visitor); break; // DateType
+        case 561497972: /*deceased*/ visitChild("deceased", this.deceased, visitor); break; // DataType
+        case -1147692044: /*address*/ visitChild("address", this.address, visitor); break; // Address
+        case 1756919302: /*maritalStatus*/ visitChild("maritalStatus", this.maritalStatus, visitor); break; // CodeableConcept
+        case -677369713: /*multipleBirth*/ visitChild("multipleBirth", this.multipleBirth, visitor); break; // DataType
+        case 106642994: /*photo*/ visitChild("photo", this.photo, visitor); break; // Attachment
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactComponent
+        case -1035284522: /*communication*/ visitChild("communication", this.communication, visitor); break; // PatientCommunicationComponent
+        case 1488292898: /*generalPractitioner*/ visitChild("generalPractitioner", this.generalPractitioner, visitor); break; // Reference
+        case -2058947787: /*managingOrganization*/ visitChild("managingOrganization", this.managingOrganization, visitor); break; // Reference
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // PatientLinkComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("name", this.name, visitor); // HumanName
+        visitChild("telecom", this.telecom, visitor); // ContactPoint
+        visitChild("gender", this.gender, visitor); // Enumeration<AdministrativeGender>
+        visitChild("birthDate", this.birthDate, visitor); // DateType
+        visitChild("deceased", this.deceased, visitor); // DataType
+        visitChild("address", this.address, visitor); // Address
+        visitChild("maritalStatus", this.maritalStatus, visitor); // CodeableConcept
+        visitChild("multipleBirth", this.multipleBirth, visitor); // DataType
+        visitChild("photo", this.photo, visitor); // Attachment
+        visitChild("contact", this.contact, visitor); // ContactComponent
+        visitChild("communication", this.communication, visitor); // PatientCommunicationComponent
+        visitChild("generalPractitioner", this.generalPractitioner, visitor); // Reference
+        visitChild("managingOrganization", this.managingOrganization, visitor); // Reference
+        visitChild("link", this.link, visitor); // PatientLinkComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
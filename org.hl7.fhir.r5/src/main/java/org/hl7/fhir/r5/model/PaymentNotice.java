@@ -599,6 +599,43 @@ public class PaymentNotice extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FinancialResourceStatusCodes>
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -340323263: /*response*/ visitChild("response", this.response, visitor); break; // Reference
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case -427039519: /*reporter*/ visitChild("reporter", this.reporter, visitor); break; // Reference
+        case -786681338: /*payment*/ visitChild("payment", this.payment, visitor); break; // Reference
+        case -1540873516: /*paymentDate*/ visitChild("paymentDate", this.paymentDate, visitor); break; // DateType
+        case 106443592: /*payee*/ visitChild("payee", this.payee, visitor); break; // Reference
+        case 820081177: /*recipient*/ visitChild("recipient", this.recipient, visitor); break; // Reference
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        case 1430704536: /*paymentStatus*/ visitChild("paymentStatus", this.paymentStatus, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<FinancialResourceStatusCodes>
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("response", this.response, visitor); // Reference
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("reporter", this.reporter, visitor); // Reference
+        visitChild("payment", this.payment, visitor); // Reference
+        visitChild("paymentDate", this.paymentDate, visitor); // DateType
+        visitChild("payee", this.payee, visitor); // Reference
+        visitChild("recipient", this.recipient, visitor); // Reference
+        visitChild("amount", this.amount, visitor); // Money
+        visitChild("paymentStatus", this.paymentStatus, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
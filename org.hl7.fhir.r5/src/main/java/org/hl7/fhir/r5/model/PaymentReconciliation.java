@@ -842,6 +842,45 @@ public class PaymentReconciliation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1925032183: /*predecessor*/ visitChild("predecessor", this.predecessor, visitor); break; // Identifier
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // Reference
+        case 486289476: /*targetItem*/ visitChild("targetItem", this.targetItem, visitor); break; // DataType
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1177318867: /*account*/ visitChild("account", this.account, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 348678409: /*submitter*/ visitChild("submitter", this.submitter, visitor); break; // Reference
+        case -340323263: /*response*/ visitChild("response", this.response, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateType
+        case 1847674614: /*responsible*/ visitChild("responsible", this.responsible, visitor); break; // Reference
+        case 106443592: /*payee*/ visitChild("payee", this.payee, visitor); break; // Reference
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("predecessor", this.predecessor, visitor); // Identifier
+        visitChild("target", this.target, visitor); // Reference
+        visitChild("targetItem", this.targetItem, visitor); // DataType
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("account", this.account, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("submitter", this.submitter, visitor); // Reference
+        visitChild("response", this.response, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateType
+        visitChild("responsible", this.responsible, visitor); // Reference
+        visitChild("payee", this.payee, visitor); // Reference
+        visitChild("amount", this.amount, visitor); // Money
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1273,6 +1312,23 @@ public class PaymentReconciliation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<NoteType>
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<NoteType>
+        visitChild("text", this.text, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2771,6 +2827,77 @@ public class PaymentReconciliation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FinancialResourceStatusCodes>
+        case 3292052: /*kind*/ visitChild("kind", this.kind, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case -1591951995: /*enterer*/ visitChild("enterer", this.enterer, visitor); break; // Reference
+        case 1459974547: /*issuerType*/ visitChild("issuerType", this.issuerType, visitor); break; // CodeableConcept
+        case 1144026207: /*paymentIssuer*/ visitChild("paymentIssuer", this.paymentIssuer, visitor); break; // Reference
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case 693934258: /*requestor*/ visitChild("requestor", this.requestor, visitor); break; // Reference
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // Enumeration<PaymentOutcome>
+        case 583380919: /*disposition*/ visitChild("disposition", this.disposition, visitor); break; // StringType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // CodeableConcept
+        case -271889833: /*cardBrand*/ visitChild("cardBrand", this.cardBrand, visitor); break; // StringType
+        case -1011205162: /*accountNumber*/ visitChild("accountNumber", this.accountNumber, visitor); break; // StringType
+        case -668811523: /*expirationDate*/ visitChild("expirationDate", this.expirationDate, visitor); break; // DateType
+        case -1094759278: /*processor*/ visitChild("processor", this.processor, visitor); break; // StringType
+        case 744563316: /*referenceNumber*/ visitChild("referenceNumber", this.referenceNumber, visitor); break; // StringType
+        case -1385570183: /*authorization*/ visitChild("authorization", this.authorization, visitor); break; // StringType
+        case 1815344299: /*tenderedAmount*/ visitChild("tenderedAmount", this.tenderedAmount, visitor); break; // Money
+        case -797236473: /*returnedAmount*/ visitChild("returnedAmount", this.returnedAmount, visitor); break; // Money
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Money
+        case 1555852111: /*paymentIdentifier*/ visitChild("paymentIdentifier", this.paymentIdentifier, visitor); break; // Identifier
+        case -1912450848: /*allocation*/ visitChild("allocation", this.allocation, visitor); break; // PaymentReconciliationAllocationComponent
+        case 473181393: /*formCode*/ visitChild("formCode", this.formCode, visitor); break; // CodeableConcept
+        case 202339073: /*processNote*/ visitChild("processNote", this.processNote, visitor); break; // NotesComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // Enumeration<FinancialResourceStatusCodes>
+        visitChild("kind", this.kind, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("enterer", this.enterer, visitor); // Reference
+        visitChild("issuerType", this.issuerType, visitor); // CodeableConcept
+        visitChild("paymentIssuer", this.paymentIssuer, visitor); // Reference
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("requestor", this.requestor, visitor); // Reference
+        visitChild("outcome", this.outcome, visitor); // Enumeration<PaymentOutcome>
+        visitChild("disposition", this.disposition, visitor); // StringType
+        visitChild("date", this.date, visitor); // DateType
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("method", this.method, visitor); // CodeableConcept
+        visitChild("cardBrand", this.cardBrand, visitor); // StringType
+        visitChild("accountNumber", this.accountNumber, visitor); // StringType
+        visitChild("expirationDate", this.expirationDate, visitor); // DateType
+        visitChild("processor", this.processor, visitor); // StringType
+        visitChild("referenceNumber", this.referenceNumber, visitor); // StringType
+        visitChild("authorization", this.authorization, visitor); // StringType
+        visitChild("tenderedAmount", this.tenderedAmount, visitor); // Money
+        visitChild("returnedAmount", this.returnedAmount, visitor); // Money
+        visitChild("amount", this.amount, visitor); // Money
+        visitChild("paymentIdentifier", this.paymentIdentifier, visitor); // Identifier
+        visitChild("allocation", this.allocation, visitor); // PaymentReconciliationAllocationComponent
+        visitChild("formCode", this.formCode, visitor); // CodeableConcept
+        visitChild("processNote", this.processNote, visitor); // NotesComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -198,6 +198,23 @@ public class Period extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 109757538: /*start*/ visitChild("start", this.start, visitor); break; // DateTimeType
+        case 100571: /*end*/ visitChild("end", this.end, visitor); break; // DateTimeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("start", this.start, visitor); // DateTimeType
+        visitChild("end", this.end, visitor); // DateTimeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
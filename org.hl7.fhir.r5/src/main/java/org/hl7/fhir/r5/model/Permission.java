@@ -503,6 +503,23 @@ public class Permission extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 93508670: /*basis*/ visitChild("basis", this.basis, visitor); break; // CodeableConcept
+        case 382967383: /*evidence*/ visitChild("evidence", this.evidence, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("basis", this.basis, visitor); // CodeableConcept
+        visitChild("evidence", this.evidence, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -903,6 +920,27 @@ public class Permission extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ConsentProvisionType>
+        case 3076010: /*data*/ visitChild("data", this.data, visitor); break; // RuleDataComponent
+        case -1655966961: /*activity*/ visitChild("activity", this.activity, visitor); break; // RuleActivityComponent
+        case 102976443: /*limit*/ visitChild("limit", this.limit, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<ConsentProvisionType>
+        visitChild("data", this.data, visitor); // RuleDataComponent
+        visitChild("activity", this.activity, visitor); // RuleActivityComponent
+        visitChild("limit", this.limit, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1311,6 +1349,27 @@ public class Permission extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // RuleDataResourceComponent
+        case 949122880: /*security*/ visitChild("security", this.security, visitor); break; // Coding
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // Expression
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("resource", this.resource, visitor); // RuleDataResourceComponent
+        visitChild("security", this.security, visitor); // Coding
+        visitChild("period", this.period, visitor); // Period
+        visitChild("expression", this.expression, visitor); // Expression
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1593,6 +1652,23 @@ public class Permission extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 938160637: /*meaning*/ visitChild("meaning", this.meaning, visitor); break; // Enumeration<ConsentDataMeaning>
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("meaning", this.meaning, visitor); // Enumeration<ConsentDataMeaning>
+        visitChild("reference", this.reference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1930,6 +2006,25 @@ public class Permission extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("actor", this.actor, visitor); // Reference
+        visitChild("action", this.action, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2453,6 +2548,33 @@ public class Permission extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PermissionStatus>
+        case -373242253: /*asserter*/ visitChild("asserter", this.asserter, visitor); break; // Reference
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case -1421265102: /*validity*/ visitChild("validity", this.validity, visitor); break; // Period
+        case 1864993522: /*justification*/ visitChild("justification", this.justification, visitor); break; // PermissionJustificationComponent
+        case -1806252484: /*combining*/ visitChild("combining", this.combining, visitor); break; // Enumeration<PermissionRuleCombining>
+        case 3512060: /*rule*/ visitChild("rule", this.rule, visitor); break; // RuleComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("status", this.status, visitor); // Enumeration<PermissionStatus>
+        visitChild("asserter", this.asserter, visitor); // Reference
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("validity", this.validity, visitor); // Period
+        visitChild("justification", this.justification, visitor); // PermissionJustificationComponent
+        visitChild("combining", this.combining, visitor); // Enumeration<PermissionRuleCombining>
+        visitChild("rule", this.rule, visitor); // RuleComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -312,6 +312,23 @@ public class Person extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        case -1294005119: /*preferred*/ visitChild("preferred", this.preferred, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("language", this.language, visitor); // CodeableConcept
+        visitChild("preferred", this.preferred, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -557,6 +574,23 @@ public class Person extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // Reference
+        case 1771900717: /*assurance*/ visitChild("assurance", this.assurance, visitor); break; // Enumeration<IdentityAssuranceLevel>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("target", this.target, visitor); // Reference
+        visitChild("assurance", this.assurance, visitor); // Enumeration<IdentityAssuranceLevel>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1449,6 +1483,45 @@ public class Person extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // HumanName
+        case -1429363305: /*telecom*/ visitChild("telecom", this.telecom, visitor); break; // ContactPoint
+        case -1249512767: /*gender*/ visitChild("gender", this.gender, visitor); break; // Enumeration<AdministrativeGender>
+        case -1210031859: /*birthDate*/ visitChild("birthDate", this.birthDate, visitor); break; // DateType
+        case 561497972: /*deceased*/ visitChild("deceased", this.deceased, visitor); break; // DataType
+        case -1147692044: /*address*/ visitChild("address", this.address, visitor); break; // Address
+        case 1756919302: /*maritalStatus*/ visitChild("maritalStatus", this.maritalStatus, visitor); break; // CodeableConcept
+        case 106642994: /*photo*/ visitChild("photo", this.photo, visitor); break; // Attachment
+        case -1035284522: /*communication*/ visitChild("communication", this.communication, visitor); break; // PersonCommunicationComponent
+        case -2058947787: /*managingOrganization*/ visitChild("managingOrganization", this.managingOrganization, visitor); break; // Reference
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // PersonLinkComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("name", this.name, visitor); // HumanName
+        visitChild("telecom", this.telecom, visitor); // ContactPoint
+        visitChild("gender", this.gender, visitor); // Enumeration<AdministrativeGender>
+        visitChild("birthDate", this.birthDate, visitor); // DateType
+        visitChild("deceased", this.deceased, visitor); // DataType
+        visitChild("address", this.address, visitor); // Address
+        visitChild("maritalStatus", this.maritalStatus, visitor); // CodeableConcept
+        visitChild("photo", this.photo, visitor); // Attachment
+        visitChild("communication", this.communication, visitor); // PersonCommunicationComponent
+        visitChild("managingOrganization", this.managingOrganization, visitor); // Reference
+        visitChild("link", this.link, visitor); // PersonLinkComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -422,6 +422,33 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // CodeableConcept
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // CodeableConcept
+        case 109757538: /*start*/ visitChild("start", this.start, visitor); break; // CodeableConcept
+        case 874544034: /*addresses*/ visitChild("addresses", this.addresses, visitor); break; // CodeableConcept
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // RelatedArtifact
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // PlanDefinitionGoalTargetComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // CodeableConcept
+        visitChild("priority", this.priority, visitor); // CodeableConcept
+        visitChild("start", this.start, visitor); // CodeableConcept
+        visitChild("addresses", this.addresses, visitor); // CodeableConcept
+        visitChild("documentation", this.documentation, visitor); // RelatedArtifact
+        visitChild("target", this.target, visitor); // PlanDefinitionGoalTargetComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -861,6 +888,25 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 938321246: /*measure*/ visitChild("measure", this.measure, visitor); break; // CodeableConcept
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // DataType
+        case 99828: /*due*/ visitChild("due", this.due, visitor); break; // Duration
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("measure", this.measure, visitor); // CodeableConcept
+        visitChild("detail", this.detail, visitor); // DataType
+        visitChild("due", this.due, visitor); // Duration
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1234,6 +1280,25 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -1010136971: /*option*/ visitChild("option", this.option, visitor); break; // PlanDefinitionActorOptionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("option", this.option, visitor); // PlanDefinitionActorOptionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1583,6 +1648,27 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ActionParticipantType>
+        case -466635046: /*typeCanonical*/ visitChild("typeCanonical", this.typeCanonical, visitor); break; // CanonicalType
+        case 2074825009: /*typeReference*/ visitChild("typeReference", this.typeReference, visitor); break; // Reference
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<ActionParticipantType>
+        visitChild("typeCanonical", this.typeCanonical, visitor); // CanonicalType
+        visitChild("typeReference", this.typeReference, visitor); // Reference
+        visitChild("role", this.role, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3519,6 +3605,77 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case -980110702: /*prefix*/ visitChild("prefix", this.prefix, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -900391049: /*textEquivalent*/ visitChild("textEquivalent", this.textEquivalent, visitor); break; // MarkdownType
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // RelatedArtifact
+        case -1240658034: /*goalId*/ visitChild("goalId", this.goalId, visitor); break; // IdType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // DataType
+        case -1059891784: /*trigger*/ visitChild("trigger", this.trigger, visitor); break; // TriggerDefinition
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // PlanDefinitionActionConditionComponent
+        case 100358090: /*input*/ visitChild("input", this.input, visitor); break; // PlanDefinitionActionInputComponent
+        case -1005512447: /*output*/ visitChild("output", this.output, visitor); break; // PlanDefinitionActionOutputComponent
+        case -384107967: /*relatedAction*/ visitChild("relatedAction", this.relatedAction, visitor); break; // PlanDefinitionActionRelatedActionComponent
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // DataType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // CodeableReference
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // PlanDefinitionActionParticipantComponent
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 586678389: /*groupingBehavior*/ visitChild("groupingBehavior", this.groupingBehavior, visitor); break; // Enumeration<ActionGroupingBehavior>
+        case 168639486: /*selectionBehavior*/ visitChild("selectionBehavior", this.selectionBehavior, visitor); break; // Enumeration<ActionSelectionBehavior>
+        case -1163906287: /*requiredBehavior*/ visitChild("requiredBehavior", this.requiredBehavior, visitor); break; // Enumeration<ActionRequiredBehavior>
+        case -1174249033: /*precheckBehavior*/ visitChild("precheckBehavior", this.precheckBehavior, visitor); break; // Enumeration<ActionPrecheckBehavior>
+        case -922577408: /*cardinalityBehavior*/ visitChild("cardinalityBehavior", this.cardinalityBehavior, visitor); break; // Enumeration<ActionCardinalityBehavior>
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // DataType
+        case 1052666732: /*transform*/ visitChild("transform", this.transform, visitor); break; // CanonicalType
+        case 572625010: /*dynamicValue*/ visitChild("dynamicValue", this.dynamicValue, visitor); break; // PlanDefinitionActionDynamicValueComponent
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // PlanDefinitionActionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("prefix", this.prefix, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("textEquivalent", this.textEquivalent, visitor); // MarkdownType
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+        visitChild("documentation", this.documentation, visitor); // RelatedArtifact
+        visitChild("goalId", this.goalId, visitor); // IdType
+        visitChild("subject", this.subject, visitor); // DataType
+        visitChild("trigger", this.trigger, visitor); // TriggerDefinition
+        visitChild("condition", this.condition, visitor); // PlanDefinitionActionConditionComponent
+        visitChild("input", this.input, visitor); // PlanDefinitionActionInputComponent
+        visitChild("output", this.output, visitor); // PlanDefinitionActionOutputComponent
+        visitChild("relatedAction", this.relatedAction, visitor); // PlanDefinitionActionRelatedActionComponent
+        visitChild("timing", this.timing, visitor); // DataType
+        visitChild("location", this.location, visitor); // CodeableReference
+        visitChild("participant", this.participant, visitor); // PlanDefinitionActionParticipantComponent
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("groupingBehavior", this.groupingBehavior, visitor); // Enumeration<ActionGroupingBehavior>
+        visitChild("selectionBehavior", this.selectionBehavior, visitor); // Enumeration<ActionSelectionBehavior>
+        visitChild("requiredBehavior", this.requiredBehavior, visitor); // Enumeration<ActionRequiredBehavior>
+        visitChild("precheckBehavior", this.precheckBehavior, visitor); // Enumeration<ActionPrecheckBehavior>
+        visitChild("cardinalityBehavior", this.cardinalityBehavior, visitor); // Enumeration<ActionCardinalityBehavior>
+        visitChild("definition", this.definition, visitor); // DataType
+        visitChild("transform", this.transform, visitor); // CanonicalType
+        visitChild("dynamicValue", this.dynamicValue, visitor); // PlanDefinitionActionDynamicValueComponent
+        visitChild("action", this.action, visitor); // PlanDefinitionActionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4225,6 +4382,23 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3292052: /*kind*/ visitChild("kind", this.kind, visitor); break; // Enumeration<ActionConditionKind>
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // Expression
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("kind", this.kind, visitor); // Enumeration<ActionConditionKind>
+        visitChild("expression", this.expression, visitor); // Expression
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4523,6 +4697,25 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 363387971: /*requirement*/ visitChild("requirement", this.requirement, visitor); break; // DataRequirement
+        case 1112535669: /*relatedData*/ visitChild("relatedData", this.relatedData, visitor); break; // IdType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("requirement", this.requirement, visitor); // DataRequirement
+        visitChild("relatedData", this.relatedData, visitor); // IdType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4833,6 +5026,25 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 363387971: /*requirement*/ visitChild("requirement", this.requirement, visitor); break; // DataRequirement
+        case 1112535669: /*relatedData*/ visitChild("relatedData", this.relatedData, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("requirement", this.requirement, visitor); // DataRequirement
+        visitChild("relatedData", this.relatedData, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5235,6 +5447,27 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -441951604: /*targetId*/ visitChild("targetId", this.targetId, visitor); break; // IdType
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // Enumeration<ActionRelationshipType>
+        case -1506024781: /*endRelationship*/ visitChild("endRelationship", this.endRelationship, visitor); break; // Enumeration<ActionRelationshipType>
+        case -1019779949: /*offset*/ visitChild("offset", this.offset, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("targetId", this.targetId, visitor); // IdType
+        visitChild("relationship", this.relationship, visitor); // Enumeration<ActionRelationshipType>
+        visitChild("endRelationship", this.endRelationship, visitor); // Enumeration<ActionRelationshipType>
+        visitChild("offset", this.offset, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5701,6 +5934,31 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1161623056: /*actorId*/ visitChild("actorId", this.actorId, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ActionParticipantType>
+        case -466635046: /*typeCanonical*/ visitChild("typeCanonical", this.typeCanonical, visitor); break; // CanonicalType
+        case 2074825009: /*typeReference*/ visitChild("typeReference", this.typeReference, visitor); break; // Reference
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("actorId", this.actorId, visitor); // StringType
+        visitChild("type", this.type, visitor); // Enumeration<ActionParticipantType>
+        visitChild("typeCanonical", this.typeCanonical, visitor); // CanonicalType
+        visitChild("typeReference", this.typeReference, visitor); // Reference
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("function", this.function, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5998,6 +6256,23 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // Expression
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("expression", this.expression, visitor); // Expression
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8256,6 +8531,89 @@ public class PlanDefinition extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -2060497896: /*subtitle*/ visitChild("subtitle", this.subtitle, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // DataType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 111574433: /*usage*/ visitChild("usage", this.usage, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // CodeableConcept
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // ContactDetail
+        case -1307827859: /*editor*/ visitChild("editor", this.editor, visitor); break; // ContactDetail
+        case -261190139: /*reviewer*/ visitChild("reviewer", this.reviewer, visitor); break; // ContactDetail
+        case 1740277666: /*endorser*/ visitChild("endorser", this.endorser, visitor); break; // ContactDetail
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case 166208699: /*library*/ visitChild("library", this.library, visitor); break; // CanonicalType
+        case 3178259: /*goal*/ visitChild("goal", this.goal, visitor); break; // PlanDefinitionGoalComponent
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // PlanDefinitionActorComponent
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // PlanDefinitionActionComponent
+        case -1432923513: /*asNeeded*/ visitChild("asNeeded", this.asNeeded, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("subtitle", this.subtitle, visitor); // StringType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("subject", this.subject, visitor); // DataType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("usage", this.usage, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("topic", this.topic, visitor); // CodeableConcept
+        visitChild("author", this.author, visitor); // ContactDetail
+        visitChild("editor", this.editor, visitor); // ContactDetail
+        visitChild("reviewer", this.reviewer, visitor); // ContactDetail
+        visitChild("endorser", this.endorser, visitor); // ContactDetail
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("library", this.library, visitor); // CanonicalType
+        visitChild("goal", this.goal, visitor); // PlanDefinitionGoalComponent
+        visitChild("actor", this.actor, visitor); // PlanDefinitionActorComponent
+        visitChild("action", this.action, visitor); // PlanDefinitionActionComponent
+        visitChild("asNeeded", this.asNeeded, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
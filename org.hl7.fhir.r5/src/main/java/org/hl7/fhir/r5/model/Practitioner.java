@@ -258,6 +258,27 @@ public class Practitioner extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -1179159879: /*issuer*/ visitChild("issuer", this.issuer, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+        visitChild("issuer", this.issuer, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -533,6 +554,23 @@ public class Practitioner extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        case -1294005119: /*preferred*/ visitChild("preferred", this.preferred, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("language", this.language, visitor); // CodeableConcept
+        visitChild("preferred", this.preferred, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1363,6 +1401,41 @@ The `PractitionerRole.communication` property should be used for publishing the
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // HumanName
+        case -1429363305: /*telecom*/ visitChild("telecom", this.telecom, visitor); break; // ContactPoint
+        case -1249512767: /*gender*/ visitChild("gender", this.gender, visitor); break; // Enumeration<AdministrativeGender>
+        case -1210031859: /*birthDate*/ visitChild("birthDate", this.birthDate, visitor); break; // DateType
+        case 561497972: /*deceased*/ visitChild("deceased", this.deceased, visitor); break; // DataType
+        case -1147692044: /*address*/ visitChild("address", this.address, visitor); break; // Address
+        case 106642994: /*photo*/ visitChild("photo", this.photo, visitor); break; // Attachment
+        case -631333393: /*qualification*/ visitChild("qualification", this.qualification, visitor); break; // PractitionerQualificationComponent
+        case -1035284522: /*communication*/ visitChild("communication", this.communication, visitor); break; // PractitionerCommunicationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("name", this.name, visitor); // HumanName
+        visitChild("telecom", this.telecom, visitor); // ContactPoint
+        visitChild("gender", this.gender, visitor); // Enumeration<AdministrativeGender>
+        visitChild("birthDate", this.birthDate, visitor); // DateType
+        visitChild("deceased", this.deceased, visitor); // DataType
+        visitChild("address", this.address, visitor); // Address
+        visitChild("photo", this.photo, visitor); // Attachment
+        visitChild("qualification", this.qualification, visitor); // PractitionerQualificationComponent
+        visitChild("communication", this.communication, visitor); // PractitionerCommunicationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -229,6 +229,27 @@ public class Procedure extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        case -14402964: /*onBehalfOf*/ visitChild("onBehalfOf", this.onBehalfOf, visitor); break; // Reference
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+        visitChild("onBehalfOf", this.onBehalfOf, visitor); // Reference
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -480,6 +501,23 @@ public class Procedure extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // CodeableConcept
+        case 947372650: /*manipulated*/ visitChild("manipulated", this.manipulated, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("action", this.action, visitor); // CodeableConcept
+        visitChild("manipulated", this.manipulated, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2243,6 +2281,75 @@ public class Procedure extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<EventStatus>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case -799233872: /*recorded*/ visitChild("recorded", this.recorded, visitor); break; // DateTimeType
+        case -799233858: /*recorder*/ visitChild("recorder", this.recorder, visitor); break; // Reference
+        case -427039533: /*reported*/ visitChild("reported", this.reported, visitor); break; // DataType
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // ProcedurePerformerComponent
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableConcept
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // CodeableConcept
+        case -934521548: /*report*/ visitChild("report", this.report, visitor); break; // Reference
+        case -1644401602: /*complication*/ visitChild("complication", this.complication, visitor); break; // CodeableReference
+        case 301801004: /*followUp*/ visitChild("followUp", this.followUp, visitor); break; // CodeableConcept
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1129235173: /*focalDevice*/ visitChild("focalDevice", this.focalDevice, visitor); break; // ProcedureFocalDeviceComponent
+        case 3599293: /*used*/ visitChild("used", this.used, visitor); break; // CodeableReference
+        case 1922406657: /*supportingInfo*/ visitChild("supportingInfo", this.supportingInfo, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<EventStatus>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("recorded", this.recorded, visitor); // DateTimeType
+        visitChild("recorder", this.recorder, visitor); // Reference
+        visitChild("reported", this.reported, visitor); // DataType
+        visitChild("performer", this.performer, visitor); // ProcedurePerformerComponent
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("bodySite", this.bodySite, visitor); // CodeableConcept
+        visitChild("outcome", this.outcome, visitor); // CodeableConcept
+        visitChild("report", this.report, visitor); // Reference
+        visitChild("complication", this.complication, visitor); // CodeableReference
+        visitChild("followUp", this.followUp, visitor); // CodeableConcept
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("focalDevice", this.focalDevice, visitor); // ProcedureFocalDeviceComponent
+        visitChild("used", this.used, visitor); // CodeableReference
+        visitChild("supportingInfo", this.supportingInfo, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -582,6 +582,41 @@ public class ProdCharacteristic extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1221029593: /*height*/ visitChild("height", this.height, visitor); break; // Quantity
+        case 113126854: /*width*/ visitChild("width", this.width, visitor); break; // Quantity
+        case 95472323: /*depth*/ visitChild("depth", this.depth, visitor); break; // Quantity
+        case -791592328: /*weight*/ visitChild("weight", this.weight, visitor); break; // Quantity
+        case 1706919702: /*nominalVolume*/ visitChild("nominalVolume", this.nominalVolume, visitor); break; // Quantity
+        case 161374584: /*externalDiameter*/ visitChild("externalDiameter", this.externalDiameter, visitor); break; // Quantity
+        case 109399969: /*shape*/ visitChild("shape", this.shape, visitor); break; // StringType
+        case 94842723: /*color*/ visitChild("color", this.color, visitor); break; // StringType
+        case 1926118409: /*imprint*/ visitChild("imprint", this.imprint, visitor); break; // StringType
+        case 100313435: /*image*/ visitChild("image", this.image, visitor); break; // Attachment
+        case 1924005583: /*scoring*/ visitChild("scoring", this.scoring, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("height", this.height, visitor); // Quantity
+        visitChild("width", this.width, visitor); // Quantity
+        visitChild("depth", this.depth, visitor); // Quantity
+        visitChild("weight", this.weight, visitor); // Quantity
+        visitChild("nominalVolume", this.nominalVolume, visitor); // Quantity
+        visitChild("externalDiameter", this.externalDiameter, visitor); // Quantity
+        visitChild("shape", this.shape, visitor); // StringType
+        visitChild("color", this.color, visitor); // StringType
+        visitChild("imprint", this.imprint, visitor); // StringType
+        visitChild("image", this.image, visitor); // Attachment
+        visitChild("scoring", this.scoring, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
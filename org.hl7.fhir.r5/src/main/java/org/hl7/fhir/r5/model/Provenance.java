@@ -405,6 +405,27 @@ public class Provenance extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case 117694: /*who*/ visitChild("who", this.who, visitor); break; // Reference
+        case -14402964: /*onBehalfOf*/ visitChild("onBehalfOf", this.onBehalfOf, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("who", this.who, visitor); // Reference
+        visitChild("onBehalfOf", this.onBehalfOf, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -744,6 +765,25 @@ public class Provenance extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // Enumeration<ProvenanceEntityRole>
+        case 3648196: /*what*/ visitChild("what", this.what, visitor); break; // Reference
+        case 92750597: /*agent*/ visitChild("agent", this.agent, visitor); break; // ProvenanceAgentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("role", this.role, visitor); // Enumeration<ProvenanceEntityRole>
+        visitChild("what", this.what, visitor); // Reference
+        visitChild("agent", this.agent, visitor); // ProvenanceAgentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1625,6 +1665,45 @@ public class Provenance extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // Reference
+        case 792816933: /*occurred*/ visitChild("occurred", this.occurred, visitor); break; // DataType
+        case -799233872: /*recorded*/ visitChild("recorded", this.recorded, visitor); break; // InstantType
+        case -982670030: /*policy*/ visitChild("policy", this.policy, visitor); break; // UriType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -1385570183: /*authorization*/ visitChild("authorization", this.authorization, visitor); break; // CodeableReference
+        case -1655966961: /*activity*/ visitChild("activity", this.activity, visitor); break; // CodeableConcept
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 92750597: /*agent*/ visitChild("agent", this.agent, visitor); break; // ProvenanceAgentComponent
+        case -1298275357: /*entity*/ visitChild("entity", this.entity, visitor); break; // ProvenanceEntityComponent
+        case 1073584312: /*signature*/ visitChild("signature", this.signature, visitor); break; // Signature
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("target", this.target, visitor); // Reference
+        visitChild("occurred", this.occurred, visitor); // DataType
+        visitChild("recorded", this.recorded, visitor); // InstantType
+        visitChild("policy", this.policy, visitor); // UriType
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("authorization", this.authorization, visitor); // CodeableReference
+        visitChild("activity", this.activity, visitor); // CodeableConcept
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("agent", this.agent, visitor); // ProvenanceAgentComponent
+        visitChild("entity", this.entity, visitor); // ProvenanceEntityComponent
+        visitChild("signature", this.signature, visitor); // Signature
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
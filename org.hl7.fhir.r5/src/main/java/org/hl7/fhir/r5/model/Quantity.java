@@ -446,6 +446,29 @@ public class Quantity extends DataType implements ICompositeType, ICoding {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DecimalType
+        case -844673834: /*comparator*/ visitChild("comparator", this.comparator, visitor); break; // Enumeration<QuantityComparator>
+        case 3594628: /*unit*/ visitChild("unit", this.unit, visitor); break; // StringType
+        case -887328209: /*system*/ visitChild("system", this.system, visitor); break; // UriType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // DecimalType
+        visitChild("comparator", this.comparator, visitor); // Enumeration<QuantityComparator>
+        visitChild("unit", this.unit, visitor); // StringType
+        visitChild("system", this.system, visitor); // UriType
+        visitChild("code", this.code, visitor); // CodeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
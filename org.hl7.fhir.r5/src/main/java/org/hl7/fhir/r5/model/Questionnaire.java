@@ -1966,6 +1966,55 @@ public class Questionnaire extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // UriType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Coding
+        case -980110702: /*prefix*/ visitChild("prefix", this.prefix, visitor); break; // StringType
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<QuestionnaireItemType>
+        case 1893321565: /*enableWhen*/ visitChild("enableWhen", this.enableWhen, visitor); break; // QuestionnaireItemEnableWhenComponent
+        case 1854802165: /*enableBehavior*/ visitChild("enableBehavior", this.enableBehavior, visitor); break; // Enumeration<EnableWhenBehavior>
+        case -1254886746: /*disabledDisplay*/ visitChild("disabledDisplay", this.disabledDisplay, visitor); break; // Enumeration<QuestionnaireItemDisabledDisplay>
+        case -393139297: /*required*/ visitChild("required", this.required, visitor); break; // BooleanType
+        case 1094288952: /*repeats*/ visitChild("repeats", this.repeats, visitor); break; // BooleanType
+        case -867683742: /*readOnly*/ visitChild("readOnly", this.readOnly, visitor); break; // BooleanType
+        case -791400086: /*maxLength*/ visitChild("maxLength", this.maxLength, visitor); break; // IntegerType
+        case 746396731: /*answerConstraint*/ visitChild("answerConstraint", this.answerConstraint, visitor); break; // Enumeration<QuestionnaireAnswerConstraint>
+        case -743278833: /*answerValueSet*/ visitChild("answerValueSet", this.answerValueSet, visitor); break; // CanonicalType
+        case -1527878189: /*answerOption*/ visitChild("answerOption", this.answerOption, visitor); break; // QuestionnaireItemAnswerOptionComponent
+        case 1948342084: /*initial*/ visitChild("initial", this.initial, visitor); break; // QuestionnaireItemInitialComponent
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // QuestionnaireItemComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("definition", this.definition, visitor); // UriType
+        visitChild("code", this.code, visitor); // Coding
+        visitChild("prefix", this.prefix, visitor); // StringType
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("type", this.type, visitor); // Enumeration<QuestionnaireItemType>
+        visitChild("enableWhen", this.enableWhen, visitor); // QuestionnaireItemEnableWhenComponent
+        visitChild("enableBehavior", this.enableBehavior, visitor); // Enumeration<EnableWhenBehavior>
+        visitChild("disabledDisplay", this.disabledDisplay, visitor); // Enumeration<QuestionnaireItemDisabledDisplay>
+        visitChild("required", this.required, visitor); // BooleanType
+        visitChild("repeats", this.repeats, visitor); // BooleanType
+        visitChild("readOnly", this.readOnly, visitor); // BooleanType
+        visitChild("maxLength", this.maxLength, visitor); // IntegerType
+        visitChild("answerConstraint", this.answerConstraint, visitor); // Enumeration<QuestionnaireAnswerConstraint>
+        visitChild("answerValueSet", this.answerValueSet, visitor); // CanonicalType
+        visitChild("answerOption", this.answerOption, visitor); // QuestionnaireItemAnswerOptionComponent
+        visitChild("initial", this.initial, visitor); // QuestionnaireItemInitialComponent
+        visitChild("item", this.item, visitor); // QuestionnaireItemComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2714,6 +2763,25 @@ public QuestionnaireItemComponent getQuestion(String linkId) {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1165870106: /*question*/ visitChild("question", this.question, visitor); break; // StringType
+        case -500553564: /*operator*/ visitChild("operator", this.operator, visitor); break; // Enumeration<QuestionnaireItemOperator>
+        case -1412808770: /*answer*/ visitChild("answer", this.answer, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("question", this.question, visitor); // StringType
+        visitChild("operator", this.operator, visitor); // Enumeration<QuestionnaireItemOperator>
+        visitChild("answer", this.answer, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3104,6 +3172,23 @@ public QuestionnaireItemComponent getQuestion(String linkId) {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case -1310184961: /*initialSelected*/ visitChild("initialSelected", this.initialSelected, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("initialSelected", this.initialSelected, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3502,6 +3587,21 @@ public QuestionnaireItemComponent getQuestion(String linkId) {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5334,6 +5434,67 @@ public QuestionnaireItemComponent getQuestion(String linkId) {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 1077922663: /*derivedFrom*/ visitChild("derivedFrom", this.derivedFrom, visitor); break; // CanonicalType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case -603200890: /*subjectType*/ visitChild("subjectType", this.subjectType, visitor); break; // CodeType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // Coding
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // QuestionnaireItemComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("derivedFrom", this.derivedFrom, visitor); // CanonicalType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("subjectType", this.subjectType, visitor); // CodeType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("code", this.code, visitor); // Coding
+        visitChild("item", this.item, visitor); // QuestionnaireItemComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -537,6 +537,29 @@ public class QuestionnaireResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // UriType
+        case 3556653: /*text*/ visitChild("text", this.text, visitor); break; // StringType
+        case -1412808770: /*answer*/ visitChild("answer", this.answer, visitor); break; // QuestionnaireResponseItemAnswerComponent
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // QuestionnaireResponseItemComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("definition", this.definition, visitor); // UriType
+        visitChild("text", this.text, visitor); // StringType
+        visitChild("answer", this.answer, visitor); // QuestionnaireResponseItemAnswerComponent
+        visitChild("item", this.item, visitor); // QuestionnaireResponseItemComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1025,6 +1048,23 @@ public class QuestionnaireResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // QuestionnaireResponseItemComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("item", this.item, visitor); // QuestionnaireResponseItemComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1782,6 +1822,41 @@ public class QuestionnaireResponse extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -1017049693: /*questionnaire*/ visitChild("questionnaire", this.questionnaire, visitor); break; // CanonicalType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<QuestionnaireResponseStatus>
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 1433073514: /*authored*/ visitChild("authored", this.authored, visitor); break; // DateTimeType
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // QuestionnaireResponseItemComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("questionnaire", this.questionnaire, visitor); // CanonicalType
+        visitChild("status", this.status, visitor); // Enumeration<QuestionnaireResponseStatus>
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("authored", this.authored, visitor); // DateTimeType
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("source", this.source, visitor); // Reference
+        visitChild("item", this.item, visitor); // QuestionnaireResponseItemComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -147,6 +147,23 @@ public class Range extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 107348: /*low*/ visitChild("low", this.low, visitor); break; // Quantity
+        case 3202466: /*high*/ visitChild("high", this.high, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("low", this.low, visitor); // Quantity
+        visitChild("high", this.high, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -147,6 +147,23 @@ public class Ratio extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1747334793: /*numerator*/ visitChild("numerator", this.numerator, visitor); break; // Quantity
+        case -1983274394: /*denominator*/ visitChild("denominator", this.denominator, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("numerator", this.numerator, visitor); // Quantity
+        visitChild("denominator", this.denominator, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
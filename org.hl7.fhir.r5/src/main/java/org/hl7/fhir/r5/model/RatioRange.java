@@ -181,6 +181,25 @@ public class RatioRange extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1003958677: /*lowNumerator*/ visitChild("lowNumerator", this.lowNumerator, visitor); break; // Quantity
+        case 311013127: /*highNumerator*/ visitChild("highNumerator", this.highNumerator, visitor); break; // Quantity
+        case -1983274394: /*denominator*/ visitChild("denominator", this.denominator, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("lowNumerator", this.lowNumerator, visitor); // Quantity
+        visitChild("highNumerator", this.highNumerator, visitor); // Quantity
+        visitChild("denominator", this.denominator, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
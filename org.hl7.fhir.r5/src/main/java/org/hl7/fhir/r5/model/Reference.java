@@ -333,6 +333,27 @@ The type is the Canonical URL of Resource Definition that is the type this refer
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("reference", this.reference, visitor); // StringType
+        visitChild("type", this.type, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("display", this.display, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -315,6 +315,29 @@ public class RegulatedAuthorization extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DataType
+        case 1554253136: /*application*/ visitChild("application", this.application, visitor); break; // RegulatedAuthorizationCaseComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("date", this.date, visitor); // DataType
+        visitChild("application", this.application, visitor); // RegulatedAuthorizationCaseComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1248,6 +1271,49 @@ public class RegulatedAuthorization extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -934795532: /*region*/ visitChild("region", this.region, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case 247524032: /*statusDate*/ visitChild("statusDate", this.statusDate, visitor); break; // DateTimeType
+        case -1434195053: /*validityPeriod*/ visitChild("validityPeriod", this.validityPeriod, visitor); break; // Period
+        case -597168804: /*indication*/ visitChild("indication", this.indication, visitor); break; // CodeableReference
+        case -1618671268: /*intendedUse*/ visitChild("intendedUse", this.intendedUse, visitor); break; // CodeableConcept
+        case 93508670: /*basis*/ visitChild("basis", this.basis, visitor); break; // CodeableConcept
+        case -1211707988: /*holder*/ visitChild("holder", this.holder, visitor); break; // Reference
+        case 414760449: /*regulator*/ visitChild("regulator", this.regulator, visitor); break; // Reference
+        case -513945889: /*attachedDocument*/ visitChild("attachedDocument", this.attachedDocument, visitor); break; // Reference
+        case 3046192: /*case*/ visitChild("case", this.case_, visitor); break; // RegulatedAuthorizationCaseComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("region", this.region, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("statusDate", this.statusDate, visitor); // DateTimeType
+        visitChild("validityPeriod", this.validityPeriod, visitor); // Period
+        visitChild("indication", this.indication, visitor); // CodeableReference
+        visitChild("intendedUse", this.intendedUse, visitor); // CodeableConcept
+        visitChild("basis", this.basis, visitor); // CodeableConcept
+        visitChild("holder", this.holder, visitor); // Reference
+        visitChild("regulator", this.regulator, visitor); // Reference
+        visitChild("attachedDocument", this.attachedDocument, visitor); // Reference
+        visitChild("case", this.case_, visitor); // RegulatedAuthorizationCaseComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1273,6 +1273,39 @@ public class RelatedArtifact extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<RelatedArtifactType>
+        case -281470431: /*classifier*/ visitChild("classifier", this.classifier, visitor); break; // CodeableConcept
+        case 102727412: /*label*/ visitChild("label", this.label, visitor); break; // StringType
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        case -1442706713: /*citation*/ visitChild("citation", this.citation, visitor); break; // MarkdownType
+        case 861720859: /*document*/ visitChild("document", this.document, visitor); break; // Attachment
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // CanonicalType
+        case -610120995: /*resourceReference*/ visitChild("resourceReference", this.resourceReference, visitor); break; // Reference
+        case 616500542: /*publicationStatus*/ visitChild("publicationStatus", this.publicationStatus, visitor); break; // Enumeration<PublicationStatus>
+        case 1470566394: /*publicationDate*/ visitChild("publicationDate", this.publicationDate, visitor); break; // DateType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<RelatedArtifactType>
+        visitChild("classifier", this.classifier, visitor); // CodeableConcept
+        visitChild("label", this.label, visitor); // StringType
+        visitChild("display", this.display, visitor); // StringType
+        visitChild("citation", this.citation, visitor); // MarkdownType
+        visitChild("document", this.document, visitor); // Attachment
+        visitChild("resource", this.resource, visitor); // CanonicalType
+        visitChild("resourceReference", this.resourceReference, visitor); // Reference
+        visitChild("publicationStatus", this.publicationStatus, visitor); // Enumeration<PublicationStatus>
+        visitChild("publicationDate", this.publicationDate, visitor); // DateType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
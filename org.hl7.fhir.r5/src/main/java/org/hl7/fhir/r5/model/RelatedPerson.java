@@ -182,6 +182,23 @@ public class RelatedPerson extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        case -1294005119: /*preferred*/ visitChild("preferred", this.preferred, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("language", this.language, visitor); // CodeableConcept
+        visitChild("preferred", this.preferred, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1015,6 +1032,43 @@ public class RelatedPerson extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // HumanName
+        case -1429363305: /*telecom*/ visitChild("telecom", this.telecom, visitor); break; // ContactPoint
+        case -1249512767: /*gender*/ visitChild("gender", this.gender, visitor); break; // Enumeration<AdministrativeGender>
+        case -1210031859: /*birthDate*/ visitChild("birthDate", this.birthDate, visitor); break; // DateType
+        case -1147692044: /*address*/ visitChild("address", this.address, visitor); break; // Address
+        case 106642994: /*photo*/ visitChild("photo", this.photo, visitor); break; // Attachment
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -1035284522: /*communication*/ visitChild("communication", this.communication, visitor); break; // RelatedPersonCommunicationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("relationship", this.relationship, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // HumanName
+        visitChild("telecom", this.telecom, visitor); // ContactPoint
+        visitChild("gender", this.gender, visitor); // Enumeration<AdministrativeGender>
+        visitChild("birthDate", this.birthDate, visitor); // DateType
+        visitChild("address", this.address, visitor); // Address
+        visitChild("photo", this.photo, visitor); // Attachment
+        visitChild("period", this.period, visitor); // Period
+        visitChild("communication", this.communication, visitor); // RelatedPersonCommunicationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
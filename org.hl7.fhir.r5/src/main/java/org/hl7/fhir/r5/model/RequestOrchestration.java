@@ -1724,6 +1724,73 @@ public class RequestOrchestration extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // StringType
+        case -980110702: /*prefix*/ visitChild("prefix", this.prefix, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -900391049: /*textEquivalent*/ visitChild("textEquivalent", this.textEquivalent, visitor); break; // MarkdownType
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // RelatedArtifact
+        case 3178259: /*goal*/ visitChild("goal", this.goal, visitor); break; // Reference
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // RequestOrchestrationActionConditionComponent
+        case 100358090: /*input*/ visitChild("input", this.input, visitor); break; // RequestOrchestrationActionInputComponent
+        case -1005512447: /*output*/ visitChild("output", this.output, visitor); break; // RequestOrchestrationActionOutputComponent
+        case -384107967: /*relatedAction*/ visitChild("relatedAction", this.relatedAction, visitor); break; // RequestOrchestrationActionRelatedActionComponent
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // DataType
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // CodeableReference
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // RequestOrchestrationActionParticipantComponent
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 586678389: /*groupingBehavior*/ visitChild("groupingBehavior", this.groupingBehavior, visitor); break; // Enumeration<ActionGroupingBehavior>
+        case 168639486: /*selectionBehavior*/ visitChild("selectionBehavior", this.selectionBehavior, visitor); break; // Enumeration<ActionSelectionBehavior>
+        case -1163906287: /*requiredBehavior*/ visitChild("requiredBehavior", this.requiredBehavior, visitor); break; // Enumeration<ActionRequiredBehavior>
+        case -1174249033: /*precheckBehavior*/ visitChild("precheckBehavior", this.precheckBehavior, visitor); break; // Enumeration<ActionPrecheckBehavior>
+        case -922577408: /*cardinalityBehavior*/ visitChild("cardinalityBehavior", this.cardinalityBehavior, visitor); break; // Enumeration<ActionCardinalityBehavior>
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // Reference
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // DataType
+        case 1052666732: /*transform*/ visitChild("transform", this.transform, visitor); break; // CanonicalType
+        case 572625010: /*dynamicValue*/ visitChild("dynamicValue", this.dynamicValue, visitor); break; // RequestOrchestrationActionDynamicValueComponent
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // RequestOrchestrationActionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // StringType
+        visitChild("prefix", this.prefix, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("textEquivalent", this.textEquivalent, visitor); // MarkdownType
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("documentation", this.documentation, visitor); // RelatedArtifact
+        visitChild("goal", this.goal, visitor); // Reference
+        visitChild("condition", this.condition, visitor); // RequestOrchestrationActionConditionComponent
+        visitChild("input", this.input, visitor); // RequestOrchestrationActionInputComponent
+        visitChild("output", this.output, visitor); // RequestOrchestrationActionOutputComponent
+        visitChild("relatedAction", this.relatedAction, visitor); // RequestOrchestrationActionRelatedActionComponent
+        visitChild("timing", this.timing, visitor); // DataType
+        visitChild("location", this.location, visitor); // CodeableReference
+        visitChild("participant", this.participant, visitor); // RequestOrchestrationActionParticipantComponent
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("groupingBehavior", this.groupingBehavior, visitor); // Enumeration<ActionGroupingBehavior>
+        visitChild("selectionBehavior", this.selectionBehavior, visitor); // Enumeration<ActionSelectionBehavior>
+        visitChild("requiredBehavior", this.requiredBehavior, visitor); // Enumeration<ActionRequiredBehavior>
+        visitChild("precheckBehavior", this.precheckBehavior, visitor); // Enumeration<ActionPrecheckBehavior>
+        visitChild("cardinalityBehavior", this.cardinalityBehavior, visitor); // Enumeration<ActionCardinalityBehavior>
+        visitChild("resource", this.resource, visitor); // Reference
+        visitChild("definition", this.definition, visitor); // DataType
+        visitChild("transform", this.transform, visitor); // CanonicalType
+        visitChild("dynamicValue", this.dynamicValue, visitor); // RequestOrchestrationActionDynamicValueComponent
+        visitChild("action", this.action, visitor); // RequestOrchestrationActionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2397,6 +2464,23 @@ public class RequestOrchestration extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3292052: /*kind*/ visitChild("kind", this.kind, visitor); break; // Enumeration<ActionConditionKind>
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // Expression
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("kind", this.kind, visitor); // Enumeration<ActionConditionKind>
+        visitChild("expression", this.expression, visitor); // Expression
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2695,6 +2779,25 @@ public class RequestOrchestration extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 363387971: /*requirement*/ visitChild("requirement", this.requirement, visitor); break; // DataRequirement
+        case 1112535669: /*relatedData*/ visitChild("relatedData", this.relatedData, visitor); break; // IdType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("requirement", this.requirement, visitor); // DataRequirement
+        visitChild("relatedData", this.relatedData, visitor); // IdType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3005,6 +3108,25 @@ public class RequestOrchestration extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 363387971: /*requirement*/ visitChild("requirement", this.requirement, visitor); break; // DataRequirement
+        case 1112535669: /*relatedData*/ visitChild("relatedData", this.relatedData, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("requirement", this.requirement, visitor); // DataRequirement
+        visitChild("relatedData", this.relatedData, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3407,6 +3529,27 @@ public class RequestOrchestration extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -441951604: /*targetId*/ visitChild("targetId", this.targetId, visitor); break; // IdType
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // Enumeration<ActionRelationshipType>
+        case -1506024781: /*endRelationship*/ visitChild("endRelationship", this.endRelationship, visitor); break; // Enumeration<ActionRelationshipType>
+        case -1019779949: /*offset*/ visitChild("offset", this.offset, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("targetId", this.targetId, visitor); // IdType
+        visitChild("relationship", this.relationship, visitor); // Enumeration<ActionRelationshipType>
+        visitChild("endRelationship", this.endRelationship, visitor); // Enumeration<ActionRelationshipType>
+        visitChild("offset", this.offset, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3878,6 +4021,31 @@ public class RequestOrchestration extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ActionParticipantType>
+        case -466635046: /*typeCanonical*/ visitChild("typeCanonical", this.typeCanonical, visitor); break; // CanonicalType
+        case 2074825009: /*typeReference*/ visitChild("typeReference", this.typeReference, visitor); break; // Reference
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<ActionParticipantType>
+        visitChild("typeCanonical", this.typeCanonical, visitor); // CanonicalType
+        visitChild("typeReference", this.typeReference, visitor); // Reference
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4180,6 +4348,23 @@ public class RequestOrchestration extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // Expression
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("expression", this.expression, visitor); // Expression
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5316,6 +5501,55 @@ public class RequestOrchestration extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -430332865: /*replaces*/ visitChild("replaces", this.replaces, visitor); break; // Reference
+        case -445338488: /*groupIdentifier*/ visitChild("groupIdentifier", this.groupIdentifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<RequestStatus>
+        case -1183762788: /*intent*/ visitChild("intent", this.intent, visitor); break; // Enumeration<RequestIntent>
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1500852503: /*authoredOn*/ visitChild("authoredOn", this.authoredOn, visitor); break; // DateTimeType
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 3178259: /*goal*/ visitChild("goal", this.goal, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // RequestOrchestrationActionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("replaces", this.replaces, visitor); // Reference
+        visitChild("groupIdentifier", this.groupIdentifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<RequestStatus>
+        visitChild("intent", this.intent, visitor); // Enumeration<RequestIntent>
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("authoredOn", this.authoredOn, visitor); // DateTimeType
+        visitChild("author", this.author, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("goal", this.goal, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("action", this.action, visitor); // RequestOrchestrationActionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -842,6 +842,39 @@ public class Requirements extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 106079: /*key*/ visitChild("key", this.key, visitor); break; // IdType
+        case 102727412: /*label*/ visitChild("label", this.label, visitor); break; // StringType
+        case 1374858133: /*conformance*/ visitChild("conformance", this.conformance, visitor); break; // Enumeration<ConformanceExpectation>
+        case -389077912: /*conditionality*/ visitChild("conditionality", this.conditionality, visitor); break; // BooleanType
+        case 363387971: /*requirement*/ visitChild("requirement", this.requirement, visitor); break; // MarkdownType
+        case 1077922663: /*derivedFrom*/ visitChild("derivedFrom", this.derivedFrom, visitor); break; // StringType
+        case -995424086: /*parent*/ visitChild("parent", this.parent, visitor); break; // StringType
+        case -1268787159: /*satisfiedBy*/ visitChild("satisfiedBy", this.satisfiedBy, visitor); break; // UrlType
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // UrlType
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("key", this.key, visitor); // IdType
+        visitChild("label", this.label, visitor); // StringType
+        visitChild("conformance", this.conformance, visitor); // Enumeration<ConformanceExpectation>
+        visitChild("conditionality", this.conditionality, visitor); // BooleanType
+        visitChild("requirement", this.requirement, visitor); // MarkdownType
+        visitChild("derivedFrom", this.derivedFrom, visitor); // StringType
+        visitChild("parent", this.parent, visitor); // StringType
+        visitChild("satisfiedBy", this.satisfiedBy, visitor); // UrlType
+        visitChild("reference", this.reference, visitor); // UrlType
+        visitChild("source", this.source, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2416,6 +2449,61 @@ public class Requirements extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 1077922663: /*derivedFrom*/ visitChild("derivedFrom", this.derivedFrom, visitor); break; // CanonicalType
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // UrlType
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // CanonicalType
+        case -2085148305: /*statement*/ visitChild("statement", this.statement, visitor); break; // RequirementsStatementComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("derivedFrom", this.derivedFrom, visitor); // CanonicalType
+        visitChild("reference", this.reference, visitor); // UrlType
+        visitChild("actor", this.actor, visitor); // CanonicalType
+        visitChild("statement", this.statement, visitor); // RequirementsStatementComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
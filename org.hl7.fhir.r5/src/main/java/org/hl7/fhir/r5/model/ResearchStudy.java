@@ -178,6 +178,23 @@ public class ResearchStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -584,6 +601,29 @@ public class ResearchStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case -281470431: /*classifier*/ visitChild("classifier", this.classifier, visitor); break; // CodeableConcept
+        case 106437350: /*party*/ visitChild("party", this.party, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("period", this.period, visitor); // Period
+        visitChild("classifier", this.classifier, visitor); // CodeableConcept
+        visitChild("party", this.party, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -909,6 +949,25 @@ public class ResearchStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 109757585: /*state*/ visitChild("state", this.state, visitor); break; // CodeableConcept
+        case -1422939762: /*actual*/ visitChild("actual", this.actual, visitor); break; // BooleanType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("state", this.state, visitor); // CodeableConcept
+        visitChild("actual", this.actual, visitor); // BooleanType
+        visitChild("period", this.period, visitor); // Period
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1245,6 +1304,27 @@ public class ResearchStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -682948550: /*targetNumber*/ visitChild("targetNumber", this.targetNumber, visitor); break; // UnsignedIntType
+        case 746557047: /*actualNumber*/ visitChild("actualNumber", this.actualNumber, visitor); break; // UnsignedIntType
+        case -930847859: /*eligibility*/ visitChild("eligibility", this.eligibility, visitor); break; // Reference
+        case 1403004305: /*actualGroup*/ visitChild("actualGroup", this.actualGroup, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("targetNumber", this.targetNumber, visitor); // UnsignedIntType
+        visitChild("actualNumber", this.actualNumber, visitor); // UnsignedIntType
+        visitChild("eligibility", this.eligibility, visitor); // Reference
+        visitChild("actualGroup", this.actualGroup, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1732,6 +1812,31 @@ public class ResearchStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1102667083: /*linkId*/ visitChild("linkId", this.linkId, visitor); break; // IdType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -407218606: /*intendedExposure*/ visitChild("intendedExposure", this.intendedExposure, visitor); break; // Reference
+        case 375599255: /*observedGroup*/ visitChild("observedGroup", this.observedGroup, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("linkId", this.linkId, visitor); // IdType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("intendedExposure", this.intendedExposure, visitor); // Reference
+        visitChild("observedGroup", this.observedGroup, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2089,6 +2194,25 @@ public class ResearchStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2463,6 +2587,27 @@ public class ResearchStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -925155509: /*reference*/ visitChild("reference", this.reference, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("reference", this.reference, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4488,6 +4633,83 @@ public class ResearchStudy extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 102727412: /*label*/ visitChild("label", this.label, visitor); break; // ResearchStudyLabelComponent
+        case -989163880: /*protocol*/ visitChild("protocol", this.protocol, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -2132842986: /*primaryPurposeType*/ visitChild("primaryPurposeType", this.primaryPurposeType, visitor); break; // CodeableConcept
+        case 106629499: /*phase*/ visitChild("phase", this.phase, visitor); break; // CodeableConcept
+        case 1709211879: /*studyDesign*/ visitChild("studyDesign", this.studyDesign, visitor); break; // CodeableConcept
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // CodeableReference
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // CodeableConcept
+        case -814408215: /*keyword*/ visitChild("keyword", this.keyword, visitor); break; // CodeableConcept
+        case -934795532: /*region*/ visitChild("region", this.region, visitor); break; // CodeableConcept
+        case 21530634: /*descriptionSummary*/ visitChild("descriptionSummary", this.descriptionSummary, visitor); break; // MarkdownType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 3530567: /*site*/ visitChild("site", this.site, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -281470431: /*classifier*/ visitChild("classifier", this.classifier, visitor); break; // CodeableConcept
+        case -1841460864: /*associatedParty*/ visitChild("associatedParty", this.associatedParty, visitor); break; // ResearchStudyAssociatedPartyComponent
+        case -1897502593: /*progressStatus*/ visitChild("progressStatus", this.progressStatus, visitor); break; // ResearchStudyProgressStatusComponent
+        case -699986715: /*whyStopped*/ visitChild("whyStopped", this.whyStopped, visitor); break; // CodeableConcept
+        case 780783004: /*recruitment*/ visitChild("recruitment", this.recruitment, visitor); break; // ResearchStudyRecruitmentComponent
+        case -138266634: /*comparisonGroup*/ visitChild("comparisonGroup", this.comparisonGroup, visitor); break; // ResearchStudyComparisonGroupComponent
+        case -1489585863: /*objective*/ visitChild("objective", this.objective, visitor); break; // ResearchStudyObjectiveComponent
+        case -1510689364: /*outcomeMeasure*/ visitChild("outcomeMeasure", this.outcomeMeasure, visitor); break; // ResearchStudyOutcomeMeasureComponent
+        case -934426595: /*result*/ visitChild("result", this.result, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("label", this.label, visitor); // ResearchStudyLabelComponent
+        visitChild("protocol", this.protocol, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("primaryPurposeType", this.primaryPurposeType, visitor); // CodeableConcept
+        visitChild("phase", this.phase, visitor); // CodeableConcept
+        visitChild("studyDesign", this.studyDesign, visitor); // CodeableConcept
+        visitChild("focus", this.focus, visitor); // CodeableReference
+        visitChild("condition", this.condition, visitor); // CodeableConcept
+        visitChild("keyword", this.keyword, visitor); // CodeableConcept
+        visitChild("region", this.region, visitor); // CodeableConcept
+        visitChild("descriptionSummary", this.descriptionSummary, visitor); // MarkdownType
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("period", this.period, visitor); // Period
+        visitChild("site", this.site, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("classifier", this.classifier, visitor); // CodeableConcept
+        visitChild("associatedParty", this.associatedParty, visitor); // ResearchStudyAssociatedPartyComponent
+        visitChild("progressStatus", this.progressStatus, visitor); // ResearchStudyProgressStatusComponent
+        visitChild("whyStopped", this.whyStopped, visitor); // CodeableConcept
+        visitChild("recruitment", this.recruitment, visitor); // ResearchStudyRecruitmentComponent
+        visitChild("comparisonGroup", this.comparisonGroup, visitor); // ResearchStudyComparisonGroupComponent
+        visitChild("objective", this.objective, visitor); // ResearchStudyObjectiveComponent
+        visitChild("outcomeMeasure", this.outcomeMeasure, visitor); // ResearchStudyOutcomeMeasureComponent
+        visitChild("result", this.result, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
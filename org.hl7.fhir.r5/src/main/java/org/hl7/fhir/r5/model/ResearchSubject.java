@@ -342,6 +342,31 @@ public class ResearchSubject extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1520444731: /*subjectState*/ visitChild("subjectState", this.subjectState, visitor); break; // CodeableConcept
+        case -1065084560: /*milestone*/ visitChild("milestone", this.milestone, visitor); break; // CodeableConcept
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableConcept
+        case -2129778896: /*startDate*/ visitChild("startDate", this.startDate, visitor); break; // DateTimeType
+        case -1607727319: /*endDate*/ visitChild("endDate", this.endDate, visitor); break; // DateTimeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subjectState", this.subjectState, visitor); // CodeableConcept
+        visitChild("milestone", this.milestone, visitor); // CodeableConcept
+        visitChild("reason", this.reason, visitor); // CodeableConcept
+        visitChild("startDate", this.startDate, visitor); // DateTimeType
+        visitChild("endDate", this.endDate, visitor); // DateTimeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1016,6 +1041,37 @@ public class ResearchSubject extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -1001078227: /*progress*/ visitChild("progress", this.progress, visitor); break; // ResearchSubjectProgressComponent
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 109776329: /*study*/ visitChild("study", this.study, visitor); break; // Reference
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 394644552: /*assignedComparisonGroup*/ visitChild("assignedComparisonGroup", this.assignedComparisonGroup, visitor); break; // IdType
+        case -676906872: /*actualComparisonGroup*/ visitChild("actualComparisonGroup", this.actualComparisonGroup, visitor); break; // IdType
+        case 951500826: /*consent*/ visitChild("consent", this.consent, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("progress", this.progress, visitor); // ResearchSubjectProgressComponent
+        visitChild("period", this.period, visitor); // Period
+        visitChild("study", this.study, visitor); // Reference
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("assignedComparisonGroup", this.assignedComparisonGroup, visitor); // IdType
+        visitChild("actualComparisonGroup", this.actualComparisonGroup, visitor); // IdType
+        visitChild("consent", this.consent, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -296,6 +296,26 @@ public abstract class Resource extends BaseResource implements IAnyResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3355: /*id*/ visitChild("id", this.id, visitor); break; // IdType
+        case 3347973: /*meta*/ visitChild("meta", this.meta, visitor); break; // Meta
+        case -961826286: /*implicitRules*/ visitChild("implicitRules", this.implicitRules, visitor); break; // UriType
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        visitChild("id", this.id, visitor); // IdType
+        visitChild("meta", this.meta, visitor); // Meta
+        visitChild("implicitRules", this.implicitRules, visitor); // UriType
+        visitChild("language", this.language, visitor); // CodeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
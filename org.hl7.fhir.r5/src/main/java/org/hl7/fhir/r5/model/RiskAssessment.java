@@ -418,6 +418,31 @@ public class RiskAssessment extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1106507950: /*outcome*/ visitChild("outcome", this.outcome, visitor); break; // CodeableConcept
+        case -1290561483: /*probability*/ visitChild("probability", this.probability, visitor); break; // DataType
+        case 123308730: /*qualitativeRisk*/ visitChild("qualitativeRisk", this.qualitativeRisk, visitor); break; // CodeableConcept
+        case -70741061: /*relativeRisk*/ visitChild("relativeRisk", this.relativeRisk, visitor); break; // DecimalType
+        case 3648314: /*when*/ visitChild("when", this.when, visitor); break; // DataType
+        case 345689335: /*rationale*/ visitChild("rationale", this.rationale, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("outcome", this.outcome, visitor); // CodeableConcept
+        visitChild("probability", this.probability, visitor); // DataType
+        visitChild("qualitativeRisk", this.qualitativeRisk, visitor); // CodeableConcept
+        visitChild("relativeRisk", this.relativeRisk, visitor); // DecimalType
+        visitChild("when", this.when, visitor); // DataType
+        visitChild("rationale", this.rationale, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1403,6 +1428,51 @@ public class RiskAssessment extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995424086: /*parent*/ visitChild("parent", this.parent, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<ObservationStatus>
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // Reference
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 93508670: /*basis*/ visitChild("basis", this.basis, visitor); break; // Reference
+        case 1161234575: /*prediction*/ visitChild("prediction", this.prediction, visitor); break; // RiskAssessmentPredictionComponent
+        case 1293793087: /*mitigation*/ visitChild("mitigation", this.mitigation, visitor); break; // StringType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("parent", this.parent, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<ObservationStatus>
+        visitChild("method", this.method, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("condition", this.condition, visitor); // Reference
+        visitChild("performer", this.performer, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("basis", this.basis, visitor); // Reference
+        visitChild("prediction", this.prediction, visitor); // RiskAssessmentPredictionComponent
+        visitChild("mitigation", this.mitigation, visitor); // StringType
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
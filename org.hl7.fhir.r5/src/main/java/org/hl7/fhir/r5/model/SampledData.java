@@ -721,6 +721,39 @@ public class SampledData extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1008619738: /*origin*/ visitChild("origin", this.origin, visitor); break; // Quantity
+        case 570418373: /*interval*/ visitChild("interval", this.interval, visitor); break; // DecimalType
+        case -1569830935: /*intervalUnit*/ visitChild("intervalUnit", this.intervalUnit, visitor); break; // CodeType
+        case -1282148017: /*factor*/ visitChild("factor", this.factor, visitor); break; // DecimalType
+        case 1209133370: /*lowerLimit*/ visitChild("lowerLimit", this.lowerLimit, visitor); break; // DecimalType
+        case -1681713095: /*upperLimit*/ visitChild("upperLimit", this.upperLimit, visitor); break; // DecimalType
+        case 414334925: /*dimensions*/ visitChild("dimensions", this.dimensions, visitor); break; // PositiveIntType
+        case 941825071: /*codeMap*/ visitChild("codeMap", this.codeMap, visitor); break; // CanonicalType
+        case -1548407232: /*offsets*/ visitChild("offsets", this.offsets, visitor); break; // StringType
+        case 3076010: /*data*/ visitChild("data", this.data, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("origin", this.origin, visitor); // Quantity
+        visitChild("interval", this.interval, visitor); // DecimalType
+        visitChild("intervalUnit", this.intervalUnit, visitor); // CodeType
+        visitChild("factor", this.factor, visitor); // DecimalType
+        visitChild("lowerLimit", this.lowerLimit, visitor); // DecimalType
+        visitChild("upperLimit", this.upperLimit, visitor); // DecimalType
+        visitChild("dimensions", this.dimensions, visitor); // PositiveIntType
+        visitChild("codeMap", this.codeMap, visitor); // CanonicalType
+        visitChild("offsets", this.offsets, visitor); // StringType
+        visitChild("data", this.data, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -615,6 +615,37 @@ public class Schedule extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -1422950650: /*active*/ visitChild("active", this.active, visitor); break; // BooleanType
+        case 1281188563: /*serviceCategory*/ visitChild("serviceCategory", this.serviceCategory, visitor); break; // CodeableConcept
+        case -1928370289: /*serviceType*/ visitChild("serviceType", this.serviceType, visitor); break; // CodeableReference
+        case -1694759682: /*specialty*/ visitChild("specialty", this.specialty, visitor); break; // CodeableConcept
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        case -1718507650: /*planningHorizon*/ visitChild("planningHorizon", this.planningHorizon, visitor); break; // Period
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("active", this.active, visitor); // BooleanType
+        visitChild("serviceCategory", this.serviceCategory, visitor); // CodeableConcept
+        visitChild("serviceType", this.serviceType, visitor); // CodeableReference
+        visitChild("specialty", this.specialty, visitor); // CodeableConcept
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("actor", this.actor, visitor); // Reference
+        visitChild("planningHorizon", this.planningHorizon, visitor); // Period
+        visitChild("comment", this.comment, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
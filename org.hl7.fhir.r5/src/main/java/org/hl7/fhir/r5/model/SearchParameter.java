@@ -317,6 +317,23 @@ public class SearchParameter extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1014418093: /*definition*/ visitChild("definition", this.definition, visitor); break; // CanonicalType
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("definition", this.definition, visitor); // CanonicalType
+        visitChild("expression", this.expression, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2360,6 +2377,81 @@ public class SearchParameter extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 1077922663: /*derivedFrom*/ visitChild("derivedFrom", this.derivedFrom, visitor); break; // CanonicalType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 3016401: /*base*/ visitChild("base", this.base, visitor); break; // Enumeration<VersionIndependentResourceTypesAll>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<SearchParamType>
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        case 195763030: /*processingMode*/ visitChild("processingMode", this.processingMode, visitor); break; // Enumeration<SearchProcessingModeType>
+        case -190376483: /*constraint*/ visitChild("constraint", this.constraint, visitor); break; // StringType
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // Enumeration<VersionIndependentResourceTypesAll>
+        case 1265069075: /*multipleOr*/ visitChild("multipleOr", this.multipleOr, visitor); break; // BooleanType
+        case 562422183: /*multipleAnd*/ visitChild("multipleAnd", this.multipleAnd, visitor); break; // BooleanType
+        case -844673834: /*comparator*/ visitChild("comparator", this.comparator, visitor); break; // Enumeration<SearchComparator>
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // Enumeration<SearchModifierCode>
+        case 94623425: /*chain*/ visitChild("chain", this.chain, visitor); break; // StringType
+        case -1399907075: /*component*/ visitChild("component", this.component, visitor); break; // SearchParameterComponentComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("derivedFrom", this.derivedFrom, visitor); // CanonicalType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("base", this.base, visitor); // Enumeration<VersionIndependentResourceTypesAll>
+        visitChild("type", this.type, visitor); // Enumeration<SearchParamType>
+        visitChild("expression", this.expression, visitor); // StringType
+        visitChild("processingMode", this.processingMode, visitor); // Enumeration<SearchProcessingModeType>
+        visitChild("constraint", this.constraint, visitor); // StringType
+        visitChild("target", this.target, visitor); // Enumeration<VersionIndependentResourceTypesAll>
+        visitChild("multipleOr", this.multipleOr, visitor); // BooleanType
+        visitChild("multipleAnd", this.multipleAnd, visitor); // BooleanType
+        visitChild("comparator", this.comparator, visitor); // Enumeration<SearchComparator>
+        visitChild("modifier", this.modifier, visitor); // Enumeration<SearchModifierCode>
+        visitChild("chain", this.chain, visitor); // StringType
+        visitChild("component", this.component, visitor); // SearchParameterComponentComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -189,6 +189,23 @@ public class ServiceRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1110086319: /*parameterFocus*/ visitChild("parameterFocus", this.parameterFocus, visitor); break; // CodeableReference
+        case 1954460585: /*parameter*/ visitChild("parameter", this.parameter, visitor); break; // ServiceRequestOrderDetailParameterComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("parameterFocus", this.parameterFocus, visitor); // CodeableReference
+        visitChild("parameter", this.parameter, visitor); // ServiceRequestOrderDetailParameterComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -526,6 +543,23 @@ public class ServiceRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -759,6 +793,21 @@ public class ServiceRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 301526158: /*instruction*/ visitChild("instruction", this.instruction, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("instruction", this.instruction, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2807,6 +2856,85 @@ public class ServiceRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -430332865: /*replaces*/ visitChild("replaces", this.replaces, visitor); break; // Reference
+        case 395923612: /*requisition*/ visitChild("requisition", this.requisition, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<RequestStatus>
+        case -1183762788: /*intent*/ visitChild("intent", this.intent, visitor); break; // Enumeration<RequestIntent>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case -1788508167: /*doNotPerform*/ visitChild("doNotPerform", this.doNotPerform, visitor); break; // BooleanType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableReference
+        case 1187338559: /*orderDetail*/ visitChild("orderDetail", this.orderDetail, visitor); break; // ServiceRequestOrderDetailComponent
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // DataType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case -1432923513: /*asNeeded*/ visitChild("asNeeded", this.asNeeded, visitor); break; // DataType
+        case -1500852503: /*authoredOn*/ visitChild("authoredOn", this.authoredOn, visitor); break; // DateTimeType
+        case 693933948: /*requester*/ visitChild("requester", this.requester, visitor); break; // Reference
+        case -901444568: /*performerType*/ visitChild("performerType", this.performerType, visitor); break; // CodeableConcept
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // Reference
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // CodeableReference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 73049818: /*insurance*/ visitChild("insurance", this.insurance, visitor); break; // Reference
+        case 1922406657: /*supportingInfo*/ visitChild("supportingInfo", this.supportingInfo, visitor); break; // CodeableReference
+        case -2132868344: /*specimen*/ visitChild("specimen", this.specimen, visitor); break; // Reference
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableConcept
+        case -1001731599: /*bodyStructure*/ visitChild("bodyStructure", this.bodyStructure, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 737543241: /*patientInstruction*/ visitChild("patientInstruction", this.patientInstruction, visitor); break; // ServiceRequestPatientInstructionComponent
+        case 1538891575: /*relevantHistory*/ visitChild("relevantHistory", this.relevantHistory, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("replaces", this.replaces, visitor); // Reference
+        visitChild("requisition", this.requisition, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<RequestStatus>
+        visitChild("intent", this.intent, visitor); // Enumeration<RequestIntent>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("doNotPerform", this.doNotPerform, visitor); // BooleanType
+        visitChild("code", this.code, visitor); // CodeableReference
+        visitChild("orderDetail", this.orderDetail, visitor); // ServiceRequestOrderDetailComponent
+        visitChild("quantity", this.quantity, visitor); // DataType
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("asNeeded", this.asNeeded, visitor); // DataType
+        visitChild("authoredOn", this.authoredOn, visitor); // DateTimeType
+        visitChild("requester", this.requester, visitor); // Reference
+        visitChild("performerType", this.performerType, visitor); // CodeableConcept
+        visitChild("performer", this.performer, visitor); // Reference
+        visitChild("location", this.location, visitor); // CodeableReference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("insurance", this.insurance, visitor); // Reference
+        visitChild("supportingInfo", this.supportingInfo, visitor); // CodeableReference
+        visitChild("specimen", this.specimen, visitor); // Reference
+        visitChild("bodySite", this.bodySite, visitor); // CodeableConcept
+        visitChild("bodyStructure", this.bodyStructure, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("patientInstruction", this.patientInstruction, visitor); // ServiceRequestPatientInstructionComponent
+        visitChild("relevantHistory", this.relevantHistory, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -450,6 +450,33 @@ public class Signature extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Coding
+        case 3648314: /*when*/ visitChild("when", this.when, visitor); break; // InstantType
+        case 117694: /*who*/ visitChild("who", this.who, visitor); break; // Reference
+        case -14402964: /*onBehalfOf*/ visitChild("onBehalfOf", this.onBehalfOf, visitor); break; // Reference
+        case -917363480: /*targetFormat*/ visitChild("targetFormat", this.targetFormat, visitor); break; // CodeType
+        case -58720216: /*sigFormat*/ visitChild("sigFormat", this.sigFormat, visitor); break; // CodeType
+        case 3076010: /*data*/ visitChild("data", this.data, visitor); break; // Base64BinaryType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Coding
+        visitChild("when", this.when, visitor); // InstantType
+        visitChild("who", this.who, visitor); // Reference
+        visitChild("onBehalfOf", this.onBehalfOf, visitor); // Reference
+        visitChild("targetFormat", this.targetFormat, visitor); // CodeType
+        visitChild("sigFormat", this.sigFormat, visitor); // CodeType
+        visitChild("data", this.data, visitor); // Base64BinaryType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
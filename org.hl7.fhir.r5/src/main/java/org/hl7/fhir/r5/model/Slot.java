@@ -872,6 +872,41 @@ public class Slot extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 1281188563: /*serviceCategory*/ visitChild("serviceCategory", this.serviceCategory, visitor); break; // CodeableConcept
+        case -1928370289: /*serviceType*/ visitChild("serviceType", this.serviceType, visitor); break; // CodeableReference
+        case -1694759682: /*specialty*/ visitChild("specialty", this.specialty, visitor); break; // CodeableConcept
+        case -1596426375: /*appointmentType*/ visitChild("appointmentType", this.appointmentType, visitor); break; // CodeableConcept
+        case -697920873: /*schedule*/ visitChild("schedule", this.schedule, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<SlotStatus>
+        case 109757538: /*start*/ visitChild("start", this.start, visitor); break; // InstantType
+        case 100571: /*end*/ visitChild("end", this.end, visitor); break; // InstantType
+        case 2068545308: /*overbooked*/ visitChild("overbooked", this.overbooked, visitor); break; // BooleanType
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("serviceCategory", this.serviceCategory, visitor); // CodeableConcept
+        visitChild("serviceType", this.serviceType, visitor); // CodeableReference
+        visitChild("specialty", this.specialty, visitor); // CodeableConcept
+        visitChild("appointmentType", this.appointmentType, visitor); // CodeableConcept
+        visitChild("schedule", this.schedule, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<SlotStatus>
+        visitChild("start", this.start, visitor); // InstantType
+        visitChild("end", this.end, visitor); // InstantType
+        visitChild("overbooked", this.overbooked, visitor); // BooleanType
+        visitChild("comment", this.comment, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -411,6 +411,23 @@ public class Specimen extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -923,6 +940,37 @@ public class Specimen extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1883491469: /*collector*/ visitChild("collector", this.collector, visitor); break; // Reference
+        case 1883491145: /*collected*/ visitChild("collected", this.collected, visitor); break; // DataType
+        case -1992012396: /*duration*/ visitChild("duration", this.duration, visitor); break; // Duration
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // CodeableConcept
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // CodeableReference
+        case -1095204141: /*procedure*/ visitChild("procedure", this.procedure, visitor); break; // Reference
+        case 1702620169: /*bodySite*/ visitChild("bodySite", this.bodySite, visitor); break; // CodeableReference
+        case -701550184: /*fastingStatus*/ visitChild("fastingStatus", this.fastingStatus, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("collector", this.collector, visitor); // Reference
+        visitChild("collected", this.collected, visitor); // DataType
+        visitChild("duration", this.duration, visitor); // Duration
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("method", this.method, visitor); // CodeableConcept
+        visitChild("device", this.device, visitor); // CodeableReference
+        visitChild("procedure", this.procedure, visitor); // Reference
+        visitChild("bodySite", this.bodySite, visitor); // CodeableReference
+        visitChild("fastingStatus", this.fastingStatus, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1400,6 +1448,27 @@ public class Specimen extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // CodeableConcept
+        case -1226589236: /*additive*/ visitChild("additive", this.additive, visitor); break; // Reference
+        case 3560141: /*time*/ visitChild("time", this.time, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("method", this.method, visitor); // CodeableConcept
+        visitChild("additive", this.additive, visitor); // Reference
+        visitChild("time", this.time, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1691,6 +1760,25 @@ public class Specimen extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1335157162: /*device*/ visitChild("device", this.device, visitor); break; // Reference
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case 1485980595: /*specimenQuantity*/ visitChild("specimenQuantity", this.specimenQuantity, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("device", this.device, visitor); // Reference
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("specimenQuantity", this.specimenQuantity, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2734,6 +2822,51 @@ public class Specimen extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 818734061: /*accessionIdentifier*/ visitChild("accessionIdentifier", this.accessionIdentifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<SpecimenStatus>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // Reference
+        case -767961010: /*receivedTime*/ visitChild("receivedTime", this.receivedTime, visitor); break; // DateTimeType
+        case -995424086: /*parent*/ visitChild("parent", this.parent, visitor); break; // Reference
+        case 1095692943: /*request*/ visitChild("request", this.request, visitor); break; // Reference
+        case -612455675: /*combined*/ visitChild("combined", this.combined, visitor); break; // Enumeration<SpecimenCombined>
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case -979207434: /*feature*/ visitChild("feature", this.feature, visitor); break; // SpecimenFeatureComponent
+        case -1741312354: /*collection*/ visitChild("collection", this.collection, visitor); break; // SpecimenCollectionComponent
+        case 422194963: /*processing*/ visitChild("processing", this.processing, visitor); break; // SpecimenProcessingComponent
+        case -410956671: /*container*/ visitChild("container", this.container, visitor); break; // SpecimenContainerComponent
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // CodeableConcept
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("accessionIdentifier", this.accessionIdentifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<SpecimenStatus>
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("subject", this.subject, visitor); // Reference
+        visitChild("receivedTime", this.receivedTime, visitor); // DateTimeType
+        visitChild("parent", this.parent, visitor); // Reference
+        visitChild("request", this.request, visitor); // Reference
+        visitChild("combined", this.combined, visitor); // Enumeration<SpecimenCombined>
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("feature", this.feature, visitor); // SpecimenFeatureComponent
+        visitChild("collection", this.collection, visitor); // SpecimenCollectionComponent
+        visitChild("processing", this.processing, visitor); // SpecimenProcessingComponent
+        visitChild("container", this.container, visitor); // SpecimenContainerComponent
+        visitChild("condition", this.condition, visitor); // CodeableConcept
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -709,6 +709,39 @@ public class SpecimenDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 976346515: /*isDerived*/ visitChild("isDerived", this.isDerived, visitor); break; // BooleanType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1459831589: /*preference*/ visitChild("preference", this.preference, visitor); break; // Enumeration<SpecimenContainedPreference>
+        case -410956671: /*container*/ visitChild("container", this.container, visitor); break; // SpecimenDefinitionTypeTestedContainerComponent
+        case 363387971: /*requirement*/ visitChild("requirement", this.requirement, visitor); break; // MarkdownType
+        case 1434969867: /*retentionTime*/ visitChild("retentionTime", this.retentionTime, visitor); break; // Duration
+        case -1494547425: /*singleUse*/ visitChild("singleUse", this.singleUse, visitor); break; // BooleanType
+        case -553706344: /*rejectionCriterion*/ visitChild("rejectionCriterion", this.rejectionCriterion, visitor); break; // CodeableConcept
+        case 2072805: /*handling*/ visitChild("handling", this.handling, visitor); break; // SpecimenDefinitionTypeTestedHandlingComponent
+        case 939511774: /*testingDestination*/ visitChild("testingDestination", this.testingDestination, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("isDerived", this.isDerived, visitor); // BooleanType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("preference", this.preference, visitor); // Enumeration<SpecimenContainedPreference>
+        visitChild("container", this.container, visitor); // SpecimenDefinitionTypeTestedContainerComponent
+        visitChild("requirement", this.requirement, visitor); // MarkdownType
+        visitChild("retentionTime", this.retentionTime, visitor); // Duration
+        visitChild("singleUse", this.singleUse, visitor); // BooleanType
+        visitChild("rejectionCriterion", this.rejectionCriterion, visitor); // CodeableConcept
+        visitChild("handling", this.handling, visitor); // SpecimenDefinitionTypeTestedHandlingComponent
+        visitChild("testingDestination", this.testingDestination, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1364,6 +1397,35 @@ public class SpecimenDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 299066663: /*material*/ visitChild("material", this.material, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 98258: /*cap*/ visitChild("cap", this.cap, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -67824454: /*capacity*/ visitChild("capacity", this.capacity, visitor); break; // Quantity
+        case -1674665784: /*minimumVolume*/ visitChild("minimumVolume", this.minimumVolume, visitor); break; // DataType
+        case -1226589236: /*additive*/ visitChild("additive", this.additive, visitor); break; // SpecimenDefinitionTypeTestedContainerAdditiveComponent
+        case -1315428713: /*preparation*/ visitChild("preparation", this.preparation, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("material", this.material, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("cap", this.cap, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("capacity", this.capacity, visitor); // Quantity
+        visitChild("minimumVolume", this.minimumVolume, visitor); // DataType
+        visitChild("additive", this.additive, visitor); // SpecimenDefinitionTypeTestedContainerAdditiveComponent
+        visitChild("preparation", this.preparation, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1675,6 +1737,21 @@ public class SpecimenDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1226589236: /*additive*/ visitChild("additive", this.additive, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("additive", this.additive, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1972,6 +2049,27 @@ public class SpecimenDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 548941206: /*temperatureQualifier*/ visitChild("temperatureQualifier", this.temperatureQualifier, visitor); break; // CodeableConcept
+        case -39203799: /*temperatureRange*/ visitChild("temperatureRange", this.temperatureRange, visitor); break; // Range
+        case 40284952: /*maxDuration*/ visitChild("maxDuration", this.maxDuration, visitor); break; // Duration
+        case 301526158: /*instruction*/ visitChild("instruction", this.instruction, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("temperatureQualifier", this.temperatureQualifier, visitor); // CodeableConcept
+        visitChild("temperatureRange", this.temperatureRange, visitor); // Range
+        visitChild("maxDuration", this.maxDuration, visitor); // Duration
+        visitChild("instruction", this.instruction, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3785,6 +3883,75 @@ public class SpecimenDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -978133683: /*derivedFromCanonical*/ visitChild("derivedFromCanonical", this.derivedFromCanonical, visitor); break; // CanonicalType
+        case -1076333435: /*derivedFromUri*/ visitChild("derivedFromUri", this.derivedFromUri, visitor); break; // UriType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case -1867885268: /*subject*/ visitChild("subject", this.subject, visitor); break; // DataType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case 588504367: /*typeCollected*/ visitChild("typeCollected", this.typeCollected, visitor); break; // CodeableConcept
+        case -879411630: /*patientPreparation*/ visitChild("patientPreparation", this.patientPreparation, visitor); break; // CodeableConcept
+        case 276972933: /*timeAspect*/ visitChild("timeAspect", this.timeAspect, visitor); break; // StringType
+        case -1741312354: /*collection*/ visitChild("collection", this.collection, visitor); break; // CodeableConcept
+        case -1407902581: /*typeTested*/ visitChild("typeTested", this.typeTested, visitor); break; // SpecimenDefinitionTypeTestedComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("derivedFromCanonical", this.derivedFromCanonical, visitor); // CanonicalType
+        visitChild("derivedFromUri", this.derivedFromUri, visitor); // UriType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("subject", this.subject, visitor); // DataType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("typeCollected", this.typeCollected, visitor); // CodeableConcept
+        visitChild("patientPreparation", this.patientPreparation, visitor); // CodeableConcept
+        visitChild("timeAspect", this.timeAspect, visitor); // StringType
+        visitChild("collection", this.collection, visitor); // CodeableConcept
+        visitChild("typeTested", this.typeTested, visitor); // SpecimenDefinitionTypeTestedComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -370,6 +370,29 @@ public class Statistic extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -177467129: /*numberOfStudies*/ visitChild("numberOfStudies", this.numberOfStudies, visitor); break; // UnsignedIntType
+        case 1799357120: /*numberOfParticipants*/ visitChild("numberOfParticipants", this.numberOfParticipants, visitor); break; // UnsignedIntType
+        case -937344126: /*knownDataCount*/ visitChild("knownDataCount", this.knownDataCount, visitor); break; // UnsignedIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("numberOfStudies", this.numberOfStudies, visitor); // UnsignedIntType
+        visitChild("numberOfParticipants", this.numberOfParticipants, visitor); // UnsignedIntType
+        visitChild("knownDataCount", this.knownDataCount, visitor); // UnsignedIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -925,6 +948,33 @@ public class Statistic extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 102865796: /*level*/ visitChild("level", this.level, visitor); break; // DecimalType
+        case 108280125: /*range*/ visitChild("range", this.range, visitor); break; // Range
+        case -1539581980: /*attributeEstimate*/ visitChild("attributeEstimate", this.attributeEstimate, visitor); break; // StatisticAttributeEstimateAttributeEstimateComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("level", this.level, visitor); // DecimalType
+        visitChild("range", this.range, visitor); // Range
+        visitChild("attributeEstimate", this.attributeEstimate, visitor); // StatisticAttributeEstimateAttributeEstimateComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1448,6 +1498,31 @@ public class Statistic extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 102865796: /*level*/ visitChild("level", this.level, visitor); break; // DecimalType
+        case 108280125: /*range*/ visitChild("range", this.range, visitor); break; // Range
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("level", this.level, visitor); // DecimalType
+        visitChild("range", this.range, visitor); // Range
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1792,6 +1867,25 @@ public class Statistic extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // Quantity
+        case -1249586564: /*variable*/ visitChild("variable", this.variable, visitor); break; // StatisticModelCharacteristicVariableComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // Quantity
+        visitChild("variable", this.variable, visitor); // StatisticModelCharacteristicVariableComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2245,6 +2339,29 @@ public class Statistic extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1807222545: /*variableDefinition*/ visitChild("variableDefinition", this.variableDefinition, visitor); break; // Reference
+        case 2072805: /*handling*/ visitChild("handling", this.handling, visitor); break; // Enumeration<EvidenceVariableHandling>
+        case -694308465: /*valueCategory*/ visitChild("valueCategory", this.valueCategory, visitor); break; // CodeableConcept
+        case -2029823716: /*valueQuantity*/ visitChild("valueQuantity", this.valueQuantity, visitor); break; // Quantity
+        case 2030761548: /*valueRange*/ visitChild("valueRange", this.valueRange, visitor); break; // Range
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("variableDefinition", this.variableDefinition, visitor); // Reference
+        visitChild("handling", this.handling, visitor); // Enumeration<EvidenceVariableHandling>
+        visitChild("valueCategory", this.valueCategory, visitor); // CodeableConcept
+        visitChild("valueQuantity", this.valueQuantity, visitor); // Quantity
+        visitChild("valueRange", this.valueRange, visitor); // Range
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2938,6 +3055,39 @@ public class Statistic extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -392342358: /*statisticType*/ visitChild("statisticType", this.statisticType, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 1534510137: /*numberOfEvents*/ visitChild("numberOfEvents", this.numberOfEvents, visitor); break; // UnsignedIntType
+        case -460990243: /*numberAffected*/ visitChild("numberAffected", this.numberAffected, visitor); break; // UnsignedIntType
+        case 143123659: /*sampleSize*/ visitChild("sampleSize", this.sampleSize, visitor); break; // StatisticSampleSizeComponent
+        case -1539581980: /*attributeEstimate*/ visitChild("attributeEstimate", this.attributeEstimate, visitor); break; // StatisticAttributeEstimateComponent
+        case 274795812: /*modelCharacteristic*/ visitChild("modelCharacteristic", this.modelCharacteristic, visitor); break; // StatisticModelCharacteristicComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("statisticType", this.statisticType, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("numberOfEvents", this.numberOfEvents, visitor); // UnsignedIntType
+        visitChild("numberAffected", this.numberAffected, visitor); // UnsignedIntType
+        visitChild("sampleSize", this.sampleSize, visitor); // StatisticSampleSizeComponent
+        visitChild("attributeEstimate", this.attributeEstimate, visitor); // StatisticAttributeEstimateComponent
+        visitChild("modelCharacteristic", this.modelCharacteristic, visitor); // StatisticModelCharacteristicComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -671,6 +671,27 @@ public class StructureDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -135761730: /*identity*/ visitChild("identity", this.identity, visitor); break; // IdType
+        case 116076: /*uri*/ visitChild("uri", this.uri, visitor); break; // UriType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identity", this.identity, visitor); // IdType
+        visitChild("uri", this.uri, visitor); // UriType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("comment", this.comment, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -962,6 +983,23 @@ public class StructureDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<ExtensionContextType>
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<ExtensionContextType>
+        visitChild("expression", this.expression, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1178,6 +1216,21 @@ public class StructureDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1662836996: /*element*/ visitChild("element", this.element, visitor); break; // ElementDefinition
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("element", this.element, visitor); // ElementDefinition
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1410,6 +1463,21 @@ public class StructureDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1662836996: /*element*/ visitChild("element", this.element, visitor); break; // ElementDefinition
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("element", this.element, visitor); // ElementDefinition
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3268,6 +3336,77 @@ public class StructureDefinition extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case -814408215: /*keyword*/ visitChild("keyword", this.keyword, visitor); break; // Coding
+        case 461006061: /*fhirVersion*/ visitChild("fhirVersion", this.fhirVersion, visitor); break; // Enumeration<FHIRVersion>
+        case 837556430: /*mapping*/ visitChild("mapping", this.mapping, visitor); break; // StructureDefinitionMappingComponent
+        case 3292052: /*kind*/ visitChild("kind", this.kind, visitor); break; // Enumeration<StructureDefinitionKind>
+        case 1732898850: /*abstract*/ visitChild("abstract", this.abstract_, visitor); break; // BooleanType
+        case 951530927: /*context*/ visitChild("context", this.context, visitor); break; // StructureDefinitionContextComponent
+        case -802505007: /*contextInvariant*/ visitChild("contextInvariant", this.contextInvariant, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // UriType
+        case 1139771140: /*baseDefinition*/ visitChild("baseDefinition", this.baseDefinition, visitor); break; // CanonicalType
+        case -1353885513: /*derivation*/ visitChild("derivation", this.derivation, visitor); break; // Enumeration<TypeDerivationRule>
+        case 284874180: /*snapshot*/ visitChild("snapshot", this.snapshot, visitor); break; // StructureDefinitionSnapshotComponent
+        case -1196150917: /*differential*/ visitChild("differential", this.differential, visitor); break; // StructureDefinitionDifferentialComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("keyword", this.keyword, visitor); // Coding
+        visitChild("fhirVersion", this.fhirVersion, visitor); // Enumeration<FHIRVersion>
+        visitChild("mapping", this.mapping, visitor); // StructureDefinitionMappingComponent
+        visitChild("kind", this.kind, visitor); // Enumeration<StructureDefinitionKind>
+        visitChild("abstract", this.abstract_, visitor); // BooleanType
+        visitChild("context", this.context, visitor); // StructureDefinitionContextComponent
+        visitChild("contextInvariant", this.contextInvariant, visitor); // StringType
+        visitChild("type", this.type, visitor); // UriType
+        visitChild("baseDefinition", this.baseDefinition, visitor); // CanonicalType
+        visitChild("derivation", this.derivation, visitor); // Enumeration<TypeDerivationRule>
+        visitChild("snapshot", this.snapshot, visitor); // StructureDefinitionSnapshotComponent
+        visitChild("differential", this.differential, visitor); // StructureDefinitionDifferentialComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1263,6 +1263,27 @@ public class StructureMap extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // CanonicalType
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // Enumeration<StructureMapModelMode>
+        case 92902992: /*alias*/ visitChild("alias", this.alias, visitor); break; // StringType
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // CanonicalType
+        visitChild("mode", this.mode, visitor); // Enumeration<StructureMapModelMode>
+        visitChild("alias", this.alias, visitor); // StringType
+        visitChild("documentation", this.documentation, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1555,6 +1576,23 @@ public class StructureMap extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // IdType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // IdType
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2065,6 +2103,31 @@ public class StructureMap extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // IdType
+        case -1305664359: /*extends*/ visitChild("extends", this.extends_, visitor); break; // IdType
+        case -676524035: /*typeMode*/ visitChild("typeMode", this.typeMode, visitor); break; // Enumeration<StructureMapGroupTypeMode>
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // StringType
+        case 100358090: /*input*/ visitChild("input", this.input, visitor); break; // StructureMapGroupInputComponent
+        case 3512060: /*rule*/ visitChild("rule", this.rule, visitor); break; // StructureMapGroupRuleComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // IdType
+        visitChild("extends", this.extends_, visitor); // IdType
+        visitChild("typeMode", this.typeMode, visitor); // Enumeration<StructureMapGroupTypeMode>
+        visitChild("documentation", this.documentation, visitor); // StringType
+        visitChild("input", this.input, visitor); // StructureMapGroupInputComponent
+        visitChild("rule", this.rule, visitor); // StructureMapGroupRuleComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2517,6 +2580,27 @@ public String toString() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // IdType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // StringType
+        case 3357091: /*mode*/ visitChild("mode", this.mode, visitor); break; // Enumeration<StructureMapInputMode>
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // IdType
+        visitChild("type", this.type, visitor); // StringType
+        visitChild("mode", this.mode, visitor); // Enumeration<StructureMapInputMode>
+        visitChild("documentation", this.documentation, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3069,6 +3153,31 @@ public String toString() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // IdType
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // StructureMapGroupRuleSourceComponent
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // StructureMapGroupRuleTargetComponent
+        case 3512060: /*rule*/ visitChild("rule", this.rule, visitor); break; // StructureMapGroupRuleComponent
+        case -1109226753: /*dependent*/ visitChild("dependent", this.dependent, visitor); break; // StructureMapGroupRuleDependentComponent
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // IdType
+        visitChild("source", this.source, visitor); // StructureMapGroupRuleSourceComponent
+        visitChild("target", this.target, visitor); // StructureMapGroupRuleTargetComponent
+        visitChild("rule", this.rule, visitor); // StructureMapGroupRuleComponent
+        visitChild("dependent", this.dependent, visitor); // StructureMapGroupRuleDependentComponent
+        visitChild("documentation", this.documentation, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3937,6 +4046,41 @@ public String toString() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 951530927: /*context*/ visitChild("context", this.context, visitor); break; // IdType
+        case 108114: /*min*/ visitChild("min", this.min, visitor); break; // IntegerType
+        case 107876: /*max*/ visitChild("max", this.max, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // StringType
+        case -659125328: /*defaultValue*/ visitChild("defaultValue", this.defaultValue, visitor); break; // StringType
+        case -1662836996: /*element*/ visitChild("element", this.element, visitor); break; // StringType
+        case 1345445729: /*listMode*/ visitChild("listMode", this.listMode, visitor); break; // Enumeration<StructureMapSourceListMode>
+        case -1249586564: /*variable*/ visitChild("variable", this.variable, visitor); break; // IdType
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // StringType
+        case 94627080: /*check*/ visitChild("check", this.check, visitor); break; // StringType
+        case -1067155421: /*logMessage*/ visitChild("logMessage", this.logMessage, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("context", this.context, visitor); // IdType
+        visitChild("min", this.min, visitor); // IntegerType
+        visitChild("max", this.max, visitor); // StringType
+        visitChild("type", this.type, visitor); // StringType
+        visitChild("defaultValue", this.defaultValue, visitor); // StringType
+        visitChild("element", this.element, visitor); // StringType
+        visitChild("listMode", this.listMode, visitor); // Enumeration<StructureMapSourceListMode>
+        visitChild("variable", this.variable, visitor); // IdType
+        visitChild("condition", this.condition, visitor); // StringType
+        visitChild("check", this.check, visitor); // StringType
+        visitChild("logMessage", this.logMessage, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4642,6 +4786,33 @@ public String toString() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 951530927: /*context*/ visitChild("context", this.context, visitor); break; // StringType
+        case -1662836996: /*element*/ visitChild("element", this.element, visitor); break; // StringType
+        case -1249586564: /*variable*/ visitChild("variable", this.variable, visitor); break; // IdType
+        case 1345445729: /*listMode*/ visitChild("listMode", this.listMode, visitor); break; // Enumeration<StructureMapTargetListMode>
+        case 337117045: /*listRuleId*/ visitChild("listRuleId", this.listRuleId, visitor); break; // IdType
+        case 1052666732: /*transform*/ visitChild("transform", this.transform, visitor); break; // Enumeration<StructureMapTransform>
+        case 1954460585: /*parameter*/ visitChild("parameter", this.parameter, visitor); break; // StructureMapGroupRuleTargetParameterComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("context", this.context, visitor); // StringType
+        visitChild("element", this.element, visitor); // StringType
+        visitChild("variable", this.variable, visitor); // IdType
+        visitChild("listMode", this.listMode, visitor); // Enumeration<StructureMapTargetListMode>
+        visitChild("listRuleId", this.listRuleId, visitor); // IdType
+        visitChild("transform", this.transform, visitor); // Enumeration<StructureMapTransform>
+        visitChild("parameter", this.parameter, visitor); // StructureMapGroupRuleTargetParameterComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5041,6 +5212,21 @@ public String toString() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5332,6 +5518,23 @@ public String toString() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // IdType
+        case 1954460585: /*parameter*/ visitChild("parameter", this.parameter, visitor); break; // StructureMapGroupRuleTargetParameterComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // IdType
+        visitChild("parameter", this.parameter, visitor); // StructureMapGroupRuleTargetParameterComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6758,6 +6961,61 @@ public String toString() {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 144518515: /*structure*/ visitChild("structure", this.structure, visitor); break; // StructureMapStructureComponent
+        case -1184795739: /*import*/ visitChild("import", this.import_, visitor); break; // CanonicalType
+        case 94844771: /*const*/ visitChild("const", this.const_, visitor); break; // StructureMapConstComponent
+        case 98629247: /*group*/ visitChild("group", this.group, visitor); break; // StructureMapGroupComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("structure", this.structure, visitor); // StructureMapStructureComponent
+        visitChild("import", this.import_, visitor); // CanonicalType
+        visitChild("const", this.const_, visitor); // StructureMapConstComponent
+        visitChild("group", this.group, visitor); // StructureMapGroupComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
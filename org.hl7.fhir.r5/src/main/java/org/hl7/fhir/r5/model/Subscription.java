@@ -497,6 +497,29 @@ public class Subscription extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -384364440: /*resourceType*/ visitChild("resourceType", this.resourceType, visitor); break; // UriType
+        case 618257: /*filterParameter*/ visitChild("filterParameter", this.filterParameter, visitor); break; // StringType
+        case -844673834: /*comparator*/ visitChild("comparator", this.comparator, visitor); break; // Enumeration<SearchComparator>
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // Enumeration<SearchModifierCode>
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("resourceType", this.resourceType, visitor); // UriType
+        visitChild("filterParameter", this.filterParameter, visitor); // StringType
+        visitChild("comparator", this.comparator, visitor); // Enumeration<SearchComparator>
+        visitChild("modifier", this.modifier, visitor); // Enumeration<SearchModifierCode>
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -808,6 +831,23 @@ public class Subscription extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1931,6 +1971,53 @@ public class Subscription extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<SubscriptionStatusCodes>
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // CanonicalType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactPoint
+        case 100571: /*end*/ visitChild("end", this.end, visitor); break; // InstantType
+        case -988474523: /*managingEntity*/ visitChild("managingEntity", this.managingEntity, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // StringType
+        case -721168913: /*filterBy*/ visitChild("filterBy", this.filterBy, visitor); break; // SubscriptionFilterByComponent
+        case 274155229: /*channelType*/ visitChild("channelType", this.channelType, visitor); break; // Coding
+        case 1741102485: /*endpoint*/ visitChild("endpoint", this.endpoint, visitor); break; // UrlType
+        case 1954460585: /*parameter*/ visitChild("parameter", this.parameter, visitor); break; // SubscriptionParameterComponent
+        case -938465827: /*heartbeatPeriod*/ visitChild("heartbeatPeriod", this.heartbeatPeriod, visitor); break; // UnsignedIntType
+        case -1313911455: /*timeout*/ visitChild("timeout", this.timeout, visitor); break; // UnsignedIntType
+        case -389131437: /*contentType*/ visitChild("contentType", this.contentType, visitor); break; // CodeType
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // Enumeration<SubscriptionPayloadContent>
+        case 382106123: /*maxCount*/ visitChild("maxCount", this.maxCount, visitor); break; // PositiveIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<SubscriptionStatusCodes>
+        visitChild("topic", this.topic, visitor); // CanonicalType
+        visitChild("contact", this.contact, visitor); // ContactPoint
+        visitChild("end", this.end, visitor); // InstantType
+        visitChild("managingEntity", this.managingEntity, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // StringType
+        visitChild("filterBy", this.filterBy, visitor); // SubscriptionFilterByComponent
+        visitChild("channelType", this.channelType, visitor); // Coding
+        visitChild("endpoint", this.endpoint, visitor); // UrlType
+        visitChild("parameter", this.parameter, visitor); // SubscriptionParameterComponent
+        visitChild("heartbeatPeriod", this.heartbeatPeriod, visitor); // UnsignedIntType
+        visitChild("timeout", this.timeout, visitor); // UnsignedIntType
+        visitChild("contentType", this.contentType, visitor); // CodeType
+        visitChild("content", this.content, visitor); // Enumeration<SubscriptionPayloadContent>
+        visitChild("maxCount", this.maxCount, visitor); // PositiveIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -448,6 +448,27 @@ public class SubscriptionStatus extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -35234173: /*eventNumber*/ visitChild("eventNumber", this.eventNumber, visitor); break; // Integer64Type
+        case 55126294: /*timestamp*/ visitChild("timestamp", this.timestamp, visitor); break; // InstantType
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case -908743800: /*additionalContext*/ visitChild("additionalContext", this.additionalContext, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("eventNumber", this.eventNumber, visitor); // Integer64Type
+        visitChild("timestamp", this.timestamp, visitor); // InstantType
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("additionalContext", this.additionalContext, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1022,6 +1043,33 @@ public class SubscriptionStatus extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<SubscriptionStatusCodes>
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<SubscriptionNotificationType>
+        case 304566692: /*eventsSinceSubscriptionStart*/ visitChild("eventsSinceSubscriptionStart", this.eventsSinceSubscriptionStart, visitor); break; // Integer64Type
+        case -1595878289: /*notificationEvent*/ visitChild("notificationEvent", this.notificationEvent, visitor); break; // SubscriptionStatusNotificationEventComponent
+        case 341203229: /*subscription*/ visitChild("subscription", this.subscription, visitor); break; // Reference
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // CanonicalType
+        case 96784904: /*error*/ visitChild("error", this.error, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("status", this.status, visitor); // Enumeration<SubscriptionStatusCodes>
+        visitChild("type", this.type, visitor); // Enumeration<SubscriptionNotificationType>
+        visitChild("eventsSinceSubscriptionStart", this.eventsSinceSubscriptionStart, visitor); // Integer64Type
+        visitChild("notificationEvent", this.notificationEvent, visitor); // SubscriptionStatusNotificationEventComponent
+        visitChild("subscription", this.subscription, visitor); // Reference
+        visitChild("topic", this.topic, visitor); // CanonicalType
+        visitChild("error", this.error, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -584,6 +584,29 @@ public class SubscriptionTopic extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // UriType
+        case 1838450820: /*supportedInteraction*/ visitChild("supportedInteraction", this.supportedInteraction, visitor); break; // Enumeration<InteractionTrigger>
+        case -545123257: /*queryCriteria*/ visitChild("queryCriteria", this.queryCriteria, visitor); break; // SubscriptionTopicResourceTriggerQueryCriteriaComponent
+        case 1929785263: /*fhirPathCriteria*/ visitChild("fhirPathCriteria", this.fhirPathCriteria, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("resource", this.resource, visitor); // UriType
+        visitChild("supportedInteraction", this.supportedInteraction, visitor); // Enumeration<InteractionTrigger>
+        visitChild("queryCriteria", this.queryCriteria, visitor); // SubscriptionTopicResourceTriggerQueryCriteriaComponent
+        visitChild("fhirPathCriteria", this.fhirPathCriteria, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1071,6 +1094,29 @@ public class SubscriptionTopic extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1273775369: /*previous*/ visitChild("previous", this.previous, visitor); break; // StringType
+        case -407976056: /*resultForCreate*/ visitChild("resultForCreate", this.resultForCreate, visitor); break; // Enumeration<CriteriaNotExistsBehavior>
+        case 1126940025: /*current*/ visitChild("current", this.current, visitor); break; // StringType
+        case -391140297: /*resultForDelete*/ visitChild("resultForDelete", this.resultForDelete, visitor); break; // Enumeration<CriteriaNotExistsBehavior>
+        case 362116742: /*requireBoth*/ visitChild("requireBoth", this.requireBoth, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("previous", this.previous, visitor); // StringType
+        visitChild("resultForCreate", this.resultForCreate, visitor); // Enumeration<CriteriaNotExistsBehavior>
+        visitChild("current", this.current, visitor); // StringType
+        visitChild("resultForDelete", this.resultForDelete, visitor); // Enumeration<CriteriaNotExistsBehavior>
+        visitChild("requireBoth", this.requireBoth, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1422,6 +1468,25 @@ public class SubscriptionTopic extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // CodeableConcept
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // UriType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("event", this.event, visitor); // CodeableConcept
+        visitChild("resource", this.resource, visitor); // UriType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1966,6 +2031,31 @@ public class SubscriptionTopic extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // UriType
+        case 618257: /*filterParameter*/ visitChild("filterParameter", this.filterParameter, visitor); break; // StringType
+        case -1453988117: /*filterDefinition*/ visitChild("filterDefinition", this.filterDefinition, visitor); break; // UriType
+        case -844673834: /*comparator*/ visitChild("comparator", this.comparator, visitor); break; // Enumeration<SearchComparator>
+        case -615513385: /*modifier*/ visitChild("modifier", this.modifier, visitor); break; // Enumeration<SearchModifierCode>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("resource", this.resource, visitor); // UriType
+        visitChild("filterParameter", this.filterParameter, visitor); // StringType
+        visitChild("filterDefinition", this.filterDefinition, visitor); // UriType
+        visitChild("comparator", this.comparator, visitor); // Enumeration<SearchComparator>
+        visitChild("modifier", this.modifier, visitor); // Enumeration<SearchModifierCode>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2385,6 +2475,25 @@ public class SubscriptionTopic extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // UriType
+        case 1942574248: /*include*/ visitChild("include", this.include, visitor); break; // StringType
+        case 8439429: /*revInclude*/ visitChild("revInclude", this.revInclude, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("resource", this.resource, visitor); // UriType
+        visitChild("include", this.include, visitor); // StringType
+        visitChild("revInclude", this.revInclude, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4048,6 +4157,69 @@ public class SubscriptionTopic extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case 1077922663: /*derivedFrom*/ visitChild("derivedFrom", this.derivedFrom, visitor); break; // CanonicalType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case -424927798: /*resourceTrigger*/ visitChild("resourceTrigger", this.resourceTrigger, visitor); break; // SubscriptionTopicResourceTriggerComponent
+        case -151635522: /*eventTrigger*/ visitChild("eventTrigger", this.eventTrigger, visitor); break; // SubscriptionTopicEventTriggerComponent
+        case -1299519009: /*canFilterBy*/ visitChild("canFilterBy", this.canFilterBy, visitor); break; // SubscriptionTopicCanFilterByComponent
+        case -1583369866: /*notificationShape*/ visitChild("notificationShape", this.notificationShape, visitor); break; // SubscriptionTopicNotificationShapeComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("derivedFrom", this.derivedFrom, visitor); // CanonicalType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("resourceTrigger", this.resourceTrigger, visitor); // SubscriptionTopicResourceTriggerComponent
+        visitChild("eventTrigger", this.eventTrigger, visitor); // SubscriptionTopicEventTriggerComponent
+        visitChild("canFilterBy", this.canFilterBy, visitor); // SubscriptionTopicCanFilterByComponent
+        visitChild("notificationShape", this.notificationShape, visitor); // SubscriptionTopicNotificationShapeComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
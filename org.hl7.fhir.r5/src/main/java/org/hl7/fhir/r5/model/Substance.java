@@ -305,6 +305,23 @@ public class Substance extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Ratio
+        case 530040176: /*substance*/ visitChild("substance", this.substance, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("quantity", this.quantity, visitor); // Ratio
+        visitChild("substance", this.substance, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -953,6 +970,37 @@ public class Substance extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 555127957: /*instance*/ visitChild("instance", this.instance, visitor); break; // BooleanType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FHIRSubstanceStatus>
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableReference
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -1289159373: /*expiry*/ visitChild("expiry", this.expiry, visitor); break; // DateTimeType
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case -206409263: /*ingredient*/ visitChild("ingredient", this.ingredient, visitor); break; // SubstanceIngredientComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instance", this.instance, visitor); // BooleanType
+        visitChild("status", this.status, visitor); // Enumeration<FHIRSubstanceStatus>
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("code", this.code, visitor); // CodeableReference
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("expiry", this.expiry, visitor); // DateTimeType
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("ingredient", this.ingredient, visitor); // SubstanceIngredientComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -152,6 +152,23 @@ public class SubstanceAmount extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1841058617: /*lowLimit*/ visitChild("lowLimit", this.lowLimit, visitor); break; // Quantity
+        case -710757575: /*highLimit*/ visitChild("highLimit", this.highLimit, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("lowLimit", this.lowLimit, visitor); // Quantity
+        visitChild("highLimit", this.highLimit, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -501,6 +518,27 @@ public class SubstanceAmount extends BackboneType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // DataType
+        case -1424857166: /*amountType*/ visitChild("amountType", this.amountType, visitor); break; // CodeableConcept
+        case -1424876123: /*amountText*/ visitChild("amountText", this.amountText, visitor); break; // StringType
+        case -1912545102: /*referenceRange*/ visitChild("referenceRange", this.referenceRange, visitor); break; // SubstanceAmountReferenceRangeComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("amount", this.amount, visitor); // DataType
+        visitChild("amountType", this.amountType, visitor); // CodeableConcept
+        visitChild("amountText", this.amountText, visitor); // StringType
+        visitChild("referenceRange", this.referenceRange, visitor); // SubstanceAmountReferenceRangeComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
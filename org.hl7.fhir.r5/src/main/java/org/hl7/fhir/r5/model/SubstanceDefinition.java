@@ -439,6 +439,35 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3506294: /*role*/ visitChild("role", this.role, visitor); break; // CodeableConcept
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 263475116: /*stereochemistry*/ visitChild("stereochemistry", this.stereochemistry, visitor); break; // CodeableConcept
+        case 1420900135: /*opticalActivity*/ visitChild("opticalActivity", this.opticalActivity, visitor); break; // CodeableConcept
+        case 616660246: /*molecularFormula*/ visitChild("molecularFormula", this.molecularFormula, visitor); break; // StringType
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // DataType
+        case 1670291734: /*measurementType*/ visitChild("measurementType", this.measurementType, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("role", this.role, visitor); // CodeableConcept
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("stereochemistry", this.stereochemistry, visitor); // CodeableConcept
+        visitChild("opticalActivity", this.opticalActivity, visitor); // CodeableConcept
+        visitChild("molecularFormula", this.molecularFormula, visitor); // StringType
+        visitChild("amount", this.amount, visitor); // DataType
+        visitChild("measurementType", this.measurementType, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -867,6 +896,27 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1469675088: /*technique*/ visitChild("technique", this.technique, visitor); break; // CodeableConcept
+        case 3148996: /*form*/ visitChild("form", this.form, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case 3143036: /*file*/ visitChild("file", this.file, visitor); break; // Attachment
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("technique", this.technique, visitor); // CodeableConcept
+        visitChild("form", this.form, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("file", this.file, visitor); // Attachment
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1198,6 +1248,23 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1471,6 +1538,25 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // CodeableConcept
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("method", this.method, visitor); // CodeableConcept
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("amount", this.amount, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2042,6 +2128,35 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 263475116: /*stereochemistry*/ visitChild("stereochemistry", this.stereochemistry, visitor); break; // CodeableConcept
+        case 1420900135: /*opticalActivity*/ visitChild("opticalActivity", this.opticalActivity, visitor); break; // CodeableConcept
+        case 616660246: /*molecularFormula*/ visitChild("molecularFormula", this.molecularFormula, visitor); break; // StringType
+        case 1315452848: /*molecularFormulaByMoiety*/ visitChild("molecularFormulaByMoiety", this.molecularFormulaByMoiety, visitor); break; // StringType
+        case 635625672: /*molecularWeight*/ visitChild("molecularWeight", this.molecularWeight, visitor); break; // SubstanceDefinitionMolecularWeightComponent
+        case 1469675088: /*technique*/ visitChild("technique", this.technique, visitor); break; // CodeableConcept
+        case -501788074: /*sourceDocument*/ visitChild("sourceDocument", this.sourceDocument, visitor); break; // Reference
+        case -671065907: /*representation*/ visitChild("representation", this.representation, visitor); break; // SubstanceDefinitionStructureRepresentationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("stereochemistry", this.stereochemistry, visitor); // CodeableConcept
+        visitChild("opticalActivity", this.opticalActivity, visitor); // CodeableConcept
+        visitChild("molecularFormula", this.molecularFormula, visitor); // StringType
+        visitChild("molecularFormulaByMoiety", this.molecularFormulaByMoiety, visitor); // StringType
+        visitChild("molecularWeight", this.molecularWeight, visitor); // SubstanceDefinitionMolecularWeightComponent
+        visitChild("technique", this.technique, visitor); // CodeableConcept
+        visitChild("sourceDocument", this.sourceDocument, visitor); // Reference
+        visitChild("representation", this.representation, visitor); // SubstanceDefinitionStructureRepresentationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2447,6 +2562,27 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -671065907: /*representation*/ visitChild("representation", this.representation, visitor); break; // StringType
+        case -1268779017: /*format*/ visitChild("format", this.format, visitor); break; // CodeableConcept
+        case 861720859: /*document*/ visitChild("document", this.document, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("representation", this.representation, visitor); // StringType
+        visitChild("format", this.format, visitor); // CodeableConcept
+        visitChild("document", this.document, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2874,6 +3010,29 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case 247524032: /*statusDate*/ visitChild("statusDate", this.statusDate, visitor); break; // DateTimeType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("statusDate", this.statusDate, visitor); // DateTimeType
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("source", this.source, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3699,6 +3858,41 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case -1294005119: /*preferred*/ visitChild("preferred", this.preferred, visitor); break; // BooleanType
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeableConcept
+        case -1326197564: /*domain*/ visitChild("domain", this.domain, visitor); break; // CodeableConcept
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -1742128133: /*synonym*/ visitChild("synonym", this.synonym, visitor); break; // SubstanceDefinitionNameComponent
+        case -1840647503: /*translation*/ visitChild("translation", this.translation, visitor); break; // SubstanceDefinitionNameComponent
+        case -765289749: /*official*/ visitChild("official", this.official, visitor); break; // SubstanceDefinitionNameOfficialComponent
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("preferred", this.preferred, visitor); // BooleanType
+        visitChild("language", this.language, visitor); // CodeableConcept
+        visitChild("domain", this.domain, visitor); // CodeableConcept
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("synonym", this.synonym, visitor); // SubstanceDefinitionNameComponent
+        visitChild("translation", this.translation, visitor); // SubstanceDefinitionNameComponent
+        visitChild("official", this.official, visitor); // SubstanceDefinitionNameOfficialComponent
+        visitChild("source", this.source, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4121,6 +4315,25 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1475610435: /*authority*/ visitChild("authority", this.authority, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("authority", this.authority, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("date", this.date, visitor); // DateTimeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4654,6 +4867,33 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 718195427: /*substanceDefinition*/ visitChild("substanceDefinition", this.substanceDefinition, visitor); break; // DataType
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -141812990: /*isDefining*/ visitChild("isDefining", this.isDefining, visitor); break; // BooleanType
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // DataType
+        case -1708404378: /*ratioHighLimitAmount*/ visitChild("ratioHighLimitAmount", this.ratioHighLimitAmount, visitor); break; // Ratio
+        case -844673834: /*comparator*/ visitChild("comparator", this.comparator, visitor); break; // CodeableConcept
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("substanceDefinition", this.substanceDefinition, visitor); // DataType
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("isDefining", this.isDefining, visitor); // BooleanType
+        visitChild("amount", this.amount, visitor); // DataType
+        visitChild("ratioHighLimitAmount", this.ratioHighLimitAmount, visitor); // Ratio
+        visitChild("comparator", this.comparator, visitor); // CodeableConcept
+        visitChild("source", this.source, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5091,6 +5331,29 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 98241006: /*genus*/ visitChild("genus", this.genus, visitor); break; // CodeableConcept
+        case -2008465092: /*species*/ visitChild("species", this.species, visitor); break; // CodeableConcept
+        case 3433459: /*part*/ visitChild("part", this.part, visitor); break; // CodeableConcept
+        case 57176467: /*countryOfOrigin*/ visitChild("countryOfOrigin", this.countryOfOrigin, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("genus", this.genus, visitor); // CodeableConcept
+        visitChild("species", this.species, visitor); // CodeableConcept
+        visitChild("part", this.part, visitor); // CodeableConcept
+        visitChild("countryOfOrigin", this.countryOfOrigin, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6555,6 +6818,67 @@ public class SubstanceDefinition extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // CodeableConcept
+        case 382350310: /*classification*/ visitChild("classification", this.classification, visitor); break; // CodeableConcept
+        case -1326197564: /*domain*/ visitChild("domain", this.domain, visitor); break; // CodeableConcept
+        case 98615255: /*grade*/ visitChild("grade", this.grade, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -2123220889: /*informationSource*/ visitChild("informationSource", this.informationSource, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case -1969347631: /*manufacturer*/ visitChild("manufacturer", this.manufacturer, visitor); break; // Reference
+        case -1663305268: /*supplier*/ visitChild("supplier", this.supplier, visitor); break; // Reference
+        case -1068650173: /*moiety*/ visitChild("moiety", this.moiety, visitor); break; // SubstanceDefinitionMoietyComponent
+        case 23517467: /*characterization*/ visitChild("characterization", this.characterization, visitor); break; // SubstanceDefinitionCharacterizationComponent
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // SubstanceDefinitionPropertyComponent
+        case -2117930783: /*referenceInformation*/ visitChild("referenceInformation", this.referenceInformation, visitor); break; // Reference
+        case 635625672: /*molecularWeight*/ visitChild("molecularWeight", this.molecularWeight, visitor); break; // SubstanceDefinitionMolecularWeightComponent
+        case 144518515: /*structure*/ visitChild("structure", this.structure, visitor); break; // SubstanceDefinitionStructureComponent
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // SubstanceDefinitionCodeComponent
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // SubstanceDefinitionNameComponent
+        case -261851592: /*relationship*/ visitChild("relationship", this.relationship, visitor); break; // SubstanceDefinitionRelationshipComponent
+        case 1625275180: /*nucleicAcid*/ visitChild("nucleicAcid", this.nucleicAcid, visitor); break; // Reference
+        case -397514098: /*polymer*/ visitChild("polymer", this.polymer, visitor); break; // Reference
+        case -309012605: /*protein*/ visitChild("protein", this.protein, visitor); break; // Reference
+        case -1064442270: /*sourceMaterial*/ visitChild("sourceMaterial", this.sourceMaterial, visitor); break; // SubstanceDefinitionSourceMaterialComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("status", this.status, visitor); // CodeableConcept
+        visitChild("classification", this.classification, visitor); // CodeableConcept
+        visitChild("domain", this.domain, visitor); // CodeableConcept
+        visitChild("grade", this.grade, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("informationSource", this.informationSource, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("manufacturer", this.manufacturer, visitor); // Reference
+        visitChild("supplier", this.supplier, visitor); // Reference
+        visitChild("moiety", this.moiety, visitor); // SubstanceDefinitionMoietyComponent
+        visitChild("characterization", this.characterization, visitor); // SubstanceDefinitionCharacterizationComponent
+        visitChild("property", this.property, visitor); // SubstanceDefinitionPropertyComponent
+        visitChild("referenceInformation", this.referenceInformation, visitor); // Reference
+        visitChild("molecularWeight", this.molecularWeight, visitor); // SubstanceDefinitionMolecularWeightComponent
+        visitChild("structure", this.structure, visitor); // SubstanceDefinitionStructureComponent
+        visitChild("code", this.code, visitor); // SubstanceDefinitionCodeComponent
+        visitChild("name", this.name, visitor); // SubstanceDefinitionNameComponent
+        visitChild("relationship", this.relationship, visitor); // SubstanceDefinitionRelationshipComponent
+        visitChild("nucleicAcid", this.nucleicAcid, visitor); // Reference
+        visitChild("polymer", this.polymer, visitor); // Reference
+        visitChild("protein", this.protein, visitor); // Reference
+        visitChild("sourceMaterial", this.sourceMaterial, visitor); // SubstanceDefinitionSourceMaterialComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
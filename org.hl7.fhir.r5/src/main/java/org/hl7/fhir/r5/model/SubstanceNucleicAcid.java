@@ -481,6 +481,35 @@ public class SubstanceNucleicAcid extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1867548732: /*subunit*/ visitChild("subunit", this.subunit, visitor); break; // IntegerType
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // StringType
+        case -1106363674: /*length*/ visitChild("length", this.length, visitor); break; // IntegerType
+        case 364621764: /*sequenceAttachment*/ visitChild("sequenceAttachment", this.sequenceAttachment, visitor); break; // Attachment
+        case -1045091603: /*fivePrime*/ visitChild("fivePrime", this.fivePrime, visitor); break; // CodeableConcept
+        case -1088032895: /*threePrime*/ visitChild("threePrime", this.threePrime, visitor); break; // CodeableConcept
+        case 177082053: /*linkage*/ visitChild("linkage", this.linkage, visitor); break; // SubstanceNucleicAcidSubunitLinkageComponent
+        case 109792566: /*sugar*/ visitChild("sugar", this.sugar, visitor); break; // SubstanceNucleicAcidSubunitSugarComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("subunit", this.subunit, visitor); // IntegerType
+        visitChild("sequence", this.sequence, visitor); // StringType
+        visitChild("length", this.length, visitor); // IntegerType
+        visitChild("sequenceAttachment", this.sequenceAttachment, visitor); // Attachment
+        visitChild("fivePrime", this.fivePrime, visitor); // CodeableConcept
+        visitChild("threePrime", this.threePrime, visitor); // CodeableConcept
+        visitChild("linkage", this.linkage, visitor); // SubstanceNucleicAcidSubunitLinkageComponent
+        visitChild("sugar", this.sugar, visitor); // SubstanceNucleicAcidSubunitSugarComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -928,6 +957,27 @@ public class SubstanceNucleicAcid extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1923312055: /*connectivity*/ visitChild("connectivity", this.connectivity, visitor); break; // StringType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 1547124594: /*residueSite*/ visitChild("residueSite", this.residueSite, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("connectivity", this.connectivity, visitor); // StringType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("residueSite", this.residueSite, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1252,6 +1302,25 @@ public class SubstanceNucleicAcid extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 1547124594: /*residueSite*/ visitChild("residueSite", this.residueSite, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("residueSite", this.residueSite, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1653,6 +1722,29 @@ public class SubstanceNucleicAcid extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 807711387: /*sequenceType*/ visitChild("sequenceType", this.sequenceType, visitor); break; // CodeableConcept
+        case -847111089: /*numberOfSubunits*/ visitChild("numberOfSubunits", this.numberOfSubunits, visitor); break; // IntegerType
+        case -617269845: /*areaOfHybridisation*/ visitChild("areaOfHybridisation", this.areaOfHybridisation, visitor); break; // StringType
+        case -1526251938: /*oligoNucleotideType*/ visitChild("oligoNucleotideType", this.oligoNucleotideType, visitor); break; // CodeableConcept
+        case -1867548732: /*subunit*/ visitChild("subunit", this.subunit, visitor); break; // SubstanceNucleicAcidSubunitComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequenceType", this.sequenceType, visitor); // CodeableConcept
+        visitChild("numberOfSubunits", this.numberOfSubunits, visitor); // IntegerType
+        visitChild("areaOfHybridisation", this.areaOfHybridisation, visitor); // StringType
+        visitChild("oligoNucleotideType", this.oligoNucleotideType, visitor); // CodeableConcept
+        visitChild("subunit", this.subunit, visitor); // SubstanceNucleicAcidSubunitComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -181,6 +181,23 @@ public class SubstancePolymer extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 344937957: /*ratioType*/ visitChild("ratioType", this.ratioType, visitor); break; // CodeableConcept
+        case 442919303: /*startingMaterial*/ visitChild("startingMaterial", this.startingMaterial, visitor); break; // SubstancePolymerMonomerSetStartingMaterialComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("ratioType", this.ratioType, visitor); // CodeableConcept
+        visitChild("startingMaterial", this.startingMaterial, visitor); // SubstancePolymerMonomerSetStartingMaterialComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -487,6 +504,27 @@ public class SubstancePolymer extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -141812990: /*isDefining*/ visitChild("isDefining", this.isDefining, visitor); break; // BooleanType
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // Quantity
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("isDefining", this.isDefining, visitor); // BooleanType
+        visitChild("amount", this.amount, visitor); // Quantity
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -816,6 +854,25 @@ public class SubstancePolymer extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 111461715: /*averageMolecularFormula*/ visitChild("averageMolecularFormula", this.averageMolecularFormula, visitor); break; // StringType
+        case -1994025263: /*repeatUnitAmountType*/ visitChild("repeatUnitAmountType", this.repeatUnitAmountType, visitor); break; // CodeableConcept
+        case 1159607743: /*repeatUnit*/ visitChild("repeatUnit", this.repeatUnit, visitor); break; // SubstancePolymerRepeatRepeatUnitComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("averageMolecularFormula", this.averageMolecularFormula, visitor); // StringType
+        visitChild("repeatUnitAmountType", this.repeatUnitAmountType, visitor); // CodeableConcept
+        visitChild("repeatUnit", this.repeatUnit, visitor); // SubstancePolymerRepeatRepeatUnitComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1252,6 +1309,29 @@ public class SubstancePolymer extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3594628: /*unit*/ visitChild("unit", this.unit, visitor); break; // StringType
+        case -1439500848: /*orientation*/ visitChild("orientation", this.orientation, visitor); break; // CodeableConcept
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // IntegerType
+        case -159251872: /*degreeOfPolymerisation*/ visitChild("degreeOfPolymerisation", this.degreeOfPolymerisation, visitor); break; // SubstancePolymerRepeatRepeatUnitDegreeOfPolymerisationComponent
+        case 14311178: /*structuralRepresentation*/ visitChild("structuralRepresentation", this.structuralRepresentation, visitor); break; // SubstancePolymerRepeatRepeatUnitStructuralRepresentationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("unit", this.unit, visitor); // StringType
+        visitChild("orientation", this.orientation, visitor); // CodeableConcept
+        visitChild("amount", this.amount, visitor); // IntegerType
+        visitChild("degreeOfPolymerisation", this.degreeOfPolymerisation, visitor); // SubstancePolymerRepeatRepeatUnitDegreeOfPolymerisationComponent
+        visitChild("structuralRepresentation", this.structuralRepresentation, visitor); // SubstancePolymerRepeatRepeatUnitStructuralRepresentationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1644,6 +1724,27 @@ public class SubstancePolymer extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -631448035: /*average*/ visitChild("average", this.average, visitor); break; // IntegerType
+        case 107348: /*low*/ visitChild("low", this.low, visitor); break; // IntegerType
+        case 3202466: /*high*/ visitChild("high", this.high, visitor); break; // IntegerType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("average", this.average, visitor); // IntegerType
+        visitChild("low", this.low, visitor); // IntegerType
+        visitChild("high", this.high, visitor); // IntegerType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1977,6 +2078,27 @@ public class SubstancePolymer extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -671065907: /*representation*/ visitChild("representation", this.representation, visitor); break; // StringType
+        case -1268779017: /*format*/ visitChild("format", this.format, visitor); break; // CodeableConcept
+        case -1963501277: /*attachment*/ visitChild("attachment", this.attachment, visitor); break; // Attachment
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("representation", this.representation, visitor); // StringType
+        visitChild("format", this.format, visitor); // CodeableConcept
+        visitChild("attachment", this.attachment, visitor); // Attachment
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2498,6 +2620,33 @@ public class SubstancePolymer extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 94742904: /*class*/ visitChild("class", this.class_, visitor); break; // CodeableConcept
+        case 1846020210: /*geometry*/ visitChild("geometry", this.geometry, visitor); break; // CodeableConcept
+        case 997107577: /*copolymerConnectivity*/ visitChild("copolymerConnectivity", this.copolymerConnectivity, visitor); break; // CodeableConcept
+        case -684600932: /*modification*/ visitChild("modification", this.modification, visitor); break; // StringType
+        case -1622483765: /*monomerSet*/ visitChild("monomerSet", this.monomerSet, visitor); break; // SubstancePolymerMonomerSetComponent
+        case -934531685: /*repeat*/ visitChild("repeat", this.repeat, visitor); break; // SubstancePolymerRepeatComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("class", this.class_, visitor); // CodeableConcept
+        visitChild("geometry", this.geometry, visitor); // CodeableConcept
+        visitChild("copolymerConnectivity", this.copolymerConnectivity, visitor); // CodeableConcept
+        visitChild("modification", this.modification, visitor); // StringType
+        visitChild("monomerSet", this.monomerSet, visitor); // SubstancePolymerMonomerSetComponent
+        visitChild("repeat", this.repeat, visitor); // SubstancePolymerRepeatComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -473,6 +473,35 @@ public class SubstanceProtein extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1867548732: /*subunit*/ visitChild("subunit", this.subunit, visitor); break; // IntegerType
+        case 1349547969: /*sequence*/ visitChild("sequence", this.sequence, visitor); break; // StringType
+        case -1106363674: /*length*/ visitChild("length", this.length, visitor); break; // IntegerType
+        case 364621764: /*sequenceAttachment*/ visitChild("sequenceAttachment", this.sequenceAttachment, visitor); break; // Attachment
+        case -182796415: /*nTerminalModificationId*/ visitChild("nTerminalModificationId", this.nTerminalModificationId, visitor); break; // Identifier
+        case -1497395258: /*nTerminalModification*/ visitChild("nTerminalModification", this.nTerminalModification, visitor); break; // StringType
+        case -990303818: /*cTerminalModificationId*/ visitChild("cTerminalModificationId", this.cTerminalModificationId, visitor); break; // Identifier
+        case 472711995: /*cTerminalModification*/ visitChild("cTerminalModification", this.cTerminalModification, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("subunit", this.subunit, visitor); // IntegerType
+        visitChild("sequence", this.sequence, visitor); // StringType
+        visitChild("length", this.length, visitor); // IntegerType
+        visitChild("sequenceAttachment", this.sequenceAttachment, visitor); // Attachment
+        visitChild("nTerminalModificationId", this.nTerminalModificationId, visitor); // Identifier
+        visitChild("nTerminalModification", this.nTerminalModification, visitor); // StringType
+        visitChild("cTerminalModificationId", this.cTerminalModificationId, visitor); // Identifier
+        visitChild("cTerminalModification", this.cTerminalModification, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -924,6 +953,27 @@ public class SubstanceProtein extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 807711387: /*sequenceType*/ visitChild("sequenceType", this.sequenceType, visitor); break; // CodeableConcept
+        case -847111089: /*numberOfSubunits*/ visitChild("numberOfSubunits", this.numberOfSubunits, visitor); break; // IntegerType
+        case -1996102436: /*disulfideLinkage*/ visitChild("disulfideLinkage", this.disulfideLinkage, visitor); break; // StringType
+        case -1867548732: /*subunit*/ visitChild("subunit", this.subunit, visitor); break; // SubstanceProteinSubunitComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sequenceType", this.sequenceType, visitor); // CodeableConcept
+        visitChild("numberOfSubunits", this.numberOfSubunits, visitor); // IntegerType
+        visitChild("disulfideLinkage", this.disulfideLinkage, visitor); // StringType
+        visitChild("subunit", this.subunit, visitor); // SubstanceProteinSubunitComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -215,6 +215,25 @@ public class SubstanceReferenceInformation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1089463108: /*geneSequenceOrigin*/ visitChild("geneSequenceOrigin", this.geneSequenceOrigin, visitor); break; // CodeableConcept
+        case 3169045: /*gene*/ visitChild("gene", this.gene, visitor); break; // CodeableConcept
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("geneSequenceOrigin", this.geneSequenceOrigin, visitor); // CodeableConcept
+        visitChild("gene", this.gene, visitor); // CodeableConcept
+        visitChild("source", this.source, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -509,6 +528,25 @@ public class SubstanceReferenceInformation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case -1662836996: /*element*/ visitChild("element", this.element, visitor); break; // Identifier
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("element", this.element, visitor); // Identifier
+        visitChild("source", this.source, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1018,6 +1056,35 @@ public class SubstanceReferenceInformation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // Identifier
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1844104722: /*interaction*/ visitChild("interaction", this.interaction, visitor); break; // CodeableConcept
+        case 1316389074: /*organism*/ visitChild("organism", this.organism, visitor); break; // CodeableConcept
+        case 988662572: /*organismType*/ visitChild("organismType", this.organismType, visitor); break; // CodeableConcept
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // DataType
+        case -1424857166: /*amountType*/ visitChild("amountType", this.amountType, visitor); break; // CodeableConcept
+        case -896505829: /*source*/ visitChild("source", this.source, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("target", this.target, visitor); // Identifier
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("interaction", this.interaction, visitor); // CodeableConcept
+        visitChild("organism", this.organism, visitor); // CodeableConcept
+        visitChild("organismType", this.organismType, visitor); // CodeableConcept
+        visitChild("amount", this.amount, visitor); // DataType
+        visitChild("amountType", this.amountType, visitor); // CodeableConcept
+        visitChild("source", this.source, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1507,6 +1574,27 @@ public class SubstanceReferenceInformation extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 950398559: /*comment*/ visitChild("comment", this.comment, visitor); break; // StringType
+        case 3169045: /*gene*/ visitChild("gene", this.gene, visitor); break; // SubstanceReferenceInformationGeneComponent
+        case -94918105: /*geneElement*/ visitChild("geneElement", this.geneElement, visitor); break; // SubstanceReferenceInformationGeneElementComponent
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // SubstanceReferenceInformationTargetComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("comment", this.comment, visitor); // StringType
+        visitChild("gene", this.gene, visitor); // SubstanceReferenceInformationGeneComponent
+        visitChild("geneElement", this.geneElement, visitor); // SubstanceReferenceInformationGeneElementComponent
+        visitChild("target", this.target, visitor); // SubstanceReferenceInformationTargetComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
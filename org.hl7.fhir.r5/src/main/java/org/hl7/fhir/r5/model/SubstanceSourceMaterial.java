@@ -177,6 +177,23 @@ public class SubstanceSourceMaterial extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1653751294: /*fraction*/ visitChild("fraction", this.fraction, visitor); break; // StringType
+        case -2115601151: /*materialType*/ visitChild("materialType", this.materialType, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("fraction", this.fraction, visitor); // StringType
+        visitChild("materialType", this.materialType, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -647,6 +664,35 @@ public class SubstanceSourceMaterial extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1281860764: /*family*/ visitChild("family", this.family, visitor); break; // CodeableConcept
+        case 98241006: /*genus*/ visitChild("genus", this.genus, visitor); break; // CodeableConcept
+        case -2008465092: /*species*/ visitChild("species", this.species, visitor); break; // CodeableConcept
+        case 1717161194: /*intraspecificType*/ visitChild("intraspecificType", this.intraspecificType, visitor); break; // CodeableConcept
+        case -1473085364: /*intraspecificDescription*/ visitChild("intraspecificDescription", this.intraspecificDescription, visitor); break; // StringType
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // SubstanceSourceMaterialOrganismAuthorComponent
+        case -1202757124: /*hybrid*/ visitChild("hybrid", this.hybrid, visitor); break; // SubstanceSourceMaterialOrganismHybridComponent
+        case -865996874: /*organismGeneral*/ visitChild("organismGeneral", this.organismGeneral, visitor); break; // SubstanceSourceMaterialOrganismOrganismGeneralComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("family", this.family, visitor); // CodeableConcept
+        visitChild("genus", this.genus, visitor); // CodeableConcept
+        visitChild("species", this.species, visitor); // CodeableConcept
+        visitChild("intraspecificType", this.intraspecificType, visitor); // CodeableConcept
+        visitChild("intraspecificDescription", this.intraspecificDescription, visitor); // StringType
+        visitChild("author", this.author, visitor); // SubstanceSourceMaterialOrganismAuthorComponent
+        visitChild("hybrid", this.hybrid, visitor); // SubstanceSourceMaterialOrganismHybridComponent
+        visitChild("organismGeneral", this.organismGeneral, visitor); // SubstanceSourceMaterialOrganismOrganismGeneralComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -974,6 +1020,23 @@ public class SubstanceSourceMaterial extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1501337755: /*authorType*/ visitChild("authorType", this.authorType, visitor); break; // CodeableConcept
+        case -166185615: /*authorDescription*/ visitChild("authorDescription", this.authorDescription, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("authorType", this.authorType, visitor); // CodeableConcept
+        visitChild("authorDescription", this.authorDescription, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1389,6 +1452,29 @@ public class SubstanceSourceMaterial extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1179977063: /*maternalOrganismId*/ visitChild("maternalOrganismId", this.maternalOrganismId, visitor); break; // StringType
+        case -86441847: /*maternalOrganismName*/ visitChild("maternalOrganismName", this.maternalOrganismName, visitor); break; // StringType
+        case 123773174: /*paternalOrganismId*/ visitChild("paternalOrganismId", this.paternalOrganismId, visitor); break; // StringType
+        case -1312914522: /*paternalOrganismName*/ visitChild("paternalOrganismName", this.paternalOrganismName, visitor); break; // StringType
+        case 1572734806: /*hybridType*/ visitChild("hybridType", this.hybridType, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("maternalOrganismId", this.maternalOrganismId, visitor); // StringType
+        visitChild("maternalOrganismName", this.maternalOrganismName, visitor); // StringType
+        visitChild("paternalOrganismId", this.paternalOrganismId, visitor); // StringType
+        visitChild("paternalOrganismName", this.paternalOrganismName, visitor); // StringType
+        visitChild("hybridType", this.hybridType, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1712,6 +1798,27 @@ public class SubstanceSourceMaterial extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -710537653: /*kingdom*/ visitChild("kingdom", this.kingdom, visitor); break; // CodeableConcept
+        case -988743965: /*phylum*/ visitChild("phylum", this.phylum, visitor); break; // CodeableConcept
+        case 94742904: /*class*/ visitChild("class", this.class_, visitor); break; // CodeableConcept
+        case 106006350: /*order*/ visitChild("order", this.order, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("kingdom", this.kingdom, visitor); // CodeableConcept
+        visitChild("phylum", this.phylum, visitor); // CodeableConcept
+        visitChild("class", this.class_, visitor); // CodeableConcept
+        visitChild("order", this.order, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1954,6 +2061,23 @@ public class SubstanceSourceMaterial extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3433459: /*part*/ visitChild("part", this.part, visitor); break; // CodeableConcept
+        case 893437128: /*partLocation*/ visitChild("partLocation", this.partLocation, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("part", this.part, visitor); // CodeableConcept
+        visitChild("partLocation", this.partLocation, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2753,6 +2877,45 @@ public class SubstanceSourceMaterial extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1253081034: /*sourceMaterialClass*/ visitChild("sourceMaterialClass", this.sourceMaterialClass, visitor); break; // CodeableConcept
+        case 1622665404: /*sourceMaterialType*/ visitChild("sourceMaterialType", this.sourceMaterialType, visitor); break; // CodeableConcept
+        case -1238066353: /*sourceMaterialState*/ visitChild("sourceMaterialState", this.sourceMaterialState, visitor); break; // CodeableConcept
+        case -1965449843: /*organismId*/ visitChild("organismId", this.organismId, visitor); break; // Identifier
+        case 988460669: /*organismName*/ visitChild("organismName", this.organismName, visitor); break; // StringType
+        case -675437663: /*parentSubstanceId*/ visitChild("parentSubstanceId", this.parentSubstanceId, visitor); break; // Identifier
+        case -555382895: /*parentSubstanceName*/ visitChild("parentSubstanceName", this.parentSubstanceName, visitor); break; // StringType
+        case 57176467: /*countryOfOrigin*/ visitChild("countryOfOrigin", this.countryOfOrigin, visitor); break; // CodeableConcept
+        case -1988836681: /*geographicalLocation*/ visitChild("geographicalLocation", this.geographicalLocation, visitor); break; // StringType
+        case 391529091: /*developmentStage*/ visitChild("developmentStage", this.developmentStage, visitor); break; // CodeableConcept
+        case 1472689306: /*fractionDescription*/ visitChild("fractionDescription", this.fractionDescription, visitor); break; // SubstanceSourceMaterialFractionDescriptionComponent
+        case 1316389074: /*organism*/ visitChild("organism", this.organism, visitor); break; // SubstanceSourceMaterialOrganismComponent
+        case -1803623927: /*partDescription*/ visitChild("partDescription", this.partDescription, visitor); break; // SubstanceSourceMaterialPartDescriptionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("sourceMaterialClass", this.sourceMaterialClass, visitor); // CodeableConcept
+        visitChild("sourceMaterialType", this.sourceMaterialType, visitor); // CodeableConcept
+        visitChild("sourceMaterialState", this.sourceMaterialState, visitor); // CodeableConcept
+        visitChild("organismId", this.organismId, visitor); // Identifier
+        visitChild("organismName", this.organismName, visitor); // StringType
+        visitChild("parentSubstanceId", this.parentSubstanceId, visitor); // Identifier
+        visitChild("parentSubstanceName", this.parentSubstanceName, visitor); // StringType
+        visitChild("countryOfOrigin", this.countryOfOrigin, visitor); // CodeableConcept
+        visitChild("geographicalLocation", this.geographicalLocation, visitor); // StringType
+        visitChild("developmentStage", this.developmentStage, visitor); // CodeableConcept
+        visitChild("fractionDescription", this.fractionDescription, visitor); // SubstanceSourceMaterialFractionDescriptionComponent
+        visitChild("organism", this.organism, visitor); // SubstanceSourceMaterialOrganismComponent
+        visitChild("partDescription", this.partDescription, visitor); // SubstanceSourceMaterialPartDescriptionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -313,6 +313,23 @@ public class SupplyDelivery extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("item", this.item, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1052,6 +1069,41 @@ public class SupplyDelivery extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<SupplyDeliveryStatus>
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1993333233: /*suppliedItem*/ visitChild("suppliedItem", this.suppliedItem, visitor); break; // SupplyDeliverySuppliedItemComponent
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case -1663305268: /*supplier*/ visitChild("supplier", this.supplier, visitor); break; // Reference
+        case -1429847026: /*destination*/ visitChild("destination", this.destination, visitor); break; // Reference
+        case -808719889: /*receiver*/ visitChild("receiver", this.receiver, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<SupplyDeliveryStatus>
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("suppliedItem", this.suppliedItem, visitor); // SupplyDeliverySuppliedItemComponent
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("supplier", this.supplier, visitor); // Reference
+        visitChild("destination", this.destination, visitor); // Reference
+        visitChild("receiver", this.receiver, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -392,6 +392,23 @@ public class SupplyRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1371,6 +1388,51 @@ public class SupplyRequest extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<SupplyRequestStatus>
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case 50511102: /*category*/ visitChild("category", this.category, visitor); break; // CodeableConcept
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case 1077755236: /*deliverFor*/ visitChild("deliverFor", this.deliverFor, visitor); break; // Reference
+        case 3242771: /*item*/ visitChild("item", this.item, visitor); break; // CodeableReference
+        case -1285004149: /*quantity*/ visitChild("quantity", this.quantity, visitor); break; // Quantity
+        case 1954460585: /*parameter*/ visitChild("parameter", this.parameter, visitor); break; // SupplyRequestParameterComponent
+        case 1687874001: /*occurrence*/ visitChild("occurrence", this.occurrence, visitor); break; // DataType
+        case -1500852503: /*authoredOn*/ visitChild("authoredOn", this.authoredOn, visitor); break; // DateTimeType
+        case 693933948: /*requester*/ visitChild("requester", this.requester, visitor); break; // Reference
+        case -1663305268: /*supplier*/ visitChild("supplier", this.supplier, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case -949323153: /*deliverFrom*/ visitChild("deliverFrom", this.deliverFrom, visitor); break; // Reference
+        case -242327936: /*deliverTo*/ visitChild("deliverTo", this.deliverTo, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<SupplyRequestStatus>
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("category", this.category, visitor); // CodeableConcept
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("deliverFor", this.deliverFor, visitor); // Reference
+        visitChild("item", this.item, visitor); // CodeableReference
+        visitChild("quantity", this.quantity, visitor); // Quantity
+        visitChild("parameter", this.parameter, visitor); // SupplyRequestParameterComponent
+        visitChild("occurrence", this.occurrence, visitor); // DataType
+        visitChild("authoredOn", this.authoredOn, visitor); // DateTimeType
+        visitChild("requester", this.requester, visitor); // Reference
+        visitChild("supplier", this.supplier, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("deliverFrom", this.deliverFrom, visitor); // Reference
+        visitChild("deliverTo", this.deliverTo, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -628,6 +628,23 @@ public class Task extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1380938712: /*function*/ visitChild("function", this.function, visitor); break; // CodeableConcept
+        case 92645877: /*actor*/ visitChild("actor", this.actor, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("function", this.function, visitor); // CodeableConcept
+        visitChild("actor", this.actor, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -924,6 +941,25 @@ public class Task extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 984367650: /*repetitions*/ visitChild("repetitions", this.repetitions, visitor); break; // PositiveIntType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 820081177: /*recipient*/ visitChild("recipient", this.recipient, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("repetitions", this.repetitions, visitor); // PositiveIntType
+        visitChild("period", this.period, visitor); // Period
+        visitChild("recipient", this.recipient, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2025,6 +2061,23 @@ public class Task extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3321,6 +3374,23 @@ public class Task extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5345,6 +5415,85 @@ public class Task extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -445338488: /*groupIdentifier*/ visitChild("groupIdentifier", this.groupIdentifier, visitor); break; // Identifier
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<TaskStatus>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableReference
+        case 2008591314: /*businessStatus*/ visitChild("businessStatus", this.businessStatus, visitor); break; // CodeableConcept
+        case -1183762788: /*intent*/ visitChild("intent", this.intent, visitor); break; // Enumeration<TaskIntent>
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case -1788508167: /*doNotPerform*/ visitChild("doNotPerform", this.doNotPerform, visitor); break; // BooleanType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case 101577: /*for*/ visitChild("for", this.for_, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -897241393: /*requestedPeriod*/ visitChild("requestedPeriod", this.requestedPeriod, visitor); break; // Period
+        case 1218624249: /*executionPeriod*/ visitChild("executionPeriod", this.executionPeriod, visitor); break; // Period
+        case -1500852503: /*authoredOn*/ visitChild("authoredOn", this.authoredOn, visitor); break; // DateTimeType
+        case 1959003007: /*lastModified*/ visitChild("lastModified", this.lastModified, visitor); break; // DateTimeType
+        case 693933948: /*requester*/ visitChild("requester", this.requester, visitor); break; // Reference
+        case 2072749056: /*requestedPerformer*/ visitChild("requestedPerformer", this.requestedPerformer, visitor); break; // CodeableReference
+        case 106164915: /*owner*/ visitChild("owner", this.owner, visitor); break; // Reference
+        case 481140686: /*performer*/ visitChild("performer", this.performer, visitor); break; // TaskPerformerComponent
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 73049818: /*insurance*/ visitChild("insurance", this.insurance, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 1538891575: /*relevantHistory*/ visitChild("relevantHistory", this.relevantHistory, visitor); break; // Reference
+        case -1561062452: /*restriction*/ visitChild("restriction", this.restriction, visitor); break; // TaskRestrictionComponent
+        case 100358090: /*input*/ visitChild("input", this.input, visitor); break; // TaskInputComponent
+        case -1005512447: /*output*/ visitChild("output", this.output, visitor); break; // TaskOutputComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("groupIdentifier", this.groupIdentifier, visitor); // Identifier
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<TaskStatus>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableReference
+        visitChild("businessStatus", this.businessStatus, visitor); // CodeableConcept
+        visitChild("intent", this.intent, visitor); // Enumeration<TaskIntent>
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("doNotPerform", this.doNotPerform, visitor); // BooleanType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("for", this.for_, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("requestedPeriod", this.requestedPeriod, visitor); // Period
+        visitChild("executionPeriod", this.executionPeriod, visitor); // Period
+        visitChild("authoredOn", this.authoredOn, visitor); // DateTimeType
+        visitChild("lastModified", this.lastModified, visitor); // DateTimeType
+        visitChild("requester", this.requester, visitor); // Reference
+        visitChild("requestedPerformer", this.requestedPerformer, visitor); // CodeableReference
+        visitChild("owner", this.owner, visitor); // Reference
+        visitChild("performer", this.performer, visitor); // TaskPerformerComponent
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("insurance", this.insurance, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("relevantHistory", this.relevantHistory, visitor); // Reference
+        visitChild("restriction", this.restriction, visitor); // TaskRestrictionComponent
+        visitChild("input", this.input, visitor); // TaskInputComponent
+        visitChild("output", this.output, visitor); // TaskOutputComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
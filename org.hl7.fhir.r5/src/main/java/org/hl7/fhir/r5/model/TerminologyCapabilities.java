@@ -320,6 +320,23 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("version", this.version, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -584,6 +601,23 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UrlType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("url", this.url, visitor); // UrlType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -967,6 +1001,27 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116076: /*uri*/ visitChild("uri", this.uri, visitor); break; // CanonicalType
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // TerminologyCapabilitiesCodeSystemVersionComponent
+        case 951530617: /*content*/ visitChild("content", this.content, visitor); break; // Enumeration<CodeSystemContentMode>
+        case -499084711: /*subsumption*/ visitChild("subsumption", this.subsumption, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("uri", this.uri, visitor); // CanonicalType
+        visitChild("version", this.version, visitor); // TerminologyCapabilitiesCodeSystemVersionComponent
+        visitChild("content", this.content, visitor); // Enumeration<CodeSystemContentMode>
+        visitChild("subsumption", this.subsumption, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1520,6 +1575,31 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // StringType
+        case 965025207: /*isDefault*/ visitChild("isDefault", this.isDefault, visitor); break; // BooleanType
+        case 1248023381: /*compositional*/ visitChild("compositional", this.compositional, visitor); break; // BooleanType
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // Enumeration<CommonLanguages>
+        case -1274492040: /*filter*/ visitChild("filter", this.filter, visitor); break; // TerminologyCapabilitiesCodeSystemVersionFilterComponent
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // CodeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // StringType
+        visitChild("isDefault", this.isDefault, visitor); // BooleanType
+        visitChild("compositional", this.compositional, visitor); // BooleanType
+        visitChild("language", this.language, visitor); // Enumeration<CommonLanguages>
+        visitChild("filter", this.filter, visitor); // TerminologyCapabilitiesCodeSystemVersionFilterComponent
+        visitChild("property", this.property, visitor); // CodeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1868,6 +1948,23 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 3553: /*op*/ visitChild("op", this.op, visitor); break; // CodeType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("op", this.op, visitor); // CodeType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2301,6 +2398,29 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 857636745: /*hierarchical*/ visitChild("hierarchical", this.hierarchical, visitor); break; // BooleanType
+        case -995747956: /*paging*/ visitChild("paging", this.paging, visitor); break; // BooleanType
+        case -1010022050: /*incomplete*/ visitChild("incomplete", this.incomplete, visitor); break; // BooleanType
+        case 1954460585: /*parameter*/ visitChild("parameter", this.parameter, visitor); break; // TerminologyCapabilitiesExpansionParameterComponent
+        case 1469359877: /*textFilter*/ visitChild("textFilter", this.textFilter, visitor); break; // MarkdownType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("hierarchical", this.hierarchical, visitor); // BooleanType
+        visitChild("paging", this.paging, visitor); // BooleanType
+        visitChild("incomplete", this.incomplete, visitor); // BooleanType
+        visitChild("parameter", this.parameter, visitor); // TerminologyCapabilitiesExpansionParameterComponent
+        visitChild("textFilter", this.textFilter, visitor); // MarkdownType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2611,6 +2731,23 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // CodeType
+        case 1587405498: /*documentation*/ visitChild("documentation", this.documentation, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // CodeType
+        visitChild("documentation", this.documentation, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2816,6 +2953,21 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1225497630: /*translations*/ visitChild("translations", this.translations, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("translations", this.translations, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3008,6 +3160,21 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 866566527: /*needsMap*/ visitChild("needsMap", this.needsMap, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("needsMap", this.needsMap, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3192,6 +3359,21 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1840647503: /*translation*/ visitChild("translation", this.translation, visitor); break; // BooleanType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("translation", this.translation, visitor); // BooleanType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4782,6 +4964,73 @@ public class TerminologyCapabilities extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 3292052: /*kind*/ visitChild("kind", this.kind, visitor); break; // Enumeration<CapabilityStatementKind>
+        case 1319330215: /*software*/ visitChild("software", this.software, visitor); break; // TerminologyCapabilitiesSoftwareComponent
+        case 1683336114: /*implementation*/ visitChild("implementation", this.implementation, visitor); break; // TerminologyCapabilitiesImplementationComponent
+        case 1391591896: /*lockedDate*/ visitChild("lockedDate", this.lockedDate, visitor); break; // BooleanType
+        case -916511108: /*codeSystem*/ visitChild("codeSystem", this.codeSystem, visitor); break; // TerminologyCapabilitiesCodeSystemComponent
+        case 17878207: /*expansion*/ visitChild("expansion", this.expansion, visitor); break; // TerminologyCapabilitiesExpansionComponent
+        case -935519755: /*codeSearch*/ visitChild("codeSearch", this.codeSearch, visitor); break; // Enumeration<CodeSearchSupport>
+        case 1080737827: /*validateCode*/ visitChild("validateCode", this.validateCode, visitor); break; // TerminologyCapabilitiesValidateCodeComponent
+        case -1840647503: /*translation*/ visitChild("translation", this.translation, visitor); break; // TerminologyCapabilitiesTranslationComponent
+        case 866552379: /*closure*/ visitChild("closure", this.closure, visitor); break; // TerminologyCapabilitiesClosureComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("kind", this.kind, visitor); // Enumeration<CapabilityStatementKind>
+        visitChild("software", this.software, visitor); // TerminologyCapabilitiesSoftwareComponent
+        visitChild("implementation", this.implementation, visitor); // TerminologyCapabilitiesImplementationComponent
+        visitChild("lockedDate", this.lockedDate, visitor); // BooleanType
+        visitChild("codeSystem", this.codeSystem, visitor); // TerminologyCapabilitiesCodeSystemComponent
+        visitChild("expansion", this.expansion, visitor); // TerminologyCapabilitiesExpansionComponent
+        visitChild("codeSearch", this.codeSearch, visitor); // Enumeration<CodeSearchSupport>
+        visitChild("validateCode", this.validateCode, visitor); // TerminologyCapabilitiesValidateCodeComponent
+        visitChild("translation", this.translation, visitor); // TerminologyCapabilitiesTranslationComponent
+        visitChild("closure", this.closure, visitor); // TerminologyCapabilitiesClosureComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -784,6 +784,25 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<TestReportParticipantType>
+        case 116076: /*uri*/ visitChild("uri", this.uri, visitor); break; // UriType
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<TestReportParticipantType>
+        visitChild("uri", this.uri, visitor); // UriType
+        visitChild("display", this.display, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1015,6 +1034,21 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // SetupActionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("action", this.action, visitor); // SetupActionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1216,6 +1250,23 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // SetupActionOperationComponent
+        case -1408208058: /*assert*/ visitChild("assert", this.assert_, visitor); break; // SetupActionAssertComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("operation", this.operation, visitor); // SetupActionOperationComponent
+        visitChild("assert", this.assert_, visitor); // SetupActionAssertComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1542,6 +1593,25 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -934426595: /*result*/ visitChild("result", this.result, visitor); break; // Enumeration<TestReportActionResult>
+        case 954925063: /*message*/ visitChild("message", this.message, visitor); break; // MarkdownType
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // UriType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("result", this.result, visitor); // Enumeration<TestReportActionResult>
+        visitChild("message", this.message, visitor); // MarkdownType
+        visitChild("detail", this.detail, visitor); // UriType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1948,6 +2018,27 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -934426595: /*result*/ visitChild("result", this.result, visitor); break; // Enumeration<TestReportActionResult>
+        case 954925063: /*message*/ visitChild("message", this.message, visitor); break; // MarkdownType
+        case -1335224239: /*detail*/ visitChild("detail", this.detail, visitor); break; // StringType
+        case 363387971: /*requirement*/ visitChild("requirement", this.requirement, visitor); break; // SetupActionAssertRequirementComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("result", this.result, visitor); // Enumeration<TestReportActionResult>
+        visitChild("message", this.message, visitor); // MarkdownType
+        visitChild("detail", this.detail, visitor); // StringType
+        visitChild("requirement", this.requirement, visitor); // SetupActionAssertRequirementComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2190,6 +2281,21 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("link", this.link, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2514,6 +2620,25 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // TestActionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("action", this.action, visitor); // TestActionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2743,6 +2868,23 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // SetupActionOperationComponent
+        case -1408208058: /*assert*/ visitChild("assert", this.assert_, visitor); break; // SetupActionAssertComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("operation", this.operation, visitor); // SetupActionOperationComponent
+        visitChild("assert", this.assert_, visitor); // SetupActionAssertComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2958,6 +3100,21 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // TeardownActionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("action", this.action, visitor); // TeardownActionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3133,6 +3290,21 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // SetupActionOperationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("operation", this.operation, visitor); // SetupActionOperationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3920,6 +4092,43 @@ public class TestReport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<TestReportStatus>
+        case 1712049149: /*testScript*/ visitChild("testScript", this.testScript, visitor); break; // CanonicalType
+        case -934426595: /*result*/ visitChild("result", this.result, visitor); break; // Enumeration<TestReportResult>
+        case 109264530: /*score*/ visitChild("score", this.score, visitor); break; // DecimalType
+        case -877169473: /*tester*/ visitChild("tester", this.tester, visitor); break; // StringType
+        case -1179159893: /*issued*/ visitChild("issued", this.issued, visitor); break; // DateTimeType
+        case 767422259: /*participant*/ visitChild("participant", this.participant, visitor); break; // TestReportParticipantComponent
+        case 109329021: /*setup*/ visitChild("setup", this.setup, visitor); break; // TestReportSetupComponent
+        case 3556498: /*test*/ visitChild("test", this.test, visitor); break; // TestReportTestComponent
+        case -1663474172: /*teardown*/ visitChild("teardown", this.teardown, visitor); break; // TestReportTeardownComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<TestReportStatus>
+        visitChild("testScript", this.testScript, visitor); // CanonicalType
+        visitChild("result", this.result, visitor); // Enumeration<TestReportResult>
+        visitChild("score", this.score, visitor); // DecimalType
+        visitChild("tester", this.tester, visitor); // StringType
+        visitChild("issued", this.issued, visitor); // DateTimeType
+        visitChild("participant", this.participant, visitor); // TestReportParticipantComponent
+        visitChild("setup", this.setup, visitor); // TestReportSetupComponent
+        visitChild("test", this.test, visitor); // TestReportTestComponent
+        visitChild("teardown", this.teardown, visitor); // TestReportTeardownComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1676,6 +1676,25 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 100346066: /*index*/ visitChild("index", this.index, visitor); break; // IntegerType
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // Coding
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UrlType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("index", this.index, visitor); // IntegerType
+        visitChild("profile", this.profile, visitor); // Coding
+        visitChild("url", this.url, visitor); // UrlType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1991,6 +2010,25 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 100346066: /*index*/ visitChild("index", this.index, visitor); break; // IntegerType
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // Coding
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UrlType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("index", this.index, visitor); // IntegerType
+        visitChild("profile", this.profile, visitor); // Coding
+        visitChild("url", this.url, visitor); // UrlType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2282,6 +2320,23 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // TestScriptMetadataLinkComponent
+        case -783669992: /*capability*/ visitChild("capability", this.capability, visitor); break; // TestScriptMetadataCapabilityComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("link", this.link, visitor); // TestScriptMetadataLinkComponent
+        visitChild("capability", this.capability, visitor); // TestScriptMetadataCapabilityComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2554,6 +2609,23 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("description", this.description, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3127,6 +3199,33 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -393139297: /*required*/ visitChild("required", this.required, visitor); break; // BooleanType
+        case -1109784050: /*validated*/ visitChild("validated", this.validated, visitor); break; // BooleanType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1008619738: /*origin*/ visitChild("origin", this.origin, visitor); break; // IntegerType
+        case -1429847026: /*destination*/ visitChild("destination", this.destination, visitor); break; // IntegerType
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // UriType
+        case -1487597642: /*capabilities*/ visitChild("capabilities", this.capabilities, visitor); break; // CanonicalType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("required", this.required, visitor); // BooleanType
+        visitChild("validated", this.validated, visitor); // BooleanType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("origin", this.origin, visitor); // IntegerType
+        visitChild("destination", this.destination, visitor); // IntegerType
+        visitChild("link", this.link, visitor); // UriType
+        visitChild("capabilities", this.capabilities, visitor); // CanonicalType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3480,6 +3579,25 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1228798510: /*artifact*/ visitChild("artifact", this.artifact, visitor); break; // CanonicalType
+        case 1374858133: /*conformance*/ visitChild("conformance", this.conformance, visitor); break; // CodeableConcept
+        case 106629499: /*phase*/ visitChild("phase", this.phase, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("artifact", this.artifact, visitor); // CanonicalType
+        visitChild("conformance", this.conformance, visitor); // CodeableConcept
+        visitChild("phase", this.phase, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3792,6 +3910,25 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 73154411: /*autocreate*/ visitChild("autocreate", this.autocreate, visitor); break; // BooleanType
+        case 89990170: /*autodelete*/ visitChild("autodelete", this.autodelete, visitor); break; // BooleanType
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("autocreate", this.autocreate, visitor); // BooleanType
+        visitChild("autodelete", this.autodelete, visitor); // BooleanType
+        visitChild("resource", this.resource, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4427,6 +4564,35 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -659125328: /*defaultValue*/ visitChild("defaultValue", this.defaultValue, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        case 1160732269: /*headerField*/ visitChild("headerField", this.headerField, visitor); break; // StringType
+        case 3202695: /*hint*/ visitChild("hint", this.hint, visitor); break; // StringType
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case 1746327190: /*sourceId*/ visitChild("sourceId", this.sourceId, visitor); break; // IdType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("defaultValue", this.defaultValue, visitor); // StringType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("expression", this.expression, visitor); // StringType
+        visitChild("headerField", this.headerField, visitor); // StringType
+        visitChild("hint", this.hint, visitor); // StringType
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("sourceId", this.sourceId, visitor); // IdType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4725,6 +4891,21 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // SetupActionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("action", this.action, visitor); // SetupActionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4926,6 +5107,23 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // SetupActionOperationComponent
+        case -1408208058: /*assert*/ visitChild("assert", this.assert_, visitor); break; // SetupActionAssertComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("operation", this.operation, visitor); // SetupActionOperationComponent
+        visitChild("assert", this.assert_, visitor); // SetupActionAssertComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6053,6 +6251,53 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Coding
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // UriType
+        case 102727412: /*label*/ visitChild("label", this.label, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1423461112: /*accept*/ visitChild("accept", this.accept, visitor); break; // CodeType
+        case -389131437: /*contentType*/ visitChild("contentType", this.contentType, visitor); break; // CodeType
+        case -1429847026: /*destination*/ visitChild("destination", this.destination, visitor); break; // IntegerType
+        case -1760554218: /*encodeRequestUrl*/ visitChild("encodeRequestUrl", this.encodeRequestUrl, visitor); break; // BooleanType
+        case -1077554975: /*method*/ visitChild("method", this.method, visitor); break; // Enumeration<TestScriptRequestMethodCode>
+        case -1008619738: /*origin*/ visitChild("origin", this.origin, visitor); break; // IntegerType
+        case -995427962: /*params*/ visitChild("params", this.params, visitor); break; // StringType
+        case 1074158076: /*requestHeader*/ visitChild("requestHeader", this.requestHeader, visitor); break; // SetupActionOperationRequestHeaderComponent
+        case 693933066: /*requestId*/ visitChild("requestId", this.requestId, visitor); break; // IdType
+        case -633138884: /*responseId*/ visitChild("responseId", this.responseId, visitor); break; // IdType
+        case 1746327190: /*sourceId*/ visitChild("sourceId", this.sourceId, visitor); break; // IdType
+        case -441951604: /*targetId*/ visitChild("targetId", this.targetId, visitor); break; // IdType
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Coding
+        visitChild("resource", this.resource, visitor); // UriType
+        visitChild("label", this.label, visitor); // StringType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("accept", this.accept, visitor); // CodeType
+        visitChild("contentType", this.contentType, visitor); // CodeType
+        visitChild("destination", this.destination, visitor); // IntegerType
+        visitChild("encodeRequestUrl", this.encodeRequestUrl, visitor); // BooleanType
+        visitChild("method", this.method, visitor); // Enumeration<TestScriptRequestMethodCode>
+        visitChild("origin", this.origin, visitor); // IntegerType
+        visitChild("params", this.params, visitor); // StringType
+        visitChild("requestHeader", this.requestHeader, visitor); // SetupActionOperationRequestHeaderComponent
+        visitChild("requestId", this.requestId, visitor); // IdType
+        visitChild("responseId", this.responseId, visitor); // IdType
+        visitChild("sourceId", this.sourceId, visitor); // IdType
+        visitChild("targetId", this.targetId, visitor); // IdType
+        visitChild("url", this.url, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -6530,6 +6775,23 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 97427706: /*field*/ visitChild("field", this.field, visitor); break; // StringType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("field", this.field, visitor); // StringType
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8155,6 +8417,69 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 102727412: /*label*/ visitChild("label", this.label, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -962590849: /*direction*/ visitChild("direction", this.direction, visitor); break; // Enumeration<AssertionDirectionType>
+        case 2081856758: /*compareToSourceId*/ visitChild("compareToSourceId", this.compareToSourceId, visitor); break; // StringType
+        case -1415702669: /*compareToSourceExpression*/ visitChild("compareToSourceExpression", this.compareToSourceExpression, visitor); break; // StringType
+        case -790206144: /*compareToSourcePath*/ visitChild("compareToSourcePath", this.compareToSourcePath, visitor); break; // StringType
+        case -389131437: /*contentType*/ visitChild("contentType", this.contentType, visitor); break; // CodeType
+        case 1448452259: /*defaultManualCompletion*/ visitChild("defaultManualCompletion", this.defaultManualCompletion, visitor); break; // Enumeration<AssertionManualCompletionType>
+        case -1795452264: /*expression*/ visitChild("expression", this.expression, visitor); break; // StringType
+        case 1160732269: /*headerField*/ visitChild("headerField", this.headerField, visitor); break; // StringType
+        case 818925001: /*minimumId*/ visitChild("minimumId", this.minimumId, visitor); break; // StringType
+        case 1001488901: /*navigationLinks*/ visitChild("navigationLinks", this.navigationLinks, visitor); break; // BooleanType
+        case -500553564: /*operator*/ visitChild("operator", this.operator, visitor); break; // Enumeration<AssertionOperatorType>
+        case 3433509: /*path*/ visitChild("path", this.path, visitor); break; // StringType
+        case 1217874000: /*requestMethod*/ visitChild("requestMethod", this.requestMethod, visitor); break; // Enumeration<TestScriptRequestMethodCode>
+        case 37099616: /*requestURL*/ visitChild("requestURL", this.requestURL, visitor); break; // StringType
+        case -341064690: /*resource*/ visitChild("resource", this.resource, visitor); break; // UriType
+        case -340323263: /*response*/ visitChild("response", this.response, visitor); break; // Enumeration<AssertionResponseTypes>
+        case 1438723534: /*responseCode*/ visitChild("responseCode", this.responseCode, visitor); break; // StringType
+        case 1746327190: /*sourceId*/ visitChild("sourceId", this.sourceId, visitor); break; // IdType
+        case -626616719: /*stopTestOnFail*/ visitChild("stopTestOnFail", this.stopTestOnFail, visitor); break; // BooleanType
+        case 1555541038: /*validateProfileId*/ visitChild("validateProfileId", this.validateProfileId, visitor); break; // IdType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        case -481159832: /*warningOnly*/ visitChild("warningOnly", this.warningOnly, visitor); break; // BooleanType
+        case 363387971: /*requirement*/ visitChild("requirement", this.requirement, visitor); break; // SetupActionAssertRequirementComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("label", this.label, visitor); // StringType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("direction", this.direction, visitor); // Enumeration<AssertionDirectionType>
+        visitChild("compareToSourceId", this.compareToSourceId, visitor); // StringType
+        visitChild("compareToSourceExpression", this.compareToSourceExpression, visitor); // StringType
+        visitChild("compareToSourcePath", this.compareToSourcePath, visitor); // StringType
+        visitChild("contentType", this.contentType, visitor); // CodeType
+        visitChild("defaultManualCompletion", this.defaultManualCompletion, visitor); // Enumeration<AssertionManualCompletionType>
+        visitChild("expression", this.expression, visitor); // StringType
+        visitChild("headerField", this.headerField, visitor); // StringType
+        visitChild("minimumId", this.minimumId, visitor); // StringType
+        visitChild("navigationLinks", this.navigationLinks, visitor); // BooleanType
+        visitChild("operator", this.operator, visitor); // Enumeration<AssertionOperatorType>
+        visitChild("path", this.path, visitor); // StringType
+        visitChild("requestMethod", this.requestMethod, visitor); // Enumeration<TestScriptRequestMethodCode>
+        visitChild("requestURL", this.requestURL, visitor); // StringType
+        visitChild("resource", this.resource, visitor); // UriType
+        visitChild("response", this.response, visitor); // Enumeration<AssertionResponseTypes>
+        visitChild("responseCode", this.responseCode, visitor); // StringType
+        visitChild("sourceId", this.sourceId, visitor); // IdType
+        visitChild("stopTestOnFail", this.stopTestOnFail, visitor); // BooleanType
+        visitChild("validateProfileId", this.validateProfileId, visitor); // IdType
+        visitChild("value", this.value, visitor); // StringType
+        visitChild("warningOnly", this.warningOnly, visitor); // BooleanType
+        visitChild("requirement", this.requirement, visitor); // SetupActionAssertRequirementComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -8702,6 +9027,21 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3321850: /*link*/ visitChild("link", this.link, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("link", this.link, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -9026,6 +9366,25 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // TestActionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("action", this.action, visitor); // TestActionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -9255,6 +9614,23 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // SetupActionOperationComponent
+        case -1408208058: /*assert*/ visitChild("assert", this.assert_, visitor); break; // SetupActionAssertComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("operation", this.operation, visitor); // SetupActionOperationComponent
+        visitChild("assert", this.assert_, visitor); // SetupActionAssertComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -9470,6 +9846,21 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1422950858: /*action*/ visitChild("action", this.action, visitor); break; // TeardownActionComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("action", this.action, visitor); // TeardownActionComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -9645,6 +10036,21 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1662702951: /*operation*/ visitChild("operation", this.operation, visitor); break; // SetupActionOperationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("operation", this.operation, visitor); // SetupActionOperationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -11348,6 +11754,73 @@ public class TestScript extends CanonicalResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case -1008619738: /*origin*/ visitChild("origin", this.origin, visitor); break; // TestScriptOriginComponent
+        case -1429847026: /*destination*/ visitChild("destination", this.destination, visitor); break; // TestScriptDestinationComponent
+        case -450004177: /*metadata*/ visitChild("metadata", this.metadata, visitor); break; // TestScriptMetadataComponent
+        case 109264468: /*scope*/ visitChild("scope", this.scope, visitor); break; // TestScriptScopeComponent
+        case -843449847: /*fixture*/ visitChild("fixture", this.fixture, visitor); break; // TestScriptFixtureComponent
+        case -309425751: /*profile*/ visitChild("profile", this.profile, visitor); break; // CanonicalType
+        case -1249586564: /*variable*/ visitChild("variable", this.variable, visitor); break; // TestScriptVariableComponent
+        case 109329021: /*setup*/ visitChild("setup", this.setup, visitor); break; // TestScriptSetupComponent
+        case 3556498: /*test*/ visitChild("test", this.test, visitor); break; // TestScriptTestComponent
+        case -1663474172: /*teardown*/ visitChild("teardown", this.teardown, visitor); break; // TestScriptTeardownComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("origin", this.origin, visitor); // TestScriptOriginComponent
+        visitChild("destination", this.destination, visitor); // TestScriptDestinationComponent
+        visitChild("metadata", this.metadata, visitor); // TestScriptMetadataComponent
+        visitChild("scope", this.scope, visitor); // TestScriptScopeComponent
+        visitChild("fixture", this.fixture, visitor); // TestScriptFixtureComponent
+        visitChild("profile", this.profile, visitor); // CanonicalType
+        visitChild("variable", this.variable, visitor); // TestScriptVariableComponent
+        visitChild("setup", this.setup, visitor); // TestScriptSetupComponent
+        visitChild("test", this.test, visitor); // TestScriptTestComponent
+        visitChild("teardown", this.teardown, visitor); // TestScriptTeardownComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1767,6 +1767,49 @@ Normal practice is to use the 'mo' code as a calendar month when calculating the
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1383205195: /*bounds*/ visitChild("bounds", this.bounds, visitor); break; // DataType
+        case 94851343: /*count*/ visitChild("count", this.count, visitor); break; // PositiveIntType
+        case -372044331: /*countMax*/ visitChild("countMax", this.countMax, visitor); break; // PositiveIntType
+        case -1992012396: /*duration*/ visitChild("duration", this.duration, visitor); break; // DecimalType
+        case -478083280: /*durationMax*/ visitChild("durationMax", this.durationMax, visitor); break; // DecimalType
+        case -1935429320: /*durationUnit*/ visitChild("durationUnit", this.durationUnit, visitor); break; // Enumeration<UnitsOfTime>
+        case -70023844: /*frequency*/ visitChild("frequency", this.frequency, visitor); break; // PositiveIntType
+        case 1273846376: /*frequencyMax*/ visitChild("frequencyMax", this.frequencyMax, visitor); break; // PositiveIntType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // DecimalType
+        case 566580195: /*periodMax*/ visitChild("periodMax", this.periodMax, visitor); break; // DecimalType
+        case 384367333: /*periodUnit*/ visitChild("periodUnit", this.periodUnit, visitor); break; // Enumeration<UnitsOfTime>
+        case -730552025: /*dayOfWeek*/ visitChild("dayOfWeek", this.dayOfWeek, visitor); break; // Enumeration<DaysOfWeek>
+        case 21434232: /*timeOfDay*/ visitChild("timeOfDay", this.timeOfDay, visitor); break; // TimeType
+        case 3648314: /*when*/ visitChild("when", this.when, visitor); break; // Enumeration<EventTiming>
+        case -1019779949: /*offset*/ visitChild("offset", this.offset, visitor); break; // UnsignedIntType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("bounds", this.bounds, visitor); // DataType
+        visitChild("count", this.count, visitor); // PositiveIntType
+        visitChild("countMax", this.countMax, visitor); // PositiveIntType
+        visitChild("duration", this.duration, visitor); // DecimalType
+        visitChild("durationMax", this.durationMax, visitor); // DecimalType
+        visitChild("durationUnit", this.durationUnit, visitor); // Enumeration<UnitsOfTime>
+        visitChild("frequency", this.frequency, visitor); // PositiveIntType
+        visitChild("frequencyMax", this.frequencyMax, visitor); // PositiveIntType
+        visitChild("period", this.period, visitor); // DecimalType
+        visitChild("periodMax", this.periodMax, visitor); // DecimalType
+        visitChild("periodUnit", this.periodUnit, visitor); // Enumeration<UnitsOfTime>
+        visitChild("dayOfWeek", this.dayOfWeek, visitor); // Enumeration<DaysOfWeek>
+        visitChild("timeOfDay", this.timeOfDay, visitor); // TimeType
+        visitChild("when", this.when, visitor); // Enumeration<EventTiming>
+        visitChild("offset", this.offset, visitor); // UnsignedIntType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2262,6 +2305,25 @@ Normal practice is to use the 'mo' code as a calendar month when calculating the
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 96891546: /*event*/ visitChild("event", this.event, visitor); break; // DateTimeType
+        case -934531685: /*repeat*/ visitChild("repeat", this.repeat, visitor); break; // TimingRepeatComponent
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("event", this.event, visitor); // DateTimeType
+        visitChild("repeat", this.repeat, visitor); // TimingRepeatComponent
+        visitChild("code", this.code, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -608,6 +608,25 @@ public class Transport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 984367650: /*repetitions*/ visitChild("repetitions", this.repetitions, visitor); break; // PositiveIntType
+        case -991726143: /*period*/ visitChild("period", this.period, visitor); break; // Period
+        case 820081177: /*recipient*/ visitChild("recipient", this.recipient, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("repetitions", this.repetitions, visitor); // PositiveIntType
+        visitChild("period", this.period, visitor); // Period
+        visitChild("recipient", this.recipient, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1709,6 +1728,23 @@ public class Transport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3005,6 +3041,23 @@ public class Transport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4946,6 +4999,83 @@ public class Transport extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 8911915: /*instantiatesCanonical*/ visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); break; // CanonicalType
+        case -1926393373: /*instantiatesUri*/ visitChild("instantiatesUri", this.instantiatesUri, visitor); break; // UriType
+        case -332612366: /*basedOn*/ visitChild("basedOn", this.basedOn, visitor); break; // Reference
+        case -445338488: /*groupIdentifier*/ visitChild("groupIdentifier", this.groupIdentifier, visitor); break; // Identifier
+        case -995410646: /*partOf*/ visitChild("partOf", this.partOf, visitor); break; // Reference
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<TransportStatus>
+        case 2051346646: /*statusReason*/ visitChild("statusReason", this.statusReason, visitor); break; // CodeableConcept
+        case -1183762788: /*intent*/ visitChild("intent", this.intent, visitor); break; // Enumeration<TransportIntent>
+        case -1165461084: /*priority*/ visitChild("priority", this.priority, visitor); break; // Enumeration<RequestPriority>
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // StringType
+        case 97604824: /*focus*/ visitChild("focus", this.focus, visitor); break; // Reference
+        case 101577: /*for*/ visitChild("for", this.for_, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case 1146641609: /*completionTime*/ visitChild("completionTime", this.completionTime, visitor); break; // DateTimeType
+        case -1500852503: /*authoredOn*/ visitChild("authoredOn", this.authoredOn, visitor); break; // DateTimeType
+        case 1959003007: /*lastModified*/ visitChild("lastModified", this.lastModified, visitor); break; // DateTimeType
+        case 693933948: /*requester*/ visitChild("requester", this.requester, visitor); break; // Reference
+        case -901444568: /*performerType*/ visitChild("performerType", this.performerType, visitor); break; // CodeableConcept
+        case 106164915: /*owner*/ visitChild("owner", this.owner, visitor); break; // Reference
+        case 1901043637: /*location*/ visitChild("location", this.location, visitor); break; // Reference
+        case 73049818: /*insurance*/ visitChild("insurance", this.insurance, visitor); break; // Reference
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        case 1538891575: /*relevantHistory*/ visitChild("relevantHistory", this.relevantHistory, visitor); break; // Reference
+        case -1561062452: /*restriction*/ visitChild("restriction", this.restriction, visitor); break; // TransportRestrictionComponent
+        case 100358090: /*input*/ visitChild("input", this.input, visitor); break; // ParameterComponent
+        case -1005512447: /*output*/ visitChild("output", this.output, visitor); break; // TransportOutputComponent
+        case -1788392125: /*requestedLocation*/ visitChild("requestedLocation", this.requestedLocation, visitor); break; // Reference
+        case -140429234: /*currentLocation*/ visitChild("currentLocation", this.currentLocation, visitor); break; // Reference
+        case -934964668: /*reason*/ visitChild("reason", this.reason, visitor); break; // CodeableReference
+        case 926934164: /*history*/ visitChild("history", this.history, visitor); break; // Reference
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("instantiatesCanonical", this.instantiatesCanonical, visitor); // CanonicalType
+        visitChild("instantiatesUri", this.instantiatesUri, visitor); // UriType
+        visitChild("basedOn", this.basedOn, visitor); // Reference
+        visitChild("groupIdentifier", this.groupIdentifier, visitor); // Identifier
+        visitChild("partOf", this.partOf, visitor); // Reference
+        visitChild("status", this.status, visitor); // Enumeration<TransportStatus>
+        visitChild("statusReason", this.statusReason, visitor); // CodeableConcept
+        visitChild("intent", this.intent, visitor); // Enumeration<TransportIntent>
+        visitChild("priority", this.priority, visitor); // Enumeration<RequestPriority>
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("description", this.description, visitor); // StringType
+        visitChild("focus", this.focus, visitor); // Reference
+        visitChild("for", this.for_, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("completionTime", this.completionTime, visitor); // DateTimeType
+        visitChild("authoredOn", this.authoredOn, visitor); // DateTimeType
+        visitChild("lastModified", this.lastModified, visitor); // DateTimeType
+        visitChild("requester", this.requester, visitor); // Reference
+        visitChild("performerType", this.performerType, visitor); // CodeableConcept
+        visitChild("owner", this.owner, visitor); // Reference
+        visitChild("location", this.location, visitor); // Reference
+        visitChild("insurance", this.insurance, visitor); // Reference
+        visitChild("note", this.note, visitor); // Annotation
+        visitChild("relevantHistory", this.relevantHistory, visitor); // Reference
+        visitChild("restriction", this.restriction, visitor); // TransportRestrictionComponent
+        visitChild("input", this.input, visitor); // ParameterComponent
+        visitChild("output", this.output, visitor); // TransportOutputComponent
+        visitChild("requestedLocation", this.requestedLocation, visitor); // Reference
+        visitChild("currentLocation", this.currentLocation, visitor); // Reference
+        visitChild("reason", this.reason, visitor); // CodeableReference
+        visitChild("history", this.history, visitor); // Reference
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
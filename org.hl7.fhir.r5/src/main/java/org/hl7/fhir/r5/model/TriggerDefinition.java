@@ -683,6 +683,33 @@ public class TriggerDefinition extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // Enumeration<TriggerType>
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeableConcept
+        case 1191816722: /*subscriptionTopic*/ visitChild("subscriptionTopic", this.subscriptionTopic, visitor); break; // CanonicalType
+        case -873664438: /*timing*/ visitChild("timing", this.timing, visitor); break; // DataType
+        case 3076010: /*data*/ visitChild("data", this.data, visitor); break; // DataRequirement
+        case -861311717: /*condition*/ visitChild("condition", this.condition, visitor); break; // Expression
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("type", this.type, visitor); // Enumeration<TriggerType>
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeableConcept
+        visitChild("subscriptionTopic", this.subscriptionTopic, visitor); // CanonicalType
+        visitChild("timing", this.timing, visitor); // DataType
+        visitChild("data", this.data, visitor); // DataRequirement
+        visitChild("condition", this.condition, visitor); // Expression
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -403,6 +403,29 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1391591896: /*lockedDate*/ visitChild("lockedDate", this.lockedDate, visitor); break; // DateType
+        case 24665195: /*inactive*/ visitChild("inactive", this.inactive, visitor); break; // BooleanType
+        case 1942574248: /*include*/ visitChild("include", this.include, visitor); break; // ConceptSetComponent
+        case -1321148966: /*exclude*/ visitChild("exclude", this.exclude, visitor); break; // ConceptSetComponent
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("lockedDate", this.lockedDate, visitor); // DateType
+        visitChild("inactive", this.inactive, visitor); // BooleanType
+        visitChild("include", this.include, visitor); // ConceptSetComponent
+        visitChild("exclude", this.exclude, visitor); // ConceptSetComponent
+        visitChild("property", this.property, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -973,6 +996,31 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -887328209: /*system*/ visitChild("system", this.system, visitor); break; // UriType
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 951024232: /*concept*/ visitChild("concept", this.concept, visitor); break; // ConceptReferenceComponent
+        case -1274492040: /*filter*/ visitChild("filter", this.filter, visitor); break; // ConceptSetFilterComponent
+        case -1410174671: /*valueSet*/ visitChild("valueSet", this.valueSet, visitor); break; // CanonicalType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("system", this.system, visitor); // UriType
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("concept", this.concept, visitor); // ConceptReferenceComponent
+        visitChild("filter", this.filter, visitor); // ConceptSetFilterComponent
+        visitChild("valueSet", this.valueSet, visitor); // CanonicalType
+        visitChild("copyright", this.copyright, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1377,6 +1425,25 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        case -900931593: /*designation*/ visitChild("designation", this.designation, visitor); break; // ConceptReferenceDesignationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("display", this.display, visitor); // StringType
+        visitChild("designation", this.designation, visitor); // ConceptReferenceDesignationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1760,6 +1827,27 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1613589672: /*language*/ visitChild("language", this.language, visitor); break; // CodeType
+        case 116103: /*use*/ visitChild("use", this.use, visitor); break; // Coding
+        case 938414048: /*additionalUse*/ visitChild("additionalUse", this.additionalUse, visitor); break; // Coding
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("language", this.language, visitor); // CodeType
+        visitChild("use", this.use, visitor); // Coding
+        visitChild("additionalUse", this.additionalUse, visitor); // Coding
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2111,6 +2199,25 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // CodeType
+        case 3553: /*op*/ visitChild("op", this.op, visitor); break; // Enumeration<FilterOperator>
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("property", this.property, visitor); // CodeType
+        visitChild("op", this.op, visitor); // Enumeration<FilterOperator>
+        visitChild("value", this.value, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2751,6 +2858,35 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // UriType
+        case 3377907: /*next*/ visitChild("next", this.next, visitor); break; // UriType
+        case 55126294: /*timestamp*/ visitChild("timestamp", this.timestamp, visitor); break; // DateTimeType
+        case 110549828: /*total*/ visitChild("total", this.total, visitor); break; // IntegerType
+        case -1019779949: /*offset*/ visitChild("offset", this.offset, visitor); break; // IntegerType
+        case 1954460585: /*parameter*/ visitChild("parameter", this.parameter, visitor); break; // ValueSetExpansionParameterComponent
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // ValueSetExpansionPropertyComponent
+        case -567445985: /*contains*/ visitChild("contains", this.contains, visitor); break; // ValueSetExpansionContainsComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // UriType
+        visitChild("next", this.next, visitor); // UriType
+        visitChild("timestamp", this.timestamp, visitor); // DateTimeType
+        visitChild("total", this.total, visitor); // IntegerType
+        visitChild("offset", this.offset, visitor); // IntegerType
+        visitChild("parameter", this.parameter, visitor); // ValueSetExpansionParameterComponent
+        visitChild("property", this.property, visitor); // ValueSetExpansionPropertyComponent
+        visitChild("contains", this.contains, visitor); // ValueSetExpansionContainsComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3206,6 +3342,23 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -3502,6 +3655,23 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 116076: /*uri*/ visitChild("uri", this.uri, visitor); break; // UriType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("uri", this.uri, visitor); // UriType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4179,6 +4349,37 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -887328209: /*system*/ visitChild("system", this.system, visitor); break; // UriType
+        case 1732898850: /*abstract*/ visitChild("abstract", this.abstract_, visitor); break; // BooleanType
+        case 24665195: /*inactive*/ visitChild("inactive", this.inactive, visitor); break; // BooleanType
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 1671764162: /*display*/ visitChild("display", this.display, visitor); break; // StringType
+        case -900931593: /*designation*/ visitChild("designation", this.designation, visitor); break; // ConceptReferenceDesignationComponent
+        case -993141291: /*property*/ visitChild("property", this.property, visitor); break; // ConceptPropertyComponent
+        case -567445985: /*contains*/ visitChild("contains", this.contains, visitor); break; // ValueSetExpansionContainsComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("system", this.system, visitor); // UriType
+        visitChild("abstract", this.abstract_, visitor); // BooleanType
+        visitChild("inactive", this.inactive, visitor); // BooleanType
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("display", this.display, visitor); // StringType
+        visitChild("designation", this.designation, visitor); // ConceptReferenceDesignationComponent
+        visitChild("property", this.property, visitor); // ConceptPropertyComponent
+        visitChild("contains", this.contains, visitor); // ValueSetExpansionContainsComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -4701,6 +4902,25 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        case 321372213: /*subProperty*/ visitChild("subProperty", this.subProperty, visitor); break; // ConceptSubPropertyComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("value", this.value, visitor); // DataType
+        visitChild("subProperty", this.subProperty, visitor); // ConceptSubPropertyComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5096,6 +5316,23 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 3059181: /*code*/ visitChild("code", this.code, visitor); break; // CodeType
+        case 111972721: /*value*/ visitChild("value", this.value, visitor); break; // DataType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("code", this.code, visitor); // CodeType
+        visitChild("value", this.value, visitor); // DataType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -5382,6 +5619,23 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1380638565: /*inclusionCriteria*/ visitChild("inclusionCriteria", this.inclusionCriteria, visitor); break; // StringType
+        case 985682765: /*exclusionCriteria*/ visitChild("exclusionCriteria", this.exclusionCriteria, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("inclusionCriteria", this.inclusionCriteria, visitor); // StringType
+        visitChild("exclusionCriteria", this.exclusionCriteria, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -7240,6 +7494,79 @@ public class ValueSet extends MetadataResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 116079: /*url*/ visitChild("url", this.url, visitor); break; // UriType
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case 351608024: /*version*/ visitChild("version", this.version, visitor); break; // StringType
+        case 1508158071: /*versionAlgorithm*/ visitChild("versionAlgorithm", this.versionAlgorithm, visitor); break; // DataType
+        case 3373707: /*name*/ visitChild("name", this.name, visitor); break; // StringType
+        case 110371416: /*title*/ visitChild("title", this.title, visitor); break; // StringType
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<PublicationStatus>
+        case -404562712: /*experimental*/ visitChild("experimental", this.experimental, visitor); break; // BooleanType
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateTimeType
+        case 1447404028: /*publisher*/ visitChild("publisher", this.publisher, visitor); break; // StringType
+        case 951526432: /*contact*/ visitChild("contact", this.contact, visitor); break; // ContactDetail
+        case -1724546052: /*description*/ visitChild("description", this.description, visitor); break; // MarkdownType
+        case -669707736: /*useContext*/ visitChild("useContext", this.useContext, visitor); break; // UsageContext
+        case -507075711: /*jurisdiction*/ visitChild("jurisdiction", this.jurisdiction, visitor); break; // CodeableConcept
+        case 1596987778: /*immutable*/ visitChild("immutable", this.immutable, visitor); break; // BooleanType
+        case -220463842: /*purpose*/ visitChild("purpose", this.purpose, visitor); break; // MarkdownType
+        case 1522889671: /*copyright*/ visitChild("copyright", this.copyright, visitor); break; // MarkdownType
+        case 765157229: /*copyrightLabel*/ visitChild("copyrightLabel", this.copyrightLabel, visitor); break; // StringType
+        case 223539345: /*approvalDate*/ visitChild("approvalDate", this.approvalDate, visitor); break; // DateType
+        case -1687512484: /*lastReviewDate*/ visitChild("lastReviewDate", this.lastReviewDate, visitor); break; // DateType
+        case -403934648: /*effectivePeriod*/ visitChild("effectivePeriod", this.effectivePeriod, visitor); break; // Period
+        case 110546223: /*topic*/ visitChild("topic", this.topic, visitor); break; // CodeableConcept
+        case -1406328437: /*author*/ visitChild("author", this.author, visitor); break; // ContactDetail
+        case -1307827859: /*editor*/ visitChild("editor", this.editor, visitor); break; // ContactDetail
+        case -261190139: /*reviewer*/ visitChild("reviewer", this.reviewer, visitor); break; // ContactDetail
+        case 1740277666: /*endorser*/ visitChild("endorser", this.endorser, visitor); break; // ContactDetail
+        case 666807069: /*relatedArtifact*/ visitChild("relatedArtifact", this.relatedArtifact, visitor); break; // RelatedArtifact
+        case 950497682: /*compose*/ visitChild("compose", this.compose, visitor); break; // ValueSetComposeComponent
+        case 17878207: /*expansion*/ visitChild("expansion", this.expansion, visitor); break; // ValueSetExpansionComponent
+        case 109264468: /*scope*/ visitChild("scope", this.scope, visitor); break; // ValueSetScopeComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("url", this.url, visitor); // UriType
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("version", this.version, visitor); // StringType
+        visitChild("versionAlgorithm", this.versionAlgorithm, visitor); // DataType
+        visitChild("name", this.name, visitor); // StringType
+        visitChild("title", this.title, visitor); // StringType
+        visitChild("status", this.status, visitor); // Enumeration<PublicationStatus>
+        visitChild("experimental", this.experimental, visitor); // BooleanType
+        visitChild("date", this.date, visitor); // DateTimeType
+        visitChild("publisher", this.publisher, visitor); // StringType
+        visitChild("contact", this.contact, visitor); // ContactDetail
+        visitChild("description", this.description, visitor); // MarkdownType
+        visitChild("useContext", this.useContext, visitor); // UsageContext
+        visitChild("jurisdiction", this.jurisdiction, visitor); // CodeableConcept
+        visitChild("immutable", this.immutable, visitor); // BooleanType
+        visitChild("purpose", this.purpose, visitor); // MarkdownType
+        visitChild("copyright", this.copyright, visitor); // MarkdownType
+        visitChild("copyrightLabel", this.copyrightLabel, visitor); // StringType
+        visitChild("approvalDate", this.approvalDate, visitor); // DateType
+        visitChild("lastReviewDate", this.lastReviewDate, visitor); // DateType
+        visitChild("effectivePeriod", this.effectivePeriod, visitor); // Period
+        visitChild("topic", this.topic, visitor); // CodeableConcept
+        visitChild("author", this.author, visitor); // ContactDetail
+        visitChild("editor", this.editor, visitor); // ContactDetail
+        visitChild("reviewer", this.reviewer, visitor); // ContactDetail
+        visitChild("endorser", this.endorser, visitor); // ContactDetail
+        visitChild("relatedArtifact", this.relatedArtifact, visitor); // RelatedArtifact
+        visitChild("compose", this.compose, visitor); // ValueSetComposeComponent
+        visitChild("expansion", this.expansion, visitor); // ValueSetExpansionComponent
+        visitChild("scope", this.scope, visitor); // ValueSetScopeComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -617,6 +617,33 @@ public class VerificationResult extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 117694: /*who*/ visitChild("who", this.who, visitor); break; // Reference
+        case 3575610: /*type*/ visitChild("type", this.type, visitor); break; // CodeableConcept
+        case 1314116695: /*communicationMethod*/ visitChild("communicationMethod", this.communicationMethod, visitor); break; // CodeableConcept
+        case 1775633867: /*validationStatus*/ visitChild("validationStatus", this.validationStatus, visitor); break; // CodeableConcept
+        case -280180793: /*validationDate*/ visitChild("validationDate", this.validationDate, visitor); break; // DateTimeType
+        case 1463787104: /*canPushUpdates*/ visitChild("canPushUpdates", this.canPushUpdates, visitor); break; // CodeableConcept
+        case 945223605: /*pushTypeAvailable*/ visitChild("pushTypeAvailable", this.pushTypeAvailable, visitor); break; // CodeableConcept
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("who", this.who, visitor); // Reference
+        visitChild("type", this.type, visitor); // CodeableConcept
+        visitChild("communicationMethod", this.communicationMethod, visitor); // CodeableConcept
+        visitChild("validationStatus", this.validationStatus, visitor); // CodeableConcept
+        visitChild("validationDate", this.validationDate, visitor); // DateTimeType
+        visitChild("canPushUpdates", this.canPushUpdates, visitor); // CodeableConcept
+        visitChild("pushTypeAvailable", this.pushTypeAvailable, visitor); // CodeableConcept
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1191,6 +1218,35 @@ public class VerificationResult extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 117694: /*who*/ visitChild("who", this.who, visitor); break; // Reference
+        case -14402964: /*onBehalfOf*/ visitChild("onBehalfOf", this.onBehalfOf, visitor); break; // Reference
+        case 1314116695: /*communicationMethod*/ visitChild("communicationMethod", this.communicationMethod, visitor); break; // CodeableConcept
+        case 3076014: /*date*/ visitChild("date", this.date, visitor); break; // DateType
+        case -799067682: /*sourceIdentityCertificate*/ visitChild("sourceIdentityCertificate", this.sourceIdentityCertificate, visitor); break; // StringType
+        case 431558827: /*proxyIdentityCertificate*/ visitChild("proxyIdentityCertificate", this.proxyIdentityCertificate, visitor); break; // StringType
+        case 1455540714: /*proxySignature*/ visitChild("proxySignature", this.proxySignature, visitor); break; // Signature
+        case 1754480349: /*sourceSignature*/ visitChild("sourceSignature", this.sourceSignature, visitor); break; // Signature
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("who", this.who, visitor); // Reference
+        visitChild("onBehalfOf", this.onBehalfOf, visitor); // Reference
+        visitChild("communicationMethod", this.communicationMethod, visitor); // CodeableConcept
+        visitChild("date", this.date, visitor); // DateType
+        visitChild("sourceIdentityCertificate", this.sourceIdentityCertificate, visitor); // StringType
+        visitChild("proxyIdentityCertificate", this.proxyIdentityCertificate, visitor); // StringType
+        visitChild("proxySignature", this.proxySignature, visitor); // Signature
+        visitChild("sourceSignature", this.sourceSignature, visitor); // Signature
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1557,6 +1613,25 @@ public class VerificationResult extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 1178922291: /*organization*/ visitChild("organization", this.organization, visitor); break; // Reference
+        case -854379015: /*identityCertificate*/ visitChild("identityCertificate", this.identityCertificate, visitor); break; // StringType
+        case -184196152: /*attestationSignature*/ visitChild("attestationSignature", this.attestationSignature, visitor); break; // Signature
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("organization", this.organization, visitor); // Reference
+        visitChild("identityCertificate", this.identityCertificate, visitor); // StringType
+        visitChild("attestationSignature", this.attestationSignature, visitor); // Signature
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2452,6 +2527,47 @@ public class VerificationResult extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -880905839: /*target*/ visitChild("target", this.target, visitor); break; // Reference
+        case 308958310: /*targetLocation*/ visitChild("targetLocation", this.targetLocation, visitor); break; // StringType
+        case 3377302: /*need*/ visitChild("need", this.need, visitor); break; // CodeableConcept
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<VerificationResultStatus>
+        case 247524032: /*statusDate*/ visitChild("statusDate", this.statusDate, visitor); break; // DateTimeType
+        case -279681197: /*validationType*/ visitChild("validationType", this.validationType, visitor); break; // CodeableConcept
+        case 797680566: /*validationProcess*/ visitChild("validationProcess", this.validationProcess, visitor); break; // CodeableConcept
+        case -70023844: /*frequency*/ visitChild("frequency", this.frequency, visitor); break; // Timing
+        case -1313229366: /*lastPerformed*/ visitChild("lastPerformed", this.lastPerformed, visitor); break; // DateTimeType
+        case 1874589434: /*nextScheduled*/ visitChild("nextScheduled", this.nextScheduled, visitor); break; // DateType
+        case 1816382560: /*failureAction*/ visitChild("failureAction", this.failureAction, visitor); break; // CodeableConcept
+        case -528721731: /*primarySource*/ visitChild("primarySource", this.primarySource, visitor); break; // VerificationResultPrimarySourceComponent
+        case -709624112: /*attestation*/ visitChild("attestation", this.attestation, visitor); break; // VerificationResultAttestationComponent
+        case -1109783726: /*validator*/ visitChild("validator", this.validator, visitor); break; // VerificationResultValidatorComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("target", this.target, visitor); // Reference
+        visitChild("targetLocation", this.targetLocation, visitor); // StringType
+        visitChild("need", this.need, visitor); // CodeableConcept
+        visitChild("status", this.status, visitor); // Enumeration<VerificationResultStatus>
+        visitChild("statusDate", this.statusDate, visitor); // DateTimeType
+        visitChild("validationType", this.validationType, visitor); // CodeableConcept
+        visitChild("validationProcess", this.validationProcess, visitor); // CodeableConcept
+        visitChild("frequency", this.frequency, visitor); // Timing
+        visitChild("lastPerformed", this.lastPerformed, visitor); // DateTimeType
+        visitChild("nextScheduled", this.nextScheduled, visitor); // DateType
+        visitChild("failureAction", this.failureAction, visitor); // CodeableConcept
+        visitChild("primarySource", this.primarySource, visitor); // VerificationResultPrimarySourceComponent
+        visitChild("attestation", this.attestation, visitor); // VerificationResultAttestationComponent
+        visitChild("validator", this.validator, visitor); // VerificationResultValidatorComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
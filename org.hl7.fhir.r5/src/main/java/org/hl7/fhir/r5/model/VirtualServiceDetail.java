@@ -396,6 +396,29 @@ public class VirtualServiceDetail extends DataType implements ICompositeType {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case 274155229: /*channelType*/ visitChild("channelType", this.channelType, visitor); break; // Coding
+        case -1147692044: /*address*/ visitChild("address", this.address, visitor); break; // DataType
+        case -974297739: /*additionalInfo*/ visitChild("additionalInfo", this.additionalInfo, visitor); break; // UrlType
+        case 950795044: /*maxParticipants*/ visitChild("maxParticipants", this.maxParticipants, visitor); break; // PositiveIntType
+        case 1661834217: /*sessionKey*/ visitChild("sessionKey", this.sessionKey, visitor); break; // StringType
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("channelType", this.channelType, visitor); // Coding
+        visitChild("address", this.address, visitor); // DataType
+        visitChild("additionalInfo", this.additionalInfo, visitor); // UrlType
+        visitChild("maxParticipants", this.maxParticipants, visitor); // PositiveIntType
+        visitChild("sessionKey", this.sessionKey, visitor); // StringType
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1208,6 +1208,47 @@ public class VisionPrescription extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -309474065: /*product*/ visitChild("product", this.product, visitor); break; // CodeableConcept
+        case 100913: /*eye*/ visitChild("eye", this.eye, visitor); break; // Enumeration<VisionEyes>
+        case -895981619: /*sphere*/ visitChild("sphere", this.sphere, visitor); break; // DecimalType
+        case -349378602: /*cylinder*/ visitChild("cylinder", this.cylinder, visitor); break; // DecimalType
+        case 3008417: /*axis*/ visitChild("axis", this.axis, visitor); break; // IntegerType
+        case 106935105: /*prism*/ visitChild("prism", this.prism, visitor); break; // PrismComponent
+        case 96417: /*add*/ visitChild("add", this.add, visitor); break; // DecimalType
+        case 106858757: /*power*/ visitChild("power", this.power, visitor); break; // DecimalType
+        case 1309344840: /*backCurve*/ visitChild("backCurve", this.backCurve, visitor); break; // DecimalType
+        case -233204595: /*diameter*/ visitChild("diameter", this.diameter, visitor); break; // DecimalType
+        case -1992012396: /*duration*/ visitChild("duration", this.duration, visitor); break; // Quantity
+        case 94842723: /*color*/ visitChild("color", this.color, visitor); break; // StringType
+        case 93997959: /*brand*/ visitChild("brand", this.brand, visitor); break; // StringType
+        case 3387378: /*note*/ visitChild("note", this.note, visitor); break; // Annotation
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("product", this.product, visitor); // CodeableConcept
+        visitChild("eye", this.eye, visitor); // Enumeration<VisionEyes>
+        visitChild("sphere", this.sphere, visitor); // DecimalType
+        visitChild("cylinder", this.cylinder, visitor); // DecimalType
+        visitChild("axis", this.axis, visitor); // IntegerType
+        visitChild("prism", this.prism, visitor); // PrismComponent
+        visitChild("add", this.add, visitor); // DecimalType
+        visitChild("power", this.power, visitor); // DecimalType
+        visitChild("backCurve", this.backCurve, visitor); // DecimalType
+        visitChild("diameter", this.diameter, visitor); // DecimalType
+        visitChild("duration", this.duration, visitor); // Quantity
+        visitChild("color", this.color, visitor); // StringType
+        visitChild("brand", this.brand, visitor); // StringType
+        visitChild("note", this.note, visitor); // Annotation
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -1666,6 +1707,23 @@ public class VisionPrescription extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1413853096: /*amount*/ visitChild("amount", this.amount, visitor); break; // DecimalType
+        case 3016401: /*base*/ visitChild("base", this.base, visitor); break; // Enumeration<VisionBase>
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("amount", this.amount, visitor); // DecimalType
+        visitChild("base", this.base, visitor); // Enumeration<VisionBase>
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -2216,6 +2274,35 @@ public class VisionPrescription extends DomainResource {
 
       }
 
+      @Override
+      public void visitChildren(int hash, String name, IChildVisitor visitor) throws FHIRException {
+        switch (hash) {
+        case -1618432855: /*identifier*/ visitChild("identifier", this.identifier, visitor); break; // Identifier
+        case -892481550: /*status*/ visitChild("status", this.status, visitor); break; // Enumeration<FinancialResourceStatusCodes>
+        case 1028554472: /*created*/ visitChild("created", this.created, visitor); break; // DateTimeType
+        case -791418107: /*patient*/ visitChild("patient", this.patient, visitor); break; // Reference
+        case 1524132147: /*encounter*/ visitChild("encounter", this.encounter, visitor); break; // Reference
+        case -1496880759: /*dateWritten*/ visitChild("dateWritten", this.dateWritten, visitor); break; // DateTimeType
+        case 1430631077: /*prescriber*/ visitChild("prescriber", this.prescriber, visitor); break; // Reference
+        case -1767318363: /*lensSpecification*/ visitChild("lensSpecification", this.lensSpecification, visitor); break; // VisionPrescriptionLensSpecificationComponent
+        default: super.visitChildren(hash, name, visitor);
+        }
+
+      }
+
+      @Override
+      public void visitChildren(IChildVisitor visitor) throws FHIRException {
+        super.visitChildren(visitor);
+        visitChild("identifier", this.identifier, visitor); // Identifier
+        visitChild("status", this.status, visitor); // Enumeration<FinancialResourceStatusCodes>
+        visitChild("created", this.created, visitor); // DateTimeType
+        visitChild("patient", this.patient, visitor); // Reference
+        visitChild("encounter", this.encounter, visitor); // Reference
+        visitChild("dateWritten", this.dateWritten, visitor); // DateTimeType
+        visitChild("prescriber", this.prescriber, visitor); // Reference
+        visitChild("lensSpecification", this.lensSpecification, visitor); // VisionPrescriptionLensSpecificationComponent
+      }
+
       @Override
       public Base setProperty(int hash, String name, Base value) throws FHIRException {
         switch (hash) {
@@ -62,6 +62,10 @@ public class XhtmlType extends PrimitiveType<String> {
   protected void listChildren(List<Property> result) {
   }
 
+  @Override
+  public void visitChildren(IChildVisitor visitor) {
+  }
+
   @Override
   public String getIdBase() {
     return null;
@@ -793,7 +793,7 @@ public abstract class ResourceRenderer extends DataRenderer {
      if (cs == null || !cs.hasWebPath())
        x.tx(code);
      else {
-       ConceptDefinitionComponent cd = CodeSystemUtilities.findCode(cs.getConcept(), code);
+       ConceptDefinitionComponent cd = CodeSystemUtilities.findCode(cs, code);
        if (cd == null) {
          x.tx(code);
        } else {
@@ -1262,7 +1262,7 @@ public abstract class ResourceRenderer extends DataRenderer {
     if (cs == null || !cs.hasWebPath())
       x.tx(code);
     else {
-      ConceptDefinitionComponent cd = CodeSystemUtilities.findCode(cs.getConcept(), code);
+      ConceptDefinitionComponent cd = CodeSystemUtilities.findCode(cs, code);
       if (cd == null) {
         x.tx(code);        
       } else {
@@ -0,0 +1,174 @@
+package org.hl7.fhir.r5.terminologies;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.hl7.fhir.r5.model.CodeSystem;
+import org.hl7.fhir.r5.model.CodeSystem.ConceptDefinitionComponent;
+import org.hl7.fhir.r5.model.CodeSystem.ConceptPropertyComponent;
+
+/**
+ * An index of the concepts in a CodeSystem, so that looking up a code, an alternate code,
+ * or whether one concept is subsumed by another doesn't have to walk the concept tree.
+ *
+ * Use CodeSystemUtilities.getIndex() to get the index for a code system - it's built the
+ * first time it's asked for and kept on the code system. The index reflects the concepts
+ * when it was built, so it's for code systems that have been loaded, not ones that are
+ * being built. Only the root concept list is checked when the index is asked for (checking
+ * the whole tree would cost as much as not having an index), so code that edits the
+ * concepts of a code system that may have been indexed - adding or removing child concepts,
+ * changing codes or alternate codes, or reordering them - must call
+ * CodeSystemUtilities.clearIndex() afterwards.
+ *
+ * The index is not changed after it's built, so it can be used by more than one thread
+ */
+public class CodeSystemIndex {
+
+  public static class AlternateCode {
+    private ConceptDefinitionComponent concept;
+    private ConceptPropertyComponent property;
+
+    private AlternateCode(ConceptDefinitionComponent concept, ConceptPropertyComponent property) {
+      super();
+      this.concept = concept;
+      this.property = property;
+    }
+
+    public ConceptDefinitionComponent getConcept() {
+      return concept;
+    }
+
+    public ConceptPropertyComponent getProperty() {
+      return property;
+    }
+  }
+
+  private List<ConceptDefinitionComponent> root;
+  private int rootSize;
+  // where a code is duplicated, the first one wins (the same as a depth first search)
+  private Map<String, ConceptDefinitionComponent> codes = new HashMap<>();
+  private Map<String, ConceptDefinitionComponent> codesIgnoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+  private Map<String, List<AlternateCode>> alternateCodes = new HashMap<>();
+  // the concepts each concept is directly under - the hierarchy, and the parent property links made by CodeSystemUtilities.crossLinkCodeSystem
+  private Map<ConceptDefinitionComponent, List<ConceptDefinitionComponent>> parents = new IdentityHashMap<>();
+
+  public CodeSystemIndex(CodeSystem cs) {
+    root = cs.getConcept();
+    rootSize = root.size();
+    index(null, root);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void index(ConceptDefinitionComponent parent, List<ConceptDefinitionComponent> list) {
+    for (ConceptDefinitionComponent c : list) {
+      if (parent != null) {
+        addParent(c, parent);
+      }
+      if (c.hasCode()) {
+        codes.putIfAbsent(c.getCode(), c);
+        codesIgnoreCase.putIfAbsent(c.getCode(), c);
+      }
+      for (ConceptPropertyComponent p : c.getProperty()) {
+        if ("alternateCode".equals(p.getCode()) && p.hasValue() && p.getValue().isPrimitive()) {
+          alternateCodes.computeIfAbsent(p.getValue().primitiveValue(), k -> new ArrayList<>(1)).add(new AlternateCode(c, p));
+        }
+      }
+      if (c.hasUserData(CodeSystemUtilities.USER_DATA_CROSS_LINK)) {
+        for (ConceptDefinitionComponent child : (List<ConceptDefinitionComponent>) c.getUserData(CodeSystemUtilities.USER_DATA_CROSS_LINK)) {
+          addParent(child, c);
+        }
+      }
+      if (c.hasConcept()) {
+        index(c, c.getConcept());
+      }
+    }
+  }
+
+  private void addParent(ConceptDefinitionComponent c, ConceptDefinitionComponent parent) {
+    List<ConceptDefinitionComponent> list = parents.get(c);
+    if (list == null) {
+      list = new ArrayList<>(1);
+      parents.put(c, list);
+    }
+    if (!list.contains(parent)) {
+      list.add(parent);
+    }
+  }
+
+  /**
+   * @return false if the code system's root concept list has changed since the index was built. Changes
+   * further down the tree are not detected (see CodeSystemUtilities.clearIndex())
+   */
+  public boolean isCurrent(CodeSystem cs) {
+    return cs.getConcept() == root && root.size() == rootSize;
+  }
+
+  /**
+   * @return the concept with the code (exact match)
+   */
+  public ConceptDefinitionComponent findCode(String code) {
+    return code == null ? null : codes.get(code);
+  }
+
+  /**
+   * @return the concept with the code, ignoring case if caseSensitive is false. An exact match is preferred
+   */
+  public ConceptDefinitionComponent findCode(String code, boolean caseSensitive) {
+    if (code == null) {
+      return null;
+    }
+    ConceptDefinitionComponent res = codes.get(code);
+    if (res == null && !caseSensitive) {
+      res = codesIgnoreCase.get(code);
+    }
+    return res;
+  }
+
+  /**
+   * @return the concepts that have the code as an alternateCode property (exact match), in the order they are in the code system
+   */
+  public List<AlternateCode> getAlternateCodes(String code) {
+    List<AlternateCode> res = code == null ? null : alternateCodes.get(code);
+    return res == null ? Collections.emptyList() : res;
+  }
+
+  /**
+   * @return the concepts that the concept is directly under
+   */
+  public List<ConceptDefinitionComponent> getParents(ConceptDefinitionComponent concept) {
+    List<ConceptDefinitionComponent> res = parents.get(concept);
+    return res == null ? Collections.emptyList() : res;
+  }
+
+  /**
+   * @return true if concept is somewhere under ancestor (and is not ancestor itself)
+   */
+  public boolean isDescendentOf(ConceptDefinitionComponent concept, ConceptDefinitionComponent ancestor) {
+    if (concept == null || ancestor == null || concept == ancestor) {
+      return false;
+    }
+    Set<ConceptDefinitionComponent> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    List<ConceptDefinitionComponent> todo = new ArrayList<>(getParents(concept));
+    while (!todo.isEmpty()) {
+      ConceptDefinitionComponent c = todo.remove(todo.size() - 1);
+      if (c == ancestor) {
+        return true;
+      }
+      if (visited.add(c)) {
+        todo.addAll(getParents(c));
+      }
+    }
+    return false;
+  }
+
+  public int size() {
+    return codes.size();
+  }
+}
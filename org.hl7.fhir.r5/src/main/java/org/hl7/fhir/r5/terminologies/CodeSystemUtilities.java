@@ -36,8 +36,10 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hl7.fhir.exceptions.FHIRException;
@@ -146,6 +148,33 @@ public class CodeSystemUtilities extends TerminologyUtilities {
   }
 
   public static final String USER_DATA_CROSS_LINK = "cs.utils.cross.link";
+  public static final String USER_DATA_INDEX = "cs.utils.index";
+
+  /**
+   * get the index of the concepts in the code system, building it if it hasn't been built yet
+   * (or if the code system's root concepts have changed since)
+   */
+  public static CodeSystemIndex getIndex(CodeSystem cs) {
+    synchronized (cs) {
+      CodeSystemIndex index = (CodeSystemIndex) cs.getUserData(USER_DATA_INDEX);
+      if (index == null || !index.isCurrent(cs)) {
+        index = new CodeSystemIndex(cs);
+        cs.setUserData(USER_DATA_INDEX, index);
+      }
+      return index;
+    }
+  }
+
+  /**
+   * discard the index of the concepts in the code system, if there is one. Call this after editing
+   * the concepts of a code system that may have been indexed (getIndex only notices changes to the
+   * root concept list)
+   */
+  public static void clearIndex(CodeSystem cs) {
+    synchronized (cs) {
+      cs.clearUserData(USER_DATA_INDEX);
+    }
+  }
 
   public static class CodeSystemNavigator {
 
@@ -520,6 +549,13 @@ public class CodeSystemUtilities extends TerminologyUtilities {
     return null;
   }
 
+  /**
+   * find the concept with the code (exact match) anywhere in the code system, using the code system's index
+   */
+  public static ConceptDefinitionComponent findCode(CodeSystem cs, String code) {
+    return getIndex(cs).findCode(code);
+  }
+
   public static ConceptDefinitionComponent findCode(List<ConceptDefinitionComponent> list, String code) {
     for (ConceptDefinitionComponent c : list) {
       if (c.hasCode() && c.getCode().equals(code))
@@ -553,6 +589,23 @@ public class CodeSystemUtilities extends TerminologyUtilities {
     return res;
   }
 
+  /**
+   * find the concept with the code, or else with the code as an alternate code (with the use, if there is one),
+   * anywhere in the code system, using the code system's index
+   */
+  public static ConceptDefinitionComponent findCodeOrAltCode(CodeSystem cs, String code, String use) {
+    CodeSystemIndex index = getIndex(cs);
+    ConceptDefinitionComponent res = index.findCode(code);
+    if (res == null) {
+      for (CodeSystemIndex.AlternateCode alt : index.getAlternateCodes(code)) {
+        if (use == null || hasUse(alt.getProperty(), use)) {
+          return alt.getConcept();
+        }
+      }
+    }
+    return res;
+  }
+
   public static ConceptDefinitionComponent findCodeOrAltCode(List<ConceptDefinitionComponent> list, String code, String use) {
     for (ConceptDefinitionComponent c : list) {
       if (c.hasCode() && c.getCode().equals(code))
@@ -716,7 +769,11 @@ public class CodeSystemUtilities extends TerminologyUtilities {
   public static void crossLinkCodeSystem(CodeSystem cs) {
     String parent = getPropertyByUrl(cs, "http://hl7.org/fhir/concept-properties#parent");
     if ((parent != null)) {
-      crossLinkConcepts(cs.getConcept(), cs.getConcept(), parent);
+      Map<String, ConceptDefinitionComponent> codes = new HashMap<>();
+      mapCodes(codes, cs.getConcept());
+      crossLinkConcepts(codes, cs.getConcept(), parent);
+      // the index has the cross links as parents
+      clearIndex(cs);
     }
   }
 
@@ -729,12 +786,21 @@ public class CodeSystemUtilities extends TerminologyUtilities {
     return null;
   }
 
-  private static void crossLinkConcepts(List<ConceptDefinitionComponent> root, List<ConceptDefinitionComponent> focus, String parent) {
+  private static void mapCodes(Map<String, ConceptDefinitionComponent> codes, List<ConceptDefinitionComponent> list) {
+    for (ConceptDefinitionComponent c : list) {
+      if (c.hasCode()) {
+        codes.putIfAbsent(c.getCode(), c);
+      }
+      mapCodes(codes, c.getConcept());
+    }
+  }
+
+  private static void crossLinkConcepts(Map<String, ConceptDefinitionComponent> codes, List<ConceptDefinitionComponent> focus, String parent) {
     for (ConceptDefinitionComponent def : focus) {
       List<ConceptPropertyComponent> pcl = getPropertyValues(def, parent);
       for (ConceptPropertyComponent pc : pcl) {
         String code = pc.getValue().primitiveValue();
-        ConceptDefinitionComponent tgt = findCode(root, code);
+        ConceptDefinitionComponent tgt = codes.get(code);
         if (!tgt.hasUserData(USER_DATA_CROSS_LINK)) {
           tgt.setUserData(USER_DATA_CROSS_LINK, new ArrayList<>());
         }
@@ -743,7 +809,7 @@ public class CodeSystemUtilities extends TerminologyUtilities {
         children.add(def);
       }      
       if (def.hasConcept()) {
-        crossLinkConcepts(root, def.getConcept(), parent);
+        crossLinkConcepts(codes, def.getConcept(), parent);
       }
     }
     
@@ -760,6 +826,8 @@ public class CodeSystemUtilities extends TerminologyUtilities {
 
   public static void sortAllCodes(CodeSystem cs) {
     sortAllCodes(cs.getConcept());
+    // where codes are duplicated, the index has the first one
+    clearIndex(cs);
   }
 
   private static void sortAllCodes(List<ConceptDefinitionComponent> list) {
@@ -847,12 +915,14 @@ public class CodeSystemUtilities extends TerminologyUtilities {
     for (ConceptDefinitionComponent t : ret.getConcept()) {
       mergeSupplements(ret, t, supplements);
     }
+    // the supplements may add alternate codes
+    clearIndex(ret);
     return ret;
   }
 
   private static void mergeSupplements(CodeSystem ret, ConceptDefinitionComponent fdef, List<CodeSystem> supplements) {
     for (CodeSystem cs : supplements) {
-      ConceptDefinitionComponent def = CodeSystemUtilities.findCode(cs.getConcept(), fdef.getCode());
+      ConceptDefinitionComponent def = CodeSystemUtilities.findCode(cs, fdef.getCode());
       if (def != null) {
         for (Extension ext : def.getExtension()) {
           fdef.addExtension(ext.copy());
@@ -0,0 +1,104 @@
+package org.hl7.fhir.r5.terminologies;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hl7.fhir.r5.model.ValueSet.ValueSetExpansionComponent;
+import org.hl7.fhir.r5.model.ValueSet.ValueSetExpansionContainsComponent;
+
+/**
+ * An index of the codes in a ValueSet expansion by system and code (and version), so that
+ * checking whether a code is in an expansion doesn't have to walk the contains tree.
+ *
+ * Use ValueSetUtilities.getExpansionIndex() to get the index for an expansion - it's built
+ * the first time it's asked for and kept on the expansion, so every validator or expander
+ * that uses the same (cached) expansion uses the same index. As for CodeSystemIndex, the
+ * index is for expansions that are complete, not ones being built: it's rebuilt if the root
+ * contains list changes, but code that edits entries further down the tree of an expansion
+ * that may have been indexed must call ValueSetUtilities.clearExpansionIndex() afterwards.
+ *
+ * The index is not changed after it's built, so it can be used by more than one thread
+ */
+public class ValueSetExpansionIndex {
+
+  private List<ValueSetExpansionContainsComponent> root;
+  private int rootSize;
+  private int size;
+  // system -> code -> the entries for that code, in the order they are in the expansion (usually just one)
+  private Map<String, Map<String, List<ValueSetExpansionContainsComponent>>> codes = new HashMap<>();
+
+  public ValueSetExpansionIndex(ValueSetExpansionComponent expansion) {
+    root = expansion.getContains();
+    rootSize = root.size();
+    index(root);
+  }
+
+  private void index(List<ValueSetExpansionContainsComponent> list) {
+    for (ValueSetExpansionContainsComponent c : list) {
+      if (c.hasSystem() && c.hasCode()) {
+        codes.computeIfAbsent(c.getSystem(), k -> new HashMap<>()).computeIfAbsent(c.getCode(), k -> new ArrayList<>(1)).add(c);
+        size++;
+      }
+      if (c.hasContains()) {
+        index(c.getContains());
+      }
+    }
+  }
+
+  /**
+   * @return false if the expansion's root contains list has changed since the index was built. Changes
+   * further down the tree are not detected (see ValueSetUtilities.clearExpansionIndex())
+   */
+  public boolean isCurrent(ValueSetExpansionComponent expansion) {
+    return expansion.getContains() == root && root.size() == rootSize;
+  }
+
+  /**
+   * @return the first entry in the expansion with the system and code, whatever the version
+   */
+  public ValueSetExpansionContainsComponent findCode(String system, String code) {
+    List<ValueSetExpansionContainsComponent> list = getEntries(system, code);
+    return list == null ? null : list.get(0);
+  }
+
+  /**
+   * @return the entry in the expansion with the system, code and version, or the first with
+   * the system and code if version is null
+   */
+  public ValueSetExpansionContainsComponent findCode(String system, String version, String code) {
+    List<ValueSetExpansionContainsComponent> list = getEntries(system, code);
+    if (list == null) {
+      return null;
+    }
+    if (version == null) {
+      return list.get(0);
+    }
+    for (ValueSetExpansionContainsComponent c : list) {
+      if (version.equals(c.getVersion())) {
+        return c;
+      }
+    }
+    return null;
+  }
+
+  public boolean hasCode(String system, String code) {
+    return getEntries(system, code) != null;
+  }
+
+  private List<ValueSetExpansionContainsComponent> getEntries(String system, String code) {
+    if (system == null || code == null) {
+      return null;
+    }
+    Map<String, List<ValueSetExpansionContainsComponent>> map = codes.get(system);
+    return map == null ? null : map.get(code);
+  }
+
+  /**
+   * @return the number of entries in the expansion that have a system and code
+   */
+  public int size() {
+    return size;
+  }
+}
@@ -6,6 +6,7 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /*
   Copyright (c) 2011+, HL7, Inc.
@@ -59,6 +60,7 @@ import org.hl7.fhir.r5.model.Coding;
 import org.hl7.fhir.r5.model.DataType;
 import org.hl7.fhir.r5.model.ValueSet.ConceptReferenceComponent;
 import org.hl7.fhir.r5.model.ValueSet.ConceptSetComponent;
+import org.hl7.fhir.r5.model.ValueSet.ConceptSetFilterComponent;
 import org.hl7.fhir.r5.model.ValueSet.ValueSetComposeComponent;
 import org.hl7.fhir.r5.model.ValueSet.ValueSetExpansionComponent;
 import org.hl7.fhir.r5.model.ValueSet.ValueSetExpansionContainsComponent;
@@ -109,6 +111,61 @@ public class ValueSetUtilities extends TerminologyUtilities {
     return Utilities.existsInList(url, "http://hl7.org/fhir/sid/cvx");
   }
   
+  public static final String USER_DATA_EXPANSION_INDEX = "vs.utils.expansion.index";
+
+  /**
+   * get the index of the codes in the expansion, building it if it hasn't been built yet
+   * (or if the expansion's root contains have changed since)
+   */
+  public static ValueSetExpansionIndex getExpansionIndex(ValueSetExpansionComponent exp) {
+    synchronized (exp) {
+      ValueSetExpansionIndex index = (ValueSetExpansionIndex) exp.getUserData(USER_DATA_EXPANSION_INDEX);
+      if (index == null || !index.isCurrent(exp)) {
+        index = new ValueSetExpansionIndex(exp);
+        exp.setUserData(USER_DATA_EXPANSION_INDEX, index);
+      }
+      return index;
+    }
+  }
+
+  /**
+   * discard the index of the codes in the expansion, if there is one. Call this after editing an
+   * expansion that may have been indexed (getExpansionIndex only notices changes to the root contains list)
+   */
+  public static void clearExpansionIndex(ValueSetExpansionComponent exp) {
+    synchronized (exp) {
+      exp.clearUserData(USER_DATA_EXPANSION_INDEX);
+    }
+  }
+
+  public static final String USER_DATA_FILTER_PATTERN = "vs.utils.filter.pattern";
+
+  private static class FilterPattern {
+    private String regex;
+    private Pattern pattern;
+
+    private FilterPattern(String regex) {
+      this.regex = regex;
+      this.pattern = Pattern.compile(regex);
+    }
+  }
+
+  /**
+   * get the compiled pattern for a regex filter, compiling it the first time it's asked for
+   * (or if the filter value has changed since). The pattern is kept on the filter, so it's
+   * shared by everything that uses the same value set
+   */
+  public static Pattern getFilterPattern(ConceptSetFilterComponent f) {
+    synchronized (f) {
+      FilterPattern fp = (FilterPattern) f.getUserData(USER_DATA_FILTER_PATTERN);
+      if (fp == null || !fp.regex.equals(f.getValue())) {
+        fp = new FilterPattern(f.getValue());
+        f.setUserData(USER_DATA_FILTER_PATTERN, fp);
+      }
+      return fp.pattern;
+    }
+  }
+
   public static ValueSet makeShareable(ValueSet vs) {
     if (!vs.hasExperimental()) {
       vs.setExperimental(false);
@@ -1,21 +1,22 @@
 package org.hl7.fhir.r5.terminologies.expansion;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.hl7.fhir.r5.model.CodeSystem;
 import org.hl7.fhir.r5.model.CodeSystem.ConceptDefinitionComponent;
 
 public class RegexFilter extends ConceptFilter {
 
-  private String regex;
+  private Pattern regex;
   
-  protected RegexFilter(List<String> allErrors, String regex) {
+  protected RegexFilter(List<String> allErrors, Pattern regex) {
     super(allErrors);
     this.regex = regex;
   }
 
   @Override
   public boolean includeConcept(CodeSystem cs, ConceptDefinitionComponent def) {
-    return def.getCode().matches(regex);
+    return regex.matcher(def.getCode()).matches();
   }
-}
\ No newline at end of file
+}
@@ -416,17 +416,7 @@ public class ValueSetExpander extends ValueSetProcessBase {
   private boolean filterContainsCode(List<ValueSet> filters, String system, String code, ValueSetExpansionComponent exp) {
     for (ValueSet vse : filters) {
       checkCanonical(exp, vse, focus);
-      if (expansionContainsCode(vse.getExpansion().getContains(), system, code))
-        return true;
-    }
-    return false;
-  }
-
-  private boolean expansionContainsCode(List<ValueSetExpansionContainsComponent> contains, String system, String code) {
-    for (ValueSetExpansionContainsComponent cc : contains) {
-      if (system.equals(cc.getSystem()) && code.equals(cc.getCode()))
-        return true;
-      if (expansionContainsCode(cc.getContains(), system, code))
+      if (ValueSetUtilities.getExpansionIndex(vse.getExpansion()).hasCode(system, code))
         return true;
     }
     return false;
@@ -817,17 +807,6 @@ public class ValueSetExpander extends ValueSetProcessBase {
     return res;
   }
 
-  private ConceptDefinitionComponent getConceptForCode(List<ConceptDefinitionComponent> clist, String code) {
-    for (ConceptDefinitionComponent c : clist) {
-      if (code.equals(c.getCode()))
-        return c;
-      ConceptDefinitionComponent v = getConceptForCode(c.getConcept(), code);
-      if (v != null)
-        return v;
-    }
-    return null;
-  }
-
   private void handleCompose(ValueSetComposeComponent compose, ValueSetExpansionComponent exp, Parameters expParams, String ctxt, List<Extension> extensions, ValueSet valueSet)
       throws ETooCostly, FileNotFoundException, IOException, FHIRException, CodeSystemProviderExtension {
     compose.checkNoModifiers("ValueSet.compose", "expanding");
@@ -1116,7 +1095,7 @@ public class ValueSetExpander extends ValueSetProcessBase {
       dwc.setCanBeHierarchy(false);
       for (ConceptReferenceComponent c : inc.getConcept()) {
         c.checkNoModifiers("Code in Value Set", "expanding");
-        ConceptDefinitionComponent def = CodeSystemUtilities.findCodeOrAltCode(cs.getConcept(), c.getCode(), null);
+        ConceptDefinitionComponent def = CodeSystemUtilities.findCodeOrAltCode(cs, c.getCode(), null);
         boolean inactive = false; // default is true if we're a fragment and  
         boolean isAbstract = false;
         if (def == null) {
@@ -1163,7 +1142,7 @@ public class ValueSetExpander extends ValueSetProcessBase {
     opContext.deadCheck("processFilter");
     if ("concept".equals(fc.getProperty()) && fc.getOp() == FilterOperator.ISA) {
       // special: all codes in the target code system under the value
-      ConceptDefinitionComponent def = getConceptForCode(cs.getConcept(), fc.getValue());
+      ConceptDefinitionComponent def = CodeSystemUtilities.findCode(cs, fc.getValue());
       if (def == null)
         throw failTSE("Code '" + fc.getValue() + "' not found in system '" + inc.getSystem() + "'");
       if (exclude) {
@@ -1173,7 +1152,7 @@ public class ValueSetExpander extends ValueSetProcessBase {
       }
     } else if ("concept".equals(fc.getProperty()) && fc.getOp() == FilterOperator.ISNOTA) {
       // special: all codes in the target code system that are not under the value
-      ConceptDefinitionComponent defEx = getConceptForCode(cs.getConcept(), fc.getValue());
+      ConceptDefinitionComponent defEx = CodeSystemUtilities.findCode(cs, fc.getValue());
       if (defEx == null)
         throw failTSE("Code '" + fc.getValue() + "' not found in system '" + inc.getSystem() + "'");
       for (ConceptDefinitionComponent def : cs.getConcept()) {
@@ -1185,7 +1164,7 @@ public class ValueSetExpander extends ValueSetProcessBase {
       }
     } else if ("concept".equals(fc.getProperty()) && fc.getOp() == FilterOperator.DESCENDENTOF) {
       // special: all codes in the target code system under the value
-      ConceptDefinitionComponent def = getConceptForCode(cs.getConcept(), fc.getValue());
+      ConceptDefinitionComponent def = CodeSystemUtilities.findCode(cs, fc.getValue());
       if (def == null)
         throw failTSE("Code '" + fc.getValue() + "' not found in system '" + inc.getSystem() + "'");
       for (ConceptDefinitionComponent c : def.getConcept())
@@ -1208,7 +1187,7 @@ public class ValueSetExpander extends ValueSetProcessBase {
     } else if ("display".equals(fc.getProperty()) && fc.getOp() == FilterOperator.EQUAL) {
       // gg; note: wtf is this: if the filter is display=v, look up the code 'v', and see if it's display is 'v'?
       dwc.setCanBeHierarchy(false);
-      ConceptDefinitionComponent def = getConceptForCode(cs.getConcept(), fc.getValue());
+      ConceptDefinitionComponent def = CodeSystemUtilities.findCode(cs, fc.getValue());
       if (def != null) {
         if (isNotBlank(def.getDisplay()) && isNotBlank(fc.getValue())) {
           if (def.getDisplay().contains(fc.getValue()) && passesOtherFilters(filters, cs, def.getCode())) {
@@ -1245,9 +1224,9 @@ public class ValueSetExpander extends ValueSetProcessBase {
     } else if ("code".equals(fc.getProperty()) && fc.getOp() == FilterOperator.REGEX) {
       for (ConceptDefinitionComponent def : cs.getConcept()) {
         if (exclude) {
-          excludeCodeAndDescendents(wc, cs, inc.getSystem(), def, null, imports, null, new RegexFilter(allErrors, fc.getValue()), filters, exp);
+          excludeCodeAndDescendents(wc, cs, inc.getSystem(), def, null, imports, null, new RegexFilter(allErrors, ValueSetUtilities.getFilterPattern(fc)), filters, exp);
         } else {
-          addCodeAndDescendents(wc, cs, inc.getSystem(), def, null, expParams, imports, null, new RegexFilter(allErrors, fc.getValue()), noInactive, exp.getProperty(), filters, exp);
+          addCodeAndDescendents(wc, cs, inc.getSystem(), def, null, expParams, imports, null, new RegexFilter(allErrors, ValueSetUtilities.getFilterPattern(fc)), noInactive, exp.getProperty(), filters, exp);
         }
       }
     } else {
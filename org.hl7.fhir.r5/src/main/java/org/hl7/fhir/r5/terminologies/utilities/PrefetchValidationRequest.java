@@ -0,0 +1,56 @@
+package org.hl7.fhir.r5.terminologies.utilities;
+
+import org.hl7.fhir.r5.model.CodeableConcept;
+import org.hl7.fhir.r5.model.Coding;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.utilities.validation.ValidationOptions;
+
+/**
+ * A validateCode call that is going to be made later, so its result can be worked out in
+ * advance by IWorkerContext.prefetchValidations (see there).
+ *
+ * A coding with no value set stands for validateCode(options, system, version, code, display) -
+ * checking the code against its code system - and the rest stand for validateCode(options, coding, valueSet)
+ * and validateCode(options, codeableConcept, valueSet)
+ */
+public class PrefetchValidationRequest {
+  private ValidationOptions options;
+  private Coding coding;
+  private CodeableConcept codeableConcept;
+  private ValueSet valueSet;
+
+  public PrefetchValidationRequest(ValidationOptions options, Coding coding, ValueSet valueSet) {
+    super();
+    this.options = options;
+    this.coding = coding;
+    this.valueSet = valueSet;
+  }
+
+  public PrefetchValidationRequest(ValidationOptions options, CodeableConcept codeableConcept, ValueSet valueSet) {
+    super();
+    this.options = options;
+    this.codeableConcept = codeableConcept;
+    this.valueSet = valueSet;
+  }
+
+  public ValidationOptions getOptions() {
+    return options;
+  }
+
+  public Coding getCoding() {
+    return coding;
+  }
+
+  public boolean hasCoding() {
+    return coding != null;
+  }
+
+  public CodeableConcept getCodeableConcept() {
+    return codeableConcept;
+  }
+
+  public ValueSet getValueSet() {
+    return valueSet;
+  }
+
+}
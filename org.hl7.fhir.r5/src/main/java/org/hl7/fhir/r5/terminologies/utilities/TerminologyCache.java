@@ -31,13 +31,21 @@ package org.hl7.fhir.r5.terminologies.utilities;
 
 
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -62,6 +70,7 @@ import org.hl7.fhir.utilities.StringPair;
 import org.hl7.fhir.utilities.TextFile;
 import org.hl7.fhir.utilities.Utilities;
 import org.hl7.fhir.utilities.filesystem.ManagedFileAccess;
+import org.hl7.fhir.utilities.filesystem.ManagedFileAccess.FileAccessPolicy;
 import org.hl7.fhir.utilities.json.model.JsonNull;
 import org.hl7.fhir.utilities.json.model.JsonProperty;
 import org.hl7.fhir.utilities.validation.ValidationMessage.IssueSeverity;
@@ -78,6 +87,13 @@ import com.google.gson.JsonPrimitive;
  *  
  * the cache is a series of pairs: a map, and a list. the map is the loaded cache, the list is the persistent cache, carefully maintained in order for version control consistency
  * 
+ * the persistent cache files are journals: new entries are appended to the end of the file, and a replaced entry 
+ * is appended again rather than rewriting the file. When the file is loaded, later entries win. The file is rewritten
+ * from the list (compacted) once enough of it has been superseded, or when save() is called
+ * 
+ * the cache is safe for concurrent use. Lookups don't lock; the maps are concurrent, and changes to the 
+ * persistent cache for a name are serialised on its NamedCache. Statistics are kept for each named cache
+ * 
  * @author graha
  *
  */
@@ -162,9 +178,11 @@ public class TerminologyCache {
   private static final String CAPABILITY_STATEMENT_TITLE = ".capabilityStatement";
   private static final String TERMINOLOGY_CAPABILITIES_TITLE = ".terminologyCapabilities";
   private static final String FIXED_CACHE_VERSION = "4"; // last change: change the way tx.fhir.org handles expansions
+  private static final int COMPACTION_THRESHOLD = 50; // superseded entries tolerated in a cache file before it is rewritten, in addition to 1 in 4 of the live entries
 
 
   private SystemNameKeyGenerator systemNameKeyGenerator = new SystemNameKeyGenerator();
+  private TerminologyCacheFingerprinter fingerprinter = new TerminologyCacheFingerprinter();
 
   public class CacheToken {
     @Getter
@@ -273,33 +291,82 @@ public class TerminologyCache {
     private SubsumesResult s;
   }
 
+  public static class CacheStatistics {
+    private AtomicLong requests = new AtomicLong();
+    private AtomicLong hits = new AtomicLong();
+    private AtomicLong misses = new AtomicLong();
+    private AtomicLong bytesPersisted = new AtomicLong();
+
+    private void seen(boolean hit) {
+      requests.incrementAndGet();
+      if (hit) {
+        hits.incrementAndGet();
+      } else {
+        misses.incrementAndGet();
+      }
+    }
+
+    /**
+     * @return the number of validation and subsumes lookups
+     */
+    public long getRequests() {
+      return requests.get();
+    }
+
+    public long getHits() {
+      return hits.get();
+    }
+
+    /**
+     * @return the number of lookups that weren't in the cache (and will usually go to the network)
+     */
+    public long getMisses() {
+      return misses.get();
+    }
+
+    public long getBytesPersisted() {
+      return bytesPersisted.get();
+    }
+
+    @Override
+    public String toString() {
+      return "requests: "+requests.get()+", hits: "+hits.get()+", misses: "+misses.get()+", bytes persisted: "+bytesPersisted.get();
+    }
+  }
+
   private class NamedCache {
     private String name; 
-    private List<CacheEntry> list = new ArrayList<CacheEntry>(); // persistent entries
-    private Map<String, CacheEntry> map = new HashMap<String, CacheEntry>();
+    private Map<String, CacheEntry> list = new LinkedHashMap<String, CacheEntry>(); // persistent entries, in order, by key. Only accessed while holding the lock on the NamedCache
+    private Map<String, CacheEntry> map = new ConcurrentHashMap<String, CacheEntry>();
+    private int superseded; // entries in the file that have been replaced by a later entry
+    private boolean appendable; // true if the file is known to be well formed, so entries can be appended to it
+    private CacheStatistics statistics;
+
+    private NamedCache(String name) {
+      this.name = name;
+      this.statistics = cacheStatistics.computeIfAbsent(name, n -> new CacheStatistics());
+    }
   }
 
 
-  private Object lock;
   private String folder;
-  @Getter private int requestCount;
-  @Getter private int hitCount;
-  @Getter private int networkCount;
-  private Map<String, CapabilityStatement> capabilityStatementCache = new HashMap<>();
-  private Map<String, TerminologyCapabilities> terminologyCapabilitiesCache = new HashMap<>();
-  private Map<String, NamedCache> caches = new HashMap<String, NamedCache>();
+  private Map<String, CapabilityStatement> capabilityStatementCache = new ConcurrentHashMap<>();
+  private Map<String, TerminologyCapabilities> terminologyCapabilitiesCache = new ConcurrentHashMap<>();
+  private Map<String, NamedCache> caches = new ConcurrentHashMap<String, NamedCache>();
+  private Map<String, CacheStatistics> cacheStatistics = new ConcurrentHashMap<String, CacheStatistics>(); // by cache name. Kept when a cache is removed, so the counts aren't lost
+  // these hold null for things that are known not to exist, so they can't be ConcurrentHashMaps. Once the constructor has 
+  // loaded them, they are only accessed while holding the lock on the map, which also keeps the externals file in step with the map 
   private Map<String, SourcedValueSetEntry> vsCache = new HashMap<>();
   private Map<String, SourcedCodeSystemEntry> csCache = new HashMap<>();
-  private Map<String, String> serverMap = new HashMap<>();
+  private Map<String, String> serverMap = new HashMap<>(); // as for vsCache
   @Getter @Setter private static boolean noCaching;
 
   @Getter @Setter private static boolean cacheErrors;
 
 
-  // use lock from the context
+  // the lock from the context is no longer used: the cache manages its own concurrency
   public TerminologyCache(Object lock, String folder) throws FileNotFoundException, IOException, FHIRException {
     super();
-    this.lock = lock;
     if (folder == null) {
       folder = Utilities.path("[tmp]", "default-tx-cache");
     } else if ("n/a".equals(folder)) {
@@ -307,9 +374,6 @@ public class TerminologyCache {
       folder = null;
     }
     this.folder = folder;
-    requestCount = 0;
-    hitCount = 0;
-    networkCount = 0;
 
     if (folder != null) {
       File f = ManagedFileAccess.file(folder);
@@ -339,29 +403,35 @@ public class TerminologyCache {
   }
 
   public String getServerId(String address) throws IOException  {
-    if (serverMap.containsKey(address)) {
-      return serverMap.get(address);
-    }
-    String id = address.replace("http://", "").replace("https://", "").replace("/", ".");
-    int i = 1;
-    while (serverMap.containsValue(id)) {
-      i++;
-      id =  address.replace("https:", "").replace("https:", "").replace("/", ".")+i;
-    }
-    serverMap.put(address, id);
-    if (folder != null) {
-      IniFile ini = new IniFile(Utilities.path(folder, "servers.ini"));
-      ini.setStringProperty("servers", id, address, null);
-      ini.save();
+    synchronized (serverMap) {
+      if (serverMap.containsKey(address)) {
+        return serverMap.get(address);
+      }
+      String id = address.replace("http://", "").replace("https://", "").replace("/", ".");
+      int i = 1;
+      while (serverMap.containsValue(id)) {
+        i++;
+        id =  address.replace("https:", "").replace("https:", "").replace("/", ".")+i;
+      }
+      serverMap.put(address, id);
+      if (folder != null) {
+        IniFile ini = new IniFile(Utilities.path(folder, "servers.ini"));
+        ini.setStringProperty("servers", id, address, null);
+        ini.save();
+      }
+      return id;
     }
-    return id;
   }
   
   public void unload() {
     // not useable after this is called
     caches.clear();
-    vsCache.clear();
-    csCache.clear();
+    synchronized (vsCache) {
+      vsCache.clear();
+    }
+    synchronized (csCache) {
+      csCache.clear();
+    }
   }
   
   private void clear() throws IOException {
@@ -369,8 +439,12 @@ public class TerminologyCache {
       Utilities.clearDirectory(folder);
     }
     caches.clear();
-    vsCache.clear();
-    csCache.clear();
+    synchronized (vsCache) {
+      vsCache.clear();
+    }
+    synchronized (csCache) {
+      csCache.clear();
+    }
   }
   
   public boolean hasCapabilityStatement(String address) {
@@ -382,7 +456,7 @@ public class TerminologyCache {
   }
 
   public void cacheCapabilityStatement(String address, CapabilityStatement capabilityStatement) throws IOException {
-    if (noCaching) {
+    if (noCaching || capabilityStatement == null) {
       return;
     } 
     this.capabilityStatementCache.put(address, capabilityStatement);
@@ -399,7 +473,7 @@ public class TerminologyCache {
   }
 
   public void cacheTerminologyCapabilities(String address, TerminologyCapabilities terminologyCapabilities) throws IOException {
-    if (noCaching) {
+    if (noCaching || terminologyCapabilities == null) {
       return;
     }
     this.terminologyCapabilitiesCache.put(address, terminologyCapabilities);
@@ -419,16 +493,15 @@ public class TerminologyCache {
       nameCacheToken(vs, ct);
       JsonParser json = new JsonParser();
       json.setOutputStyle(OutputStyle.PRETTY);
-      String expJS = json.composeString(expParameters);
+      String expJS = composeParameters(json, expParameters);
 
       if (vs != null && vs.hasUrl() && vs.hasVersion()) {
         ct.request = "{\"code\" : "+json.composeString(code, "codeableConcept")+", \"url\": \""+Utilities.escapeJson(vs.getUrl())
         +"\", \"version\": \""+Utilities.escapeJson(vs.getVersion())+"\""+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}\r\n";
       } else if (options.getVsAsUrl()) {
-        ct.request = "{\"code\" : "+json.composeString(code, "code")+", \"valueSet\" :"+extracted(json, vs)+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}";
+        ct.request = "{\"code\" : "+json.composeString(code, "code")+", \"valueSet\" :"+extracted(vs, false)+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}";
       } else {
-        ValueSet vsc = getVSEssense(vs);
-        ct.request = "{\"code\" : "+json.composeString(code, "code")+", \"valueSet\" :"+(vsc == null ? "null" : extracted(json, vsc))+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}";
+        ct.request = "{\"code\" : "+json.composeString(code, "code")+", \"valueSet\" :"+(vs == null ? "null" : extracted(vs, true))+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}";
       }
       ct.key = String.valueOf(hashJson(ct.request));
       return ct;
@@ -449,7 +522,7 @@ public class TerminologyCache {
       ct.setName(vsUrl);
       JsonParser json = new JsonParser();
       json.setOutputStyle(OutputStyle.PRETTY);
-      String expJS = json.composeString(expParameters);
+      String expJS = composeParameters(json, expParameters);
 
       ct.request = "{\"code\" : "+json.composeString(code, "code")+", \"valueSet\" :"+(vsUrl == null ? "null" : vsUrl)+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}";
       ct.key = String.valueOf(hashJson(ct.request));
@@ -469,6 +542,33 @@ public class TerminologyCache {
     return s;
   }
 
+  /**
+   * as for extracted(json, vsc), where vsc is the value set or (if essence) its essence, but the json is 
+   * remembered against the value set, so the essence isn't made or composed again for the next token
+   */
+  private String extracted(ValueSet vs, boolean essence) throws IOException {
+    // the essence has the same compose and contains as the value set
+    if ((vs.hasExpansion() && vs.getExpansion().getContains().size() > 1000) || vs.getCompose().getIncludeFirstRep().getConcept().size() > 1000) {      
+      return essence ? null : vs.getUrl();
+    } else if (essence) {
+      return fingerprinter.getJson(vs, "essence", () -> getVSEssense(vs));
+    } else {
+      return fingerprinter.getJson(vs);
+    }
+  }
+
+  private String composeParameters(JsonParser json, Parameters expParameters) throws IOException {
+    if (expParameters == null) {
+      return json.composeString(expParameters);
+    } else {
+      return fingerprinter.getJson(expParameters);
+    }
+  }
+
+  public TerminologyCacheFingerprinter getFingerprinter() {
+    return fingerprinter;
+  }
+
   public CacheToken generateValidationToken(ValidationOptions options, CodeableConcept code, ValueSet vs, Parameters expParameters) {
     try {
       CacheToken ct = new CacheToken();
@@ -481,15 +581,14 @@ public class TerminologyCache {
       nameCacheToken(vs, ct);
       JsonParser json = new JsonParser();
       json.setOutputStyle(OutputStyle.PRETTY);
-      String expJS = json.composeString(expParameters);
+      String expJS = composeParameters(json, expParameters);
       if (vs != null && vs.hasUrl() && vs.hasVersion()) {
         ct.request = "{\"code\" : "+json.composeString(code, "codeableConcept")+", \"url\": \""+Utilities.escapeJson(vs.getUrl())+
             "\", \"version\": \""+Utilities.escapeJson(vs.getVersion())+"\""+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}\r\n";      
       } else if (vs == null) { 
         ct.request = "{\"code\" : "+json.composeString(code, "codeableConcept")+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}";        
       } else {
-        ValueSet vsc = getVSEssense(vs);
-        ct.request = "{\"code\" : "+json.composeString(code, "codeableConcept")+", \"valueSet\" :"+extracted(json, vsc)+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}";
+        ct.request = "{\"code\" : "+json.composeString(code, "codeableConcept")+", \"valueSet\" :"+extracted(vs, true)+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}";
       }
       ct.key = String.valueOf(hashJson(ct.request));
       return ct;
@@ -516,11 +615,8 @@ public class TerminologyCache {
     if (vs.hasUrl() && vs.hasVersion()) {
       ct.request = "{\"hierarchical\" : "+(hierarchical ? "true" : "false")+", \"url\": \""+Utilities.escapeJson(vs.getUrl())+"\", \"version\": \""+Utilities.escapeJson(vs.getVersion())+"\"}\r\n";      
     } else {
-      ValueSet vsc = getVSEssense(vs);
-      JsonParser json = new JsonParser();
-      json.setOutputStyle(OutputStyle.PRETTY);
       try {
-        ct.request = "{\"hierarchical\" : "+(hierarchical ? "true" : "false")+", \"valueSet\" :"+extracted(json, vsc)+"}\r\n";
+        ct.request = "{\"hierarchical\" : "+(hierarchical ? "true" : "false")+", \"valueSet\" :"+extracted(vs, true)+"}\r\n";
       } catch (IOException e) {
         throw new Error(e);
       }
@@ -562,36 +658,30 @@ public class TerminologyCache {
 
     final String cacheName = cacheToken.name == null ? "null" : cacheToken.name;
 
-    NamedCache nc = caches.get(cacheName);
-
-    if (nc == null) {
-      nc = new NamedCache();
-      nc.name = cacheName;
-      caches.put(nc.name, nc);
-    }
-    return nc;
+    return caches.computeIfAbsent(cacheName, n -> new NamedCache(n));
   }
 
   public ValueSetExpansionOutcome getExpansion(CacheToken cacheToken) {
-    synchronized (lock) {
-      NamedCache nc = getNamedCache(cacheToken);
-      CacheEntry e = nc.map.get(cacheToken.key);
-      if (e == null)
-        return null;
-      else
-        return e.e;
+    if (cacheToken.key == null) {
+      return null;
     }
+    NamedCache nc = getNamedCache(cacheToken);
+    CacheEntry e = nc.map.get(cacheToken.key);
+    if (e == null)
+      return null;
+    else
+      return e.e;
   }
 
   public void cacheExpansion(CacheToken cacheToken, ValueSetExpansionOutcome res, boolean persistent) {
-    synchronized (lock) {      
+    if (cacheToken.key != null) {
       NamedCache nc = getNamedCache(cacheToken);
       CacheEntry e = new CacheEntry();
       e.request = cacheToken.request;
       e.persistent = persistent;
       e.e = res;
       store(cacheToken, persistent, nc, e);
-    }    
+    }
   }
 
   public void store(CacheToken cacheToken, boolean persistent, NamedCache nc, CacheEntry e) {
@@ -606,18 +696,15 @@ public class TerminologyCache {
       return;
     }
 
-    boolean n = nc.map.containsKey(cacheToken.key);
     nc.map.put(cacheToken.key, e);
     if (persistent) {
-      if (n) {
-        for (int i = nc.list.size()- 1; i>= 0; i--) {
-          if (nc.list.get(i).request.equals(e.request)) {
-            nc.list.remove(i);
-          }
+      synchronized (nc) {
+        if (nc.list.remove(cacheToken.key) != null) {
+          nc.superseded++;
         }
+        nc.list.put(cacheToken.key, e);
+        append(nc, e);  
       }
-      nc.list.add(e);
-      save(nc);  
     }
   }
 
@@ -625,38 +712,80 @@ public class TerminologyCache {
     if (cacheToken.key == null) {
       return null;
     }
-    synchronized (lock) {
-      requestCount++;
-      NamedCache nc = getNamedCache(cacheToken);
-      CacheEntry e = nc.map.get(cacheToken.key);
-      if (e == null) {
-        networkCount++;
-        return null;
-      } else {
-        hitCount++;
-        return new ValidationResult(e.v);
-      }
+    NamedCache nc = getNamedCache(cacheToken);
+    CacheEntry e = nc.map.get(cacheToken.key);
+    nc.statistics.seen(e != null);
+    if (e == null) {
+      return null;
+    } else {
+      return new ValidationResult(e.v);
     }
   }
 
+  /**
+   * @return true if there's a result for this token; unlike getValidation, this isn't counted in the statistics
+   */
+  public boolean hasValidation(CacheToken cacheToken) {
+    return cacheToken.key != null && getNamedCache(cacheToken).map.containsKey(cacheToken.key);
+  }
+
   public void cacheValidation(CacheToken cacheToken, ValidationResult res, boolean persistent) {
     if (cacheToken.key != null) {
-      synchronized (lock) {      
-        NamedCache nc = getNamedCache(cacheToken);
-        CacheEntry e = new CacheEntry();
-        e.request = cacheToken.request;
-        e.persistent = persistent;
-        e.v = new ValidationResult(res);
-        store(cacheToken, persistent, nc, e);
-      }    
+      NamedCache nc = getNamedCache(cacheToken);
+      CacheEntry e = new CacheEntry();
+      e.request = cacheToken.request;
+      e.persistent = persistent;
+      e.v = new ValidationResult(res);
+      store(cacheToken, persistent, nc, e);
+    }
+  }
+
+  /**
+   * @return the statistics for each of the named caches, by name
+   */
+  public Map<String, CacheStatistics> getStatistics() {
+    return new TreeMap<>(cacheStatistics);
+  }
+
+  public int getRequestCount() {
+    long res = 0;
+    for (CacheStatistics cs : cacheStatistics.values()) {
+      res += cs.getRequests();
+    }
+    return (int) res;
+  }
+
+  public int getHitCount() {
+    long res = 0;
+    for (CacheStatistics cs : cacheStatistics.values()) {
+      res += cs.getHits();
+    }
+    return (int) res;
+  }
+
+  public int getNetworkCount() {
+    long res = 0;
+    for (CacheStatistics cs : cacheStatistics.values()) {
+      res += cs.getMisses();
     }
+    return (int) res;
   }
 
 
   // persistence
 
+  /**
+   * compact any cache files that contain superseded entries, so that they are in the same state
+   * as if they had been written in full 
+   */
   public void save() {
-
+    for (NamedCache nc : caches.values()) {
+      synchronized (nc) {
+        if (nc.superseded > 0) {
+          save(nc);
+        }
+      }
+    }
   }
 
   private <K extends Resource> void save(K resource, String title) {
@@ -681,90 +810,136 @@ public class TerminologyCache {
       return;
 
     try {
-      OutputStreamWriter sw = new OutputStreamWriter(ManagedFileAccess.outStream(Utilities.path(folder, nc.name+CACHE_FILE_EXTENSION)), "UTF-8");
+      String fn = Utilities.path(folder, nc.name+CACHE_FILE_EXTENSION);
+      // managed file access can't move files, so there the file is written in place 
+      boolean direct = ManagedFileAccess.getAccessPolicy() == FileAccessPolicy.DIRECT;
+      String tmp = direct ? fn+".tmp" : fn;
+      OutputStreamWriter sw = new OutputStreamWriter(ManagedFileAccess.outStream(tmp), "UTF-8");
       sw.write(ENTRY_MARKER+"\r\n");
       JsonParser json = new JsonParser();
       json.setOutputStyle(OutputStyle.PRETTY);
-      for (CacheEntry ce : nc.list) {
-        sw.write(ce.request.trim());
-        sw.write(BREAK+"\r\n");
-        if (ce.e != null) {
-          sw.write("e: {\r\n");
-          if (ce.e.isFromServer())
-            sw.write("  \"from-server\" : true,\r\n");
-          if (ce.e.getValueset() != null)
-            sw.write("  \"valueSet\" : "+json.composeString(ce.e.getValueset()).trim()+",\r\n");
-          sw.write("  \"error\" : \""+Utilities.escapeJson(ce.e.getError()).trim()+"\"\r\n}\r\n");
-        } else if (ce.s != null) {
-          sw.write("s: {\r\n");
-          sw.write("  \"result\" : "+ce.s.result+"\r\n}\r\n");
-        } else {
-          sw.write("v: {\r\n");
-          boolean first = true;
-          if (ce.v.getDisplay() != null) {            
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"display\" : \""+Utilities.escapeJson(ce.v.getDisplay()).trim()+"\"");
-          }
-          if (ce.v.getCode() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"code\" : \""+Utilities.escapeJson(ce.v.getCode()).trim()+"\"");
-          }
-          if (ce.v.getSystem() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"system\" : \""+Utilities.escapeJson(ce.v.getSystem()).trim()+"\"");
-          }
-          if (ce.v.getVersion() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"version\" : \""+Utilities.escapeJson(ce.v.getVersion()).trim()+"\"");
-          }
-          if (ce.v.getSeverity() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"severity\" : "+"\""+ce.v.getSeverity().toCode().trim()+"\""+"");
-          }
-          if (ce.v.getMessage() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"error\" : \""+Utilities.escapeJson(ce.v.getMessage()).trim()+"\"");
-          }
-          if (ce.v.getErrorClass() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"class\" : \""+Utilities.escapeJson(ce.v.getErrorClass().toString())+"\"");
-          }
-          if (ce.v.getDefinition() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"definition\" : \""+Utilities.escapeJson(ce.v.getDefinition()).trim()+"\"");
-          }
-          if (ce.v.getStatus() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"status\" : \""+Utilities.escapeJson(ce.v.getStatus()).trim()+"\"");
-          }
-          if (ce.v.getServer() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"server\" : \""+Utilities.escapeJson(ce.v.getServer()).trim()+"\"");
-          }
-          if (ce.v.isInactive()) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"inactive\" : true");
-          }
-          if (ce.v.getUnknownSystems() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            sw.write("  \"unknown-systems\" : \""+Utilities.escapeJson(CommaSeparatedStringBuilder.join(",", ce.v.getUnknownSystems())).trim()+"\"");
-          }
-          if (ce.v.getIssues() != null) {
-            if (first) first = false; else sw.write(",\r\n");
-            OperationOutcome oo = new OperationOutcome();
-            oo.setIssue(ce.v.getIssues());
-            sw.write("  \"issues\" : "+json.composeString(oo).trim()+"\r\n");
-          }
-          sw.write("\r\n}\r\n");
-        }
-        sw.write(ENTRY_MARKER+"\r\n");
+      for (CacheEntry ce : nc.list.values()) {
+        writeEntry(sw, json, ce);
       }      
       sw.close();
+      nc.statistics.bytesPersisted.addAndGet(ManagedFileAccess.file(tmp).length());
+      if (direct) {
+        ManagedFileAccess.move(tmp, fn);
+      }
+      nc.superseded = 0;
+      nc.appendable = true;
     } catch (Exception e) {
       System.out.println("error saving "+nc.name+": "+e.getMessage());
     }
   }
 
+  private void append(NamedCache nc, CacheEntry ce) {
+    if (folder == null)
+      return;
+
+    // only direct file access can append to a file 
+    if (!nc.appendable || nc.superseded > COMPACTION_THRESHOLD + nc.list.size() / 4 || ManagedFileAccess.getAccessPolicy() != FileAccessPolicy.DIRECT) {
+      save(nc);
+    } else {
+      try {
+        // compose the entry first, so it goes to the file in a single write. If that write is interrupted, 
+        // the fragment has no trailing marker, and it is ignored (and the file rewritten) when the cache is next loaded
+        StringWriter sw = new StringWriter();
+        JsonParser json = new JsonParser();
+        json.setOutputStyle(OutputStyle.PRETTY);
+        writeEntry(sw, json, ce);
+        byte[] bytes = sw.toString().getBytes(StandardCharsets.UTF_8);
+        FileOutputStream fs = ManagedFileAccess.appendStream(Utilities.path(folder, nc.name+CACHE_FILE_EXTENSION));
+        try {
+          fs.write(bytes);
+        } finally {
+          fs.close();
+        }
+        nc.statistics.bytesPersisted.addAndGet(bytes.length);
+      } catch (IOException e) {
+        // the entry may be partly written, so rewrite the whole file 
+        System.out.println("error appending to "+nc.name+": "+e.getMessage());
+        nc.appendable = false;
+        save(nc);
+      }
+    }
+  }
+
+  private void writeEntry(Writer sw, JsonParser json, CacheEntry ce) throws IOException {
+    sw.write(ce.request.trim());
+    sw.write(BREAK+"\r\n");
+    if (ce.e != null) {
+      sw.write("e: {\r\n");
+      if (ce.e.isFromServer())
+        sw.write("  \"from-server\" : true,\r\n");
+      if (ce.e.getValueset() != null)
+        sw.write("  \"valueSet\" : "+json.composeString(ce.e.getValueset()).trim()+",\r\n");
+      sw.write("  \"error\" : \""+Utilities.escapeJson(ce.e.getError()).trim()+"\"\r\n}\r\n");
+    } else if (ce.s != null) {
+      sw.write("s: {\r\n");
+      sw.write("  \"result\" : "+ce.s.result+"\r\n}\r\n");
+    } else {
+      sw.write("v: {\r\n");
+      boolean first = true;
+      if (ce.v.getDisplay() != null) {            
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"display\" : \""+Utilities.escapeJson(ce.v.getDisplay()).trim()+"\"");
+      }
+      if (ce.v.getCode() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"code\" : \""+Utilities.escapeJson(ce.v.getCode()).trim()+"\"");
+      }
+      if (ce.v.getSystem() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"system\" : \""+Utilities.escapeJson(ce.v.getSystem()).trim()+"\"");
+      }
+      if (ce.v.getVersion() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"version\" : \""+Utilities.escapeJson(ce.v.getVersion()).trim()+"\"");
+      }
+      if (ce.v.getSeverity() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"severity\" : "+"\""+ce.v.getSeverity().toCode().trim()+"\""+"");
+      }
+      if (ce.v.getMessage() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"error\" : \""+Utilities.escapeJson(ce.v.getMessage()).trim()+"\"");
+      }
+      if (ce.v.getErrorClass() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"class\" : \""+Utilities.escapeJson(ce.v.getErrorClass().toString())+"\"");
+      }
+      if (ce.v.getDefinition() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"definition\" : \""+Utilities.escapeJson(ce.v.getDefinition()).trim()+"\"");
+      }
+      if (ce.v.getStatus() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"status\" : \""+Utilities.escapeJson(ce.v.getStatus()).trim()+"\"");
+      }
+      if (ce.v.getServer() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"server\" : \""+Utilities.escapeJson(ce.v.getServer()).trim()+"\"");
+      }
+      if (ce.v.isInactive()) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"inactive\" : true");
+      }
+      if (ce.v.getUnknownSystems() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        sw.write("  \"unknown-systems\" : \""+Utilities.escapeJson(CommaSeparatedStringBuilder.join(",", ce.v.getUnknownSystems())).trim()+"\"");
+      }
+      if (ce.v.getIssues() != null) {
+        if (first) first = false; else sw.write(",\r\n");
+        OperationOutcome oo = new OperationOutcome();
+        oo.setIssue(ce.v.getIssues());
+        sw.write("  \"issues\" : "+json.composeString(oo).trim()+"\r\n");
+      }
+      sw.write("\r\n}\r\n");
+    }
+    sw.write(ENTRY_MARKER+"\r\n");
+  }
+
   private boolean isCapabilityCache(String fn) {
     if (fn == null) {
       return false;
@@ -796,12 +971,14 @@ public class TerminologyCache {
   }
 
   private String getServerForId(String serverId) {
-    for (String n : serverMap.keySet()) {
-      if (serverMap.get(n).equals(serverId)) {
-        return n;
+    synchronized (serverMap) {
+      for (String n : serverMap.keySet()) {
+        if (serverMap.get(n).equals(serverId)) {
+          return n;
+        }
       }
+      return null;
     }
-    return null;
   }
 
   private CacheEntry getCacheEntry(String request, String resultString) throws IOException {
@@ -847,39 +1024,70 @@ public class TerminologyCache {
 
   private void loadNamedCache(String fn) {
     int c = 0;
-    try {
-      String src = TextFile.fileToString(Utilities.path(folder, fn));
+    // the file is streamed, and split on the entry markers as it is read
+    try (Reader rdr = new BufferedReader(new InputStreamReader(ManagedFileAccess.inStream(Utilities.path(folder, fn)), StandardCharsets.UTF_8))) {
       String title = fn.substring(0, fn.lastIndexOf("."));
 
-      NamedCache nc = new NamedCache();
-      nc.name = title;
-
-      if (src.startsWith("?"))
-        src = src.substring(1);
-      int i = src.indexOf(ENTRY_MARKER);
-      while (i > -1) {
-        c++;
-        String s = src.substring(0, i);
-        src = src.substring(i + ENTRY_MARKER.length() + 1);
-        i = src.indexOf(ENTRY_MARKER);
-        if (!Utilities.noString(s)) {
-          int j = s.indexOf(BREAK);
-          String request = s.substring(0, j);
-          String p = s.substring(j + BREAK.length() + 1).trim();
-
-          CacheEntry cacheEntry = getCacheEntry(request, p);
-
-          nc.map.put(String.valueOf(hashJson(cacheEntry.request)), cacheEntry);
-          nc.list.add(cacheEntry);
+      NamedCache nc = new NamedCache(title);
+
+      StringBuilder b = new StringBuilder();
+      char[] buf = new char[8192];
+      boolean start = true;
+      boolean skip = false;
+      int dashes = 0;
+      int n;
+      while ((n = rdr.read(buf)) != -1) {
+        for (int i = 0; i < n; i++) {
+          char ch = buf[i];
+          if (start) {
+            start = false;
+            if (ch == '?')
+              continue;
+          }
+          if (skip) {
+            // the character after the marker
+            skip = false;
+            continue;
+          }
+          b.append(ch);
+          dashes = ch == '-' ? dashes + 1 : 0;
+          if (dashes == ENTRY_MARKER.length()) {
+            c++;
+            b.setLength(b.length() - dashes);
+            loadEntry(nc, b.toString());
+            b.setLength(0);
+            dashes = 0;
+            skip = true;
+            caches.put(nc.name, nc);
+          }
         }
-        caches.put(nc.name, nc);
-      }        
+      }
+      // anything after the last marker is an incomplete entry (an interrupted write). 
+      // It's ignored, and the file will be rewritten before anything more is appended to it  
+      nc.appendable = c > 0 && Utilities.noString(b.toString().trim());
     } catch (Exception e) {
       System.out.println("Error loading "+fn+": "+e.getMessage()+" entry "+c+" - ignoring it");
       e.printStackTrace();
     }
   }
 
+  private void loadEntry(NamedCache nc, String s) throws IOException {
+    if (!Utilities.noString(s)) {
+      int j = s.indexOf(BREAK);
+      String request = s.substring(0, j);
+      String p = s.substring(j + BREAK.length() + 1).trim();
+
+      CacheEntry cacheEntry = getCacheEntry(request, p);
+
+      String key = String.valueOf(hashJson(cacheEntry.request));
+      nc.map.put(key, cacheEntry);
+      if (nc.list.remove(key) != null) {
+        nc.superseded++;
+      }
+      nc.list.put(key, cacheEntry);
+    }
+  }
+
   private void load() throws FHIRException, IOException {
     IniFile ini = new IniFile(Utilities.path(folder, "servers.ini"));
     if (ini.hasSection("servers")) {
@@ -1002,13 +1210,12 @@ public class TerminologyCache {
     return b.toString();
   }
 
+  /**
+   * drops the cached results for the code system. The statistics for its cache are kept
+   */
   public void removeCS(String url) {
-    synchronized (lock) {
-      String name = getSystemNameKeyGenerator().getNameForSystem(url);
-      if (caches.containsKey(name)) {
-        caches.remove(name);
-      }
-    }   
+    String name = getSystemNameKeyGenerator().getNameForSystem(url);
+    caches.remove(name);
   }
 
   public String getFolder() {
@@ -1036,15 +1243,22 @@ public class TerminologyCache {
   }
 
   public boolean hasValueSet(String canonical) {
-    return vsCache.containsKey(canonical);
+    synchronized (vsCache) {
+      return vsCache.containsKey(canonical);
+    }
   }
 
   public boolean hasCodeSystem(String canonical) {
-    return csCache.containsKey(canonical);
+    synchronized (csCache) {
+      return csCache.containsKey(canonical);
+    }
   }
 
   public SourcedValueSet getValueSet(String canonical) {
-    SourcedValueSetEntry sp = vsCache.get(canonical);
+    SourcedValueSetEntry sp;
+    synchronized (vsCache) {
+      sp = vsCache.get(canonical);
+    }
     if (sp == null || folder == null) {
       return null;
     } else {
@@ -1057,7 +1271,10 @@ public class TerminologyCache {
   }
 
   public SourcedCodeSystem getCodeSystem(String canonical) {
-    SourcedCodeSystemEntry sp = csCache.get(canonical);
+    SourcedCodeSystemEntry sp;
+    synchronized (csCache) {
+      sp = csCache.get(canonical);
+    }
     if (sp == null || folder == null) {
       return null;
     } else {
@@ -1073,36 +1290,38 @@ public class TerminologyCache {
     if (canonical == null) {
       return;
     }
-    try {
-      if (svs == null) {
-        vsCache.put(canonical, null);
-      } else {
-        String uuid = Utilities.makeUuidLC();
-        String fn = "vs-"+uuid+".json";
-        if (folder != null) {
-          new JsonParser().compose(ManagedFileAccess.outStream(Utilities.path(folder, fn)), svs.getVs());
-        }
-        vsCache.put(canonical, new SourcedValueSetEntry(svs.getServer(), fn));
-      }    
-      org.hl7.fhir.utilities.json.model.JsonObject j = new org.hl7.fhir.utilities.json.model.JsonObject();
-      for (String k : vsCache.keySet()) {
-        SourcedValueSetEntry sve = vsCache.get(k);
-        if (sve == null) {
-          j.add(k, new JsonNull());
+    synchronized (vsCache) {
+      try {
+        if (svs == null) {
+          vsCache.put(canonical, null);
         } else {
-          org.hl7.fhir.utilities.json.model.JsonObject e = new org.hl7.fhir.utilities.json.model.JsonObject();
-          e.set("server", sve.getServer());
-          if (sve.getFilename() != null) {
-            e.set("filename", sve.getFilename());
+          String uuid = Utilities.makeUuidLC();
+          String fn = "vs-"+uuid+".json";
+          if (folder != null) {
+            new JsonParser().compose(ManagedFileAccess.outStream(Utilities.path(folder, fn)), svs.getVs());
+          }
+          vsCache.put(canonical, new SourcedValueSetEntry(svs.getServer(), fn));
+        }    
+        org.hl7.fhir.utilities.json.model.JsonObject j = new org.hl7.fhir.utilities.json.model.JsonObject();
+        for (String k : vsCache.keySet()) {
+          SourcedValueSetEntry sve = vsCache.get(k);
+          if (sve == null) {
+            j.add(k, new JsonNull());
+          } else {
+            org.hl7.fhir.utilities.json.model.JsonObject e = new org.hl7.fhir.utilities.json.model.JsonObject();
+            e.set("server", sve.getServer());
+            if (sve.getFilename() != null) {
+              e.set("filename", sve.getFilename());
+            }
+            j.add(k, e);
           }
-          j.add(k, e);
         }
+        if (folder != null) {
+          org.hl7.fhir.utilities.json.parser.JsonParser.compose(j, ManagedFileAccess.file(Utilities.path(folder, "vs-externals.json")), true);
+        }
+      } catch (Exception e) {
+        e.printStackTrace();
       }
-      if (folder != null) {
-        org.hl7.fhir.utilities.json.parser.JsonParser.compose(j, ManagedFileAccess.file(Utilities.path(folder, "vs-externals.json")), true);
-      }
-    } catch (Exception e) {
-      e.printStackTrace();
     }
   }
 
@@ -1110,36 +1329,38 @@ public class TerminologyCache {
     if (canonical == null) {
       return;
     }
-    try {
-      if (scs == null) {
-        csCache.put(canonical, null);
-      } else {
-        String uuid = Utilities.makeUuidLC();
-        String fn = "cs-"+uuid+".json";
-        if (folder != null) {
-          new JsonParser().compose(ManagedFileAccess.outStream(Utilities.path(folder, fn)), scs.getCs());
-        }
-        csCache.put(canonical, new SourcedCodeSystemEntry(scs.getServer(), fn));
-      }    
-      org.hl7.fhir.utilities.json.model.JsonObject j = new org.hl7.fhir.utilities.json.model.JsonObject();
-      for (String k : csCache.keySet()) {
-        SourcedCodeSystemEntry sve = csCache.get(k);
-        if (sve == null) {
-          j.add(k, new JsonNull());
+    synchronized (csCache) {
+      try {
+        if (scs == null) {
+          csCache.put(canonical, null);
         } else {
-          org.hl7.fhir.utilities.json.model.JsonObject e = new org.hl7.fhir.utilities.json.model.JsonObject();
-          e.set("server", sve.getServer());
-          if (sve.getFilename() != null) {
-            e.set("filename", sve.getFilename());
+          String uuid = Utilities.makeUuidLC();
+          String fn = "cs-"+uuid+".json";
+          if (folder != null) {
+            new JsonParser().compose(ManagedFileAccess.outStream(Utilities.path(folder, fn)), scs.getCs());
+          }
+          csCache.put(canonical, new SourcedCodeSystemEntry(scs.getServer(), fn));
+        }    
+        org.hl7.fhir.utilities.json.model.JsonObject j = new org.hl7.fhir.utilities.json.model.JsonObject();
+        for (String k : csCache.keySet()) {
+          SourcedCodeSystemEntry sve = csCache.get(k);
+          if (sve == null) {
+            j.add(k, new JsonNull());
+          } else {
+            org.hl7.fhir.utilities.json.model.JsonObject e = new org.hl7.fhir.utilities.json.model.JsonObject();
+            e.set("server", sve.getServer());
+            if (sve.getFilename() != null) {
+              e.set("filename", sve.getFilename());
+            }
+            j.add(k, e);
           }
-          j.add(k, e);
         }
+        if (folder != null) {
+          org.hl7.fhir.utilities.json.parser.JsonParser.compose(j, ManagedFileAccess.file(Utilities.path(folder, "cs-externals.json")), true);
+        }
+      } catch (Exception e) {
+        e.printStackTrace();
       }
-      if (folder != null) {
-        org.hl7.fhir.utilities.json.parser.JsonParser.compose(j, ManagedFileAccess.file(Utilities.path(folder, "cs-externals.json")), true);
-      }
-    } catch (Exception e) {
-      e.printStackTrace();
     }
   }
 
@@ -1155,7 +1376,7 @@ public class TerminologyCache {
       ct.hasVersion = parent.hasVersion() || child.hasVersion();
       JsonParser json = new JsonParser();
       json.setOutputStyle(OutputStyle.PRETTY);
-      String expJS = json.composeString(expParameters);
+      String expJS = composeParameters(json, expParameters);
       ct.request = "{\"op\": \"subsumes\", \"parent\" : "+json.composeString(parent, "code")+", \"child\" :"+json.composeString(child, "code")+(options == null ? "" : ", "+options.toJson())+", \"profile\": "+expJS+"}";
       ct.key = String.valueOf(hashJson(ct.request));
       return ct;
@@ -1168,31 +1389,24 @@ public class TerminologyCache {
    if (cacheToken.key == null) {
      return null;
    }
-   synchronized (lock) {
-     requestCount++;
-     NamedCache nc = getNamedCache(cacheToken);
-     CacheEntry e = nc.map.get(cacheToken.key);
-     if (e == null) {
-       networkCount++;
-       return null;
-     } else {
-       hitCount++;
-       return e.s.result;
-     }
+   NamedCache nc = getNamedCache(cacheToken);
+   CacheEntry e = nc.map.get(cacheToken.key);
+   nc.statistics.seen(e != null);
+   if (e == null) {
+     return null;
+   } else {
+     return e.s.result;
    }
-   
   }
 
   public void cacheSubsumes(CacheToken cacheToken, Boolean b, boolean persistent) {
     if (cacheToken.key != null) {
-      synchronized (lock) {      
-        NamedCache nc = getNamedCache(cacheToken);
-        CacheEntry e = new CacheEntry();
-        e.request = cacheToken.request;
-        e.persistent = persistent;
-        e.s = new SubsumesResult(b);
-        store(cacheToken, persistent, nc, e);
-      }    
+      NamedCache nc = getNamedCache(cacheToken);
+      CacheEntry e = new CacheEntry();
+      e.request = cacheToken.request;
+      e.persistent = persistent;
+      e.s = new SubsumesResult(b);
+      store(cacheToken, persistent, nc, e);
     }
   }
 
@@ -0,0 +1,154 @@
+package org.hl7.fhir.r5.terminologies.utilities;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.hl7.fhir.r5.formats.IParser.OutputStyle;
+import org.hl7.fhir.r5.formats.JsonParser;
+import org.hl7.fhir.r5.model.Parameters;
+import org.hl7.fhir.r5.model.Parameters.ParametersParameterComponent;
+import org.hl7.fhir.r5.model.Resource;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.r5.model.ValueSet.ConceptSetComponent;
+
+/**
+ * Remembers the JSON form of the resources that go into a terminology cache token
+ * (the expansion parameters, and the value set or its essence) so that they
+ * aren't serialized again on every lookup.
+ *
+ * Entries are held against the source instance (weakly, by identity) and the view
+ * of it that was serialized (e.g. its essence), along with a private copy of the source
+ * and a stamp: a hash of the things that usually change when a resource is edited - the
+ * version and meta, and the number of includes, concepts, parameters etc. Resources don't
+ * track changes, so the stamp is checked first, as it's cheap and catches most edits, and
+ * then the copy is compared (equalsDeep) with the source. The content (e.g. the value set
+ * essence) is only made when the entry has to be regenerated.
+ */
+public class TerminologyCacheFingerprinter {
+
+  public static class Fingerprint {
+    private Resource snapshot;
+    private int stamp;
+    private String json;
+
+    private Fingerprint(Resource snapshot, int stamp, String json) {
+      super();
+      this.snapshot = snapshot;
+      this.stamp = stamp;
+      this.json = json;
+    }
+
+    public String getJson() {
+      return json;
+    }
+  }
+
+  private Map<Resource, Map<String, Fingerprint>> fingerprints = new WeakHashMap<>(); // by source, then view
+  private AtomicInteger hitCount = new AtomicInteger();
+  private AtomicInteger missCount = new AtomicInteger();
+
+  /**
+   * @param source - the instance the fingerprint is remembered against
+   * @param view - which content of the source this is (e.g. "essence"), or null for the source itself
+   * @param content - makes the resource to serialize: either the source, or something derived from it. Only called on a miss
+   */
+  public Fingerprint fingerprint(Resource source, String view, Supplier<? extends Resource> content) throws IOException {
+    int stamp = stamp(source);
+    Fingerprint fp;
+    synchronized (fingerprints) {
+      Map<String, Fingerprint> views = fingerprints.get(source);
+      fp = views == null ? null : views.get(view);
+    }
+    // the snapshot is never modified, so it can be compared outside the lock
+    if (fp != null && fp.stamp == stamp && fp.snapshot.equalsDeep(source)) {
+      hitCount.incrementAndGet();
+      return fp;
+    }
+    JsonParser json = new JsonParser();
+    json.setOutputStyle(OutputStyle.PRETTY);
+    fp = new Fingerprint(source.copy(), stamp, json.composeString(content.get()));
+    synchronized (fingerprints) {
+      fingerprints.computeIfAbsent(source, r -> new HashMap<>()).put(view, fp);
+    }
+    missCount.incrementAndGet();
+    return fp;
+  }
+
+  public String getJson(Resource source, String view, Supplier<? extends Resource> content) throws IOException {
+    return fingerprint(source, view, content).getJson();
+  }
+
+  public String getJson(Resource resource) throws IOException {
+    return fingerprint(resource, null, () -> resource).getJson();
+  }
+
+  private int stamp(Resource resource) {
+    int h = resource.fhirType().hashCode();
+    if (resource.hasMeta()) {
+      h = add(h, resource.getMeta().getVersionId());
+      h = add(h, resource.getMeta().getLastUpdated());
+    }
+    if (resource instanceof ValueSet) {
+      ValueSet vs = (ValueSet) resource;
+      h = add(h, vs.getVersion());
+      if (vs.hasCompose()) {
+        h = add(h, vs.getCompose().getInactive());
+        h = stamp(h, vs.getCompose().getInclude().size());
+        for (ConceptSetComponent inc : vs.getCompose().getInclude()) {
+          h = stamp(h, inc);
+        }
+        h = stamp(h, vs.getCompose().getExclude().size());
+        for (ConceptSetComponent inc : vs.getCompose().getExclude()) {
+          h = stamp(h, inc);
+        }
+      }
+      if (vs.hasExpansion()) {
+        h = add(h, vs.getExpansion().getIdentifier());
+        h = add(h, vs.getExpansion().getTimestamp());
+        h = stamp(h, vs.getExpansion().getParameter().size());
+        h = stamp(h, vs.getExpansion().getContains().size());
+      }
+    } else if (resource instanceof Parameters) {
+      for (ParametersParameterComponent p : ((Parameters) resource).getParameter()) {
+        h = add(h, p.getName());
+        h = add(h, p.hasValue() ? p.getValue().primitiveValue() : null);
+        h = stamp(h, p.getPart().size());
+      }
+    }
+    return h;
+  }
+
+  private int stamp(int h, ConceptSetComponent inc) {
+    h = add(h, inc.getSystem());
+    h = add(h, inc.getVersion());
+    h = stamp(h, inc.getConcept().size());
+    h = stamp(h, inc.getFilter().size());
+    return stamp(h, inc.getValueSet().size());
+  }
+
+  private int stamp(int h, int count) {
+    return 31 * h + count;
+  }
+
+  private int add(int h, Object value) {
+    return 31 * h + (value == null ? 0 : value.hashCode());
+  }
+
+  public int getHitCount() {
+    return hitCount.get();
+  }
+
+  public int getMissCount() {
+    return missCount.get();
+  }
+
+  public void clear() {
+    synchronized (fingerprints) {
+      fingerprints.clear();
+    }
+  }
+}
@@ -77,7 +77,10 @@ import org.hl7.fhir.r5.model.ValueSet.ConceptReferenceDesignationComponent;
 import org.hl7.fhir.r5.model.ValueSet.ConceptSetComponent;
 import org.hl7.fhir.r5.model.ValueSet.ConceptSetFilterComponent;
 import org.hl7.fhir.r5.model.ValueSet.ValueSetExpansionContainsComponent;
+import org.hl7.fhir.r5.terminologies.CodeSystemIndex;
+import org.hl7.fhir.r5.terminologies.CodeSystemIndex.AlternateCode;
 import org.hl7.fhir.r5.terminologies.CodeSystemUtilities;
+import org.hl7.fhir.r5.terminologies.ValueSetUtilities;
 import org.hl7.fhir.r5.terminologies.client.TerminologyClientManager;
 import org.hl7.fhir.r5.terminologies.expansion.ValueSetExpansionOutcome;
 import org.hl7.fhir.r5.terminologies.providers.CodeSystemProvider;
@@ -473,7 +476,7 @@ public class ValueSetValidator extends ValueSetProcessBase {
   private String lookupDisplay(Coding c) {
     CodeSystem cs = resolveCodeSystem(c.getSystem(), c.getVersion());
     if (cs != null) {
-      ConceptDefinitionComponent cd = CodeSystemUtilities.findCodeOrAltCode(cs.getConcept(), c.getCode(), null);
+      ConceptDefinitionComponent cd = CodeSystemUtilities.findCodeOrAltCode(cs, c.getCode(), null);
       if (cd != null) {
         return getPreferredDisplay(cd, cs); 
       }
@@ -841,52 +844,32 @@ public class ValueSetValidator extends ValueSetProcessBase {
   private ValidationResult findCodeInExpansion(Coding code) {
     if (valueset==null || !valueset.hasExpansion())
       return null;
-    return findCodeInExpansion(code, valueset.getExpansion().getContains());
-  }
-
-  private ValidationResult findCodeInExpansion(Coding code, List<ValueSetExpansionContainsComponent> contains) {
-    for (ValueSetExpansionContainsComponent containsComponent: contains) {
-      opContext.deadCheck("findCodeInExpansion");
-      if (containsComponent.getSystem().equals(code.getSystem()) && containsComponent.getCode().equals(code.getCode())) {
-        ConceptDefinitionComponent ccd = new ConceptDefinitionComponent();
-        ccd.setCode(containsComponent.getCode());
-        ccd.setDisplay(containsComponent.getDisplay());
-        ValidationResult res = new ValidationResult(code.getSystem(), code.hasVersion() ? code.getVersion() : containsComponent.getVersion(), ccd, getPreferredDisplay(ccd, null));
-        return res;
-      }
-      if (containsComponent.hasContains()) {
-        ValidationResult res = findCodeInExpansion(code, containsComponent.getContains());
-        if (res != null) {
-          return res;
-        }
-      }
+    opContext.deadCheck("findCodeInExpansion");
+    ValueSetExpansionContainsComponent containsComponent = ValueSetUtilities.getExpansionIndex(valueset.getExpansion()).findCode(code.getSystem(), code.getCode());
+    if (containsComponent == null) {
+      return null;
     }
-    return null;
+    ConceptDefinitionComponent ccd = new ConceptDefinitionComponent();
+    ccd.setCode(containsComponent.getCode());
+    ccd.setDisplay(containsComponent.getDisplay());
+    return new ValidationResult(code.getSystem(), code.hasVersion() ? code.getVersion() : containsComponent.getVersion(), ccd, getPreferredDisplay(ccd, null));
   }
 
   private boolean checkExpansion(Coding code, VersionInfo vi) {
     if (valueset==null || !valueset.hasExpansion()) {
       return false;
     }
-    return checkExpansion(code, valueset.getExpansion().getContains(), vi);
-  }
-
-  private boolean checkExpansion(Coding code, List<ValueSetExpansionContainsComponent> contains, VersionInfo vi) {
-    for (ValueSetExpansionContainsComponent containsComponent: contains) {
-      opContext.deadCheck("checkExpansion: "+code.toString());
-      if (containsComponent.hasSystem() && containsComponent.hasCode() && containsComponent.getSystem().equals(code.getSystem()) && containsComponent.getCode().equals(code.getCode())) {
-        vi.setExpansionVersion(containsComponent.getVersion());
-        return true;
-      }
-      if (containsComponent.hasContains() && checkExpansion(code, containsComponent.getContains(), vi)) {
-        return true;
-      }
+    opContext.deadCheck("checkExpansion: "+code.toString());
+    ValueSetExpansionContainsComponent containsComponent = ValueSetUtilities.getExpansionIndex(valueset.getExpansion()).findCode(code.getSystem(), code.getCode());
+    if (containsComponent == null) {
+      return false;
     }
-    return false;
+    vi.setExpansionVersion(containsComponent.getVersion());
+    return true;
   }
 
   private ValidationResult validateCode(String path, Coding code, CodeSystem cs, CodeableConcept vcc, ValidationProcessInfo info) {
-    ConceptDefinitionComponent cc = cs.hasUserData("tx.cs.special") ? ((SpecialCodeSystem) cs.getUserData("tx.cs.special")).findConcept(code) : findCodeInConcept(cs.getConcept(), code.getCode(), cs.getCaseSensitive(), allAltCodes);
+    ConceptDefinitionComponent cc = cs.hasUserData("tx.cs.special") ? ((SpecialCodeSystem) cs.getUserData("tx.cs.special")).findConcept(code) : findCodeInCodeSystem(cs, code.getCode(), cs.getCaseSensitive(), allAltCodes);
     if (cc == null) {
       cc = findSpecialConcept(code, cs);
     }
@@ -1095,44 +1078,25 @@ public class ValueSetValidator extends ValueSetProcessBase {
     return true;
   }
 
-  private ConceptDefinitionComponent findCodeInConcept(ConceptDefinitionComponent concept, String code, boolean caseSensitive, AlternateCodesProcessingRules altCodeRules) {
-    opContext.deadCheck("findCodeInConcept: "+code.toString()+", "+concept.toString());
-    if (code.equals(concept.getCode())) {
-      return concept;
-    }
-    ConceptDefinitionComponent cc = findCodeInConcept(concept.getConcept(), code, caseSensitive, altCodeRules);
-    if (cc != null) {
-      return cc;
-    }
-    if (concept.hasUserData(CodeSystemUtilities.USER_DATA_CROSS_LINK)) {
-      List<ConceptDefinitionComponent> children = (List<ConceptDefinitionComponent>) concept.getUserData(CodeSystemUtilities.USER_DATA_CROSS_LINK);
-      for (ConceptDefinitionComponent c : children) {
-        cc = findCodeInConcept(c, code, caseSensitive, altCodeRules);
-        if (cc != null) {
-          return cc;
-        }
-      }
+  private ConceptDefinitionComponent findCodeInCodeSystem(CodeSystem cs, String code, boolean caseSensitive, AlternateCodesProcessingRules altCodeRules) {
+    opContext.deadCheck("findCodeInCodeSystem: "+code);
+    CodeSystemIndex index = CodeSystemUtilities.getIndex(cs);
+    ConceptDefinitionComponent cc = index.findCode(code, caseSensitive);
+    if (cc == null) {
+      cc = findAlternateCode(index, code, altCodeRules);
     }
-    return null;
+    return cc;
   }
-  
-  private ConceptDefinitionComponent findCodeInConcept(List<ConceptDefinitionComponent> concept, String code, boolean caseSensitive, AlternateCodesProcessingRules altCodeRules) {
-    for (ConceptDefinitionComponent cc : concept) {
-      if (code.equals(cc.getCode()) || (!caseSensitive && (code.equalsIgnoreCase(cc.getCode())))) {
-        return cc;
-      }
-      if (Utilities.existsInList(code, alternateCodes(cc, altCodeRules))) {
-        return cc;
-      }
-      ConceptDefinitionComponent c = findCodeInConcept(cc, code, caseSensitive, altCodeRules);
-      if (c != null) {
-        return c;
+
+  private ConceptDefinitionComponent findAlternateCode(CodeSystemIndex index, String code, AlternateCodesProcessingRules altCodeRules) {
+    for (AlternateCode alt : index.getAlternateCodes(code)) {
+      if (altCodeRules.passes(alt.getProperty().getExtension())) {
+        return alt.getConcept();
       }
     }
     return null;
   }
 
-
   private List<String> alternateCodes(ConceptDefinitionComponent focus, AlternateCodesProcessingRules altCodeRules) {
     List<String> codes = new ArrayList<>();
     for (ConceptPropertyComponent p : focus.getProperty()) {
@@ -1231,7 +1195,7 @@ public class ValueSetValidator extends ValueSetProcessBase {
               }
             }
           } else {
-            ConceptDefinitionComponent cc = findCodeInConcept(cs.getConcept(), code, cs.getCaseSensitive(), allAltCodes);
+            ConceptDefinitionComponent cc = findCodeInCodeSystem(cs, code, cs.getCaseSensitive(), allAltCodes);
             if (cc != null) {
               sys.add(vsi.getSystem());
             }
@@ -1503,7 +1467,7 @@ public class ValueSetValidator extends ValueSetProcessBase {
         return false;
       }
       d = CodeSystemUtilities.getProperty(cs, code, f.getProperty());
-      return d != null && d.primitiveValue() != null && d.primitiveValue().matches(f.getValue());
+      return d != null && d.primitiveValue() != null && ValueSetUtilities.getFilterPattern(f).matcher(d.primitiveValue()).matches();
     case IN:
       if (f.getValue() == null) {
         return false;
@@ -1556,7 +1520,7 @@ public class ValueSetValidator extends ValueSetProcessBase {
         return false;
       }
       d = CodeSystemUtilities.getProperty(cs, code, f.getProperty());
-      return d != null && d.primitiveValue() != null && d.primitiveValue().matches(f.getValue());
+      return d != null && d.primitiveValue() != null && ValueSetUtilities.getFilterPattern(f).matcher(d.primitiveValue()).matches();
     default:
       System.out.println("todo: handle known property filters with op = "+f.getOp()); 
       throw new FHIRException(context.formatMessage(I18nConstants.UNABLE_TO_HANDLE_SYSTEM__PROPERTY_FILTER_WITH_OP__, cs.getUrl(), f.getOp()));
@@ -1564,7 +1528,7 @@ public class ValueSetValidator extends ValueSetProcessBase {
   }
 
   private boolean codeInRegexFilter(CodeSystem cs, ConceptSetFilterComponent f, String code) {
-    return code.matches(f.getValue());
+    return ValueSetUtilities.getFilterPattern(f).matcher(code).matches();
   }
 
   private boolean codeInConceptFilter(CodeSystem cs, ConceptSetFilterComponent f, String code) throws FHIRException {
@@ -1582,18 +1546,27 @@ public class ValueSetValidator extends ValueSetProcessBase {
     if (!excludeRoot && code.equals(f.getValue())) {
       return true;
     }
-    ConceptDefinitionComponent cc = findCodeInConcept(cs.getConcept(), f.getValue(), cs.getCaseSensitive(), altCodeParams);
+    CodeSystemIndex index = CodeSystemUtilities.getIndex(cs);
+    ConceptDefinitionComponent cc = findCodeInCodeSystem(cs, f.getValue(), cs.getCaseSensitive(), altCodeParams);
     if (cc == null) {
       return false;
     }
-    ConceptDefinitionComponent cc2 = findCodeInConcept(cc, code, cs.getCaseSensitive(), altCodeParams);
-    return cc2 != null && cc2 != cc;
+    ConceptDefinitionComponent cc2 = findCodeInCodeSystem(cs, code, cs.getCaseSensitive(), altCodeParams);
+    return index.isDescendentOf(cc2, cc);
   }
 
   public boolean validateCodeInConceptList(String code, CodeSystem def, List<ConceptDefinitionComponent> list, AlternateCodesProcessingRules altCodeRules) {
     opContext.deadCheck("validateCodeInConceptList");
     if (def.hasUserData("tx.cs.special")) {
       return ((SpecialCodeSystem) def.getUserData("tx.cs.special")).findConcept(new Coding().setCode(code)) != null; 
+    } else if (list == def.getConcept()) {
+      // the whole code system, so use the index
+      CodeSystemIndex index = CodeSystemUtilities.getIndex(def);
+      if (def.getCaseSensitive()) {
+        return index.findCode(code) != null || findAlternateCode(index, code, altCodeRules) != null;
+      } else {
+        return index.findCode(code, false) != null;
+      }
     } else if (def.getCaseSensitive()) {
       for (ConceptDefinitionComponent cc : list) {
         if (cc.getCode().equals(code)) { 
@@ -2,7 +2,6 @@ package org.hl7.fhir.r5.utils;
 
 import org.hl7.fhir.r5.model.Base;
 import org.hl7.fhir.r5.model.Element;
-import org.hl7.fhir.r5.model.Property;
 import org.hl7.fhir.r5.model.Resource;
 import org.hl7.fhir.r5.utils.ElementVisitor.ElementVisitorInstruction;
 
@@ -24,17 +23,13 @@ public class ElementVisitor {
   }
 
   private void visitBase(Object context, Base base) {
-    for (Property p : base.children()) {
-      if (p.hasValues()) {
-        for (Base b : p.getValues()) {
-          if (b instanceof Resource) {
-            visit(context, (Resource) b);
-          } else {
-            visit(context, (Element) b);
-          }
-        }
+    base.visitChildren((name, b) -> {
+      if (b instanceof Resource) {
+        visit(context, (Resource) b);
+      } else {
+        visit(context, (Element) b);
       }
-    }
+    });
   }
 
   public void visit(Object context, Resource res) {
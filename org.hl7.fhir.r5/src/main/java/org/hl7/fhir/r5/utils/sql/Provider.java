@@ -1,5 +1,6 @@
 package org.hl7.fhir.r5.utils.sql;
 
+import java.util.Iterator;
 import java.util.List;
 
 import org.hl7.fhir.r5.model.Base;
@@ -7,5 +8,17 @@ import org.hl7.fhir.r5.model.Base;
 public interface Provider {
   List<Base> fetch(String resourceType);
 
+  /**
+   * Iterate the resources of the given type. The runner only uses this, so providers over 
+   * large data sets should override it to read the resources as they are asked for, rather
+   * than having them all in memory at once (fetch() can then collect from the iterator)
+   * 
+   * @param resourceType
+   * @return
+   */
+  default Iterator<Base> iterate(String resourceType) {
+    return fetch(resourceType).iterator();
+  }
+
   Base resolveReference(Base rootResource, String ref, String specifiedResourceType);
 }
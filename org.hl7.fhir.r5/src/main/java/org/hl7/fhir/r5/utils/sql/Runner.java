@@ -1,15 +1,22 @@
 package org.hl7.fhir.r5.utils.sql;
 
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.codec.binary.Base64;
 import org.hl7.fhir.exceptions.FHIRException;
 import org.hl7.fhir.exceptions.PathEngineException;
 import org.hl7.fhir.r5.context.IWorkerContext;
-import org.hl7.fhir.r5.fhirpath.ExpressionNode;
 import org.hl7.fhir.r5.fhirpath.FHIRPathEngine;
+import org.hl7.fhir.r5.fhirpath.FHIRPathEngine.CompiledExpression;
 import org.hl7.fhir.r5.fhirpath.TypeDetails;
 import org.hl7.fhir.r5.fhirpath.ExpressionNode.CollectionStatus;
 import org.hl7.fhir.r5.fhirpath.FHIRPathEngine.IEvaluationContext;
@@ -23,6 +30,8 @@ import org.hl7.fhir.r5.model.IntegerType;
 import org.hl7.fhir.r5.model.Property;
 import org.hl7.fhir.r5.model.StringType;
 import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.r5.utils.sql.ViewPlan.ColumnPlan;
+import org.hl7.fhir.r5.utils.sql.ViewPlan.SelectPlan;
 import org.hl7.fhir.utilities.json.model.JsonObject;
 import org.hl7.fhir.utilities.validation.ValidationMessage;
 
@@ -33,6 +42,8 @@ public class Runner implements IEvaluationContext {
   private Storage storage;
   private List<String> prohibitedNames = new ArrayList<String>();
   private FHIRPathEngine fpe;
+  private int threads = 1;
+  private int batchSize = 500;
 
   private String resourceName;
   private List<ValidationMessage> issues;
@@ -64,6 +75,32 @@ public class Runner implements IEvaluationContext {
     return prohibitedNames;
   }
 
+  public int getThreads() {
+    return threads;
+  }
+
+  /**
+   * @param threads - the number of threads to evaluate resources on. If this is more than 1, the 
+   *   provider's resolveReference, and the storage's getKeyForSourceResource and getKeyForTargetResource
+   *   must be thread safe. Rows are still added to the storage in the order of the resources, from the 
+   *   thread that calls execute()
+   */
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * @param batchSize - how many resources are evaluated together (the rows for them are passed to Storage.addRows
+   *   together), and the size of the partitions when evaluating on more than one thread
+   */
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
   public void execute(JsonObject viewDefinition) {
     execute("$", viewDefinition);
   }
@@ -72,9 +109,7 @@ public class Runner implements IEvaluationContext {
     if (context == null) {
       throw new FHIRException("No context provided");
     }
-    fpe = new FHIRPathEngine(context);
-    fpe.setHostServices(this);
-    fpe.setEmitSQLonFHIRWarning(true);
+    fpe = makeEngine();
     if (viewDefinition == null) {
       throw new FHIRException("No viewDefinition provided");
     }
@@ -93,49 +128,112 @@ public class Runner implements IEvaluationContext {
     evaluate(viewDefinition);
   }
 
+  private FHIRPathEngine makeEngine() {
+    FHIRPathEngine engine = new FHIRPathEngine(context);
+    engine.setHostServices(this);
+    engine.setEmitSQLonFHIRWarning(true);
+    return engine;
+  }
+
   private void evaluate(JsonObject vd) {
     Store store = storage.createStore(vd.asString("name"), (List<Column>) vd.getUserData("columns"));
 
-    List<Base> data = provider.fetch(resourceName);
-
-    for (Base b : data) {
-      boolean ok = true;
-      for (JsonObject w : vd.getJsonObjects("where")) {
-        String expr = w.asString("path");
-        ExpressionNode node = fpe.parse(expr);
-        boolean pass = fpe.evaluateToBoolean(vd, b, b, b, node);
-        if (!pass) {
-          ok = false;
-          break;
-        }  
+    Iterator<Base> data = provider.iterate(resourceName);
+    if (threads > 1) {
+      evaluateInParallel(vd, store, data);
+    } else {
+      ViewPlan plan = new ViewPlan(vd, fpe);
+      List<List<Cell>> rows = new ArrayList<>();
+      while (data.hasNext()) {
+        evaluate(plan, data.next(), rows);
+        if (rows.size() >= batchSize) {
+          storage.addRows(store, rows);
+          rows = new ArrayList<>();
+        }
+      }
+      if (!rows.isEmpty()) {
+        storage.addRows(store, rows);
       }
-      if (ok) {
-        List<List<Cell>> rows = new ArrayList<>();
-        rows.add(new ArrayList<Cell>());
+    }
+    storage.finish(store);
+  }
 
-        for (JsonObject select : vd.getJsonObjects("select")) {
-          executeSelect(vd, select, b, rows);
+  /**
+   * The resources are read on this thread in partitions of batchSize, and each partition is 
+   * evaluated on the pool. The rows are handed to the storage on this thread, in the order the
+   * resources were read, so the storage doesn't need to be thread safe (though getKeyForSourceResource
+   * and getKeyForTargetResource are called from the pool, as is the provider's resolveReference).
+   * No more than a couple of partitions per thread are read ahead of the storage
+   */
+  private void evaluateInParallel(JsonObject vd, Store store, Iterator<Base> data) {
+    ThreadLocal<ViewPlan> plans = ThreadLocal.withInitial(() -> new ViewPlan(vd, makeEngine()));
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    Deque<Future<List<List<Cell>>>> pending = new ArrayDeque<>();
+    try {
+      while (data.hasNext()) {
+        List<Base> partition = new ArrayList<>(batchSize);
+        while (data.hasNext() && partition.size() < batchSize) {
+          partition.add(data.next());
         }
-        for (List<Cell> row : rows) {
-          storage.addRow(store, row);
+        pending.add(executor.submit(() -> {
+          ViewPlan plan = plans.get();
+          List<List<Cell>> rows = new ArrayList<>();
+          for (Base b : partition) {
+            evaluate(plan, b, rows);
+          }
+          return rows;
+        }));
+        while (pending.size() > threads * 2) {
+          storage.addRows(store, waitFor(pending.removeFirst()));
         }
       }
+      while (!pending.isEmpty()) {
+        storage.addRows(store, waitFor(pending.removeFirst()));
+      }
+    } finally {
+      executor.shutdownNow();
     }
-    storage.finish(store);
+  }
+
+  private List<List<Cell>> waitFor(Future<List<List<Cell>>> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FHIRException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else {
+        throw new FHIRException(e.getCause());
+      }
+    }
+  }
+
+  private void evaluate(ViewPlan plan, Base b, List<List<Cell>> output) {
+    for (CompiledExpression w : plan.getWhere()) {
+      boolean pass = plan.getEngine().evaluateToBoolean(plan.getViewDefinition(), b, b, b, w);
+      if (!pass) {
+        return;
+      }
+    }
+    List<List<Cell>> rows = new ArrayList<>();
+    rows.add(new ArrayList<Cell>());
+
+    for (SelectPlan select : plan.getSelect()) {
+      executeSelect(plan, select, b, rows);
+    }
+    output.addAll(rows);
   }
   
-  private void executeSelect(JsonObject vd, JsonObject select, Base b, List<List<Cell>> rows) {
+  private void executeSelect(ViewPlan plan, SelectPlan select, Base b, List<List<Cell>> rows) {
     List<Base> focus = new ArrayList<>();
     
-    if (select.has("forEach")) {
-      focus.addAll(executeForEach(vd, select, b));
-    } else if (select.has("forEachOrNull")) {
-      
-      focus.addAll(executeForEachOrNull(vd, select, b));  
-      if (focus.isEmpty()) {
-        List<Column> columns = (List<Column>) select.getUserData("columns");
+    if (select.getForEach() != null) {
+      focus.addAll(evaluate(plan, b, select.getForEach()));
+      if (focus.isEmpty() && select.isOrNull()) {
         for (List<Cell> row : rows) {
-          for (Column c : columns) {
+          for (Column c : select.getColumns()) {
             Cell cell = cell(row, c.getName());
             if (cell == null) {
               row.add(new Cell(c, null));
@@ -148,9 +246,6 @@ public class Runner implements IEvaluationContext {
       focus.add(b);
     }
 
-//  } else if (select.has("unionAll")) {
-//    focus.addAll(executeUnion(select, b));
-
     List<List<Cell>> tempRows = new ArrayList<>();
     tempRows.addAll(rows);
     rows.clear();
@@ -158,21 +253,21 @@ public class Runner implements IEvaluationContext {
     for (Base f : focus) {
       List<List<Cell>> rowsToAdd = cloneRows(tempRows);  
 
-      for (JsonObject column : select.getJsonObjects("column")) {
-        executeColumn(vd, column, f, rowsToAdd);
+      for (ColumnPlan column : select.getColumn()) {
+        executeColumn(plan, column, f, rowsToAdd);
       }
 
-      for (JsonObject sub : select.getJsonObjects("select")) {
-        executeSelect(vd, sub, f, rowsToAdd);
+      for (SelectPlan sub : select.getSelect()) {
+        executeSelect(plan, sub, f, rowsToAdd);
       }
       
-      executeUnionAll(vd, select.getJsonObjects("unionAll"), f, rowsToAdd);
+      executeUnionAll(plan, select.getUnionAll(), f, rowsToAdd);
       
       rows.addAll(rowsToAdd);
     }
   }
 
-  private void executeUnionAll(JsonObject vd, List<JsonObject> unionList,  Base b, List<List<Cell>> rows) {
+  private void executeUnionAll(ViewPlan plan, List<SelectPlan> unionList, Base b, List<List<Cell>> rows) {
     if (unionList.isEmpty()) {
       return;
     }
@@ -180,10 +275,10 @@ public class Runner implements IEvaluationContext {
     sourceRows.addAll(rows);
     rows.clear();
 
-    for (JsonObject union : unionList) {
+    for (SelectPlan union : unionList) {
       List<List<Cell>> tempRows = new ArrayList<>();
       tempRows.addAll(sourceRows);      
-      executeSelect(vd, union, b, tempRows);
+      executeSelect(plan, union, b, tempRows);
       rows.addAll(tempRows);
     }
   }
@@ -204,48 +299,35 @@ public class Runner implements IEvaluationContext {
     return list;
   }
 
-  private List<Base> executeForEach(JsonObject vd, JsonObject focus, Base b) {
-    ExpressionNode n = (ExpressionNode) focus.getUserData("forEach");
-    List<Base> result = new ArrayList<>();
-    result.addAll(fpe.evaluate(vd, b, n));
-    return result;  
-  }
-
-  private List<Base> executeForEachOrNull(JsonObject vd, JsonObject focus, Base b) {
-    ExpressionNode n = (ExpressionNode) focus.getUserData("forEachOrNull");
-    List<Base> result = new ArrayList<>();
-    result.addAll(fpe.evaluate(vd, b, n));
-    return result;  
+  private List<Base> evaluate(ViewPlan plan, Base b, CompiledExpression expression) {
+    // as for FHIRPathEngine.evaluate(appContext, base, expression)
+    Base res = b != null && b.isResource() ? b : null;
+    return plan.getEngine().evaluate(plan.getViewDefinition(), res, res, b, expression);
   }
 
-  private void executeColumn(JsonObject vd, JsonObject column, Base b, List<List<Cell>> rows) {
-    ExpressionNode n = (ExpressionNode) column.getUserData("path");
+  private void executeColumn(ViewPlan plan, ColumnPlan column, Base b, List<List<Cell>> rows) {
     List<Base> bl2 = new ArrayList<>();
     if (b != null) {
-      bl2.addAll(fpe.evaluate(vd, b, n));
+      bl2.addAll(evaluate(plan, b, column.getPath()));
     }
-    Column col = (Column) column.getUserData("column");
-    if (col == null) {
-      System.out.println("Error");
-    } else {
-      for (List<Cell> row : rows) {
-        Cell c = cell(row, col.getName());
-        if (c == null) {
-          c = new Cell(col);
-          row.add(c);
-        }      
-        if (!bl2.isEmpty()) {
-          if (bl2.size() + c.getValues().size() > 1) {
-            // this is a problem if collection != true or if the storage can't deal with it 
-            // though this should've been picked up before now - but there are circumstances where it wouldn't be
-            if (!c.getColumn().isColl()) {
-              throw new FHIRException("The column "+c.getColumn().getName()+" is not allowed multiple values, but at least one row has multiple values");
-            }
-          }
-          for (Base b2 : bl2) {
-            c.getValues().add(genValue(c.getColumn(), b2));
+    Column col = column.getColumn();
+    for (List<Cell> row : rows) {
+      Cell c = cell(row, col.getName());
+      if (c == null) {
+        c = new Cell(col);
+        row.add(c);
+      }      
+      if (!bl2.isEmpty()) {
+        if (bl2.size() + c.getValues().size() > 1) {
+          // this is a problem if collection != true or if the storage can't deal with it 
+          // though this should've been picked up before now - but there are circumstances where it wouldn't be
+          if (!c.getColumn().isColl()) {
+            throw new FHIRException("The column "+c.getColumn().getName()+" is not allowed multiple values, but at least one row has multiple values");
           }
         }
+        for (Base b2 : bl2) {
+          c.getValues().add(genValue(c.getColumn(), b2));
+        }
       }
     }
   }
@@ -11,6 +11,19 @@ public interface Storage {
   
   Store createStore(String name, List<Column> columns);
   void addRow(Store store, List<Cell> cells);
+
+  /**
+   * Add a set of rows, in the order they were produced. The runner adds rows in batches 
+   * (see Runner.setBatchSize); storages that can insert more efficiently in bulk should override this
+   * 
+   * @param store
+   * @param rows
+   */
+  default void addRows(Store store, List<List<Cell>> rows) {
+    for (List<Cell> row : rows) {
+      addRow(store, row);
+    }
+  }
   void finish(Store store);
   boolean needsName();
   String getKeyForSourceResource(Base res);
@@ -0,0 +1,127 @@
+package org.hl7.fhir.r5.utils.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hl7.fhir.r5.fhirpath.ExpressionNode;
+import org.hl7.fhir.r5.fhirpath.FHIRPathEngine;
+import org.hl7.fhir.r5.fhirpath.FHIRPathEngine.CompiledExpression;
+import org.hl7.fhir.utilities.json.model.JsonObject;
+
+/**
+ * A view definition prepared for evaluation: the where, forEach(OrNull) and column
+ * paths (parsed by the Validator) are compiled once, and the select structure is
+ * walked once, so evaluating each resource doesn't go back to the json.
+ *
+ * Compiled expressions belong to the engine that compiled them, so when a view is
+ * evaluated on more than one thread, each thread has its own engine and plan
+ */
+class ViewPlan {
+
+  static class ColumnPlan {
+    private CompiledExpression path;
+    private Column column;
+
+    public CompiledExpression getPath() {
+      return path;
+    }
+    public Column getColumn() {
+      return column;
+    }
+  }
+
+  static class SelectPlan {
+    private CompiledExpression forEach;
+    private boolean orNull;
+    private List<Column> columns;
+    private List<ColumnPlan> column = new ArrayList<>();
+    private List<SelectPlan> select = new ArrayList<>();
+    private List<SelectPlan> unionAll = new ArrayList<>();
+
+    public CompiledExpression getForEach() {
+      return forEach;
+    }
+    public boolean isOrNull() {
+      return orNull;
+    }
+    /**
+     * all the columns that the select produces, including those of nested selects
+     */
+    public List<Column> getColumns() {
+      return columns;
+    }
+    public List<ColumnPlan> getColumn() {
+      return column;
+    }
+    public List<SelectPlan> getSelect() {
+      return select;
+    }
+    public List<SelectPlan> getUnionAll() {
+      return unionAll;
+    }
+  }
+
+  private JsonObject vd;
+  private FHIRPathEngine engine;
+  private List<CompiledExpression> where = new ArrayList<>();
+  private List<SelectPlan> select = new ArrayList<>();
+
+  ViewPlan(JsonObject vd, FHIRPathEngine engine) {
+    this.vd = vd;
+    this.engine = engine;
+    for (JsonObject w : vd.getJsonObjects("where")) {
+      ExpressionNode n = (ExpressionNode) w.getUserData("path");
+      if (n == null) {
+        n = engine.parseCached(w.asString("path"));
+      }
+      where.add(engine.compile(n));
+    }
+    for (JsonObject s : vd.getJsonObjects("select")) {
+      select.add(compileSelect(s));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private SelectPlan compileSelect(JsonObject s) {
+    SelectPlan plan = new SelectPlan();
+    if (s.has("forEach")) {
+      plan.forEach = engine.compile((ExpressionNode) s.getUserData("forEach"));
+    } else if (s.has("forEachOrNull")) {
+      plan.forEach = engine.compile((ExpressionNode) s.getUserData("forEachOrNull"));
+      plan.orNull = true;
+    }
+    plan.columns = (List<Column>) s.getUserData("columns");
+    for (JsonObject c : s.getJsonObjects("column")) {
+      Column col = (Column) c.getUserData("column");
+      if (col != null) { // the validator will have reported the problem
+        ColumnPlan cp = new ColumnPlan();
+        cp.path = engine.compile((ExpressionNode) c.getUserData("path"));
+        cp.column = col;
+        plan.column.add(cp);
+      }
+    }
+    for (JsonObject sub : s.getJsonObjects("select")) {
+      plan.select.add(compileSelect(sub));
+    }
+    for (JsonObject union : s.getJsonObjects("unionAll")) {
+      plan.unionAll.add(compileSelect(union));
+    }
+    return plan;
+  }
+
+  public JsonObject getViewDefinition() {
+    return vd;
+  }
+
+  public FHIRPathEngine getEngine() {
+    return engine;
+  }
+
+  public List<CompiledExpression> getWhere() {
+    return where;
+  }
+
+  public List<SelectPlan> getSelect() {
+    return select;
+  }
+}
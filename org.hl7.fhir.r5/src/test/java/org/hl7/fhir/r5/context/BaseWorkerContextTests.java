@@ -6,6 +6,7 @@ import org.hl7.fhir.r5.terminologies.client.ITerminologyClient;
 import org.hl7.fhir.r5.terminologies.client.TerminologyClientContext;
 import org.hl7.fhir.r5.terminologies.expansion.ValueSetExpander;
 import org.hl7.fhir.r5.terminologies.expansion.ValueSetExpansionOutcome;
+import org.hl7.fhir.r5.terminologies.utilities.PrefetchValidationRequest;
 import org.hl7.fhir.r5.terminologies.utilities.TerminologyCache;
 import org.hl7.fhir.r5.terminologies.utilities.ValidationResult;
 import org.hl7.fhir.r5.terminologies.validation.ValueSetValidator;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -446,6 +448,99 @@ public class BaseWorkerContextTests {
     Mockito.verify(context).validateOnServer(terminologyClientContext, valueSet, pIn, validationOptions);
   }
 
+  @Test
+  public void testPrefetchValidationsSkipsCachedCodes() {
+    Coding coding = new Coding("http://loinc.org", "1234-5", null);
+
+    Mockito.doReturn(cacheToken).when(terminologyCache).generateValidationToken(CacheTestUtils.validationOptions, coding, (ValueSet) null, expParameters);
+    Mockito.doReturn("dummyRequest").when(cacheToken).getRequest();
+    Mockito.doReturn(true).when(terminologyCache).hasValidation(cacheToken);
+
+    context.prefetchValidations(List.of(new PrefetchValidationRequest(CacheTestUtils.validationOptions, coding, null)));
+
+    Mockito.verify(context, times(0)).constructValueSetCheckerSimple(any(), any(), any());
+    Mockito.verify(terminologyClient, times(0)).validateBatch(any());
+    Mockito.verify(terminologyCache, times(0)).cacheValidation(any(), any(), anyBoolean());
+  }
+
+  @Test
+  public void testPrefetchValidationsBatchesServerRequests() {
+    ValidationOptions validationOptions = CacheTestUtils.validationOptions.withNoClient();
+    CodeableConcept codeableConceptA = new CodeableConcept().setText("a");
+    CodeableConcept codeableConceptB = new CodeableConcept().setText("b");
+    CodeableConcept codeableConceptAAgain = new CodeableConcept().setText("a");
+    TerminologyCache.CacheToken cacheTokenB = mock(TerminologyCache.CacheToken.class);
+
+    Mockito.doReturn(cacheToken).when(terminologyCache).generateValidationToken(validationOptions, codeableConceptA, (ValueSet) null, expParameters);
+    Mockito.doReturn(cacheTokenB).when(terminologyCache).generateValidationToken(validationOptions, codeableConceptB, (ValueSet) null, expParameters);
+    Mockito.doReturn(cacheToken).when(terminologyCache).generateValidationToken(validationOptions, codeableConceptAAgain, (ValueSet) null, expParameters);
+    Mockito.doReturn("a").when(cacheToken).getRequest();
+    Mockito.doReturn("b").when(cacheTokenB).getRequest();
+
+    Bundle response = new Bundle();
+    response.addEntry().setResource(new Parameters().addParameter("result", true));
+    response.addEntry().setResource(new Parameters().addParameter("result", false).addParameter("message", "dummyMessageForServer"));
+    Mockito.doReturn(response).when(terminologyClient).validateBatch(any());
+
+    context.prefetchValidations(List.of(
+      new PrefetchValidationRequest(validationOptions, codeableConceptA, null),
+      new PrefetchValidationRequest(validationOptions, codeableConceptB, null),
+      new PrefetchValidationRequest(validationOptions, codeableConceptAAgain, null)));
+
+    ArgumentCaptor<Bundle> batch = ArgumentCaptor.forClass(Bundle.class);
+    Mockito.verify(terminologyClient).validateBatch(batch.capture());
+    assertEquals(2, batch.getValue().getEntry().size());
+    assertEquals("CodeSystem/$validate-code", batch.getValue().getEntry().get(0).getRequest().getUrl());
+    Mockito.verify(terminologyClient, times(0)).validateCS(any());
+    Mockito.verify(terminologyCache).cacheValidation(eq(cacheToken), argThat(ValidationResult::isOk), eq(true));
+    Mockito.verify(terminologyCache).cacheValidation(eq(cacheTokenB), argThat(vr -> !vr.isOk() && "dummyMessageForServer".equals(vr.getMessage())), eq(true));
+  }
+
+  @Test
+  public void testPrefetchValidationsCachesCodingsLikeValidateCode() {
+    ValidationOptions validationOptions = CacheTestUtils.validationOptions.withNoClient();
+    Coding codingA = new Coding("http://loinc.org", "1234-5", null);
+    Coding codingB = new Coding("http://example.org/unknown", "x", null);
+    TerminologyCache.CacheToken cacheTokenB = mock(TerminologyCache.CacheToken.class);
+
+    Mockito.doReturn(cacheToken).when(terminologyCache).generateValidationToken(validationOptions, codingA, (ValueSet) null, expParameters);
+    Mockito.doReturn(cacheTokenB).when(terminologyCache).generateValidationToken(validationOptions, codingB, (ValueSet) null, expParameters);
+    Mockito.doReturn("a").when(cacheToken).getRequest();
+    Mockito.doReturn("b").when(cacheTokenB).getRequest();
+
+    Bundle response = new Bundle();
+    response.addEntry().setResource(new Parameters().addParameter("result", true).addParameter("display", "dummyDisplay"));
+    response.addEntry().setResource(new Parameters().addParameter("result", false).addParameter("message", "dummyMessageForServer")
+      .addParameter("x-caused-by-unknown-system", new CanonicalType("http://example.org/unknown")));
+    Mockito.doReturn(response).when(terminologyClient).validateBatch(any());
+
+    context.prefetchValidations(List.of(
+      new PrefetchValidationRequest(validationOptions, codingA, null),
+      new PrefetchValidationRequest(validationOptions, codingB, null)));
+
+    ArgumentCaptor<Bundle> batch = ArgumentCaptor.forClass(Bundle.class);
+    Mockito.verify(terminologyClient).validateBatch(batch.capture());
+    assertEquals(2, batch.getValue().getEntry().size());
+    Mockito.verify(terminologyCache).cacheValidation(eq(cacheToken), argThat(vr -> vr.isOk() && "dummyDisplay".equals(vr.getDisplay())), eq(true));
+    // an unsupported code system is left for validateCode to report, so it isn't cached 
+    Mockito.verify(terminologyCache, times(0)).cacheValidation(eq(cacheTokenB), any(), anyBoolean());
+  }
+
+  @Test
+  public void testPrefetchValidationsLogsBatchFailures() {
+    ValidationOptions validationOptions = CacheTestUtils.validationOptions.withNoClient();
+    Coding coding = new Coding("http://loinc.org", "1234-5", null);
+
+    Mockito.doReturn(cacheToken).when(terminologyCache).generateValidationToken(validationOptions, coding, (ValueSet) null, expParameters);
+    Mockito.doReturn("a").when(cacheToken).getRequest();
+    Mockito.doThrow(new FHIRException("dummyServerFailure")).when(terminologyClient).validateBatch(any());
+
+    context.prefetchValidations(List.of(new PrefetchValidationRequest(validationOptions, coding, null)));
+
+    Mockito.verify(context).txLog(argThat((String msg) -> msg.startsWith("prefetch: $batch of 1 codes") && msg.contains("dummyServerFailure")));
+    Mockito.verify(terminologyCache, times(0)).cacheValidation(any(), any(), anyBoolean());
+  }
+
   @Test
   public void testExpandValueSetWithCache() throws IOException {
 
@@ -0,0 +1,79 @@
+package org.hl7.fhir.r5.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Date;
+
+import org.hl7.fhir.r5.model.Enumerations.PublicationStatus;
+import org.hl7.fhir.r5.model.PackageInformation;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.utilities.ByteProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ContextImageTests {
+
+  private SimpleWorkerContext makeContext() throws IOException {
+    SimpleWorkerContext context = new SimpleWorkerContext.SimpleWorkerContextBuilder().build();
+    PackageInformation pi = new PackageInformation("test.pkg", "1.0.0", "5.0.0", new Date());
+    for (int i = 0; i < 5; i++) {
+      ValueSet vs = new ValueSet();
+      vs.setId("vs" + i);
+      vs.setUrl("http://example.org/ValueSet/vs" + i);
+      vs.setVersion("1.0.0");
+      vs.setStatus(PublicationStatus.ACTIVE);
+      vs.setWebPath("ValueSet-vs" + i + ".html");
+      if (i == 0) {
+        vs.setUserData("old.load.mode", true);
+        vs.setUserData("webroot", "http://example.org/");
+      }
+      context.cacheResourceFromPackage(vs, pi);
+    }
+    context.getLoadedPackages().add("test.pkg#1.0.0");
+    context.binaries.put("test.txt", ByteProvider.forBytes("dummy file content".getBytes(StandardCharsets.UTF_8)));
+    return context;
+  }
+
+  @Test
+  public void testSaveAndLoad(@TempDir Path folder) throws IOException {
+    String filename = folder.resolve("context.img").toString();
+    SimpleWorkerContext source = makeContext();
+    ContextImage.save(source, filename, "key1");
+
+    SimpleWorkerContext context = new SimpleWorkerContext.SimpleWorkerContextBuilder().build();
+    assertTrue(ContextImage.load(context, filename, "key1"));
+    assertEquals(5, context.fetchResourcesByType(ValueSet.class).size());
+    assertTrue(context.getLoadedPackages().contains("test.pkg#1.0.0"));
+
+    ValueSet vs = context.fetchResource(ValueSet.class, "http://example.org/ValueSet/vs3");
+    assertNotNull(vs);
+    assertEquals("1.0.0", vs.getVersion());
+    assertEquals("ValueSet-vs3.html", vs.getWebPath());
+    assertEquals("test.pkg#1.0.0", vs.getSourcePackage().getVID());
+    assertEquals("dummy file content", new String(context.getBinaryForKey("test.txt"), StandardCharsets.UTF_8));
+
+    // the user data the context depends on is kept
+    assertFalse(vs.hasUserData("old.load.mode"));
+    vs = context.fetchResource(ValueSet.class, "http://example.org/ValueSet/vs0");
+    assertEquals(Boolean.TRUE, vs.getUserData("old.load.mode"));
+    assertEquals("http://example.org/", vs.getUserString("webroot"));
+  }
+
+  @Test
+  public void testKeyMismatch(@TempDir Path folder) throws IOException {
+    String filename = folder.resolve("context.img").toString();
+    ContextImage.save(makeContext(), filename, "key1");
+
+    SimpleWorkerContext context = new SimpleWorkerContext.SimpleWorkerContextBuilder().build();
+    int count = context.countAllCaches();
+    assertFalse(ContextImage.load(context, filename, "key2"));
+    assertFalse(ContextImage.load(context, folder.resolve("missing.img").toString(), "key1"));
+    assertEquals(count, context.countAllCaches());
+  }
+}
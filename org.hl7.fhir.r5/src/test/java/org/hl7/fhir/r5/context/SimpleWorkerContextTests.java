@@ -11,6 +11,8 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -31,12 +33,14 @@ import org.hl7.fhir.r5.terminologies.validation.ValueSetValidator;
 import org.hl7.fhir.r5.utils.validation.ValidationContextCarrier;
 import org.hl7.fhir.utilities.FhirPublication;
 import org.hl7.fhir.utilities.ToolingClientLogger;
+import org.hl7.fhir.utilities.npm.NpmPackage;
 import org.hl7.fhir.utilities.validation.ValidationMessage;
 import org.hl7.fhir.utilities.validation.ValidationOptions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -141,4 +145,42 @@ public class SimpleWorkerContextTests {
     String testFileContent = new String(simpleWorkerContext.getBinaryForKey(testPath), StandardCharsets.UTF_8);
     assertEquals("dummy file content", testFileContent);
   }
-}
\ No newline at end of file
+
+  private NpmPackage makeTestPackage(Path folder) throws IOException {
+    Path pkg = Files.createDirectories(folder.resolve("package"));
+    Files.writeString(pkg.resolve("package.json"), "{\"name\" : \"test.loading\", \"version\" : \"0.1.0\", \"fhirVersions\" : [\"5.0.0\"], \"dependencies\" : {\"hl7.fhir.r5.core\" : \"5.0.0\"}}");
+    for (int i = 0; i < 20; i++) {
+      Files.writeString(pkg.resolve("ValueSet-vs" + i + ".json"), "{\"resourceType\" : \"ValueSet\", \"id\" : \"vs" + i + "\", \"url\" : \"http://example.org/ValueSet/vs" + i + "\", \"status\" : \"active\"}");
+    }
+    Path other = Files.createDirectories(pkg.resolve("other"));
+    Files.writeString(other.resolve("test.txt"), "dummy file content");
+    return NpmPackage.fromFolder(folder.toString());
+  }
+
+  @Test
+  public void testLoadFromPackageInParallel(@TempDir Path folder) throws IOException {
+    NpmPackage npm = makeTestPackage(folder);
+
+    SimpleWorkerContext sequential = new SimpleWorkerContext.SimpleWorkerContextBuilder().build();
+    sequential.setAllowLazyLoading(false);
+    sequential.loadFromPackage(npm, null);
+
+    SimpleWorkerContext parallel = new SimpleWorkerContext.SimpleWorkerContextBuilder().withLoadingThreads(4).build();
+    parallel.setAllowLazyLoading(false);
+    assertEquals(20, parallel.loadFromPackage(npm, null));
+
+    List<String> expected = new ArrayList<>();
+    for (ValueSet vs : sequential.fetchResourcesByType(ValueSet.class)) {
+      expected.add(vs.getUrl());
+    }
+    List<String> actual = new ArrayList<>();
+    for (ValueSet vs : parallel.fetchResourcesByType(ValueSet.class)) {
+      actual.add(vs.getUrl());
+    }
+    assertEquals(expected, actual);
+    assertNotNull(parallel.fetchResource(ValueSet.class, "http://example.org/ValueSet/vs7"));
+
+    assertTrue(parallel.hasBinaryKey("test.txt"));
+    assertEquals("dummy file content", new String(parallel.getBinaryForKey("test.txt"), StandardCharsets.UTF_8));
+  }
+}
@@ -6,6 +6,7 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -26,6 +27,7 @@ import org.hl7.fhir.r5.model.ValueSet;
 import org.hl7.fhir.r5.terminologies.expansion.ValueSetExpansionOutcome;
 import org.hl7.fhir.r5.terminologies.utilities.TerminologyCache;
 import org.hl7.fhir.r5.terminologies.utilities.ValidationResult;
+import org.hl7.fhir.utilities.TextFile;
 import org.hl7.fhir.utilities.Utilities;
 import org.hl7.fhir.utilities.filesystem.ManagedFileAccess;
 import org.hl7.fhir.utilities.tests.ResourceLoaderTests;
@@ -167,6 +169,90 @@ public class TerminologyCacheTests implements ResourceLoaderTests {
     deleteTempCacheDirectory(tempCacheDirectory);
   }
 
+  @Test
+  public void testCacheJournalReplay() throws IOException {
+    Object lock = new Object();
+    Path tempCacheDirectory = createTempCacheDirectory();
+    ValueSet valueSet = new ValueSet();
+    valueSet.setUrl("dummyValueSetURL");
+
+    TerminologyCache terminologyCacheA = new TerminologyCache(lock, tempCacheDirectory.toString());
+    List<TerminologyCache.CacheToken> tokens = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      TerminologyCache.CacheToken token = terminologyCacheA.generateValidationToken(CacheTestUtils.validationOptions,
+        new Coding().setCode("dummyCode"+i), valueSet, new Parameters());
+      terminologyCacheA.cacheValidation(token, new ValidationResult(ValidationMessage.IssueSeverity.INFORMATION, "first "+i, null), true);
+      tokens.add(token);
+    }
+    // replacing an entry appends it again, and the later entry wins when the cache is loaded
+    terminologyCacheA.cacheValidation(tokens.get(3), new ValidationResult(ValidationMessage.IssueSeverity.INFORMATION, "second 3", null), true);
+    File cacheFile = ManagedFileAccess.file(Utilities.path(tempCacheDirectory.toString(), "all-systems.cache"));
+    assertTrue(TextFile.fileToString(cacheFile).contains("first 3"));
+
+    TerminologyCache terminologyCacheB = new TerminologyCache(lock, tempCacheDirectory.toString());
+    assertEquals("second 3", terminologyCacheB.getValidation(tokens.get(3)).getMessage());
+    assertEquals("first 4", terminologyCacheB.getValidation(tokens.get(4)).getMessage());
+
+    // compaction drops the superseded entry
+    terminologyCacheA.save();
+    String src = TextFile.fileToString(cacheFile);
+    assertFalse(src.contains("first 3"));
+    assertTrue(src.indexOf("first 9") < src.indexOf("second 3"));
+
+    // an interrupted write leaves a fragment after the last marker, which is ignored
+    TextFile.stringToFile(src + "{\"code\" : {\r\n  \"code\" : \"dummyCo", cacheFile);
+    TerminologyCache terminologyCacheC = new TerminologyCache(lock, tempCacheDirectory.toString());
+    assertEquals("first 0", terminologyCacheC.getValidation(tokens.get(0)).getMessage());
+    terminologyCacheC.cacheValidation(tokens.get(0), new ValidationResult(ValidationMessage.IssueSeverity.INFORMATION, "second 0", null), true);
+    assertFalse(TextFile.fileToString(cacheFile).contains("dummyCo\""));
+
+    TerminologyCache terminologyCacheD = new TerminologyCache(lock, tempCacheDirectory.toString());
+    assertEquals("second 0", terminologyCacheD.getValidation(tokens.get(0)).getMessage());
+    assertEquals("second 3", terminologyCacheD.getValidation(tokens.get(3)).getMessage());
+    deleteTempCacheDirectory(tempCacheDirectory);
+  }
+
+  @Test
+  public void testCacheStatisticsUnderConcurrentUse() throws Exception {
+    TerminologyCache terminologyCache = createTerminologyCache();
+    ValueSet valueSet = new ValueSet();
+    valueSet.setUrl("dummyValueSetURL");
+    List<TerminologyCache.CacheToken> tokens = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      tokens.add(terminologyCache.generateValidationToken(CacheTestUtils.validationOptions,
+        new Coding().setSystem(i % 2 == 0 ? "http://loinc.org" : "http://snomed.info/sct").setCode("dummyCode"+i), valueSet, new Parameters()));
+    }
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        for (TerminologyCache.CacheToken token : tokens) {
+          if (terminologyCache.getValidation(token) == null) {
+            terminologyCache.cacheValidation(token, new ValidationResult(ValidationMessage.IssueSeverity.INFORMATION, "dummyInfo", null), false);
+          }
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(400, terminologyCache.getRequestCount());
+    assertEquals(400, terminologyCache.getHitCount() + terminologyCache.getNetworkCount());
+    assertTrue(terminologyCache.getNetworkCount() >= 100);
+    assertEquals(200, terminologyCache.getStatistics().get("loinc").getRequests());
+    assertEquals(200, terminologyCache.getStatistics().get("snomed").getRequests());
+    for (TerminologyCache.CacheToken token : tokens) {
+      assertNotNull(terminologyCache.getValidation(token));
+    }
+
+    // removing a cache doesn't lose its statistics
+    terminologyCache.removeCS("http://loinc.org");
+    assertNull(terminologyCache.getValidation(tokens.get(0)));
+    assertEquals(501, terminologyCache.getRequestCount());
+    assertEquals(251, terminologyCache.getStatistics().get("loinc").getRequests());
+  }
+
   @Test
   public void testCacheMakesCopiesOfResults() throws IOException{
 
@@ -360,6 +446,47 @@ public class TerminologyCacheTests implements ResourceLoaderTests {
     assertFalse(cacheToken.hasVersion());
   }
 
+  @Test
+  public void testCacheTokenFingerprintsFollowChanges() throws IOException {
+    TerminologyCache terminologyCache = createTerminologyCache();
+    Coding coding = new Coding().setCode("dummyCode").setSystem("dummySystem");
+    ValueSet valueSet = new ValueSet();
+    valueSet.getCompose().addInclude(include.copy());
+    Parameters expParameters = new Parameters();
+    expParameters.addParameter("activeOnly", true);
+
+    TerminologyCache.CacheToken first = terminologyCache.generateValidationToken(CacheTestUtils.validationOptions, coding, valueSet, expParameters);
+    TerminologyCache.CacheToken second = terminologyCache.generateValidationToken(CacheTestUtils.validationOptions, coding, valueSet, expParameters);
+    assertEquals(first.getRequest(), second.getRequest());
+    assertEquals(2, terminologyCache.getFingerprinter().getMissCount());
+    assertEquals(2, terminologyCache.getFingerprinter().getHitCount());
+
+    expParameters.addParameter("displayLanguage", "de");
+    TerminologyCache.CacheToken third = terminologyCache.generateValidationToken(CacheTestUtils.validationOptions, coding, valueSet, expParameters);
+    assertNotEquals(first.getRequest(), third.getRequest());
+    assertTrue(third.getRequest().contains("displayLanguage"));
+
+    valueSet.getCompose().addInclude().setSystem("otherSystem");
+    TerminologyCache.CacheToken fourth = terminologyCache.generateValidationToken(CacheTestUtils.validationOptions, coding, valueSet, expParameters);
+    assertTrue(fourth.getRequest().contains("otherSystem"));
+    assertEquals(4, terminologyCache.getFingerprinter().getMissCount());
+
+    // an edit in place that doesn't change the version or any counts is still seen
+    valueSet.getCompose().getInclude().get(1).addConcept().setCode("code1");
+    terminologyCache.generateValidationToken(CacheTestUtils.validationOptions, coding, valueSet, expParameters);
+    valueSet.getCompose().getInclude().get(1).getConcept().get(0).setCode("code2");
+    TerminologyCache.CacheToken fifth = terminologyCache.generateValidationToken(CacheTestUtils.validationOptions, coding, valueSet, expParameters);
+    assertTrue(fifth.getRequest().contains("code2"));
+    assertFalse(fifth.getRequest().contains("code1"));
+
+    // the value set and its essence are remembered separately, so using both doesn't regenerate either
+    terminologyCache.generateValidationToken(CacheTestUtils.validationOptions.withVsAsUrl(), coding, valueSet, expParameters);
+    int misses = terminologyCache.getFingerprinter().getMissCount();
+    terminologyCache.generateValidationToken(CacheTestUtils.validationOptions, coding, valueSet, expParameters);
+    terminologyCache.generateValidationToken(CacheTestUtils.validationOptions.withVsAsUrl(), coding, valueSet, expParameters);
+    assertEquals(misses, terminologyCache.getFingerprinter().getMissCount());
+  }
+
   private static Stream<Arguments> getExpansionTokenParams() {
     ValueSet baseValueSet = new ValueSet();
     baseValueSet.setUrl("dummyUrl");
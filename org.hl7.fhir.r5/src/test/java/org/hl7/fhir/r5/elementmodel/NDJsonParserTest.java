@@ -0,0 +1,97 @@
+package org.hl7.fhir.r5.elementmodel;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hl7.fhir.r5.context.IWorkerContext;
+import org.hl7.fhir.r5.elementmodel.ParserBase.ValidationPolicy;
+import org.hl7.fhir.utilities.i18n.I18nConstants;
+import org.hl7.fhir.utilities.validation.ValidationMessage.IssueSeverity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class NDJsonParserTest {
+
+  private IWorkerContext makeContext() {
+    IWorkerContext context = mock(IWorkerContext.class);
+    when(context.formatMessage(any(String.class), any())).thenAnswer(i -> i.getArgument(0));
+    return context;
+  }
+
+  @Test
+  void emptyLines() throws Exception {
+    String src = "﻿\n  \r\n\t\n\r";
+    NDJsonParser parser = new NDJsonParser(makeContext());
+    parser.setupValidation(ValidationPolicy.EVERYTHING);
+    List<ValidatedFragment> list = parser.parse(new ByteArrayInputStream(src.getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertEquals(4, list.size());
+    for (int i = 0; i < list.size(); i++) {
+      ValidatedFragment vf = list.get(i);
+      Assertions.assertNull(vf.getElement());
+      Assertions.assertEquals(1, vf.getErrors().size());
+      Assertions.assertEquals(I18nConstants.NDJSON_EMPTY_LINE_WARNING, vf.getErrors().get(0).getMessage());
+      Assertions.assertEquals(i+1, vf.getErrors().get(0).getLine());
+    }
+  }
+
+  @Test
+  void brokenLineIsReported() throws Exception {
+    String src = "{\"resourceType\" : \n\n";
+    NDJsonParser parser = new NDJsonParser(makeContext());
+    parser.setupValidation(ValidationPolicy.EVERYTHING);
+    List<ValidatedFragment> list = parser.parse(new ByteArrayInputStream(src.getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertEquals(2, list.size());
+    Assertions.assertNull(list.get(0).getElement());
+    Assertions.assertEquals(IssueSeverity.FATAL, list.get(0).getErrors().get(0).getLevel());
+    Assertions.assertEquals(I18nConstants.NDJSON_EMPTY_LINE_WARNING, list.get(1).getErrors().get(0).getMessage());
+  }
+
+  @Test
+  void onlyLeadingByteOrderMarkIsDropped() throws Exception {
+    // the second line isn't empty: the mark in it is content
+    String src = "\uFEFF\n \uFEFF \n";
+    NDJsonParser parser = new NDJsonParser(makeContext());
+    parser.setupValidation(ValidationPolicy.EVERYTHING);
+    List<ValidatedFragment> list = parser.parse(new ByteArrayInputStream(src.getBytes(StandardCharsets.UTF_8)));
+    Assertions.assertEquals(2, list.size());
+    Assertions.assertEquals(I18nConstants.NDJSON_EMPTY_LINE_WARNING, list.get(0).getErrors().get(0).getMessage());
+    Assertions.assertNotEquals(I18nConstants.NDJSON_EMPTY_LINE_WARNING, list.get(1).getErrors().get(0).getMessage());
+  }
+
+  @Test
+  void linesAreHandledAsTheyAreRead() throws Exception {
+    // a stream that fails once the first part has been read: the lines in the first part must already have been handled
+    InputStream stream = new InputStream() {
+      private InputStream first = new ByteArrayInputStream("\n\n\n".getBytes(StandardCharsets.UTF_8));
+
+      @Override
+      public int read() throws IOException {
+        int c = first.read();
+        if (c == -1) {
+          throw new IOException("end of first part");
+        }
+        return c;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        int count = first.read(b, off, len);
+        if (count == -1) {
+          throw new IOException("end of first part");
+        }
+        return count;
+      }
+    };
+    List<ValidatedFragment> list = new ArrayList<>();
+    Assertions.assertThrows(IOException.class, () -> new NDJsonParser(makeContext()).parse(stream, list::add));
+    Assertions.assertEquals(3, list.size());
+  }
+}
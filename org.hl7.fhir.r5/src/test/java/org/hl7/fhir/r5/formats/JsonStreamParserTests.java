@@ -0,0 +1,124 @@
+package org.hl7.fhir.r5.formats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.hl7.fhir.exceptions.FHIRFormatError;
+import org.hl7.fhir.r5.model.Bundle;
+import org.hl7.fhir.r5.model.Bundle.BundleType;
+import org.hl7.fhir.r5.model.DataType;
+import org.hl7.fhir.r5.model.Enumerations.ObservationStatus;
+import org.hl7.fhir.r5.model.Extension;
+import org.hl7.fhir.r5.model.HumanName;
+import org.hl7.fhir.r5.model.Narrative.NarrativeStatus;
+import org.hl7.fhir.r5.model.Observation;
+import org.hl7.fhir.r5.model.Parameters;
+import org.hl7.fhir.r5.model.Patient;
+import org.hl7.fhir.r5.model.Quantity;
+import org.hl7.fhir.r5.model.Resource;
+import org.hl7.fhir.r5.model.StringType;
+import org.hl7.fhir.utilities.xhtml.NodeType;
+import org.hl7.fhir.utilities.xhtml.XhtmlNode;
+import org.junit.jupiter.api.Test;
+
+public class JsonStreamParserTests {
+
+  private Bundle makeBundle() {
+    Patient pat = new Patient();
+    pat.setId("p1");
+    pat.getMeta().addProfile("http://example.org/StructureDefinition/p");
+    pat.getText().setStatus(NarrativeStatus.GENERATED);
+    XhtmlNode div = new XhtmlNode(NodeType.Element, "div");
+    XhtmlNode p = div.para();
+    p.tx("Peter ");
+    p.b().tx("Chalmers");
+    pat.getText().setDiv(div);
+    pat.setActive(true);
+    HumanName name = pat.addName().setFamily("Chalmers");
+    name.addGiven("Peter");
+    name.addGivenElement().addExtension("http://example.org/ext", new StringType("no value"));
+    name.addGiven("James");
+    name.getFamilyElement().setId("f1");
+    StringType v = new StringType("v");
+    v.setId("v1");
+    pat.addExtension().setUrl("http://example.org/choice").setValue(v);
+    pat.addIdentifier().setSystem("http://example.org/mrn").setValue("12345");
+    pat.getContact().add(new Patient.ContactComponent().addRelationship(new org.hl7.fhir.r5.model.CodeableConcept().setText("friend")));
+    Observation obs = new Observation();
+    obs.setId("o1");
+    obs.setStatus(ObservationStatus.FINAL);
+    obs.getCode().addCoding().setSystem("http://loinc.org").setCode("1234-5");
+    obs.setValue(new Quantity().setUnit("mg").setValueElement(new org.hl7.fhir.r5.model.DecimalType("1.50")));
+    pat.getContained().add(obs);
+    Parameters params = new Parameters();
+    params.addParameter().setName("p").setResource(new Patient().setActive(false));
+    params.addParameter().setName("v").setValue(new org.hl7.fhir.r5.model.DecimalType("0.10"));
+    Bundle bnd = new Bundle();
+    bnd.setType(BundleType.COLLECTION);
+    bnd.addEntry().setFullUrl("http://example.org/Patient/p1").setResource(pat);
+    bnd.addEntry().setResource(params);
+    return bnd;
+  }
+
+  private InputStream stream(String s) {
+    return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void checkSame(String src) throws IOException {
+    Resource tree = new JsonParser().parse(stream(src));
+    Resource streamed = new JsonParser().setStreaming(true).parse(stream(src));
+    assertEquals(new JsonParser().composeString(tree), new JsonParser().composeString(streamed));
+    assertTrue(tree.equalsDeep(streamed));
+  }
+
+  @Test
+  public void testSameAsTreeParser() throws IOException {
+    String src = new JsonParser().setOutputStyle(IParser.OutputStyle.PRETTY).composeString(makeBundle());
+    checkSame(src);
+    // primitive extras ahead of the values
+    checkSame("{\"resourceType\":\"Patient\",\"name\":[{\"_given\":[null,{\"id\":\"g2\"}],\"given\":[\"a\",\"b\"],\"_family\":{\"id\":\"f\"},\"family\":\"c\"}],"
+        +"\"extension\":[{\"url\":\"http://example.org\",\"_valueCode\":{\"id\":\"c1\"},\"valueCode\":\"x\"}]}");
+  }
+
+  @Test
+  public void testResourceTypeNotFirst() throws IOException {
+    Patient pat = (Patient) new JsonParser().setStreaming(true).parse(stream("{\"id\":\"p1\",\"name\":[{\"family\":\"Chalmers\"}],\"resourceType\":\"Patient\",\"active\":true}"));
+    assertEquals("p1", pat.getIdPart());
+    assertEquals("Chalmers", pat.getNameFirstRep().getFamily());
+    assertTrue(pat.getActive());
+  }
+
+  @Test
+  public void testDecimalPresentation() throws IOException {
+    Observation obs = (Observation) new JsonParser().setStreaming(true).parse(stream("{\"resourceType\":\"Observation\",\"status\":\"final\",\"valueQuantity\":{\"value\":1.50}}"));
+    assertEquals("1.50", obs.getValueQuantity().getValueElement().asStringValue());
+  }
+
+  @Test
+  public void testParseType() throws IOException {
+    DataType t = new JsonParser().setStreaming(true).parseType(stream("{\"url\":\"http://example.org\",\"valueBoolean\":true}"), "Extension");
+    assertEquals("true", ((Extension) t).getValue().primitiveValue());
+  }
+
+  @Test
+  public void testErrors() {
+    assertThrows(FHIRFormatError.class, () -> new JsonParser().setStreaming(true).parse(stream("{\"id\":\"p1\"}")));
+    assertThrows(FHIRFormatError.class, () -> new JsonParser().setStreaming(true).parse(stream("{\"resourceType\":\"Patientx\"}")));
+    assertThrows(FHIRFormatError.class, () -> new JsonParser().setStreaming(true).parse(stream("{\"resourceType\":\"HumanName\"}")));
+  }
+
+  @Test
+  public void testResourceFiles() throws IOException {
+    for (String name : new String[] { "/languageUtils/CodeSystem-answer-translated.json", "/languageUtils/CodeSystem-answer.json" }) {
+      try (InputStream s = getClass().getResourceAsStream(name)) {
+        checkSame(new String(s.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+  }
+}
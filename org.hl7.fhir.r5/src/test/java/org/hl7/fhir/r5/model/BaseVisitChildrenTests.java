@@ -0,0 +1,121 @@
+package org.hl7.fhir.r5.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hl7.fhir.r5.formats.JsonParser;
+import org.hl7.fhir.r5.model.Bundle.BundleType;
+import org.hl7.fhir.r5.model.Enumerations.ObservationStatus;
+import org.hl7.fhir.r5.model.Narrative.NarrativeStatus;
+import org.hl7.fhir.utilities.xhtml.NodeType;
+import org.hl7.fhir.utilities.xhtml.XhtmlNode;
+import org.junit.jupiter.api.Test;
+
+public class BaseVisitChildrenTests {
+
+  private Bundle makeBundle() {
+    Patient pat = new Patient();
+    pat.setId("p1");
+    pat.getMeta().addProfile("http://example.org/StructureDefinition/p");
+    pat.getText().setStatus(NarrativeStatus.GENERATED);
+    pat.getText().setDiv(new XhtmlNode(NodeType.Element, "div").tx("Peter Chalmers"));
+    pat.setActive(true);
+    pat.addName().setFamily("Chalmers").addGiven("Peter").addGiven("James");
+    pat.addExtension().setUrl("http://example.org/choice").setValue(new StringType("v"));
+    pat.setDeceased(new BooleanType(false));
+    pat.addContact().addRelationship(new CodeableConcept().setText("friend"));
+    Observation obs = new Observation();
+    obs.setId("o1");
+    obs.setStatus(ObservationStatus.FINAL);
+    obs.getCode().addCoding().setSystem("http://loinc.org").setCode("1234-5");
+    obs.setValue(new Quantity().setUnit("mg").setValue(1.5));
+    obs.getText().setStatus(NarrativeStatus.EMPTY);
+    pat.getContained().add(obs);
+    Bundle bnd = new Bundle();
+    bnd.setType(BundleType.COLLECTION);
+    bnd.addEntry().setFullUrl("http://example.org/Patient/p1").setResource(pat);
+    return bnd;
+  }
+
+  private String name(Property p) {
+    return p.getName().endsWith("[x]") ? p.getName().substring(0, p.getName().length()-3) : p.getName();
+  }
+
+  private void checkSame(List<Base> expected, List<Base> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      if (expected.get(i) instanceof XhtmlType) {
+        assertEquals(XhtmlType.class, actual.get(i).getClass()); // made fresh each time
+      } else {
+        assertSame(expected.get(i), actual.get(i));
+      }
+    }
+  }
+
+  private void check(Base base) {
+    List<Base> expected = new ArrayList<>();
+    List<String> names = new ArrayList<>();
+    for (Property p : base.children()) {
+      for (Base v : p.getValues()) {
+        if (v != null) {
+          expected.add(v);
+          names.add(name(p));
+        }
+      }
+    }
+    List<Base> actual = new ArrayList<>();
+    List<String> actualNames = new ArrayList<>();
+    base.visitChildren((n, v) -> { actual.add(v); actualNames.add(n); });
+    checkSame(expected, actual);
+    assertEquals(names, actualNames);
+
+    List<Base> all = new ArrayList<>();
+    base.visitChildren("*".hashCode(), "*", (n, v) -> all.add(v));
+    checkSame(expected, all);
+
+    for (Property p : base.children()) {
+      String n = name(p);
+      List<Base> named = new ArrayList<>();
+      for (Base v : base.listChildrenByName(n, false)) {
+        if (v != null) {
+          named.add(v);
+        }
+      }
+      List<Base> visited = new ArrayList<>();
+      base.visitChildren(n.hashCode(), n, (vn, v) -> { assertEquals(n, vn); visited.add(v); });
+      checkSame(named, visited);
+    }
+    for (Base v : expected) {
+      if (!(v instanceof XhtmlType)) {
+        check(v);
+      }
+    }
+  }
+
+  @Test
+  public void testSameAsChildren() {
+    check(makeBundle());
+    check(new Patient());
+  }
+
+  @Test
+  public void testResourceFiles() throws IOException {
+    for (String name : new String[] { "/languageUtils/CodeSystem-answer-translated.json", "/languageUtils/CodeSystem-answer.json" }) {
+      try (InputStream s = getClass().getResourceAsStream(name)) {
+        check(new JsonParser().parse(s));
+      }
+    }
+  }
+
+  @Test
+  public void testUnknownName() {
+    List<Base> values = new ArrayList<>();
+    new Patient().setActive(true).visitChildren("nothing".hashCode(), "nothing", (n, v) -> values.add(v));
+    assertEquals(0, values.size());
+  }
+}
@@ -109,10 +109,24 @@ public class SQLOnFhirTests {
   @ParameterizedTest(name = "{index}: file {0}")
   @MethodSource("data")
   public void test(String name, TestDetails test) throws FileNotFoundException, IOException, FHIRException, org.hl7.fhir.exceptions.FHIRException, UcumException {
+    runTest(name, test, 1);
+  }
+
+  @ParameterizedTest(name = "{index}: file {0}")
+  @MethodSource("data")
+  public void testInParallel(String name, TestDetails test) throws FileNotFoundException, IOException, FHIRException, org.hl7.fhir.exceptions.FHIRException, UcumException {
+    runTest(name, test, 2);
+  }
+
+  private void runTest(String name, TestDetails test, int threads) throws FileNotFoundException, IOException, FHIRException, org.hl7.fhir.exceptions.FHIRException, UcumException {
     this.details = test;
     Runner runner = new Runner();
     runner.setContext(TestingUtilities.getSharedWorkerContext());
     runner.setProvider(new TestProvider());
+    runner.setThreads(threads);
+    if (threads > 1) {
+      runner.setBatchSize(1); // one resource per partition, so the rows have to be put back in order
+    }
     StorageJson store = new StorageJson();
     runner.setStorage(store);
 
@@ -0,0 +1,96 @@
+package org.hl7.fhir.r5.terminologies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hl7.fhir.r5.model.CodeSystem;
+import org.hl7.fhir.r5.model.CodeSystem.ConceptDefinitionComponent;
+import org.hl7.fhir.r5.model.CodeSystem.PropertyType;
+import org.hl7.fhir.r5.model.CodeType;
+import org.hl7.fhir.r5.model.StringType;
+import org.junit.jupiter.api.Test;
+
+public class CodeSystemIndexTests {
+
+  private CodeSystem makeCodeSystem() {
+    CodeSystem cs = new CodeSystem();
+    cs.setUrl("http://example.org/cs");
+    cs.addProperty().setCode("parent").setUri("http://hl7.org/fhir/concept-properties#parent").setType(PropertyType.CODE);
+    ConceptDefinitionComponent a = cs.addConcept().setCode("A").setDisplay("A");
+    ConceptDefinitionComponent a1 = a.addConcept().setCode("A1").setDisplay("A1");
+    a1.addConcept().setCode("A11").setDisplay("A11");
+    a1.addProperty().setCode("alternateCode").setValue(new StringType("alt-a1"));
+    ConceptDefinitionComponent b = cs.addConcept().setCode("B").setDisplay("B");
+    // B1 is under B in the hierarchy, and under A by the parent property
+    b.addConcept().setCode("B1").setDisplay("B1").addProperty().setCode("parent").setValue(new CodeType("A"));
+    return cs;
+  }
+
+  @Test
+  public void testFindCode() {
+    CodeSystem cs = makeCodeSystem();
+    CodeSystemIndex index = CodeSystemUtilities.getIndex(cs);
+    assertEquals(5, index.size());
+    assertEquals("A11", index.findCode("A11").getCode());
+    assertNull(index.findCode("a11"));
+    assertEquals("A11", index.findCode("a11", false).getCode());
+    assertNull(index.findCode("a11", true));
+    assertNull(index.findCode("C", false));
+    assertEquals(1, index.getAlternateCodes("alt-a1").size());
+    assertEquals("A1", index.getAlternateCodes("alt-a1").get(0).getConcept().getCode());
+    assertEquals("A1", CodeSystemUtilities.findCodeOrAltCode(cs, "alt-a1", null).getCode());
+    assertNull(CodeSystemUtilities.findCodeOrAltCode(cs, "alt-a1", "display"));
+    assertSame(index, CodeSystemUtilities.getIndex(cs));
+  }
+
+  @Test
+  public void testDescendents() {
+    CodeSystem cs = makeCodeSystem();
+    CodeSystemUtilities.crossLinkCodeSystem(cs);
+    CodeSystemIndex index = CodeSystemUtilities.getIndex(cs);
+    ConceptDefinitionComponent a = index.findCode("A");
+    ConceptDefinitionComponent b = index.findCode("B");
+    assertTrue(index.isDescendentOf(index.findCode("A11"), a));
+    assertTrue(index.isDescendentOf(index.findCode("A11"), index.findCode("A1")));
+    assertTrue(index.isDescendentOf(index.findCode("B1"), b));
+    assertTrue(index.isDescendentOf(index.findCode("B1"), a));
+    assertFalse(index.isDescendentOf(a, a));
+    assertFalse(index.isDescendentOf(a, index.findCode("A11")));
+    assertFalse(index.isDescendentOf(index.findCode("A11"), b));
+  }
+
+  @Test
+  public void testRebuiltWhenRootChanges() {
+    CodeSystem cs = makeCodeSystem();
+    CodeSystemIndex index = CodeSystemUtilities.getIndex(cs);
+    assertNull(index.findCode("C"));
+    cs.addConcept().setCode("C");
+    CodeSystemIndex index2 = CodeSystemUtilities.getIndex(cs);
+    assertNotSame(index, index2);
+    assertEquals("C", index2.findCode("C").getCode());
+
+    CodeSystem copy = cs.copy();
+    assertNotSame(copy.getConcept().get(0), CodeSystemUtilities.findCode(cs, "A"));
+    assertSame(copy.getConcept().get(0), CodeSystemUtilities.findCode(copy, "A"));
+  }
+
+  @Test
+  public void testClearIndexAfterEditingBelowRoot() {
+    CodeSystem cs = makeCodeSystem();
+    CodeSystemIndex index = CodeSystemUtilities.getIndex(cs);
+    CodeSystemUtilities.findCode(cs, "A").addConcept().setCode("A2");
+    // only the root concept list is checked
+    assertSame(index, CodeSystemUtilities.getIndex(cs));
+    assertNull(index.findCode("A2"));
+
+    CodeSystemUtilities.clearIndex(cs);
+    CodeSystemIndex index2 = CodeSystemUtilities.getIndex(cs);
+    assertNotSame(index, index2);
+    assertEquals("A2", index2.findCode("A2").getCode());
+    assertTrue(index2.isDescendentOf(index2.findCode("A2"), index2.findCode("A")));
+  }
+}
@@ -0,0 +1,76 @@
+package org.hl7.fhir.r5.terminologies;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.r5.model.ValueSet.ValueSetExpansionContainsComponent;
+import org.junit.jupiter.api.Test;
+
+public class ValueSetExpansionIndexTests {
+
+  private static final String SYS1 = "http://example.org/cs1";
+  private static final String SYS2 = "http://example.org/cs2";
+
+  private ValueSet makeValueSet() {
+    ValueSet vs = new ValueSet();
+    vs.setUrl("http://example.org/vs");
+    ValueSetExpansionContainsComponent a = vs.getExpansion().addContains().setSystem(SYS1).setVersion("1").setCode("A");
+    a.addContains().setSystem(SYS1).setVersion("1").setCode("A1");
+    a.addContains().setSystem(SYS2).setCode("A1");
+    // an abstract grouper, with no system or code
+    vs.getExpansion().addContains().setDisplay("group").addContains().setSystem(SYS1).setVersion("2").setCode("A");
+    return vs;
+  }
+
+  @Test
+  public void testFindCode() {
+    ValueSet vs = makeValueSet();
+    ValueSetExpansionIndex index = ValueSetUtilities.getExpansionIndex(vs.getExpansion());
+    assertEquals(4, index.size());
+    assertTrue(index.hasCode(SYS1, "A1"));
+    assertTrue(index.hasCode(SYS2, "A1"));
+    assertFalse(index.hasCode(SYS2, "A"));
+    assertFalse(index.hasCode(SYS1, "a1"));
+    assertFalse(index.hasCode(null, "A1"));
+    // the first one in the expansion wins, as it would searching the tree
+    assertEquals("1", index.findCode(SYS1, "A").getVersion());
+    assertEquals("2", index.findCode(SYS1, "2", "A").getVersion());
+    assertEquals("1", index.findCode(SYS1, null, "A").getVersion());
+    assertNull(index.findCode(SYS1, "3", "A"));
+    assertSame(index, ValueSetUtilities.getExpansionIndex(vs.getExpansion()));
+  }
+
+  @Test
+  public void testRebuiltWhenRootChanges() {
+    ValueSet vs = makeValueSet();
+    ValueSetExpansionIndex index = ValueSetUtilities.getExpansionIndex(vs.getExpansion());
+    assertFalse(index.hasCode(SYS2, "B"));
+    vs.getExpansion().addContains().setSystem(SYS2).setCode("B");
+    ValueSetExpansionIndex index2 = ValueSetUtilities.getExpansionIndex(vs.getExpansion());
+    assertNotSame(index, index2);
+    assertTrue(index2.hasCode(SYS2, "B"));
+
+    ValueSet copy = vs.copy();
+    assertSame(copy.getExpansion().getContains().get(0), ValueSetUtilities.getExpansionIndex(copy.getExpansion()).findCode(SYS1, "A"));
+  }
+
+  @Test
+  public void testClearIndexAfterEditingBelowRoot() {
+    ValueSet vs = makeValueSet();
+    ValueSetExpansionIndex index = ValueSetUtilities.getExpansionIndex(vs.getExpansion());
+    vs.getExpansion().getContains().get(0).addContains().setSystem(SYS2).setCode("A2");
+    // only the root contains list is checked
+    assertSame(index, ValueSetUtilities.getExpansionIndex(vs.getExpansion()));
+    assertFalse(index.hasCode(SYS2, "A2"));
+
+    ValueSetUtilities.clearExpansionIndex(vs.getExpansion());
+    ValueSetExpansionIndex index2 = ValueSetUtilities.getExpansionIndex(vs.getExpansion());
+    assertNotSame(index, index2);
+    assertTrue(index2.hasCode(SYS2, "A2"));
+  }
+}
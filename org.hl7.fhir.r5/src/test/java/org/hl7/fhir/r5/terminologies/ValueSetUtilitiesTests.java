@@ -0,0 +1,31 @@
+package org.hl7.fhir.r5.terminologies;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.hl7.fhir.r5.model.Enumerations.FilterOperator;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.r5.model.ValueSet.ConceptSetFilterComponent;
+import org.junit.jupiter.api.Test;
+
+public class ValueSetUtilitiesTests {
+
+  @Test
+  public void testFilterPattern() {
+    ValueSet vs = new ValueSet();
+    ConceptSetFilterComponent f = vs.getCompose().addInclude().setSystem("http://example.org/cs").addFilter().setProperty("code").setOp(FilterOperator.REGEX).setValue("A[0-9]+");
+    Pattern p = ValueSetUtilities.getFilterPattern(f);
+    assertTrue(p.matcher("A12").matches());
+    assertFalse(p.matcher("A12B").matches());
+    assertSame(p, ValueSetUtilities.getFilterPattern(f));
+
+    f.setValue("B.*");
+    Pattern p2 = ValueSetUtilities.getFilterPattern(f);
+    assertNotSame(p, p2);
+    assertTrue(p2.matcher("B12").matches());
+  }
+}
@@ -927,4 +927,101 @@ public class CanonicalResourceManagerTests {
     sl = mrm.getSupplements("http://url/CodeSystem/s234");
     Assertions.assertEquals(0, sl.size());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSealedLookups() {
+    Object lock = new Object();
+    CanonicalResourceManager<ValueSet> mrm = new CanonicalResourceManager<>(true, false);
+    ValueSet vs1 = new ValueSet();
+    vs1.setId("2345");
+    vs1.setUrl("http://url/ValueSet/234");
+    vs1.setVersion("4.0.1");
+    mrm.see(vs1, null);
+    mrm.seal(lock);
+    Assertions.assertTrue(mrm.isSealed());
+    Assertions.assertNotNull(mrm.get("http://url/ValueSet/234", "4.0.1"));
+
+    ValueSet vs2 = new ValueSet();
+    vs2.setId("2346");
+    vs2.setUrl("http://url/ValueSet/234");
+    vs2.setVersion("4.0.2");
+    synchronized (lock) {
+      mrm.see(vs2, null);
+    }
+    Assertions.assertEquals(2, mrm.size());
+    Assertions.assertEquals("4.0.2", mrm.get("http://url/ValueSet/234").getVersion());
+    Assertions.assertEquals(2, mrm.getForUrl("http://url/ValueSet/234").size());
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> mrm.getCachedList().clear());
+
+    // while publishing is deferred, readers see the content as it was before the batch started
+    ValueSet vs3 = new ValueSet();
+    vs3.setId("2347");
+    vs3.setUrl("http://url/ValueSet/235");
+    synchronized (lock) {
+      mrm.setDeferPublishing(true);
+      mrm.see(vs3, null);
+      Assertions.assertNotNull(mrm.get("http://url/ValueSet/235"));
+    }
+    Assertions.assertNull(mrm.get("http://url/ValueSet/235"));
+    synchronized (lock) {
+      mrm.setDeferPublishing(false);
+    }
+    Assertions.assertNotNull(mrm.get("http://url/ValueSet/235"));
+    Assertions.assertEquals(3, mrm.size());
+
+    synchronized (lock) {
+      mrm.drop("2346");
+    }
+    Assertions.assertEquals(2, mrm.size());
+    Assertions.assertEquals("4.0.1", mrm.get("http://url/ValueSet/234").getVersion());
+  }
+
+  @Test
+  public void testLoadedLimit() {
+    CanonicalResourceManager<ValueSet> mrm = new CanonicalResourceManager<>(true, false);
+    mrm.setLoadedLimit(2, false);
+    for (int i = 0; i < 4; i++) {
+      ValueSet vs = new ValueSet();
+      vs.setId("vs"+i);
+      vs.setUrl("http://url/ValueSet/vs"+i);
+      // a fresh copy each time it's loaded, so we can see when it was loaded again
+      mrm.register(new DeferredLoadTestResource(vs) {
+        @Override
+        public CanonicalResource loadResource() {
+          return vs.copy();
+        }
+      }, null);
+    }
+    Assertions.assertEquals(4, mrm.size());
+    Assertions.assertEquals(0, mrm.getLoadCount());
+
+    ValueSet vs0 = mrm.get("http://url/ValueSet/vs0");
+    Assertions.assertSame(vs0, mrm.get("http://url/ValueSet/vs0"));
+    mrm.get("http://url/ValueSet/vs1");
+    mrm.get("http://url/ValueSet/vs0"); // vs1 is now the least recently used 
+    mrm.get("http://url/ValueSet/vs2");
+    Assertions.assertEquals(3, mrm.getLoadCount());
+    Assertions.assertEquals(1, mrm.getEvictionCount());
+    Assertions.assertEquals(2, mrm.getLoadedCount());
+    Assertions.assertSame(vs0, mrm.get("http://url/ValueSet/vs0"));
+
+    // still listed, and loaded again on demand  
+    Assertions.assertEquals("http://url/ValueSet/vs1", mrm.get("http://url/ValueSet/vs1").getUrl());
+    Assertions.assertEquals(4, mrm.getLoadCount());
+    Assertions.assertEquals(2, mrm.getEvictionCount());
+    Assertions.assertEquals(2, mrm.getLoadedCount());
+
+    // resources that weren't loaded from a proxy aren't counted or unloaded
+    ValueSet vs = new ValueSet();
+    vs.setId("vs9");
+    vs.setUrl("http://url/ValueSet/vs9");
+    mrm.see(vs, null);
+    Assertions.assertSame(vs, mrm.get("http://url/ValueSet/vs9"));
+    Assertions.assertEquals(2, mrm.getLoadedCount());
+
+    mrm.drop("vs1");
+    Assertions.assertEquals(1, mrm.getLoadedCount());
+    mrm.setLoadedLimit(0, false);
+    Assertions.assertEquals(0, mrm.getLoadedCount());
+  }
+}
@@ -0,0 +1,110 @@
+package org.hl7.fhir.r5.test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hl7.fhir.r5.context.SimpleWorkerContext;
+import org.hl7.fhir.r5.fhirpath.ExpressionNode;
+import org.hl7.fhir.r5.fhirpath.FHIRPathEngine;
+import org.hl7.fhir.r5.fhirpath.FHIRPathEngine.CompiledExpression;
+import org.hl7.fhir.r5.model.Base;
+import org.hl7.fhir.r5.model.ContactPoint.ContactPointUse;
+import org.hl7.fhir.r5.model.HumanName;
+import org.hl7.fhir.r5.model.Patient;
+import org.hl7.fhir.r5.model.Property;
+import org.hl7.fhir.r5.model.StringType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the tree walking FHIRPath interpreter with compiled expressions, evaluating
+ * the invariants that are checked on (nearly) every element during validation on all
+ * the elements of a sample patient.
+ *
+ * Not a unit test - run main() from the IDE, or with the test classpath
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FHIRPathCompileBenchmark {
+
+  @Param({
+    "hasValue() or (children().count() > id.count())",
+    "extension.exists() != value.exists()",
+    "contained.where((('#'+id in (%resource.descendants().reference | %resource.descendants().ofType(canonical) | %resource.descendants().ofType(uri) | %resource.descendants().ofType(url))) or descendants().where(reference = '#').exists() or descendants().where(ofType(canonical) = '#').exists() or descendants().where(ofType(canonical) = '#').exists()).not()).trace('unmatched', id).empty()",
+    "name.where(use = 'official').given.first().exists() and (1 + 2) * 3 = 9"
+  })
+  public String expression;
+
+  private FHIRPathEngine engine;
+  private Patient patient;
+  private List<Base> elements;
+  private ExpressionNode node;
+  private CompiledExpression compiled;
+
+  @Setup
+  public void setup() throws IOException {
+    engine = new FHIRPathEngine(new SimpleWorkerContext.SimpleWorkerContextBuilder().fromNothing());
+    patient = new Patient();
+    patient.setId("example");
+    patient.setActive(true);
+    patient.addIdentifier().setSystem("http://example.org/mrn").setValue("12345");
+    patient.addName().setUse(HumanName.NameUse.OFFICIAL).setFamily("Chalmers").addGiven("Peter").addGiven("James");
+    patient.addName().setUse(HumanName.NameUse.USUAL).addGiven("Jim");
+    patient.addTelecom().setValue("(03) 5555 6473").setUse(ContactPointUse.WORK);
+    patient.addAddress().addLine("534 Erewhon St").setCity("PleasantVille").setPostalCode("3999");
+    patient.addExtension().setUrl("http://example.org/ext").setValue(new StringType("value"));
+    elements = new ArrayList<>();
+    collect(patient, elements);
+    node = engine.parse(expression);
+    compiled = engine.compile(node);
+  }
+
+  private void collect(Base b, List<Base> list) {
+    list.add(b);
+    for (Property p : b.children()) {
+      for (Base v : p.getValues()) {
+        collect(v, list);
+      }
+    }
+  }
+
+  @Benchmark
+  public int interpreted() {
+    int count = 0;
+    for (Base b : elements) {
+      count += engine.evaluate(null, patient, patient, b, node).size();
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int compiled() {
+    int count = 0;
+    for (Base b : elements) {
+      count += engine.evaluate(null, patient, patient, b, compiled).size();
+    }
+    return count;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(FHIRPathCompileBenchmark.class.getSimpleName()).build()).run();
+  }
+}
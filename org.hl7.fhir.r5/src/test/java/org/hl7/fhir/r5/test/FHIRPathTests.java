@@ -16,6 +16,7 @@ import org.hl7.fhir.r5.elementmodel.Manager;
 import org.hl7.fhir.r5.elementmodel.Manager.FhirFormat;
 import org.hl7.fhir.r5.fhirpath.ExpressionNode;
 import org.hl7.fhir.r5.fhirpath.FHIRPathEngine;
+import org.hl7.fhir.r5.fhirpath.FHIRPathParseCache;
 import org.hl7.fhir.r5.fhirpath.TypeDetails;
 import org.hl7.fhir.r5.fhirpath.FHIRPathEngine.IEvaluationContext;
 import org.hl7.fhir.r5.fhirpath.FHIRPathUtilityClasses.FunctionDetails;
@@ -233,19 +234,21 @@ public class FHIRPathTests {
     }
     
     if (node != null) {
+      ExpressionNode checked = node;
+      Base focus = res;
       try {
         if ("element".equals(test.getAttribute("mode"))) {
           List<ValidatedFragment> e = Manager.parse(fp.getWorker(), TestingUtilities.loadTestResourceStream("r5", input), input.endsWith(".json") ? FhirFormat.JSON : FhirFormat.XML);                        
-          outcome = fp.evaluate(e.get(0).getElement(), node);
-        } else {
-          outcome = fp.evaluate(res, node);
+          focus = e.get(0).getElement();
         }
+        outcome = fp.evaluate(focus, node);
         Assertions.assertTrue(fail == TestResultType.OK, String.format("Expected exception didn't occur executing %s", expression));
       } catch (Exception e) {
         System.out.println("Execution Error: "+e.getMessage());
         Assertions.assertTrue(fail == TestResultType.EXECUTION, String.format("Unexpected exception executing %s: " + e.getMessage(), expression));
         node = null;
       }
+      checkCompiled(expression, checked, focus, node == null ? null : outcome);
     }
 
     if (fp.hasLog()) {
@@ -306,6 +309,36 @@ public class FHIRPathTests {
     }
   }
 
+  /**
+   * the compiled form of an expression has to give the same answer as the interpreter, including failing when it does
+   */
+  private void checkCompiled(String expression, ExpressionNode node, Base focus, List<Base> interpreted) {
+    Base resource = focus != null && focus.isResource() ? focus : null;
+    List<Base> compiled;
+    try {
+      compiled = fp.evaluate(null, resource, resource, focus, fp.compile(node));
+    } catch (Exception e) {
+      Assertions.assertNull(interpreted, String.format("Unexpected exception executing compiled %s: " + e.getMessage(), expression));
+      return;
+    }
+    Assertions.assertNotNull(interpreted, String.format("Expected exception didn't occur executing compiled %s", expression));
+    assertEquals(interpreted.size(), compiled.size(), String.format("Compiled %s found %d objects but the interpreter found %d", expression, compiled.size(), interpreted.size()));
+    // the clock moves on between the two evaluations 
+    boolean timeDependent = expression.contains("now()") || expression.contains("timeOfDay()");
+    for (int i = 0; i < interpreted.size(); i++) {
+      Base iv = interpreted.get(i);
+      Base cv = compiled.get(i);
+      assertEquals(iv.fhirType(), cv.fhirType(), String.format("Outcome %d: compiled type for %s should be %s but was %s", i, expression, iv.fhirType(), cv.fhirType()));
+      if (!timeDependent) {
+        if (iv.isPrimitive()) {
+          assertEquals(iv.primitiveValue(), cv.primitiveValue(), String.format("Outcome %d: compiled value for %s", i, expression));
+        } else {
+          Assertions.assertTrue(iv.equalsDeep(cv), String.format("Outcome %d: compiled value for %s should be %s but was %s", i, expression, iv.toString(), cv.toString()));
+        }
+      }
+    }
+  }
+
   @Test
   @DisplayName("resolveConstant returns a list of Base")
   public void resolveConstantReturnsList() {
@@ -337,4 +370,64 @@ public class FHIRPathTests {
     assertEquals(1, results.size());
     assertEquals("123", results.get(0).toString());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testParseCache() {
+    // a cache of its own, so that other tests (and other threads) don't change the counts 
+    FHIRPathParseCache cache = new FHIRPathParseCache();
+    FHIRPathEngine engine = new FHIRPathEngine(context);
+    engine.setParseCache(cache);
+    String expr = "Patient.name.where(use = 'parse-cache').given.first()";
+    ExpressionNode n1 = engine.parseCached(expr);
+    ExpressionNode n2 = engine.parseCached(expr);
+    Assertions.assertSame(n1, n2);
+    Assertions.assertNotSame(n1, engine.parse(expr));
+    Assertions.assertEquals(1, cache.getHits());
+    Assertions.assertEquals(1, cache.getMisses());
+    Assertions.assertEquals(1, cache.size());
+
+    Patient input = new Patient();
+    input.addName().setUse(HumanName.NameUse.OFFICIAL).addGiven("Peter");
+    Assertions.assertEquals(0, engine.evaluate(input, expr).size());
+    Assertions.assertEquals(2, cache.getHits());
+
+    engine.setAllowDoubleQuotes(!engine.isAllowDoubleQuotes());
+    Assertions.assertNotSame(n1, engine.parseCached(expr));
+    Assertions.assertEquals(2, cache.getHits());
+    Assertions.assertEquals(2, cache.getMisses());
+
+    engine.setParseCache(null);
+    engine.parseCached(expr);
+    Assertions.assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testCompiledExpressions() {
+    Patient input = new Patient();
+    input.setId("p1");
+    input.setActive(true);
+    input.addName().setUse(HumanName.NameUse.OFFICIAL).setFamily("Chalmers").addGiven("Peter").addGiven("James");
+    input.addName().setUse(HumanName.NameUse.USUAL).addGiven("Jim");
+    input.addExtension().setUrl("http://example.org/ext").setValue(new StringType("value"));
+    String[] exprs = new String[] {
+      "hasValue() or (children().count() > id.count())",
+      "extension.exists() != value.exists()",
+      "name.where(use = 'official').given.first()",
+      "name.select(given).count()",
+      "name.all(given.exists())",
+      "name.exists(family = 'Chalmers')",
+      "(1 + 2) * 3 = 9",
+      "iif(active, 'yes', 'no')",
+      "name.given.first() is string",
+      "Patient.name.given | Patient.name.family",
+    };
+    for (String expr : exprs) {
+      ExpressionNode node = fp.parse(expr);
+      FHIRPathEngine.CompiledExpression compiled = fp.compile(node);
+      Assertions.assertSame(compiled, fp.compile(node));
+      List<Base> interpreted = fp.evaluate(null, input, input, input, node);
+      List<Base> result = fp.evaluate(null, input, input, input, compiled);
+      Assertions.assertEquals(fp.convertToString(interpreted), fp.convertToString(result), expr);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package org.hl7.fhir.r5.test;
+
+import org.hl7.fhir.r5.context.IWorkerContext;
+import org.hl7.fhir.r5.elementmodel.Property;
+import org.hl7.fhir.r5.model.StructureDefinition;
+import org.hl7.fhir.r5.test.utils.TestingUtilities;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PropertyTests {
+
+  private Property observation() {
+    IWorkerContext ctxt = TestingUtilities.getSharedWorkerContext();
+    StructureDefinition sd = ctxt.fetchTypeDefinition("Observation");
+    return new Property(ctxt, sd.getSnapshot().getElementFirstRep(), sd);
+  }
+
+  @Test
+  public void testChildLookup() {
+    Property p = observation();
+    Property status = p.getChild("Observation", "status");
+    Assertions.assertNotNull(status);
+    Assertions.assertEquals("Observation.status", status.getDefinition().getPath());
+    Assertions.assertSame(status, p.getChild("Observation", "status"));
+    Assertions.assertNull(p.getChild("Observation", "nothing"));
+  }
+
+  @Test
+  public void testChoiceLookup() {
+    Property p = observation();
+    Assertions.assertNull(p.getChild("Observation", "value"));
+    Assertions.assertNotNull(p.getChild("Observation", "value[x]"));
+    Property value = p.getChildSimpleName("Observation", "value");
+    Assertions.assertNotNull(value);
+    Assertions.assertEquals("value[x]", value.getName());
+    Assertions.assertSame(value, p.getChildSimpleName("Observation", "value[x]"));
+  }
+
+  @Test
+  public void testChildrenInOrder() {
+    Property p = observation();
+    Assertions.assertSame(p.getChildProperties("Observation", null), p.getChildProperties("Observation", null));
+    Assertions.assertEquals("id", p.getChildProperties("Observation", null).get(0).getName());
+  }
+}
@@ -0,0 +1,131 @@
+package org.hl7.fhir.r5.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hl7.fhir.r5.model.Base;
+import org.hl7.fhir.r5.model.Base.IChildVisitor;
+import org.hl7.fhir.r5.model.ContactPoint.ContactPointUse;
+import org.hl7.fhir.r5.model.HumanName;
+import org.hl7.fhir.r5.model.Patient;
+import org.hl7.fhir.r5.model.Property;
+import org.hl7.fhir.r5.model.StringType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares getting the children of every element of a sample patient through the
+ * Base[] / Property interface (listChildrenByName, children()) with visitChildren,
+ * which passes them to a visitor without making arrays or lists. Runs with the
+ * gc profiler, so the allocation rate (gc.alloc.rate.norm) is reported along with the time.
+ *
+ * Not a unit test - run main() from the IDE, or with the test classpath
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VisitChildrenBenchmark {
+
+  @Param({ "extension", "name", "value", "*" })
+  public String name;
+
+  private List<Base> elements;
+  private int hash;
+  private int count;
+  private IChildVisitor counter = (n, v) -> count++;
+
+  @Setup
+  public void setup() {
+    Patient patient = new Patient();
+    patient.setId("example");
+    patient.setActive(true);
+    patient.addIdentifier().setSystem("http://example.org/mrn").setValue("12345");
+    patient.addName().setUse(HumanName.NameUse.OFFICIAL).setFamily("Chalmers").addGiven("Peter").addGiven("James");
+    patient.addName().setUse(HumanName.NameUse.USUAL).addGiven("Jim");
+    patient.addTelecom().setValue("(03) 5555 6473").setUse(ContactPointUse.WORK);
+    patient.addAddress().addLine("534 Erewhon St").setCity("PleasantVille").setPostalCode("3999");
+    patient.addExtension().setUrl("http://example.org/ext").setValue(new StringType("value"));
+    elements = new ArrayList<>();
+    collect(patient, elements);
+    hash = name.hashCode();
+  }
+
+  private void collect(Base b, List<Base> list) {
+    list.add(b);
+    for (Property p : b.children()) {
+      for (Base v : p.getValues()) {
+        collect(v, list);
+      }
+    }
+  }
+
+  @Benchmark
+  public int listChildrenByName() {
+    int c = 0;
+    for (Base b : elements) {
+      Base[] values = b.listChildrenByName(name, false);
+      if (values != null) {
+        for (Base v : values) {
+          if (v != null) {
+            c++;
+          }
+        }
+      }
+    }
+    return c;
+  }
+
+  @Benchmark
+  public int visitChildrenByName() {
+    count = 0;
+    for (Base b : elements) {
+      b.visitChildren(hash, name, counter);
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int children() {
+    int c = 0;
+    for (Base b : elements) {
+      for (Property p : b.children()) {
+        for (Base v : p.getValues()) {
+          if (v != null) {
+            c++;
+          }
+        }
+      }
+    }
+    return c;
+  }
+
+  @Benchmark
+  public int visitChildren() {
+    count = 0;
+    for (Base b : elements) {
+      b.visitChildren(counter);
+    }
+    return count;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(VisitChildrenBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+  }
+}
@@ -1,5 +1,6 @@
 package org.hl7.fhir.utilities;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -12,6 +13,13 @@ public abstract class ByteProvider {
 
   public abstract byte[] getBytes() throws FileNotFoundException, IOException;
 
+  /**
+   * for content that can be processed as it's read (e.g. ndjson), so a file doesn't need to be read into memory first
+   */
+  public InputStream getStream() throws FileNotFoundException, IOException {
+    return new ByteArrayInputStream(getBytes());
+  }
+
   // this one needs to be deprecated - or try to to use it - get to the source
   public static ByteProvider forStream(InputStream stream) throws IOException {
     return new ByteProviderBytes(TextFile.streamToBytes(stream));
@@ -56,6 +64,11 @@ public abstract class ByteProvider {
     public byte[] getBytes() throws FileNotFoundException, IOException {
       return TextFile.fileToBytes(file);
     }
+
+    @Override
+    public InputStream getStream() throws FileNotFoundException, IOException {
+      return ManagedFileAccess.inStream(file);
+    }
     
   }
 }
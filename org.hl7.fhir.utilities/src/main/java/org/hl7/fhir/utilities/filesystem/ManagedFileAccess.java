@@ -37,7 +37,10 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -178,6 +181,50 @@ public class ManagedFileAccess {
     }
   }
 
+  /** 
+   * Open a FileOutputStream that appends to the file, conforming to local security policy. 
+   * Appending is not supported by managed file access
+   **/
+  public static FileOutputStream appendStream(String pathname) throws IOException {
+    switch (accessPolicy) {
+    case DIRECT:
+      if (!inAllowedPaths(pathname)) {
+        throw new IOException("The pathname '"+pathname+"' cannot be accessed by policy");
+      }
+      return new FileOutputStream(pathname, true);
+    case MANAGED:
+      throw new IOException("Appending to files is not supported by managed file access");
+    case PROHIBITED:
+      throw new IOException("Access to files is not allowed by local security policy");
+    default:
+      throw new IOException("Internal Error");
+    }
+  }
+
+  /** 
+   * Move a file into place, replacing any file that's already there, conforming to local security policy. 
+   * Moving files is not supported by managed file access
+   **/
+  public static void move(String source, String target) throws IOException {
+    switch (accessPolicy) {
+    case DIRECT:
+      if (!inAllowedPaths(source)) {
+        throw new IOException("The pathname '"+source+"' cannot be accessed by policy");
+      }
+      if (!inAllowedPaths(target)) {
+        throw new IOException("The pathname '"+target+"' cannot be accessed by policy");
+      }
+      Files.move(Paths.get(source), Paths.get(target), StandardCopyOption.REPLACE_EXISTING);
+      return;
+    case MANAGED:
+      throw new IOException("Moving files is not supported by managed file access");
+    case PROHIBITED:
+      throw new IOException("Access to files is not allowed by local security policy");
+    default:
+      throw new IOException("Internal Error");
+    }
+  }
+
   /**
    * This doesn't do anything, but it's useful for it to exist, to make code inspection easier
    * @param file
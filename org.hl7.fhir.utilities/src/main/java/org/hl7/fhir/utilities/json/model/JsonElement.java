@@ -10,8 +10,11 @@ import org.hl7.fhir.utilities.json.JsonException;
 public abstract class JsonElement {
 
   private List<JsonComment> comments;
-  private JsonLocationData start;
-  private JsonLocationData end;
+  // locations are kept as ints rather than JsonLocationData objects, since there's one of each for every element. col 0 = not known 
+  private int startLine;
+  private int startCol;
+  private int endLine;
+  private int endCol;
   private Map<String, Object> userData;
   
   public abstract JsonElementType type();
@@ -23,20 +26,40 @@ public abstract class JsonElement {
     return comments;
   }
 
+  /**
+   * @return where the element starts in the source it was parsed from (or null if not known). 
+   *   This is a new object; changing it doesn't change the element 
+   */
   public JsonLocationData getStart() {
-    return start;
+    return startCol == 0 ? null : new JsonLocationData(startLine, startCol);
   }
 
   public void setStart(JsonLocationData start) {
-    this.start = start;
+    if (start == null) {
+      startLine = 0;
+      startCol = 0;
+    } else {
+      startLine = start.getLine();
+      startCol = start.getCol();
+    }
   }
 
+  /**
+   * @return where the element ends in the source it was parsed from (or null if not known). 
+   *   This is a new object; changing it doesn't change the element 
+   */
   public JsonLocationData getEnd() {
-    return end;
+    return endCol == 0 ? null : new JsonLocationData(endLine, endCol);
   }
 
   public void setEnd(JsonLocationData end) {
-    this.end = end;
+    if (end == null) {
+      endLine = 0;
+      endCol = 0;
+    } else {
+      endLine = end.getLine();
+      endCol = end.getCol();
+    }
   }
 
   protected void check(boolean test, String msg) throws JsonException {
@@ -7,8 +7,10 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hl7.fhir.utilities.Utilities;
 import org.hl7.fhir.utilities.json.JsonException;
@@ -16,8 +18,14 @@ import org.hl7.fhir.utilities.json.JsonException;
 
 public class JsonObject extends JsonElement {
   
+  /**
+   * Most objects have only a few properties, and for them, looking through the list is as quick as 
+   * a hash lookup, so the map by name is only built once an object has more than this many properties 
+   */
+  private static final int MAX_UNMAPPED_PROPERTIES = 8;
+  
   private List<JsonProperty> properties = new ArrayList<>();
-  private Map<String, JsonProperty> propMap = new HashMap<>();
+  private Map<String, JsonProperty> propMap; // null until there's more than MAX_UNMAPPED_PROPERTIES 
   private boolean extraComma; // json5 support
   
   public JsonElementType type() {
@@ -31,8 +39,7 @@ public class JsonObject extends JsonElement {
       check(false, "Name '"+name+"' already exists (value = "+get(name).toString()+")");
     }
     JsonProperty p = new JsonProperty(name, value);
-    properties.add(p);
-    propMap.put(name, p);
+    addProperty(p);
     return this;
   }
 
@@ -43,8 +50,7 @@ public class JsonObject extends JsonElement {
         check(false, "Name '"+name+"' already exists (value = "+get(name).toString()+")");
       }
       JsonProperty p = new JsonProperty(name, value);
-      properties.add(p);
-      propMap.put(name, p);
+      addProperty(p);
     }
     return this;
   }
@@ -58,8 +64,7 @@ public class JsonObject extends JsonElement {
     p.setNoComma(noComma);
     p.setUnquotedName(nameUnquoted);
     p.setUnquotedValue(valueUnquoted);
-    properties.add(p);
-    propMap.put(name, p); // last duplicate wins
+    addProperty(p); // last duplicate wins
     return this;
   }
 
@@ -107,7 +112,7 @@ public class JsonObject extends JsonElement {
   public JsonObject set(String name, JsonElement value) throws JsonException {
     check(name != null, "Name is null");
     check(value != null, "Value is null");
-    JsonProperty p = propMap.get(name);
+    JsonProperty p = findProperty(name);
     if (p != null) {
       p.setValue(value);
       return this;
@@ -124,7 +129,7 @@ public class JsonObject extends JsonElement {
 
   public JsonObject set(String name, String value) throws JsonException {
     check(name != null, "Name is null");
-    JsonProperty p = propMap.get(name);
+    JsonProperty p = findProperty(name);
     if (p != null) {
       p.setValue(value == null ? new JsonNull() : new JsonString(value));
       return this;
@@ -135,7 +140,7 @@ public class JsonObject extends JsonElement {
 
   public JsonObject set(String name, boolean value) throws JsonException {
     check(name != null, "Name is null");
-    JsonProperty p = propMap.get(name);
+    JsonProperty p = findProperty(name);
     if (p != null) {
       p.setValue(new JsonBoolean(value));
       return this;
@@ -146,7 +151,7 @@ public class JsonObject extends JsonElement {
 
   public JsonObject set(String name, int value) throws JsonException {
     check(name != null, "Name is null");
-    JsonProperty p = propMap.get(name);
+    JsonProperty p = findProperty(name);
     if (p != null) {
       p.setValue(new JsonNumber(value));
       return this;
@@ -157,7 +162,7 @@ public class JsonObject extends JsonElement {
 
   public JsonObject set(String name, long value) throws JsonException {
     check(name != null, "Name is null");
-    JsonProperty p = propMap.get(name);
+    JsonProperty p = findProperty(name);
     if (p != null) {
       p.setValue(new JsonNumber(value));
       return this;
@@ -166,21 +171,45 @@ public class JsonObject extends JsonElement {
     }
   }
 
-  public JsonElement get(String name) {
-    if (propMap.containsKey(name)) {
-      return propMap.get(name).getValue();
-    } else {
-      return null;
+  private void addProperty(JsonProperty p) {
+    properties.add(p);
+    if (propMap != null) {
+      propMap.put(p.getName(), p);
+    } else if (properties.size() > MAX_UNMAPPED_PROPERTIES) {
+      propMap = new HashMap<>();
+      for (JsonProperty t : properties) {
+        propMap.put(t.getName(), t);
+      }
     }
   }
 
+  private JsonProperty findProperty(String name) {
+    if (propMap != null) {
+      return propMap.get(name);
+    }
+    // from the end, since the last duplicate wins 
+    int hash = name.hashCode();
+    for (int i = properties.size() - 1; i >= 0; i--) {
+      JsonProperty p = properties.get(i);
+      if (p.getNameHash() == hash && name.equals(p.getName())) {
+        return p;
+      }
+    }
+    return null;
+  }
+  
+  public JsonElement get(String name) {
+    JsonProperty p = findProperty(name);
+    return p == null ? null : p.getValue();
+  }
+
   public boolean has(String name) {
-    return propMap.containsKey(name);
+    return findProperty(name) != null;
   }
 
   public boolean has(String... names) {
     for (String n : names) {
-      if (propMap.containsKey(n)) {
+      if (findProperty(n) != null) {
         return true;
       }
     }
@@ -188,8 +217,10 @@ public class JsonObject extends JsonElement {
   }
 
   public void remove(String name) {
-    if (propMap.containsKey(name)) {
-      propMap.remove(name);
+    if (findProperty(name) != null) {
+      if (propMap != null) {
+        propMap.remove(name);
+      }
       properties.removeIf((JsonProperty item) -> name.equals(item.getName()));
     }
   }
@@ -199,7 +230,14 @@ public class JsonObject extends JsonElement {
   }
 
   public List<String> getNames() {
-    return Utilities.sorted(propMap.keySet());
+    if (propMap != null) {
+      return Utilities.sorted(propMap.keySet());
+    }
+    Set<String> names = new HashSet<>();
+    for (JsonProperty p : properties) {
+      names.add(p.getName());
+    }
+    return Utilities.sorted(names);
   }
 
   public String str(String name) {
@@ -211,31 +249,38 @@ public class JsonObject extends JsonElement {
   }
 
   public boolean hasObject(String name) {
-    return propMap.containsKey(name) && propMap.get(name).getValue().type() == JsonElementType.OBJECT;
+    JsonElement e = get(name);
+    return e != null && e.type() == JsonElementType.OBJECT;
   }
 
   public boolean hasArray(String name) {
-    return propMap.containsKey(name) && propMap.get(name).getValue().type() == JsonElementType.ARRAY;
+    JsonElement e = get(name);
+    return e != null && e.type() == JsonElementType.ARRAY;
   }
 
   public boolean hasPrimitive(String name) {
-    return propMap.containsKey(name) && propMap.get(name).getValue() instanceof JsonPrimitive;
+    JsonElement e = get(name);
+    return e instanceof JsonPrimitive;
   }
 
   public boolean hasString(String name) {
-    return propMap.containsKey(name) && propMap.get(name).getValue().type() == JsonElementType.STRING;
+    JsonElement e = get(name);
+    return e != null && e.type() == JsonElementType.STRING;
   }
 
   public boolean hasNumber(String name) {
-    return propMap.containsKey(name) && propMap.get(name).getValue().type() == JsonElementType.NUMBER;
+    JsonElement e = get(name);
+    return e != null && e.type() == JsonElementType.NUMBER;
   }
 
   public boolean hasBoolean(String name) {
-    return propMap.containsKey(name) && propMap.get(name).getValue().type() == JsonElementType.BOOLEAN;
+    JsonElement e = get(name);
+    return e != null && e.type() == JsonElementType.BOOLEAN;
   }
 
   public boolean hasNull(String name) {
-    return propMap.containsKey(name) && propMap.get(name).getValue().type() == JsonElementType.NULL;
+    JsonElement e = get(name);
+    return e != null && e.type() == JsonElementType.NULL;
   }
 
 
@@ -433,7 +478,7 @@ public class JsonObject extends JsonElement {
   
   public void clear() {
     properties.clear();
-    propMap.clear();
+    propMap = null;
   }
   
 }
@@ -10,6 +10,12 @@ import org.hl7.fhir.utilities.json.model.JsonComment;
 import org.hl7.fhir.utilities.json.model.JsonElement;
 import org.hl7.fhir.utilities.json.model.JsonLocationData;
 
+/**
+ * Lexer for the JSON parser. The source is held as a char array, and the lexer works directly
+ * on it: a pushback is just a step back in the array, and strings, numbers and names are made
+ * straight from the range of the array they occupy (unless they contain escapes), so there's no
+ * per character allocation. Line and column are tracked as the lexer moves through the source
+ */
 public class JsonLexer {
   public static class State {
     private String name;
@@ -35,9 +41,9 @@ public class JsonLexer {
     }
   }
   
-  private String source;
+  private char[] source;
+  private int length;
   private int cursor;
-  private String peek;
   private String value;
   private TokenType type;
   private Stack<State> states = new Stack<State>();
@@ -52,7 +58,16 @@ public class JsonLexer {
   private String sourceName;
 
   public JsonLexer(String source, boolean allowComments, boolean allowUnquotedStrings, int line) throws IOException {
+    this(source.toCharArray(), source.length(), allowComments, allowUnquotedStrings, line);
+  }
+
+  /**
+   * @param source - the characters to lex. The array is used as is, not copied
+   * @param length - the number of characters in source that are content
+   */
+  public JsonLexer(char[] source, int length, boolean allowComments, boolean allowUnquotedStrings, int line) throws IOException {
     this.source = source;
+    this.length = length;
     this.allowComments = allowComments;
     this.allowUnquotedStrings = allowUnquotedStrings;
     cursor = -1;
@@ -61,48 +76,26 @@ public class JsonLexer {
   }
 
   private boolean more() {
-    return peek != null || cursor < source.length(); 
+    return cursor < length; 
   }
 
-  private String getNext(int length) throws IOException {
-    String result = "";
-    if (peek != null) {
-      if (peek.length() > length) {
-        result = peek.substring(0, length);
-        peek = peek.substring(length);
-      } else {
-        result = peek;
-        peek = null;
-      }
-    }
-    if (result.length() < length) {
-      int len = length - result.length(); 
-      if (cursor > source.length() - len) 
-        throw error("Attempt to read past end of source");
-      result = result + source.substring(cursor+1, cursor+len+1);
-      cursor = cursor + len;
-    }
-    for (char ch : result.toCharArray())
-      if (ch == '\n')
+  private char readUnicodeEscape() throws IOException {
+    if (cursor > length - 4) 
+      throw error("Attempt to read past end of source");
+    String hex = new String(source, cursor+1, 4);
+    for (int i = 0; i < 4; i++) {
+      cursor++;
+      if (source[cursor] == '\n')
         location.newLine();
       else
         location.incCol();
-    return result;
+    }
+    return (char) Integer.parseInt(hex, 16);
   }
 
   private char getNextChar() throws IOException {
-    char ch;
-    if (peek != null) {
-      ch = peek.charAt(0);
-      peek = peek.length() == 1 ? null : peek.substring(1);
-    } else {
-      cursor++;
-      if (cursor >= source.length()) {
-        ch = 0;
-      } else {
-        ch = source.charAt(cursor);
-      }
-    }
+    cursor++;
+    char ch = cursor < length ? source[cursor] : 0;
     if (ch == '\n') {
       location.newLine();
     } else {
@@ -112,10 +105,15 @@ public class JsonLexer {
   }
 
   private void push(char ch){
-    peek = peek == null ? String.valueOf(ch) : String.valueOf(ch)+peek;
+    // only ever the character just read, so step back over it
+    cursor--;
     location.back();
   }
 
+  private static boolean isWhitespace(char ch) {
+    return ch == ' ' || ch == '\r' || ch == '\n' || ch == '\t';
+  }
+
   public IOException error(String msg) {
     return new IOException("Error parsing JSON source: "+msg+" at Line "+Integer.toString(location.getLine())+" (path=["+path()+"])"+(sourceName == null ? "" : " from '"+sourceName+"'"));
   }
@@ -173,7 +171,7 @@ public class JsonLexer {
         if (ch1 == '/') {
           StringBuilder b = new StringBuilder();
           boolean first = true;
-          while (more() && !Utilities.charInSet(ch, '\r', '\n')) {
+          while (more() && ch != '\r' && ch != '\n') {
             if (first) first = false; else b.append(ch);
             ch = getNextChar();
           }
@@ -182,8 +180,9 @@ public class JsonLexer {
           push(ch1);
         }         
       }
-    } while (more() && Utilities.charInSet(ch, ' ', '\r', '\n', '\t'));
-    lastLocationAWS = location.copy().prev();
+    } while (more() && isWhitespace(ch));
+    // same as location.copy().prev()
+    lastLocationAWS = location.getCol() == 1 ? new JsonLocationData(location.getLine()-1, 1) : new JsonLocationData(location.getLine(), location.getCol()-1);
     isUnquoted = false;
     
     if (!more()) {
@@ -198,7 +197,9 @@ public class JsonLexer {
         break;
       case '"' :
         type = TokenType.String;
-        b.setLength(0);
+        if (readSimpleString()) {
+          break;
+        }
         do {
           ch = getNextChar();
           if (ch == '\\') {
@@ -211,7 +212,7 @@ public class JsonLexer {
             case 'n': b.append('\n'); break;
             case 'r': b.append('\r'); break;
             case 't': b.append('\t'); break;
-            case 'u': b.append((char) Integer.parseInt(getNext(4), 16)); break;
+            case 'u': b.append(readUnicodeEscape()); break;
             default :
               throw error("unknown escape sequence: \\"+ch);
             }
@@ -238,22 +239,20 @@ public class JsonLexer {
       default:
         if ((ch >= '0' && ch <= '9') || ch == '-') {
           type = TokenType.Number;
-          b.setLength(0);
+          int start = cursor;
           while (more() && ((ch >= '0' && ch <= '9') || ch == '-' || ch == '.') || ch == '+' || ch == 'e' || ch == 'E') {
-            b.append(ch);
             ch = getNextChar();
           }
-          value = b.toString();
+          value = new String(source, start, cursor - start);
           push(ch);
         } else if (Utilities.isAlphabetic(ch) || (ch == '_')) {
           type = TokenType.String;
           isUnquoted = true;
-          b.setLength(0);
-          while (more() && (Utilities.isAlphabetic(ch) || Utilities.isDigit(ch) || Utilities.existsInList(ch, '_', '.', '-'))) {
-            b.append(ch);
+          int start = cursor;
+          while (more() && (Utilities.isAlphabetic(ch) || Utilities.isDigit(ch) || ch == '_' || ch == '.' || ch == '-')) {
             ch = getNextChar();
           }
-          value = b.toString();
+          value = new String(source, start, cursor - start);
           push(ch);
           if ("true".equals(value) || "false".equals(value)) {
             this.type = TokenType.Boolean;
@@ -269,6 +268,41 @@ public class JsonLexer {
     }
   }
 
+  /**
+   * The common case: a string with no escapes. Scans to the closing quote and makes the value 
+   * directly from the source. If there's an escape (or no closing quote), what's been scanned 
+   * so far is left in b, and the cursor is left so that the general loop picks up from there
+   * 
+   * @return true if the string was read
+   */
+  private boolean readSimpleString() {
+    int start = cursor + 1;
+    int i = start;
+    while (i < length) {
+      char ch = source[i];
+      if (ch == '"' || ch == '\\') {
+        break;
+      }
+      if (ch == '\n') {
+        location.newLine();
+      } else {
+        location.incCol();
+      }
+      i++;
+    }
+    if (i < length && source[i] == '"') {
+      value = new String(source, start, i - start);
+      cursor = i;
+      location.incCol();
+      return true;
+    } else {
+      b.setLength(0);
+      b.append(source, start, i - start);
+      cursor = i - 1;
+      return false;
+    }
+  }
+
   public String consume(TokenType type) throws IOException {
     if (this.type != type)
       throw error("JSON syntax error - found "+this.type.toString()+" expecting "+type.toString());
@@ -298,7 +332,7 @@ public class JsonLexer {
 
   @Override
   public String toString() {
-    return "JsonLexer [cursor=" + cursor + ", peek=" + peek + ", type=" + type + ", location=" + location.toString() + "]";
+    return "JsonLexer [cursor=" + cursor + ", type=" + type + ", location=" + location.toString() + "]";
   }
 
   public String getSourceName() {
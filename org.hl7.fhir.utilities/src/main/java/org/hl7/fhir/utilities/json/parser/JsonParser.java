@@ -119,6 +119,34 @@ public class JsonParser {
   public static JsonObject parseObject(String source, boolean isJson5, boolean allowDuplicates, int line) throws IOException, JsonException {
     return new JsonParser(line).parseJsonObject(source, isJson5, allowDuplicates);
   }
+
+  // ================================================================
+  // compact parsing: the elements don't record where they were in the source, and property names are interned,
+  // so the object model takes a lot less memory. For tools that load a lot of json (e.g. package indexes) 
+  // and don't need to report issues by line
+  
+  public static JsonObject parseObjectCompact(InputStream stream) throws IOException, JsonException {
+    return new JsonParser().setCompact(true).parseJsonObject(TextFile.streamToString(stream), false, false);
+  }
+  
+  public static JsonObject parseObjectCompact(byte[] content) throws IOException, JsonException {
+    return new JsonParser().setCompact(true).parseJsonObject(TextFile.bytesToString(content), false, false);
+  }
+
+  public static JsonObject parseObjectCompact(String source) throws IOException, JsonException {
+    return new JsonParser().setCompact(true).parseJsonObject(source, false, false);
+  }
+  
+  public static JsonObject parseObjectCompact(File source) throws IOException, JsonException {
+    if (!source.exists()) {
+      throw new IOException("File "+source+" not found");
+    }
+    return new JsonParser().setSourceName(source.getAbsolutePath()).setCompact(true).parseJsonObject(TextFile.fileToString(source), false, false);
+  }
+  
+  public static JsonObject parseObjectCompactFromFile(String source) throws IOException, JsonException {
+    return new JsonParser().setSourceName(source).setCompact(true).parseJsonObject(TextFile.fileToString(source), false, false);
+  }
   
   // ================================================================
   
@@ -235,6 +263,7 @@ public class JsonParser {
   private boolean valueUnquoted;
   private String sourceName;
   private int line = 0;
+  private boolean compact;
 
   private JsonObject parseJsonObject(String source, boolean isJson5, boolean allowDuplicates) throws IOException, JsonException {
     this.allowDuplicates = allowDuplicates;
@@ -249,7 +278,7 @@ public class JsonParser {
     lexer.setSourceName(sourceName);
     JsonObject result = new JsonObject();
     lexer.takeComments(result);
-    result.setStart(lexer.getLastLocationAWS().copy());
+    setStart(result, lexer.getLastLocationAWS());
     if (lexer.getType() == TokenType.Open) {
       lexer.next();
       lexer.getStates().push(new State("", true));
@@ -263,9 +292,9 @@ public class JsonParser {
     if (lexer.getType() != TokenType.Close) {
       parseProperty();
       readObject("$", result, true);
-      result.setEnd(endProperty != null ? endProperty.copy() : lexer.getLocation().copy());
+      setEnd(result, endProperty != null ? endProperty : lexer.getLocation());
     } else {
-      result.setEnd(endProperty != null ? endProperty.copy() : lexer.getLocation().copy());
+      setEnd(result, endProperty != null ? endProperty : lexer.getLocation());
       lexer.next();
     }
     if (lexer.getType() != TokenType.Eof) {
@@ -288,25 +317,25 @@ public class JsonParser {
     case Boolean:
       JsonBoolean bool = new JsonBoolean(lexer.getValue().equals("true"));
       lexer.takeComments(bool);
-      bool.setStart(lexer.getLastLocationAWS().copy());
-      bool.setEnd(endProperty != null ? endProperty.copy() : lexer.getLocation().copy());
+      setStart(bool, lexer.getLastLocationAWS());
+      setEnd(bool, endProperty != null ? endProperty : lexer.getLocation());
       return bool;   
     case Null:
       JsonNull nll = new JsonNull();
       lexer.takeComments(nll);
-      nll.setStart(lexer.getLastLocationAWS().copy());
-      nll.setEnd(endProperty != null ? endProperty.copy() : lexer.getLocation().copy());
+      setStart(nll, lexer.getLastLocationAWS());
+      setEnd(nll, endProperty != null ? endProperty : lexer.getLocation());
       return nll;   
     case Number:
       JsonNumber num = new JsonNumber(lexer.getValue());
       lexer.takeComments(num);
-      num.setStart(lexer.getLastLocationAWS().copy());
-      num.setEnd(endProperty != null ? endProperty.copy() : lexer.getLocation().copy());
+      setStart(num, lexer.getLastLocationAWS());
+      setEnd(num, endProperty != null ? endProperty : lexer.getLocation());
       return num;   
     case Open:
       JsonObject obj = new JsonObject();
       lexer.takeComments(obj);
-      obj.setStart(lexer.getLastLocationAWS().copy());
+      setStart(obj, lexer.getLastLocationAWS());
       if (lexer.getType() == TokenType.Open) {
         lexer.next();
         lexer.getStates().push(new State("", true));
@@ -318,25 +347,25 @@ public class JsonParser {
         parseProperty();
         readObject("$", obj, true);
       }
-      obj.setEnd(endProperty != null ? endProperty.copy() : lexer.getLocation().copy());
+      setEnd(obj, endProperty != null ? endProperty : lexer.getLocation());
       return obj;   
     case OpenArray:
       JsonArray arr = new JsonArray();
       lexer.takeComments(arr);
-      arr.setStart(lexer.getLastLocationAWS().copy());
+      setStart(arr, lexer.getLastLocationAWS());
       lexer.next();
       lexer.getStates().push(new State("", false));
       if (lexer.getType() != TokenType.CloseArray) {
         parseProperty();
         readArray("$", arr, true);
       }
-      arr.setEnd(endProperty != null ? endProperty.copy() : lexer.getLocation().copy());
+      setEnd(arr, endProperty != null ? endProperty : lexer.getLocation());
       return arr; 
     case String:
       JsonString str = new JsonString(lexer.getValue());
       lexer.takeComments(str);
-      str.setStart(lexer.getLastLocationAWS().copy());
-      str.setEnd(endProperty != null ? endProperty.copy() : lexer.getLocation().copy());
+      setStart(str, lexer.getLastLocationAWS());
+      setEnd(str, endProperty != null ? endProperty : lexer.getLocation());
       return str;   
     default:
     }
@@ -349,54 +378,54 @@ public class JsonParser {
       switch (itemType) {
       case Object:
         JsonObject child = new JsonObject(); //(obj.path+'.'+ItemName);
-        child.setStart(startProperty.copy());
+        setStart(child, startProperty);
         lexer.takeComments(child);
         if (obj.has(itemName) && !allowDuplicates)
           throw lexer.error("Duplicated property name: "+itemName+ " @ "+path);
         obj.addForParser(itemName, child, itemNoComma, itemUnquoted, valueUnquoted);
         next();
         readObject(path+"."+itemName, child, false);
-        child.setEnd(endProperty.copy());
+        setEnd(child, endProperty);
         break;
       case Boolean :
         JsonBoolean childB = new JsonBoolean(Boolean.valueOf(itemValue));
-        childB.setStart(startProperty.copy());
+        setStart(childB, startProperty);
         lexer.takeComments(childB);
         if (obj.has(itemName) && !allowDuplicates)
           throw lexer.error("Duplicated property name: "+itemName+ " @ "+path);
         obj.addForParser(itemName, childB, itemNoComma, itemUnquoted, valueUnquoted);
-        childB.setEnd(endProperty.copy());
+        setEnd(childB, endProperty);
         break;
       case String:
         JsonString childS = new JsonString(itemValue);
-        childS.setStart(startProperty.copy());
+        setStart(childS, startProperty);
         lexer.takeComments(childS);
         if (obj.has(itemName) && !allowDuplicates)
           throw lexer.error("Duplicated property name: "+itemName+ " @ "+path);
         obj.addForParser(itemName, childS, itemNoComma, itemUnquoted, valueUnquoted);
-        childS.setEnd(endProperty.copy());
+        setEnd(childS, endProperty);
         break;
       case Number:
         JsonNumber childN = new JsonNumber(itemValue);
-        childN.setStart(startProperty.copy());
+        setStart(childN, startProperty);
         lexer.takeComments(childN);
         if (obj.has(itemName) && !allowDuplicates)
           throw lexer.error("Duplicated property name: "+itemName+ " @ "+path);
         obj.addForParser(itemName, childN, itemNoComma, itemUnquoted, valueUnquoted);
-        childN.setEnd(endProperty.copy());
+        setEnd(childN, endProperty);
         break;
       case Null:
         JsonNull childn = new JsonNull();
-        childn.setStart(startProperty.copy());
+        setStart(childn, startProperty);
         lexer.takeComments(childn);
         if (obj.has(itemName) && !allowDuplicates)
           throw lexer.error("Duplicated property name: "+itemName+ " @ "+path);
         obj.addForParser(itemName, childn, itemNoComma, itemUnquoted, valueUnquoted);
-        childn.setEnd(endProperty.copy());
+        setEnd(childn, endProperty);
         break;
       case Array:
         JsonArray childA = new JsonArray(); // (obj.path+'.'+ItemName);
-        childA.setStart(startProperty.copy());
+        setStart(childA, startProperty);
         lexer.takeComments(childA);
         if (obj.has(itemName) && !allowDuplicates)
           throw lexer.error("Duplicated property name: "+itemName+ " @ "+path);
@@ -405,7 +434,7 @@ public class JsonParser {
         if (!readArray(path+"."+itemName, childA, false))
           next(true);
         if (childA.getEnd() == null) {
-          childA.setEnd(endProperty.copy());
+          setEnd(childA, endProperty);
         }
         break;
       case Eof : 
@@ -428,49 +457,49 @@ public class JsonParser {
       switch (itemType) {
       case Object:
         JsonObject obj  = new JsonObject(); // (arr.path+'['+inttostr(i)+']');
-        obj.setStart(startProperty.copy());
+        setStart(obj, startProperty);
         lexer.takeComments(obj);
         arr.addForParser(obj, itemNoComma, valueUnquoted);
         next();
         readObject(path+"["+(arr.size()-1)+"]", obj, false);
-        obj.setEnd(endProperty.copy());
+        setEnd(obj, endProperty);
         break;
       case String:
         JsonString s = new JsonString(itemValue);
-        s.setStart(startProperty.copy());
+        setStart(s, startProperty);
         lexer.takeComments(s);
         arr.addForParser(s, itemNoComma, valueUnquoted);
-        s.setEnd(endProperty.copy());
+        setEnd(s, endProperty);
         break;
       case Number:
         JsonNumber n = new JsonNumber(itemValue);
-        n.setStart(startProperty.copy());
+        setStart(n, startProperty);
         lexer.takeComments(n);
         arr.addForParser(n, itemNoComma, valueUnquoted);
-        n.setEnd(endProperty.copy());
+        setEnd(n, endProperty);
         break;
       case Boolean:
         JsonBoolean b = new JsonBoolean("true".equals(itemValue));
-        b.setStart(startProperty.copy());
+        setStart(b, startProperty);
         lexer.takeComments(b);
         arr.addForParser(b, itemNoComma, valueUnquoted);
-        b.setEnd(endProperty.copy());
+        setEnd(b, endProperty);
         break;
       case Null :
         JsonNull nn = new JsonNull();
-        nn.setStart(startProperty.copy());
+        setStart(nn, startProperty);
         lexer.takeComments(nn);
         arr.addForParser(nn, itemNoComma, valueUnquoted);
-        nn.setEnd(endProperty.copy());
+        setEnd(nn, endProperty);
         break;
       case Array:
         JsonArray child = new JsonArray(); // (arr.path+'['+inttostr(i)+']');
-        child.setStart(startProperty.copy());
+        setStart(child, startProperty);
         lexer.takeComments(child);
         arr.addForParser(child, itemNoComma, valueUnquoted);
         next();
         readArray(path+"["+(arr.size()-1)+"]", child, false);
-        child.setEnd(endProperty.copy());
+        setEnd(child, endProperty);
         break;
       case Eof : 
         throw lexer.error("Unexpected End of File");
@@ -478,7 +507,7 @@ public class JsonParser {
         throw lexer.error("Can't get here");
       }
       itemNoComma = false;
-      arr.setEnd(lexer.getLocation().copy());
+      setEnd(arr, lexer.getLocation());
       arr.setExtraComma(lexer.getType() == TokenType.Comma);
       next();
     }
@@ -546,6 +575,9 @@ public class JsonParser {
     if (lexer.getStates().peek().isProp()) {
       itemUnquoted = lexer.isUnquoted();
       itemName = lexer.consume(TokenType.String);
+      if (compact) {
+        itemName = itemName.intern();
+      }
       itemValue = null;
       lexer.consume(TokenType.Colon);
     }
@@ -701,10 +733,31 @@ public class JsonParser {
     return sourceName;
   }
 
+  public boolean isCompact() {
+    return compact;
+  }
+
+  public JsonParser setCompact(boolean compact) {
+    this.compact = compact;
+    return this;
+  }
+
   public JsonParser setSourceName(String sourceName) {
     this.sourceName = sourceName;
     return this;
   }
+
+  private void setStart(JsonElement e, JsonLocationData location) {
+    if (!compact) {
+      e.setStart(location);
+    }
+  }
+
+  private void setEnd(JsonElement e, JsonLocationData location) {
+    if (!compact) {
+      e.setEnd(location);
+    }
+  }
   
   
 }
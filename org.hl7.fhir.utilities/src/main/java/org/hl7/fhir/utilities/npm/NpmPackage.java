@@ -179,11 +179,26 @@ public class NpmPackage {
     return ver.matches("^[0-9]+\\.[0-9]+\\.[0-9]+$");
   }
 
+  /**
+   * a resource in the index of a folder, as found by its canonical URL
+   */
+  private static class CanonicalIndexEntry {
+    private String version;
+    private String filename;
+
+    private CanonicalIndexEntry(String version, String filename) {
+      super();
+      this.version = version;
+      this.filename = filename;
+    }
+  }
+
   public class NpmPackageFolder {
     private String folderName;
     private Map<String, List<String>> types;
     private Map<String, byte[]> content;
     private JsonObject cachedIndex;
+    private volatile Map<String, List<CanonicalIndexEntry>> canonicalIndex;
     private File folder;
 
     public NpmPackageFolder(String folderName) {
@@ -202,7 +217,7 @@ public class NpmPackage {
     public Map<String, List<String>> getTypes() throws JsonException, IOException {
       if (minimalMemory) {
         Map<String, List<String>> typeMap = new HashMap<>();
-        readIndex(JsonParser.parseObjectFromFile(fn(".index.json")), typeMap);
+        readIndex(JsonParser.parseObjectCompactFromFile(fn(".index.json")), typeMap);
         return typeMap;
       } else {
         return types;
@@ -317,19 +332,70 @@ public class NpmPackage {
       } else {
         File ij = ManagedFileAccess.file(fn(".index.json"));
         if (ij.exists()) {
-          return JsonParser.parseObject(ij);
+          return JsonParser.parseObjectCompact(ij);
         } else {
           return null;
         }
       }
     }
+    /**
+     * The resources in the folder by canonical URL, built from the index the first time it's asked for.
+     * Only the version and filename are kept, so this is also held when minimalMemory is set, so that
+     * looking up canonicals doesn't parse the .index.json every time
+     */
+    private Map<String, List<CanonicalIndexEntry>> canonicalIndex() throws IOException {
+      Map<String, List<CanonicalIndexEntry>> res = canonicalIndex;
+      if (res == null) {
+        synchronized (this) {
+          res = canonicalIndex;
+          if (res == null) {
+            res = new HashMap<>();
+            JsonObject index = index();
+            if (index != null) {
+              for (JsonObject file : index.getJsonObjects("files")) {
+                String url = file.asString("url");
+                if (url != null) {
+                  res.computeIfAbsent(url, k -> new ArrayList<>(1)).add(new CanonicalIndexEntry(file.asString("version"), file.asString("filename")));
+                }
+              }
+            }
+            canonicalIndex = res;
+          }
+        }
+      }
+      return res;
+    }
+
+    /**
+     * @param canonical - the canonical URL of the resource (exact match only)
+     * @param version - the specified version (or null if the most recent)
+     * @return the name of the file that contains the resource, or null if there isn't one
+     */
+    public String findByCanonical(String canonical, String version) throws IOException {
+      List<CanonicalIndexEntry> entries = canonicalIndex().get(canonical);
+      if (entries == null) {
+        return null;
+      }
+      CanonicalIndexEntry res = null;
+      for (CanonicalIndexEntry e : entries) {
+        if (version != null) {
+          if (version.equals(e.version)) {
+            return e.filename;
+          }
+        } else if (res == null || (e.version != null && (res.version == null || e.version.compareTo(res.version) > 0))) {
+          res = e;
+        }
+      }
+      return res == null ? null : res.filename;
+    }
+
     public JsonObject oidIndex() throws IOException {
       if (folder == null) {
         return null;
       } else {
         File ij = ManagedFileAccess.file(fn(".oids.json"));
         if (ij.exists()) {
-          return JsonParser.parseObject(ij);
+          return JsonParser.parseObjectCompact(ij);
         } else {
           return null;
         }
@@ -430,7 +496,7 @@ public class NpmPackage {
           if (ij.exists() || !minimalMemory) {
             if (!minimalMemory) {
               try {
-                if (!ij.exists() || !folder.readIndex(JsonParser.parseObject(ij), folder.getTypes())) {
+                if (!ij.exists() || !folder.readIndex(JsonParser.parseObjectCompact(ij), folder.getTypes())) {
                   indexFolder(folder.getFolderName(), folder);
                 }
               } catch (Exception e) {
@@ -466,7 +532,7 @@ public class NpmPackage {
         File ij = ManagedFileAccess.file(Utilities.path(f.getAbsolutePath(), ".index.json"));
         if (ij.exists() || !minimalMemory) {
           try {
-            if (!ij.exists() || !folder.readIndex(JsonParser.parseObject(ij), folder.getTypes())) {
+            if (!ij.exists() || !folder.readIndex(JsonParser.parseObjectCompact(ij), folder.getTypes())) {
               indexFolder(folder.getFolderName(), folder);
             }
           } catch (Exception e) {
@@ -674,10 +740,11 @@ public class NpmPackage {
       folder.removeFile(n);
     }
     String json = indexer.build();
+    folder.canonicalIndex = null;
     
     try {
       if (!minimalMemory) {
-        folder.readIndex(JsonParser.parseObject(json), folder.getTypes());
+        folder.readIndex(JsonParser.parseObjectCompact(json), folder.getTypes());
       }
       if (folder.folder != null) {
         TextFile.stringToFile(json, Utilities.path(folder.folder.getAbsolutePath(), ".index.json"));
@@ -854,25 +921,11 @@ public class NpmPackage {
    */
   public InputStream loadByCanonicalVersion(String folder, String canonical, String version) throws IOException {
     NpmPackageFolder f = folders.get(folder);
-    List<JsonObject> matches = new ArrayList<>();
-    for (JsonObject file : f.index().getJsonObjects("files")) {
-      if (canonical.equals(file.asString("url"))) {
-        if (version != null && version.equals(file.asString("version"))) {
-          return load("package", file.asString("filename"));
-        } else if (version == null) {
-          matches.add(file);
-        }
-      }
-      if (matches.size() > 0) {
-        if (matches.size() == 1) {
-          return load("package", matches.get(0).asString("filename"));          
-        } else {
-          Collections.sort(matches, new IndexVersionSorter());
-          return load("package", matches.get(matches.size()-1).asString("filename"));          
-        }
-      }
+    if (f == null) {
+      return null;
     }
-    return null;        
+    String filename = f.findByCanonical(canonical, version);
+    return filename == null ? null : load(folder, filename);
   }
     
   /**
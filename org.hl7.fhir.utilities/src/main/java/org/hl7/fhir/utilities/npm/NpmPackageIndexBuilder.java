@@ -61,6 +61,7 @@ public class NpmPackageIndexBuilder {
             "ValueSet       nvarchar NULL,\r\n"+
             "Derivation     nvarchar NULL,\r\n"+
             "PRIMARY KEY (FileName))\r\n");
+        stmt.execute("CREATE INDEX ResourceListUrl ON ResourceList (Url, Version)");
 
         psql = conn.prepareStatement("Insert into ResourceList (FileName, ResourceType, Id, Url, Version, Kind, Type, Supplements, Content, ValueSet) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
       } catch (Exception e) {
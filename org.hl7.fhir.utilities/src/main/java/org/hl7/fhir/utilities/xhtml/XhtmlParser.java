@@ -34,8 +34,6 @@ package org.hl7.fhir.utilities.xhtml;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.Reader;
-import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -59,7 +57,7 @@ import org.xmlpull.v1.XmlPullParserException;
 
 public class XhtmlParser {
   public static final String XHTML_NS = "http://www.w3.org/1999/xhtml";
-  private static final char END_OF_CHARS = (char) -1;
+  private static final char END_OF_CHARS = XhtmlParserInput.END_OF_CHARS;
   private static final boolean DEBUG = false;
 
   public class NamespaceNormalizationMap {
@@ -468,8 +466,7 @@ public class XhtmlParser {
     return " at line "+Integer.toString(line)+" column "+Integer.toString(col);
   }
 
-  private Reader rdr;
-  private String cache = "";
+  private XhtmlParserInput input;
   private XhtmlNode unwindPoint;
   private String lastText = "";
   private int line = 1;
@@ -479,12 +476,12 @@ public class XhtmlParser {
   private boolean xmlMode;
 
   public XhtmlDocument parse(String source, String entryName) throws FHIRFormatError, IOException  {
-    rdr = new StringReader(source);
+    this.input = new XhtmlParserInput(source);
     return parse(entryName);
   }
 
   public XhtmlDocument parse(InputStream input, String entryName) throws FHIRFormatError, IOException  {
-    rdr = new InputStreamReader(input, StandardCharsets.UTF_8);
+    this.input = new XhtmlParserInput(new InputStreamReader(input, StandardCharsets.UTF_8));
     return parse(entryName);
   }
 
@@ -777,40 +774,17 @@ public class XhtmlParser {
   }
 
   private void pushChar(char ch) {
-    cache = Character.toString(ch)+cache;    
+    input.push(ch);
   }
 
   private char peekChar() throws IOException
   {
-    if (cache.length() > 0)
-      return cache.charAt(0);
-    else if (!rdr.ready())
-      return END_OF_CHARS;
-    else
-    {
-      int i = rdr.read();
-      if (i == -1)       {
-        cache = "";
-        return END_OF_CHARS;
-      }
-      char c = (char) i;
-      cache =  Character.toString(c);
-      return c;
-    }
+    return input.peek();
   }
 
   private char readChar() throws IOException
   {
-    char c;
-    if (cache.length() > 0)
-    {
-      c = cache.charAt(0);
-      cache = cache.length() == 1 ? "" : cache.substring(1);
-    }
-    else if (!rdr.ready())
-      c = END_OF_CHARS;
-    else
-      c = (char)rdr.read();
+    char c = input.read();
     if (c == '\r' || c == '\n') {
       if (c == '\r' || lastChar != '\r') {
         line++;
@@ -1301,7 +1275,7 @@ public class XhtmlParser {
   }
   
   public XhtmlNode parseFragment(String source) throws IOException, FHIRException  {
-    rdr = new StringReader(source);
+    this.input = new XhtmlParserInput(source);
     try {
       return parseFragment();
     } catch (Exception e) {
@@ -1313,7 +1287,7 @@ public class XhtmlParser {
   }
 
   public XhtmlNode parseFragment(InputStream input) throws IOException, FHIRException  {
-    rdr = new InputStreamReader(input);
+    this.input = new XhtmlParserInput(new InputStreamReader(input));
     return parseFragment();
   }
 
@@ -0,0 +1,90 @@
+package org.hl7.fhir.utilities.xhtml;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * The characters the XhtmlParser reads from. A String source is read straight from a char array;
+ * a Reader is read a block at a time into the buffer. Characters the parser gives back (pushChar)
+ * go on a small stack, and are read again before anything else.
+ *
+ * Not thread safe - each parse uses its own.
+ */
+class XhtmlParserInput {
+
+  public static final char END_OF_CHARS = (char) -1;
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Reader reader;
+  private char[] buffer;
+  private int pos;
+  private int limit;
+  private char[] pushback = new char[8];
+  private int pushed;
+
+  public XhtmlParserInput(String source) {
+    this.reader = null;
+    this.buffer = source.toCharArray();
+    this.limit = buffer.length;
+  }
+
+  public XhtmlParserInput(Reader reader) {
+    this.reader = reader;
+    this.buffer = new char[BUFFER_SIZE];
+  }
+
+  /**
+   * @return the next character, without consuming it, or END_OF_CHARS if there isn't one
+   */
+  public char peek() throws IOException {
+    if (pushed > 0) {
+      return pushback[pushed - 1];
+    }
+    if (pos == limit && !fill()) {
+      return END_OF_CHARS;
+    }
+    return buffer[pos];
+  }
+
+  /**
+   * @return the next character, or END_OF_CHARS if there isn't one
+   */
+  public char read() throws IOException {
+    if (pushed > 0) {
+      return pushback[--pushed];
+    }
+    if (pos == limit && !fill()) {
+      return END_OF_CHARS;
+    }
+    return buffer[pos++];
+  }
+
+  /**
+   * gives a character back, so it's the next one read
+   */
+  public void push(char ch) {
+    if (pushed == pushback.length) {
+      char[] n = new char[pushback.length * 2];
+      System.arraycopy(pushback, 0, n, 0, pushed);
+      pushback = n;
+    }
+    pushback[pushed++] = ch;
+  }
+
+  private boolean fill() throws IOException {
+    if (reader == null) {
+      return false;
+    }
+    int n;
+    do {
+      n = reader.read(buffer, 0, buffer.length);
+    } while (n == 0);
+    if (n < 0) {
+      return false;
+    }
+    pos = 0;
+    limit = n;
+    return true;
+  }
+}
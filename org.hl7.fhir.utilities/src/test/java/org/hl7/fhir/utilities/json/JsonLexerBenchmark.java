@@ -0,0 +1,110 @@
+package org.hl7.fhir.utilities.json;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hl7.fhir.utilities.json.model.JsonArray;
+import org.hl7.fhir.utilities.json.model.JsonObject;
+import org.hl7.fhir.utilities.json.parser.JsonLexer;
+import org.hl7.fhir.utilities.json.parser.JsonLexer.TokenType;
+import org.hl7.fhir.utilities.json.parser.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the char array JsonLexer with the String based lexer it replaced (StringJsonLexer),
+ * lexing a pretty printed Bundle of patients in the JSON5 mode the validator uses, and the 
+ * full JsonParser on the same Bundle
+ *
+ * Not a unit test - run main() from the IDE, or with the test classpath
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonLexerBenchmark {
+
+  @Param({"100", "5000"})
+  public int entries;
+
+  private String source;
+
+  @Setup
+  public void setup() {
+    JsonObject bundle = new JsonObject();
+    bundle.add("resourceType", "Bundle");
+    bundle.add("type", "collection");
+    JsonArray list = new JsonArray();
+    bundle.add("entry", list);
+    for (int i = 0; i < entries; i++) {
+      JsonObject pat = new JsonObject();
+      pat.add("resourceType", "Patient");
+      pat.add("id", "p"+i);
+      pat.add("active", true);
+      JsonObject name = new JsonObject();
+      name.add("family", "Chalmers");
+      name.forceArray("given").add("Peter").add("James");
+      pat.forceArray("name").add(name);
+      JsonObject telecom = new JsonObject();
+      telecom.add("system", "phone");
+      telecom.add("value", "(03) 5555 "+(6473+i));
+      pat.forceArray("telecom").add(telecom);
+      pat.add("birthDate", "1974-12-25");
+      JsonObject text = new JsonObject();
+      text.add("status", "generated");
+      text.add("div", "<div xmlns=\"http://www.w3.org/1999/xhtml\">Peter James <b>Chalmers</b> (\"Jim\")</div>");
+      pat.add("text", text);
+      pat.add("multipleBirthInteger", i % 3);
+      JsonObject entry = new JsonObject();
+      entry.add("fullUrl", "http://example.org/Patient/p"+i);
+      entry.add("resource", pat);
+      list.add(entry);
+    }
+    source = JsonParser.compose(bundle, true);
+  }
+
+  @Benchmark
+  public int lexString() throws IOException {
+    StringJsonLexer lexer = new StringJsonLexer(source, true, true, 0);
+    int count = 0;
+    while (lexer.getType() != TokenType.Eof) {
+      lexer.next();
+      count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int lexCharArray() throws IOException {
+    JsonLexer lexer = new JsonLexer(source, true, true, 0);
+    int count = 0;
+    while (lexer.getType() != TokenType.Eof) {
+      lexer.next();
+      count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public JsonObject parse() throws IOException {
+    return JsonParser.parseObject(source, true, true);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(JsonLexerBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -7,6 +7,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
 import org.hl7.fhir.utilities.json.model.JsonObject;
+import org.hl7.fhir.utilities.json.model.JsonString;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -44,4 +45,37 @@ class JsonObjectTests {
     Assertions.assertNotEquals(instant, differentInstant);
   }
 
+  @Test
+  void lookupBeforeAndAfterMapIsBuilt() {
+    JsonObject json = new JsonObject();
+    for (int i = 0; i < 20; i++) {
+      json.add("p"+i, i);
+      for (int j = 0; j <= i; j++) {
+        Assertions.assertEquals(j, json.asInteger("p"+j));
+      }
+      Assertions.assertFalse(json.has("p"+(i+1)));
+    }
+    json.remove("p3");
+    Assertions.assertFalse(json.has("p3"));
+    Assertions.assertEquals(19, json.getProperties().size());
+    Assertions.assertEquals(19, json.getNames().size());
+    json.set("p4", "four");
+    Assertions.assertEquals("four", json.asString("p4"));
+    json.clear();
+    Assertions.assertFalse(json.has("p4"));
+  }
+
+  @Test
+  void lastDuplicateWins() {
+    JsonObject json = new JsonObject();
+    json.addForParser("a", new JsonString("1"), false, false, false);
+    json.addForParser("a", new JsonString("2"), false, false, false);
+    Assertions.assertEquals("2", json.asString("a"));
+    Assertions.assertEquals(1, json.getNames().size());
+    for (int i = 0; i < 10; i++) {
+      json.addForParser("b"+i, new JsonString("b"), false, false, false);
+    }
+    json.addForParser("a", new JsonString("3"), false, false, false);
+    Assertions.assertEquals("3", json.asString("a"));
+  }
 }
@@ -72,6 +72,36 @@ public class JsonParserTests {
   }
 
 
+  @Test
+  public void testLocationsAfterEscapes() throws IOException, JsonException {
+    JsonObject obj = JsonParser.parseObject("{\n  \"a\" : \"x\\u0041\\ty\",\n  \"b\" : [12, \"z\"]\n}\n", true);
+    Assertions.assertEquals("xA\ty", obj.asString("a"));
+    JsonElement a = obj.get("a");
+    Assertions.assertEquals(2, a.getStart().getLine(), "a start line is wrong");
+    Assertions.assertEquals(9, a.getStart().getCol(), "a start col is wrong");
+    Assertions.assertEquals(2, a.getEnd().getLine(), "a end line is wrong");
+    Assertions.assertEquals(21, a.getEnd().getCol(), "a end col is wrong");
+    JsonElement z = obj.getJsonArray("b").get(1);
+    Assertions.assertEquals(3, z.getStart().getLine(), "z start line is wrong");
+    Assertions.assertEquals(14, z.getStart().getCol(), "z start col is wrong");
+    Assertions.assertEquals(4, obj.getEnd().getLine(), "end line is wrong");
+  }
+
+  @Test
+  public void testCompact() throws IOException, JsonException {
+    String src = "{\n  \"name\" : \"v1\",\n  \"list\" : [{\"name\" : \"v2\"}, 3]\n}\n";
+    JsonObject obj = JsonParser.parseObjectCompact(src);
+    Assertions.assertEquals("v1", obj.asString("name"));
+    Assertions.assertEquals("v2", obj.getJsonArray("list").get(0).asJsonObject().asString("name"));
+    Assertions.assertNull(obj.getStart());
+    Assertions.assertNull(obj.get("list").getEnd());
+    Assertions.assertNull(obj.getJsonArray("list").get(1).getStart());
+    // property names are shared
+    JsonObject other = JsonParser.parseObjectCompact(src);
+    Assertions.assertSame(obj.getProperties().get(0).getName(), other.getProperties().get(0).getName());
+    Assertions.assertEquals(JsonParser.compose(JsonParser.parseObject(src)), JsonParser.compose(obj));
+  }
+
   private void checkSubstring(String src, JsonElement obj, String tgt) {
     String s = src.substring(obj.getStart().getCol()-1, obj.getEnd().getCol()-1);
     Assertions.assertEquals(tgt, s);
@@ -3,10 +3,15 @@ package org.hl7.fhir.utilities.npm;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.apache.commons.io.IOUtils;
 import org.hl7.fhir.utilities.tests.ResourceLoaderTests;
 import org.junit.jupiter.api.Assertions;
@@ -32,4 +37,43 @@ public class NpmPackageTests implements ResourceLoaderTests {
     assertNotNull(thrown);
     assertEquals("Entry with an illegal name: ../evil.txt", thrown.getMessage());
   }
+
+  private void addEntry(TarArchiveOutputStream tar, String name, String content) throws IOException {
+    byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    TarArchiveEntry entry = new TarArchiveEntry(name);
+    entry.setSize(bytes.length);
+    tar.putArchiveEntry(entry);
+    tar.write(bytes);
+    tar.closeArchiveEntry();
+  }
+
+  private String resource(String id, String url, String version) {
+    return "{\"resourceType\" : \"ValueSet\", \"id\" : \""+id+"\", \"url\" : \""+url+"\", \"version\" : \""+version+"\"}";
+  }
+
+  @Test
+  public void testLoadByCanonical() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (TarArchiveOutputStream tar = new TarArchiveOutputStream(new GzipCompressorOutputStream(bytes))) {
+      addEntry(tar, "package/package.json", "{\"name\" : \"example.fhir.test\", \"version\" : \"1.0.0\"}");
+      addEntry(tar, "package/ValueSet-a.json", resource("a", "http://example.org/vs", "1.0.0"));
+      addEntry(tar, "package/ValueSet-b.json", resource("b", "http://example.org/vs", "2.0.0"));
+      addEntry(tar, "package/ValueSet-c.json", resource("c", "http://example.org/vs", "1.5.0"));
+      addEntry(tar, "package/other/ValueSet-d.json", resource("d", "http://example.org/vs-other", "1.0.0"));
+    }
+    NpmPackage npm = NpmPackage.fromPackage(new ByteArrayInputStream(bytes.toByteArray()));
+
+    assertEquals("b", idOf(npm.loadByCanonical("http://example.org/vs")));
+    assertEquals("a", idOf(npm.loadByCanonicalVersion("http://example.org/vs", "1.0.0")));
+    assertEquals("c", idOf(npm.loadByCanonicalVersion("http://example.org/vs", "1.5.0")));
+    Assertions.assertNull(npm.loadByCanonicalVersion("http://example.org/vs", "3.0.0"));
+    Assertions.assertNull(npm.loadByCanonical("http://example.org/vs-other"));
+    assertEquals("d", idOf(npm.loadByCanonical("other", "http://example.org/vs-other")));
+    Assertions.assertNull(npm.loadByCanonical("missing", "http://example.org/vs-other"));
+  }
+
+  private String idOf(InputStream stream) throws IOException {
+    assertNotNull(stream);
+    return org.hl7.fhir.utilities.json.parser.JsonParser.parseObject(stream).asString("id");
+  }
 }
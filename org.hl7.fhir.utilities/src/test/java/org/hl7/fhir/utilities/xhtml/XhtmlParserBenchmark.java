@@ -0,0 +1,108 @@
+package org.hl7.fhir.utilities.xhtml;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parses narratives like the ones in a Bundle of generated resources (tables, lists, 
+ * entities and comments) with the XhtmlParser, from a String, from an InputStream, 
+ * and as fragments
+ *
+ * Not a unit test - run main() from the IDE, or with the test classpath
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XhtmlParserBenchmark {
+
+  @Param({"100", "2000"})
+  public int entries;
+
+  private String[] narratives;
+  private String document;
+  private byte[] documentBytes;
+
+  @Setup
+  public void setup() {
+    narratives = new String[entries];
+    StringBuilder doc = new StringBuilder("<div xmlns=\"http://www.w3.org/1999/xhtml\">\r\n");
+    for (int i = 0; i < entries; i++) {
+      narratives[i] = makeNarrative(i);
+      doc.append(narratives[i]).append("\r\n");
+    }
+    doc.append("</div>");
+    document = doc.toString();
+    documentBytes = document.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private String makeNarrative(int i) {
+    StringBuilder b = new StringBuilder();
+    b.append("<div xmlns=\"http://www.w3.org/1999/xhtml\">\r\n");
+    b.append("  <!-- generated narrative for entry ").append(i).append(" -->\r\n");
+    b.append("  <p><b>Generated Narrative: Patient</b><a name=\"p").append(i).append("\"> </a></p>\r\n");
+    b.append("  <p style=\"border: 1px #661aff solid; background-color: #e6e6ff; padding: 10px;\">Peter James <b>Chalmers</b> (&quot;Jim&quot;) Male, DoB: 1974-12-25 ( Medical record number: 12345&nbsp;(use:&nbsp;USUAL))</p>\r\n");
+    b.append("  <hr/>\r\n");
+    b.append("  <table class=\"grid\">\r\n");
+    for (int r = 0; r < 5; r++) {
+      b.append("    <tr><td style=\"background-color: #f3f5da\" title=\"Record is active\">Active:</td><td colspan=\"3\">true</td></tr>\r\n");
+      b.append("    <tr><td>Contact Detail</td><td><ul><li>ph: (03) 5555 ").append(6473 + r).append("(WORK)</li><li><a href=\"mailto:p.chalmers@example.org\">p.chalmers@example.org</a></li></ul></td></tr>\r\n");
+    }
+    b.append("  </table>\r\n");
+    b.append("</div>");
+    return b.toString();
+  }
+
+  @Benchmark
+  public XhtmlDocument parseString() throws IOException {
+    return new XhtmlParser().parse(document, "div");
+  }
+
+  @Benchmark
+  public XhtmlDocument parseStream() throws IOException {
+    return new XhtmlParser().parse(new ByteArrayInputStream(documentBytes), "div");
+  }
+
+  @Benchmark
+  public int parseNarratives() throws IOException {
+    int count = 0;
+    XhtmlParser parser = new XhtmlParser();
+    for (String n : narratives) {
+      count += parser.parse(n, "div").getDocumentElement().getChildNodes().size();
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int parseFragments() throws IOException {
+    int count = 0;
+    XhtmlParser parser = new XhtmlParser();
+    for (String n : narratives) {
+      count += parser.parseFragment(n).getChildNodes().size();
+    }
+    return count;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(XhtmlParserBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -1,7 +1,12 @@
 package org.hl7.fhir.utilities.xhtml;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class XhtmlTests {
@@ -13,4 +18,35 @@ public class XhtmlTests {
       String actual = node.toString();
       assertTrue(actual.startsWith("org.hl7.fhir.utilities.xhtml.XhtmlNode@"), "toString() should return java the toString default method for objects, which starts with the full class name");
   }
+
+  @Test
+  public void testParseStreamLargerThanBuffer() throws IOException
+  {
+    StringBuilder b = new StringBuilder("<div xmlns=\"http://www.w3.org/1999/xhtml\">");
+    for (int i = 0; i < 1000; i++) {
+      b.append("<p>Row ").append(i).append(" - <b>b\u00e9ta</b> &amp; <i>more</i><!-- a - comment --></p>\r\n");
+    }
+    b.append("</div>");
+    String source = b.toString();
+    XhtmlDocument fromString = new XhtmlParser().parse(source, "div");
+    XhtmlDocument fromStream = new XhtmlParser().parse(new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)), "div");
+    String expected = new XhtmlComposer(XhtmlComposer.XML).compose(fromString);
+    assertEquals(expected, new XhtmlComposer(XhtmlComposer.XML).compose(fromStream));
+    assertTrue(expected.contains("Row 999 - <b>b\u00e9ta</b>"));
+  }
+
+  @Test
+  public void testParserInputPushback() throws IOException
+  {
+    XhtmlParserInput input = new XhtmlParserInput("ab");
+    assertEquals('a', input.read());
+    input.push('a');
+    input.push('z');
+    assertEquals('z', input.peek());
+    assertEquals('z', input.read());
+    assertEquals('a', input.read());
+    assertEquals('b', input.read());
+    assertEquals(XhtmlParserInput.END_OF_CHARS, input.peek());
+    assertEquals(XhtmlParserInput.END_OF_CHARS, input.read());
+  }
 }
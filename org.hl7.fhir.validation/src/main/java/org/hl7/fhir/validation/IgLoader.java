@@ -8,7 +8,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +63,7 @@ public class IgLoader implements IValidationEngineLoader {
   private static final String[] IGNORED_EXTENSIONS = {"md", "css", "js", "png", "gif", "jpg", "html", "tgz", "pack", "zip"};
   private static final String[] EXEMPT_FILES = {"spec.internals", "version.info", "schematron.zip", "package.json"};
   private static final int SCAN_HEADER_SIZE = 2048;
+  private static final int NDJSON_SNIFF_SIZE = 65536;
 
   @Getter private final FilesystemPackageCacheManager packageCacheManager;
   @Getter private final SimpleWorkerContext context;
@@ -302,6 +302,9 @@ public class IgLoader implements IValidationEngineLoader {
         stream.close();
       }
 
+      if (isNDJson(f, src)) {
+        return ndJsonSource(src);
+      }
       Manager.FhirFormat fmt = ResourceChecker.checkIsResource(getContext(), isDebug(), TextFile.fileToBytes(f), src, true);
       if (fmt != null) {
         Map<String, ByteProvider> res = new HashMap<String, ByteProvider>();
@@ -338,9 +341,47 @@ public class IgLoader implements IValidationEngineLoader {
     }
   }
 
+  /**
+   * NDJSON files (e.g. bulk data exports) are validated a line at a time, and can be too big to read into 
+   * memory, so they are recognised by their extension, or, if the extension doesn't say what the file is, by 
+   * looking at the start of it: a first line that is a whole JSON object, followed by another line that starts one
+   */
+  private boolean isNDJson(File f, String src) throws IOException {
+    String ext = Utilities.getFileExtension(src).toLowerCase();
+    if ("ndjson".equals(ext)) {
+      return true;
+    }
+    if (Utilities.existsInList(ext, "json", "xml", "ttl", "map", "fml", "jwt", "jws", "txt", "shc")) {
+      return false;
+    }
+    String s = readHeader(ManagedFileAccess.inStream(f), NDJSON_SNIFF_SIZE);
+    if (s.startsWith("\uFEFF")) {
+      s = s.substring(1);
+    }
+    int i = s.indexOf('\n');
+    if (!s.startsWith("{") || i < 0 || !s.substring(0, i).trim().endsWith("}")) {
+      return false;
+    }
+    return s.substring(i).trim().startsWith("{");
+  }
+
+  private Map<String, ByteProvider> ndJsonSource(String src) throws IOException {
+    Map<String, ByteProvider> res = new HashMap<String, ByteProvider>();
+    res.put(Utilities.changeFileExt(src, ".ndjson"), ByteProvider.forFile(src));
+    return res;
+  }
+
+  private String readHeader(InputStream stream, int size) throws IOException {
+    try {
+      return TextFile.bytesToString(stream.readNBytes(size));
+    } finally {
+      stream.close();
+    }
+  }
+
   private void scanForFhirVersion(VersionSourceInformation versions, String ref, ByteProvider bp) throws IOException {
-    byte[] cnt = bp.getBytes();
-    String s = TextFile.bytesToString(cnt.length > SCAN_HEADER_SIZE ? Arrays.copyOfRange(cnt, 0, SCAN_HEADER_SIZE) : cnt).trim();
+    // only the start of the file is needed, and it may be a large NDJSON file
+    String s = readHeader(bp.getStream(), SCAN_HEADER_SIZE).trim();
     try {
       int i = s.indexOf("fhirVersion");
       if (i > 1) {
@@ -480,6 +521,9 @@ public class IgLoader implements IValidationEngineLoader {
         return readZip(ManagedFileAccess.inStream(src));
       if (src.endsWith("igpack.zip"))
         return readZip(ManagedFileAccess.inStream(src));
+      if (isNDJson(f, src)) {
+        return ndJsonSource(src);
+      }
       Manager.FhirFormat fmt = ResourceChecker.checkIsResource(getContext(), isDebug(), TextFile.fileToBytes(f), src, true);
       if (fmt != null) {
         Map<String, ByteProvider> res = new HashMap<String, ByteProvider>();
@@ -20,8 +20,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.fhir.ucum.UcumEssenceService;
+import org.hl7.fhir.convertors.bulk.BulkConversionStatistics;
+import org.hl7.fhir.convertors.bulk.NdJsonVersionConvertor;
 import org.hl7.fhir.convertors.factory.VersionConvertorFactory_10_50;
 import org.hl7.fhir.convertors.factory.VersionConvertorFactory_14_50;
 import org.hl7.fhir.convertors.factory.VersionConvertorFactory_30_50;
@@ -30,6 +36,7 @@ import org.hl7.fhir.convertors.txClient.TerminologyClientFactory;
 import org.hl7.fhir.exceptions.DefinitionException;
 import org.hl7.fhir.exceptions.FHIRException;
 import org.hl7.fhir.r5.conformance.profile.ProfileUtilities;
+import org.hl7.fhir.r5.context.ContextImage;
 import org.hl7.fhir.r5.context.ContextUtilities;
 import org.hl7.fhir.r5.context.ILoggingService;
 import org.hl7.fhir.r5.context.IWorkerContextManager;
@@ -225,6 +232,7 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
   @Getter @Setter private HtmlInMarkdownCheck htmlInMarkdownCheck;
   @Getter @Setter private boolean allowDoubleQuotesInFHIRPath;
   @Getter @Setter private boolean checkIPSCodes;
+  @Getter @Setter private boolean batchTerminologyChecks;
   @Getter @Setter private BestPracticeWarningLevel bestPracticeLevel;
   @Getter @Setter private boolean unknownCodeSystemsCauseErrors;
   @Getter @Setter private boolean noExperimentalContent;
@@ -233,6 +241,7 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
   @Getter @Setter private List<String> extensionDomains = new ArrayList<>();
 
   @Getter @Setter private boolean showTimes;
+  @Getter @Setter private int threads = 1; // the number of files to validate at once (see validateInParallel)
   @Getter @Setter private List<BundleValidationRule> bundleValidationRules = new ArrayList<>();
   @Getter @Setter private QuestionnaireMode questionnaireMode;
   @Getter @Setter private ValidationLevel level = ValidationLevel.HINTS;
@@ -281,10 +290,12 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     htmlInMarkdownCheck = other.htmlInMarkdownCheck;
     allowDoubleQuotesInFHIRPath = other.allowDoubleQuotesInFHIRPath;
     checkIPSCodes = other.checkIPSCodes;
+    batchTerminologyChecks = other.batchTerminologyChecks;
     locale = other.locale;
     igs.addAll(other.igs);
     extensionDomains.addAll(other.extensionDomains);
     showTimes = other.showTimes;
+    threads = other.threads;
     bundleValidationRules.addAll(other.bundleValidationRules);
     questionnaireMode = other.questionnaireMode;
     level = other.level;
@@ -345,6 +356,12 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     @With
     private boolean THO = true;
 
+    /**
+     * the number of threads the context reads and parses package files on (see SimpleWorkerContext.setLoadingThreads)
+     */
+    @With
+    private final int loadingThreads;
+
     private static final boolean USE_ECOSYSTEM_DEFAULT = true;
 
     public ValidationEngineBuilder() {
@@ -358,6 +375,7 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
       canRunWithoutTerminologyServer = false;
       useEcosystem = USE_ECOSYSTEM_DEFAULT;
       loggingService = new SystemOutLoggingService();
+      loadingThreads = 1;
     }
 
     /**
@@ -375,6 +393,10 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
      */
     @Deprecated
     public ValidationEngineBuilder(String terminologyCachePath, String userAgent, String version, String txServer, String txLog, FhirPublication txVersion, boolean useEcosystem, TimeTracker timeTracker, boolean canRunWithoutTerminologyServer, ILoggingService loggingService, boolean THO) {
+      this(terminologyCachePath, userAgent, version, txServer, txLog, txVersion, useEcosystem, timeTracker, canRunWithoutTerminologyServer, loggingService, THO, 1);
+    }
+
+    private ValidationEngineBuilder(String terminologyCachePath, String userAgent, String version, String txServer, String txLog, FhirPublication txVersion, boolean useEcosystem, TimeTracker timeTracker, boolean canRunWithoutTerminologyServer, ILoggingService loggingService, boolean THO, int loadingThreads) {
       this.terminologyCachePath = terminologyCachePath;
       this.userAgent = userAgent;
       this.version = version;
@@ -386,19 +408,20 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
       this.loggingService = loggingService;
       this.useEcosystem = useEcosystem;
       this.THO = THO;
+      this.loadingThreads = loadingThreads;
     }
 
     public ValidationEngineBuilder withTxServer(String txServer, String txLog, FhirPublication txVersion, boolean useEcosystem) {
-      return new ValidationEngineBuilder(terminologyCachePath, userAgent, version, txServer, txLog, txVersion, useEcosystem, timeTracker, canRunWithoutTerminologyServer, loggingService, THO);
+      return new ValidationEngineBuilder(terminologyCachePath, userAgent, version, txServer, txLog, txVersion, useEcosystem, timeTracker, canRunWithoutTerminologyServer, loggingService, THO, loadingThreads);
     }
 
     public ValidationEngineBuilder withNoTerminologyServer() {
-      return new ValidationEngineBuilder(terminologyCachePath, userAgent, version, null, null, txVersion, useEcosystem, timeTracker, true, loggingService, THO);
+      return new ValidationEngineBuilder(terminologyCachePath, userAgent, version, null, null, txVersion, useEcosystem, timeTracker, true, loggingService, THO, loadingThreads);
     }
     
     public ValidationEngine fromNothing() throws IOException {
       ValidationEngine engine = new ValidationEngine();
-      SimpleWorkerContext.SimpleWorkerContextBuilder contextBuilder = new SimpleWorkerContext.SimpleWorkerContextBuilder().withLoggingService(loggingService);
+      SimpleWorkerContext.SimpleWorkerContextBuilder contextBuilder = new SimpleWorkerContext.SimpleWorkerContextBuilder().withLoggingService(loggingService).withLoadingThreads(loadingThreads);
       if (terminologyCachePath != null)
         contextBuilder = contextBuilder.withTerminologyCachePath(terminologyCachePath);
       engine.setContext(contextBuilder.build());
@@ -413,7 +436,7 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
 
     public ValidationEngine fromSource(String src) throws IOException, URISyntaxException {
       ValidationEngine engine = new ValidationEngine();
-      engine.loadCoreDefinitions(src, false, terminologyCachePath, userAgent, timeTracker, loggingService);
+      engine.loadCoreDefinitions(src, false, terminologyCachePath, userAgent, timeTracker, loggingService, loadingThreads);
       engine.getContext().setCanRunWithoutTerminology(canRunWithoutTerminologyServer);
       engine.getContext().setPackageTracker(engine);    
       if (txServer != null) {
@@ -430,6 +453,27 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
       return engine;
     }
 
+    /**
+     * Restore the engine from a context image saved by saveContextImage (see ContextImage)
+     *
+     * @return null if there's no image with the key in the file
+     */
+    public ValidationEngine fromContextImage(String filename, String key) throws IOException {
+      ValidationEngine engine = new ValidationEngine();
+      if (!engine.loadContextImage(filename, key, terminologyCachePath, userAgent, timeTracker, loggingService, loadingThreads)) {
+        return null;
+      }
+      engine.getContext().setCanRunWithoutTerminology(canRunWithoutTerminologyServer);
+      engine.getContext().setPackageTracker(engine);    
+      if (txServer != null) {
+        engine.setTerminologyServer(txServer, txLog, txVersion, useEcosystem);
+      }
+      engine.setVersion(version);
+      engine.setIgLoader(new IgLoader(engine.getPcm(), engine.getContext(), engine.getVersion(), engine.isDebug()));
+      // the terminology and extension packages are in the image
+      return engine;
+    }
+
     private void loadTx(ValidationEngine engine) throws FHIRException, IOException {
       String pid = null;
       if (VersionUtilities.isR3Ver(version)) {
@@ -459,16 +503,17 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
    * @param userAgent
    * @param tt
    * @param loggingService
+   * @param loadingThreads
    * @throws FHIRException
    * @throws IOException
    *
    * @see IgLoader#loadIgSource(String, boolean, boolean) loadIgSource for detailed description of the src parameter
    */
-  private void loadCoreDefinitions(String src, boolean recursive, String terminologyCachePath, String userAgent, TimeTracker tt, ILoggingService loggingService) throws FHIRException, IOException {
+  private void loadCoreDefinitions(String src, boolean recursive, String terminologyCachePath, String userAgent, TimeTracker tt, ILoggingService loggingService, int loadingThreads) throws FHIRException, IOException {
     NpmPackage npm = getPcm().loadPackage(src, null);
     if (npm != null) {
       version = npm.fhirVersion();
-      SimpleWorkerContext.SimpleWorkerContextBuilder contextBuilder = new SimpleWorkerContext.SimpleWorkerContextBuilder().withLoggingService(loggingService);
+      SimpleWorkerContext.SimpleWorkerContextBuilder contextBuilder = new SimpleWorkerContext.SimpleWorkerContextBuilder().withLoggingService(loggingService).withLoadingThreads(loadingThreads);
       if (terminologyCachePath != null)
         contextBuilder = contextBuilder.withTerminologyCachePath(terminologyCachePath);
       if (userAgent != null) {
@@ -480,7 +525,7 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
       if (version == null) {
         version = getVersionFromPack(source);
       }
-      SimpleWorkerContext.SimpleWorkerContextBuilder contextBuilder = new SimpleWorkerContext.SimpleWorkerContextBuilder();
+      SimpleWorkerContext.SimpleWorkerContextBuilder contextBuilder = new SimpleWorkerContext.SimpleWorkerContextBuilder().withLoadingThreads(loadingThreads);
       if (terminologyCachePath != null)
         contextBuilder = contextBuilder.withTerminologyCachePath(terminologyCachePath);
       if (userAgent != null) {
@@ -489,6 +534,11 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
       context = contextBuilder.fromDefinitions(source, ValidatorUtils.loaderForVersion(version), new PackageInformation(src, version, new Date()));
       ValidatorUtils.grabNatives(getBinaries(), source, "http://hl7.org/fhir");
     }
+    loadUcum();
+    initContext(tt);
+  }
+
+  private void loadUcum() throws FHIRException {
     // ucum-essence.xml should be in the class path. if it's not, ask about how to sort this out 
     // on https://chat.fhir.org/#narrow/stream/179167-hapi
     try {
@@ -498,7 +548,47 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     } catch (Exception e) {
       throw new FHIRException("Error loading UCUM from embedded ucum-essence.xml: "+e.getMessage(), e);
     }
+  }
+
+  private boolean loadContextImage(String filename, String key, String terminologyCachePath, String userAgent, TimeTracker tt, ILoggingService loggingService, int loadingThreads) throws FHIRException, IOException {
+    SimpleWorkerContext.SimpleWorkerContextBuilder contextBuilder = new SimpleWorkerContext.SimpleWorkerContextBuilder().withLoggingService(loggingService).withLoadingThreads(loadingThreads);
+    if (terminologyCachePath != null)
+      contextBuilder = contextBuilder.withTerminologyCachePath(terminologyCachePath);
+    if (userAgent != null) {
+      contextBuilder = contextBuilder.withUserAgent(userAgent);
+    }
+    SimpleWorkerContext ctxt = contextBuilder.build();
+    List<String> guides = new ArrayList<>();
+    Map<String, ByteProvider> natives = new HashMap<>();
+    if (!ContextImage.load(ctxt, filename, key, guides, natives)) {
+      return false;
+    }
+    context = ctxt;
+    version = context.getVersion();
+    for (String url : guides) {
+      ImplementationGuide ig = context.fetchResource(ImplementationGuide.class, url);
+      if (ig == null) {
+        throw new FHIRException("The implementation guide "+url+" is not in the context image "+filename);
+      }
+      igs.add(ig);
+    }
+    binaries.putAll(natives);
+    loadUcum();
     initContext(tt);
+    return true;
+  }
+
+  /**
+   * Save the context, as it is now, so that it can be loaded by ValidationEngineBuilder.fromContextImage
+   * next time. Call this once the engine is prepared, so the image has the snapshots. The implementation 
+   * guides and the binaries (natives) loaded by the IgLoader are saved with it
+   */
+  public void saveContextImage(String filename, String key) throws IOException {
+    List<String> guides = new ArrayList<>();
+    for (ImplementationGuide ig : igs) {
+      guides.add(ig.getVersionedUrl());
+    }
+    ContextImage.save(context, filename, key, guides, binaries);
   }
 
   protected void initContext(TimeTracker tt) throws IOException {
@@ -508,8 +598,10 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     if (tt != null) {
       context.setClock(tt);
     }
-    NpmPackage npmX = getPcm().loadPackage(CommonPackages.ID_XVER, CommonPackages.VER_XVER);
-    context.loadFromPackage(npmX, null);
+    if (!context.getLoadedPackages().contains(CommonPackages.ID_XVER+"#"+CommonPackages.VER_XVER)) { // e.g. from a context image
+      NpmPackage npmX = getPcm().loadPackage(CommonPackages.ID_XVER, CommonPackages.VER_XVER);
+      context.loadFromPackage(npmX, null);
+    }
 
     this.fhirPathEngine = new FHIRPathEngine(context);
     this.fhirPathEngine.setAllowDoubleQuotes(false);
@@ -627,7 +719,7 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     for (SourceFile ref : refs) {
       if ((ref.isProcess() || all) && !ref.isKnownToBeMissing()) {
         ref.setCnt(igLoader.loadContent(ref.getRef(), "validate", false, first));
-        if (loader != null && ref.getCnt() != null) {
+        if (loader != null && ref.getCnt() != null && ref.getCnt().getCntType() != FhirFormat.NDJSON) { // ndjson content isn't a single resource, and may be too big to read
           try {
             loader.load(ref.getCnt());
           } catch (Throwable t) {
@@ -639,12 +731,20 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
       }
     }
     
+    List<SourceFile> todo = new ArrayList<>();
     for (SourceFile ref : refs) {
       if ((ref.isProcess() || all) && ref.getCnt() != null) {
+        todo.add(ref);
+      }
+    }
+    if (threads > 1 && todo.size() > 1) {
+      validateInParallel(todo, profiles, record, results);
+    } else {
+      for (SourceFile ref : todo) {
         TimeTracker.Session tts = context.clock().start("validation");
         context.clock().milestone();
         System.out.println("  Validate " + ref.getRef());
-        
+
         try {
           OperationOutcome outcome = validate(ref.getRef(), ref.getCnt().getFocus(), ref.getCnt().getCntType(), profiles, record);
           ToolingExtensions.addStringExtension(outcome, ToolingExtensions.EXT_OO_FILE, ref.getRef());
@@ -666,6 +766,71 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
   }
 
 
+  private static class ValidationTaskResult {
+    private OperationOutcome outcome;
+    private List<ValidationRecord> record;
+    private long time;
+  }
+
+  /**
+   * Each file is validated by its own InstanceValidator on a pool of [threads] threads, all sharing 
+   * the context (which should be sealed first, so that lookups don't contend for the lock). The context
+   * is set up for the validators here, before the workers start, and each worker has its own FHIRPathEngine.
+   * The results, the validation records and the progress output are handled on this thread 
+   * in the order of the files, so the output is the same as validating them one at a time
+   */
+  private void validateInParallel(List<SourceFile> todo, List<String> profiles, List<ValidationRecord> record, Bundle results) throws InterruptedException, FHIRException, IOException {
+    Set<FhirFormat> formats = new HashSet<>();
+    for (SourceFile ref : todo) {
+      formats.add(ref.getCnt().getCntType());
+    }
+    for (FhirFormat format : formats) {
+      prepareContext(format);
+    }
+    ThreadLocal<FHIRPathEngine> fpes = ThreadLocal.withInitial(() -> {
+      FHIRPathEngine fpe = new FHIRPathEngine(context);
+      fpe.setAllowDoubleQuotes(fhirPathEngine.isAllowDoubleQuotes());
+      return fpe;
+    });
+    TimeTracker.Session tts = context.clock().start("validation");
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<ValidationTaskResult>> futures = new ArrayList<>();
+      for (SourceFile ref : todo) {
+        futures.add(executor.submit(() -> {
+          ValidationTaskResult res = new ValidationTaskResult();
+          long start = System.currentTimeMillis();
+          res.record = record == null ? null : new ArrayList<>();
+          res.outcome = validate(ref.getRef(), ref.getCnt().getFocus(), ref.getCnt().getCntType(), profiles, res.record, makeValidator(), fpes.get());
+          ToolingExtensions.addStringExtension(res.outcome, ToolingExtensions.EXT_OO_FILE, ref.getRef());
+          res.time = System.currentTimeMillis() - start;
+          return res;
+        }));
+      }
+      for (int i = 0; i < todo.size(); i++) {
+        SourceFile ref = todo.get(i);
+        System.out.println("  Validate " + ref.getRef());
+        try {
+          ValidationTaskResult res = futures.get(i).get();
+          System.out.println(" " + res.time + "ms");
+          results.addEntry().setResource(res.outcome);
+          if (record != null) {
+            for (ValidationRecord vr : res.record) {
+              addRecord(record, vr.getLocation(), vr.getMessages());
+            }
+          }
+        } catch (ExecutionException e) {
+          System.out.println("Validation Infrastructure fail validating " + ref + ": " + e.getCause().getMessage());
+          throw new FHIRException(e.getCause());
+        }
+        ref.setProcess(false);
+      }
+    } finally {
+      executor.shutdownNow();
+      tts.end();
+    }
+  }
+
   public ValidatedFragments validateAsFragments(byte[] source, FhirFormat cntType, List<String> profiles, List<ValidationMessage> messages) throws FHIRException, IOException, EOperationOutcome {
     InstanceValidator validator = getValidator(cntType);
     validator.validate(null, messages, new ByteArrayInputStream(source), cntType, asSdList(profiles));
@@ -681,28 +846,42 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
   }
 
   public OperationOutcome validate(String location, ByteProvider source, FhirFormat cntType, List<String> profiles, List<ValidationRecord> record) throws FHIRException, IOException, EOperationOutcome, SAXException {
+    return validate(location, source, cntType, profiles, record, getValidator(cntType), fhirPathEngine);
+  }
+
+  private OperationOutcome validate(String location, ByteProvider source, FhirFormat cntType, List<String> profiles, List<ValidationRecord> record, InstanceValidator validator, FHIRPathEngine fpe) throws FHIRException, IOException, EOperationOutcome, SAXException {
     List<ValidationMessage> messages = new ArrayList<ValidationMessage>();
     if (doNative) {
       SchemaValidator.validateSchema(location, cntType, messages);
     }
-    InstanceValidator validator = getValidator(cntType);
-    validator.validate(null, messages, new ByteArrayInputStream(source.getBytes()), cntType, asSdList(profiles));
+    if (cntType == FhirFormat.NDJSON) {
+      // validated as it's read, so bulk data files don't need to fit in memory
+      try (InputStream stream = source.getStream()) {
+        validator.validateNDJson(null, stream, asSdList(profiles), ne -> messages.addAll(ne.getErrors()));
+      }
+    } else {
+      validator.validate(null, messages, new ByteArrayInputStream(source.getBytes()), cntType, asSdList(profiles));
+    }
     if (showTimes) {
       System.out.println(location + ": " + validator.reportTimes());
     }
     if (record != null) {
-      boolean found = false;
-      for (ValidationRecord t : record) {
-        if (t.getLocation().equals(location)) {
-          found = true;
-          t.setMessages(messages);
-        }
-      }
-      if (!found) {
-        record.add(new ValidationRecord(location, messages));
+      addRecord(record, location, messages);
+    }
+    return ValidatorUtils.messagesToOutcome(messages, context, fpe);
+  }
+
+  private void addRecord(List<ValidationRecord> record, String location, List<ValidationMessage> messages) {
+    boolean found = false;
+    for (ValidationRecord t : record) {
+      if (t.getLocation().equals(location)) {
+        found = true;
+        t.setMessages(messages);
       }
     }
-    return ValidatorUtils.messagesToOutcome(messages, context, fhirPathEngine);
+    if (!found) {
+      record.add(new ValidationRecord(location, messages));
+    }
   }
 
   public OperationOutcome validate(String location, byte[] source, FhirFormat cntType, List<String> profiles, IdStatus resourceIdRule, boolean anyExtensionsAllowed, BestPracticeWarningLevel bpWarnings, CheckDisplayOption displayOption) throws FHIRException, IOException, EOperationOutcome, SAXException {
@@ -829,6 +1008,18 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     Manager.compose(context, e, ManagedFileAccess.outStream(output), (output.endsWith(".json") ? FhirFormat.JSON : FhirFormat.XML), OutputStyle.PRETTY, null);
   }
 
+  /**
+   * Converts an NDJSON file from the version of this engine to targetVer, a resource per line, 
+   * using the internal version convertors on [threads] threads. The output is in the same order 
+   * as the input; resources that can't be converted are left out and reported in the statistics
+   */
+  public BulkConversionStatistics transformVersionBulk(String source, String output, String targetVer) throws FHIRException, IOException {
+    NdJsonVersionConvertor convertor = NdJsonVersionConvertor.forVersions(version, targetVer).setThreads(threads);
+    try (InputStream in = ManagedFileAccess.inStream(source); OutputStream out = ManagedFileAccess.outStream(output)) {
+      return convertor.convert(in, out);
+    }
+  }
+
   public String evaluateFhirPath(String source, String expression) throws FHIRException, IOException {
     Content cnt = igLoader.loadContent(source, "validate", false, true);
     FHIRPathEngine fpe = this.getValidator(null).getFHIRPathEngine();
@@ -868,8 +1059,30 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
   }
 
   public InstanceValidator getValidator(FhirFormat format) throws FHIRException, IOException {
-    InstanceValidator validator = new InstanceValidator(context, null, null);
+    prepareContext(format);
+    return makeValidator();
+  }
+
+  /**
+   * Sets up the (shared) context for validating content in this format. When validating in parallel, this is 
+   * done before the workers start, so they don't change the context while others are using it
+   */
+  private void prepareContext(FhirFormat format) throws FHIRException, IOException {
     context.getTxClientManager().setUsage("validation");
+    if (language != null) {
+      context.setValidationMessageLanguage(Locale.forLanguageTag(language));
+    }
+    context.setLocale(locale);
+    if (format == FhirFormat.SHC) {
+      igLoader.loadIg(getIgs(), getBinaries(), SHCParser.CURRENT_PACKAGE, true);      
+    }
+  }
+
+  /**
+   * @return a new validator with the engine's settings. Doesn't change the context (see prepareContext)
+   */
+  private InstanceValidator makeValidator() {
+    InstanceValidator validator = new InstanceValidator(context, null, null);
     validator.setHintAboutNonMustSupport(hintAboutNonMustSupport);
     validator.setAnyExtensionsAllowed(anyExtensionsAllowed);
     validator.getExtensionDomains().clear();
@@ -878,9 +1091,6 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     validator.setWantInvariantInMessage(isWantInvariantInMessage());
     validator.setValidationLanguage(language);
     validator.setDisplayWarnings(isDisplayWarnings());
-    if (language != null) {
-      validator.getContext().setValidationMessageLanguage(Locale.forLanguageTag(language));
-    }
     validator.setAssumeValidRestReferences(assumeValidRestReferences);
     validator.setNoExtensibleWarnings(noExtensibleBindingMessages);
     validator.setSecurityChecks(securityChecks);
@@ -888,7 +1098,6 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     validator.setForPublication(forPublication);
     validator.setAllowExamples(allowExampleUrls);
     validator.setShowMessagesFromReferences(showMessagesFromReferences);
-    validator.getContext().setLocale(locale);
     validator.setFetcher(this);
     validator.getImplementationGuides().addAll(igs);
     validator.getBundleValidationRules().addAll(bundleValidationRules);
@@ -901,9 +1110,7 @@ public class ValidationEngine implements IValidatorResourceFetcher, IValidationP
     validator.setNoUnicodeBiDiControlChars(noUnicodeBiDiControlChars);
     validator.setDoImplicitFHIRPathStringConversion(doImplicitFHIRPathStringConversion);
     validator.setCheckIPSCodes(checkIPSCodes);
-    if (format == FhirFormat.SHC) {
-      igLoader.loadIg(getIgs(), getBinaries(), SHCParser.CURRENT_PACKAGE, true);      
-    }
+    validator.setBatchTerminologyChecks(batchTerminologyChecks);
     validator.setJurisdiction(jurisdiction);
     validator.setLogProgress(true);
     if (policyAdvisor != null) {
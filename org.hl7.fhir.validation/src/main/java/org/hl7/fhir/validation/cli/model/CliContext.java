@@ -62,6 +62,8 @@ public class CliContext {
   private boolean disableDefaultResourceFetcher = false;
   @JsonProperty("checkIPSCodes")  
   private boolean checkIPSCodes;
+  @JsonProperty("batchTerminologyChecks")  
+  private boolean batchTerminologyChecks;
   @JsonProperty("langTransform")
   private String langTransform = null;
   @JsonProperty("map")
@@ -159,6 +161,12 @@ public class CliContext {
   
   @JsonProperty("watchSettleTime")
   private int watchSettleTime = 100;
+
+  @JsonProperty("threads")
+  private int threads = 1;
+
+  @JsonProperty("contextImage")
+  private String contextImage = null;
   
   @JsonProperty("bestPracticeLevel")
   private BestPracticeWarningLevel bestPracticeLevel = BestPracticeWarningLevel.Warning;
@@ -383,6 +391,17 @@ public class CliContext {
     return this;
   }
 
+  @JsonProperty("batchTerminologyChecks")
+  public boolean isBatchTerminologyChecks() {
+    return batchTerminologyChecks;
+  }
+
+  @JsonProperty("batchTerminologyChecks")
+  public CliContext setBatchTerminologyChecks(boolean batchTerminologyChecks) {
+    this.batchTerminologyChecks = batchTerminologyChecks;
+    return this;
+  }
+
 
   @JsonProperty("locale")
   public String getLanguageCode() {
@@ -804,6 +823,7 @@ public class CliContext {
       wantInvariantsInMessages == that.wantInvariantsInMessages &&
       allowDoubleQuotesInFHIRPath == that.allowDoubleQuotesInFHIRPath &&
       checkIPSCodes == that.checkIPSCodes &&
+      batchTerminologyChecks == that.batchTerminologyChecks &&
       Objects.equals(extensions, that.extensions) &&
       Objects.equals(map, that.map) &&
       Objects.equals(htmlInMarkdownCheck, that.htmlInMarkdownCheck) &&
@@ -840,7 +860,9 @@ public class CliContext {
       Objects.equals(watchScanDelay, that.watchScanDelay) &&
       Objects.equals(unknownCodeSystemsCauseErrors, that.unknownCodeSystemsCauseErrors) &&
       Objects.equals(noExperimentalContent, that.noExperimentalContent) &&
-      Objects.equals(watchSettleTime, that.watchSettleTime) ;
+      Objects.equals(watchSettleTime, that.watchSettleTime) &&
+      Objects.equals(threads, that.threads) &&
+      Objects.equals(contextImage, that.contextImage) ;
   }
 
   @Override
@@ -848,7 +870,7 @@ public class CliContext {
     return Objects.hash(baseEngine, doNative, extensions, hintAboutNonMustSupport, recursive, doDebug, assumeValidRestReferences, canDoNative, noInternalCaching,
             noExtensibleBindingMessages, noInvariants, displayWarnings, wantInvariantsInMessages, map, output, outputSuffix, htmlOutput, txServer, sv, txLog, txCache, mapLog, lang, srcLang, tgtLang, fhirpath, snomedCT,
             targetVer, igs, questionnaireMode, level, profiles, sources, inputs, mode, locale, locations, crumbTrails, forPublication, showTimes, allowExampleUrls, outputStyle, jurisdiction, noUnicodeBiDiControlChars,
-            watchMode, watchScanDelay, watchSettleTime, bestPracticeLevel, unknownCodeSystemsCauseErrors, noExperimentalContent, htmlInMarkdownCheck, allowDoubleQuotesInFHIRPath, checkIPSCodes);
+            watchMode, watchScanDelay, watchSettleTime, bestPracticeLevel, unknownCodeSystemsCauseErrors, noExperimentalContent, htmlInMarkdownCheck, allowDoubleQuotesInFHIRPath, checkIPSCodes, batchTerminologyChecks, threads, contextImage);
   }
 
   @Override
@@ -903,10 +925,13 @@ public class CliContext {
       ", htmlInMarkdownCheck=" + htmlInMarkdownCheck +
       ", allowDoubleQuotesInFHIRPath=" + allowDoubleQuotesInFHIRPath +
       ", checkIPSCodes=" + checkIPSCodes +
+      ", batchTerminologyChecks=" + batchTerminologyChecks +
       ", watchMode=" + watchMode +
       ", bestPracticeLevel=" + bestPracticeLevel +
       ", watchSettleTime=" + watchSettleTime +
       ", watchScanDelay=" + watchScanDelay +
+      ", threads=" + threads +
+      ", contextImage='" + contextImage + '\'' +
       ", unknownCodeSystemsCauseErrors=" + unknownCodeSystemsCauseErrors +
       ", noExperimentalContent=" + noExperimentalContent +
       '}';
@@ -953,6 +978,28 @@ public class CliContext {
   public void setWatchSettleTime(int watchSettleTime) {
     this.watchSettleTime = watchSettleTime;
   }
+
+  @JsonProperty("threads")
+  public int getThreads() {
+    return threads;
+  }
+
+  @JsonProperty("threads")
+  public CliContext setThreads(int threads) {
+    this.threads = threads;
+    return this;
+  }
+
+  @JsonProperty("contextImage")
+  public String getContextImage() {
+    return contextImage;
+  }
+
+  @JsonProperty("contextImage")
+  public CliContext setContextImage(String contextImage) {
+    this.contextImage = contextImage;
+    return this;
+  }
   
 
   @JsonProperty("bestPracticeLevel")
@@ -14,6 +14,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 
+import org.hl7.fhir.convertors.bulk.BulkConversionStatistics;
 import org.hl7.fhir.exceptions.FHIRException;
 import org.hl7.fhir.r5.conformance.profile.ProfileUtilities;
 import org.hl7.fhir.r5.context.ContextUtilities;
@@ -46,6 +47,7 @@ import org.hl7.fhir.utilities.SystemExitManager;
 import org.hl7.fhir.utilities.TextFile;
 import org.hl7.fhir.utilities.TimeTracker;
 import org.hl7.fhir.utilities.Utilities;
+import org.hl7.fhir.utilities.VersionUtil;
 import org.hl7.fhir.utilities.VersionUtilities;
 import org.hl7.fhir.utilities.filesystem.ManagedFileAccess;
 import org.hl7.fhir.utilities.i18n.JsonLangFileProducer;
@@ -347,6 +349,10 @@ public class ValidationService {
         throw new Exception("Convert requires one of {-output, -outputSuffix} parameter to be set");
       }
 
+      if (cliContext.getTargetVer() != null) {
+        convertSourceVersionsBulk(cliContext, validator);
+        return;
+      }
       List<String> sources = cliContext.getSources();
       if ((sources.size() == 1) && (cliContext.getOutput() != null)) {
         System.out.println(" ...convert");
@@ -363,6 +369,30 @@ public class ValidationService {
       }
   }
 
+  private void convertSourceVersionsBulk(CliContext cliContext, ValidationEngine validator) throws Exception {
+    List<String> sources = cliContext.getSources();
+    if (sources.size() > 1 && cliContext.getOutputSuffix() == null) {
+      throw new Exception("Converting multiple/wildcard sources requires a -outputSuffix parameter to be set");
+    }
+    for (int i = 0; i < sources.size(); i++) {
+      String source = sources.get(i);
+      if (!source.endsWith(".ndjson")) {
+        throw new Exception("Converting versions with -convert requires NDJSON sources (found " + source + ")");
+      }
+      // -output only names the file for a single source: with more than one, each goes next to its source 
+      String output = sources.size() == 1 && cliContext.getOutput() != null ? cliContext.getOutput() : source + "." + cliContext.getOutputSuffix();
+      System.out.println(" ...convert [" + i + "] (" + source + " from " + cliContext.getSv() + " to " + cliContext.getTargetVer() + " as " + output + ")");
+      BulkConversionStatistics stats = validator.transformVersionBulk(source, output, cliContext.getTargetVer());
+      System.out.println("   " + stats.summary());
+      for (BulkConversionStatistics.ConversionFailure f : stats.getFailures()) {
+        System.out.println("   Failed: " + f);
+      }
+      if (stats.getFailed() > stats.getFailures().size()) {
+        System.out.println("   (and " + (stats.getFailed() - stats.getFailures().size()) + " more failures)");
+      }
+    }
+  }
+
   public void evaluateFhirpath(CliContext cliContext, ValidationEngine validator) throws Exception {
     System.out.println(" ...evaluating " + cliContext.getFhirpath());
     System.out.println(validator.evaluateFhirPath(cliContext.getSources().get(0), cliContext.getFhirpath()));
@@ -530,12 +560,24 @@ public class ValidationService {
 
   @Nonnull
   protected ValidationEngine buildValidationEngine(CliContext cliContext, String definitions, TimeTracker timeTracker) throws IOException, URISyntaxException {
-    System.out.print("  Load FHIR v" + cliContext.getSv() + " from " + definitions);
-    ValidationEngine validationEngine = getValidationEngineBuilder().withTHO(false).withVersion(cliContext.getSv()).withTimeTracker(timeTracker).withUserAgent(Common.getValidatorUserAgent()).fromSource(definitions);
+    String imageKey = getContextImageKey(cliContext, definitions);
+    ValidationEngine validationEngine = null;
+    if (imageKey != null) {
+      System.out.print("  Load context image " + cliContext.getContextImage());
+      validationEngine = getValidationEngineBuilder().withTHO(false).withVersion(cliContext.getSv()).withLoadingThreads(cliContext.getThreads()).withTimeTracker(timeTracker).withUserAgent(Common.getValidatorUserAgent()).fromContextImage(cliContext.getContextImage(), imageKey);
+      System.out.println(validationEngine == null ? " - not found or out of date" : " - " + validationEngine.getContext().countAllCaches() + " resources (" + timeTracker.milestone() + ")");
+    }
+    boolean fromImage = validationEngine != null;
+    if (!fromImage) {
+      System.out.print("  Load FHIR v" + cliContext.getSv() + " from " + definitions);
+      validationEngine = getValidationEngineBuilder().withTHO(false).withVersion(cliContext.getSv()).withLoadingThreads(cliContext.getThreads()).withTimeTracker(timeTracker).withUserAgent(Common.getValidatorUserAgent()).fromSource(definitions);
 
-    System.out.println(" - " + validationEngine.getContext().countAllCaches() + " resources (" + timeTracker.milestone() + ")");
+      System.out.println(" - " + validationEngine.getContext().countAllCaches() + " resources (" + timeTracker.milestone() + ")");
 
-    loadIgsAndExtensions(validationEngine, cliContext, timeTracker);
+      loadIgsAndExtensions(validationEngine, cliContext, timeTracker);
+    } else {
+      connectToTerminologyServer(validationEngine, cliContext, timeTracker);
+    }
     if (cliContext.getTxCache() != null) {
       TerminologyCache cache = new TerminologyCache(new Object(), cliContext.getTxCache());
       validationEngine.getContext().initTxCache(cache);
@@ -571,11 +613,13 @@ public class ValidationService {
     validationEngine.setDisplayWarnings(cliContext.isDisplayWarnings());
     validationEngine.setBestPracticeLevel(cliContext.getBestPracticeLevel());
     validationEngine.setCheckIPSCodes(cliContext.isCheckIPSCodes());
+    validationEngine.setBatchTerminologyChecks(cliContext.isBatchTerminologyChecks());
     validationEngine.setWantInvariantInMessage(cliContext.isWantInvariantsInMessages());
     validationEngine.setSecurityChecks(cliContext.isSecurityChecks());
     validationEngine.setCrumbTrails(cliContext.isCrumbTrails());
     validationEngine.setForPublication(cliContext.isForPublication());
     validationEngine.setShowTimes(cliContext.isShowTimes());
+    validationEngine.setThreads(cliContext.getThreads());
     validationEngine.setAllowExampleUrls(cliContext.isAllowExampleUrls());
     if (!cliContext.isDisableDefaultResourceFetcher()) {
       StandAloneValidatorFetcher fetcher = new StandAloneValidatorFetcher(validationEngine.getPcm(), validationEngine.getContext(), validationEngine);
@@ -589,26 +633,69 @@ public class ValidationService {
     validationEngine.setNoExperimentalContent(cliContext.isNoExperimentalContent());
     TerminologyCache.setNoCaching(cliContext.isNoInternalCaching());
     validationEngine.prepare(); // generate any missing snapshots
+    if (imageKey != null && !fromImage) {
+      try {
+        validationEngine.saveContextImage(cliContext.getContextImage(), imageKey);
+      } catch (Exception e) {
+        System.out.print("(Unable to save the context image: " + e.getMessage() + ") ");
+      }
+    }
+    validationEngine.getContext().seal(); // from here on, lookups in the context don't take the lock
     System.out.println(" go (" + timeTracker.milestone() + ")");
     return validationEngine;
   }
 
   protected void loadIgsAndExtensions(ValidationEngine validationEngine, CliContext cliContext, TimeTracker timeTracker) throws IOException, URISyntaxException {
-    FhirPublication ver = FhirPublication.fromCode(cliContext.getSv());
     IgLoader igLoader = new IgLoader(validationEngine.getPcm(), validationEngine.getContext(), validationEngine.getVersion(), validationEngine.isDebug());
     igLoader.loadIg(validationEngine.getIgs(), validationEngine.getBinaries(), "hl7.terminology", false);
     if (!VersionUtilities.isR5Ver(validationEngine.getContext().getVersion())) {
       igLoader.loadIg(validationEngine.getIgs(), validationEngine.getBinaries(), "hl7.fhir.uv.extensions", false);
     }
+    connectToTerminologyServer(validationEngine, cliContext, timeTracker);
+    for (String src : cliContext.getIgs()) {
+      igLoader.loadIg(validationEngine.getIgs(), validationEngine.getBinaries(), src, cliContext.isRecursive());
+    }
+    System.out.println("  Package Summary: "+ validationEngine.getContext().loadedPackageSummary());
+  }
+
+  protected void connectToTerminologyServer(ValidationEngine validationEngine, CliContext cliContext, TimeTracker timeTracker) throws IOException, URISyntaxException {
+    FhirPublication ver = FhirPublication.fromCode(cliContext.getSv());
     System.out.print("  Terminology server " + cliContext.getTxServer());
     String txver = validationEngine.setTerminologyServer(cliContext.getTxServer(), cliContext.getTxLog(), ver, !cliContext.getNoEcosystem());
     System.out.println(" - Version " + txver + " (" + timeTracker.milestone() + ")");
     validationEngine.setDebug(cliContext.isDoDebug());
     validationEngine.getContext().setLogger(new SystemOutLoggingService(cliContext.isDoDebug()));
-    for (String src : cliContext.getIgs()) {
-      igLoader.loadIg(validationEngine.getIgs(), validationEngine.getBinaries(), src, cliContext.isRecursive());
+  }
+
+  /**
+   * @return the key for the context image (see -context-image): everything that decides what is loaded into the 
+   * context before it is prepared (see loadIgsAndExtensions). 
+   * null if there's no image, or the content can't be kept in one because it comes from local files, or 
+   * from packages that aren't a fixed version (no version, or #current or #dev), which can change
+   */
+  protected String getContextImageKey(CliContext cliContext, String definitions) throws IOException {
+    if (cliContext.getContextImage() == null) {
+      return null;
+    }
+    List<String> sources = new ArrayList<>();
+    sources.add(definitions);
+    sources.addAll(cliContext.getIgs());
+    for (String src : sources) {
+      if (!isFixedPackageVersion(src)) {
+        System.out.println("  Not using the context image, because " + src + " is not a fixed version of a package");
+        return null;
+      }
     }
-    System.out.println("  Package Summary: "+ validationEngine.getContext().loadedPackageSummary());
+    return "validator " + VersionUtil.getVersion() + "; " + definitions + "; " + cliContext.getSv() + "; " + String.join(", ", cliContext.getIgs())
+        + "; recursive=" + cliContext.isRecursive();
+  }
+
+  private boolean isFixedPackageVersion(String src) throws IOException {
+    if (!src.matches(FilesystemPackageCacheManager.PACKAGE_VERSION_REGEX) || ManagedFileAccess.file(src).exists()) {
+      return false;
+    }
+    String version = src.substring(src.indexOf("#") + 1);
+    return !version.equals("current") && !version.startsWith("current$") && !version.equals("dev");
   }
 
   public String determineVersion(CliContext cliContext) throws IOException {
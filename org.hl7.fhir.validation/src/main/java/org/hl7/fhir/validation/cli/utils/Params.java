@@ -93,6 +93,7 @@ public class Params {
   public static final String ALLOW_DOUBLE_QUOTES = "-allow-double-quotes-in-fhirpath";
   public static final String DISABLE_DEFAULT_RESOURCE_FETCHER = "-disable-default-resource-fetcher";
   public static final String CHECK_IPS_CODES = "-check-ips-codes";
+  public static final String BATCH_TX = "-batch-tx";
   public static final String BEST_PRACTICE = "-best-practice";
   public static final String UNKNOWN_CODESYSTEMS_CAUSE_ERROR = "-unknown-codesystems-cause-errors";
   public static final String NO_EXPERIMENTAL_CONTENT = "-no-experimental-content";
@@ -112,6 +113,8 @@ public class Params {
   private static final String FHIR_SETTINGS_PARAM = "-fhir-settings";
   private static final String WATCH_MODE_PARAM = "-watch-mode";
   private static final String WATCH_SCAN_DELAY = "-watch-scan-delay";
+  public static final String THREADS = "-threads";
+  public static final String CONTEXT_IMAGE = "-context-image";
   private static final String WATCH_SETTLE_TIME = "-watch-settle-time";
 
   /**
@@ -277,6 +280,8 @@ public class Params {
         cliContext.setDisableDefaultResourceFetcher(true);
       } else if (args[i].equals(CHECK_IPS_CODES)) {
         cliContext.setCheckIPSCodes(true);       
+      } else if (args[i].equals(BATCH_TX)) {
+        cliContext.setBatchTerminologyChecks(true);
       } else if (args[i].equals(NO_UNICODE_BIDI_CONTROL_CHARS)) {
         cliContext.setNoUnicodeBiDiControlChars(true);
       } else if (args[i].equals(NO_INVARIANTS)) {
@@ -289,7 +294,10 @@ public class Params {
         cliContext.setHintAboutNonMustSupport(true);
       } else if (args[i].equals(TO_VERSION)) {
         cliContext.setTargetVer(args[++i]);
-        cliContext.setMode(EngineMode.VERSION);
+        // -convert with -to-version is a bulk (NDJSON) version conversion
+        if (cliContext.getMode() != EngineMode.CONVERT) {
+          cliContext.setMode(EngineMode.VERSION);
+        }
       } else if (args[i].equals(DO_NATIVE)) {
         cliContext.setCanDoNative(true);
       } else if (args[i].equals(NO_NATIVE)) {
@@ -430,6 +438,18 @@ public class Params {
         } else {
           cliContext.setWatchMode(readWatchMode(args[++i]));
         }
+      } else if (args[i].equals(THREADS)) {
+        if (i + 1 == args.length) {
+          throw new Error("Specified -threads without indicating the number of threads");
+        } else {
+          cliContext.setThreads(readInteger(THREADS, args[++i]));
+        }
+      } else if (args[i].equals(CONTEXT_IMAGE)) {
+        if (i + 1 == args.length) {
+          throw new Error("Specified -context-image without indicating file");
+        } else {
+          cliContext.setContextImage(args[++i]);
+        }
       } else if (args[i].equals(WATCH_SCAN_DELAY)) {
         if (i + 1 == args.length) {
           throw new Error("Specified -watch-scan-delay without indicating mode value");
@@ -0,0 +1,129 @@
+package org.hl7.fhir.validation.codesystem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hl7.fhir.r5.elementmodel.Element;
+import org.hl7.fhir.r5.elementmodel.ObjectConverter;
+import org.hl7.fhir.r5.model.CodeableConcept;
+import org.hl7.fhir.r5.model.Coding;
+import org.hl7.fhir.r5.model.ElementDefinition;
+import org.hl7.fhir.r5.model.ElementDefinition.ElementDefinitionBindingComponent;
+import org.hl7.fhir.r5.model.Enumerations.BindingStrength;
+import org.hl7.fhir.r5.model.StructureDefinition;
+import org.hl7.fhir.r5.model.ValueSet;
+import org.hl7.fhir.r5.terminologies.utilities.PrefetchValidationRequest;
+import org.hl7.fhir.utilities.Utilities;
+import org.hl7.fhir.validation.BaseValidator;
+
+/**
+ * Collects the codes in a resource (or a Bundle) that the InstanceValidator is going to check against the
+ * bindings in the base definitions, or against their code systems, and asks the context to work out the
+ * results in advance (see IWorkerContext.prefetchValidations), so the terminology server is called with
+ * a few batches rather than once for each code.
+ *
+ * The validation itself is unchanged - it finds the answers in the cache. Codes that are checked some other
+ * way (e.g. against bindings in profiles) are just validated when they are met, as usual.
+ */
+public class TerminologyPrefetcher extends BaseValidator {
+
+  public TerminologyPrefetcher(BaseValidator parent) {
+    super(parent);
+  }
+
+  /**
+   * @param element the resource about to be validated
+   * @param lang the language the validator will use, unless a resource says otherwise
+   */
+  public void prefetch(Element element, String lang) {
+    List<PrefetchValidationRequest> requests = new ArrayList<>();
+    seeElement(element, null, lang, true, requests);
+    if (!requests.isEmpty()) {
+      long t = System.nanoTime();
+      context.prefetchValidations(requests);
+      timeTracker.tx(t, "prefetch "+requests.size()+" codes");
+    }
+  }
+
+  /**
+   * @param checkDisplay whether the InstanceValidator checks the displays of codes in this element. It's true except
+   *   in a CodeableConcept, where it depends on how the CodeableConcept validated, so it's taken as false there
+   */
+  private void seeElement(Element element, Element parent, String lang, boolean checkDisplay, List<PrefetchValidationRequest> requests) {
+    if (element.isResource()) {
+      String rlang = element.getNamedChildValue("language", false);
+      if (!Utilities.noString(rlang)) {
+        lang = rlang;
+      }
+    }
+    if ("CodeableConcept".equals(element.fhirType())) {
+      seeCodeableConcept(element, lang, requests);
+    } else if ("Coding".equals(element.fhirType())) {
+      seeCoding(element, parent, lang, checkDisplay, requests);
+    }
+    if (element.hasChildren()) {
+      boolean childCheckDisplay = !"CodeableConcept".equals(element.fhirType());
+      for (Element child : element.getChildren()) {
+        seeElement(child, element, lang, childCheckDisplay, requests);
+      }
+    }
+  }
+
+  private void seeCodeableConcept(Element element, String lang, List<PrefetchValidationRequest> requests) {
+    CodeableConcept cc = ObjectConverter.readAsCodeableConcept(element);
+    if (!cc.hasCoding()) {
+      return;
+    }
+    // same as the InstanceValidator: check against the binding if there is one, or just check the codes if not
+    ValueSet vs = getBoundValueSet(element);
+    requests.add(new PrefetchValidationRequest(baseOptions.withLanguage(lang), cc, vs));
+  }
+
+  private void seeCoding(Element element, Element parent, String lang, boolean checkDisplay, List<PrefetchValidationRequest> requests) {
+    String code = element.getNamedChildValue("code", false);
+    String system = element.getNamedChildValue("system", false);
+    if (code == null || system == null) {
+      return;
+    }
+    ValueSet vs = getBoundValueSet(element);
+    if (vs != null) {
+      requests.add(new PrefetchValidationRequest(baseOptions.withLanguage(lang), ObjectConverter.readAsCoding(element), vs));
+    } else if (parent == null || !"CodeableConcept".equals(parent.fhirType())) {
+      // codings in a CodeableConcept are only checked when they have a binding of their own
+      try {
+        if (context.supportsSystem(system, baseOptions.getFhirVersion())) {
+          String version = element.getNamedChildValue("version", false);
+          String display = element.getNamedChildValue("display", false);
+          // same as InstanceValidator.checkCodeOnServer, so the request matches the one in the cache
+          requests.add(new PrefetchValidationRequest(baseOptions.withLanguage(lang), new Coding(system, version, code, checkDisplay ? display : null), null));
+        }
+      } catch (Exception e) {
+        // nothing - it'll be reported when the code is validated
+      }
+    }
+  }
+
+  /**
+   * @return the value set the base definition binds the element to, if it's one the validator checks against
+   */
+  private ValueSet getBoundValueSet(Element element) {
+    if (element.getProperty() == null) {
+      return null;
+    }
+    ElementDefinition ed = element.getProperty().getDefinition();
+    StructureDefinition sd = element.getProperty().getStructure();
+    if (ed == null || sd == null || !ed.hasBinding()) {
+      return null;
+    }
+    ElementDefinitionBindingComponent binding = ed.getBinding();
+    if (!binding.hasValueSet() || binding.getStrength() == BindingStrength.EXAMPLE) {
+      return null;
+    }
+    try {
+      return resolveBindingReference(sd, binding.getValueSet(), sd.getUrl(), sd);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+}
@@ -74,6 +74,8 @@ import org.hl7.fhir.r5.fhirpath.FHIRPathEngine.IEvaluationContext;
 import org.hl7.fhir.r5.fhirpath.FHIRPathUtilityClasses.FunctionDetails;
 import org.hl7.fhir.r5.fhirpath.FHIRPathUtilityClasses.TypedElementDefinition;
 import org.hl7.fhir.r5.elementmodel.ResourceParser;
+import org.hl7.fhir.r5.elementmodel.NDJsonParser;
+import org.hl7.fhir.r5.elementmodel.NDJsonParser.IValidatedFragmentHandler;
 import org.hl7.fhir.r5.elementmodel.ValidatedFragment;
 import org.hl7.fhir.r5.elementmodel.XmlParser;
 import org.hl7.fhir.r5.formats.FormatUtilities;
@@ -200,6 +202,7 @@ import org.hl7.fhir.validation.BaseValidator;
 import org.hl7.fhir.validation.cli.model.HtmlInMarkdownCheck;
 import org.hl7.fhir.validation.cli.utils.QuestionnaireMode;
 import org.hl7.fhir.validation.codesystem.CodingsObserver;
+import org.hl7.fhir.validation.codesystem.TerminologyPrefetcher;
 import org.hl7.fhir.validation.instance.InstanceValidator.BindingContext;
 import org.hl7.fhir.validation.instance.type.BundleValidator;
 import org.hl7.fhir.validation.instance.type.CodeSystemValidator;
@@ -594,6 +597,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
   private Map<String, CanonicalResourceLookupResult> crLookups = new HashMap<>();
   private boolean logProgress;
   private CodingsObserver codingObserver;
+  private boolean batchTerminologyChecks;
   public List<ValidatedFragment> validatedContent;
   public boolean testMode;
   private boolean example ;
@@ -772,6 +776,44 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
 
   @Override
   public org.hl7.fhir.r5.elementmodel.Element validate(Object appContext, List<ValidationMessage> errors, InputStream stream, FhirFormat format, List<StructureDefinition> profiles) throws FHIRException {
+    ParserBase parser = makeParser(errors, format, profiles);
+    
+    long t = System.nanoTime();
+    validatedContent = null;
+    try {
+      validatedContent = parser.parse(stream);
+    } catch (IOException e1) {
+      throw new FHIRException(e1);
+    }
+    timeTracker.load(t);
+    if (validatedContent != null && !validatedContent.isEmpty()) {
+      if (SAVE_INTERMEDIARIES) {
+        int index = 0;
+        for (ValidatedFragment ne : validatedContent) {
+          index++;
+          saveValidatedContent(ne, index);
+        }
+      }
+      String url = parser.getImpliedProfile();
+      if (url != null) {
+        StructureDefinition sd = context.fetchResource(StructureDefinition.class, url);
+        if (sd == null) {
+          rule(errors, NO_RULE_DATE, IssueType.NOTFOUND, "Payload", false, "Implied profile "+url+" not known to validator");          
+        } else {
+          profiles.add(sd);
+        }
+      }
+      for (ValidatedFragment ne : validatedContent) {
+        if (ne.getElement() != null) {
+          validate(appContext, ne.getErrors(), validatedContent.size() > 1 ? ne.path() : null, ne.getElement(), profiles);
+        } 
+        errors.addAll(ne.getErrors());         
+      }
+    }
+    return (validatedContent == null || validatedContent.isEmpty()) ? null : validatedContent.get(0).getElement(); // todo: this is broken, but fixing it really complicates things elsewhere, so we do this for now
+  }
+
+  private ParserBase makeParser(List<ValidationMessage> errors, FhirFormat format, List<StructureDefinition> profiles) {
     ParserBase parser = Manager.makeParser(context, format);
     List<StructureDefinition> logicals = new ArrayList<>();
     for (StructureDefinition sd : profiles) {
@@ -795,23 +837,50 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
       ((JsonParser) parser).setAllowComments(allowComments);
     }
     parser.setSignatureServices(signatureServices);
-    
-    long t = System.nanoTime();
+    return parser;
+  }
+
+  /**
+   * Validate ndjson content (e.g. a bulk data export) as it is read: each line is parsed, validated, 
+   * and passed to the handler with its errors (fragment.getErrors()), and then dropped, so content 
+   * of any size can be validated in constant memory. validatedContent is not populated.
+   * 
+   * Otherwise, this does the same as validate(appContext, errors, stream, FhirFormat.NDJSON, profiles). The first
+   * line is held until the next one is read, because the paths are only given when there's more than one
+   */
+  public void validateNDJson(Object appContext, InputStream stream, List<StructureDefinition> profiles, IValidatedFragmentHandler handler) throws FHIRException {
+    List<ValidationMessage> errors = new ArrayList<>();
+    NDJsonParser parser = (NDJsonParser) makeParser(errors, FhirFormat.NDJSON, profiles);
     validatedContent = null;
     try {
-      validatedContent = parser.parse(stream);
-    } catch (IOException e1) {
-      throw new FHIRException(e1);
-    }
-    timeTracker.load(t);
-    if (validatedContent != null && !validatedContent.isEmpty()) {
-      if (SAVE_INTERMEDIARIES) {
-        int index = 0;
-        for (ValidatedFragment ne : validatedContent) {
-          index++;
-          saveValidatedContent(ne, index);
+      long[] t = { System.nanoTime() };
+      int[] index = { 0 };
+      List<ValidatedFragment> first = new ArrayList<>();
+      parser.parse(stream, ne -> {
+        timeTracker.load(t[0]);
+        index[0]++;
+        if (index[0] == 1) {
+          first.add(ne);
+        } else {
+          if (index[0] == 2) {
+            validateNDJsonFragment(appContext, parser, first.remove(0), 1, true, profiles, errors, handler);
+          }
+          validateNDJsonFragment(appContext, parser, ne, index[0], true, profiles, errors, handler);
         }
+        t[0] = System.nanoTime();
+      });
+      if (!first.isEmpty()) {
+        validateNDJsonFragment(appContext, parser, first.remove(0), 1, false, profiles, errors, handler);
+      } else if (index[0] == 0 && !errors.isEmpty()) {
+        handleNDJsonErrors(errors, handler);
       }
+    } catch (IOException e) {
+      throw new FHIRException(e);
+    }
+  }
+
+  private void validateNDJsonFragment(Object appContext, NDJsonParser parser, ValidatedFragment ne, int index, boolean multiple, List<StructureDefinition> profiles, List<ValidationMessage> errors, IValidatedFragmentHandler handler) throws FHIRException, IOException {
+    if (index == 1) {
       String url = parser.getImpliedProfile();
       if (url != null) {
         StructureDefinition sd = context.fetchResource(StructureDefinition.class, url);
@@ -821,14 +890,26 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
           profiles.add(sd);
         }
       }
-      for (ValidatedFragment ne : validatedContent) {
-        if (ne.getElement() != null) {
-          validate(appContext, ne.getErrors(), validatedContent.size() > 1 ? ne.path() : null, ne.getElement(), profiles);
-        } 
-        errors.addAll(ne.getErrors());         
+      if (!errors.isEmpty()) {
+        handleNDJsonErrors(errors, handler);
       }
     }
-    return (validatedContent == null || validatedContent.isEmpty()) ? null : validatedContent.get(0).getElement(); // todo: this is broken, but fixing it really complicates things elsewhere, so we do this for now
+    if (SAVE_INTERMEDIARIES) {
+      saveValidatedContent(ne, index);
+    }
+    if (ne.getElement() != null) {
+      validate(appContext, ne.getErrors(), multiple ? ne.path() : null, ne.getElement(), profiles);
+    }
+    handler.handle(ne);
+  }
+
+  /**
+   * problems that aren't about a line (configuration, or the implied profile) go to the handler first, on their own
+   */
+  private void handleNDJsonErrors(List<ValidationMessage> errors, IValidatedFragmentHandler handler) throws FHIRException, IOException {
+    ValidatedFragment vf = new ValidatedFragment(ValidatedFragment.ITEM_NAME, null, null, false);
+    vf.getErrors().addAll(errors);
+    handler.handle(vf);
   }
 
   private void saveValidatedContent(ValidatedFragment ne, int index) {
@@ -985,6 +1066,9 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
 
     long t = System.nanoTime();
     NodeStack stack = new NodeStack(context, null, element, validationLanguage);
+    if (batchTerminologyChecks && !noTerminologyChecks) {
+      new TerminologyPrefetcher(this).prefetch(element, getValidationOptionsLanguage(stack));
+    }
     if (profiles == null || profiles.isEmpty()) {
       validateResource(new ValidationContext(appContext, element), errors, element, element, null, resourceIdRule, stack.resetIds(), null, new ValidationMode(ValidationReason.Validation, ProfileSource.BaseDefinition), false, false);
     } else {
@@ -2544,7 +2628,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
       } else if (ctxt.getType() == ExtensionContextType.FHIRPATH) {
         contexts.append("p:" + ctxt.getExpression());
         // The context is all elements that match the FHIRPath query found in the expression.
-        List<Base> res = fpe.evaluate(valContext, resource, valContext.getRootResource(), resource, fpe.parse(ctxt.getExpression()));
+        List<Base> res = fpe.evaluate(valContext, resource, valContext.getRootResource(), resource, fpe.parseCached(ctxt.getExpression()));
         if (res.contains(container)) {
           ok = true;
         }
@@ -2564,7 +2648,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     } else {
       if (definition.hasContextInvariant()) {
         for (StringType s : definition.getContextInvariant()) {
-          if (!fpe.evaluateToBoolean(valContext, resource, valContext.getRootResource(), container, fpe.parse(s.getValue()))) {
+          if (!fpe.evaluateToBoolean(valContext, resource, valContext.getRootResource(), container, fpe.parseCached(s.getValue()))) {
             if (definition.hasUserData(XVerExtensionManager.XVER_EXT_MARKER)) {
               warning(errors, NO_RULE_DATE, IssueType.STRUCTURE, container.line(), container.col(), stack.getLiteralPath(), false, I18nConstants.PROFILE_EXT_NOT_HERE, extUrl, s.getValue());              
               return true;
@@ -4561,7 +4645,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     String fp = FHIRPathExpressionFixer.fixExpr(discriminator, null, context.getVersion());
     ExpressionNode expr = null;
     try {
-      expr = fpe.parse(fp);
+      expr = fpe.parseCached(fp);
     } catch (Exception e) {
       if (STACK_TRACE) e.printStackTrace();
       throw new FHIRException(context.formatMessage(I18nConstants.DISCRIMINATOR_BAD_PATH, e.getMessage(), fp), e);
@@ -4590,7 +4674,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
           if (element == null)
             throw new DefinitionException(context.formatMessage(I18nConstants.UNABLE_TO_RESOLVE_ELEMENT__IN_PROFILE_, id, p));
         }
-        expr = fpe.parse(fp);
+        expr = fpe.parseCached(fp);
         t2 = System.nanoTime();
         ted = fpe.evaluateDefinition(expr, profile, new TypedElementDefinition(element), srcProfile, dontFollowReference);
         timeTracker.sd(t2);
@@ -7344,7 +7428,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
       long t = System.nanoTime();
       try {
         String expr = FHIRPathExpressionFixer.fixExpr(inv.getExpression(), inv.getKey(), context.getVersion());
-        n = fpe.parse(expr);
+        n = fpe.parseCached(expr);
       } catch (FHIRException e) {
         ok = rule(errors, NO_RULE_DATE, IssueType.INVARIANT, element.line(), element.col(), path, false, I18nConstants.PROBLEM_PROCESSING_EXPRESSION__IN_PROFILE__PATH__, inv.getExpression(), profile.getVersionedUrl(), path, e.getMessage()) && ok;
         return false;
@@ -7359,7 +7443,7 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     String msg;
     try {
       long t = System.nanoTime();
-      invOK = fpe.evaluateToBoolean(valContext, resource, valContext.getRootResource(), element, n);
+      invOK = fpe.evaluateToBoolean(valContext, resource, valContext.getRootResource(), element, fpe.compile(n));
       timeTracker.fpe(t);
       msg = fpe.forLog();
     } catch (Exception ex) {
@@ -7652,12 +7736,14 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
           for (ElementDefinitionConstraintComponent inv : ed.getConstraint()) {
             if (inv.hasExpression()) {
               try {
+                String expr = FHIRPathExpressionFixer.fixExpr(inv.getExpression(), inv.getKey(), context.getVersion());
                 ExpressionNode n = (ExpressionNode) inv.getUserData("validator.expression.cache");
                 if (n == null) {
-                  n = fpe.parse(FHIRPathExpressionFixer.fixExpr(inv.getExpression(), inv.getKey(), context.getVersion()));
+                  n = fpe.parseCached(expr);
                   inv.setUserData("validator.expression.cache", n);
                 }
-                fpe.check(null, sd.getKind() == StructureDefinitionKind.RESOURCE ? sd.getType() : "DomainResource", ed.getPath(), n);
+                // check() records types on the tree, so it gets a tree of its own, not the shared one
+                fpe.check(null, sd.getKind() == StructureDefinitionKind.RESOURCE ? sd.getType() : "DomainResource", ed.getPath(), fpe.parse(expr));
               } catch (Exception e) {
                 System.out.println("Error processing structure [" + sd.getId() + "] path " + ed.getPath() + ":" + inv.getKey() + " ('" + inv.getExpression() + "'): " + e.getMessage());
               }
@@ -7957,6 +8043,19 @@ public class InstanceValidator extends BaseValidator implements IResourceValidat
     codingObserver.setCheckIPSCodes(checkIPSCodes);
   }
 
+  public boolean isBatchTerminologyChecks() {
+    return batchTerminologyChecks;
+  }
+
+  /**
+   * if true, the codes in a resource are collected before it is validated, and the ones that need the 
+   * terminology server are validated in batches up front (see TerminologyPrefetcher). The validation 
+   * messages are the same either way
+   */
+  public void setBatchTerminologyChecks(boolean batchTerminologyChecks) {
+    this.batchTerminologyChecks = batchTerminologyChecks;
+  }
+
   public InstanceValidator setForPublication(boolean forPublication) {
     this.forPublication = forPublication;
     if (forPublication) {
@@ -381,7 +381,7 @@ public class CodeSystemValidator  extends BaseValidator {
     String display = concept.getNamedChildValue("display");
 
     if (csB != null && !Utilities.noString(display)) {
-      ConceptDefinitionComponent b = CodeSystemUtilities.findCode(csB.getConcept(), code);
+      ConceptDefinitionComponent b = CodeSystemUtilities.findCode(csB, code);
       if (b != null && !b.getDisplay().equalsIgnoreCase(display)) {
         String lang = cs.getNamedChildValue("language");
         if ((lang == null && !csB.hasLanguage()) || 
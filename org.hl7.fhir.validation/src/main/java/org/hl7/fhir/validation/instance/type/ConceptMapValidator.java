@@ -400,7 +400,7 @@ public class ConceptMapValidator  extends BaseValidator {
         if (valueE.fhirType().equals("code")) {
           if (defn.getCs() != null) {
             ok = rule(errors, "2023-03-05", IssueType.REQUIRED, codeE.line(), codeE.col(), stackV.getLiteralPath(), 
-                CodeSystemUtilities.findCode(defn.getCs().getConcept(), valueE.getValue()) != null, I18nConstants.CONCEPTMAP_GROUP_TARGET_PROPERTY_CODE_INVALID, valueE.getValue(), defn.getCs().getVersionedUrl()) && ok;
+                CodeSystemUtilities.findCode(defn.getCs(), valueE.getValue()) != null, I18nConstants.CONCEPTMAP_GROUP_TARGET_PROPERTY_CODE_INVALID, valueE.getValue(), defn.getCs().getVersionedUrl()) && ok;
           } else {
             ok = false;
           }
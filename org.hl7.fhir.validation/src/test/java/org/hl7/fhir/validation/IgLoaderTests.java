@@ -9,6 +9,8 @@ import static org.mockito.Mockito.times;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,6 +27,7 @@ import org.hl7.fhir.utilities.ByteProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -143,4 +146,26 @@ public class IgLoaderTests {
     String testFileContent = new String(map.get(testPath).getBytes(), StandardCharsets.UTF_8);
     Assertions.assertEquals("dummy file content", testFileContent);
   }
+
+  @Test
+  public void testLoadNDJsonSource(@TempDir Path folder) throws IOException {
+    IgLoader igLoader = new IgLoader(
+      filesystemPackageCacheManager,
+      simpleWorkerContext,
+      "4.0.1"
+    );
+    String ndjson = "{\"resourceType\":\"Patient\",\"id\":\"p1\"}\n{\"resourceType\":\"Patient\",\"id\":\"p2\"}\n";
+    Path named = folder.resolve("patients.ndjson");
+    Files.write(named, ndjson.getBytes(StandardCharsets.UTF_8));
+    Path unnamed = folder.resolve("patients");
+    Files.write(unnamed, ndjson.getBytes(StandardCharsets.UTF_8));
+
+    Map<String, ByteProvider> map = igLoader.loadIgSource(named.toString(), false, false);
+    Assertions.assertEquals(Collections.singleton(named.toString()), map.keySet());
+    map = igLoader.loadIgSource(unnamed.toString(), false, false);
+    Assertions.assertEquals(1, map.size());
+    String key = map.keySet().iterator().next();
+    assertTrue(key.endsWith(".ndjson"));
+    Assertions.assertEquals(ndjson, new String(map.get(key).getBytes(), StandardCharsets.UTF_8));
+  }
 }
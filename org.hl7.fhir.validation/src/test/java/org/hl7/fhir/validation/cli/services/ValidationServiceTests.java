@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalMatchers.and;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.ArgumentMatchers.eq;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.apache.commons.io.IOUtils;
+import org.hl7.fhir.convertors.bulk.BulkConversionStatistics;
 import org.hl7.fhir.r5.context.SimpleWorkerContext;
 import org.hl7.fhir.r5.elementmodel.Manager;
 import org.hl7.fhir.r5.model.StructureDefinition;
@@ -185,6 +187,24 @@ class ValidationServiceTests {
     verify(validationEngine).convert(eq(DUMMY_SOURCE3), and(startsWith(DUMMY_SOURCE3), endsWith(DUMMY_OUTPUT)));
   }
 
+  @Test
+  @DisplayName("Test that converting the version of multiple NDJSON sources writes each next to its source")
+  public void convertVersionMultipleSource() throws Exception {
+    SessionCache sessionCache = mock(SessionCache.class);
+    ValidationService validationService = new ValidationService(sessionCache);
+    ValidationEngine validationEngine = mock(ValidationEngine.class);
+    when(validationEngine.transformVersionBulk(anyString(), anyString(), anyString())).thenReturn(new BulkConversionStatistics(10));
+
+    CliContext cliContext = new CliContext().setSources(Arrays.asList("a.ndjson", "b.ndjson")).setTargetVer("5.0");
+    validationService.convertSources(cliContext.setOutputSuffix(DUMMY_OUTPUT), validationEngine);
+    verify(validationEngine).transformVersionBulk("a.ndjson", "a.ndjson." + DUMMY_OUTPUT, "5.0");
+    verify(validationEngine).transformVersionBulk("b.ndjson", "b.ndjson." + DUMMY_OUTPUT, "5.0");
+
+    CliContext cliContextOutput = new CliContext().setSources(Arrays.asList("a.ndjson", "b.ndjson")).setTargetVer("5.0");
+    assertThrows(Exception.class, () -> validationService.convertSources(cliContextOutput.setOutput(DUMMY_OUTPUT), validationEngine));
+    verify(validationEngine, never()).transformVersionBulk(anyString(), eq(DUMMY_OUTPUT), anyString());
+  }
+
   @Test
   @DisplayName("Test that snapshot generation works when a single source is set and the -output param is set")
   public void generateSnapshotSingleSource() throws Exception {
@@ -303,12 +323,48 @@ class ValidationServiceTests {
     verify(mockValidationEngineBuilder).withUserAgent(eq("fhir/validator/" + VersionUtil.getVersion()));
   }
 
+  @Test
+  public void buildValidationEngineLoadingThreadsTest() throws IOException, URISyntaxException {
+    final TimeTracker timeTracker = mock(TimeTracker.class);
+    final SimpleWorkerContext workerContext = mock(SimpleWorkerContext.class);
+
+    final ValidationEngine mockValidationEngine = mock(ValidationEngine.class);
+    when(mockValidationEngine.getContext()).thenReturn(workerContext);
+
+    final ValidationEngine.ValidationEngineBuilder mockValidationEngineBuilder = mock(ValidationEngine.ValidationEngineBuilder.class);
+    final ValidationService validationService = createFakeValidationService(mockValidationEngineBuilder, mockValidationEngine);
+
+    CliContext cliContext = new CliContext();
+    cliContext.setThreads(4);
+    validationService.buildValidationEngine(cliContext, null, timeTracker);
+
+    verify(mockValidationEngineBuilder).withLoadingThreads(4);
+  }
+
+  @Test
+  @DisplayName("Test that the context image key depends on the options that change what is loaded")
+  public void contextImageKey() throws Exception {
+    ValidationService validationService = new ValidationService(mock(SessionCache.class));
+    assertNull(validationService.getContextImageKey(new CliContext().addIg("hl7.fhir.us.core#6.1.0"), "hl7.fhir.r4.core#4.0.1"));
+    String key = validationService.getContextImageKey(new CliContext().setContextImage("context.img").addIg("hl7.fhir.us.core#6.1.0"), "hl7.fhir.r4.core#4.0.1");
+    String recursiveKey = validationService.getContextImageKey(new CliContext().setContextImage("context.img").addIg("hl7.fhir.us.core#6.1.0").setRecursive(true), "hl7.fhir.r4.core#4.0.1");
+    assertNotNull(key);
+    assertNotNull(recursiveKey);
+    assertNotEquals(key, recursiveKey);
+    // packages that can change aren't kept in an image
+    assertNull(validationService.getContextImageKey(new CliContext().setContextImage("context.img").addIg("hl7.fhir.us.core#current"), "hl7.fhir.r4.core#4.0.1"));
+    assertNull(validationService.getContextImageKey(new CliContext().setContextImage("context.img").addIg("hl7.fhir.us.core#dev"), "hl7.fhir.r4.core#4.0.1"));
+    assertNull(validationService.getContextImageKey(new CliContext().setContextImage("context.img").addIg("hl7.fhir.us.core"), "hl7.fhir.r4.core#4.0.1"));
+    assertNull(validationService.getContextImageKey(new CliContext().setContextImage("context.img"), "hl7.fhir.r5.core#current"));
+  }
+
   private static ValidationService createFakeValidationService(ValidationEngine.ValidationEngineBuilder validationEngineBuilder, ValidationEngine validationEngine) {
     return new ValidationService() {
       @Override
       protected ValidationEngine.ValidationEngineBuilder getValidationEngineBuilder() {
         when(validationEngineBuilder.withTHO(anyBoolean())).thenReturn(validationEngineBuilder);
         when(validationEngineBuilder.withVersion(isNull())).thenReturn(validationEngineBuilder);
+        when(validationEngineBuilder.withLoadingThreads(anyInt())).thenReturn(validationEngineBuilder);
         when(validationEngineBuilder.withTimeTracker(any())).thenReturn(validationEngineBuilder);
         when(validationEngineBuilder.withUserAgent(anyString())).thenReturn(validationEngineBuilder);
         try {
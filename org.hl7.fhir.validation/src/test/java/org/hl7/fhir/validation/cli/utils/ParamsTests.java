@@ -34,4 +34,33 @@ public class ParamsTests {
     });
     assertThat(error.getMessage()).contains("this-does-not-exist.json");
   }
-}
\ No newline at end of file
+
+  @Test
+  void testThreads() throws Exception {
+    assertEquals(1, Params.loadCliContext(new String[]{"test.json"}).getThreads());
+    CliContext cliContext = Params.loadCliContext(new String[]{"-threads", "4", "test.json"});
+    assertEquals(4, cliContext.getThreads());
+    assertEquals(1, cliContext.getSources().size());
+  }
+
+  @Test
+  void testConvertToVersion() throws Exception {
+    assertEquals(EngineMode.VERSION, Params.loadCliContext(new String[]{"-to-version", "5.0", "test.json"}).getMode());
+    CliContext cliContext = Params.loadCliContext(new String[]{"-convert", "-to-version", "5.0", "test.ndjson"});
+    assertEquals(EngineMode.CONVERT, cliContext.getMode());
+    assertEquals("5.0", cliContext.getTargetVer());
+    assertEquals(EngineMode.CONVERT, Params.loadCliContext(new String[]{"-to-version", "5.0", "-convert", "test.ndjson"}).getMode());
+  }
+
+  @Test
+  void testBatchTx() throws Exception {
+    assertEquals(false, Params.loadCliContext(new String[]{"test.json"}).isBatchTerminologyChecks());
+    assertEquals(true, Params.loadCliContext(new String[]{"-batch-tx", "test.json"}).isBatchTerminologyChecks());
+  }
+
+  @Test
+  void testContextImage() throws Exception {
+    assertEquals(null, Params.loadCliContext(new String[]{"test.json"}).getContextImage());
+    assertEquals("context.img", Params.loadCliContext(new String[]{"-context-image", "context.img", "test.json"}).getContextImage());
+  }
+}
@@ -0,0 +1,47 @@
+package org.hl7.fhir.validation.tests;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.hl7.fhir.r5.model.Enumerations.PublicationStatus;
+import org.hl7.fhir.r5.model.ImplementationGuide;
+import org.hl7.fhir.utilities.ByteProvider;
+import org.hl7.fhir.utilities.FhirPublication;
+import org.hl7.fhir.utilities.tests.TestConstants;
+import org.hl7.fhir.validation.ValidationEngine;
+import org.hl7.fhir.validation.tests.utilities.TestUtilities;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ContextImageEngineTests {
+
+  @Test
+  public void testEngineFromContextImage(@TempDir Path folder) throws Exception {
+    ValidationEngine engine = TestUtilities.getValidationEngineNoTxServer("hl7.fhir.r4.core#4.0.1", FhirPublication.R4, "4.0.1");
+    ImplementationGuide ig = new ImplementationGuide();
+    ig.setId("test");
+    ig.setUrl("http://example.org/fhir/ImplementationGuide/test");
+    ig.setVersion("1.0.0");
+    ig.setName("Test");
+    ig.setStatus(PublicationStatus.ACTIVE);
+    ig.setPackageId("example.fhir.test");
+    ig.addGlobal().setType("Patient").setProfile("http://example.org/fhir/StructureDefinition/test-patient");
+    engine.getContext().cacheResource(ig);
+    engine.getIgs().add(ig);
+    engine.getBinaries().put("http://example.org/fhir#native.zip", ByteProvider.forBytes("native".getBytes(StandardCharsets.UTF_8)));
+    String filename = new File(folder.toFile(), "context.img").getAbsolutePath();
+    engine.saveContextImage(filename, "test");
+
+    Assertions.assertNull(new ValidationEngine.ValidationEngineBuilder().withVersion("4.0.1").withUserAgent(TestConstants.USER_AGENT).fromContextImage(filename, "other"));
+    ValidationEngine restored = new ValidationEngine.ValidationEngineBuilder().withVersion("4.0.1").withUserAgent(TestConstants.USER_AGENT).fromContextImage(filename, "test");
+    Assertions.assertNotNull(restored);
+    Assertions.assertEquals(engine.getContext().countAllCaches(), restored.getContext().countAllCaches());
+    Assertions.assertEquals(1, restored.getIgs().size());
+    Assertions.assertEquals(ig.getUrl(), restored.getIgs().get(0).getUrl());
+    Assertions.assertEquals("http://example.org/fhir/StructureDefinition/test-patient", restored.getIgs().get(0).getGlobalFirstRep().getProfile());
+    Assertions.assertEquals(1, restored.getBinaries().size());
+    Assertions.assertEquals("native", new String(restored.getBinaries().get("http://example.org/fhir#native.zip").getBytes(), StandardCharsets.UTF_8));
+  }
+}
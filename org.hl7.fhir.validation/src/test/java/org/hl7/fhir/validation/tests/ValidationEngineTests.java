@@ -155,13 +155,34 @@ public class ValidationEngineTests {
     verifyNoTerminologyRequests(logger);
   }
 
-  private boolean checkOutcomes(String id, OperationOutcome op, String text) {
+  @Test
+  @DisplayName("Batching the terminology checks up front shouldn't change the validation messages")
+  public void test401BatchTerminologyChecks() throws Exception {
+    ValidationEngine ve = TestUtilities.getValidationEngine("hl7.fhir.r4.core#4.0.1", DEF_TX, FhirPublication.R4, "4.0.1");
+    CacheVerificationLogger logger = new CacheVerificationLogger();
+    ve.getContext().getTxClientManager().getMasterClient().setLogger(logger);
+    ValidationEngine batched = new ValidationEngine(ve);
+    batched.setBatchTerminologyChecks(true);
+    for (String name : new String[] { "patient-example.json", "patient-example.xml" }) {
+      FhirFormat format = name.endsWith(".xml") ? FhirFormat.XML : FhirFormat.JSON;
+      OperationOutcome op = ve.validate(format, TestingUtilities.loadTestResourceStream("validator", name), null);
+      OperationOutcome opBatched = batched.validate(format, TestingUtilities.loadTestResourceStream("validator", name), null);
+      assertEquals(describeOutcome(op), describeOutcome(opBatched), name);
+    }
+    verifyNoTerminologyRequests(logger);
+  }
+
+  private String describeOutcome(OperationOutcome op) {
     CommaSeparatedStringBuilder lines = new CommaSeparatedStringBuilder("\n");
     for (OperationOutcomeIssueComponent iss : op.getIssue()) {
       lines.append(iss.toString());
     }
-    String outcome = lines.toString();
-    if (lines.toString().equals(text)) {
+    return lines.toString();
+  }
+
+  private boolean checkOutcomes(String id, OperationOutcome op, String text) {
+    String outcome = describeOutcome(op);
+    if (outcome.equals(text)) {
       return true;
     } else {
       System.out.println("-- "+id+" -------");